@@ -95,12 +95,24 @@ subprojects {
             // Forward select system properties to the forked test JVM
             listOf("runCardFuzz", "runAiStress", "fuzzGames",
                     "runScenarioFuzz", "scenarioCard", "scenarioIterations", "scenarioSeed",
-                    "layerBench", "mctsBench", "disableLayerBoardCache").forEach { prop ->
+                    "layerBench", "mctsBench", "protocolBench", "disableLayerBoardCache",
+                    "disablePermanentViewCache", "verifyPermanentViewCache", "disableIncrementalProjection",
+                    "verifyIncrementalProjection", "disableLockFreeMctsTree",
+                    "disableMctsTranspositions", "verifyIncrementalLayers",
+                    "predicateBench", "disableCompiledPredicates",
+                    "disableTriggerListenerIndex", "verifyTriggerListenerIndex",
+                    "disablePotentialManaMemo", "disableExactPotentialMana",
+                    "disableZoneLocationIndex", "verifyZoneLocationIndex",
+                    "disableStaticEffectIndex", "verifyStaticEffectIndex", "staticIndexBench",
+                    "disableCardPrintingIndex", "verifyCardPrintingIndex",
+                    "disablePreparsedOracleCache", "verifyPreparsedOracleCache",
+                    "replayBenchRounds", "replayBenchWarmupRounds", "replayBenchTolerance",
+                    "replayBenchRecordBaseline", "recordReplayFixture").forEach { prop ->
                 System.getProperty(prop)?.let { systemProperty(prop, it) }
             }
             testLogging {
                 // Benchmarks report through stdout — surface it on the console
-                if (System.getProperty("layerBench") != null || System.getProperty("mctsBench") != null) {
+                if (listOf("layerBench", "mctsBench", "protocolBench", "predicateBench", "staticIndexBench").any { System.getProperty(it) != null }) {
                     showStandardStreams = true
                 }
                 events("failed")
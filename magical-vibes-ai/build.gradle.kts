@@ -9,3 +9,22 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("io.github.classgraph:classgraph:4.8.179")
 }
+
+// Headless AI-vs-AI tournament on every core: games/s, decisions/s, decision latency and ratings.
+// ./gradlew :magical-vibes-ai:aiTournament --args="--games=2000 --entrants=EASY,MEDIUM,HARD:250,HARD:1000"
+tasks.register<JavaExec>("aiTournament") {
+    group = "verification"
+    description = "Play a parallel headless tournament between AI difficulties and MCTS budgets."
+    mainClass.set("com.github.laxika.magicalvibes.ai.tournament.AiTournamentRunner")
+    classpath = project.the<SourceSetContainer>()["main"].runtimeClasspath
+    javaLauncher.set(project.the<JavaToolchainService>().launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    jvmArgs("-Xmx4g", "-XX:+UseParallelGC")
+    // Same oracle data source and card cache as the test JVMs
+    systemProperty("oracle.data-provider", System.getProperty("oracle.data-provider") ?: "MTGJSON")
+    systemProperty(
+        "card-data.cache-dir",
+        rootProject.layout.projectDirectory.dir("card-data-cache").asFile.absolutePath
+    )
+}
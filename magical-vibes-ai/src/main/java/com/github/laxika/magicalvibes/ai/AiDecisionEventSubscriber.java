@@ -68,6 +68,16 @@ public class AiDecisionEventSubscriber implements GameEventSubscriber {
         schedulers.values().forEach(AiDecisionScheduler::close);
     }
 
+    /**
+     * The decision {@code envelope} wakes {@code playerId} for, or null when the fact is not
+     * addressed to that seat or asks for nothing. Shared with drivers that decide synchronously
+     * instead of through an {@link AiDecisionScheduler}.
+     */
+    public static AiDecisionKind decisionKindFor(GameEventEnvelope envelope, UUID playerId) {
+        AiDecisionKind kind = decisionKind(envelope.fact());
+        return kind != null && includes(envelope.audience(), playerId) ? kind : null;
+    }
+
     private static AiDecisionKind decisionKind(GameEventFact fact) {
         if (fact instanceof GameEventFact.StateInvalidated) {
             return AiDecisionKind.GAME_STATE;
@@ -0,0 +1,102 @@
+package com.github.laxika.magicalvibes.ai;
+
+import com.github.laxika.magicalvibes.model.AiDifficulty;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide runtime behind every {@link AiDecisionScheduler}: one daemon timer thread owns the
+ * think delays and only hands due work off, decisions run on virtual threads, and a fair
+ * semaphore caps how many search-backed ({@link AiDifficulty#HARD}) decisions run at once across
+ * all games. Hundreds of AI seats therefore cost one platform thread plus whichever virtual
+ * threads are deciding right now, instead of one idle platform thread per seat.
+ *
+ * <p>Queue wait (time past the think delay before the decision starts — timer lag, the seat's
+ * earlier decisions, waiting for a search permit) and decision latency are recorded per
+ * difficulty. The search cap defaults to the core count; override with
+ * {@code -DaiSearchConcurrency=N}.
+ */
+public final class AiDecisionRuntime {
+
+    private static final AiDecisionRuntime SHARED =
+            new AiDecisionRuntime(Integer.getInteger("aiSearchConcurrency",
+                    Runtime.getRuntime().availableProcessors()));
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ThreadFactory decisionThreads = Thread.ofVirtual().name("ai-decision-", 0).factory();
+    private final Semaphore searchPermits;
+    private final int searchConcurrency;
+    private final Map<AiDifficulty, LatencyHistogram> queueWait = new EnumMap<>(AiDifficulty.class);
+    private final Map<AiDifficulty, LatencyHistogram> decisionLatency = new EnumMap<>(AiDifficulty.class);
+
+    AiDecisionRuntime(int searchConcurrency) {
+        this.searchConcurrency = Math.max(1, searchConcurrency);
+        this.searchPermits = new Semaphore(this.searchConcurrency, true);
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "ai-decision-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        pool.setRemoveOnCancelPolicy(true);
+        this.timer = pool;
+        for (AiDifficulty difficulty : AiDifficulty.values()) {
+            queueWait.put(difficulty, new LatencyHistogram());
+            decisionLatency.put(difficulty, new LatencyHistogram());
+        }
+    }
+
+    public static AiDecisionRuntime shared() {
+        return SHARED;
+    }
+
+    /**
+     * Runs {@code task} on the timer thread after {@code delayMs}. Tasks with equal delays fire in
+     * submission order; they must only hand work off, never decide on the timer thread.
+     */
+    ScheduledFuture<?> schedule(Runnable task, long delayMs) {
+        return timer.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    void startDecisionThread(Runnable work) {
+        decisionThreads.newThread(work).start();
+    }
+
+    /** Whether decisions of this difficulty run a tree search and so need a search permit. */
+    static boolean searches(AiDifficulty difficulty) {
+        return difficulty == AiDifficulty.HARD;
+    }
+
+    void acquireSearchPermit() throws InterruptedException {
+        searchPermits.acquire();
+    }
+
+    void releaseSearchPermit() {
+        searchPermits.release();
+    }
+
+    public LatencyHistogram queueWait(AiDifficulty difficulty) {
+        return queueWait.get(difficulty);
+    }
+
+    public LatencyHistogram decisionLatency(AiDifficulty difficulty) {
+        return decisionLatency.get(difficulty);
+    }
+
+    public String metricsSummary() {
+        StringBuilder summary = new StringBuilder("searchPermits=")
+                .append(searchPermits.availablePermits()).append('/').append(searchConcurrency)
+                .append(" searchWaiters=").append(searchPermits.getQueueLength())
+                .append(" timerQueue=").append(timer.getQueue().size());
+        for (AiDifficulty difficulty : AiDifficulty.values()) {
+            summary.append(' ').append(difficulty).append("{wait ").append(queueWait.get(difficulty))
+                    .append("; decision ").append(decisionLatency.get(difficulty)).append('}');
+        }
+        return summary.toString();
+    }
+}
@@ -1,13 +1,21 @@
 package com.github.laxika.magicalvibes.ai;
 
+import com.github.laxika.magicalvibes.model.AiDifficulty;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Delays and serializes the decisions of one AI seat on the shared {@link AiDecisionRuntime}.
+ * Due decisions enter the seat's ready queue in timer order and are drained by at most one
+ * virtual thread at a time, so a seat still decides strictly one thing at a time, in order.
+ */
 @Slf4j
 public class AiDecisionScheduler {
 
@@ -16,9 +24,14 @@ public class AiDecisionScheduler {
 
     private final String schedulerId;
     private final AiDecisionEngine engine;
-    private final ScheduledThreadPoolExecutor executor;
+    private final AiDecisionRuntime runtime;
+    /** Null for directly constructed schedulers; such seats take no search permit and record no metrics. */
+    private final AiDifficulty difficulty;
     private final long decisionDelayMs;
     private final AtomicBoolean open = new AtomicBoolean(true);
+    private final Queue<Runnable> readyDecisions = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
     private final Object gameStateLock = new Object();
     private final AtomicLong receivedEvents = new AtomicLong();
     private final AtomicLong ignoredEvents = new AtomicLong();
@@ -34,17 +47,20 @@ public class AiDecisionScheduler {
     }
 
     public AiDecisionScheduler(String schedulerId, AiDecisionEngine engine, long decisionDelayMs) {
+        this(schedulerId, engine, decisionDelayMs, null, AiDecisionRuntime.shared());
+    }
+
+    public AiDecisionScheduler(String schedulerId, AiDecisionEngine engine, AiDifficulty difficulty) {
+        this(schedulerId, engine, difficulty.getDecisionDelayMs(), difficulty, AiDecisionRuntime.shared());
+    }
+
+    AiDecisionScheduler(String schedulerId, AiDecisionEngine engine, long decisionDelayMs,
+                        AiDifficulty difficulty, AiDecisionRuntime runtime) {
         this.schedulerId = schedulerId;
         this.engine = engine;
         this.decisionDelayMs = decisionDelayMs;
-
-        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, r -> {
-            Thread t = new Thread(r, "ai-" + schedulerId);
-            t.setDaemon(true);
-            return t;
-        });
-        pool.setRemoveOnCancelPolicy(true);
-        this.executor = pool;
+        this.difficulty = difficulty;
+        this.runtime = runtime;
     }
 
     public String getId() {
@@ -69,7 +85,7 @@ public class AiDecisionScheduler {
         } catch (RejectedExecutionException e) {
             // close() may race with a final event batch. A closed AI deliberately drops it.
             if (open.get()) {
-                log.error("AI executor rejected decision event", e);
+                log.error("AI runtime rejected decision event", e);
             }
         }
     }
@@ -94,7 +110,7 @@ public class AiDecisionScheduler {
 
     private void scheduleGameStateTask() {
         long scheduledAtNanos = System.nanoTime();
-        executor.schedule(() -> {
+        scheduleOnRuntime(() -> {
             synchronized (gameStateLock) {
                 gameStateDirty = false;
             }
@@ -108,13 +124,46 @@ public class AiDecisionScheduler {
                     gameStateDirty = false;
                 }
             }
-        }, decisionDelayMs, TimeUnit.MILLISECONDS);
+        });
     }
 
     private void scheduleDecisionTask(AiDecisionKind kind) {
         long scheduledAtNanos = System.nanoTime();
-        executor.schedule(() -> handleScheduledEvent(kind, scheduledAtNanos),
-                decisionDelayMs, TimeUnit.MILLISECONDS);
+        scheduleOnRuntime(() -> handleScheduledEvent(kind, scheduledAtNanos));
+    }
+
+    /**
+     * Waits out the think delay on the shared timer, then queues the decision on this seat. Every
+     * task of a seat has the same delay, so the timer releases them in submission order.
+     */
+    private void scheduleOnRuntime(Runnable decision) {
+        queuedTasks.incrementAndGet();
+        try {
+            runtime.schedule(() -> {
+                readyDecisions.add(decision);
+                if (draining.compareAndSet(false, true)) {
+                    runtime.startDecisionThread(this::drainReadyDecisions);
+                }
+            }, decisionDelayMs);
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void drainReadyDecisions() {
+        do {
+            Runnable decision;
+            while ((decision = readyDecisions.poll()) != null) {
+                try {
+                    decision.run();
+                } finally {
+                    queuedTasks.decrementAndGet();
+                }
+            }
+            draining.set(false);
+            // A decision may have become ready between the last poll and releasing the drain
+        } while (!readyDecisions.isEmpty() && draining.compareAndSet(false, true));
     }
 
     private void handleScheduledEvent(AiDecisionKind kind, long scheduledAtNanos) {
@@ -122,38 +171,59 @@ public class AiDecisionScheduler {
             return;
         }
 
-        long dispatchDelayMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAtNanos)
-                - decisionDelayMs;
-        if (dispatchDelayMs >= SLOW_DISPATCH_THRESHOLD_MS) {
-            log.warn("AI scheduler {} dispatch of {} waited {} ms beyond its decision delay; {}",
-                    schedulerId, kind, dispatchDelayMs, diagnosticSummary());
+        boolean searchPermit = difficulty != null && AiDecisionRuntime.searches(difficulty);
+        if (searchPermit) {
+            try {
+                runtime.acquireSearchPermit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
         }
-
-        activeDecisionKind = kind;
         try {
-            engine.handleEvent(kind);
-            handledDecisions.incrementAndGet();
-            lastHandledDecisionKind = kind;
-        } catch (Exception e) {
-            log.error("AI decision error for decision kind {}", kind, e);
+            if (!open.get()) {
+                return;
+            }
+            long dispatchDelayMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAtNanos)
+                    - decisionDelayMs;
+            if (dispatchDelayMs >= SLOW_DISPATCH_THRESHOLD_MS) {
+                log.warn("AI scheduler {} dispatch of {} waited {} ms beyond its decision delay; {}",
+                        schedulerId, kind, dispatchDelayMs, diagnosticSummary());
+            }
+
+            long startedAtNanos = System.nanoTime();
+            activeDecisionKind = kind;
+            try {
+                engine.handleEvent(kind);
+                handledDecisions.incrementAndGet();
+                lastHandledDecisionKind = kind;
+            } catch (Exception e) {
+                log.error("AI decision error for decision kind {}", kind, e);
+            } finally {
+                activeDecisionKind = null;
+            }
+            if (difficulty != null) {
+                runtime.queueWait(difficulty).record(dispatchDelayMs);
+                runtime.decisionLatency(difficulty).record(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos));
+            }
         } finally {
-            activeDecisionKind = null;
+            if (searchPermit) {
+                runtime.releaseSearchPermit();
+            }
         }
     }
 
     public void close() {
+        // Nothing is interrupted: a final game-end fact may be delivered from this seat's own
+        // decision thread. Already-queued tasks check open before invoking the decision engine.
         open.set(false);
-        // Use shutdown() rather than shutdownNow() to avoid setting the interrupt flag on the
-        // calling thread. A final game-end fact may be delivered from the AI's own executor
-        // thread, and interrupting it would corrupt subsequent subscriber work.
-        // Already-queued tasks check open before invoking the decision engine.
-        executor.shutdown();
     }
 
     public String diagnosticSummary() {
         synchronized (gameStateLock) {
             return "open=" + open.get()
-                    + " queuedTasks=" + executor.getQueue().size()
+                    + " queuedTasks=" + queuedTasks.get()
                     + " active=" + activeDecisionKind
                     + " lastHandled=" + lastHandledDecisionKind
                     + " gameStateScheduled=" + gameStateTaskScheduled
@@ -0,0 +1,38 @@
+package com.github.laxika.magicalvibes.ai;
+
+import com.github.laxika.magicalvibes.model.AiDifficulty;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.service.journal.JournaledCommandReplayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Re-seats a journaled AI player when its game is recovered after a restart, with the same id,
+ * deck and difficulty — which also brings back its decision scheduler.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiJoinCommandReplayer implements JournaledCommandReplayer {
+
+    private final AiPlayerService aiPlayerService;
+
+    @Override
+    public String commandName() {
+        return AiPlayerService.JOIN_AS_AI;
+    }
+
+    @Override
+    public List<Type> argumentTypes() {
+        return List.of(UUID.class, String.class, AiDifficulty.class);
+    }
+
+    @Override
+    public void replay(GameData gameData, List<Object> arguments) {
+        aiPlayerService.joinAsAi(gameData, (UUID) arguments.get(0), (String) arguments.get(1),
+                (AiDifficulty) arguments.get(2));
+    }
+}
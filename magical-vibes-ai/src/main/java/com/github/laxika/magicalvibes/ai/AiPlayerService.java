@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.ai;
 import com.github.laxika.magicalvibes.model.AiDifficulty;
 import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
 import com.github.laxika.magicalvibes.service.GameActionAvailabilityService;
 import com.github.laxika.magicalvibes.service.GameService;
 import com.github.laxika.magicalvibes.service.GameSetupService;
@@ -26,6 +27,9 @@ import java.util.UUID;
 @Service
 public class AiPlayerService {
 
+    /** Journal name of the command that seats an AI player. */
+    public static final String JOIN_AS_AI = "joinAsAi";
+
     private final GameRegistry gameRegistry;
     private final GameService gameService;
     private final GameSetupService gameSetupService;
@@ -41,6 +45,7 @@ public class AiPlayerService {
     private final AiDecisionEventSubscriber decisionEventSubscriber;
     private final long mctsTimeBudgetMs;
     private final int mctsParallelism;
+    private final boolean mctsPondering;
 
     public AiPlayerService(GameRegistry gameRegistry,
                            GameService gameService,
@@ -56,7 +61,8 @@ public class AiPlayerService {
                            GameMutationCoordinator mutationCoordinator,
                            AiDecisionEventSubscriber decisionEventSubscriber,
                            @Value("${ai.mcts.time-budget-ms:" + MCTSEngine.DEFAULT_TIME_BUDGET_MS + "}") long mctsTimeBudgetMs,
-                           @Value("${ai.mcts.parallelism:0}") int mctsParallelism) {
+                           @Value("${ai.mcts.parallelism:0}") int mctsParallelism,
+                           @Value("${ai.mcts.ponder:true}") boolean mctsPondering) {
         this.gameRegistry = gameRegistry;
         this.gameService = gameService;
         this.gameSetupService = gameSetupService;
@@ -72,6 +78,7 @@ public class AiPlayerService {
         this.decisionEventSubscriber = decisionEventSubscriber;
         this.mctsTimeBudgetMs = mctsTimeBudgetMs;
         this.mctsParallelism = mctsParallelism;
+        this.mctsPondering = mctsPondering;
     }
 
     public void joinAsAi(GameData gameData, String aiDeckId) {
@@ -79,11 +86,19 @@ public class AiPlayerService {
     }
 
     public void joinAsAi(GameData gameData, String aiDeckId, AiDifficulty aiDifficulty) {
+        joinAsAi(gameData, UUID.randomUUID(), aiDeckId, aiDifficulty);
+    }
+
+    /**
+     * Seats an AI player with a known id — a fresh one, or the recorded one when the journal
+     * recovery replays the join after a restart. The join is journaled as a
+     * {@link #JOIN_AS_AI} command.
+     */
+    public void joinAsAi(GameData gameData, UUID aiPlayerId, String aiDeckId, AiDifficulty aiDifficulty) {
         if (aiDifficulty == null) {
             aiDifficulty = AiDifficulty.EASY;
         }
         String aiName = "AI Opponent (" + aiDifficulty.getDisplayName() + ")";
-        UUID aiPlayerId = UUID.randomUUID();
         Player aiPlayer = new Player(aiPlayerId, aiName);
 
         AiDecisionEngine engine = switch (aiDifficulty) {
@@ -95,18 +110,18 @@ public class AiPlayerService {
                 hard.setMctsParallelism(mctsParallelism > 0
                         ? mctsParallelism
                         : MCTSEngine.autoParallelism());
+                hard.setMctsPondering(mctsPondering);
                 yield hard;
             }
             case MEDIUM -> new MediumAiDecisionEngine(gameData.id, aiPlayer, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
             case EASY -> new EasyAiDecisionEngine(gameData.id, aiPlayer, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
         };
         String schedulerId = "ai-" + gameData.id + "-" + aiPlayerId;
-        AiDecisionScheduler aiDecisionScheduler = new AiDecisionScheduler(
-                schedulerId, engine, aiDifficulty.getDecisionDelayMs());
+        AiDecisionScheduler aiDecisionScheduler = new AiDecisionScheduler(schedulerId, engine, aiDifficulty);
         decisionEventSubscriber.register(gameData.id, aiPlayerId, aiDecisionScheduler);
 
         try {
-            mutationCoordinator.mutate(gameData, () -> {
+            mutationCoordinator.mutate(gameData, GameCommand.of(JOIN_AS_AI, aiPlayerId, aiDeckId, aiDifficulty), () -> {
                 // Mark this player as AI-controlled so auto-pass always hands it a priority window
                 // when it can act, instead of treating it like a human bound by auto-stop settings.
                 gameData.aiPlayerIds.add(aiPlayerId);
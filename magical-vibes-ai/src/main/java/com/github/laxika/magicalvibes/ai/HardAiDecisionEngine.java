@@ -13,6 +13,7 @@ import com.github.laxika.magicalvibes.model.ChoiceContext;
 import com.github.laxika.magicalvibes.model.EffectResolution;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.Keyword;
@@ -85,6 +86,7 @@ public class HardAiDecisionEngine extends AiDecisionEngine {
     private final BoardEvaluator boardEvaluator;
     private final CombatSimulator combatSimulator;
     private MCTSEngine mctsEngine;
+    private boolean mctsPondering;
     private final GameSimulator gameSimulator;
     private final RaceEvaluator raceEvaluator;
     private final AmountEvaluationService amountEvaluationService;
@@ -160,6 +162,11 @@ public class HardAiDecisionEngine extends AiDecisionEngine {
         this.mctsEngine.setParallelism(parallelism);
     }
 
+    /** Turns MCTS pondering on while a human holds priority (see {@code ai.mcts.ponder}); off by default. */
+    public void setMctsPondering(boolean pondering) {
+        this.mctsPondering = pondering;
+    }
+
     // ===== Smart Land Selection =====
 
     /**
@@ -275,11 +282,63 @@ public class HardAiDecisionEngine extends AiDecisionEngine {
         return coverage;
     }
 
+    // ===== Pondering =====
+
+    /**
+     * While a human holds priority, lets the MCTS engine search the decision this AI expects to
+     * face once they pass (see {@link MCTSEngine#ponder}). Every state change wakes this engine,
+     * so a ponder that the change ended is replaced by one for the new state.
+     */
+    private void ponderWhileHumanThinks(GameData gameData) {
+        if (!mctsPondering || gameData.status != GameStatus.RUNNING) {
+            return;
+        }
+        UUID priorityHolder;
+        synchronized (gameData) {
+            if (gameData.interaction.isAwaitingInput()) {
+                return;
+            }
+            priorityHolder = getPriorityPlayerId(gameData);
+        }
+        if (priorityHolder == null || gameData.aiPlayerIds.contains(priorityHolder)) {
+            return;
+        }
+        mctsEngine.ponder(gameData, aiPlayer.getId(), MCTS_BUDGET, this::ponderRootActions);
+    }
+
+    /**
+     * The root actions this engine would hand MCTS at a predicted decision, so a pondered tree
+     * carries the same signature as the live search: the spell stage of its own main phase, and
+     * attacker and blocker declarations. Empty where it would decide without a search.
+     */
+    private List<SimulationAction> ponderRootActions(GameData predicted) {
+        PendingInteraction awaiting = predicted.interaction.activeInteraction();
+        if (awaiting instanceof PendingInteraction.AttackerDeclaration
+                || awaiting instanceof PendingInteraction.BlockerDeclaration) {
+            return gameSimulator.getLegalActions(predicted, aiPlayer.getId());
+        }
+        boolean spellStage = awaiting == null
+                && aiPlayer.getId().equals(predicted.activePlayerId)
+                && (predicted.currentStep == TurnStep.PRECOMBAT_MAIN
+                        || predicted.currentStep == TurnStep.POSTCOMBAT_MAIN)
+                && predicted.stack.isEmpty();
+        return spellStage ? spellStageRootActions(predicted) : List.of();
+    }
+
+    /** Root actions of the main-phase spell search: every castable spell and target, or passing. */
+    private List<SimulationAction> spellStageRootActions(GameData gameData) {
+        return gameSimulator.getLegalActions(gameData, aiPlayer.getId()).stream()
+                .filter(action -> action instanceof SimulationAction.PlayCard
+                        || action instanceof SimulationAction.PassPriority)
+                .toList();
+    }
+
     // ===== Priority / Main Phase =====
 
     @Override
     protected void handleGameState(GameData gameData) {
         if (!hasPriority(gameData)) {
+            ponderWhileHumanThinks(gameData);
             return;
         }
 
@@ -1455,13 +1514,8 @@ public class HardAiDecisionEngine extends AiDecisionEngine {
 
         // Use MCTS to decide
         try {
-            List<SimulationAction> spellRootActions = gameSimulator.getLegalActions(
-                            gameData, aiPlayer.getId()).stream()
-                    .filter(action -> action instanceof SimulationAction.PlayCard
-                            || action instanceof SimulationAction.PassPriority)
-                    .toList();
             SimulationAction bestAction = mctsEngine.search(
-                    gameData, aiPlayer.getId(), MCTS_BUDGET, spellRootActions);
+                    gameData, aiPlayer.getId(), MCTS_BUDGET, spellStageRootActions(gameData));
 
             if (bestAction instanceof SimulationAction.PlayCard pc) {
                 SpellCastingPlan plan = buildSpellCastingPlan(gameData, pc.handIndex(), pc.targetId(), false);
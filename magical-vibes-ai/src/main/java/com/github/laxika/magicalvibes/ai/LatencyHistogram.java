@@ -0,0 +1,58 @@
+package com.github.laxika.magicalvibes.ai;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free millisecond histogram with power-of-two buckets: bucket {@code i} counts samples in
+ * {@code [2^(i-1), 2^i)} ms, bucket 0 counts sub-millisecond samples and the last bucket
+ * everything from ~65 s up. Percentiles report the bucket's upper bound, which is precise enough
+ * to tell a 50 ms decision from a 5 s one.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 18;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    public void record(long millis) {
+        long sample = Math.max(0, millis);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(sample));
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        maxMillis.accumulateAndGet(sample, Math::max);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long maxMillis() {
+        return maxMillis.get();
+    }
+
+    /** Upper bound, in ms, of the bucket holding the {@code quantile} sample (0 when empty). */
+    public long percentileMillis(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(1L << i, maxMillis.get());
+            }
+        }
+        return maxMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "n=" + count() + " p50<=" + percentileMillis(0.5) + "ms p95<=" + percentileMillis(0.95)
+                + "ms p99<=" + percentileMillis(0.99) + "ms max=" + maxMillis() + "ms";
+    }
+}
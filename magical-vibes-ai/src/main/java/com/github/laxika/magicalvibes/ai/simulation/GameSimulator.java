@@ -79,6 +79,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.WeakHashMap;
+import java.util.function.Predicate;
 
 /**
  * Provides MCTS simulation capabilities using the headless Spring engine context.
@@ -374,6 +375,36 @@ public class GameSimulator {
         autoResolveDecisions(gd, playerId, 30);
     }
 
+    /**
+     * Plays {@code gd} forward along the line where every player passes priority, until
+     * {@code aiPlayerId} has priority or an interaction of its own that {@code isDecision} accepts.
+     * Returns false when the line leaves what can be predicted: the game ends, another player has
+     * an interaction to answer, the AI has one {@code isDecision} rejects, or {@code maxPasses}
+     * passes go by first. The game state is mutated in place.
+     */
+    public boolean advanceToDecision(GameData gd, UUID aiPlayerId, Predicate<GameData> isDecision, int maxPasses) {
+        for (int passes = 0; ; passes++) {
+            if (isTerminal(gd)) return false;
+
+            PendingInteraction awaiting = gd.interaction.activeInteraction();
+            if (awaiting != null) {
+                return aiPlayerId.equals(getInteractionPlayer(gd)) && isDecision.test(gd);
+            }
+            UUID priorityHolder = getPriorityPlayer(gd);
+            if (priorityHolder == null) return false;
+            if (priorityHolder.equals(aiPlayerId) && isDecision.test(gd)) return true;
+            if (passes == maxPasses) return false;
+
+            try {
+                gameService.passPriority(gd, new Player(priorityHolder,
+                        gd.playerIdToName.getOrDefault(priorityHolder, "AI")));
+            } catch (Exception e) {
+                log.trace("Predicted pass failed: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
     /**
      * Returns true if the game is over (finished or a player is at 0 or less life).
      */
@@ -0,0 +1,278 @@
+package com.github.laxika.magicalvibes.ai.simulation;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CounterType;
+import com.github.laxika.magicalvibes.model.ExiledCardEntry;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.ManaColor;
+import com.github.laxika.magicalvibes.model.ManaPool;
+import com.github.laxika.magicalvibes.model.PendingInteraction;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.StackEntry;
+import com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Zobrist-style 64-bit hash of what the searching AI can observe of a simulation state — its
+ * information set — so that different action orders reaching the same position (land then
+ * creature versus creature then land) share one {@link TranspositionTable} entry.
+ * <p>
+ * Every element (a permanent, a card in a zone, a player counter) gets a pseudo-random key mixed
+ * from its content with SplitMix64. Unordered zones combine their keys by addition rather than
+ * XOR, so two copies of the same card do not cancel out; the stack is the one ordered zone and is
+ * chained position by position. Cards are keyed by name, never by id — tokens and determinized
+ * cards get fresh ids on every iteration. For the same reason a reference to another object — a
+ * stack entry's targets, an Aura's host, a blocker's attackers, a floating effect's subject — is
+ * keyed by what it points at (a player by id, a permanent by name and controller, a card by name),
+ * never by the id it carries.
+ * <p>
+ * Hidden information is left out on purpose: opponents' hands and every library contribute only
+ * their size, so all determinizations of one information set hash alike and pool their
+ * statistics, as IS-MCTS expects.
+ */
+final class GameStateHasher {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long GLOBAL_TAG = 0x1L;
+    private static final long PLAYER_TAG = 0x2L;
+    private static final long HAND_TAG = 0x3L;
+    private static final long GRAVEYARD_TAG = 0x4L;
+    private static final long MANA_TAG = 0x5L;
+    private static final long PERMANENT_TAG = 0x6L;
+    private static final long STACK_TAG = 0x7L;
+    private static final long PASSED_TAG = 0x8L;
+    private static final long EXILE_TAG = 0x9L;
+    private static final long FLOATING_TAG = 0xAL;
+    private static final long INTERACTION_TAG = 0xBL;
+    private static final long REFERENCE_TAG = 0xCL;
+
+    private GameStateHasher() {
+    }
+
+    static long hash(GameData gameData, UUID aiPlayerId) {
+        Map<UUID, Long> references = references(gameData, aiPlayerId);
+        long hash = combine(GLOBAL_TAG, gameData.turnNumber);
+        hash = combine(hash, gameData.currentStep != null ? gameData.currentStep.ordinal() + 1 : 0);
+        hash = combine(hash, idKey(gameData.activePlayerId));
+
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            hash += playerKey(gameData, playerId, aiPlayerId, references);
+        }
+        for (UUID passedId : gameData.priorityPassedBy) {
+            hash += combine(PASSED_TAG, idKey(passedId));
+        }
+
+        long stackHash = STACK_TAG;
+        synchronized (gameData.stack) {
+            for (StackEntry entry : gameData.stack) {
+                stackHash = combine(stackHash, stackEntryKey(entry, references));
+            }
+        }
+        synchronized (gameData.exiledCards) {
+            for (ExiledCardEntry entry : gameData.exiledCards) {
+                hash += exileKey(entry, aiPlayerId);
+            }
+        }
+        synchronized (gameData.floatingEffects) {
+            for (FloatingContinuousEffect effect : gameData.floatingEffects) {
+                hash += floatingEffectKey(effect, references);
+            }
+        }
+        PendingInteraction interaction = gameData.interaction.activeInteraction();
+        if (interaction != null) {
+            hash += combine(INTERACTION_TAG, interaction.getClass().getName().hashCode());
+        }
+        return hash + stackHash;
+    }
+
+    /**
+     * Stable keys for everything a reference can point at: players by id, permanents by name and
+     * controller (hidden like {@link #permanentKey} hides them), cards in hands, graveyards and on
+     * the stack by name.
+     */
+    private static Map<UUID, Long> references(GameData gameData, UUID aiPlayerId) {
+        Map<UUID, Long> references = new HashMap<>();
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            long player = idKey(playerId);
+            references.put(playerId, player);
+            putCards(references, gameData.playerGraveyards.get(playerId));
+            if (playerId.equals(aiPlayerId)) {
+                putCards(references, gameData.playerHands.get(playerId));
+            }
+            List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+            if (battlefield != null) {
+                for (Permanent permanent : battlefield) {
+                    long card = permanent.isFaceDown() && !playerId.equals(aiPlayerId)
+                            ? 0 : cardKey(permanent.getCard());
+                    references.put(permanent.getId(), combine(combine(REFERENCE_TAG, player), card));
+                }
+            }
+        }
+        synchronized (gameData.stack) {
+            for (StackEntry entry : gameData.stack) {
+                if (entry.getCard() != null) {
+                    references.putIfAbsent(entry.getCard().getId(), cardKey(entry.getCard()));
+                }
+            }
+        }
+        return references;
+    }
+
+    private static void putCards(Map<UUID, Long> references, List<Card> cards) {
+        if (cards != null) {
+            for (Card card : cards) {
+                references.put(card.getId(), cardKey(card));
+            }
+        }
+    }
+
+    /** What {@code id} points at; an id that resolves to nothing still counts as "some target". */
+    private static long referenceKey(Map<UUID, Long> references, UUID id) {
+        if (id == null) {
+            return 0;
+        }
+        return references.getOrDefault(id, REFERENCE_TAG);
+    }
+
+    private static long stackEntryKey(StackEntry entry, Map<UUID, Long> references) {
+        long key = combine(cardKey(entry.getCard()), idKey(entry.getControllerId()));
+        key = combine(key, entry.getEntryType() != null ? entry.getEntryType().ordinal() + 1 : 0);
+        key = combine(key, entry.getXValue());
+        key = combine(key, entry.getEtbMode() != null ? entry.getEtbMode() + 1 : 0);
+        key = combine(key, entry.getModalModeCount() != null ? entry.getModalModeCount() + 1 : 0);
+        key = combine(key, referenceKey(references, entry.getTargetId()));
+        key = combine(key, orderedReferenceKey(references, entry.getTargetIds()));
+        return combine(key, orderedReferenceKey(references, entry.getTargetCardIds()));
+    }
+
+    private static long orderedReferenceKey(Map<UUID, Long> references, List<UUID> ids) {
+        if (ids == null) {
+            return 0;
+        }
+        long key = ids.size();
+        for (UUID id : ids) {
+            key = combine(key, referenceKey(references, id));
+        }
+        return key;
+    }
+
+    private static long exileKey(ExiledCardEntry entry, UUID aiPlayerId) {
+        // A face-down exiled card is hidden from everyone but its owner and whoever exiled it
+        boolean visible = !entry.faceDown()
+                || aiPlayerId.equals(entry.ownerId())
+                || aiPlayerId.equals(entry.exilerId());
+        long key = combine(EXILE_TAG, idKey(entry.ownerId()));
+        key = combine(key, visible ? cardKey(entry.card()) : 0);
+        return combine(key, entry.faceDown() ? 1 : 0);
+    }
+
+    private static long floatingEffectKey(FloatingContinuousEffect effect, Map<UUID, Long> references) {
+        long key = combine(FLOATING_TAG, idKey(effect.controllerId()));
+        key = combine(key, effect.effect() != null ? effect.effect().getClass().getName().hashCode() : 0);
+        key = combine(key, effect.sourceCardName() != null ? effect.sourceCardName().hashCode() : 0);
+        key = combine(key, effect.duration() != null ? effect.duration().ordinal() + 1 : 0);
+        key = combine(key, effect.scope() != null ? effect.scope().getClass().getName().hashCode() : 0);
+        key = combine(key, referenceKey(references, effect.affectedPermanentId()));
+        return combine(key, referenceKey(references, effect.affectedPlayerId()));
+    }
+
+    private static long playerKey(GameData gameData, UUID playerId, UUID aiPlayerId,
+                                  Map<UUID, Long> references) {
+        long player = idKey(playerId);
+        long key = combine(PLAYER_TAG, player);
+        key = combine(key, gameData.playerLifeTotals.getOrDefault(playerId, 0));
+        key = combine(key, gameData.playerPoisonCounters.getOrDefault(playerId, 0));
+        key = combine(key, gameData.landsPlayedThisTurn.getOrDefault(playerId, 0));
+        key = combine(key, sizeOf(gameData.playerDecks.get(playerId)));
+
+        List<Card> hand = gameData.playerHands.get(playerId);
+        if (playerId.equals(aiPlayerId)) {
+            key += multisetKey(combine(HAND_TAG, player), hand);
+        } else {
+            key = combine(key, sizeOf(hand));
+        }
+        key += multisetKey(combine(GRAVEYARD_TAG, player), gameData.playerGraveyards.get(playerId));
+
+        ManaPool pool = gameData.playerManaPools.get(playerId);
+        if (pool != null) {
+            long manaKey = combine(MANA_TAG, player);
+            for (ManaColor color : ManaColor.values()) {
+                manaKey = combine(manaKey, pool.get(color));
+            }
+            key += manaKey;
+        }
+
+        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+        if (battlefield != null) {
+            for (Permanent permanent : battlefield) {
+                key += permanentKey(permanent, player, playerId.equals(aiPlayerId), references);
+            }
+        }
+        return key;
+    }
+
+    private static long permanentKey(Permanent permanent, long controller, boolean controlledByAi,
+                                     Map<UUID, Long> references) {
+        long key = combine(PERMANENT_TAG, controller);
+        // A face-down permanent's identity is hidden from its controller's opponents
+        key = combine(key, permanent.isFaceDown() && !controlledByAi ? 0 : cardKey(permanent.getCard()));
+        key = combine(key, (permanent.isTapped() ? 1 : 0)
+                | (permanent.isSummoningSick() ? 2 : 0)
+                | (permanent.isAttacking() ? 4 : 0)
+                | (permanent.isBlocking() ? 8 : 0)
+                | (permanent.isTransformed() ? 16 : 0)
+                | (permanent.isFaceDown() ? 32 : 0));
+        key = combine(key, permanent.getMarkedDamage());
+        key = combine(key, permanent.getPowerModifier());
+        key = combine(key, permanent.getToughnessModifier());
+        for (Map.Entry<CounterType, Integer> counter : permanent.getCounters().entrySet()) {
+            key = combine(key, ((long) counter.getKey().ordinal() << 32) | counter.getValue());
+        }
+        key = combine(key, referenceKey(references, permanent.getAttachedTo()));
+        // A blocker's attackers are unordered, so they combine by addition like the zones do
+        long blocking = 0;
+        for (UUID attackerId : permanent.getBlockingTargetIds()) {
+            blocking += combine(REFERENCE_TAG, referenceKey(references, attackerId));
+        }
+        return combine(key, blocking);
+    }
+
+    private static long multisetKey(long zone, List<Card> cards) {
+        if (cards == null) {
+            return 0;
+        }
+        long key = 0;
+        for (Card card : cards) {
+            key += combine(zone, cardKey(card));
+        }
+        return key;
+    }
+
+    private static long cardKey(Card card) {
+        return card == null || card.getName() == null ? 0 : card.getName().hashCode();
+    }
+
+    private static long idKey(UUID id) {
+        return id == null ? 0 : id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 17);
+    }
+
+    private static int sizeOf(List<?> zone) {
+        return zone == null ? 0 : zone.size();
+    }
+
+    /** Chains {@code value} into {@code state}; the result is a well-mixed key for both. */
+    private static long combine(long state, long value) {
+        return splitMix64(state + value * GOLDEN_GAMMA);
+    }
+
+    private static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
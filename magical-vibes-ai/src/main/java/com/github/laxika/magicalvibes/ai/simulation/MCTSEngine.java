@@ -19,10 +19,13 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 /**
@@ -157,8 +160,8 @@ public class MCTSEngine {
      * Worker count for parallel time-budgeted searches when the {@code ai.mcts.parallelism}
      * property asks for auto-sizing: half the available cores. Each MCTS iteration works on
      * its own determinized {@code GameData} copy, so workers only meet at the shared tree
-     * (guarded by {@link #treeLock}); iteration cost is milliseconds while tree operations
-     * are microseconds, so contention is negligible and throughput scales near-linearly.
+     * (lock-free by default, see {@link #lockFreeTree}); iteration cost is milliseconds while
+     * tree operations are microseconds, so throughput scales near-linearly.
      * The other half of the cores is left for the live game, other AI games, and the web
      * layer; set {@code ai.mcts.parallelism} explicitly to override.
      */
@@ -177,6 +180,38 @@ public class MCTSEngine {
         return thread;
     });
 
+    /**
+     * Longest a single ponder (see {@link #ponder}) keeps searching one predicted decision. A
+     * human who has not acted by then is likely away, and the tree has long stopped changing the
+     * choice it would make.
+     */
+    public static final long DEFAULT_PONDER_BUDGET_MS = 30_000;
+
+    /**
+     * Priority passes {@link GameSimulator#advanceToDecision} may predict before giving up —
+     * enough to carry the opponent's turn through its end step and this AI's own upkeep and draw
+     * into its next main phase.
+     */
+    private static final int PONDER_PREDICTION_PASSES = 24;
+
+    /** How long a ponder waits before re-checking whether live searches still fill every slot. */
+    private static final long PONDER_YIELD_MS = 20;
+
+    /**
+     * Server-wide cap on concurrent ponders, a quarter of the cores. Pondering only ever uses
+     * capacity nobody is waiting on; when the cap is reached, further ponders are simply skipped.
+     */
+    private static final Semaphore PONDER_PERMITS =
+            new Semaphore(Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+
+    /** Daemon pool for ponder threads, which run at minimum priority so live searches preempt them. */
+    private static final ExecutorService PONDER_POOL = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "mcts-ponder-worker");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
     private final GameSimulator simulator;
     private final Determinizer determinizer;
     private final Random rng;
@@ -184,12 +219,51 @@ public class MCTSEngine {
     private final int maxBudget;
     private long timeBudgetMs = DEFAULT_TIME_BUDGET_MS;
 
+    /**
+     * Escape hatch back to the global tree lock for every engine ({@code -DdisableLockFreeMctsTree=true}).
+     */
+    private static final boolean LOCK_FREE_TREE_DISABLED = Boolean.getBoolean("disableLockFreeMctsTree");
+
     /**
      * Guards all reads/writes of the shared search tree (node visits, rewards,
-     * children, untried actions). Never held while simulating.
+     * children, untried actions) when {@link #lockFreeTree} is off. Never held while simulating.
      */
     private final Object treeLock = new Object();
 
+    /**
+     * Tree concurrency mode. Lock-free (the default): selection walks the tree without a lock,
+     * marking its path with virtual loss; expansion reserves untried actions under the expanded
+     * node's own monitor and publishes children copy-on-write; backpropagation updates atomic
+     * counters. Off: every tree read and write happens under {@link #treeLock}, as before. With
+     * one worker both modes make identical choices — virtual loss is always gone before the
+     * next selection — so seeded engines are reproducible either way.
+     */
+    private boolean lockFreeTree = !LOCK_FREE_TREE_DISABLED;
+
+    /**
+     * Escape hatch that turns the transposition table off for every engine
+     * ({@code -DdisableMctsTranspositions=true}).
+     */
+    private static final boolean TRANSPOSITIONS_DISABLED = Boolean.getBoolean("disableMctsTranspositions");
+
+    /**
+     * Most visits a newly expanded node inherits from its transposition entry. Enough to steer
+     * selection away from lines already known to be bad, few enough that the node's own rollouts
+     * take over quickly when its path makes the shared estimate misleading.
+     */
+    private static final int TRANSPOSITION_PRIOR_VISIT_CAP = 8;
+
+    /**
+     * Statistics per information set ({@link GameStateHasher}), shared by tree nodes that reach
+     * the same position along different action orders and kept across the searches of one turn —
+     * the warm-start cache only helps when the root's legal actions repeat exactly. Cleared when
+     * the turn number changes. On for time-budgeted engines; deterministic engines opt in via
+     * {@link #setTranspositions}, so existing seeded expectations stay as they were.
+     */
+    private final TranspositionTable transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY);
+    private boolean transpositions;
+    private int transpositionTurn = -1;
+
     /**
      * Worker count for time-budgeted searches. Deterministic (seeded) engines always
      * search single-threaded regardless of this value — thread scheduling would break
@@ -211,11 +285,44 @@ public class MCTSEngine {
     private int cacheHits;
     private int cacheMisses;
 
+    /**
+     * Set while {@link #cachedRoot} is a pondered tree that no search has adopted yet. It was
+     * grown on a predicted state, so unlike an ordinary warm start it is only reused when the
+     * live decision is that exact information set ({@link #cachedPonderHash}), not merely one
+     * with the same legal actions.
+     */
+    private boolean cachedFromPonder;
+    private long cachedPonderHash;
+    private int ponderHits;
+    private int ponderMisses;
+
+    /**
+     * The running (or finished, not yet adopted) ponder and the live state version it started
+     * from. Only the thread that calls {@link #search} and {@link #ponder} touches these; the
+     * ponder thread itself writes the warm-start cache, which the caller reads only after
+     * {@link #stopPondering} has joined it.
+     */
+    private Future<?> ponderTask;
+    private long ponderLiveVersion = -1;
+    private volatile boolean ponderCancelled;
+    private volatile int lastPonderIterations;
+    private long ponderBudgetMs = DEFAULT_PONDER_BUDGET_MS;
+
+    /** Server-wide allocator of worker slots and think time; replaceable for tests. */
+    private MCTSSearchScheduler searchScheduler = MCTSSearchScheduler.shared();
+
     // Diagnostics for the most recent search() call (benchmarking / logging).
+    private int lastSearchRequestedWorkers;
+    private int lastSearchGrantedWorkers;
+    private long lastSearchGrantedBudgetMs;
     private int lastSearchIterations;
     private int lastSearchFailures;
+    private int lastSearchDiscarded;
     private long lastSearchElapsedMs;
     private boolean lastSearchEarlyStopped;
+    private final AtomicInteger lastSearchTranspositionLookups = new AtomicInteger();
+    private final AtomicInteger lastSearchTranspositionHits = new AtomicInteger();
+    private final AtomicLong lastSearchTranspositionPriorVisits = new AtomicLong();
 
     /**
      * Failed-iteration causes for the most recent search, keyed by exception class +
@@ -230,6 +337,7 @@ public class MCTSEngine {
         this.rng = new Random();
         this.timeBudgetEnabled = true;
         this.maxBudget = 0; // 0 = no cap, use caller's budget
+        this.transpositions = !TRANSPOSITIONS_DISABLED;
         SimulationLogSuppressor.install();
     }
 
@@ -269,6 +377,8 @@ public class MCTSEngine {
      */
     public SimulationAction search(GameData rootState, UUID aiPlayerId, int budget,
                                    List<SimulationAction> rootActions) {
+        // The live decision has arrived: a ponder must hand the cache over before it is read
+        stopPondering();
         // Flag this thread as simulating so SimulationLogSuppressor mutes engine
         // logging for every rollout action (parallel workers flag themselves).
         SimulationLogSuppressor.enterSimulation();
@@ -283,9 +393,17 @@ public class MCTSEngine {
                                       List<SimulationAction> constrainedRootActions) {
         lastSearchIterations = 0;
         lastSearchFailures = 0;
+        lastSearchDiscarded = 0;
         lastSearchElapsedMs = 0;
         lastSearchEarlyStopped = false;
         lastSearchFailureCauses.clear();
+        lastSearchTranspositionLookups.set(0);
+        lastSearchTranspositionHits.set(0);
+        lastSearchTranspositionPriorVisits.set(0);
+        if (rootState.turnNumber != transpositionTurn) {
+            transpositionTable.clear();
+            transpositionTurn = rootState.turnNumber;
+        }
         List<SimulationAction> rootActions = constrainedRootActions == null
                 ? simulator.getLegalActions(rootState, aiPlayerId)
                 : List.copyOf(constrainedRootActions);
@@ -299,6 +417,19 @@ public class MCTSEngine {
         // Warm-start from the cached tree if the decision point hasn't changed.
         // Otherwise invalidate and build a fresh root.
         String signature = buildSignature(rootActions);
+        if (cachedFromPonder) {
+            if (signature.equals(cachedSignature)
+                    && cachedPonderHash == GameStateHasher.hash(rootState, aiPlayerId)) {
+                ponderHits++;
+                log.debug("MCTS: Adopting pondered tree ({} visits)", cachedRoot.visits);
+            } else {
+                // The game went somewhere the prediction did not
+                ponderMisses++;
+                cachedRoot = null;
+                cachedSignature = null;
+            }
+            cachedFromPonder = false;
+        }
         MCTSNode root;
         if (cachedRoot != null && signature.equals(cachedSignature)) {
             root = cachedRoot;
@@ -324,16 +455,36 @@ public class MCTSEngine {
                     .getOrDefault(canonicalString(child.action), child.selectionAdjustment);
         }
 
+        // Time-budgeted searches draw their workers and think time from the server-wide
+        // scheduler; deterministic engines stay single-threaded and unscheduled.
+        MCTSSearchScheduler.Lease lease = timeBudgetEnabled
+                ? searchScheduler.acquire(parallelism, timeBudgetMs, isHumanWaiting(rootState))
+                : null;
+        lastSearchRequestedWorkers = lease != null ? lease.requestedWorkers() : 1;
+        lastSearchGrantedWorkers = lease != null ? lease.grantedWorkers() : 1;
+        lastSearchGrantedBudgetMs = lease != null ? lease.grantedBudgetMs() : 0;
+
         long searchStart = System.currentTimeMillis();
-        long deadline = timeBudgetEnabled ? searchStart + timeBudgetMs : Long.MAX_VALUE;
+        long deadline = lease != null ? searchStart + lease.grantedBudgetMs() : Long.MAX_VALUE;
         int effectiveBudget = maxBudget > 0 ? Math.min(budget, maxBudget) : budget;
 
-        if (timeBudgetEnabled && parallelism > 1) {
-            searchParallel(rootState, aiPlayerId, root, searchStart, deadline, effectiveBudget);
-        } else {
-            searchSequential(rootState, aiPlayerId, root, searchStart, deadline, effectiveBudget);
+        try {
+            // One full copy of the live state per search; every iteration then determinizes a
+            // copy of this baseline, whose card zones are shared copy-on-write (see CopyOnWriteZone)
+            // instead of re-cloned from the live lists. Permanents and the per-player maps are
+            // still deep-copied per iteration. Never mutated, so workers may copy it concurrently.
+            GameData baseline = rootState.simulationCopy();
+            if (lease != null && lease.grantedWorkers() > 1) {
+                searchParallel(baseline, aiPlayerId, root, searchStart, deadline, effectiveBudget, lease);
+            } else {
+                searchSequential(baseline, aiPlayerId, root, searchStart, deadline, effectiveBudget);
+            }
+        } finally {
+            lastSearchElapsedMs = System.currentTimeMillis() - searchStart;
+            if (lease != null) {
+                lease.release(lastSearchIterations, lastSearchElapsedMs);
+            }
         }
-        lastSearchElapsedMs = System.currentTimeMillis() - searchStart;
         logSearchOutcome();
 
         // Return the best-scoring adequately-visited child's action
@@ -355,11 +506,149 @@ public class MCTSEngine {
         return bestChild.action;
     }
 
+    /**
+     * Starts pondering: searching, in the background, the decision this AI expects to face next,
+     * while the opponent thinks. A copy of {@code liveState} is played forward with every player
+     * passing priority until the AI has a decision for which {@code rootActionsFor} offers at
+     * least two root actions — the state right after the opponent passes, or this AI's next
+     * main phase (see {@link GameSimulator#advanceToDecision}). That state is then searched into
+     * the warm-start cache on a low-priority thread, so the real search, if the prediction
+     * holds, starts from a grown tree and can stop early.
+     * <p>
+     * The ponder stops as soon as the live state changes, when the next {@link #search} begins,
+     * after {@link #DEFAULT_PONDER_BUDGET_MS} or {@code budget} iterations, and it pauses while
+     * live searches occupy every scheduler slot. Calling again for the state already being
+     * pondered does nothing. Deterministic engines never ponder.
+     *
+     * @param rootActionsFor the root actions the caller would search at a predicted decision,
+     *                       or an empty list where it would not search; called on the ponder
+     *                       thread with the predicted state
+     * @return whether a ponder is running for {@code liveState}
+     */
+    public boolean ponder(GameData liveState, UUID aiPlayerId, int budget,
+                          Function<GameData, List<SimulationAction>> rootActionsFor) {
+        if (!timeBudgetEnabled) {
+            return false;
+        }
+        long liveVersion = liveState.domainStateVersion();
+        if (ponderTask != null && ponderLiveVersion == liveVersion) {
+            return !ponderTask.isDone();
+        }
+        stopPondering();
+        if (!PONDER_PERMITS.tryAcquire()) {
+            return false;
+        }
+        GameData predicted;
+        synchronized (liveState) {
+            // Mutations hold the game's monitor, so this copy is one consistent state
+            if (liveState.domainStateVersion() != liveVersion) {
+                PONDER_PERMITS.release();
+                return false;
+            }
+            predicted = liveState.simulationCopy();
+        }
+        Random ponderRng = new Random(rng.nextLong());
+        ponderCancelled = false;
+        lastPonderIterations = 0;
+        ponderLiveVersion = liveVersion;
+        ponderTask = PONDER_POOL.submit(() -> {
+            // Pooled threads may carry a stale interrupt flag from an earlier ponder
+            Thread.interrupted();
+            SimulationLogSuppressor.enterSimulation();
+            try {
+                runPonder(liveState, liveVersion, predicted, aiPlayerId, budget, rootActionsFor, ponderRng);
+            } finally {
+                SimulationLogSuppressor.exitSimulation();
+                PONDER_PERMITS.release();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Cancels the running ponder, if any, and waits for its current iteration to finish. The
+     * tree it grew stays in the warm-start cache for the next {@link #search} to adopt or discard.
+     */
+    public void stopPondering() {
+        Future<?> task = ponderTask;
+        if (task == null) {
+            return;
+        }
+        ponderCancelled = true;
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("MCTS: pondering failed", e.getCause());
+        }
+        ponderTask = null;
+        ponderLiveVersion = -1;
+    }
+
+    private void runPonder(GameData liveState, long liveVersion, GameData predicted, UUID aiPlayerId,
+                           int budget, Function<GameData, List<SimulationAction>> rootActionsFor,
+                           Random ponderRng) {
+        if (!simulator.advanceToDecision(predicted, aiPlayerId,
+                state -> rootActionsFor.apply(state).size() > 1, PONDER_PREDICTION_PASSES)) {
+            return;
+        }
+        List<SimulationAction> rootActions = List.copyOf(rootActionsFor.apply(predicted));
+        String signature = buildSignature(rootActions);
+        long predictedHash = GameStateHasher.hash(predicted, aiPlayerId);
+        if (predicted.turnNumber != transpositionTurn) {
+            transpositionTable.clear();
+            transpositionTurn = predicted.turnNumber;
+        }
+
+        // Re-pondering the same prediction (the opponent tapped a land, say) keeps growing its tree
+        MCTSNode root;
+        if (cachedFromPonder && cachedPonderHash == predictedHash && signature.equals(cachedSignature)) {
+            root = cachedRoot;
+        } else {
+            root = new MCTSNode(null, null, rootActions);
+            root.childSelectionAdjustments = computeSelectionAdjustments(predicted, aiPlayerId, rootActions);
+            cachedRoot = root;
+            cachedSignature = signature;
+            cachedPonderHash = predictedHash;
+            cachedFromPonder = true;
+        }
+
+        // The prediction is already a private copy; from here on it is the never-mutated baseline
+        long deadline = System.currentTimeMillis() + ponderBudgetMs;
+        int iterations = 0;
+        while (!ponderCancelled
+                && iterations < budget
+                && System.currentTimeMillis() <= deadline
+                && liveState.domainStateVersion() == liveVersion) {
+            if (searchScheduler.activeSearches() >= searchScheduler.slots()) {
+                try {
+                    Thread.sleep(PONDER_YIELD_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                runIteration(predicted, aiPlayerId, root, deadline, ponderRng);
+            } catch (Exception e) {
+                log.trace("MCTS ponder iteration failed: {}", e.getMessage());
+            }
+            lastPonderIterations = ++iterations;
+        }
+        log.debug("MCTS: pondered {} iterations", iterations);
+    }
+
+    /** A human seat is waiting on this decision unless every player in the game is an AI. */
+    private static boolean isHumanWaiting(GameData rootState) {
+        return !rootState.aiPlayerIds.containsAll(rootState.orderedPlayerIds);
+    }
+
     /**
      * Single-threaded search loop: used by deterministic (seeded) engines, where thread
      * scheduling would break reproducibility, and when parallelism is configured to 1.
      */
-    private void searchSequential(GameData rootState, UUID aiPlayerId, MCTSNode root,
+    private void searchSequential(GameData baseline, UUID aiPlayerId, MCTSNode root,
                                   long searchStart, long deadline, int effectiveBudget) {
         for (int i = 0; i < effectiveBudget; i++) {
             if (timeBudgetEnabled && System.currentTimeMillis() > deadline) {
@@ -369,7 +658,9 @@ public class MCTSEngine {
             lastSearchIterations = i + 1;
 
             try {
-                runIteration(rootState, aiPlayerId, root, deadline, rng);
+                if (!runIteration(baseline, aiPlayerId, root, deadline, rng)) {
+                    lastSearchDiscarded++;
+                }
             } catch (Exception e) {
                 lastSearchFailures++;
                 recordFailureCause(e);
@@ -385,41 +676,56 @@ public class MCTSEngine {
     }
 
     /**
-     * Root-parallel search loop over the shared tree: {@link #parallelism} workers run
+     * Root-parallel search loop over the shared tree: the lease's granted workers run
      * {@link #runIteration} concurrently, each on its own determinized state with its own
-     * RNG, meeting only at the tree lock. Workers stop at the deadline, when the shared
-     * iteration budget is exhausted, or when the convergence check settles the decision.
+     * RNG, meeting only at the shared tree. Workers stop at the deadline, when the shared
+     * iteration budget is exhausted, when the convergence check settles the decision, or —
+     * one by one, from the highest index down — when the scheduler shrinks the grant.
      */
-    private void searchParallel(GameData rootState, UUID aiPlayerId, MCTSNode root,
-                                long searchStart, long deadline, int effectiveBudget) {
+    private void searchParallel(GameData baseline, UUID aiPlayerId, MCTSNode root,
+                                long searchStart, long deadline, int effectiveBudget,
+                                MCTSSearchScheduler.Lease lease) {
         AtomicInteger started = new AtomicInteger();
         AtomicInteger completed = new AtomicInteger();
         AtomicInteger failures = new AtomicInteger();
+        AtomicInteger discarded = new AtomicInteger();
         AtomicBoolean decided = new AtomicBoolean();
 
-        List<Future<?>> workers = new ArrayList<>(parallelism);
-        for (int w = 0; w < parallelism; w++) {
+        int workerCount = lease.grantedWorkers();
+        List<Future<?>> workers = new ArrayList<>(workerCount);
+        for (int w = 0; w < workerCount; w++) {
             Random workerRng = new Random(rng.nextLong());
+            int workerIndex = w;
             workers.add(SEARCH_POOL.submit(() -> {
                 // Pooled threads may carry a stale interrupt flag from a cancelled search
                 Thread.interrupted();
                 SimulationLogSuppressor.enterSimulation();
                 try {
                     while (!decided.get()
+                            && lease.keepRunning(workerIndex)
                             && System.currentTimeMillis() <= deadline
                             && started.incrementAndGet() <= effectiveBudget) {
                         try {
-                            runIteration(rootState, aiPlayerId, root, deadline, workerRng);
+                            if (!runIteration(baseline, aiPlayerId, root, deadline, workerRng)) {
+                                discarded.incrementAndGet();
+                            }
                         } catch (Exception e) {
                             failures.incrementAndGet();
                             recordFailureCause(e);
                             log.trace("MCTS simulation failed: {}", e.getMessage());
                         }
                         int done = completed.incrementAndGet();
-                        synchronized (treeLock) {
+                        if (lockFreeTree) {
+                            // Reads a slightly stale snapshot at worst; a later iteration re-checks
                             if (isDecided(root, done, searchStart, deadline, effectiveBudget)) {
                                 decided.set(true);
                             }
+                        } else {
+                            synchronized (treeLock) {
+                                if (isDecided(root, done, searchStart, deadline, effectiveBudget)) {
+                                    decided.set(true);
+                                }
+                            }
                         }
                     }
                 } finally {
@@ -446,38 +752,58 @@ public class MCTSEngine {
 
         lastSearchIterations = completed.get();
         lastSearchFailures = failures.get();
+        lastSearchDiscarded = discarded.get();
         lastSearchEarlyStopped = decided.get();
     }
 
     /**
      * One MCTS iteration: determinize → select → replay → expand → rollout → backpropagate.
-     * Tree reads and writes happen under {@link #treeLock}; the expensive phases
-     * (determinization, path replay, expansion legality pass, rollout) run outside it, so
-     * parallel workers spend almost no time contending.
+     * {@code baseline} is the search's private simulation copy of the live root state.
+     * Tree reads and writes happen under {@link #treeLock} or, in the lock-free tree, through
+     * atomic node updates; the expensive phases (determinization, path replay, expansion
+     * legality pass, rollout) never hold anything.
      * <p>
-     * Expansion uses reserve-then-commit: the untried action is removed under the lock
-     * (so no other worker expands it), applied outside the lock, and the child committed
-     * under the lock. If the iteration fails or the replay ends in a terminal state, the
+     * Expansion uses reserve-then-commit: the untried action is removed under the node's
+     * monitor (so no other worker expands it), applied outside any lock, and the child
+     * committed afterwards. If the iteration fails or the replay ends in a terminal state, the
      * reservation is restored at its original position so the action is not lost and the
      * sequential expansion order stays identical to the pre-parallel implementation.
+     *
+     * @return whether the iteration's reward was backpropagated; {@code false} when it was
+     *         discarded (a deadline-truncated rollout, or a lock-free worker that lost the root's
+     *         last untried action to another worker and has no child to credit the visit to)
      */
-    private void runIteration(GameData rootState, UUID aiPlayerId, MCTSNode root,
+    private boolean runIteration(GameData baseline, UUID aiPlayerId, MCTSNode root,
                               long deadline, Random iterationRng) {
         // 1. DETERMINIZE: Create a plausible complete-information state
-        GameData simState = determinizer.determinize(rootState, aiPlayerId, iterationRng);
+        GameData simState = determinizer.determinize(baseline, aiPlayerId, iterationRng);
 
-        // 2. SELECT: Traverse tree using UCB1, reserving one untried action for expansion
+        // 2. SELECT: Traverse tree using UCB1, reserving one untried action for expansion.
+        //    The lock-free tree marks the path with virtual loss instead of locking the tree.
         MCTSNode node;
-        SimulationAction reserved = null;
-        synchronized (treeLock) {
-            node = select(root);
-            if (!node.untriedActions.isEmpty()) {
-                reserved = node.untriedActions.removeFirst();
+        MCTSNode selected;
+        SimulationAction reserved;
+        if (lockFreeTree) {
+            node = selectWithVirtualLoss(root);
+            reserved = node.reserveUntriedAction();
+        } else {
+            synchronized (treeLock) {
+                node = select(root);
+                reserved = node.reserveUntriedAction();
             }
         }
+        selected = node;
 
         boolean expanded = false;
+        boolean backpropagated = false;
         try {
+            if (node == root && reserved == null) {
+                // Lock-free selection stops at the root while it still has untried actions; when
+                // another worker reserved the last one in between, a rollout from here would
+                // count a root visit that no child records.
+                return false;
+            }
+
             // 3. REPLAY: Apply all actions along the tree path to synchronize
             //    the determinized state with the selected node's position.
             //    Without this, deeper tree nodes would evaluate from the wrong state.
@@ -496,12 +822,19 @@ public class MCTSEngine {
                 List<SimulationAction> childActions = simulator.isTerminal(simState)
                         ? List.of()
                         : simulator.getLegalActions(simState, aiPlayerId);
-                synchronized (treeLock) {
-                    MCTSNode expandedFrom = node;
-                    node = expandedFrom.addExpandedChild(reserved, childActions);
-                    if (expandedFrom.childSelectionAdjustments != null) {
-                        node.selectionAdjustment = expandedFrom.childSelectionAdjustments
-                                .getOrDefault(canonicalString(reserved), 0.0);
+                double adjustment = node.childSelectionAdjustments != null
+                        ? node.childSelectionAdjustments.getOrDefault(canonicalString(reserved), 0.0)
+                        : 0.0;
+                TranspositionTable.Entry transposition = transpositions
+                        ? lookupTransposition(simState, aiPlayerId)
+                        : null;
+                if (lockFreeTree) {
+                    node = node.addExpandedChild(reserved, childActions, adjustment,
+                            transposition, TRANSPOSITION_PRIOR_VISIT_CAP);
+                } else {
+                    synchronized (treeLock) {
+                        node = node.addExpandedChild(reserved, childActions, adjustment,
+                                transposition, TRANSPOSITION_PRIOR_VISIT_CAP);
                     }
                 }
                 expanded = true;
@@ -514,17 +847,52 @@ public class MCTSEngine {
             //    Deadline-truncated rollouts (NaN) are discarded — their reward is
             //    biased against the just-cast spell (see rollout javadoc).
             if (!Double.isNaN(reward)) {
-                synchronized (treeLock) {
-                    backpropagate(node, reward);
+                if (lockFreeTree) {
+                    for (MCTSNode visited = node; visited != null; visited = visited.parent) {
+                        visited.recordVisit(reward);
+                        if (visited.transposition != null) {
+                            visited.transposition.recordVisit(reward);
+                        }
+                    }
+                } else {
+                    synchronized (treeLock) {
+                        backpropagate(node, reward);
+                    }
                 }
+                backpropagated = true;
             }
         } finally {
             if (reserved != null && !expanded) {
-                synchronized (treeLock) {
-                    node.untriedActions.add(0, reserved);
+                if (lockFreeTree) {
+                    selected.restoreUntriedAction(reserved);
+                } else {
+                    synchronized (treeLock) {
+                        selected.restoreUntriedAction(reserved);
+                    }
+                }
+            }
+            if (lockFreeTree) {
+                for (MCTSNode marked = selected; marked != null; marked = marked.parent) {
+                    marked.removeVirtualLoss();
                 }
             }
         }
+        return backpropagated;
+    }
+
+    /**
+     * Finds the transposition entry for the position an expansion just reached, counting a hit
+     * when another path or an earlier search of this turn already has statistics for it.
+     */
+    private TranspositionTable.Entry lookupTransposition(GameData simState, UUID aiPlayerId) {
+        TranspositionTable.Entry entry = transpositionTable.lookup(GameStateHasher.hash(simState, aiPlayerId));
+        lastSearchTranspositionLookups.incrementAndGet();
+        long seen = entry.visits();
+        if (seen > 0) {
+            lastSearchTranspositionHits.incrementAndGet();
+            lastSearchTranspositionPriorVisits.addAndGet(Math.min(seen, TRANSPOSITION_PRIOR_VISIT_CAP));
+        }
+        return entry;
     }
 
     /**
@@ -547,8 +915,14 @@ public class MCTSEngine {
      */
     private void logSearchOutcome() {
         int completed = lastSearchIterations - lastSearchFailures;
-        log.debug("MCTS: search done - completed={}, failed={}, elapsedMs={}, earlyStopped={}, cacheHits={}, cacheMisses={}",
-                completed, lastSearchFailures, lastSearchElapsedMs, lastSearchEarlyStopped, cacheHits, cacheMisses);
+        log.debug("MCTS: search done - completed={}, failed={}, elapsedMs={}, earlyStopped={}, cacheHits={}, cacheMisses={}, "
+                        + "ponderHits={}, ponderMisses={}, "
+                        + "workers={}/{} requested, budgetMs={}/{} requested, transpositionHits={}/{} (+{} prior visits)",
+                completed, lastSearchFailures, lastSearchElapsedMs, lastSearchEarlyStopped, cacheHits, cacheMisses,
+                ponderHits, ponderMisses,
+                lastSearchGrantedWorkers, lastSearchRequestedWorkers, lastSearchGrantedBudgetMs, timeBudgetMs,
+                lastSearchTranspositionHits.get(), lastSearchTranspositionLookups.get(),
+                lastSearchTranspositionPriorVisits.get());
         if (lastSearchFailures >= FAILURE_WARN_MIN_FAILURES && lastSearchFailures > completed) {
             List<String> topCauses = lastSearchFailureCauses.entrySet().stream()
                     .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
@@ -621,6 +995,29 @@ public class MCTSEngine {
         return node != null ? node : new MCTSNode(null, null, List.of());
     }
 
+    /**
+     * Lock-free SELECT: the same UCB1 walk as {@link #select}, adding a virtual loss to every node
+     * on the path (root included) as it goes, so workers selecting concurrently see this path as
+     * temporarily worse and fan out. {@link #runIteration} removes the losses when it finishes.
+     * A worker may read a child list or counters mid-update by another; UCB1 only needs an
+     * approximately current picture, so no lock is taken.
+     */
+    private MCTSNode selectWithVirtualLoss(MCTSNode root) {
+        MCTSNode node = root;
+        while (node.isFullyExpanded() && !node.isLeaf()) {
+            MCTSNode next = node.bestChild(EXPLORATION_CONSTANT);
+            if (next == null) {
+                break;
+            }
+            // Marked only after choosing among its children, so a lone worker never sees its
+            // own losses and selects exactly as the locked tree does
+            node.addVirtualLoss();
+            node = next;
+        }
+        node.addVirtualLoss();
+        return node;
+    }
+
     /**
      * ROLLOUT phase: From the current state, play out using softmax/epsilon-greedy
      * heuristic policy for a limited number of moves, then evaluate.
@@ -820,6 +1217,9 @@ public class MCTSEngine {
         while (node != null) {
             node.visits++;
             node.totalReward += reward;
+            if (node.transposition != null) {
+                node.transposition.recordVisit(reward);
+            }
             node = node.parent;
         }
     }
@@ -841,13 +1241,53 @@ public class MCTSEngine {
         this.parallelism = Math.max(1, parallelism);
     }
 
+    /** Selects the lock-free tree (default) or the global tree lock; see {@link #lockFreeTree}. */
+    public void setLockFreeTree(boolean lockFreeTree) {
+        this.lockFreeTree = lockFreeTree;
+    }
+
+    /**
+     * Turns the transposition table on or off (see {@link #transpositionTable}); on by default for
+     * time-budgeted engines, off for deterministic ones.
+     */
+    public void setTranspositions(boolean transpositions) {
+        this.transpositions = transpositions;
+    }
+
+    /** Overrides how long one ponder may search (see {@link #DEFAULT_PONDER_BUDGET_MS}). */
+    public void setPonderBudgetMs(long ponderBudgetMs) {
+        this.ponderBudgetMs = ponderBudgetMs;
+    }
+
+    /** Replaces the server-wide search scheduler, e.g. with a private one in benchmarks. */
+    public void setSearchScheduler(MCTSSearchScheduler searchScheduler) {
+        this.searchScheduler = searchScheduler;
+    }
+
     /**
      * Clears the warm-start cache. The next {@link #search} call will build a
      * fresh tree regardless of legal-action signature match.
      */
     public void clearCache() {
+        stopPondering();
         cachedRoot = null;
         cachedSignature = null;
+        cachedFromPonder = false;
+    }
+
+    /** Workers the most recent {@link #search} call asked the scheduler for. */
+    public int getLastSearchRequestedWorkers() {
+        return lastSearchRequestedWorkers;
+    }
+
+    /** Workers the scheduler granted the most recent {@link #search} call at its start. */
+    public int getLastSearchGrantedWorkers() {
+        return lastSearchGrantedWorkers;
+    }
+
+    /** Think time the scheduler granted the most recent {@link #search} call (0 when untimed). */
+    public long getLastSearchGrantedBudgetMs() {
+        return lastSearchGrantedBudgetMs;
     }
 
     /** Iterations attempted by the most recent {@link #search} call. Exposed for benchmarks/diagnostics. */
@@ -860,6 +1300,14 @@ public class MCTSEngine {
         return lastSearchFailures;
     }
 
+    /**
+     * Iterations of the most recent {@link #search} call that completed without backpropagating
+     * a reward (see {@link #runIteration}).
+     */
+    public int getLastSearchDiscarded() {
+        return lastSearchDiscarded;
+    }
+
     /**
      * Failed-iteration causes of the most recent {@link #search} call, keyed by
      * exception class + message (at most {@link #MAX_FAILURE_CAUSE_KEYS} distinct keys).
@@ -878,6 +1326,29 @@ public class MCTSEngine {
         return lastSearchEarlyStopped;
     }
 
+    /** Expansions of the most recent {@link #search} call that looked up the transposition table. */
+    public int getLastSearchTranspositionLookups() {
+        return lastSearchTranspositionLookups.get();
+    }
+
+    /** Lookups of the most recent {@link #search} call that found statistics already recorded. */
+    public int getLastSearchTranspositionHits() {
+        return lastSearchTranspositionHits.get();
+    }
+
+    /**
+     * Visits the most recent {@link #search} call inherited from the transposition table — the
+     * iterations it did not have to spend re-estimating positions reached before.
+     */
+    public long getLastSearchTranspositionPriorVisits() {
+        return lastSearchTranspositionPriorVisits.get();
+    }
+
+    /** Positions currently held in the transposition table. */
+    public int getTranspositionTableSize() {
+        return transpositionTable.size();
+    }
+
     /** Number of times {@link #search} reused the cached tree. Exposed for tests/diagnostics. */
     public int getCacheHits() {
         return cacheHits;
@@ -888,6 +1359,21 @@ public class MCTSEngine {
         return cacheMisses;
     }
 
+    /** Searches that adopted a pondered tree because the prediction held. */
+    public int getPonderHits() {
+        return ponderHits;
+    }
+
+    /** Pondered trees discarded because the live decision was not the predicted one. */
+    public int getPonderMisses() {
+        return ponderMisses;
+    }
+
+    /** Iterations the most recent ponder has run so far. */
+    public int getLastPonderIterations() {
+        return lastPonderIterations;
+    }
+
     /**
      * Returns the sum of visit counts across the cached root's children — i.e. the
      * total number of MCTS iterations that have flowed through the current warm-start
@@ -902,6 +1388,11 @@ public class MCTSEngine {
         return sum;
     }
 
+    /** Visit count of the cached root itself — every backpropagated iteration passes through it. */
+    public int getCachedRootVisits() {
+        return cachedRoot == null ? 0 : cachedRoot.visits;
+    }
+
     /**
      * Builds a stable signature from the root legal-action list. Two states produce the
      * same signature iff they present the same set of root decisions to the AI — which
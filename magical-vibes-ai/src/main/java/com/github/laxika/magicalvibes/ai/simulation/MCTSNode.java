@@ -1,23 +1,55 @@
 package com.github.laxika.magicalvibes.ai.simulation;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Node in the MCTS search tree.
  * Tracks visit counts and accumulated rewards for UCB1 selection.
+ * <p>
+ * Safe for both tree modes of {@link MCTSEngine}: under the global tree lock the plain
+ * {@code visits++} / {@code totalReward +=} updates are used; the lock-free tree updates the same
+ * volatile fields atomically ({@link #recordVisit}) and spreads concurrent workers with
+ * {@link #virtualLoss}. Children are appended copy-on-write, so readers never need a lock, and
+ * the untried actions are guarded by the node's own monitor.
  */
 class MCTSNode {
 
+    private static final VarHandle VISITS;
+    private static final VarHandle TOTAL_REWARD;
+    private static final VarHandle VIRTUAL_LOSS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VISITS = lookup.findVarHandle(MCTSNode.class, "visits", int.class);
+            TOTAL_REWARD = lookup.findVarHandle(MCTSNode.class, "totalReward", double.class);
+            VIRTUAL_LOSS = lookup.findVarHandle(MCTSNode.class, "virtualLoss", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     final SimulationAction action;        // action that led to this node (null for root)
     final MCTSNode parent;
-    final List<MCTSNode> children = new ArrayList<>();
-    final List<SimulationAction> untriedActions;  // actions not yet expanded
-    int visits = 0;
-    double totalReward = 0.0;
+    final List<MCTSNode> children = new CopyOnWriteArrayList<>();
+    private final List<SimulationAction> untriedActions;  // actions not yet expanded; guarded by this
+    private volatile int untriedCount;
+    volatile int visits = 0;
+    volatile double totalReward = 0.0;
+
+    /**
+     * Workers currently below this node in the lock-free tree. Each counts as a visit with zero
+     * reward in {@link #ucb1}, so concurrent workers are steered apart instead of all descending
+     * the same most-promising path. Always zero under the global tree lock.
+     */
+    volatile int virtualLoss = 0;
 
     /**
      * Reward-scale adjustment applied to this node's action at final selection, carrying what the
@@ -30,25 +62,77 @@ class MCTSNode {
     /**
      * Selection adjustments for this node's children, keyed by {@link MCTSEngine#canonicalString}.
      * Set on the root only, before the search starts, and read-only afterwards — which is what
-     * lets parallel workers adjust a child they expand without extra synchronization beyond the
-     * tree lock.
+     * lets parallel workers adjust a child they expand without extra synchronization.
      */
     Map<String, Double> childSelectionAdjustments;
 
+    /**
+     * Statistics shared with every other node reaching the same information set (see
+     * {@link TranspositionTable}); null when the engine runs without transpositions. Backpropagation
+     * feeds it alongside this node's own counters.
+     */
+    TranspositionTable.Entry transposition;
+
+    /**
+     * Visits and reward this node was seeded with from its {@link #transposition} entry when it was
+     * expanded. They only steer {@link #ucb1}; visit floors and final selection count the node's own
+     * visits alone.
+     */
+    double priorVisits = 0.0;
+    double priorReward = 0.0;
+
     MCTSNode(SimulationAction action, MCTSNode parent, List<SimulationAction> legalActions) {
         this.action = action;
         this.parent = parent;
         this.untriedActions = new ArrayList<>(legalActions);
+        this.untriedCount = untriedActions.size();
     }
 
     /**
      * Upper Confidence Bound for Trees (UCB1) formula.
      * Balances exploitation (average reward) and exploration (visit count).
+     * Pending virtual losses count as zero-reward visits; transposition priors as visits already
+     * made.
      */
     double ucb1(double explorationParam) {
-        if (visits == 0) return Double.MAX_VALUE;
-        return (totalReward / visits)
-                + explorationParam * Math.sqrt(Math.log(parent.visits) / visits);
+        double n = visits + virtualLoss + priorVisits;
+        if (n == 0) return Double.MAX_VALUE;
+        int parentN = Math.max(1, parent.visits + parent.virtualLoss);
+        return ((totalReward + priorReward) / n)
+                + explorationParam * Math.sqrt(Math.log(parentN) / n);
+    }
+
+    /** Removes and returns the first untried action, or null when fully expanded. */
+    synchronized SimulationAction reserveUntriedAction() {
+        if (untriedActions.isEmpty()) {
+            return null;
+        }
+        SimulationAction reserved = untriedActions.removeFirst();
+        untriedCount = untriedActions.size();
+        return reserved;
+    }
+
+    /** Puts back a reservation whose expansion did not happen, at its original position. */
+    synchronized void restoreUntriedAction(SimulationAction reserved) {
+        untriedActions.addFirst(reserved);
+        untriedCount = untriedActions.size();
+    }
+
+    /** Atomically adds one visit with {@code reward}; used by the lock-free tree. */
+    void recordVisit(double reward) {
+        VISITS.getAndAdd(this, 1);
+        double current;
+        do {
+            current = (double) TOTAL_REWARD.getVolatile(this);
+        } while (!TOTAL_REWARD.compareAndSet(this, current, current + reward));
+    }
+
+    void addVirtualLoss() {
+        VIRTUAL_LOSS.getAndAdd(this, 1);
+    }
+
+    void removeVirtualLoss() {
+        VIRTUAL_LOSS.getAndAdd(this, -1);
     }
 
     /**
@@ -131,18 +215,31 @@ class MCTSNode {
 
     /**
      * Expands this node by creating a child for the given action. The action must
-     * already have been reserved (removed from {@link #untriedActions}) by the caller —
+     * already have been reserved ({@link #reserveUntriedAction}) by the caller —
      * the reserve-then-commit split lets the parallel search apply the action and
-     * enumerate the child's legal moves outside the tree lock.
+     * enumerate the child's legal moves outside any lock. A non-null {@code transposition} seeds
+     * the child with up to {@code priorVisitCap} of the visits already recorded for its state.
      */
-    MCTSNode addExpandedChild(SimulationAction action, List<SimulationAction> childActions) {
+    MCTSNode addExpandedChild(SimulationAction action, List<SimulationAction> childActions,
+                              double selectionAdjustment, TranspositionTable.Entry transposition,
+                              int priorVisitCap) {
         MCTSNode child = new MCTSNode(action, this, childActions);
+        // Set before publishing, so no reader ever sees the child without its adjustment or prior
+        child.selectionAdjustment = selectionAdjustment;
+        if (transposition != null) {
+            child.transposition = transposition;
+            long seen = transposition.visits();
+            if (seen > 0) {
+                child.priorVisits = Math.min(seen, priorVisitCap);
+                child.priorReward = transposition.totalReward() / seen * child.priorVisits;
+            }
+        }
         children.add(child);
         return child;
     }
 
     boolean isFullyExpanded() {
-        return untriedActions.isEmpty();
+        return untriedCount == 0;
     }
 
     boolean isLeaf() {
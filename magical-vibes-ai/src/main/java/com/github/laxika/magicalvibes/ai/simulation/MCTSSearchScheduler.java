@@ -0,0 +1,176 @@
+package com.github.laxika.magicalvibes.ai.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide allocator of MCTS worker slots. Every time-budgeted search takes a {@link Lease}
+ * for as long as it runs; the slots ({@link MCTSEngine#autoParallelism()} by default, overridable
+ * with {@code -DmctsWorkerSlots=N}) are shared out among active searches by weighted water-filling,
+ * so ten concurrent searches split half the cores instead of each taking half the cores.
+ *
+ * <ul>
+ *   <li><b>Fair share</b> — each search gets at most {@code slots × weight / totalWeight} workers
+ *       (never fewer than one); what a search does not ask for goes to the others.</li>
+ *   <li><b>Priority</b> — a search a human is waiting on weighs {@link #PRIORITY_WEIGHT} times
+ *       as much. While one runs and the slots are oversubscribed, background searches (AI-only
+ *       games) also get a shortened time budget, down to half of what they asked for.</li>
+ *   <li><b>Graceful shrinking</b> — grants are recomputed whenever a search starts or ends;
+ *       workers of a search whose grant shrank finish their iteration and leave
+ *       ({@link Lease#keepRunning}). Grants never grow mid-search.</li>
+ * </ul>
+ *
+ * Requested versus granted worker-time and the iterations achieved are accumulated, so the
+ * effect of sharing shows up as iterations per requested worker-second.
+ */
+public final class MCTSSearchScheduler {
+
+    static final int PRIORITY_WEIGHT = 2;
+    private static final double MIN_BACKGROUND_BUDGET_FRACTION = 0.5;
+
+    private static final MCTSSearchScheduler SHARED =
+            new MCTSSearchScheduler(Integer.getInteger("mctsWorkerSlots", MCTSEngine.autoParallelism()));
+
+    private final int slots;
+    private final List<Lease> active = new ArrayList<>();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder shrunkSearches = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder requestedWorkerMs = new LongAdder();
+    private final LongAdder grantedWorkerMs = new LongAdder();
+
+    public MCTSSearchScheduler(int slots) {
+        this.slots = Math.max(1, slots);
+    }
+
+    public static MCTSSearchScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a search that wants {@code requestedWorkers} workers for {@code requestedBudgetMs}
+     * and returns its lease. The caller starts {@link Lease#grantedWorkers()} workers, searches
+     * for {@link Lease#grantedBudgetMs()} and releases the lease when done.
+     */
+    public synchronized Lease acquire(int requestedWorkers, long requestedBudgetMs, boolean humanWaiting) {
+        Lease lease = new Lease(Math.max(1, requestedWorkers), requestedBudgetMs, humanWaiting);
+        active.add(lease);
+        rebalance();
+        lease.grantedBudgetMs = humanWaiting ? requestedBudgetMs : backgroundBudget(requestedBudgetMs);
+        lease.initialGrant = lease.grantedWorkers;
+        searches.increment();
+        return lease;
+    }
+
+    private synchronized void release(Lease lease, int achievedIterations, long elapsedMs) {
+        if (!active.remove(lease)) {
+            return;
+        }
+        rebalance();
+        iterations.add(achievedIterations);
+        requestedWorkerMs.add(lease.requestedWorkers * lease.requestedBudgetMs);
+        grantedWorkerMs.add(lease.initialGrant * Math.min(elapsedMs, lease.grantedBudgetMs));
+        if (lease.shrunk) {
+            shrunkSearches.increment();
+        }
+    }
+
+    /**
+     * Weighted water-filling: the searches asking for the least per unit of weight are served
+     * first, so a search that wants one worker never holds back a share it cannot use.
+     */
+    private void rebalance() {
+        List<Lease> byDemand = new ArrayList<>(active);
+        byDemand.sort(Comparator.comparingDouble(lease -> (double) lease.requestedWorkers / lease.weight()));
+        int remainingSlots = slots;
+        int remainingWeight = byDemand.stream().mapToInt(Lease::weight).sum();
+        for (Lease lease : byDemand) {
+            int share = Math.max(1, remainingSlots * lease.weight() / remainingWeight);
+            int grant = Math.min(lease.requestedWorkers, share);
+            if (grant < lease.grantedWorkers) {
+                lease.shrunk = true;
+            }
+            // Grants only ever shrink once a search has started its workers
+            lease.grantedWorkers = lease.grantedWorkers == 0 ? grant : Math.min(lease.grantedWorkers, grant);
+            remainingSlots = Math.max(0, remainingSlots - grant);
+            remainingWeight -= lease.weight();
+        }
+    }
+
+    private long backgroundBudget(long requestedBudgetMs) {
+        boolean humanSearchActive = active.stream().anyMatch(lease -> lease.humanWaiting);
+        int demand = active.stream().mapToInt(lease -> lease.requestedWorkers).sum();
+        if (!humanSearchActive || demand <= slots) {
+            return requestedBudgetMs;
+        }
+        double fraction = Math.max(MIN_BACKGROUND_BUDGET_FRACTION, (double) slots / demand);
+        return (long) (requestedBudgetMs * fraction);
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    public synchronized int activeSearches() {
+        return active.size();
+    }
+
+    /** Iterations achieved per second of worker time the searches asked for. */
+    public double iterationsPerRequestedWorkerSecond() {
+        long requested = requestedWorkerMs.sum();
+        return requested == 0 ? 0 : iterations.sum() * 1000.0 / requested;
+    }
+
+    public String metricsSummary() {
+        return "slots=" + slots + " active=" + activeSearches() + " searches=" + searches.sum()
+                + " shrunk=" + shrunkSearches.sum() + " iterations=" + iterations.sum()
+                + " requestedWorkerMs=" + requestedWorkerMs.sum() + " grantedWorkerMs=" + grantedWorkerMs.sum()
+                + String.format(" iterationsPerRequestedWorkerSecond=%.1f", iterationsPerRequestedWorkerSecond());
+    }
+
+    /** One active search's share of the worker slots. */
+    public final class Lease {
+
+        private final int requestedWorkers;
+        private final long requestedBudgetMs;
+        private final boolean humanWaiting;
+        private volatile int grantedWorkers;
+        private int initialGrant;
+        private long grantedBudgetMs;
+        private boolean shrunk;
+
+        private Lease(int requestedWorkers, long requestedBudgetMs, boolean humanWaiting) {
+            this.requestedWorkers = requestedWorkers;
+            this.requestedBudgetMs = requestedBudgetMs;
+            this.humanWaiting = humanWaiting;
+        }
+
+        private int weight() {
+            return humanWaiting ? PRIORITY_WEIGHT : 1;
+        }
+
+        public int requestedWorkers() {
+            return requestedWorkers;
+        }
+
+        public int grantedWorkers() {
+            return grantedWorkers;
+        }
+
+        public long grantedBudgetMs() {
+            return grantedBudgetMs;
+        }
+
+        /** Whether worker {@code workerIndex} (0-based) is still within the current grant. */
+        public boolean keepRunning(int workerIndex) {
+            return workerIndex < grantedWorkers;
+        }
+
+        /** Ends the search, returning its slots and recording what it achieved. */
+        public void release(int achievedIterations, long elapsedMs) {
+            MCTSSearchScheduler.this.release(this, achievedIterations, elapsedMs);
+        }
+    }
+}
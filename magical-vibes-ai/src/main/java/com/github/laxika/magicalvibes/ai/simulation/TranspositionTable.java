@@ -0,0 +1,64 @@
+package com.github.laxika.magicalvibes.ai.simulation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded table of search statistics keyed by {@link GameStateHasher} hash, shared by every node
+ * that reaches the same information set — whichever path led there, and across consecutive
+ * searches of one engine. The least recently used entry is evicted once the table is full.
+ * <p>
+ * Lookups are serialized on the table; entry statistics are updated lock-free, so parallel
+ * workers only contend for the lookup itself, once per expansion.
+ */
+final class TranspositionTable {
+
+    static final int DEFAULT_CAPACITY = 50_000;
+
+    private final Map<Long, Entry> entries;
+
+    TranspositionTable(int capacity) {
+        int bound = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > bound;
+            }
+        };
+    }
+
+    /** Returns the entry for {@code hash}, creating an empty one on first sight. */
+    synchronized Entry lookup(long hash) {
+        return entries.computeIfAbsent(hash, ignored -> new Entry());
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /** Visit statistics accumulated by every node sharing one hash. */
+    static final class Entry {
+
+        private final LongAdder visits = new LongAdder();
+        private final DoubleAdder totalReward = new DoubleAdder();
+
+        void recordVisit(double reward) {
+            totalReward.add(reward);
+            visits.increment();
+        }
+
+        long visits() {
+            return visits.sum();
+        }
+
+        double totalReward() {
+            return totalReward.sum();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.github.laxika.magicalvibes.ai.simulation.MCTSEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless AI-vs-AI tournament: plays thousands of all-random-decks games between AI
+ * configurations on every core and reports throughput (games/s, decisions/s), per-decision latency
+ * and ratings — so a performance change can be judged by whether it bought strength or cost it.
+ *
+ * <p>Games are split across a {@link ForkJoinPool} by recursive halving, so idle workers steal
+ * whole games from busy ones; each game runs start to finish on one worker with no think delays
+ * (see {@link TournamentMatch}). Entrants meet round-robin, alternating who creates the game. Hard
+ * entrants search single-threaded by default, since the games already fill the cores.
+ *
+ * <p>Run with {@code ./gradlew :magical-vibes-ai:aiTournament --args="..."}. Options:
+ * <ul>
+ *   <li>{@code --entrants=EASY,MEDIUM,HARD:250} — {@code HARD:<ms>} sets that entrant's MCTS
+ *       think time; a bare {@code HARD} uses {@code --mcts-budget-ms}</li>
+ *   <li>{@code --games=300}, {@code --threads=<cores>}, {@code --max-turns=60},
+ *       {@code --max-decisions=20000} (wake-ups per game before it counts as stalled)</li>
+ *   <li>{@code --mcts-budget-ms=250}, {@code --mcts-parallelism=1}</li>
+ *   <li>{@code --set=<code>} to draw the random decks from one set; {@code --verbose} keeps the
+ *       engine's INFO logging</li>
+ * </ul>
+ */
+@Slf4j
+public final class AiTournamentRunner {
+
+    private final List<TournamentEntrant> entrants;
+    private final List<TournamentEntrant[]> pairings;
+    private final int games;
+    private final int threads;
+    private final TournamentStandings standings;
+    private final TournamentMatch match;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final int progressInterval;
+    private long startedAt;
+
+    private AiTournamentRunner(Map<String, String> options, AnnotationConfigApplicationContext context) {
+        long defaultBudgetMs = Long.parseLong(options.getOrDefault("mcts-budget-ms", "250"));
+        this.entrants = new ArrayList<>();
+        Set<String> labels = new HashSet<>();
+        for (String spec : options.getOrDefault("entrants", "EASY,MEDIUM,HARD:250").split(",")) {
+            TournamentEntrant entrant = TournamentEntrant.parse(spec, defaultBudgetMs);
+            if (!labels.add(entrant.label())) {
+                throw new IllegalArgumentException("Entrant " + entrant.label() + " is listed twice");
+            }
+            entrants.add(entrant);
+        }
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants");
+        }
+        this.pairings = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            for (int j = i + 1; j < entrants.size(); j++) {
+                pairings.add(new TournamentEntrant[]{entrants.get(i), entrants.get(j)});
+            }
+        }
+        this.games = Integer.parseInt(options.getOrDefault("games", "300"));
+        this.threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.standings = new TournamentStandings(entrants);
+        this.match = new TournamentMatch(context, standings,
+                Integer.parseInt(options.getOrDefault("max-turns", "60")),
+                Integer.parseInt(options.getOrDefault("max-decisions", "20000")),
+                Integer.parseInt(options.getOrDefault("mcts-parallelism",
+                        String.valueOf(MCTSEngine.DEFAULT_PARALLELISM))),
+                options.get("set"));
+        this.progressInterval = Math.max(1, games / 20);
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        if (!options.containsKey("verbose")) {
+            quietLogging();
+        }
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(TournamentDoublesConfig.class)) {
+            new AiTournamentRunner(options, context).run();
+        }
+    }
+
+    private void run() {
+        System.out.printf(Locale.ROOT, "Tournament: %d games, %d workers, entrants %s%n",
+                games, threads, entrants.stream().map(TournamentEntrant::label).toList());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            startedAt = System.nanoTime();
+            pool.invoke(new PlayGames(0, games));
+            standings.print(System.out, System.nanoTime() - startedAt);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void playGame(int gameIndex) {
+        TournamentEntrant[] pairing = pairings.get(gameIndex % pairings.size());
+        boolean swapped = (gameIndex / pairings.size()) % 2 == 1;
+        TournamentEntrant first = swapped ? pairing[1] : pairing[0];
+        TournamentEntrant second = swapped ? pairing[0] : pairing[1];
+        try {
+            standings.recordGame(first, second, match.play(gameIndex + 1, first, second));
+        } catch (RuntimeException e) {
+            // Setup failed before the game could start; nothing to score.
+            log.error("Tournament game {} could not be played", gameIndex + 1, e);
+            standings.recordGame(first, second,
+                    new TournamentMatch.Result(TournamentMatch.Outcome.STALLED, 0, 0));
+        }
+        int done = completed.incrementAndGet();
+        if (done % progressInterval == 0 || done == games) {
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            System.out.printf(Locale.ROOT, "  %d/%d games (%.2f games/s)%n", done, games, done / seconds);
+        }
+    }
+
+    /** Plays games {@code [from, to)}, halving the range until each task holds one game. */
+    private final class PlayGames extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private PlayGames(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    playGame(from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PlayGames(from, middle), new PlayGames(middle, to));
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'; options look like --games=1000");
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    /** Thousands of games would bury the report under the engine's per-game INFO logging. */
+    private static void quietLogging() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        }
+    }
+}
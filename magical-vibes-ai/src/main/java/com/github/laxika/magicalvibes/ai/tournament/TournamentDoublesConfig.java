@@ -0,0 +1,54 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.networking.SessionManager;
+import com.github.laxika.magicalvibes.service.GameEngineConfig;
+import com.github.laxika.magicalvibes.service.GameRegistry;
+import com.github.laxika.magicalvibes.service.GameSessionTransportAdapter;
+import com.github.laxika.magicalvibes.service.GameTimeoutService;
+import com.github.laxika.magicalvibes.service.JacksonConfig;
+import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Engine bindings for {@link AiTournamentRunner}: the full {@link GameEngineConfig} graph with its
+ * own game registry, output that goes nowhere, and the {@link TournamentEventRouter} that hands
+ * each game's decision facts back to the thread playing it.
+ *
+ * <p>Not a {@code @Configuration} for the same reason as the headless simulation doubles: it lives
+ * under the AI module's component-scan path and must only ever be registered explicitly.
+ */
+@Import({GameEngineConfig.class, JacksonConfig.class})
+class TournamentDoublesConfig {
+
+    @Bean
+    @Primary
+    GameRegistry gameRegistry() {
+        return new GameRegistry();
+    }
+
+    @Bean
+    @Primary
+    SessionManager sessionManager() {
+        return new TournamentSessionManager();
+    }
+
+    @Bean
+    TournamentEventRouter tournamentEventRouter() {
+        return new TournamentEventRouter();
+    }
+
+    /** Timers are never armed: no player ever disconnects from a tournament game. */
+    @Bean
+    @Primary
+    GameTimeoutService gameTimeoutService(GameRegistry gameRegistry,
+                                          GameSessionTransportAdapter sessionTransport,
+                                          GameMutationCoordinator mutationCoordinator) {
+        return new GameTimeoutService(
+                gameRegistry, null, sessionTransport, mutationCoordinator,
+                Duration.ofMinutes(5), Duration.ofMinutes(15));
+    }
+}
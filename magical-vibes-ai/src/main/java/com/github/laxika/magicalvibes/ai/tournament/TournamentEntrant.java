@@ -0,0 +1,35 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.model.AiDifficulty;
+
+import java.util.Locale;
+
+/**
+ * One AI configuration taking part in a tournament: a difficulty and, for {@link AiDifficulty#HARD},
+ * the MCTS think time per decision. Written on the command line as {@code EASY}, {@code MEDIUM},
+ * {@code HARD} (the default budget) or {@code HARD:500} (500 ms per search).
+ */
+record TournamentEntrant(AiDifficulty difficulty, long mctsBudgetMs) {
+
+    static TournamentEntrant parse(String spec, long defaultMctsBudgetMs) {
+        String[] parts = spec.trim().split(":", 2);
+        AiDifficulty difficulty = AiDifficulty.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+        if (parts.length == 1) {
+            return new TournamentEntrant(difficulty, difficulty == AiDifficulty.HARD ? defaultMctsBudgetMs : 0);
+        }
+        if (difficulty != AiDifficulty.HARD) {
+            throw new IllegalArgumentException("Only HARD entrants search; remove the budget from '" + spec + "'");
+        }
+        long budget = Long.parseLong(parts[1].trim());
+        if (budget <= 0) {
+            throw new IllegalArgumentException("MCTS budget must be positive in '" + spec + "'");
+        }
+        return new TournamentEntrant(difficulty, budget);
+    }
+
+    String label() {
+        return difficulty == AiDifficulty.HARD
+                ? difficulty.getDisplayName() + "@" + mctsBudgetMs + "ms"
+                : difficulty.getDisplayName();
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.ai.AiDecisionEventSubscriber;
+import com.github.laxika.magicalvibes.ai.AiDecisionKind;
+import com.github.laxika.magicalvibes.model.event.GameEventBatch;
+import com.github.laxika.magicalvibes.model.event.GameEventEnvelope;
+import com.github.laxika.magicalvibes.service.event.GameEventSubscriber;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queues each tournament game's decision facts for the thread playing that game, instead of
+ * scheduling them on timers as {@link AiDecisionEventSubscriber} does for live seats.
+ *
+ * <p>Batches are dispatched synchronously on the thread whose command produced them, so a game's
+ * inbox is only ever touched by the one worker playing it and needs no locking.
+ */
+final class TournamentEventRouter implements GameEventSubscriber {
+
+    private final Map<UUID, Inbox> inboxes = new ConcurrentHashMap<>();
+
+    /** A seat's pending wake-up. */
+    record Decision(UUID playerId, AiDecisionKind kind) {
+    }
+
+    /**
+     * Pending decisions of one game in arrival order. Like the scheduler, repeated state
+     * invalidations for a seat collapse into one pending {@link AiDecisionKind#GAME_STATE}: the
+     * engine reads live state when it runs, so one wake-up per seat is enough.
+     */
+    static final class Inbox {
+        private final List<UUID> seats;
+        private final ArrayDeque<Decision> pending = new ArrayDeque<>();
+        private final Set<UUID> pendingGameState = new HashSet<>();
+
+        private Inbox(List<UUID> seats) {
+            this.seats = seats;
+        }
+
+        private void offer(GameEventEnvelope envelope) {
+            for (UUID seat : seats) {
+                AiDecisionKind kind = AiDecisionEventSubscriber.decisionKindFor(envelope, seat);
+                if (kind == null || (kind == AiDecisionKind.GAME_STATE && !pendingGameState.add(seat))) {
+                    continue;
+                }
+                pending.add(new Decision(seat, kind));
+            }
+        }
+
+        Decision poll() {
+            Decision next = pending.poll();
+            if (next != null && next.kind() == AiDecisionKind.GAME_STATE) {
+                pendingGameState.remove(next.playerId());
+            }
+            return next;
+        }
+    }
+
+    Inbox open(UUID gameId, List<UUID> seats) {
+        Inbox inbox = new Inbox(List.copyOf(seats));
+        inboxes.put(gameId, inbox);
+        return inbox;
+    }
+
+    void close(UUID gameId) {
+        inboxes.remove(gameId);
+    }
+
+    @Override
+    public void onGameEvents(GameEventBatch batch) {
+        Inbox inbox = inboxes.get(batch.gameId());
+        if (inbox == null) {
+            return;
+        }
+        for (GameEventEnvelope envelope : batch.events()) {
+            inbox.offer(envelope);
+        }
+    }
+}
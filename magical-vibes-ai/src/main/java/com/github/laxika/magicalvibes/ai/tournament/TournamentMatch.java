@@ -0,0 +1,183 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.ai.AiDecisionEngine;
+import com.github.laxika.magicalvibes.ai.EasyAiDecisionEngine;
+import com.github.laxika.magicalvibes.ai.HardAiDecisionEngine;
+import com.github.laxika.magicalvibes.ai.MediumAiDecisionEngine;
+import com.github.laxika.magicalvibes.cards.RandomDeckGenerator;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import com.github.laxika.magicalvibes.service.GameActionAvailabilityService;
+import com.github.laxika.magicalvibes.service.GameOutcomeService;
+import com.github.laxika.magicalvibes.service.GameRegistry;
+import com.github.laxika.magicalvibes.service.GameService;
+import com.github.laxika.magicalvibes.service.GameSetupService;
+import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import com.github.laxika.magicalvibes.service.cast.CastingCostService;
+import com.github.laxika.magicalvibes.service.cast.CastingPermissionService;
+import com.github.laxika.magicalvibes.service.combat.attack.CombatAttackService;
+import com.github.laxika.magicalvibes.service.combat.block.BlockLegalityService;
+import com.github.laxika.magicalvibes.service.effect.TargetValidationService;
+import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
+import com.github.laxika.magicalvibes.service.target.TargetLegalityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plays one all-random-decks game between two {@link TournamentEntrant}s to the end, on the calling
+ * thread: decision facts land in the game's {@link TournamentEventRouter.Inbox} and are handed to
+ * the addressed seat's engine one at a time, with no think delay and no scheduler in between.
+ *
+ * <p>A game that runs past {@code maxTurns} is scored as a draw; one whose inbox runs dry before
+ * it ends, or that exceeds {@code maxDecisions}, is stalled — an engine or AI defect worth a look,
+ * kept out of the ratings. Either way the game is abandoned so it leaves the registry.
+ */
+@Slf4j
+final class TournamentMatch {
+
+    enum Outcome {
+        FIRST_WINS,
+        SECOND_WINS,
+        DRAW,
+        TURN_LIMIT,
+        STALLED
+    }
+
+    record Result(Outcome outcome, int turns, long wakeUps) {
+    }
+
+    private final GameRegistry gameRegistry;
+    private final GameService gameService;
+    private final GameSetupService gameSetupService;
+    private final GameOutcomeService gameOutcomeService;
+    private final GameMutationCoordinator mutationCoordinator;
+    private final GameQueryService gameQueryService;
+    private final BlockLegalityService blockLegalityService;
+    private final CombatAttackService combatAttackService;
+    private final GameActionAvailabilityService actionAvailabilityService;
+    private final CastingCostService castingCostService;
+    private final CastingPermissionService castingPermissionService;
+    private final TargetValidationService targetValidationService;
+    private final TargetLegalityService targetLegalityService;
+    private final TournamentEventRouter router;
+    private final TournamentStandings standings;
+    private final int maxTurns;
+    private final int maxDecisions;
+    private final int mctsParallelism;
+    private final String randomSetCode;
+
+    TournamentMatch(ApplicationContext context, TournamentStandings standings,
+                    int maxTurns, int maxDecisions, int mctsParallelism, String randomSetCode) {
+        this.gameRegistry = context.getBean(GameRegistry.class);
+        this.gameService = context.getBean(GameService.class);
+        this.gameSetupService = context.getBean(GameSetupService.class);
+        this.gameOutcomeService = context.getBean(GameOutcomeService.class);
+        this.mutationCoordinator = context.getBean(GameMutationCoordinator.class);
+        this.gameQueryService = context.getBean(GameQueryService.class);
+        this.blockLegalityService = context.getBean(BlockLegalityService.class);
+        this.combatAttackService = context.getBean(CombatAttackService.class);
+        this.actionAvailabilityService = context.getBean(GameActionAvailabilityService.class);
+        this.castingCostService = context.getBean(CastingCostService.class);
+        this.castingPermissionService = context.getBean(CastingPermissionService.class);
+        this.targetValidationService = context.getBean(TargetValidationService.class);
+        this.targetLegalityService = context.getBean(TargetLegalityService.class);
+        this.router = context.getBean(TournamentEventRouter.class);
+        this.standings = standings;
+        this.maxTurns = maxTurns;
+        this.maxDecisions = maxDecisions;
+        this.mctsParallelism = mctsParallelism;
+        this.randomSetCode = randomSetCode;
+    }
+
+    Result play(int gameNumber, TournamentEntrant first, TournamentEntrant second) {
+        Player firstPlayer = new Player(UUID.randomUUID(), "Seat 1 " + first.label());
+        Player secondPlayer = new Player(UUID.randomUUID(), "Seat 2 " + second.label());
+
+        GameData gameData = gameSetupService.createGame("Tournament game " + gameNumber, firstPlayer,
+                RandomDeckGenerator.RANDOM_DECK_ID, true, randomSetCode);
+        Map<UUID, AiDecisionEngine> engines = Map.of(
+                firstPlayer.getId(), createEngine(gameData.id, firstPlayer, first),
+                secondPlayer.getId(), createEngine(gameData.id, secondPlayer, second));
+        Map<UUID, TournamentEntrant> entrants = Map.of(
+                firstPlayer.getId(), first,
+                secondPlayer.getId(), second);
+        TournamentEventRouter.Inbox inbox = router.open(gameData.id,
+                List.of(firstPlayer.getId(), secondPlayer.getId()));
+        gameData.aiPlayerIds.add(firstPlayer.getId());
+        gameData.aiPlayerIds.add(secondPlayer.getId());
+
+        long wakeUps = 0;
+        Outcome outcome = null;
+        try {
+            gameSetupService.joinGame(gameData, secondPlayer, RandomDeckGenerator.RANDOM_DECK_ID);
+            while (gameData.status != GameStatus.FINISHED) {
+                if (gameData.turnNumber > maxTurns) {
+                    outcome = Outcome.TURN_LIMIT;
+                    break;
+                }
+                TournamentEventRouter.Decision decision = inbox.poll();
+                if (decision == null || wakeUps >= maxDecisions) {
+                    log.warn("Tournament game {} stalled at turn {} step {} after {} wake-ups ({} pending)",
+                            gameNumber, gameData.turnNumber, gameData.currentStep, wakeUps,
+                            decision == null ? "nothing" : decision);
+                    outcome = Outcome.STALLED;
+                    break;
+                }
+                wakeUps++;
+                decide(gameData, engines.get(decision.playerId()), entrants.get(decision.playerId()), decision);
+            }
+            if (outcome == null) {
+                outcome = gameData.gameResult != GameEventFact.GameResult.WIN ? Outcome.DRAW
+                        : firstPlayer.getId().equals(gameData.winnerPlayerId) ? Outcome.FIRST_WINS
+                        : Outcome.SECOND_WINS;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tournament game {} failed", gameNumber, e);
+            outcome = Outcome.STALLED;
+        } finally {
+            if (gameData.status != GameStatus.FINISHED) {
+                mutationCoordinator.mutate(gameData, () -> gameOutcomeService.abandon(gameData));
+            }
+            router.close(gameData.id);
+            gameRegistry.remove(gameData.id);
+        }
+        return new Result(outcome, gameData.turnNumber, wakeUps);
+    }
+
+    /**
+     * Runs one wake-up and records its latency. Wake-ups that leave the state untouched (the seat
+     * had nothing to answer) count toward throughput only; the histograms hold real decisions.
+     */
+    private void decide(GameData gameData, AiDecisionEngine engine, TournamentEntrant entrant,
+                        TournamentEventRouter.Decision decision) {
+        long versionBefore = gameData.domainStateVersion();
+        long startedAt = System.nanoTime();
+        try {
+            engine.handleEvent(decision.kind());
+        } catch (Exception e) {
+            // Mirrors AiDecisionScheduler: a failed decision is logged and the game goes on.
+            log.error("AI decision error for decision kind {}", decision.kind(), e);
+        }
+        standings.recordWakeUp(entrant, System.nanoTime() - startedAt,
+                gameData.domainStateVersion() != versionBefore);
+    }
+
+    private AiDecisionEngine createEngine(UUID gameId, Player player, TournamentEntrant entrant) {
+        return switch (entrant.difficulty()) {
+            case HARD -> {
+                HardAiDecisionEngine hard = new HardAiDecisionEngine(gameId, player, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
+                hard.setMctsTimeBudgetMs(entrant.mctsBudgetMs());
+                hard.setMctsParallelism(mctsParallelism);
+                yield hard;
+            }
+            case MEDIUM -> new MediumAiDecisionEngine(gameId, player, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
+            case EASY -> new EasyAiDecisionEngine(gameId, player, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
+        };
+    }
+}
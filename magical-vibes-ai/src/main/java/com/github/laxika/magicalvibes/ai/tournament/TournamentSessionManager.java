@@ -0,0 +1,66 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.networking.Connection;
+import com.github.laxika.magicalvibes.networking.SessionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Connection-state port for tournament games: nobody is connected, and the player views the
+ * projection subscriber still builds for every live batch are dropped on delivery. Unlike the
+ * simulation's {@code HeadlessSessionManager}, output is expected here — tournament games are
+ * live games, so their batches are dispatched.
+ */
+final class TournamentSessionManager implements SessionManager {
+
+    @Override
+    public void registerPlayer(Connection connection, UUID userId, String username) {
+        throw new UnsupportedOperationException("Tournament games have no player sessions");
+    }
+
+    @Override
+    public void unregisterSession(String connectionId) {
+        throw new UnsupportedOperationException("Tournament games have no player sessions");
+    }
+
+    @Override
+    public Player getPlayer(String connectionId) {
+        return null;
+    }
+
+    @Override
+    public Connection getConnectionByUserId(UUID userId) {
+        return null;
+    }
+
+    @Override
+    public void setInGame(String connectionId) {
+        throw new UnsupportedOperationException("Tournament games have no player sessions");
+    }
+
+    @Override
+    public boolean isInGame(String connectionId) {
+        return false;
+    }
+
+    @Override
+    public void clearInGame(String connectionId) {
+        throw new UnsupportedOperationException("Tournament games have no player sessions");
+    }
+
+    @Override
+    public Collection<Player> getLobbyPlayers() {
+        return List.of();
+    }
+
+    @Override
+    public void sendToPlayer(UUID playerId, Object message) {
+    }
+
+    @Override
+    public void sendToPlayers(Collection<UUID> playerIds, Object message) {
+    }
+}
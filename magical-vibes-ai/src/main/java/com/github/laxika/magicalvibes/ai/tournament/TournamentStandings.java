@@ -0,0 +1,175 @@
+package com.github.laxika.magicalvibes.ai.tournament;
+
+import com.github.laxika.magicalvibes.ai.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe tally of a tournament: per-entrant decision counts and latency, and the pairwise
+ * results the ratings are fitted to.
+ *
+ * <p>Ratings are a Bradley–Terry fit of the whole results table (Hunter's MM iteration) on the
+ * Elo scale, centred on 1500, rather than sequential Elo updates: games finish in whatever order
+ * the pool runs them, and a sequential rating would depend on that order. Every pairing carries
+ * one virtual draw so an entrant that never lost (or never won) still gets a finite rating.
+ */
+final class TournamentStandings {
+
+    private static final double RATING_CENTRE = 1500;
+    private static final int FIT_ITERATIONS = 200;
+
+    private final List<TournamentEntrant> entrants;
+    private final EntrantStats[] stats;
+    /** {@code score[i][j]}: points entrant i took from entrant j (win 1, draw ½). */
+    private final double[][] score;
+    private final int[][] games;
+    private long turnLimited;
+    private long stalled;
+    private long totalTurns;
+    private long finishedGames;
+
+    private static final class EntrantStats {
+        private final LatencyHistogram decisionLatency = new LatencyHistogram();
+        private final AtomicLong wakeUps = new AtomicLong();
+        private final AtomicLong decisions = new AtomicLong();
+        private final AtomicLong decisionNanos = new AtomicLong();
+    }
+
+    TournamentStandings(List<TournamentEntrant> entrants) {
+        this.entrants = List.copyOf(entrants);
+        this.stats = new EntrantStats[entrants.size()];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new EntrantStats();
+        }
+        this.score = new double[entrants.size()][entrants.size()];
+        this.games = new int[entrants.size()][entrants.size()];
+    }
+
+    /** One engine wake-up; {@code decided} when it changed the game rather than finding nothing to answer. */
+    void recordWakeUp(TournamentEntrant entrant, long nanos, boolean decided) {
+        EntrantStats entrantStats = stats[entrants.indexOf(entrant)];
+        entrantStats.wakeUps.incrementAndGet();
+        if (decided) {
+            entrantStats.decisions.incrementAndGet();
+            entrantStats.decisionNanos.addAndGet(nanos);
+            entrantStats.decisionLatency.record(TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    synchronized void recordGame(TournamentEntrant first, TournamentEntrant second, TournamentMatch.Result result) {
+        int i = entrants.indexOf(first);
+        int j = entrants.indexOf(second);
+        if (result.outcome() == TournamentMatch.Outcome.STALLED) {
+            stalled++;
+            return;
+        }
+        finishedGames++;
+        totalTurns += result.turns();
+        games[i][j]++;
+        games[j][i]++;
+        switch (result.outcome()) {
+            case FIRST_WINS -> score[i][j] += 1;
+            case SECOND_WINS -> score[j][i] += 1;
+            default -> {
+                score[i][j] += 0.5;
+                score[j][i] += 0.5;
+                if (result.outcome() == TournamentMatch.Outcome.TURN_LIMIT) {
+                    turnLimited++;
+                }
+            }
+        }
+    }
+
+    synchronized void print(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long wakeUps = 0;
+        long decisions = 0;
+        for (EntrantStats entrantStats : stats) {
+            wakeUps += entrantStats.wakeUps.get();
+            decisions += entrantStats.decisions.get();
+        }
+        long played = finishedGames + stalled;
+
+        out.printf(Locale.ROOT, "%n=== Tournament: %d games in %.1f s ===%n", played, seconds);
+        out.printf(Locale.ROOT, "Games/s:      %.2f%n", played / seconds);
+        out.printf(Locale.ROOT, "Decisions/s:  %,.0f (%,.0f wake-ups/s)%n", decisions / seconds, wakeUps / seconds);
+        out.printf(Locale.ROOT, "Avg turns:    %.1f   turn-limit draws: %d   stalled: %d%n",
+                finishedGames == 0 ? 0.0 : (double) totalTurns / finishedGames, turnLimited, stalled);
+
+        out.printf(Locale.ROOT, "%n%-16s %6s %9s %6s %10s %10s  %s%n",
+                "Entrant", "Elo", "Score", "Win%", "Decisions", "Avg ms", "Decision latency");
+        double[] ratings = ratings();
+        for (int i = 0; i < entrants.size(); i++) {
+            double points = 0;
+            int entrantGames = 0;
+            for (int j = 0; j < entrants.size(); j++) {
+                points += score[i][j];
+                entrantGames += games[i][j];
+            }
+            EntrantStats entrantStats = stats[i];
+            long entrantDecisions = entrantStats.decisions.get();
+            out.printf(Locale.ROOT, "%-16s %6.0f %9s %5.1f%% %10d %10.2f  %s%n",
+                    entrants.get(i).label(), ratings[i],
+                    String.format(Locale.ROOT, "%.1f/%d", points, entrantGames),
+                    entrantGames == 0 ? 0.0 : 100 * points / entrantGames,
+                    entrantDecisions,
+                    entrantDecisions == 0 ? 0.0 : entrantStats.decisionNanos.get() / 1e6 / entrantDecisions,
+                    entrantStats.decisionLatency);
+        }
+
+        out.printf("%nPairwise score (row vs column):%n%-16s", "");
+        for (TournamentEntrant entrant : entrants) {
+            out.printf("%16s", entrant.label());
+        }
+        out.println();
+        for (int i = 0; i < entrants.size(); i++) {
+            out.printf("%-16s", entrants.get(i).label());
+            for (int j = 0; j < entrants.size(); j++) {
+                out.printf("%16s", i == j ? "-" : String.format(Locale.ROOT, "%.1f/%d", score[i][j], games[i][j]));
+            }
+            out.println();
+        }
+    }
+
+    private double[] ratings() {
+        int n = entrants.size();
+        double[] strength = new double[n];
+        Arrays.fill(strength, 1.0);
+        for (int iteration = 0; iteration < FIT_ITERATIONS; iteration++) {
+            double[] next = new double[n];
+            for (int i = 0; i < n; i++) {
+                double points = 0;
+                double denominator = 0;
+                for (int j = 0; j < n; j++) {
+                    if (i == j) {
+                        continue;
+                    }
+                    // The virtual draw: one extra game, half a point each way.
+                    points += score[i][j] + 0.5;
+                    denominator += (games[i][j] + 1) / (strength[i] + strength[j]);
+                }
+                next[i] = denominator == 0 ? 1.0 : points / denominator;
+            }
+            double total = Arrays.stream(next).sum();
+            for (int i = 0; i < n; i++) {
+                next[i] *= n / total;
+            }
+            strength = next;
+        }
+        double[] ratings = new double[n];
+        double mean = 0;
+        for (int i = 0; i < n; i++) {
+            ratings[i] = 400 * Math.log10(strength[i]);
+            mean += ratings[i] / n;
+        }
+        for (int i = 0; i < n; i++) {
+            ratings[i] += RATING_CENTRE - mean;
+        }
+        return ratings;
+    }
+}
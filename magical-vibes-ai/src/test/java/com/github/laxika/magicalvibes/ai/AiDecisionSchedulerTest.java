@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.ai;
 
+import com.github.laxika.magicalvibes.model.AiDifficulty;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -90,4 +91,44 @@ class AiDecisionSchedulerTest {
         scheduler.close();
     }
 
+    @Test
+    void searchPermitsCapConcurrentHardDecisionsAcrossGames() throws Exception {
+        AiDecisionRuntime runtime = new AiDecisionRuntime(1);
+        CountDownLatch firstDecisionStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstDecision = new CountDownLatch(1);
+        AiDecisionEngine firstEngine = mock(AiDecisionEngine.class);
+        doAnswer(invocation -> {
+            firstDecisionStarted.countDown();
+            assertThat(releaseFirstDecision.await(2, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(firstEngine).handleEvent(AiDecisionKind.GAME_STATE);
+        AiDecisionEngine secondEngine = mock(AiDecisionEngine.class);
+        AiDecisionEngine easyEngine = mock(AiDecisionEngine.class);
+
+        AiDecisionScheduler first = new AiDecisionScheduler("first", firstEngine, 0, AiDifficulty.HARD, runtime);
+        AiDecisionScheduler second = new AiDecisionScheduler("second", secondEngine, 0, AiDifficulty.HARD, runtime);
+        AiDecisionScheduler easy = new AiDecisionScheduler("easy", easyEngine, 0, AiDifficulty.EASY, runtime);
+        first.scheduleDecision(AiDecisionKind.GAME_STATE);
+        assertThat(firstDecisionStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        second.scheduleDecision(AiDecisionKind.GAME_STATE);
+        easy.scheduleDecision(AiDecisionKind.GAME_STATE);
+
+        verify(easyEngine, timeout(1_000)).handleEvent(AiDecisionKind.GAME_STATE);
+        Thread.sleep(50);
+        verifyNoInteractions(secondEngine);
+        releaseFirstDecision.countDown();
+        verify(secondEngine, timeout(1_000)).handleEvent(AiDecisionKind.GAME_STATE);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (runtime.decisionLatency(AiDifficulty.HARD).count() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThat(runtime.decisionLatency(AiDifficulty.HARD).count()).isEqualTo(2);
+        assertThat(runtime.queueWait(AiDifficulty.HARD).maxMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(runtime.decisionLatency(AiDifficulty.EASY).count()).isEqualTo(1);
+        first.close();
+        second.close();
+        easy.close();
+    }
+
 }
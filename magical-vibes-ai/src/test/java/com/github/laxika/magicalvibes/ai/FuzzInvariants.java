@@ -13,6 +13,9 @@ import com.github.laxika.magicalvibes.model.StackEntryType;
 import com.github.laxika.magicalvibes.model.effect.GlobalLegendRuleExemptionEffect;
 import com.github.laxika.magicalvibes.model.effect.LegendRuleExemptionEffect;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import com.github.laxika.magicalvibes.service.battlefield.StaticEffectIndex;
+import com.github.laxika.magicalvibes.service.trigger.TriggerListenerIndex;
+import com.github.laxika.magicalvibes.testutil.GameTestEngineContext;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,6 +36,8 @@ import java.util.UUID;
 final class FuzzInvariants {
 
     private final GameQueryService gameQueryService;
+    private final TriggerListenerIndex triggerListenerIndex =
+            GameTestEngineContext.get().getBean(TriggerListenerIndex.class);
     private final Map<UUID, String> initialCardNames;
 
     /** Violation observed on the previous poll, keyed by check name. */
@@ -80,6 +85,24 @@ final class FuzzInvariants {
             if (violation != null) {
                 return violation;
             }
+            // The trigger listener index is derived from the zones above; a stale snapshot means a
+            // trigger check silently skipped a permanent that should have fired.
+            violation = confirm("trigger-listener-index", triggerListenerIndex.findInconsistency(gd));
+            if (violation != null) {
+                return violation;
+            }
+            // Likewise the zone location index: a stale entry makes findPermanentById miss a
+            // permanent that is on the battlefield, or find one that left.
+            violation = confirm("zone-location-index", gd.findZoneLocationIndexInconsistency());
+            if (violation != null) {
+                return violation;
+            }
+            // And the static effect index: a stale snapshot hides a Grafdigger's Cage or a
+            // Melira from the presence checks that gate casting and poison.
+            violation = confirm("static-effect-index", StaticEffectIndex.findInconsistency(gd));
+            if (violation != null) {
+                return violation;
+            }
 
             // The remaining checks assert states that state-based actions must have cleaned
             // up, and SBAs only run when a player would receive priority — wait for a quiet
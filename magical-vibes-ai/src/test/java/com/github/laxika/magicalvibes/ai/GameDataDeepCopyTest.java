@@ -7,6 +7,7 @@ import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
 import com.github.laxika.magicalvibes.cards.s.SerraAngel;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.CopyOnWriteZone;
 import com.github.laxika.magicalvibes.model.CreatureSpellEmpowerment;
 import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.ManaColor;
@@ -135,6 +136,29 @@ class GameDataDeepCopyTest {
         assertThat(gd.playerHands.get(player1.getId())).hasSize(origHandSize);
     }
 
+    @Test
+    @DisplayName("Copy of a simulation copy shares card zones until one side writes")
+    void copyOfCopySharesZonesCopyOnWrite() {
+        harness.setHand(player1, List.of(new GrizzlyBears(), new SerraAngel()));
+        GameData baseline = gd.simulationCopy();
+        GameData copy = baseline.simulationCopy();
+        List<Card> baselineHand = baseline.playerHands.get(player1.getId());
+        List<Card> copyHand = copy.playerHands.get(player1.getId());
+        int handSize = baselineHand.size();
+
+        assertThat(copyHand).isInstanceOf(CopyOnWriteZone.class);
+        assertThat(((CopyOnWriteZone<Card>) copyHand).isShared()).isTrue();
+
+        Card drawn = copyHand.removeFirst();
+
+        assertThat(copyHand).hasSize(handSize - 1);
+        assertThat(baselineHand).hasSize(handSize).contains(drawn);
+        assertThat(gd.playerHands.get(player1.getId())).hasSize(handSize);
+
+        baselineHand.clear();
+        assertThat(copyHand).hasSize(handSize - 1);
+    }
+
     @Test
     @DisplayName("Deep copy preserves mana pool values independently")
     void deepCopyIndependentManaPools() {
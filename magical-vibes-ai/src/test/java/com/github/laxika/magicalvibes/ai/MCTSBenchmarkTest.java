@@ -1,8 +1,10 @@
 package com.github.laxika.magicalvibes.ai;
 
+import com.github.laxika.magicalvibes.ai.simulation.Determinizer;
 import com.github.laxika.magicalvibes.ai.simulation.GameSimulator;
 import com.github.laxika.magicalvibes.ai.simulation.HeadlessSimulationContext;
 import com.github.laxika.magicalvibes.ai.simulation.MCTSEngine;
+import com.github.laxika.magicalvibes.ai.simulation.MCTSSearchScheduler;
 import com.github.laxika.magicalvibes.ai.simulation.SimulationAction;
 import com.github.laxika.magicalvibes.cards.e.Eviscerate;
 import com.github.laxika.magicalvibes.cards.f.Forest;
@@ -24,8 +26,15 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,12 +42,28 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Micro-benchmark for {@link MCTSEngine#search} throughput and latency on a realistic
  * mid-game state (multi-creature boards, an anthem, five root actions, stocked libraries).
  *
- * <p>Measures two things:
+ * <p>Measures three things:
  * <ul>
  *   <li><b>Fresh-tree throughput</b> — iterations completed inside the production time budget
  *       when the search starts from an empty tree ({@code clearCache()} between rounds).</li>
  *   <li><b>Warm-cache latency</b> — wall time of repeat searches at the same decision point,
  *       where the warm-start tree is already converged (the early-stopping best case).</li>
+ *   <li><b>Simulation copy cost</b> — per-iteration state copy and determinization, copying the
+ *       live state directly (every zone cloned) versus copying the search's private baseline
+ *       (card zones shared copy-on-write; permanents and per-player maps still deep-copied).</li>
+ *   <li><b>Worker scaling</b> — fresh-tree throughput from 1 to N workers (N = available cores),
+ *       global tree lock versus the lock-free tree with virtual loss.</li>
+ *   <li><b>Concurrent searches</b> — several games searching at once, each asking for auto
+ *       parallelism, with private schedulers (every search takes all it asks for, as before the
+ *       shared scheduler) versus one shared {@link MCTSSearchScheduler}.</li>
+ *   <li><b>Allocation per iteration</b> — bytes the search thread allocates per sequential
+ *       iteration, the measure for keeping logs, event envelopes and log formatting out of
+ *       rollouts.</li>
+ *   <li><b>Transpositions</b> — consecutive fresh-tree searches of one turn with and without the
+ *       transposition table: hit rate, and the visits inherited from it as effective extra
+ *       iterations.</li>
+ *   <li><b>Pondering</b> — decision latency in the AI's next main phase when the opponent's end
+ *       step was spent idle versus pondering that decision for a human's think time.</li>
  * </ul>
  *
  * <p>Disabled by default; run with {@code -DmctsBench=true}:
@@ -56,6 +81,14 @@ class MCTSBenchmarkTest {
     private static final int WARMUP_ROUNDS = 2;
     private static final int FRESH_ROUNDS = 5;
     private static final int REPEAT_ROUNDS = 4;
+    private static final int COPY_WARMUP_OPS = 2_000;
+    private static final int COPY_MEASURED_OPS = 20_000;
+    private static final int CONCURRENT_SEARCHES = 8;
+    private static final int SCALING_ROUNDS = 3;
+    private static final int TRANSPOSITION_ROUNDS = 5;
+    private static final int PONDER_ROUNDS = 5;
+    private static final long PONDER_THINK_MS = 3_000;
+    private static final int PONDER_PREDICTION_PASSES = 24;
 
     private GameTestHarness harness;
     private Player player1;
@@ -162,6 +195,240 @@ class MCTSBenchmarkTest {
         assertThat(engine.getCacheHits() - cacheHitsBefore).isEqualTo(REPEAT_ROUNDS);
     }
 
+    @Test
+    void benchmarkSimulationCopy() {
+        UUID aiPlayerId = player1.getId();
+        GameData baseline = gd.simulationCopy();
+        Determinizer determinizer = new Determinizer();
+        Random rng = new Random(42);
+
+        System.out.printf("=== Simulation copy benchmark: %d ops per measurement ===%n", COPY_MEASURED_OPS);
+        double liveCopyNs = measureNsPerOp(() -> gd.simulationCopy());
+        double baselineCopyNs = measureNsPerOp(() -> baseline.simulationCopy());
+        double liveDeterminizeNs = measureNsPerOp(() -> determinizer.determinize(gd, aiPlayerId, rng));
+        double baselineDeterminizeNs = measureNsPerOp(() -> determinizer.determinize(baseline, aiPlayerId, rng));
+
+        System.out.printf("simulationCopy   live: %8.0f ns/op   baseline (copy-on-write): %8.0f ns/op   (%.2fx)%n",
+                liveCopyNs, baselineCopyNs, liveCopyNs / baselineCopyNs);
+        System.out.printf("determinize      live: %8.0f ns/op   baseline (copy-on-write): %8.0f ns/op   (%.2fx)%n",
+                liveDeterminizeNs, baselineDeterminizeNs, liveDeterminizeNs / baselineDeterminizeNs);
+        System.out.printf("copy-bound ceiling: %.0f iterations/s live vs %.0f iterations/s baseline%n",
+                1e9 / liveDeterminizeNs, 1e9 / baselineDeterminizeNs);
+
+        GameData copy = determinizer.determinize(baseline, aiPlayerId, rng);
+        assertThat(copy.playerBattlefields.get(aiPlayerId))
+                .hasSameSizeAs(gd.playerBattlefields.get(aiPlayerId));
+        assertThat(copy.playerHands.get(player2.getId()))
+                .hasSameSizeAs(gd.playerHands.get(player2.getId()));
+    }
+
+    @Test
+    void benchmarkWorkerScaling() {
+        int maxWorkers = Runtime.getRuntime().availableProcessors();
+        System.out.printf("=== Worker scaling: 1..%d workers, budget %d ms, %d rounds each ===%n",
+                maxWorkers, TIME_BUDGET_MS, SCALING_ROUNDS);
+        for (boolean lockFree : new boolean[]{false, true}) {
+            String label = lockFree ? "lock-free" : "tree lock";
+            double singleWorker = 0;
+            for (int workers = 1; workers <= maxWorkers; workers = workers == maxWorkers ? workers + 1
+                    : Math.min(maxWorkers, workers * 2)) {
+                MCTSEngine engine = new MCTSEngine(simulator);
+                engine.setTimeBudgetMs(TIME_BUDGET_MS);
+                engine.setParallelism(workers);
+                engine.setLockFreeTree(lockFree);
+                engine.setSearchScheduler(new MCTSSearchScheduler(workers));
+                engine.search(gd, player1.getId(), ITERATION_BUDGET);
+
+                long iterations = 0;
+                long elapsed = 0;
+                for (int round = 0; round < SCALING_ROUNDS; round++) {
+                    engine.clearCache();
+                    assertThat(engine.search(gd, player1.getId(), ITERATION_BUDGET)).isNotNull();
+                    iterations += engine.getLastSearchIterations();
+                    elapsed += engine.getLastSearchElapsedMs();
+                }
+                double perSecond = iterations * 1000.0 / Math.max(1, elapsed);
+                if (workers == 1) {
+                    singleWorker = perSecond;
+                }
+                System.out.printf("%-9s %2d workers: %8.1f iterations/s (%.2fx of 1 worker)%n",
+                        label, workers, perSecond, perSecond / Math.max(1e-9, singleWorker));
+            }
+        }
+    }
+
+    @Test
+    void benchmarkConcurrentSearches() throws Exception {
+        System.out.printf("=== Concurrent searches: %d at once, %d worker slots, budget %d ms ===%n",
+                CONCURRENT_SEARCHES, MCTSEngine.autoParallelism(), TIME_BUDGET_MS);
+        runConcurrentSearches("private schedulers", null);
+        MCTSSearchScheduler shared = new MCTSSearchScheduler(MCTSEngine.autoParallelism());
+        runConcurrentSearches("shared scheduler", shared);
+        System.out.println("shared scheduler: " + shared.metricsSummary());
+    }
+
+    /** Runs one fresh search per engine concurrently; {@code scheduler == null} gives each its own. */
+    private void runConcurrentSearches(String label, MCTSSearchScheduler scheduler) throws Exception {
+        List<MCTSEngine> engines = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SEARCHES; i++) {
+            MCTSEngine engine = new MCTSEngine(simulator);
+            engine.setTimeBudgetMs(TIME_BUDGET_MS);
+            engine.setParallelism(MCTSEngine.autoParallelism());
+            engine.setSearchScheduler(scheduler != null
+                    ? scheduler
+                    : new MCTSSearchScheduler(MCTSEngine.autoParallelism()));
+            engines.add(engine);
+        }
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_SEARCHES);
+        try {
+            List<Future<SimulationAction>> searches = new ArrayList<>();
+            for (MCTSEngine engine : engines) {
+                searches.add(callers.submit(() -> engine.search(gd, player1.getId(), ITERATION_BUDGET)));
+            }
+            for (Future<SimulationAction> search : searches) {
+                assertThat(search.get()).isNotNull();
+            }
+        } finally {
+            callers.shutdown();
+        }
+
+        long totalIterations = 0;
+        long requestedWorkerMs = 0;
+        for (MCTSEngine engine : engines) {
+            totalIterations += engine.getLastSearchIterations();
+            requestedWorkerMs += engine.getLastSearchRequestedWorkers() * TIME_BUDGET_MS;
+            System.out.printf("%s: %d iterations, workers %d/%d, budget %d ms, %d ms elapsed%n", label,
+                    engine.getLastSearchIterations(), engine.getLastSearchGrantedWorkers(),
+                    engine.getLastSearchRequestedWorkers(), engine.getLastSearchGrantedBudgetMs(),
+                    engine.getLastSearchElapsedMs());
+        }
+        System.out.printf("%s TOTAL: %d iterations, %.1f iterations per requested worker-second%n",
+                label.toUpperCase(), totalIterations, totalIterations * 1000.0 / requestedWorkerMs);
+    }
+
+    @Test
+    void benchmarkAllocationPerIteration() {
+        MCTSEngine engine = new MCTSEngine(simulator);
+        engine.setTimeBudgetMs(TIME_BUDGET_MS);
+        // One worker: the search then runs on this thread, so its allocation counter sees it all
+        engine.setParallelism(1);
+        engine.search(gd, player1.getId(), ITERATION_BUDGET);
+
+        long iterations = 0;
+        long allocated = 0;
+        for (int round = 0; round < FRESH_ROUNDS; round++) {
+            engine.clearCache();
+            long before = allocatedBytes();
+            assertThat(engine.search(gd, player1.getId(), ITERATION_BUDGET)).isNotNull();
+            allocated += allocatedBytes() - before;
+            iterations += engine.getLastSearchIterations();
+        }
+        System.out.printf("=== Allocation: %d iterations, %.1f KiB allocated per iteration ===%n",
+                iterations, allocated / 1024.0 / Math.max(1, iterations));
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    void benchmarkTranspositionTable() {
+        System.out.printf("=== Transposition table: %d consecutive fresh-tree searches, budget %d ms ===%n",
+                TRANSPOSITION_ROUNDS, TIME_BUDGET_MS);
+        for (boolean transpositions : new boolean[]{false, true}) {
+            String label = transpositions ? "transpositions" : "no table";
+            MCTSEngine engine = new MCTSEngine(simulator);
+            engine.setTimeBudgetMs(TIME_BUDGET_MS);
+            engine.setParallelism(MCTSEngine.autoParallelism());
+            engine.setSearchScheduler(new MCTSSearchScheduler(MCTSEngine.autoParallelism()));
+            engine.setTranspositions(transpositions);
+
+            long iterations = 0;
+            long lookups = 0;
+            long hits = 0;
+            long priorVisits = 0;
+            for (int round = 1; round <= TRANSPOSITION_ROUNDS; round++) {
+                // Fresh tree every round, as when the root actions change between decisions;
+                // only the transposition table carries knowledge over
+                engine.clearCache();
+                SimulationAction action = engine.search(gd, player1.getId(), ITERATION_BUDGET);
+                assertThat(action).isNotNull();
+                iterations += engine.getLastSearchIterations();
+                lookups += engine.getLastSearchTranspositionLookups();
+                hits += engine.getLastSearchTranspositionHits();
+                priorVisits += engine.getLastSearchTranspositionPriorVisits();
+                printRound(label + " " + round, engine, action);
+            }
+            System.out.printf("%s TOTAL: %d iterations, hit rate %.1f%% (%d/%d), %d inherited visits, "
+                            + "%.2fx effective iterations, table size %d%n",
+                    label.toUpperCase(), iterations, hits * 100.0 / Math.max(1, lookups), hits, lookups,
+                    priorVisits, (iterations + priorVisits) / (double) Math.max(1, iterations),
+                    engine.getTranspositionTableSize());
+        }
+    }
+
+    @Test
+    void benchmarkPondering() throws InterruptedException {
+        // The opponent holds priority in its end step; the decision to predict is the AI's next
+        // precombat main, with the mid-game hand and its lands untapped
+        harness.forceActivePlayer(player2);
+        harness.forceStep(TurnStep.END_STEP);
+        Function<GameData, List<SimulationAction>> rootActions = state ->
+                player1.getId().equals(state.activePlayerId)
+                        && state.currentStep == TurnStep.PRECOMBAT_MAIN
+                        && state.interaction.activeInteraction() == null
+                        && state.stack.isEmpty()
+                        ? simulator.getLegalActions(state, player1.getId())
+                        : List.of();
+
+        System.out.printf("=== Pondering: %d decisions, %d ms opponent think time, budget %d ms ===%n",
+                PONDER_ROUNDS, PONDER_THINK_MS, TIME_BUDGET_MS);
+        for (boolean ponder : new boolean[]{false, true}) {
+            String label = ponder ? "pondered" : "idle";
+            long totalLatencyMs = 0;
+            int hits = 0;
+            for (int round = 1; round <= PONDER_ROUNDS; round++) {
+                MCTSEngine engine = new MCTSEngine(simulator);
+                engine.setTimeBudgetMs(TIME_BUDGET_MS);
+                engine.setParallelism(MCTSEngine.autoParallelism());
+                engine.setSearchScheduler(new MCTSSearchScheduler(MCTSEngine.autoParallelism()));
+                GameData live = gd.simulationCopy();
+
+                int pondered = 0;
+                if (ponder) {
+                    assertThat(engine.ponder(live, player1.getId(), ITERATION_BUDGET, rootActions)).isTrue();
+                    Thread.sleep(PONDER_THINK_MS);
+                    pondered = engine.getLastPonderIterations();
+                }
+                assertThat(simulator.advanceToDecision(live, player1.getId(),
+                        state -> rootActions.apply(state).size() > 1, PONDER_PREDICTION_PASSES)).isTrue();
+
+                long start = System.nanoTime();
+                SimulationAction action = engine.search(live, player1.getId(), ITERATION_BUDGET, rootActions.apply(live));
+                long latencyMs = (System.nanoTime() - start) / 1_000_000;
+                assertThat(action).isNotNull();
+                totalLatencyMs += latencyMs;
+                hits += engine.getPonderHits();
+                printRound(String.format("%s %d (%d pondered iterations, %d ms decision)", label, round, pondered, latencyMs),
+                        engine, action);
+            }
+            System.out.printf("%s AVG: %.1f ms decision latency, %d/%d pondered trees adopted%n",
+                    label.toUpperCase(), totalLatencyMs / (double) PONDER_ROUNDS, hits, ponder ? PONDER_ROUNDS : 0);
+        }
+    }
+
+    private static double measureNsPerOp(Runnable op) {
+        for (int i = 0; i < COPY_WARMUP_OPS; i++) {
+            op.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < COPY_MEASURED_OPS; i++) {
+            op.run();
+        }
+        return (System.nanoTime() - start) / (double) COPY_MEASURED_OPS;
+    }
+
     private void runFreshRounds(MCTSEngine engine, String label) {
         System.out.printf("--- Fresh-tree searches (%d rounds, %s) ---%n", FRESH_ROUNDS, label);
         long totalIterations = 0;
@@ -3,11 +3,13 @@ package com.github.laxika.magicalvibes.ai;
 import com.github.laxika.magicalvibes.ai.simulation.GameSimulator;
 import com.github.laxika.magicalvibes.ai.simulation.HeadlessSimulationContext;
 import com.github.laxika.magicalvibes.ai.simulation.MCTSEngine;
+import com.github.laxika.magicalvibes.ai.simulation.MCTSSearchScheduler;
 import com.github.laxika.magicalvibes.ai.simulation.SimulationAction;
 import com.github.laxika.magicalvibes.cards.f.Forest;
 import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
 import com.github.laxika.magicalvibes.cards.h.HillGiant;
 import com.github.laxika.magicalvibes.cards.l.LlanowarElves;
+import com.github.laxika.magicalvibes.cards.p.Plains;
 import com.github.laxika.magicalvibes.cards.r.RodOfRuin;
 import com.github.laxika.magicalvibes.cards.s.SerraAngel;
 import com.github.laxika.magicalvibes.cards.t.TragedyFeaster;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -95,6 +98,77 @@ class MCTSEngineTest {
         assertThat(action).isInstanceOf(SimulationAction.PlayCard.class);
     }
 
+    @Test
+    @DisplayName("A single worker makes identical choices on the lock-free tree and under the tree lock")
+    void lockFreeTreeMatchesTreeLockSequentially() {
+        harness.setHand(player1, List.of(new GrizzlyBears(), new SerraAngel()));
+        harness.addMana(player1, ManaColor.WHITE, 5);
+        harness.addMana(player1, ManaColor.GREEN, 2);
+        harness.forceStep(TurnStep.PRECOMBAT_MAIN);
+        harness.forceActivePlayer(player1);
+        gd.stack.clear();
+        MCTSEngine locked = new MCTSEngine(simulator, 42L, 200);
+        locked.setLockFreeTree(false);
+        MCTSEngine lockFree = new MCTSEngine(simulator, 42L, 200);
+        lockFree.setLockFreeTree(true);
+
+        SimulationAction lockedAction = locked.search(gd, player1.getId(), 200);
+        SimulationAction lockFreeAction = lockFree.search(gd, player1.getId(), 200);
+
+        assertThat(lockFreeAction).isEqualTo(lockedAction);
+        assertThat(lockFree.getCachedRootChildVisitSum()).isEqualTo(locked.getCachedRootChildVisitSum());
+    }
+
+    @Test
+    @DisplayName("Parallel workers on the lock-free tree lose no visits")
+    void parallelLockFreeSearchAccountsForEveryVisit() {
+        harness.setHand(player1, List.of(new GrizzlyBears(), new SerraAngel()));
+        harness.addMana(player1, ManaColor.WHITE, 5);
+        harness.addMana(player1, ManaColor.GREEN, 2);
+        harness.forceStep(TurnStep.PRECOMBAT_MAIN);
+        harness.forceActivePlayer(player1);
+        gd.stack.clear();
+        MCTSEngine parallel = new MCTSEngine(simulator);
+        parallel.setTimeBudgetMs(300);
+        parallel.setParallelism(4);
+        parallel.setLockFreeTree(true);
+        parallel.setSearchScheduler(new MCTSSearchScheduler(4));
+
+        SimulationAction action = parallel.search(gd, player1.getId(), 50000);
+
+        assertThat(action).isNotNull();
+        assertThat(parallel.getLastSearchGrantedWorkers()).isGreaterThan(1);
+        assertThat(parallel.getCachedRootVisits())
+                .isPositive()
+                .isEqualTo(parallel.getLastSearchIterations() - parallel.getLastSearchFailures()
+                        - parallel.getLastSearchDiscarded());
+        assertThat(parallel.getCachedRootChildVisitSum()).isEqualTo(parallel.getCachedRootVisits());
+    }
+
+    @Test
+    @DisplayName("Transposition statistics carry over to the next search of the same turn")
+    void transpositionsCarryOverBetweenSearchesOfATurn() {
+        harness.setHand(player1, List.of(new GrizzlyBears(), new SerraAngel()));
+        harness.addMana(player1, ManaColor.WHITE, 5);
+        harness.addMana(player1, ManaColor.GREEN, 2);
+        harness.forceStep(TurnStep.PRECOMBAT_MAIN);
+        harness.forceActivePlayer(player1);
+        gd.stack.clear();
+        MCTSEngine engine = new MCTSEngine(simulator, 42L, 200);
+        engine.setTranspositions(true);
+        List<SimulationAction> rootActions = simulator.getLegalActions(gd, player1.getId());
+        assertThat(rootActions).hasSizeGreaterThan(2);
+
+        engine.search(gd, player1.getId(), 200);
+        // A narrower root action set misses the warm-start cache but not the transposition table
+        engine.search(gd, player1.getId(), 200, rootActions.subList(0, rootActions.size() - 1));
+
+        assertThat(engine.getCacheMisses()).isEqualTo(2);
+        assertThat(engine.getTranspositionTableSize()).isPositive();
+        assertThat(engine.getLastSearchTranspositionHits()).isPositive();
+        assertThat(engine.getLastSearchTranspositionPriorVisits()).isPositive();
+    }
+
     @Test
     @DisplayName("Budget of 100 completes within reasonable time")
     void budgetCompletesInTime() {
@@ -510,4 +584,90 @@ class MCTSEngineTest {
         // With the 1200ms time budget + overhead, should complete well under 5 seconds
         assertThat(elapsed).isLessThan(5000);
     }
+
+    @Test
+    @DisplayName("A search adopts the pondered tree when the game reaches the predicted decision")
+    void searchAdoptsPonderedTreeWhenPredictionHolds() throws InterruptedException {
+        Function<GameData, List<SimulationAction>> rootActions = setUpOpponentEndStep();
+        MCTSEngine timedEngine = pondering();
+
+        assertThat(timedEngine.ponder(gd, player1.getId(), 50000, rootActions)).isTrue();
+        awaitPonderIterations(timedEngine);
+
+        // The opponent passes: play the live game along the same line to the AI's main phase
+        assertThat(simulator.advanceToDecision(gd, player1.getId(),
+                state -> rootActions.apply(state).size() > 1, 24)).isTrue();
+        timedEngine.search(gd, player1.getId(), 50000, rootActions.apply(gd));
+
+        assertThat(timedEngine.getPonderHits()).isEqualTo(1);
+        assertThat(timedEngine.getPonderMisses()).isZero();
+        assertThat(timedEngine.getCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A pondered tree is discarded when the game diverges from the prediction")
+    void ponderedTreeDiscardedWhenGameDiverges() throws InterruptedException {
+        Function<GameData, List<SimulationAction>> rootActions = setUpOpponentEndStep();
+        MCTSEngine timedEngine = pondering();
+
+        timedEngine.ponder(gd, player1.getId(), 50000, rootActions);
+        awaitPonderIterations(timedEngine);
+
+        assertThat(simulator.advanceToDecision(gd, player1.getId(),
+                state -> rootActions.apply(state).size() > 1, 24)).isTrue();
+        // Same legal actions, different information set: the opponent is at a life total the
+        // pondered tree never saw
+        harness.setLife(player2, 7);
+        timedEngine.search(gd, player1.getId(), 50000, rootActions.apply(gd));
+
+        assertThat(timedEngine.getPonderHits()).isZero();
+        assertThat(timedEngine.getPonderMisses()).isEqualTo(1);
+        assertThat(timedEngine.getCacheHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deterministic engines never ponder")
+    void deterministicEngineNeverPonders() {
+        Function<GameData, List<SimulationAction>> rootActions = setUpOpponentEndStep();
+
+        assertThat(engine.ponder(gd, player1.getId(), 500, rootActions)).isFalse();
+    }
+
+    /**
+     * The opponent holds priority in its end step; the AI has lands to untap and two creatures to
+     * cast in its next main phase, which is the decision a ponder should predict. Returns the
+     * spell-stage root actions the hard AI would search there.
+     */
+    private Function<GameData, List<SimulationAction>> setUpOpponentEndStep() {
+        harness.setHand(player1, List.of(new SerraAngel(), new GrizzlyBears()));
+        for (int i = 0; i < 5; i++) harness.addToBattlefield(player1, new Plains());
+        for (int i = 0; i < 2; i++) harness.addToBattlefield(player1, new Forest());
+        harness.setLibrary(player1, inertLibrary());
+        harness.setLibrary(player2, inertLibrary());
+        harness.forceActivePlayer(player2);
+        harness.forceStep(TurnStep.END_STEP);
+        gd.stack.clear();
+
+        return state -> player1.getId().equals(state.activePlayerId)
+                && state.currentStep == TurnStep.PRECOMBAT_MAIN
+                && state.interaction.activeInteraction() == null
+                && state.stack.isEmpty()
+                ? simulator.getLegalActions(state, player1.getId())
+                : List.of();
+    }
+
+    private MCTSEngine pondering() {
+        MCTSEngine timedEngine = new MCTSEngine(simulator);
+        timedEngine.setTimeBudgetMs(300);
+        timedEngine.setSearchScheduler(new MCTSSearchScheduler(1));
+        return timedEngine;
+    }
+
+    private static void awaitPonderIterations(MCTSEngine timedEngine) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (timedEngine.getLastPonderIterations() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(timedEngine.getLastPonderIterations()).isPositive();
+    }
 }
@@ -0,0 +1,158 @@
+package com.github.laxika.magicalvibes.ai.simulation;
+
+import com.github.laxika.magicalvibes.cards.f.Forest;
+import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
+import com.github.laxika.magicalvibes.cards.h.HillGiant;
+import com.github.laxika.magicalvibes.cards.h.HolyStrength;
+import com.github.laxika.magicalvibes.cards.s.Shock;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.ExiledCardEntry;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.StackEntry;
+import com.github.laxika.magicalvibes.model.StackEntryType;
+import com.github.laxika.magicalvibes.testutil.GameTestHarness;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("scryfall")
+class GameStateHasherTest {
+
+    private GameData gd;
+    private Player player1;
+    private Player player2;
+    private UUID aiId;
+
+    @BeforeEach
+    void setUp() {
+        GameTestHarness harness = new GameTestHarness();
+        player1 = harness.getPlayer1();
+        player2 = harness.getPlayer2();
+        gd = harness.getGameData();
+        harness.skipMulligan();
+        harness.setHand(player2, List.of(new HillGiant()));
+        aiId = player1.getId();
+    }
+
+    @Test
+    void sameBoardReachedInDifferentOrdersHashesAlike() {
+        GameData landFirst = gd.simulationCopy();
+        landFirst.playerBattlefields.get(aiId).add(new Permanent(new Forest()));
+        landFirst.playerBattlefields.get(aiId).add(new Permanent(new GrizzlyBears()));
+
+        GameData creatureFirst = gd.simulationCopy();
+        creatureFirst.playerBattlefields.get(aiId).add(new Permanent(new GrizzlyBears()));
+        creatureFirst.playerBattlefields.get(aiId).add(new Permanent(new Forest()));
+
+        assertThat(GameStateHasher.hash(landFirst, aiId)).isEqualTo(GameStateHasher.hash(creatureFirst, aiId));
+    }
+
+    @Test
+    void duplicateCardsDoNotCancelOut() {
+        GameData one = gd.simulationCopy();
+        one.playerBattlefields.get(aiId).add(new Permanent(new GrizzlyBears()));
+
+        GameData three = gd.simulationCopy();
+        for (int i = 0; i < 3; i++) {
+            three.playerBattlefields.get(aiId).add(new Permanent(new GrizzlyBears()));
+        }
+
+        assertThat(GameStateHasher.hash(one, aiId)).isNotEqualTo(GameStateHasher.hash(three, aiId));
+    }
+
+    @Test
+    void opponentHandContentsAreHiddenButItsSizeIsNot() {
+        GameData original = gd.simulationCopy();
+        GameData swapped = gd.simulationCopy();
+        swapped.playerHands.get(player2.getId()).set(0, new GrizzlyBears());
+        GameData larger = gd.simulationCopy();
+        larger.playerHands.get(player2.getId()).add(new GrizzlyBears());
+
+        assertThat(GameStateHasher.hash(swapped, aiId)).isEqualTo(GameStateHasher.hash(original, aiId));
+        assertThat(GameStateHasher.hash(larger, aiId)).isNotEqualTo(GameStateHasher.hash(original, aiId));
+    }
+
+    @Test
+    void tappingAPermanentChangesTheHash() {
+        GameData state = gd.simulationCopy();
+        Permanent forest = new Permanent(new Forest());
+        state.playerBattlefields.get(aiId).add(forest);
+        long untapped = GameStateHasher.hash(state, aiId);
+
+        forest.tap();
+
+        assertThat(GameStateHasher.hash(state, aiId)).isNotEqualTo(untapped);
+    }
+
+    @Test
+    void aSpellsTargetIsPartOfTheHash() {
+        GameData atOpponent = gd.simulationCopy();
+        atOpponent.stack.add(shock(player2.getId(), 0));
+        GameData atSelf = gd.simulationCopy();
+        atSelf.stack.add(shock(aiId, 0));
+        GameData atOpponentAgain = gd.simulationCopy();
+        atOpponentAgain.stack.add(shock(player2.getId(), 0));
+
+        assertThat(GameStateHasher.hash(atOpponent, aiId)).isNotEqualTo(GameStateHasher.hash(atSelf, aiId));
+        assertThat(GameStateHasher.hash(atOpponent, aiId)).isEqualTo(GameStateHasher.hash(atOpponentAgain, aiId));
+    }
+
+    @Test
+    void aSpellsXValueIsPartOfTheHash() {
+        GameData small = gd.simulationCopy();
+        small.stack.add(shock(player2.getId(), 1));
+        GameData large = gd.simulationCopy();
+        large.stack.add(shock(player2.getId(), 2));
+
+        assertThat(GameStateHasher.hash(small, aiId)).isNotEqualTo(GameStateHasher.hash(large, aiId));
+    }
+
+    @Test
+    void anAurasHostIsKeyedByWhatItEnchantsNotItsId() {
+        GameData onBears = auraState(new GrizzlyBears());
+        GameData onGiant = auraState(new HillGiant());
+        GameData onOtherBears = auraState(new GrizzlyBears());
+
+        assertThat(GameStateHasher.hash(onBears, aiId)).isNotEqualTo(GameStateHasher.hash(onGiant, aiId));
+        assertThat(GameStateHasher.hash(onBears, aiId)).isEqualTo(GameStateHasher.hash(onOtherBears, aiId));
+    }
+
+    @Test
+    void opponentsFaceDownExileIsHiddenButFaceUpExileIsNot() {
+        GameData bearsFaceDown = gd.simulationCopy();
+        bearsFaceDown.exiledCards.add(new ExiledCardEntry(new GrizzlyBears(), player2.getId(), null, true));
+        GameData giantFaceDown = gd.simulationCopy();
+        giantFaceDown.exiledCards.add(new ExiledCardEntry(new HillGiant(), player2.getId(), null, true));
+        GameData bearsFaceUp = gd.simulationCopy();
+        bearsFaceUp.exiledCards.add(new ExiledCardEntry(new GrizzlyBears(), player2.getId(), null));
+        GameData giantFaceUp = gd.simulationCopy();
+        giantFaceUp.exiledCards.add(new ExiledCardEntry(new HillGiant(), player2.getId(), null));
+
+        assertThat(GameStateHasher.hash(bearsFaceDown, aiId)).isEqualTo(GameStateHasher.hash(giantFaceDown, aiId));
+        assertThat(GameStateHasher.hash(bearsFaceUp, aiId)).isNotEqualTo(GameStateHasher.hash(giantFaceUp, aiId));
+        assertThat(GameStateHasher.hash(bearsFaceUp, aiId)).isNotEqualTo(GameStateHasher.hash(gd.simulationCopy(), aiId));
+    }
+
+    private StackEntry shock(UUID targetId, int xValue) {
+        return new StackEntry(StackEntryType.INSTANT_SPELL, new Shock(), aiId, "Shock",
+                List.of(), xValue, targetId, Map.of());
+    }
+
+    private GameData auraState(Card host) {
+        GameData state = gd.simulationCopy();
+        Permanent creature = new Permanent(host);
+        Permanent aura = new Permanent(new HolyStrength());
+        aura.setAttachedTo(creature.getId());
+        state.playerBattlefields.get(aiId).add(creature);
+        state.playerBattlefields.get(aiId).add(aura);
+        return state;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.laxika.magicalvibes.ai.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MCTSSearchSchedulerTest {
+
+    @Test
+    void lonelySearchGetsWhatItAskedFor() {
+        MCTSSearchScheduler scheduler = new MCTSSearchScheduler(8);
+
+        MCTSSearchScheduler.Lease lease = scheduler.acquire(4, 2500, true);
+
+        assertThat(lease.grantedWorkers()).isEqualTo(4);
+        assertThat(lease.grantedBudgetMs()).isEqualTo(2500);
+    }
+
+    @Test
+    void concurrentSearchesShareTheSlotsAndShrinkGracefully() {
+        MCTSSearchScheduler scheduler = new MCTSSearchScheduler(8);
+        MCTSSearchScheduler.Lease first = scheduler.acquire(8, 2500, false);
+        assertThat(first.grantedWorkers()).isEqualTo(8);
+
+        MCTSSearchScheduler.Lease second = scheduler.acquire(8, 2500, false);
+
+        assertThat(first.grantedWorkers()).isEqualTo(4);
+        assertThat(second.grantedWorkers()).isEqualTo(4);
+        assertThat(first.keepRunning(3)).isTrue();
+        assertThat(first.keepRunning(4)).isFalse();
+
+        second.release(100, 2500);
+        assertThat(first.grantedWorkers()).isEqualTo(4);
+        assertThat(scheduler.activeSearches()).isEqualTo(1);
+    }
+
+    @Test
+    void humanFacingSearchIsBoostedAndBackgroundBudgetsShrinkUnderLoad() {
+        MCTSSearchScheduler scheduler = new MCTSSearchScheduler(6);
+        MCTSSearchScheduler.Lease human = scheduler.acquire(6, 2500, true);
+
+        MCTSSearchScheduler.Lease background = scheduler.acquire(6, 2500, false);
+
+        assertThat(human.grantedWorkers()).isEqualTo(4);
+        assertThat(background.grantedWorkers()).isEqualTo(2);
+        assertThat(human.grantedBudgetMs()).isEqualTo(2500);
+        assertThat(background.grantedBudgetMs()).isEqualTo(1250);
+    }
+
+    @Test
+    void smallRequestsLeaveTheirUnusedShareToOthers() {
+        MCTSSearchScheduler scheduler = new MCTSSearchScheduler(8);
+        MCTSSearchScheduler.Lease sequential = scheduler.acquire(1, 2500, false);
+
+        MCTSSearchScheduler.Lease parallel = scheduler.acquire(8, 2500, false);
+
+        assertThat(sequential.grantedWorkers()).isEqualTo(1);
+        assertThat(parallel.grantedWorkers()).isEqualTo(7);
+    }
+}
@@ -55,3 +55,28 @@ tasks.named("resolveMainClassName") {
 tasks.named("bootRun") {
     dependsOn(copyFrontend)
 }
+
+// Replays every recorded game in the corpus (journals of finished games, see
+// magicalvibes.game.journal.corpus-dir) and fails when actions/s, p99 action latency, allocation
+// per action or projection cost per action regress past the corpus baseline.
+// ./gradlew :magical-vibes-application:replayBench [-DreplayCorpus=<dir>] [-DreplayBenchRecordBaseline=true]
+tasks.register<Test>("replayBench") {
+    group = "verification"
+    description = "Replay the recorded-game corpus and fail on performance regressions against its baseline."
+    val testSourceSet = project.the<SourceSetContainer>()["test"]
+    testClassesDirs = testSourceSet.output.classesDirs
+    classpath = testSourceSet.runtimeClasspath
+    filter {
+        includeTestsMatching("*.GameReplayBenchmarkTest")
+    }
+    systemProperty("replayBench", "true")
+    systemProperty(
+        "replayCorpus",
+        System.getProperty("replayCorpus")
+            ?: rootProject.layout.projectDirectory.dir("replay-corpus").asFile.absolutePath
+    )
+    // One fork, no test-JVM forking churn: the numbers must come from a single warmed-up JVM.
+    maxParallelForks = 1
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
+}
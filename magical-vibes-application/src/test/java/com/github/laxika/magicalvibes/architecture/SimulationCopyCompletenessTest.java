@@ -41,21 +41,43 @@ class SimulationCopyCompletenessTest {
      * Fields {@code simulationCopy()} intentionally does not carry. Each entry needs a reason;
      * an entry without one is a bug being hidden rather than a decision being recorded.
      */
-    private static final Map<String, String> DELIBERATELY_NOT_COPIED = Map.of(
-            "createdAt",
-            "Creation metadata; final and assigned by the constructor the copy already calls.",
-            "layeredBoardCache",
-            "A simulation copy must start with a cold CR 613 board cache so a simulated board can "
-                    + "never be served for the real game or vice versa (documented on the field).",
-            "revertableManaActivations",
-            "The MTGO-style cancel-casting window belongs to a human client mid-payment. Nothing in "
-                    + "simulation reads it, and copying it aliased live-game StackEntry objects into "
-                    + "the copy — which could not even work there, since simulationCopy deep-copies "
-                    + "pendingManaAbilityTriggers into new instances and StackEntry uses identity "
-                    + "equality, so the copied entries' removeAll would match nothing.",
-            "pendingRevertableManaActivation",
-            "Scratch state spanning a single colour prompt, for the same cancel-casting window as "
-                    + "revertableManaActivations above; a simulation copy must start with none owed.");
+    private static final Map<String, String> DELIBERATELY_NOT_COPIED = Map.ofEntries(
+            Map.entry("createdAt",
+                    "Creation metadata; final and assigned by the constructor the copy already calls."),
+            Map.entry("layeredBoardCache",
+                    "A simulation copy must start with a cold CR 613 board cache so a simulated board can "
+                            + "never be served for the real game or vice versa (documented on the field)."),
+            Map.entry("triggerListenerIndex",
+                    "Derived from the zones and kept current from their write counts, which are per "
+                            + "list; a copy rebuilds its own on first use (documented on the field)."),
+            Map.entry("staticEffectIndex",
+                    "Derived from the battlefields and kept current from their write counts, exactly "
+                            + "like triggerListenerIndex."),
+            Map.entry("gameLog",
+                    "Simulation copies keep no game log (GameLogService drops their entries) and nothing "
+                            + "in MCTS reads it, so copying the live log would only cost O(log) per copy."),
+            Map.entry("mutationActionState",
+                    "Per-game mutation ordering state (action lock, open mutation context). A copy must "
+                            + "never share the live game's lock or join its open mutation scope."),
+            Map.entry("revertableManaActivations",
+                    "The MTGO-style cancel-casting window belongs to a human client mid-payment. Nothing in "
+                            + "simulation reads it, and copying it aliased live-game StackEntry objects into "
+                            + "the copy — which could not even work there, since simulationCopy deep-copies "
+                            + "pendingManaAbilityTriggers into new instances and StackEntry uses identity "
+                            + "equality, so the copied entries' removeAll would match nothing."),
+            Map.entry("pendingRevertableManaActivation",
+                    "Scratch state spanning a single colour prompt, for the same cancel-casting window as "
+                            + "revertableManaActivations above; a simulation copy must start with none owed."),
+            Map.entry("zoneLocationIndex",
+                    "Derived from the zone lists and fed by them: the copy's own battlefield lists rebuild "
+                            + "it as simulationCopy() inserts the copied permanents, and copying the live "
+                            + "entries would point them at the live game's lists."),
+            Map.entry("entropy",
+                    "The live game's seeded generator; a rollout must never advance it, and copies built "
+                            + "outside the mutation coordinator use thread randomness (documented on the field)."),
+            Map.entry("journalReplay",
+                    "Marks a live game replaying its crash-recovery journal; a simulation copy never "
+                            + "replays and must build its batches normally."));
 
     private static final String GAME_DATA_SRC =
             "magical-vibes-domain/src/main/java/com/github/laxika/magicalvibes/model/GameData.java";
@@ -23,7 +23,14 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.event.GameEventAudience;
+import com.github.laxika.magicalvibes.model.event.GameEventBatch;
+import com.github.laxika.magicalvibes.model.event.GameEventEnvelope;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import com.github.laxika.magicalvibes.model.event.GameEventKind;
+import com.github.laxika.magicalvibes.service.GameViewProjectionFactory;
 import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import com.github.laxika.magicalvibes.testutil.GameTestEngineContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
@@ -36,7 +43,13 @@ import java.util.List;
  * BoardEvaluator, CombatSimulator) hammers {@code GameQueryService} queries, each of which is
  * one external {@code computeStaticBonus} call; this measures full-board query sweeps over a
  * static-effect-heavy board, both steady-state (no mutation between sweeps — the board cache's
- * best case) and with one tap-state mutation per sweep (every sweep recomputes the board).
+ * best case) and with one tap-state mutation per sweep (the board is only recomputed when its
+ * computation read tap state, which this board's does not — see "Tap and combat state").
+ *
+ * <p>{@link #benchmarkBattlefieldProjection} measures the client-facing side of the same board:
+ * full game-state projections of a 40-permanent board after a one-permanent change, the case
+ * per-permanent view reuse in {@code GameViewProjectionFactory} targets (add
+ * {@code -DdisablePermanentViewCache=true} for the rebuild-every-view baseline).
  *
  * <p>Disabled by default; run with {@code -DlayerBench=true}. Numbers are recorded in the
  * LAYER_SYSTEM.md Progress Log — absolute values are machine-dependent (and the test JVM runs
@@ -76,6 +89,59 @@ class LayerPassBenchmarkTest extends BaseCardTest {
                 bestSteady, bestSteady * queriesPerSweep, bestMutating, bestMutating * queriesPerSweep);
     }
 
+    @Test
+    void benchmarkBattlefieldProjection() {
+        List<Permanent> all = buildStaticHeavyBoard();
+        for (int i = 0; i < 8; i++) {
+            all.add(add(i % 2 == 0 ? player1 : player2, new GrizzlyBears()));
+            all.add(add(i % 2 == 0 ? player1 : player2, new Forest()));
+        }
+        GameViewProjectionFactory projectionFactory =
+                GameTestEngineContext.get().getBean(GameViewProjectionFactory.class);
+        Permanent toggled = all.getLast();
+        long[] version = {gd.domainStateVersion()};
+
+        projectFor(projectionFactory, toggled, version, WARMUP_NANOS);
+
+        System.out.printf("Board: %d permanents, permanent view cache %s%n", all.size(),
+                Boolean.getBoolean("disablePermanentViewCache") ? "DISABLED" : "enabled");
+        double best = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            double projections = projectFor(projectionFactory, toggled, version, MEASURED_NANOS);
+            best = Math.max(best, projections);
+            System.out.printf("Round %d: %.1f projections/s%n", round, projections);
+        }
+        System.out.printf("BEST: %.1f projections/s%n", best);
+    }
+
+    /**
+     * Taps or untaps one land and projects both seats' game state, recording the battlefield
+     * invalidation first the way the event subscriber does. Returns projections/second.
+     */
+    private double projectFor(GameViewProjectionFactory projectionFactory, Permanent toggled,
+                              long[] version, long windowNanos) {
+        long start = System.nanoTime();
+        long elapsed;
+        int projections = 0;
+        do {
+            if (toggled.isTapped()) {
+                toggled.untap();
+            } else {
+                toggled.tap();
+            }
+            long stateVersion = ++version[0];
+            projectionFactory.recordBatch(gd, new GameEventBatch(gd.id, stateVersion, stateVersion,
+                    GameEventBatch.DispatchMode.LIVE, List.of(new GameEventEnvelope(
+                            gd.id, 1, stateVersion, stateVersion, GameEventKind.STATE_INVALIDATED,
+                            new GameEventFact.StateInvalidated(GameEventFact.StateSection.BATTLEFIELD),
+                            GameEventAudience.allPlayers()))));
+            projectionFactory.createGameStateMessages(gd, List.of(), gd.orderedPlayerIds);
+            projections++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < windowNanos);
+        return projections / (elapsed / 1_000_000_000.0);
+    }
+
     /** Runs sweeps for (at least) the given wall-clock window and returns sweeps/second. */
     private double runFor(List<Permanent> all, boolean mutateBetweenSweeps, long windowNanos) {
         Permanent toggled = all.get(0);
@@ -1,7 +1,9 @@
 package com.github.laxika.magicalvibes.layers;
 
+import com.github.laxika.magicalvibes.cards.a.AdeptWatershaper;
 import com.github.laxika.magicalvibes.cards.d.Dub;
 import com.github.laxika.magicalvibes.cards.e.ElvishChampion;
+import com.github.laxika.magicalvibes.cards.f.Forest;
 import com.github.laxika.magicalvibes.cards.g.GloriousAnthem;
 import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
 import com.github.laxika.magicalvibes.model.Card;
@@ -28,7 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * {@code agent-docs/LAYER_SYSTEM.md} "Board cache"): the finished {@code LayeredBoardState} is
  * memoized in {@code GameData.layeredBoardCache} and invalidated by a structural fingerprint of
  * every input the pass reads — so DIRECT mutations (test setups bypassing the engine's funnels)
- * must invalidate it, and AI simulation copies must start with a cold cache that never leaks
+ * must invalidate it, tap state only matters to boards that read it, and AI simulation copies must start with a cold cache that never leaks
  * back into the real game's.
  */
 class LayeredBoardCacheTest extends BaseCardTest {
@@ -107,6 +109,35 @@ class LayeredBoardCacheTest extends BaseCardTest {
         assertThat(gqs.hasKeyword(gd, bear, Keyword.FIRST_STRIKE)).isTrue();
     }
 
+    @Test
+    void tapToggleReusesABoardThatNeverReadTapState() {
+        add(player1, new GloriousAnthem());
+        Permanent bear = add(player1, new GrizzlyBears());
+        Permanent forest = add(player1, new Forest());
+        assertThat(gqs.getEffectivePower(gd, bear)).isEqualTo(3);
+        Object cachedBoard = gd.layeredBoardCache;
+
+        forest.tap();
+        bear.tap();
+        assertThat(gqs.getEffectivePower(gd, bear)).isEqualTo(3);
+        assertThat(gd.layeredBoardCache).isSameAs(cachedBoard);
+    }
+
+    @Test
+    void tapToggleInvalidatesABoardWithATappedCreaturesScope() {
+        // "Other tapped creatures you control have indestructible" reads tap state while the
+        // board is built, so that board must follow every tap and untap.
+        add(player1, new AdeptWatershaper());
+        Permanent bear = add(player1, new GrizzlyBears());
+        assertThat(gqs.hasKeyword(gd, bear, Keyword.INDESTRUCTIBLE)).isFalse();
+
+        bear.tap();
+        assertThat(gqs.hasKeyword(gd, bear, Keyword.INDESTRUCTIBLE)).isTrue();
+
+        bear.untap();
+        assertThat(gqs.hasKeyword(gd, bear, Keyword.INDESTRUCTIBLE)).isFalse();
+    }
+
     @Test
     void floatingEffectAddAndExpiryInvalidate() {
         Permanent bear = add(player1, new GrizzlyBears());
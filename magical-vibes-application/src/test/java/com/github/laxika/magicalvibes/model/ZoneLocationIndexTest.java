@@ -0,0 +1,133 @@
+package com.github.laxika.magicalvibes.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZoneLocationIndexTest {
+
+    private UUID player1;
+    private UUID player2;
+    private GameData gameData;
+
+    @BeforeEach
+    void setUp() {
+        player1 = UUID.randomUUID();
+        player2 = UUID.randomUUID();
+        gameData = new GameData(UUID.randomUUID(), "test", player1, "Player 1");
+        gameData.orderedPlayerIds.add(player1);
+        gameData.orderedPlayerIds.add(player2);
+        for (UUID playerId : List.of(player1, player2)) {
+            gameData.playerBattlefields.put(playerId, gameData.newBattlefieldList());
+            gameData.playerGraveyards.put(playerId, gameData.newGraveyardList());
+        }
+    }
+
+    @Test
+    void locatesPermanentUntilItLeavesTheBattlefield() {
+        Permanent permanent = new Permanent(new Card());
+        gameData.playerBattlefields.get(player2).add(permanent);
+
+        ZoneLocationIndex.Location<Permanent> location = gameData.locatePermanent(permanent.getId());
+        assertThat(location.element()).isSameAs(permanent);
+        assertThat(location.playerId()).isEqualTo(player2);
+
+        gameData.playerBattlefields.get(player2).remove(permanent);
+
+        assertThat(gameData.locatePermanent(permanent.getId())).isNull();
+        assertThat(gameData.findZoneLocationIndexInconsistency()).isNull();
+    }
+
+    @Test
+    void controlChangeMovesTheEntryWhicheverSideIsWrittenFirst() {
+        Permanent permanent = new Permanent(new Card());
+        gameData.playerBattlefields.get(player1).add(permanent);
+
+        // Insert-then-remove: the removal from the old battlefield must not drop the new entry.
+        gameData.playerBattlefields.get(player2).add(permanent);
+        gameData.playerBattlefields.get(player1).remove(permanent);
+        assertThat(gameData.locatePermanent(permanent.getId()).playerId()).isEqualTo(player2);
+
+        gameData.playerBattlefields.get(player2).remove(permanent);
+        gameData.playerBattlefields.get(player1).add(permanent);
+        assertThat(gameData.locatePermanent(permanent.getId()).playerId()).isEqualTo(player1);
+        assertThat(gameData.findZoneLocationIndexInconsistency()).isNull();
+    }
+
+    @Test
+    void bulkAndIteratorMutationsKeepTheIndexExact() {
+        List<Permanent> battlefield = gameData.playerBattlefields.get(player1);
+        List<Permanent> permanents = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            permanents.add(new Permanent(new Card()));
+        }
+        battlefield.addAll(permanents);
+
+        Collections.swap(battlefield, 0, 5);
+        battlefield.sort(Comparator.comparing(Permanent::getId));
+        battlefield.removeIf(p -> p == permanents.get(1));
+        synchronized (battlefield) {
+            Iterator<Permanent> iterator = battlefield.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() == permanents.get(2)) {
+                    iterator.remove();
+                }
+            }
+        }
+        battlefield.set(battlefield.indexOf(permanents.get(3)), permanents.get(1));
+
+        assertThat(gameData.locatePermanent(permanents.get(0).getId()).playerId()).isEqualTo(player1);
+        assertThat(gameData.locatePermanent(permanents.get(1).getId()).playerId()).isEqualTo(player1);
+        assertThat(gameData.locatePermanent(permanents.get(2).getId())).isNull();
+        assertThat(gameData.locatePermanent(permanents.get(3).getId())).isNull();
+        assertThat(gameData.findZoneLocationIndexInconsistency()).isNull();
+
+        battlefield.clear();
+        assertThat(gameData.locatePermanent(permanents.get(0).getId())).isNull();
+        assertThat(gameData.findZoneLocationIndexInconsistency()).isNull();
+    }
+
+    @Test
+    void handBuiltBattlefieldFallsBackToScanning() {
+        Permanent permanent = new Permanent(new Card());
+        gameData.playerBattlefields.put(player2, Collections.synchronizedList(new ArrayList<>(List.of(permanent))));
+
+        assertThat(gameData.locatePermanent(permanent.getId()).playerId()).isEqualTo(player2);
+    }
+
+    @Test
+    void simulationCopyIndexesItsOwnPermanents() {
+        Permanent permanent = new Permanent(new Card());
+        gameData.playerBattlefields.get(player1).add(permanent);
+
+        GameData copy = gameData.simulationCopy();
+        gameData.playerBattlefields.get(player1).remove(permanent);
+
+        ZoneLocationIndex.Location<Permanent> copied = copy.locatePermanent(permanent.getId());
+        assertThat(copied.playerId()).isEqualTo(player1);
+        assertThat(copied.element()).isNotSameAs(permanent);
+        assertThat(copied.element()).isSameAs(copy.playerBattlefields.get(player1).getFirst());
+        assertThat(gameData.locatePermanent(permanent.getId())).isNull();
+    }
+
+    @Test
+    void locatesGraveyardCardsInLiveGamesAndSimulationCopies() {
+        Card card = new Card();
+        gameData.playerGraveyards.get(player2).add(card);
+
+        assertThat(gameData.locateGraveyardCard(card.getId()).playerId()).isEqualTo(player2);
+        assertThat(gameData.simulationCopy().locateGraveyardCard(card.getId()).element()).isSameAs(card);
+
+        gameData.playerGraveyards.get(player2).remove(card);
+        assertThat(gameData.locateGraveyardCard(card.getId())).isNull();
+        assertThat(gameData.findZoneLocationIndexInconsistency()).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.laxika.magicalvibes.service;
+
+import com.github.laxika.magicalvibes.cards.f.Forest;
+import com.github.laxika.magicalvibes.cards.g.GloriousAnthem;
+import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
+import com.github.laxika.magicalvibes.cards.l.LightningBolt;
+import com.github.laxika.magicalvibes.cards.l.LlanowarElves;
+import com.github.laxika.magicalvibes.cards.m.Mountain;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import com.github.laxika.magicalvibes.testutil.GameTestEngineContext;
+import com.github.laxika.magicalvibes.websocket.GameStatePatchEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire-size benchmark for the {@code GAME_STATE_PATCH} delta protocol: projects one seat's view
+ * after each of a stream of small mutations (a tap, a life change, a card drawn) over a
+ * mid-game board and compares full {@code GAME_STATE} frames against the patches
+ * {@link GameStatePatchEncoder} would send instead — bytes per update and encode time.
+ *
+ * <p>Disabled by default; run with {@code -DprotocolBench=true}. Encode times are
+ * machine-dependent (the test JVM runs with {@code -XX:TieredStopAtLevel=1}); byte counts are not.
+ */
+@EnabledIfSystemProperty(named = "protocolBench", matches = "true")
+class GameStatePatchBenchmarkTest extends BaseCardTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+    private static final int WARMUP_UPDATES = 2_000;
+    private static final int MEASURED_UPDATES = 5_000;
+
+    @Test
+    void benchmarkFullStateAgainstPatches() {
+        GameViewProjectionFactory projectionFactory =
+                GameTestEngineContext.get().getBean(GameViewProjectionFactory.class);
+        List<Permanent> board = buildMidGameBoard();
+
+        run(projectionFactory, board, WARMUP_UPDATES);
+        Result result = run(projectionFactory, board, MEASURED_UPDATES);
+
+        System.out.printf("Board: %d permanents, %d updates%n", board.size(), MEASURED_UPDATES);
+        System.out.printf("Full GAME_STATE:  %,d bytes/update, %.1f us/update to encode%n",
+                result.fullBytes / MEASURED_UPDATES, result.fullNanos / 1_000.0 / MEASURED_UPDATES);
+        System.out.printf("GAME_STATE_PATCH: %,d bytes/update, %.1f us/update to diff and encode (%.1f%% of full)%n",
+                result.patchBytes / MEASURED_UPDATES, result.patchNanos / 1_000.0 / MEASURED_UPDATES,
+                100.0 * result.patchBytes / result.fullBytes);
+    }
+
+    private Result run(GameViewProjectionFactory projectionFactory, List<Permanent> board, int updates) {
+        GameStatePatchEncoder encoder = new GameStatePatchEncoder(OBJECT_MAPPER);
+        UUID viewerId = player1.getId();
+        Result result = new Result();
+        for (int update = 0; update < updates; update++) {
+            mutate(board, update);
+            GameStateMessage message = projectionFactory
+                    .rebuildGameStateMessages(gd, List.of(), List.of(viewerId)).get(viewerId);
+
+            long start = System.nanoTime();
+            String full = OBJECT_MAPPER.writeValueAsString(message);
+            long afterFull = System.nanoTime();
+            String patch = OBJECT_MAPPER.writeValueAsString(encoder.encode(gd.id, update + 1, message));
+            long afterPatch = System.nanoTime();
+
+            result.fullBytes += full.length();
+            result.patchBytes += patch.length();
+            result.fullNanos += afterFull - start;
+            result.patchNanos += afterPatch - afterFull;
+        }
+        return result;
+    }
+
+    /** One small state change per update, cycling through the usual shapes of a priority pass. */
+    private void mutate(List<Permanent> board, int update) {
+        switch (update % 3) {
+            case 0 -> {
+                Permanent permanent = board.get(update % board.size());
+                if (permanent.isTapped()) {
+                    permanent.untap();
+                } else {
+                    permanent.tap();
+                }
+            }
+            case 1 -> harness.setLife(player2, 20 - update % 7);
+            default -> {
+                List<Card> hand = gd.playerHands.get(player1.getId());
+                if (hand.size() > 7) {
+                    hand.removeFirst();
+                } else {
+                    hand.add(new LightningBolt());
+                }
+            }
+        }
+    }
+
+    private List<Permanent> buildMidGameBoard() {
+        List<Permanent> board = new ArrayList<>();
+        for (Player player : List.of(player1, player2)) {
+            board.add(harness.addToBattlefieldAndReturn(player, new GloriousAnthem()));
+            for (int i = 0; i < 4; i++) {
+                board.add(harness.addToBattlefieldAndReturn(player, new GrizzlyBears()));
+                board.add(harness.addToBattlefieldAndReturn(player, new LlanowarElves()));
+                board.add(harness.addToBattlefieldAndReturn(player, new Forest()));
+                board.add(harness.addToBattlefieldAndReturn(player, new Mountain()));
+            }
+        }
+        harness.setHand(player1, List.of(new LightningBolt(), new GrizzlyBears(), new Forest()));
+        return board;
+    }
+
+    private static final class Result {
+        private long fullBytes;
+        private long patchBytes;
+        private long fullNanos;
+        private long patchNanos;
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.laxika.magicalvibes.service;
+
+import com.github.laxika.magicalvibes.cards.f.Forest;
+import com.github.laxika.magicalvibes.cards.g.GloriousAnthem;
+import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
+import com.github.laxika.magicalvibes.cards.l.LightningBolt;
+import com.github.laxika.magicalvibes.model.CounterType;
+import com.github.laxika.magicalvibes.model.GameLogEntry;
+import com.github.laxika.magicalvibes.model.ManaColor;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import com.github.laxika.magicalvibes.networking.model.PermanentView;
+import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
+import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import com.github.laxika.magicalvibes.testutil.GameTestEngineContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Section-scoped state projection: {@code GameViewProjectionFactory} reuses the sections a batch
+ * did not invalidate, and the serialized result must stay byte-identical to a full rebuild.
+ */
+class IncrementalGameStateProjectionTest extends BaseCardTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+
+    private GameViewProjectionFactory projectionFactory;
+    private GameMutationCoordinator mutationCoordinator;
+    private GameLogService gameLogService;
+
+    @BeforeEach
+    void setUpProjection() {
+        var context = GameTestEngineContext.get();
+        projectionFactory = context.getBean(GameViewProjectionFactory.class);
+        mutationCoordinator = context.getBean(GameMutationCoordinator.class);
+        gameLogService = context.getBean(GameLogService.class);
+    }
+
+    @Test
+    @DisplayName("A log-only batch reuses the cached board, hand and playable-action sections")
+    void logOnlyBatchReusesCachedSections() {
+        harness.addToBattlefield(player1, new GrizzlyBears());
+        harness.setHand(player1, List.of(new LightningBolt()));
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        Map<UUID, GameStateMessage> before = project();
+
+        harness.inMutationScope(() -> gameLogService.append(gd, GameLogEntry.text("Nothing happens.")));
+        Map<UUID, GameStateMessage> after = project();
+
+        GameStateMessage beforeView = before.get(player1.getId());
+        GameStateMessage afterView = after.get(player1.getId());
+        assertThat(afterView.battlefields()).isSameAs(beforeView.battlefields());
+        assertThat(afterView.graveyards()).isSameAs(beforeView.graveyards());
+        assertThat(afterView.hand()).isSameAs(beforeView.hand());
+        assertThat(afterView.playableCardIndices()).isSameAs(beforeView.playableCardIndices());
+        assertMatchesFullRebuild(after);
+    }
+
+    @Test
+    @DisplayName("An invalidated player view rebuilds the cached sections")
+    void invalidatedPlayerViewRebuildsSections() {
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        Map<UUID, GameStateMessage> before = project();
+
+        harness.inMutationScope(() -> {
+            harness.addToBattlefield(player1, new GrizzlyBears());
+            mutationCoordinator.invalidateAllPlayerViews(gd);
+        });
+        Map<UUID, GameStateMessage> after = project();
+
+        assertThat(after.get(player1.getId()).battlefields())
+                .isNotSameAs(before.get(player1.getId()).battlefields());
+        assertThat(after.get(player1.getId()).battlefields().getFirst()).hasSize(1);
+        assertMatchesFullRebuild(after);
+    }
+
+    @Test
+    @DisplayName("A rebuilt battlefield reuses the views of permanents that did not change")
+    void rebuiltBattlefieldReusesUnchangedPermanentViews() {
+        harness.addToBattlefield(player1, new GrizzlyBears());
+        harness.addToBattlefield(player1, new Forest());
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        List<PermanentView> before = project().get(player1.getId()).battlefields().getFirst();
+
+        harness.inMutationScope(() -> {
+            gd.playerBattlefields.get(player1.getId()).get(1).tap();
+            mutationCoordinator.invalidateAllPlayerViews(gd);
+        });
+        Map<UUID, GameStateMessage> after = project();
+
+        List<PermanentView> afterViews = after.get(player1.getId()).battlefields().getFirst();
+        assertThat(afterViews.get(0)).isSameAs(before.get(0));
+        assertThat(afterViews.get(1)).isNotSameAs(before.get(1));
+        assertThat(afterViews.get(1).tapped()).isTrue();
+        assertMatchesFullRebuild(after);
+    }
+
+    @Test
+    @DisplayName("A static ability entering rebuilds the views of the permanents it affects")
+    void enteringAnthemRebuildsAffectedPermanentViews() {
+        harness.addToBattlefield(player1, new GrizzlyBears());
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        PermanentView before = project().get(player1.getId()).battlefields().getFirst().getFirst();
+
+        harness.inMutationScope(() -> {
+            harness.addToBattlefield(player1, new GloriousAnthem());
+            mutationCoordinator.invalidateAllPlayerViews(gd);
+        });
+        Map<UUID, GameStateMessage> after = project();
+
+        PermanentView bears = after.get(player1.getId()).battlefields().getFirst().getFirst();
+        assertThat(bears).isNotSameAs(before);
+        assertThat(bears.effectivePower()).isEqualTo(3);
+        assertMatchesFullRebuild(after);
+    }
+
+    @Test
+    @DisplayName("Incremental projection matches a full rebuild through casts, resolution and death")
+    void incrementalProjectionMatchesFullRebuildThroughoutPlay() {
+        harness.setHand(player1, List.of(new GrizzlyBears(), new LightningBolt()));
+        harness.addMana(player1, ManaColor.GREEN, 2);
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        assertMatchesFullRebuild(project());
+
+        harness.castCreature(player1, 0);
+        assertMatchesFullRebuild(project());
+
+        harness.passBothPriorities();
+        assertMatchesFullRebuild(project());
+
+        harness.addMana(player1, ManaColor.RED, 1);
+        harness.castInstant(player1, 0, harness.getPermanentId(player1, "Grizzly Bears"));
+        assertMatchesFullRebuild(project());
+
+        harness.passBothPriorities();
+        assertThat(gd.playerGraveyards.get(player1.getId())).hasSize(2);
+        assertMatchesFullRebuild(project());
+    }
+
+    @Test
+    @DisplayName("Cached permanent views match fresh builds through random board mutations")
+    void cachedPermanentViewsMatchFreshBuildsUnderRandomMutations() {
+        Random random = new Random(20260418L);
+        harness.addToBattlefield(player1, new GrizzlyBears());
+        harness.addToBattlefield(player1, new Forest());
+        harness.addToBattlefield(player2, new GrizzlyBears());
+        harness.inMutationScope(() -> mutationCoordinator.invalidateAllPlayerViews(gd));
+        List<PermanentView> previous = allViews(project());
+        int reused = 0;
+
+        for (int step = 0; step < 200; step++) {
+            harness.inMutationScope(() -> {
+                mutateRandomly(random);
+                mutationCoordinator.invalidateAllPlayerViews(gd);
+            });
+            Map<UUID, GameStateMessage> after = project();
+            List<PermanentView> views = allViews(after);
+            for (PermanentView view : views) {
+                if (previous.stream().anyMatch(last -> last == view)) {
+                    reused++;
+                }
+            }
+            previous = views;
+            assertMatchesFullRebuild(after);
+        }
+
+        assertThat(reused).as("unchanged permanents reuse their views").isPositive();
+        assertThat(projectionFactory.permanentViewMismatchCount()).isZero();
+    }
+
+    /** One random change a turn could make to a permanent or to the board around it. */
+    private void mutateRandomly(Random random) {
+        Player player = random.nextBoolean() ? player1 : player2;
+        List<Permanent> battlefield = gd.playerBattlefields.get(player.getId());
+        if (battlefield.isEmpty()) {
+            harness.addToBattlefield(player, new GrizzlyBears());
+            return;
+        }
+        Permanent permanent = battlefield.get(random.nextInt(battlefield.size()));
+        switch (random.nextInt(9)) {
+            case 0 -> {
+                if (permanent.isTapped()) {
+                    permanent.untap();
+                } else {
+                    permanent.tap();
+                }
+            }
+            case 1 -> permanent.setMarkedDamage(random.nextInt(2));
+            case 2 -> permanent.setCounterCount(CounterType.PLUS_ONE_PLUS_ONE,
+                    permanent.getCounterCount(CounterType.PLUS_ONE_PLUS_ONE) + 1);
+            case 3 -> permanent.setSummoningSick(!permanent.isSummoningSick());
+            case 4 -> permanent.setCantBeBlocked(!permanent.isCantBeBlocked());
+            case 5 -> permanent.setRegenerationShield(random.nextInt(2));
+            case 6 -> harness.addToBattlefield(player, new GrizzlyBears());
+            case 7 -> harness.addToBattlefield(player, new GloriousAnthem());
+            default -> battlefield.remove(permanent);
+        }
+    }
+
+    private static List<PermanentView> allViews(Map<UUID, GameStateMessage> messages) {
+        List<PermanentView> views = new ArrayList<>();
+        messages.values().iterator().next().battlefields().forEach(views::addAll);
+        return views;
+    }
+
+    private Map<UUID, GameStateMessage> project() {
+        return projectionFactory.createGameStateMessages(gd, List.of(), gd.orderedPlayerIds);
+    }
+
+    private void assertMatchesFullRebuild(Map<UUID, GameStateMessage> incremental) {
+        Map<UUID, GameStateMessage> rebuilt =
+                projectionFactory.rebuildGameStateMessages(gd, List.of(), gd.orderedPlayerIds);
+        assertThat(incremental.keySet()).containsExactlyElementsOf(rebuilt.keySet());
+        for (UUID playerId : rebuilt.keySet()) {
+            assertThat(OBJECT_MAPPER.writeValueAsString(incremental.get(playerId)))
+                    .isEqualTo(OBJECT_MAPPER.writeValueAsString(rebuilt.get(playerId)));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.laxika.magicalvibes.service.battlefield;
+
+import com.github.laxika.magicalvibes.cards.e.ElvishChampion;
+import com.github.laxika.magicalvibes.cards.f.Forest;
+import com.github.laxika.magicalvibes.cards.g.GloriousAnthem;
+import com.github.laxika.magicalvibes.cards.g.GoblinKing;
+import com.github.laxika.magicalvibes.cards.g.GrafdiggersCage;
+import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
+import com.github.laxika.magicalvibes.cards.i.Immerwolf;
+import com.github.laxika.magicalvibes.cards.l.LlanowarElves;
+import com.github.laxika.magicalvibes.cards.m.Mountain;
+import com.github.laxika.magicalvibes.cards.s.SunglassesOfUrza;
+import com.github.laxika.magicalvibes.cards.s.Swamp;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.effect.ActivateCreatureAbilitiesAsThoughHasteEffect;
+import com.github.laxika.magicalvibes.model.effect.BasicLandManaProducesAnyColorEffect;
+import com.github.laxika.magicalvibes.model.effect.CardEffect;
+import com.github.laxika.magicalvibes.model.effect.CardsCantEnterBattlefieldFromZonesEffect;
+import com.github.laxika.magicalvibes.model.effect.MeliraPoisonReplacementEffect;
+import com.github.laxika.magicalvibes.model.effect.PlayerCantGetPoisonCountersEffect;
+import com.github.laxika.magicalvibes.model.effect.PlayersCantCastSpellsFromZonesEffect;
+import com.github.laxika.magicalvibes.model.effect.PreventTransformEffect;
+import com.github.laxika.magicalvibes.model.effect.SpendWhiteManaAsRedEffect;
+import com.github.laxika.magicalvibes.model.effect.StaticBoostEffect;
+import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Micro-benchmark for the "does this player control an X effect" questions on a static-heavy
+ * board: ~50 permanents, a third of them carrying STATIC abilities (anthems, lords, Immerwolf,
+ * Grafdigger's Cage, Sunglasses of Urza). A catalog of presence questions — mostly for effects
+ * nobody controls, as in real games — is answered three ways: the per-permanent scan
+ * {@link GameQueryService} ran before {@link StaticEffectIndex}, the index on an unchanged board,
+ * and the index on a board that changes before every sweep (each sweep then pays one rebuild).
+ *
+ * <p>Disabled by default; run with {@code -DstaticIndexBench=true}. Absolute values are
+ * machine-dependent (the test JVM runs with {@code -XX:TieredStopAtLevel=1}); only ratios on the
+ * same machine matter.
+ */
+@EnabledIfSystemProperty(named = "staticIndexBench", matches = "true")
+class StaticEffectIndexBenchmarkTest extends BaseCardTest {
+
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long MEASURED_NANOS = 4_000_000_000L;
+    private static final int ROUNDS = 3;
+
+    private static final List<Class<? extends CardEffect>> CATALOG = List.of(
+            PreventTransformEffect.class,
+            BasicLandManaProducesAnyColorEffect.class,
+            PlayersCantCastSpellsFromZonesEffect.class,
+            CardsCantEnterBattlefieldFromZonesEffect.class,
+            SpendWhiteManaAsRedEffect.class,
+            PlayerCantGetPoisonCountersEffect.class,
+            MeliraPoisonReplacementEffect.class,
+            ActivateCreatureAbilitiesAsThoughHasteEffect.class,
+            StaticBoostEffect.class);
+
+    @Test
+    void benchmarkStaticEffectPresence() {
+        buildBoard();
+        List<UUID> players = List.of(player1.getId(), player2.getId());
+        int questionsPerSweep = CATALOG.size() * players.size();
+
+        for (Mode mode : Mode.values()) {
+            runFor(mode, players, WARMUP_NANOS);
+        }
+
+        System.out.printf("Board: %d permanents, %d questions/sweep%n",
+                gd.playerBattlefields.values().stream().mapToInt(List::size).sum(), questionsPerSweep);
+        double[] best = new double[Mode.values().length];
+        for (int round = 1; round <= ROUNDS; round++) {
+            StringBuilder line = new StringBuilder("Round " + round + ":");
+            for (Mode mode : Mode.values()) {
+                double sweeps = runFor(mode, players, MEASURED_NANOS);
+                best[mode.ordinal()] = Math.max(best[mode.ordinal()], sweeps);
+                line.append(String.format(" %s %.0f sweeps/s (%.0f questions/s)",
+                        mode.label, sweeps, sweeps * questionsPerSweep));
+            }
+            System.out.println(line);
+        }
+        StringBuilder line = new StringBuilder("BEST:");
+        for (Mode mode : Mode.values()) {
+            line.append(String.format(" %s %.0f sweeps/s", mode.label, best[mode.ordinal()]));
+        }
+        System.out.println(line);
+    }
+
+    private enum Mode {
+        SCAN("scan"), INDEX("index"), INDEX_CHANGING("index, board changing");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    /** Runs sweeps for (at least) the given wall-clock window and returns sweeps/second. */
+    private double runFor(Mode mode, List<UUID> players, long windowNanos) {
+        List<Permanent> battlefield = gd.playerBattlefields.get(player1.getId());
+        long start = System.nanoTime();
+        long elapsed;
+        int sweeps = 0;
+        long sink = 0;
+        do {
+            if (mode == Mode.INDEX_CHANGING) {
+                // Re-inserting a permanent moves it in battlefield order, which moves the list's write count.
+                battlefield.add(battlefield.removeFirst());
+            }
+            for (UUID playerId : players) {
+                for (Class<? extends CardEffect> effectType : CATALOG) {
+                    boolean present = mode == Mode.SCAN
+                            ? scan(playerId, effectType)
+                            : gqs.staticEffectIndex().controls(gd, playerId, effectType);
+                    if (present) sink++;
+                }
+            }
+            sweeps++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < windowNanos);
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return sweeps / (elapsed / 1_000_000_000.0);
+    }
+
+    /** The per-permanent scan {@code playerBattlefieldHasStaticEffect} ran before the index. */
+    private boolean scan(UUID playerId, Class<? extends CardEffect> effectType) {
+        List<Permanent> battlefield = gd.playerBattlefields.get(playerId);
+        if (battlefield == null) return false;
+        for (Permanent permanent : battlefield) {
+            if (permanent.getCard().getEffects(EffectSlot.STATIC).stream().anyMatch(effectType::isInstance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void buildBoard() {
+        for (int i = 0; i < 2; i++) {
+            add(player1, new GloriousAnthem());
+            add(player1, new GoblinKing());
+            add(player1, new ElvishChampion());
+            add(player2, new Immerwolf());
+            add(player2, new GloriousAnthem());
+        }
+        add(player1, new GrafdiggersCage());
+        add(player2, new SunglassesOfUrza());
+        for (int i = 0; i < 4; i++) {
+            add(player1, new LlanowarElves());
+            add(player2, new GrizzlyBears());
+            add(player1, new Forest());
+            add(player1, new Mountain());
+            add(player2, new Swamp());
+            add(player2, new Forest());
+            add(player1, new ElvishChampion());
+            add(player2, new GoblinKing());
+        }
+    }
+
+    private void add(Player player, Card card) {
+        card.setOwnerId(player.getId());
+        Permanent perm = new Permanent(card);
+        perm.setSummoningSick(false);
+        gd.playerBattlefields.get(player.getId()).add(perm);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.laxika.magicalvibes.service.battlefield;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.effect.BoostSelfEffect;
+import com.github.laxika.magicalvibes.model.effect.CardEffect;
+import com.github.laxika.magicalvibes.model.effect.PlayerCantGetPoisonCountersEffect;
+import com.github.laxika.magicalvibes.model.effect.SpendWhiteManaAsRedEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticEffectIndexTest {
+
+    private final Set<Permanent> abilitiesRemoved = new HashSet<>();
+    private final StaticEffectIndex index = new StaticEffectIndex((gameData, permanent) -> abilitiesRemoved.contains(permanent));
+
+    private GameData gd;
+    private UUID player1Id;
+    private UUID player2Id;
+
+    @BeforeEach
+    void setUp() {
+        player1Id = UUID.randomUUID();
+        player2Id = UUID.randomUUID();
+        gd = new GameData(UUID.randomUUID(), "test", player1Id, "Player1");
+        gd.orderedPlayerIds.add(player1Id);
+        gd.orderedPlayerIds.add(player2Id);
+        gd.playerBattlefields.put(player1Id, Collections.synchronizedList(new ArrayList<>()));
+        gd.playerBattlefields.put(player2Id, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    private Permanent addPermanent(UUID controllerId, CardEffect staticEffect) {
+        Card card = new Card();
+        card.setName("Source");
+        if (staticEffect != null) {
+            card.addEffect(EffectSlot.STATIC, staticEffect);
+        }
+        Permanent permanent = new Permanent(card);
+        gd.playerBattlefields.get(controllerId).add(permanent);
+        return permanent;
+    }
+
+    @Test
+    void listsOnlyPermanentsPrintingTheEffect() {
+        addPermanent(player1Id, new BoostSelfEffect(1, 1));
+        Permanent sunglasses = addPermanent(player2Id, new SpendWhiteManaAsRedEffect());
+
+        assertThat(index.sources(gd, SpendWhiteManaAsRedEffect.class))
+                .extracting(StaticEffectIndex.Source::permanent)
+                .containsExactly(sunglasses);
+        assertThat(index.controls(gd, player2Id, SpendWhiteManaAsRedEffect.class)).isTrue();
+        assertThat(index.controls(gd, player1Id, SpendWhiteManaAsRedEffect.class)).isFalse();
+        assertThat(index.present(gd, PlayerCantGetPoisonCountersEffect.class)).isFalse();
+    }
+
+    @Test
+    void seesEntryExitAndControlChangesWithoutBeingTold() {
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isFalse();
+
+        Permanent sunglasses = addPermanent(player1Id, new SpendWhiteManaAsRedEffect());
+        assertThat(index.controls(gd, player1Id, SpendWhiteManaAsRedEffect.class)).isTrue();
+
+        gd.playerBattlefields.get(player1Id).remove(sunglasses);
+        gd.playerBattlefields.get(player2Id).add(sunglasses);
+        assertThat(index.controls(gd, player1Id, SpendWhiteManaAsRedEffect.class)).isFalse();
+        assertThat(index.controls(gd, player2Id, SpendWhiteManaAsRedEffect.class)).isTrue();
+
+        gd.playerBattlefields.get(player2Id).clear();
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isFalse();
+        assertThat(StaticEffectIndex.findInconsistency(gd)).isNull();
+    }
+
+    @Test
+    void seesCardSwapsAndInPlaceEffectEdits() {
+        Permanent permanent = addPermanent(player1Id, null);
+        assertThat(index.present(gd, PlayerCantGetPoisonCountersEffect.class)).isFalse();
+
+        // A transform or copy swaps the permanent's card.
+        Card otherFace = new Card();
+        otherFace.setName("Other Face");
+        otherFace.addEffect(EffectSlot.STATIC, new SpendWhiteManaAsRedEffect());
+        permanent.setCard(otherFace);
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isTrue();
+
+        // An in-place edit of the unfrozen runtime copy bumps its effect revision.
+        otherFace.addEffect(EffectSlot.STATIC, new PlayerCantGetPoisonCountersEffect());
+        assertThat(index.present(gd, PlayerCantGetPoisonCountersEffect.class)).isTrue();
+        assertThat(StaticEffectIndex.findInconsistency(gd)).isNull();
+    }
+
+    @Test
+    void matchesEffectSupertypes() {
+        addPermanent(player1Id, new SpendWhiteManaAsRedEffect());
+        addPermanent(player2Id, new PlayerCantGetPoisonCountersEffect());
+
+        assertThat(index.sources(gd, CardEffect.class))
+                .extracting(StaticEffectIndex.Source::controllerId)
+                .containsExactly(player1Id, player2Id);
+    }
+
+    @Test
+    void dropsSourcesWhoseAbilitiesAreGoneFromEveryAnswer() {
+        Permanent sunglasses = addPermanent(player1Id, new SpendWhiteManaAsRedEffect());
+        Permanent other = addPermanent(player2Id, new SpendWhiteManaAsRedEffect());
+
+        abilitiesRemoved.add(sunglasses);
+
+        assertThat(index.sources(gd, SpendWhiteManaAsRedEffect.class))
+                .extracting(StaticEffectIndex.Source::permanent)
+                .containsExactly(other);
+        assertThat(index.controls(gd, player1Id, SpendWhiteManaAsRedEffect.class)).isFalse();
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isTrue();
+
+        abilitiesRemoved.add(other);
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isFalse();
+        assertThat(index.sources(gd, SpendWhiteManaAsRedEffect.class)).isEmpty();
+    }
+
+    @Test
+    void rereadsOnlyTheBattlefieldThatWasWritten() {
+        gd.playerBattlefields.put(player1Id, gd.newBattlefieldList());
+        gd.playerBattlefields.put(player2Id, gd.newBattlefieldList());
+        addPermanent(player1Id, new SpendWhiteManaAsRedEffect());
+        assertThat(index.present(gd, SpendWhiteManaAsRedEffect.class)).isTrue();
+        Object first = gd.staticEffectIndex;
+
+        assertThat(index.present(gd, PlayerCantGetPoisonCountersEffect.class)).isFalse();
+        assertThat(gd.staticEffectIndex).isSameAs(first);
+
+        Permanent warden = addPermanent(player2Id, new PlayerCantGetPoisonCountersEffect());
+        assertThat(index.controls(gd, player2Id, PlayerCantGetPoisonCountersEffect.class)).isTrue();
+        assertThat(gd.staticEffectIndex).isNotSameAs(first);
+
+        Card blank = new Card();
+        blank.setName("Blank");
+        blank.freeze();
+        warden.setCard(blank);
+        assertThat(index.present(gd, PlayerCantGetPoisonCountersEffect.class)).isFalse();
+        assertThat(StaticEffectIndex.findInconsistency(gd)).isNull();
+    }
+}
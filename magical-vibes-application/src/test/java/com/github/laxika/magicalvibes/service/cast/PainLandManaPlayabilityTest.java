@@ -0,0 +1,117 @@
+package com.github.laxika.magicalvibes.service.cast;
+
+import com.github.laxika.magicalvibes.cards.k.KarplusanForest;
+import com.github.laxika.magicalvibes.cards.p.Plains;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CardColor;
+import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.ManaColor;
+import com.github.laxika.magicalvibes.model.ManaCost;
+import com.github.laxika.magicalvibes.model.VirtualManaPool;
+import com.github.laxika.magicalvibes.service.GameActionAvailabilityService;
+import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A pain land taps for one of its outputs, never two. The potential pool books all of them and
+ * corrects the totals in aggregate, which alone would call {@code {R}{G}} castable off a Karplusan
+ * Forest and a Plains; {@link ManaPaymentSolver} confirms against the concrete pools the lands can
+ * really produce.
+ */
+class PainLandManaPlayabilityTest extends BaseCardTest {
+
+    private GameActionAvailabilityService availability() {
+        return harness.getGameActionAvailabilityService();
+    }
+
+    private List<Integer> potentiallyPlayable() {
+        GameActionAvailabilityService svc = availability();
+        return svc.getPotentialPlayableCardIndices(gd, player1.getId(),
+                svc.getPlayableCardIndices(gd, player1.getId()));
+    }
+
+    private static Card creature(String name, String manaCost) {
+        Card creature = new Card();
+        creature.setName(name);
+        creature.setType(CardType.CREATURE);
+        creature.setPower(2);
+        creature.setToughness(2);
+        creature.setManaCost(manaCost);
+        creature.setColor(CardColor.RED);
+        return creature;
+    }
+
+    @Test
+    @DisplayName("A pain land pays only one of its colors")
+    void painLandDoesNotPayBothColors() {
+        harness.addToBattlefield(player1, new KarplusanForest());
+        harness.addToBattlefield(player1, new Plains());
+        harness.setHand(player1, List.of(creature("Red-Green", "{R}{G}"), creature("Red-White", "{R}{W}")));
+
+        assertThat(availability().getPotentialManaTotal(gd, player1.getId())).isEqualTo(2);
+        assertThat(potentiallyPlayable())
+                .as("{R}{W} is the Forest for red plus Plains; {R}{G} would need the Forest twice")
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Two pain lands pay both of their colors")
+    void twoPainLandsPayBothColors() {
+        harness.addToBattlefield(player1, new KarplusanForest());
+        harness.addToBattlefield(player1, new KarplusanForest());
+        harness.setHand(player1, List.of(creature("Red-Green", "{R}{G}"), creature("Red-White", "{R}{W}")));
+
+        assertThat(potentiallyPlayable()).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Interchangeable pain lands expand into one pool per color split, with a tap plan")
+    void interchangeablePainLandsCollapse() {
+        for (int i = 0; i < 4; i++) {
+            harness.addToBattlefield(player1, new KarplusanForest());
+        }
+        VirtualManaPool pool = availability().potentialManaService()
+                .buildVirtualManaPool(gd, player1.getId());
+
+        // Every split of four mana over {C}, {R} and {G} — not 3^4 tap combinations.
+        assertThat(pool.realisations(ManaPaymentSolver.MAX_REALISATIONS)).hasSize(15);
+        assertThat(pool.realisations(14)).isNull();
+
+        ManaCost cost = new ManaCost("{R}{G}{G}{G}");
+        VirtualManaPool.Realisation plan = ManaPaymentSolver.forPool(pool)
+                .findPayment(cost::canPay).orElseThrow();
+        assertThat(plan.chosenOptions()).filteredOn(option -> option.equals(Map.of(ManaColor.GREEN, 1)))
+                .hasSize(3);
+        assertThat(ManaPaymentSolver.forPool(pool).canPay(new ManaCost("{R}{G}{G}{G}{G}")::canPay)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A pool too large to expand is searched, not taken at its word")
+    void poolAboveTheCapIsSearched() {
+        for (int i = 0; i < 22; i++) {
+            harness.addToBattlefield(player1, new KarplusanForest());
+        }
+        harness.addToBattlefield(player1, new Plains());
+        VirtualManaPool pool = availability().potentialManaService()
+                .buildVirtualManaPool(gd, player1.getId());
+        assertThat(pool.realisations(ManaPaymentSolver.MAX_REALISATIONS)).isNull();
+
+        ManaPaymentSolver solver = ManaPaymentSolver.forPool(pool);
+        ManaCost redGreen = new ManaCost("{R}".repeat(12) + "{G}".repeat(11));
+        ManaCost withWhite = new ManaCost("{R}".repeat(12) + "{G}".repeat(10) + "{W}");
+        assertThat(solver.canPay("red-green", redGreen::canPay))
+                .as("23 red and green mana off 22 Forests and a Plains")
+                .isFalse();
+        assertThat(solver.canPay("with-white", withWhite::canPay)).isTrue();
+        assertThat(solver.findPayment(withWhite::canPay)).isPresent();
+        assertThat(solver.canPay("red-green", candidate -> true))
+                .as("the first answer for a cost key is reused")
+                .isFalse();
+    }
+}
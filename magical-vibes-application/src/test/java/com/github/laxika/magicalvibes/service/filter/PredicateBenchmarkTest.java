@@ -0,0 +1,236 @@
+package com.github.laxika.magicalvibes.service.filter;
+
+import com.github.laxika.magicalvibes.cards.e.ElvishChampion;
+import com.github.laxika.magicalvibes.cards.f.Forest;
+import com.github.laxika.magicalvibes.cards.g.GloriousAnthem;
+import com.github.laxika.magicalvibes.cards.g.GoblinKing;
+import com.github.laxika.magicalvibes.cards.g.GrizzlyBears;
+import com.github.laxika.magicalvibes.cards.h.HillGiant;
+import com.github.laxika.magicalvibes.cards.l.LlanowarElves;
+import com.github.laxika.magicalvibes.cards.m.Mountain;
+import com.github.laxika.magicalvibes.cards.n.Nightmare;
+import com.github.laxika.magicalvibes.cards.r.RagingGoblin;
+import com.github.laxika.magicalvibes.cards.s.Swamp;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CardColor;
+import com.github.laxika.magicalvibes.model.CardSubtype;
+import com.github.laxika.magicalvibes.model.Keyword;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.filter.FilterContext;
+import com.github.laxika.magicalvibes.model.filter.PermanentAllOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentAnyOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentColorInPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentControlledBySourceControllerPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasKeywordPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasSubtypePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsArtifactPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsCreaturePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsEnchantmentPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsLandPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsTappedPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsTokenPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentMaxManaValuePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentNotPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPowerAtLeastPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPowerAtMostPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentToughnessAtMostPredicate;
+import com.github.laxika.magicalvibes.testutil.BaseCardTest;
+import com.github.laxika.magicalvibes.testutil.GameTestEngineContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Micro-benchmark for composite predicate evaluation: a catalog of all-of / any-of / not trees
+ * shaped like real card filters ("nontoken creature you control", "creature with power 2 or
+ * less", "artifact or enchantment") evaluated over every permanent of a ~40-permanent board.
+ * Three ways are compared — the interpreted baseline (composites walked in written order, each
+ * leaf through its switch arm, which is what {@link PredicateEvaluationService} did before
+ * {@link PredicateCompiler}), the compiled evaluator per permanent, and the compiled batch
+ * ({@link PredicateEvaluationService#countMatchingPermanents}, one shared layered pass).
+ *
+ * <p>Disabled by default; run with {@code -DpredicateBench=true}. Absolute values are
+ * machine-dependent (the test JVM runs with {@code -XX:TieredStopAtLevel=1}); only ratios on the
+ * same machine matter.
+ */
+@EnabledIfSystemProperty(named = "predicateBench", matches = "true")
+class PredicateBenchmarkTest extends BaseCardTest {
+
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long MEASURED_NANOS = 4_000_000_000L;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void benchmarkCompositePredicates() {
+        PredicateEvaluationService evaluator =
+                GameTestEngineContext.get().getBean(PredicateEvaluationService.class);
+        List<Permanent> board = buildBoard();
+        List<PermanentPredicate> catalog = catalog();
+        FilterContext context = FilterContext.of(gd).withSourceControllerId(player1.getId());
+        int checksPerSweep = board.size() * catalog.size();
+
+        for (Mode mode : Mode.values()) {
+            runFor(evaluator, mode, board, catalog, context, WARMUP_NANOS);
+        }
+
+        System.out.printf("Board: %d permanents, %d predicates, %d checks/sweep%n",
+                board.size(), catalog.size(), checksPerSweep);
+        double[] best = new double[Mode.values().length];
+        for (int round = 1; round <= ROUNDS; round++) {
+            StringBuilder line = new StringBuilder("Round " + round + ":");
+            for (Mode mode : Mode.values()) {
+                double sweeps = runFor(evaluator, mode, board, catalog, context, MEASURED_NANOS);
+                best[mode.ordinal()] = Math.max(best[mode.ordinal()], sweeps);
+                line.append(String.format(" %s %.1f sweeps/s (%.0f checks/s)",
+                        mode.label, sweeps, sweeps * checksPerSweep));
+            }
+            System.out.println(line);
+        }
+        StringBuilder line = new StringBuilder("BEST:");
+        for (Mode mode : Mode.values()) {
+            line.append(String.format(" %s %.1f sweeps/s", mode.label, best[mode.ordinal()]));
+        }
+        System.out.println(line);
+    }
+
+    private enum Mode {
+        INTERPRETED("interpreted"), COMPILED("compiled"), BATCH("compiled batch");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    /** Runs sweeps for (at least) the given wall-clock window and returns sweeps/second. */
+    private double runFor(PredicateEvaluationService evaluator, Mode mode, List<Permanent> board,
+                          List<PermanentPredicate> catalog, FilterContext context, long windowNanos) {
+        long start = System.nanoTime();
+        long elapsed;
+        int sweeps = 0;
+        long sink = 0;
+        do {
+            for (PermanentPredicate predicate : catalog) {
+                sink += switch (mode) {
+                    case INTERPRETED -> count(board, p -> interpret(evaluator, p, predicate, context));
+                    case COMPILED -> count(board, p -> evaluator.matchesPermanentPredicate(p, predicate, context));
+                    case BATCH -> evaluator.countMatchingPermanents(gd, board, predicate);
+                };
+            }
+            sweeps++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < windowNanos);
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return sweeps / (elapsed / 1_000_000_000.0);
+    }
+
+    private static int count(List<Permanent> board, Predicate<Permanent> test) {
+        int count = 0;
+        for (Permanent permanent : board) {
+            if (test.test(permanent)) count++;
+        }
+        return count;
+    }
+
+    private static boolean interpret(PredicateEvaluationService evaluator, Permanent permanent,
+                                     PermanentPredicate predicate, FilterContext context) {
+        return switch (predicate) {
+            case PermanentAllOfPredicate allOf -> {
+                for (PermanentPredicate child : allOf.predicates()) {
+                    if (!interpret(evaluator, permanent, child, context)) yield false;
+                }
+                yield true;
+            }
+            case PermanentAnyOfPredicate anyOf -> {
+                for (PermanentPredicate child : anyOf.predicates()) {
+                    if (interpret(evaluator, permanent, child, context)) yield true;
+                }
+                yield false;
+            }
+            case PermanentNotPredicate not -> !interpret(evaluator, permanent, not.predicate(), context);
+            default -> evaluator.matchesPermanentLeaf(permanent, predicate, context);
+        };
+    }
+
+    private static List<PermanentPredicate> catalog() {
+        return List.of(
+                // "nontoken creature you control"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentIsCreaturePredicate(),
+                        new PermanentControlledBySourceControllerPredicate(),
+                        new PermanentNotPredicate(new PermanentIsTokenPredicate()))),
+                // "creature with power 2 or less"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentIsCreaturePredicate(),
+                        new PermanentPowerAtMostPredicate(2))),
+                // "artifact or enchantment"
+                new PermanentAnyOfPredicate(List.of(
+                        new PermanentIsArtifactPredicate(),
+                        new PermanentIsEnchantmentPredicate())),
+                // "tapped creature an opponent controls"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentIsCreaturePredicate(),
+                        new PermanentNotPredicate(new PermanentControlledBySourceControllerPredicate()),
+                        new PermanentIsTappedPredicate())),
+                // "nonland permanent with mana value 3 or less"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentNotPredicate(new PermanentIsLandPredicate()),
+                        new PermanentMaxManaValuePredicate(3))),
+                // "black or red creature without flying"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentIsCreaturePredicate(),
+                        new PermanentColorInPredicate(Set.of(CardColor.BLACK, CardColor.RED)),
+                        new PermanentNotPredicate(new PermanentHasKeywordPredicate(Keyword.FLYING)))),
+                // "Goblin or Elf with power 2 or greater"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentAnyOfPredicate(List.of(
+                                new PermanentHasSubtypePredicate(CardSubtype.GOBLIN),
+                                new PermanentHasSubtypePredicate(CardSubtype.ELF))),
+                        new PermanentPowerAtLeastPredicate(2))),
+                // "creature token or creature with toughness 1 or less"
+                new PermanentAllOfPredicate(List.of(
+                        new PermanentIsCreaturePredicate(),
+                        new PermanentAnyOfPredicate(List.of(
+                                new PermanentIsTokenPredicate(),
+                                new PermanentToughnessAtMostPredicate(1))))));
+    }
+
+    private List<Permanent> buildBoard() {
+        List<Permanent> all = new ArrayList<>();
+        all.add(add(player1, new GloriousAnthem()));
+        all.add(add(player1, new GoblinKing()));
+        all.add(add(player1, new ElvishChampion()));
+        all.add(add(player2, new Nightmare()));
+        for (int i = 0; i < 4; i++) {
+            all.add(add(player1, new LlanowarElves()));
+            all.add(add(player1, new RagingGoblin()));
+            all.add(add(player2, new GrizzlyBears()));
+            all.add(add(player2, new HillGiant()));
+            all.add(add(player1, new Forest()));
+            all.add(add(player1, new Mountain()));
+            all.add(add(player2, new Swamp()));
+            all.add(add(player2, new Forest()));
+        }
+        for (int i = 0; i < all.size(); i += 3) {
+            all.get(i).tap();
+        }
+        return all;
+    }
+
+    private Permanent add(Player player, Card card) {
+        card.setOwnerId(player.getId());
+        Permanent perm = new Permanent(card);
+        perm.setSummoningSick(false);
+        gd.playerBattlefields.get(player.getId()).add(perm);
+        return perm;
+    }
+}
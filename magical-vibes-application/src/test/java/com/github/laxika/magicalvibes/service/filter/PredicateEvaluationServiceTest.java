@@ -41,6 +41,9 @@ import com.github.laxika.magicalvibes.model.filter.CardSharesCardTypeWithImprint
 import com.github.laxika.magicalvibes.model.filter.CardSubtypePredicate;
 import com.github.laxika.magicalvibes.model.filter.CardToughnessAtLeastPredicate;
 import com.github.laxika.magicalvibes.model.filter.CardTruePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardIsTokenPredicate;
 import com.github.laxika.magicalvibes.model.filter.CardTypePredicate;
 import com.github.laxika.magicalvibes.model.filter.ControlledPermanentPredicateTargetFilter;
 import com.github.laxika.magicalvibes.model.filter.FilterContext;
@@ -1424,6 +1427,157 @@ class PredicateEvaluationServiceTest {
         }
     }
 
+    // ===== compiled composite predicates =====
+
+    @Nested
+    @DisplayName("compiled composite predicates")
+    class CompiledPredicates {
+
+        private List<Permanent> board() {
+            Card token = createCreature("Soldier", 1, 1, CardColor.WHITE);
+            token.setToken(true);
+            Card flyer = createCreature("Flyer", 3, 2, CardColor.BLUE);
+            flyer.setKeywords(EnumSet.of(Keyword.FLYING));
+            Permanent tapped = addPermanent(player1Id, createCreature("Bear", 2, 2, CardColor.GREEN));
+            tapped.tap();
+            return List.of(
+                    tapped,
+                    addPermanent(player1Id, token),
+                    addPermanent(player2Id, flyer),
+                    addPermanent(player2Id, createArtifactCreature("Golem", 4, 4, List.of(CardSubtype.GOLEM))),
+                    addPermanent(player1Id, createLand("Forest")),
+                    addPermanent(player2Id, createEnchantment("Anthem")));
+        }
+
+        private List<PermanentPredicate> catalog() {
+            return List.of(
+                    new PermanentAllOfPredicate(List.of(
+                            new PermanentIsCreaturePredicate(),
+                            new PermanentNotPredicate(new PermanentIsTokenPredicate()))),
+                    new PermanentAllOfPredicate(List.of(
+                            new PermanentControlledBySourceControllerPredicate(),
+                            new PermanentPowerAtMostPredicate(2),
+                            new PermanentIsTokenPredicate())),
+                    new PermanentAnyOfPredicate(List.of(
+                            new PermanentIsArtifactPredicate(),
+                            new PermanentIsEnchantmentPredicate(),
+                            new PermanentHasKeywordPredicate(Keyword.FLYING))),
+                    new PermanentAllOfPredicate(List.of(
+                            new PermanentIsTappedPredicate(),
+                            new PermanentAnyOfPredicate(List.of(
+                                    new PermanentColorInPredicate(Set.of(CardColor.GREEN)),
+                                    new PermanentHasSubtypePredicate(CardSubtype.GOLEM))))),
+                    new PermanentNotPredicate(new PermanentAnyOfPredicate(List.of(
+                            new PermanentIsLandPredicate(),
+                            new PermanentMaxManaValuePredicate(0)))),
+                    new PermanentAllOfPredicate(List.of()),
+                    new PermanentAnyOfPredicate(List.of()));
+        }
+
+        /** Reference semantics: composites in written order, leaves through their switch arm. */
+        private boolean interpret(Permanent permanent, PermanentPredicate predicate, FilterContext context) {
+            return switch (predicate) {
+                case PermanentAllOfPredicate allOf ->
+                        allOf.predicates().stream().allMatch(p -> interpret(permanent, p, context));
+                case PermanentAnyOfPredicate anyOf ->
+                        anyOf.predicates().stream().anyMatch(p -> interpret(permanent, p, context));
+                case PermanentNotPredicate not -> !interpret(permanent, not.predicate(), context);
+                default -> evaluator.matchesPermanentLeaf(permanent, predicate, context);
+            };
+        }
+
+        @Test
+        @DisplayName("Compiled evaluators agree with leaf-by-leaf interpretation")
+        void compiledMatchesInterpretation() {
+            List<Permanent> board = board();
+            FilterContext context = FilterContext.of(gd).withSourceControllerId(player1Id);
+
+            for (PermanentPredicate predicate : catalog()) {
+                for (Permanent permanent : board) {
+                    assertThat(evaluator.matchesPermanentPredicate(permanent, predicate, context))
+                            .as("%s on %s", predicate, permanent.getCard().getName())
+                            .isEqualTo(interpret(permanent, predicate, context));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Batch evaluation returns the matching permanents in board order")
+        void batchEvaluationMatchesSingleEvaluation() {
+            List<Permanent> board = board();
+
+            for (PermanentPredicate predicate : catalog()) {
+                List<Permanent> expected = board.stream()
+                        .filter(p -> evaluator.matchesPermanentPredicate(gd, p, predicate))
+                        .toList();
+                assertThat(evaluator.matchingPermanents(gd, board, predicate)).isEqualTo(expected);
+                assertThat(evaluator.countMatchingPermanents(gd, board, predicate)).isEqualTo(expected.size());
+            }
+        }
+
+        @Test
+        @DisplayName("Equal predicates share one compilation")
+        void equalPredicatesShareOneCompilation() {
+            PredicateCompiler compiler = new PredicateCompiler(evaluator);
+            PermanentPredicate first = new PermanentAllOfPredicate(List.of(
+                    new PermanentIsCreaturePredicate(), new PermanentIsTokenPredicate()));
+            PermanentPredicate second = new PermanentAllOfPredicate(List.of(
+                    new PermanentIsCreaturePredicate(), new PermanentIsTokenPredicate()));
+
+            assertThat(compiler.compile(second)).isSameAs(compiler.compile(first));
+        }
+
+        @Test
+        @DisplayName("A composite costs as much as its most expensive child")
+        void compositeCostIsItsMostExpensiveChild() {
+            PredicateCompiler compiler = new PredicateCompiler(evaluator);
+
+            assertThat(compiler.compile(new PermanentAllOfPredicate(List.of(
+                    new PermanentIsTokenPredicate(), new PermanentIsTappedPredicate()))).cost())
+                    .isEqualTo(PredicateCompiler.Cost.INTRINSIC);
+            assertThat(compiler.compile(new PermanentAnyOfPredicate(List.of(
+                    new PermanentIsTokenPredicate(), new PermanentIsCreaturePredicate()))).cost())
+                    .isEqualTo(PredicateCompiler.Cost.CHARACTERISTIC);
+            assertThat(compiler.compile(new PermanentNotPredicate(new PermanentAllOfPredicate(List.of(
+                    new PermanentIsCreaturePredicate(),
+                    new PermanentControlledBySourceControllerPredicate())))).cost())
+                    .isEqualTo(PredicateCompiler.Cost.BOARD);
+        }
+
+        @Test
+        @DisplayName("Compiled card composites agree with leaf-by-leaf interpretation")
+        void compiledCardPredicatesMatchInterpretation() {
+            Card token = createCreature("Soldier", 1, 1, CardColor.WHITE);
+            token.setToken(true);
+            List<Card> cards = List.of(token, createArtifact("Relic"), createLand("Island"),
+                    createCreature("Giant", 3, 3, CardColor.RED));
+            List<CardPredicate> catalog = List.of(
+                    new CardAllOfPredicate(List.of(new CardTypePredicate(CardType.CREATURE),
+                            new CardNotPredicate(new CardIsTokenPredicate()))),
+                    new CardAnyOfPredicate(List.of(new CardColorPredicate(CardColor.RED),
+                            new CardTypePredicate(CardType.ARTIFACT))),
+                    new CardNotPredicate(new CardAnyOfPredicate(List.of(new CardTypePredicate(CardType.LAND),
+                            new CardTruePredicate()))));
+
+            for (CardPredicate predicate : catalog) {
+                for (Card card : cards) {
+                    assertThat(evaluator.matchesCardPredicate(card, predicate, null))
+                            .as("%s on %s", predicate, card.getName())
+                            .isEqualTo(interpretCard(card, predicate));
+                }
+            }
+        }
+
+        private boolean interpretCard(Card card, CardPredicate predicate) {
+            return switch (predicate) {
+                case CardAllOfPredicate allOf -> allOf.predicates().stream().allMatch(p -> interpretCard(card, p));
+                case CardAnyOfPredicate anyOf -> anyOf.predicates().stream().anyMatch(p -> interpretCard(card, p));
+                case CardNotPredicate not -> !interpretCard(card, not.predicate());
+                default -> evaluator.matchesCardLeaf(card, predicate, null, null, null, null, null, null);
+            };
+        }
+    }
+
     // ===== matchesFilters =====
 
     @Nested
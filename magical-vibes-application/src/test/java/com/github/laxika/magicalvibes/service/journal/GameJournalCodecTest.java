@@ -0,0 +1,135 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameEntropy;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.service.interaction.InteractionAnswer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The journal is only as good as its replay: a command must come back with the arguments the
+ * player sent, a crash mid-write must cost the last frame and nothing before it, and a seed must
+ * reproduce the same shuffles and ids.
+ */
+class GameJournalCodecTest {
+
+    private final GameJournalCodec codec = new GameJournalCodec();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Frames read back as the records that were written")
+    void framesRoundTrip() throws IOException {
+        Path file = directory.resolve("game" + GameJournalWriter.JOURNAL_SUFFIX);
+        JournalRecord applied = JournalRecord.command(JournalRecord.Kind.APPLIED, 7, "passPriority",
+                codec.encodeArguments(List.of(new Player(UUID.randomUUID(), "alice"))));
+        JournalRecord checkpoint = JournalRecord.checkpoint(7, 0x1234_5678_9abcL);
+        Files.write(file, concat(codec.frame(applied), codec.frame(checkpoint)));
+
+        GameJournalCodec.Contents contents = codec.read(file);
+
+        assertThat(contents.tornTail()).isFalse();
+        assertThat(contents.records()).hasSize(2);
+        assertThat(contents.records().get(0).command()).isEqualTo("passPriority");
+        assertThat(contents.records().get(0).stateVersion()).isEqualTo(7);
+        assertThat(contents.records().get(1).kind()).isEqualTo(JournalRecord.Kind.CHECKPOINT);
+        assertThat(contents.records().get(1).digest()).isEqualTo(0x1234_5678_9abcL);
+    }
+
+    @Test
+    @DisplayName("A frame torn by a crash is cut off without losing the frames before it")
+    void tornTailIsDetected() throws IOException {
+        Path file = directory.resolve("torn" + GameJournalWriter.JOURNAL_SUFFIX);
+        byte[] first = codec.frame(JournalRecord.checkpoint(1, 11));
+        byte[] second = codec.frame(JournalRecord.checkpoint(2, 22));
+        Files.write(file, first);
+        Files.write(file, Arrays.copyOf(second, second.length - 3), StandardOpenOption.APPEND);
+
+        GameJournalCodec.Contents contents = codec.read(file);
+
+        assertThat(contents.records()).extracting(JournalRecord::digest).containsExactly(11L);
+        assertThat(contents.tornTail()).isTrue();
+        assertThat(contents.intactLength()).isEqualTo(first.length);
+    }
+
+    @Test
+    @DisplayName("A frame whose payload no longer matches its checksum ends the intact prefix")
+    void corruptFrameEndsPrefix() throws IOException {
+        Path file = directory.resolve("corrupt" + GameJournalWriter.JOURNAL_SUFFIX);
+        byte[] first = codec.frame(JournalRecord.checkpoint(1, 11));
+        byte[] second = codec.frame(JournalRecord.checkpoint(2, 22));
+        second[second.length - 2] ^= 0x01;
+        Files.write(file, concat(first, second));
+
+        GameJournalCodec.Contents contents = codec.read(file);
+
+        assertThat(contents.records()).hasSize(1);
+        assertThat(contents.tornTail()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Arguments decode to the declared parameter types, interfaces by their recorded class")
+    void argumentsDecodeToDeclaredTypes() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        List<UUID> targets = List.of(UUID.randomUUID(), UUID.randomUUID());
+        InteractionAnswer answer = new InteractionAnswer.CardsChosen(targets);
+        List<Object> arguments = new ArrayList<>(Arrays.asList(
+                new Player(playerId, "bob"), answer, targets, 3, null));
+        List<JournalRecord.Argument> encoded = codec.encodeArguments(arguments);
+        Type listOfUuids = Holder.class.getDeclaredField("ids").getGenericType();
+
+        assertThat(codec.decodeArgument(encoded.get(0), Player.class))
+                .isInstanceOfSatisfying(Player.class, player -> {
+                    assertThat(player.getId()).isEqualTo(playerId);
+                    assertThat(player.getUsername()).isEqualTo("bob");
+                });
+        assertThat(codec.decodeArgument(encoded.get(1), InteractionAnswer.class)).isEqualTo(answer);
+        assertThat(codec.decodeArgument(encoded.get(2), listOfUuids)).isEqualTo(targets);
+        assertThat(codec.decodeArgument(encoded.get(3), int.class)).isEqualTo(3);
+        assertThat(codec.decodeArgument(encoded.get(4), Integer.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("A bound seed reproduces the same ids and shuffles")
+    void boundEntropyIsDeterministic() {
+        assertThat(draw(42L)).isEqualTo(draw(42L));
+        assertThat(draw(42L)).isNotEqualTo(draw(43L));
+    }
+
+    private static List<Object> draw(long seed) {
+        GameEntropy previous = GameEntropy.bind(new GameEntropy(seed));
+        try {
+            List<Integer> deck = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+            Collections.shuffle(deck, GameEntropy.random());
+            return List.of(GameEntropy.newId(), GameEntropy.newId(), deck);
+        } finally {
+            GameEntropy.restore(previous);
+        }
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Holder {
+        private List<UUID> ids;
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.service.GameRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A journal written by a live game must bring that game back: the same shuffles, the same
+ * generated ids and the same state digest, after a crash that tore the last frame too. A journal
+ * that no longer replays to what it recorded is set aside as {@code .failed}, not resumed.
+ *
+ * <p>Each test plays a {@link ScriptedGame} with the journal on, shuts that engine down as a
+ * crashed server would leave it, and starts a second one on what is left on disk.
+ */
+class GameJournalRecoveryTest {
+
+    /** Applied commands the live game plays before it is stopped: past the mulligan and a checkpoint. */
+    private static final int COMMANDS = GameJournal.CHECKPOINT_INTERVAL + 16;
+
+    @TempDir
+    Path directory;
+
+    /** What the live game looked like when its server went down. */
+    private record LiveGame(UUID id, long stateVersion, long digest, List<UUID> ids) {
+    }
+
+    @Test
+    @DisplayName("Replaying a live game's journal reproduces its digest and every generated id")
+    void journalReplaysToTheLiveGame() throws IOException {
+        LiveGame live = playAndStop();
+        List<JournalRecord> records = new GameJournalCodec()
+                .read(GameJournalWriter.journalFile(directory, live.id())).records();
+        assertThat(records).anyMatch(record -> record.kind() == JournalRecord.Kind.CHECKPOINT);
+
+        try (AnnotationConfigApplicationContext replaying = ScriptedGame.engine(Map.of())) {
+            GameJournalReplayer replayer = replaying.getBean(GameJournalReplayer.class);
+            GameData replayed = replayer.replay(records, GameJournalReplayer.CommandObserver.NONE);
+            try {
+                assertThat(replayed.domainStateVersion()).isEqualTo(live.stateVersion());
+                assertThat(GameStateDigest.of(replayed)).isEqualTo(live.digest());
+                assertThat(generatedIds(replayed)).isEqualTo(live.ids());
+            } finally {
+                replayer.close(replayed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A torn last frame is cut off and the game resumes from the frames before it")
+    void tornTailIsTruncatedOnRecovery() throws IOException {
+        LiveGame live = playAndStop();
+        Path file = GameJournalWriter.journalFile(directory, live.id());
+        long intactLength = Files.size(file);
+        byte[] frame = new GameJournalCodec().frame(JournalRecord.checkpoint(live.stateVersion(), live.digest()));
+        Files.write(file, Arrays.copyOf(frame, frame.length / 2), StandardOpenOption.APPEND);
+
+        try (AnnotationConfigApplicationContext restarted = journaledEngine()) {
+            assertThat(Files.size(file)).isEqualTo(intactLength);
+            GameData recovered = restarted.getBean(GameRegistry.class).get(live.id());
+            assertThat(recovered).isNotNull();
+            assertThat(recovered.status).isEqualTo(GameStatus.RUNNING);
+            // Going live again re-requests the open decisions, which moves the version on; the state does not move.
+            assertThat(GameStateDigest.of(recovered)).isEqualTo(live.digest());
+            assertThat(generatedIds(recovered)).isEqualTo(live.ids());
+        }
+    }
+
+    @Test
+    @DisplayName("A journal that diverges from its checkpoint is kept as .failed and not resumed")
+    void divergentJournalIsSetAside() throws IOException {
+        LiveGame live = playAndStop();
+        Path file = GameJournalWriter.journalFile(directory, live.id());
+        Files.write(file, new GameJournalCodec().frame(JournalRecord.checkpoint(live.stateVersion(), live.digest() ^ 1)),
+                StandardOpenOption.APPEND);
+
+        try (AnnotationConfigApplicationContext restarted = journaledEngine()) {
+            assertThat(restarted.getBean(GameRegistry.class).get(live.id())).isNull();
+            assertThat(file).doesNotExist();
+            assertThat(file.resolveSibling(file.getFileName() + GameJournalRecovery.FAILED_SUFFIX)).exists();
+        }
+    }
+
+    /** An engine journaling into {@link #directory}; starting it recovers whatever the directory holds. */
+    private AnnotationConfigApplicationContext journaledEngine() {
+        return ScriptedGame.engine(Map.of("magicalvibes.game.journal.dir", directory.toString()));
+    }
+
+    /**
+     * Plays a scripted game for {@link #COMMANDS} commands and shuts its engine down. Only one
+     * engine runs at a time: the card registry's oracle resolver is process-wide.
+     */
+    private LiveGame playAndStop() {
+        try (AnnotationConfigApplicationContext context = journaledEngine()) {
+            ScriptedGame game = new ScriptedGame(context);
+            GameData gameData = game.start();
+            while (gameData.domainStateVersion() < COMMANDS) {
+                assertThat(game.step()).as("the scripted game ended within %d commands", COMMANDS).isTrue();
+            }
+            context.getBean(GameJournal.class).flush();
+            return new LiveGame(gameData.id, gameData.domainStateVersion(), GameStateDigest.of(gameData),
+                    generatedIds(gameData));
+        }
+    }
+
+    /** Every id the seed generated that is still in play: library, hand and graveyard cards, permanents. */
+    private static List<UUID> generatedIds(GameData gameData) {
+        List<UUID> ids = new ArrayList<>();
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            ids.add(playerId);
+            for (Card card : gameData.playerDecks.get(playerId)) {
+                ids.add(card.getId());
+            }
+            for (Card card : gameData.playerHands.get(playerId)) {
+                ids.add(card.getId());
+            }
+            for (Card card : gameData.playerGraveyards.get(playerId)) {
+                ids.add(card.getId());
+            }
+            for (Permanent permanent : gameData.playerBattlefields.get(playerId)) {
+                ids.add(permanent.getId());
+                ids.add(permanent.getCard().getId());
+            }
+        }
+        return ids;
+    }
+}
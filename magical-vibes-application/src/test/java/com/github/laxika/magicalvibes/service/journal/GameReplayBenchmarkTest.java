@@ -0,0 +1,235 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.ai.AiConfig;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.service.GameViewProjectionFactory;
+import com.github.laxika.magicalvibes.testutil.GameTestDoublesConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Replay benchmark over a corpus of recorded games: every {@code *.journal} in the corpus
+ * directory (journals of finished games, kept by running the server with
+ * {@code magicalvibes.game.journal.corpus-dir}) is replayed headlessly through
+ * {@link GameJournalReplayer} at full speed, and each command is measured — latency, bytes
+ * allocated on the replaying thread, and the cost of the full per-player view projection the
+ * command would have triggered.
+ *
+ * <p>The corpus' {@code replay-baseline.properties} holds the accepted figures; the run fails when
+ * any metric is worse than its baseline by more than {@code -DreplayBenchTolerance} (default 0.20).
+ * Record a new baseline with {@code -DreplayBenchRecordBaseline=true} on a quiet machine. A
+ * recording that no longer replays — the engine's behavior changed under it — fails the run too;
+ * re-record the corpus then.
+ *
+ * <p>Disabled by default; run with {@code ./gradlew :magical-vibes-application:replayBench}
+ * ({@code -DreplayCorpus=<dir>} overrides the repo-root {@code replay-corpus} directory).
+ */
+@EnabledIfSystemProperty(named = "replayBench", matches = "true")
+class GameReplayBenchmarkTest {
+
+    private static final String BASELINE_FILE = "replay-baseline.properties";
+    private static final int WARMUP_ROUNDS = Integer.getInteger("replayBenchWarmupRounds", 2);
+    private static final int MEASURED_ROUNDS = Integer.getInteger("replayBenchRounds", 5);
+    private static final double TOLERANCE =
+            Double.parseDouble(System.getProperty("replayBenchTolerance", "0.20"));
+
+    private static AnnotationConfigApplicationContext context;
+
+    @BeforeAll
+    static void startEngine() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource(
+                "replay-bench", Map.of("oracle.data-load-mode", "ON_DEMAND")));
+        // The AI module too: recordings of games against the AI replay its joinAsAi command. The
+        // scripted decks serve the committed recordings (see RecordedGameReplayTest).
+        context.register(GameTestDoublesConfig.class, AiConfig.class, ScriptedGame.Decks.class);
+        context.refresh();
+    }
+
+    @AfterAll
+    static void stopEngine() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void replayCorpusWithinBaseline() throws IOException {
+        Path corpus = Path.of(System.getProperty("replayCorpus", "../replay-corpus")).toAbsolutePath().normalize();
+        List<List<JournalRecord>> games = loadCorpus(corpus);
+        assumeTrue(!games.isEmpty(), "No recorded games in " + corpus);
+
+        GameJournalReplayer replayer = context.getBean(GameJournalReplayer.class);
+        GameViewProjectionFactory projectionFactory = context.getBean(GameViewProjectionFactory.class);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            replayAll(games, replayer, projectionFactory, new Measurements());
+        }
+        Measurements measurements = new Measurements();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            replayAll(games, replayer, projectionFactory, measurements);
+        }
+        assumeTrue(measurements.count > 0, "The recorded games in " + corpus + " hold no commands");
+
+        Properties result = measurements.summary();
+        System.out.printf("Corpus: %d games, %,d commands per round, %d measured rounds%n",
+                games.size(), measurements.count / MEASURED_ROUNDS, MEASURED_ROUNDS);
+        System.out.printf("Actions/s:            %,.0f%n", Double.parseDouble(result.getProperty("actionsPerSecond")));
+        System.out.printf("p50 / p99 action:     %.1f us / %.1f us%n",
+                Double.parseDouble(result.getProperty("p50ActionMicros")),
+                Double.parseDouble(result.getProperty("p99ActionMicros")));
+        System.out.printf("Allocated per action: %,.0f bytes%n",
+                Double.parseDouble(result.getProperty("allocatedBytesPerAction")));
+        System.out.printf("Projection per action: %.1f us (all seats, full view)%n",
+                Double.parseDouble(result.getProperty("projectionMicrosPerAction")));
+
+        Path baselineFile = corpus.resolve(BASELINE_FILE);
+        if (Boolean.getBoolean("replayBenchRecordBaseline")) {
+            try (OutputStream out = Files.newOutputStream(baselineFile)) {
+                result.store(out, "Replay benchmark baseline (" + games.size() + " games)");
+            }
+            System.out.printf("Baseline recorded to %s%n", baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.printf("No baseline at %s; record one with -DreplayBenchRecordBaseline=true%n", baselineFile);
+            return;
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselineFile)) {
+            baseline.load(in);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        checkAtLeast(regressions, "actionsPerSecond", result, baseline);
+        checkAtMost(regressions, "p99ActionMicros", result, baseline);
+        checkAtMost(regressions, "allocatedBytesPerAction", result, baseline);
+        checkAtMost(regressions, "projectionMicrosPerAction", result, baseline);
+        assertThat(regressions)
+                .as("Replay benchmark regressions beyond %.0f%% of %s", TOLERANCE * 100, baselineFile)
+                .isEmpty();
+    }
+
+    private static void replayAll(List<List<JournalRecord>> games, GameJournalReplayer replayer,
+                                  GameViewProjectionFactory projectionFactory, Measurements measurements) {
+        for (List<JournalRecord> records : games) {
+            GameData gameData = replayer.replay(records, new GameJournalReplayer.CommandObserver() {
+                private long startNanos;
+                private long startAllocated;
+
+                @Override
+                public void beforeCommand(GameData game, String command) {
+                    startAllocated = allocatedBytes();
+                    startNanos = System.nanoTime();
+                }
+
+                @Override
+                public void afterCommand(GameData game, String command) {
+                    long actionNanos = System.nanoTime() - startNanos;
+                    long allocated = allocatedBytes() - startAllocated;
+                    long projectionStart = System.nanoTime();
+                    projectionFactory.createGameStateMessages(game, List.of(), game.orderedPlayerIds);
+                    measurements.add(actionNanos, allocated, System.nanoTime() - projectionStart);
+                }
+            });
+            replayer.close(gameData);
+        }
+    }
+
+    private static List<List<JournalRecord>> loadCorpus(Path corpus) throws IOException {
+        List<List<JournalRecord>> games = new ArrayList<>();
+        if (!Files.isDirectory(corpus)) {
+            return games;
+        }
+        GameJournalCodec codec = new GameJournalCodec();
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(corpus, "*" + GameJournalWriter.JOURNAL_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (Path file : files) {
+            games.add(codec.read(file).records());
+        }
+        return games;
+    }
+
+    private static void checkAtLeast(List<String> regressions, String metric, Properties result, Properties baseline) {
+        String accepted = baseline.getProperty(metric);
+        double value = Double.parseDouble(result.getProperty(metric));
+        if (accepted != null && value < Double.parseDouble(accepted) * (1 - TOLERANCE)) {
+            regressions.add(metric + " fell to " + format(value) + " from " + accepted);
+        }
+    }
+
+    private static void checkAtMost(List<String> regressions, String metric, Properties result, Properties baseline) {
+        String accepted = baseline.getProperty(metric);
+        double value = Double.parseDouble(result.getProperty(metric));
+        if (accepted != null && value > Double.parseDouble(accepted) * (1 + TOLERANCE)) {
+            regressions.add(metric + " rose to " + format(value) + " from " + accepted);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private static final class Measurements {
+        private long[] actionNanos = new long[4096];
+        private int count;
+        private long totalActionNanos;
+        private long totalAllocated;
+        private long totalProjectionNanos;
+
+        private void add(long actionNanos, long allocated, long projectionNanos) {
+            if (count == this.actionNanos.length) {
+                this.actionNanos = Arrays.copyOf(this.actionNanos, count * 2);
+            }
+            this.actionNanos[count++] = actionNanos;
+            totalActionNanos += actionNanos;
+            totalAllocated += allocated;
+            totalProjectionNanos += projectionNanos;
+        }
+
+        private Properties summary() {
+            long[] sorted = Arrays.copyOf(actionNanos, count);
+            Arrays.sort(sorted);
+            Properties summary = new Properties();
+            summary.setProperty("actionsPerSecond", format(count * 1e9 / totalActionNanos));
+            summary.setProperty("p50ActionMicros", format(percentile(sorted, 0.50) / 1_000.0));
+            summary.setProperty("p99ActionMicros", format(percentile(sorted, 0.99) / 1_000.0));
+            summary.setProperty("allocatedBytesPerAction", format((double) totalAllocated / count));
+            summary.setProperty("projectionMicrosPerAction", format(totalProjectionNanos / 1_000.0 / count));
+            return summary;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the committed recordings in the repo-root {@code replay-corpus} to the end: each must
+ * replay without diverging, finish the game, and end on a checkpoint whose digest is the digest of
+ * the replayed final state. This keeps the corpus the replay benchmark measures replayable — a
+ * recording the engine no longer reproduces fails here, in the normal build, instead of only in
+ * {@code replayBench}.
+ *
+ * <p>The recordings are {@link ScriptedGame}s; re-record after a deliberate behavior change with
+ * {@code ./gradlew :magical-vibes-application:test --tests '*RecordedGameReplayTest' -DrecordReplayFixture=true}
+ * and delete the old file.
+ */
+class RecordedGameReplayTest {
+
+    private static final Path CORPUS =
+            Path.of(System.getProperty("replayCorpus", "../replay-corpus")).toAbsolutePath().normalize();
+
+    @Test
+    @DisplayName("Every committed recording replays to a finished game with its final digest")
+    void recordedGamesReplayToTheirFinalDigest() throws IOException {
+        List<Path> recordings = recordings();
+        assertThat(recordings).as("recordings in %s", CORPUS).isNotEmpty();
+
+        try (AnnotationConfigApplicationContext context = ScriptedGame.engine(Map.of())) {
+            GameJournalReplayer replayer = context.getBean(GameJournalReplayer.class);
+            for (Path recording : recordings) {
+                List<JournalRecord> records = new GameJournalCodec().read(recording).records();
+                JournalRecord last = records.getLast();
+
+                GameData gameData = replayer.replay(records, GameJournalReplayer.CommandObserver.NONE);
+                try {
+                    assertThat(gameData.status).as("%s status", recording.getFileName()).isEqualTo(GameStatus.FINISHED);
+                    assertThat(gameData.gameResult).as("%s result", recording.getFileName()).isNotNull();
+                    assertThat(last.kind()).as("%s last record", recording.getFileName())
+                            .isEqualTo(JournalRecord.Kind.CHECKPOINT);
+                    assertThat(gameData.domainStateVersion()).isEqualTo(last.stateVersion());
+                    assertThat(GameStateDigest.of(gameData)).as("%s final digest", recording.getFileName())
+                            .isEqualTo(last.digest());
+                } finally {
+                    replayer.close(gameData);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Records a scripted game into the corpus")
+    @EnabledIfSystemProperty(named = "recordReplayFixture", matches = "true")
+    void recordScriptedGame(@TempDir Path journalDirectory) {
+        try (AnnotationConfigApplicationContext context = ScriptedGame.engine(Map.of(
+                "magicalvibes.game.journal.dir", journalDirectory.toString(),
+                "magicalvibes.game.journal.corpus-dir", CORPUS.toString()))) {
+            ScriptedGame game = new ScriptedGame(context);
+            GameData gameData = game.start();
+            game.playToEnd();
+            context.getBean(GameJournal.class).flush();
+
+            Path recording = GameJournalWriter.journalFile(CORPUS, gameData.id);
+            assertThat(recording).exists();
+            System.out.printf("Recorded %s (%d bytes)%n", recording, recording.toFile().length());
+        }
+    }
+
+    private static List<Path> recordings() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(CORPUS)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(CORPUS, "*" + GameJournalWriter.JOURNAL_SUFFIX)) {
+                stream.forEach(files::add);
+            }
+        }
+        files.sort(null);
+        return files;
+    }
+}
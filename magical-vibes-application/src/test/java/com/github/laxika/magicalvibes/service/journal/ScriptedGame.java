@@ -0,0 +1,245 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CardColor;
+import com.github.laxika.magicalvibes.model.CardSubtype;
+import com.github.laxika.magicalvibes.model.CardSupertype;
+import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.ManaColor;
+import com.github.laxika.magicalvibes.model.PendingInteraction;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.TurnStep;
+import com.github.laxika.magicalvibes.model.effect.AwardManaEffect;
+import com.github.laxika.magicalvibes.service.CustomDeckSource;
+import com.github.laxika.magicalvibes.service.GameService;
+import com.github.laxika.magicalvibes.service.GameSetupService;
+import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import com.github.laxika.magicalvibes.service.interaction.InteractionAnswer;
+import com.github.laxika.magicalvibes.testutil.GameTestDoublesConfig;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A whole game both seats play by a fixed script, for the journal and replay tests: twenty-card
+ * decks of vanilla Forests and 2/2 Bears built in code (no oracle data needed), a mulligan for the
+ * first seat, a land and a Bear whenever possible, every creature attacking and nothing blocking,
+ * until one player is dead. Deck order and ids come from the game's seed, so two games with the
+ * same seed and script are the same game.
+ */
+final class ScriptedGame {
+
+    static final String DECK_ID = "scripted-forests-and-bears";
+
+    private static final int LANDS = 12;
+    private static final int CREATURES = 8;
+
+    /** Serves {@link #DECK_ID}; register it wherever a scripted recording is replayed. */
+    @Configuration
+    static class Decks {
+
+        @Bean
+        CustomDeckSource scriptedDeckSource() {
+            return new CustomDeckSource() {
+                @Override
+                public boolean isCustomDeck(String deckId) {
+                    return DECK_ID.equals(deckId);
+                }
+
+                @Override
+                public List<Card> buildCustomDeck(String deckId) {
+                    List<Card> deck = new ArrayList<>();
+                    for (int i = 0; i < LANDS; i++) {
+                        deck.add(forest());
+                    }
+                    for (int i = 0; i < CREATURES; i++) {
+                        deck.add(bear());
+                    }
+                    return deck;
+                }
+            };
+        }
+    }
+
+    private final GameSetupService gameSetupService;
+    private final GameService gameService;
+    private final GameQueryService gameQueryService;
+    private final Map<UUID, Player> players = new HashMap<>();
+    private GameData gameData;
+
+    ScriptedGame(AnnotationConfigApplicationContext context) {
+        this.gameSetupService = context.getBean(GameSetupService.class);
+        this.gameService = context.getBean(GameService.class);
+        this.gameQueryService = context.getBean(GameQueryService.class);
+    }
+
+    /** An engine with the scripted decks; {@code properties} go in front of the defaults. */
+    static AnnotationConfigApplicationContext engine(Map<String, Object> properties) {
+        Map<String, Object> merged = new HashMap<>(properties);
+        merged.putIfAbsent("oracle.data-load-mode", "ON_DEMAND");
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("scripted-game", merged));
+        context.register(GameTestDoublesConfig.class, Decks.class);
+        context.refresh();
+        return context;
+    }
+
+    GameData start() {
+        Player alice = new Player(UUID.randomUUID(), "Alice");
+        Player bob = new Player(UUID.randomUUID(), "Bob");
+        players.put(alice.getId(), alice);
+        players.put(bob.getId(), bob);
+        gameData = gameSetupService.createGame("Scripted game", alice, DECK_ID);
+        gameSetupService.joinGame(gameData, bob, DECK_ID);
+        return gameData;
+    }
+
+    /** Plays until the game is over. */
+    void playToEnd() {
+        while (step()) {
+            // every step sends one command
+        }
+    }
+
+    /**
+     * Sends the next command of the script.
+     *
+     * @return {@code false}, sending nothing, once the game is over
+     */
+    boolean step() {
+        if (gameData.status == GameStatus.FINISHED) {
+            return false;
+        }
+        if (gameData.status == GameStatus.MULLIGAN) {
+            mulliganStep();
+            return true;
+        }
+        if (gameData.interaction.isAwaitingInput()) {
+            answer(gameData.interaction.activeInteraction());
+            return true;
+        }
+        UUID priorityPlayerId = gameQueryService.getPriorityPlayerId(gameData);
+        if (priorityPlayerId == null) {
+            throw new IllegalStateException("Nobody has priority at " + gameData.currentStep);
+        }
+        if (!mainPhaseStep(priorityPlayerId)) {
+            gameService.passPriority(gameData, players.get(priorityPlayerId));
+        }
+        return true;
+    }
+
+    private void mulliganStep() {
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            if (gameData.playerNeedsToBottom.containsKey(playerId)) {
+                gameService.bottomCards(gameData, players.get(playerId),
+                        List.of(gameData.playerNeedsToBottom.get(playerId) - 1));
+                return;
+            }
+        }
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            if (!gameData.playerKeptHand.contains(playerId)) {
+                Player player = players.get(playerId);
+                if (playerId.equals(gameData.orderedPlayerIds.getFirst())
+                        && gameData.mulliganCounts.getOrDefault(playerId, 0) == 0) {
+                    gameService.mulligan(gameData, player);
+                } else {
+                    gameService.keepHand(gameData, player);
+                }
+                return;
+            }
+        }
+        throw new IllegalStateException("Mulligan phase with nothing left to decide");
+    }
+
+    private void answer(PendingInteraction interaction) {
+        switch (interaction) {
+            case PendingInteraction.AttackerDeclaration attack ->
+                    gameService.declareAttackers(gameData, players.get(attack.activePlayerId()), attack.attackerIndices());
+            case PendingInteraction.BlockerDeclaration block ->
+                    gameService.declareBlockers(gameData, players.get(block.chooserId()), List.of());
+            case PendingInteraction.DiscardChoice discard ->
+                    gameService.handleInteractionAnswer(gameData, players.get(discard.playerId()),
+                            new InteractionAnswer.CardIndexChosen(discard.validIndices().getFirst()));
+            default -> throw new IllegalStateException("The script has no answer for " + interaction);
+        }
+    }
+
+    /** The active player's land drop, then one Bear paid for land by land; false when there is nothing to do. */
+    private boolean mainPhaseStep(UUID playerId) {
+        if (!playerId.equals(gameData.activePlayerId) || gameData.currentStep != TurnStep.PRECOMBAT_MAIN
+                || !gameData.stack.isEmpty()) {
+            return false;
+        }
+        Player player = players.get(playerId);
+        List<Card> hand = gameData.playerHands.get(playerId);
+        int land = indexOfType(hand, CardType.LAND);
+        if (land >= 0 && gameData.landsPlayedThisTurn.getOrDefault(playerId, 0) == 0) {
+            gameService.playCard(gameData, player, land, null, null, null);
+            return true;
+        }
+        int creature = indexOfType(hand, CardType.CREATURE);
+        if (creature < 0) {
+            return false;
+        }
+        if (gameData.playerManaPools.get(playerId).getTotal() >= 2) {
+            gameService.playCard(gameData, player, creature, null, null, null);
+            return true;
+        }
+        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+        List<Integer> untappedLands = new ArrayList<>();
+        for (int i = 0; i < battlefield.size(); i++) {
+            Permanent permanent = battlefield.get(i);
+            if (!permanent.isTapped() && permanent.getCard().getType() == CardType.LAND) {
+                untappedLands.add(i);
+            }
+        }
+        if (untappedLands.size() + gameData.playerManaPools.get(playerId).getTotal() < 2) {
+            return false;
+        }
+        gameService.tapPermanent(gameData, player, untappedLands.getFirst());
+        return true;
+    }
+
+    private static int indexOfType(List<Card> hand, CardType type) {
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i).getType() == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Card forest() {
+        Card forest = new Card();
+        forest.setName("Forest");
+        forest.setType(CardType.LAND);
+        forest.setSupertypes(Set.of(CardSupertype.BASIC));
+        forest.setSubtypes(List.of(CardSubtype.FOREST));
+        forest.addEffect(EffectSlot.ON_TAP, new AwardManaEffect(ManaColor.GREEN));
+        return forest;
+    }
+
+    private static Card bear() {
+        Card bear = new Card();
+        bear.setName("Grizzly Bears");
+        bear.setType(CardType.CREATURE);
+        bear.setManaCost("{1}{G}");
+        bear.setColor(CardColor.GREEN);
+        bear.setSubtypes(List.of(CardSubtype.BEAR));
+        bear.setPower(2);
+        bear.setToughness(2);
+        return bear;
+    }
+}
@@ -114,7 +114,8 @@ class EnterTriggerCollectorServiceTest {
                 targetLegalityService,
                 new ConditionEvaluationService(gameQueryService, predicateEvaluationService),
                 gameLogService, etbTokenTargetService,
-                new GrantedTriggeredAbilitySupport(gameQueryService));
+                new GrantedTriggeredAbilitySupport(gameQueryService),
+                new TriggerListenerIndex(gameQueryService));
 
         player1Id = UUID.randomUUID();
         gd = new GameData(UUID.randomUUID(), "test", player1Id, "Player1");
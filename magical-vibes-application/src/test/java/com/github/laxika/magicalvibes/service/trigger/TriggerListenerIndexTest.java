@@ -0,0 +1,169 @@
+package com.github.laxika.magicalvibes.service.trigger;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.Emblem;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.effect.BoostSelfEffect;
+import com.github.laxika.magicalvibes.model.effect.GrantScope;
+import com.github.laxika.magicalvibes.model.effect.GrantTriggeredAbilityEffect;
+import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class TriggerListenerIndexTest {
+
+    @Mock
+    private GameQueryService gameQueryService;
+
+    private TriggerListenerIndex index;
+    private GameData gd;
+    private UUID player1Id;
+
+    @BeforeEach
+    void setUp() {
+        index = new TriggerListenerIndex(gameQueryService);
+        player1Id = UUID.randomUUID();
+        gd = new GameData(UUID.randomUUID(), "test", player1Id, "Player1");
+        gd.orderedPlayerIds.add(player1Id);
+        gd.playerBattlefields.put(player1Id, Collections.synchronizedList(new ArrayList<>()));
+        gd.playerGraveyards.put(player1Id, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    /** Swaps in the lists live games use, which count their writes instead of being fingerprinted. */
+    private void useCountingZones() {
+        gd.playerBattlefields.put(player1Id, gd.newBattlefieldList());
+        gd.playerGraveyards.put(player1Id, gd.newGraveyardList());
+    }
+
+    private Permanent addPermanent(String name, EffectSlot slot) {
+        Card card = new Card();
+        card.setName(name);
+        if (slot != null) {
+            card.addEffect(slot, new BoostSelfEffect(1, 1));
+        }
+        Permanent permanent = new Permanent(card);
+        gd.playerBattlefields.get(player1Id).add(permanent);
+        return permanent;
+    }
+
+    @Test
+    void listsOnlyPermanentsPrintingTheSlot() {
+        Permanent scryer = addPermanent("Scryer", EffectSlot.ON_CONTROLLER_SCRIES);
+        addPermanent("Vanilla", null);
+        Permanent surveiler = addPermanent("Surveiler", EffectSlot.ON_CONTROLLER_SURVEILS);
+
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(scryer);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SURVEILS))
+                .containsExactly(surveiler);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_INVESTIGATES))
+                .isEmpty();
+    }
+
+    @Test
+    void seesPermanentsEnteringAndLeavingWithoutBeingTold() {
+        Permanent first = addPermanent("First", EffectSlot.ON_CONTROLLER_SCRIES);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(first);
+
+        Permanent second = addPermanent("Second", EffectSlot.ON_CONTROLLER_SCRIES);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(first, second);
+
+        gd.playerBattlefields.get(player1Id).remove(first);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(second);
+        assertThat(index.findInconsistency(gd)).isNull();
+    }
+
+    @Test
+    void grantableSlotFallsBackToEveryPermanent() {
+        Permanent scryer = addPermanent("Scryer", EffectSlot.ON_CONTROLLER_SCRIES);
+        Permanent vanilla = addPermanent("Vanilla", null);
+
+        Card emblemSource = new Card();
+        emblemSource.setName("Planeswalker");
+        gd.emblems.add(new Emblem(player1Id, List.of(new GrantTriggeredAbilityEffect(
+                EffectSlot.ON_CONTROLLER_SCRIES, new BoostSelfEffect(1, 1), GrantScope.OWN_CREATURES)),
+                emblemSource));
+
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(scryer, vanilla);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SURVEILS))
+                .isEmpty();
+    }
+
+    @Test
+    void indexesGraveyardCardsBySlot() {
+        Card listener = new Card();
+        listener.setName("Graveyard Listener");
+        listener.addEffect(EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS, new BoostSelfEffect(1, 1));
+        Card filler = new Card();
+        filler.setName("Filler");
+        gd.playerGraveyards.get(player1Id).addAll(List.of(filler, listener));
+
+        assertThat(index.graveyardListeners(gd, player1Id, EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS))
+                .containsExactly(listener);
+
+        gd.playerGraveyards.get(player1Id).remove(listener);
+        assertThat(index.graveyardListeners(gd, player1Id, EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS))
+                .isEmpty();
+    }
+
+    @Test
+    void rereadsOnlyTheZoneThatWasWritten() {
+        useCountingZones();
+        Permanent scryer = addPermanent("Scryer", EffectSlot.ON_CONTROLLER_SCRIES);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(scryer);
+        TriggerListenerIndex.Snapshot first = (TriggerListenerIndex.Snapshot) gd.triggerListenerIndex;
+
+        index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES);
+        assertThat(gd.triggerListenerIndex).isSameAs(first);
+
+        Card filler = new Card();
+        filler.setName("Filler");
+        gd.playerGraveyards.get(player1Id).add(filler);
+        index.graveyardListeners(gd, player1Id, EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS);
+        TriggerListenerIndex.Snapshot second = (TriggerListenerIndex.Snapshot) gd.triggerListenerIndex;
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.battlefields().get(player1Id)).isSameAs(first.battlefields().get(player1Id));
+        assertThat(index.findInconsistency(gd)).isNull();
+    }
+
+    @Test
+    void seesCardSwapsAndGrantsOnACountedBattlefield() {
+        useCountingZones();
+        Permanent permanent = addPermanent("Vanilla", null);
+        Permanent other = addPermanent("Other", null);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES)).isEmpty();
+
+        Card copied = new Card();
+        copied.setName("Scryer");
+        copied.addEffect(EffectSlot.ON_CONTROLLER_SCRIES, new BoostSelfEffect(1, 1));
+        copied.freeze();
+        permanent.setCard(copied);
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SCRIES))
+                .containsExactly(permanent);
+
+        other.addPersistentTriggeredEffect(EffectSlot.STATIC, new GrantTriggeredAbilityEffect(
+                EffectSlot.ON_CONTROLLER_SURVEILS, new BoostSelfEffect(1, 1), GrantScope.OWN_CREATURES));
+        assertThat(index.battlefieldListeners(gd, player1Id, EffectSlot.ON_CONTROLLER_SURVEILS))
+                .containsExactly(permanent, other);
+        assertThat(index.findInconsistency(gd)).isNull();
+    }
+}
@@ -5,6 +5,7 @@ import com.github.laxika.magicalvibes.model.Keyword;
 import tools.jackson.databind.JsonNode;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -183,9 +184,14 @@ public final class CardDataSupport {
      * sharing one cache directory) either see a complete file or no file — never a partial write.
      */
     public static void writeCacheFile(Path cacheFile, String content) throws IOException {
+        writeCacheFile(cacheFile, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** {@link #writeCacheFile(Path, String)} for binary content. */
+    public static void writeCacheFile(Path cacheFile, byte[] content) throws IOException {
         Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
         try {
-            Files.writeString(tempFile, content);
+            Files.write(tempFile, content);
             try {
                 Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
             } catch (AtomicMoveNotSupportedException e) {
@@ -2,7 +2,6 @@ package com.github.laxika.magicalvibes.carddata;
 
 import com.github.laxika.magicalvibes.model.CardColor;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -20,8 +19,11 @@ public final class CardPrintingRegistry {
     private CardPrintingRegistry() {
     }
 
-    /** "SET:collectorNumber" -> rarity ("common", "uncommon", "rare", "mythic"). */
-    private static final Map<String, String> RARITY = new HashMap<>();
+    /**
+     * "SET:collectorNumber" -> rarity ("common", "uncommon", "rare", "mythic"). Concurrent: sets are
+     * registered while the web tier may already be reading rarities for an on-demand set.
+     */
+    private static final Map<String, String> RARITY = new ConcurrentHashMap<>();
 
     /** Set code -> token key (see {@link #buildTokenKey}) -> the token card printing to draw. */
     private static final Map<String, Map<String, TokenImageData>> TOKEN_IMAGES = new ConcurrentHashMap<>();
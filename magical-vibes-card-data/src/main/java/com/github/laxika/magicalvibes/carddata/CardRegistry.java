@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.carddata;
 
 import com.github.laxika.magicalvibes.cards.CardCatalog;
+import com.github.laxika.magicalvibes.cards.CardMetadata;
 import com.github.laxika.magicalvibes.cards.CardPrinting;
 import com.github.laxika.magicalvibes.cards.CardRegistration;
 import com.github.laxika.magicalvibes.cards.CardScanner;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.text.Normalizer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -26,13 +28,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * The single source of truth for what the game knows about each {@link CardSet}: the implemented
- * printings found by scanning the classpath, plus the set metadata the oracle data supplies.
+ * printings {@link CardScanner} finds, plus the set metadata and per-printing {@link CardMetadata}
+ * the oracle data supplies.
  *
  * <p>Owns the loading sequence. It scans first, then either loads every set during startup or lets
  * the test context request sets on demand. The loader needs the printings to know which card
@@ -52,11 +59,13 @@ public class CardRegistry implements CardCatalog {
 
     private final OracleLoader loader;
     private final OracleLoadMode loadMode;
+    private final int loadParallelism;
     private final Card.OracleDataResolver oracleDataResolver = this::resolveMissingOracleData;
     private final ThreadLocal<Boolean> suppressOracleResolution = ThreadLocal.withInitial(() -> false);
 
     private final Map<String, String> setNames = new ConcurrentHashMap<>();
     private final Map<String, Integer> setCardTotals = new ConcurrentHashMap<>();
+    private final Map<CardPrinting, CardMetadata> metadata = new ConcurrentHashMap<>();
     private final Set<CardSet> loadedSets = EnumSet.noneOf(CardSet.class);
     private volatile Map<CardSet, List<CardPrinting>> printings = Map.of();
     private volatile Map<Class<? extends Card>, CardSet> backFaceSets = Map.of();
@@ -65,17 +74,33 @@ public class CardRegistry implements CardCatalog {
         this(loader, OracleLoadMode.EAGER);
     }
 
+    public CardRegistry(OracleLoader loader, OracleLoadMode loadMode) {
+        this(loader, loadMode, 0);
+    }
+
+    /**
+     * @param loadParallelism how many sets an eager load reads and parses at once; 0 sizes it to
+     *                        the available cores
+     */
     @Autowired
     public CardRegistry(
             OracleLoader loader,
-            @Value("${oracle.data-load-mode:EAGER}") OracleLoadMode loadMode) {
+            @Value("${oracle.data-load-mode:EAGER}") OracleLoadMode loadMode,
+            @Value("${oracle.load-parallelism:0}") int loadParallelism) {
+        if (loadParallelism < 0) {
+            throw new IllegalArgumentException("oracle.load-parallelism must not be negative");
+        }
         this.loader = loader;
         this.loadMode = loadMode;
+        this.loadParallelism = loadParallelism > 0 ? loadParallelism : Runtime.getRuntime().availableProcessors();
     }
 
     @PostConstruct
     void load() {
+        long start = System.nanoTime();
+        OracleLoadTimings timings = new OracleLoadTimings();
         printings = CardScanner.scan();
+        timings.recordSince(OracleLoadTimings.Phase.SCAN, start);
 
         if (loadMode != OracleLoadMode.EAGER) {
             indexBackFaces();
@@ -86,10 +111,72 @@ public class CardRegistry implements CardCatalog {
             return;
         }
 
-        for (CardSet cardSet : CardSet.values()) {
-            ensureSetLoaded(cardSet);
+        int threads = loadAllSets(timings);
+        LOG.info("Oracle registry populated for all card sets in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms on " + threads + " threads ("
+                + timings.summary() + ")");
+    }
+
+    /**
+     * Reads and parses every set on a bounded pool, then registers the results one set at a time in
+     * {@link CardSet} order, whatever order the parses finish in. Registration order is observable:
+     * a class printed in several sets keeps the oracle data of the set registered last, and a
+     * back face keeps the first. Registering in enum order is what keeps a parallel startup's
+     * registry identical to a sequential one, and one run's to the next.
+     *
+     * @return the number of loading threads used
+     */
+    private int loadAllSets(OracleLoadTimings timings) {
+        CardSet[] sets = CardSet.values();
+        int threads = Math.min(loadParallelism, sets.length);
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("oracle-load-", 0).daemon().factory());
+        try {
+            List<Future<SetOracleData>> loads = new ArrayList<>(sets.length);
+            for (CardSet cardSet : sets) {
+                Set<String> implemented = implementedCollectorNumbers(getPrintings(cardSet));
+                loads.add(pool.submit(() -> loader.loadSet(cardSet.getCode(), implemented, timings)));
+            }
+            for (int i = 0; i < sets.length; i++) {
+                SetOracleData data = awaitLoad(loads.get(i));
+                long registerStart = System.nanoTime();
+                registerLoaded(sets[i], data);
+                timings.recordSince(OracleLoadTimings.Phase.REGISTER, registerStart);
+            }
+        } finally {
+            // On a failed set, the sets still queued behind it are of no use to anyone.
+            pool.shutdownNow();
         }
-        LOG.info("Oracle registry populated for all card sets");
+        return threads;
+    }
+
+    private static SetOracleData awaitLoad(Future<SetOracleData> load) {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading oracle data", e);
+        } catch (ExecutionException e) {
+            // Rethrow the loader's own exception, as the sequential load did.
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Failed to load oracle data", e.getCause());
+        }
+    }
+
+    private synchronized void registerLoaded(CardSet cardSet, SetOracleData data) {
+        if (loadedSets.contains(cardSet)) {
+            return;
+        }
+        register(cardSet, getPrintings(cardSet), data);
+        loadedSets.add(cardSet);
+    }
+
+    private static Set<String> implementedCollectorNumbers(List<CardPrinting> setPrintings) {
+        return setPrintings.stream()
+                .map(CardPrinting::collectorNumber)
+                .collect(Collectors.toSet());
     }
 
     @PreDestroy
@@ -104,10 +191,8 @@ public class CardRegistry implements CardCatalog {
         }
 
         List<CardPrinting> setPrintings = getPrintings(cardSet);
-        Set<String> implemented = setPrintings.stream()
-                .map(CardPrinting::collectorNumber)
-                .collect(Collectors.toSet());
-        register(cardSet, setPrintings, loader.loadSet(cardSet.getCode(), implemented));
+        register(cardSet, setPrintings,
+                loader.loadSet(cardSet.getCode(), implementedCollectorNumbers(setPrintings)));
         loadedSets.add(cardSet);
     }
 
@@ -252,8 +337,12 @@ public class CardRegistry implements CardCatalog {
             OracleData back = data.backFaceByCollectorNumber().get(printing.collectorNumber());
             verifyOracleNameMatchesClass(cardSet, printing, front, back);
             Card.registerOracle(printing.simpleCardClassName(), front);
+            metadata.put(printing, CardMetadata.of(front, printing.hasBackFace()));
 
-            if (loadMode == OracleLoadMode.EAGER || printing.hasBackFace()) {
+            // Only a class that declares getBackFaceClassName can name a back face; constructing
+            // every other printing here would load and build all ~17,800 card classes at startup
+            // just to read a null.
+            if (printing.hasBackFace()) {
                 Card tempCard = constructForRegistration(printing);
                 String backFaceClassName = tempCard.getBackFaceClassName();
                 if (backFaceClassName != null && back != null) {
@@ -354,6 +443,24 @@ public class CardRegistry implements CardCatalog {
         return printing;
     }
 
+    @Override
+    public CardMetadata getMetadata(CardPrinting printing) {
+        CardSet cardSet = CardSet.findByCode(printing.setCode());
+        if (cardSet != null) {
+            ensureSetLoaded(cardSet);
+        }
+        CardMetadata known = metadata.get(printing);
+        if (known != null) {
+            return known;
+        }
+        // A printing the oracle data had nothing for (logged at registration) reports whatever a
+        // constructed card carries, exactly as callers saw it before; build it once and remember.
+        // Not computeIfAbsent: construction may resolve oracle data, which writes to this map.
+        CardMetadata built = CardMetadata.of(printing.createCard(), printing.hasBackFace());
+        CardMetadata raced = metadata.putIfAbsent(printing, built);
+        return raced != null ? raced : built;
+    }
+
     @Override
     public String getName(CardSet set) {
         ensureSetLoaded(set);
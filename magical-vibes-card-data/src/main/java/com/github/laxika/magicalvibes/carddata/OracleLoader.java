@@ -32,4 +32,15 @@ public interface OracleLoader {
      *                          would let one build serve different oracle text than the next.
      */
     SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers);
+
+    /**
+     * {@link #loadSet(String, Set)}, recording into {@code timings} how long reading, parsing and
+     * mapping took. {@link CardRegistry} calls this from several threads at once during an eager
+     * load, so an implementation must not share mutable state between calls. A loader that does not
+     * break its work down records nothing.
+     */
+    default SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers,
+                                  OracleLoadTimings timings) {
+        return loadSet(setCode, implementedCollectorNumbers);
+    }
 }
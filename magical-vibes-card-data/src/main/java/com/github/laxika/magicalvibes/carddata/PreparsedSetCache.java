@@ -0,0 +1,432 @@
+package com.github.laxika.magicalvibes.carddata;
+
+import com.github.laxika.magicalvibes.carddata.CardPrintingRegistry.TokenImageData;
+import com.github.laxika.magicalvibes.carddata.OracleLoadTimings.Phase;
+import com.github.laxika.magicalvibes.model.CardColor;
+import com.github.laxika.magicalvibes.model.CardSubtype;
+import com.github.laxika.magicalvibes.model.CardSupertype;
+import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.Keyword;
+import com.github.laxika.magicalvibes.model.OracleData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * A second cache tier behind {@link SetJsonCache}: each set's finished {@link SetOracleData}, in a
+ * compact binary file next to the JSON it came from.
+ *
+ * <p>A set's JSON runs to megabytes, and startup only wants the few hundred faces the game
+ * implements out of it, yet every boot parsed the whole document with Jackson and re-ran the face
+ * mapper over every implemented printing. The result only changes when its inputs do, so it is
+ * stored once and memory-mapped back on later boots; the JSON is still read, but only hashed, never
+ * decoded.
+ *
+ * <p>An entry is keyed by a SHA-256 over everything that decides its contents: the source files'
+ * bytes, the implemented collector numbers, and the bytecode of the loader and mapper classes. A
+ * re-fetched set, a newly implemented card or a changed mapping rule all miss, so there is nothing
+ * to invalidate by hand. A miss, a stale key, a truncated or corrupt file, or a format from another
+ * version all fall back to parsing the JSON, and the result is written back for the next boot.
+ *
+ * <p>{@code -DdisablePreparsedOracleCache=true} always parses. {@code
+ * -DverifyPreparsedOracleCache=true} decodes and parses both, and throws if they disagree. Compare
+ * the oracle-load phase line with and without the first flag to see what the tier saves.
+ */
+public final class PreparsedSetCache {
+
+    private static final Logger LOG = Logger.getLogger(PreparsedSetCache.class.getName());
+
+    private static final int MAGIC = 0x4D564F43; // "MVOC"
+    /** Bump on any change to the layout below; older files then fail the header check and reparse. */
+    private static final int FORMAT_VERSION = 1;
+    private static final int KEY_BYTES = 32;
+    private static final int HEADER_BYTES = 4 + 4 + KEY_BYTES + 4 + 4;
+
+    /** Classes whose code decides what a set maps to. A change to any of them changes every key. */
+    private static final List<Class<?>> MAPPER_CLASSES = List.of(FaceOracleMapper.class, TypeLineParser.class,
+            OracleTextNormalizer.class, CardDataSupport.class, RawFace.class, OracleData.class,
+            PreparsedSetCache.class);
+
+    /** Produces the set from its JSON; called on a miss. */
+    @FunctionalInterface
+    public interface Parser {
+        SetOracleData parse() throws Exception;
+    }
+
+    private final Path cacheDir;
+    private final String filePrefix;
+    private final byte[] mapperFingerprint;
+
+    /**
+     * @param filePrefix  the provider's {@link SetJsonCache} prefix, so the two providers' entries
+     *                    stay apart
+     * @param loaderClass the provider's loader, whose JSON-to-face code is part of every key
+     */
+    public PreparsedSetCache(String cacheDir, String filePrefix, Class<?> loaderClass) {
+        byte[] fingerprint = Boolean.getBoolean("disablePreparsedOracleCache") ? null : fingerprint(loaderClass);
+        this.cacheDir = fingerprint == null ? null : Path.of(cacheDir);
+        this.filePrefix = filePrefix;
+        this.mapperFingerprint = fingerprint;
+    }
+
+    private PreparsedSetCache() {
+        this.cacheDir = null;
+        this.filePrefix = null;
+        this.mapperFingerprint = null;
+    }
+
+    /** A tier that never stores anything: every load parses. */
+    public static PreparsedSetCache disabled() {
+        return new PreparsedSetCache();
+    }
+
+    /**
+     * The set's oracle data, decoded from this tier when an entry matches {@code sources} and
+     * {@code implementedCollectorNumbers}, otherwise from {@code parser}.
+     *
+     * @param sources the JSON files {@code parser} reads, already on disk
+     */
+    public SetOracleData load(String setCode, Set<String> implementedCollectorNumbers, List<Path> sources,
+                              OracleLoadTimings timings, Parser parser) throws Exception {
+        if (cacheDir == null) {
+            return parser.parse();
+        }
+
+        long start = System.nanoTime();
+        byte[] key = key(implementedCollectorNumbers, sources);
+        timings.recordSince(Phase.READ, start);
+
+        Path file = fileFor(setCode);
+        start = System.nanoTime();
+        SetOracleData decoded = read(file, key);
+        if (decoded != null) {
+            timings.recordSince(Phase.DECODE, start);
+            timings.recordPreparsedSet();
+            if (!Boolean.getBoolean("verifyPreparsedOracleCache")) {
+                return decoded;
+            }
+        }
+
+        SetOracleData parsed = parser.parse();
+        if (decoded != null) {
+            if (!decoded.equals(parsed)) {
+                throw new IllegalStateException("Pre-parsed oracle cache " + file
+                        + " disagrees with the set's JSON; delete it and report the difference");
+            }
+            return parsed;
+        }
+        write(file, key, parsed);
+        return parsed;
+    }
+
+    Path fileFor(String setCode) {
+        return cacheDir.resolve(filePrefix + setCode.toLowerCase(Locale.ROOT) + ".oracle.bin");
+    }
+
+    private byte[] key(Set<String> implementedCollectorNumbers, List<Path> sources) throws IOException {
+        MessageDigest digest = sha256();
+        digest.update(mapperFingerprint);
+        for (String collectorNumber : new TreeSet<>(implementedCollectorNumbers)) {
+            digest.update(collectorNumber.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        for (Path source : sources) {
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                long size = channel.size();
+                digest.update(ByteBuffer.allocate(Long.BYTES).putLong(size).flip());
+                if (size > 0) {
+                    digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    /** Null when the file is missing, for other inputs, or unreadable — any of which means reparse. */
+    private SetOracleData read(Path file, byte[] key) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            byte[] storedKey = new byte[KEY_BYTES];
+            buffer.get(storedKey);
+            if (!Arrays.equals(storedKey, key)) {
+                return null;
+            }
+            int checksum = buffer.getInt();
+            int length = buffer.getInt();
+            if (length != buffer.remaining()) {
+                throw new IOException("expected " + length + " payload bytes, found " + buffer.remaining());
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+            return decode(buffer);
+        } catch (Exception e) {
+            LOG.warning("Ignoring unreadable pre-parsed oracle cache " + file + ": " + e);
+            return null;
+        }
+    }
+
+    /** Best effort: a failed write costs the next boot a parse, nothing more. */
+    private void write(Path file, byte[] key, SetOracleData data) {
+        try {
+            byte[] payload = encode(data);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + payload.length);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.write(key);
+            out.writeInt((int) crc.getValue());
+            out.writeInt(payload.length);
+            out.write(payload);
+            CardDataSupport.writeCacheFile(file, bytes.toByteArray());
+        } catch (IOException e) {
+            LOG.warning("Could not write pre-parsed oracle cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    // --- Payload layout -----------------------------------------------------------------------
+    // Strings are an int byte length (-1 for null) and UTF-8; collections an int count (-1 for
+    // null) and their elements; enums their constant name; nullable ints a presence byte and int.
+
+    static byte[] encode(SetOracleData data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, data.setName());
+        out.writeInt(data.cardTotal());
+
+        out.writeInt(data.rarityByCollectorNumber().size());
+        for (Map.Entry<String, String> entry : data.rarityByCollectorNumber().entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+
+        writeFaces(out, data.frontFaceByCollectorNumber());
+        writeFaces(out, data.backFaceByCollectorNumber());
+
+        out.writeInt(data.tokenImages().size());
+        for (Map.Entry<String, TokenImageData> entry : data.tokenImages().entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue().setCode());
+            writeString(out, entry.getValue().collectorNumber());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static SetOracleData decode(ByteBuffer in) {
+        String setName = readString(in);
+        int cardTotal = in.getInt();
+
+        int rarityCount = in.getInt();
+        Map<String, String> rarities = new HashMap<>();
+        for (int i = 0; i < rarityCount; i++) {
+            rarities.put(readString(in), readString(in));
+        }
+
+        Map<String, OracleData> frontFaces = readFaces(in);
+        Map<String, OracleData> backFaces = readFaces(in);
+
+        int tokenCount = in.getInt();
+        Map<String, TokenImageData> tokens = new HashMap<>();
+        for (int i = 0; i < tokenCount; i++) {
+            tokens.put(readString(in), new TokenImageData(readString(in), readString(in)));
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalStateException(in.remaining() + " trailing bytes");
+        }
+        return new SetOracleData(setName, cardTotal, rarities, frontFaces, backFaces, tokens);
+    }
+
+    private static void writeFaces(DataOutputStream out, Map<String, OracleData> faces) throws IOException {
+        out.writeInt(faces.size());
+        for (Map.Entry<String, OracleData> entry : faces.entrySet()) {
+            writeString(out, entry.getKey());
+            OracleData face = entry.getValue();
+            writeString(out, face.name());
+            writeEnum(out, face.type());
+            writeEnums(out, face.additionalTypes());
+            writeString(out, face.manaCost());
+            writeEnum(out, face.color());
+            writeEnums(out, face.colors());
+            writeEnums(out, face.colorIdentity());
+            writeEnums(out, face.supertypes());
+            writeEnums(out, face.subtypes());
+            writeString(out, face.cardText());
+            writeInteger(out, face.power());
+            writeInteger(out, face.toughness());
+            writeEnums(out, face.keywords());
+            writeInteger(out, face.loyalty());
+            writeInteger(out, face.defense());
+            writeString(out, face.watermark());
+        }
+    }
+
+    /** Rebuilds the collection types {@link FaceOracleMapper} produces, so a decoded face behaves like a mapped one. */
+    private static Map<String, OracleData> readFaces(ByteBuffer in) {
+        int count = in.getInt();
+        Map<String, OracleData> faces = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String collectorNumber = readString(in);
+            faces.put(collectorNumber, new OracleData(
+                    readString(in),
+                    readEnum(in, CardType.class),
+                    readEnumSet(in, CardType.class),
+                    readString(in),
+                    readEnum(in, CardColor.class),
+                    immutable(readEnumList(in, CardColor.class)),
+                    immutable(readEnumList(in, CardColor.class)),
+                    readEnumSet(in, CardSupertype.class),
+                    readEnumList(in, CardSubtype.class),
+                    readString(in),
+                    readInteger(in),
+                    readInteger(in),
+                    readEnumSet(in, Keyword.class),
+                    readInteger(in),
+                    readInteger(in),
+                    readString(in)));
+        }
+        return faces;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    private static <E extends Enum<E>> E readEnum(ByteBuffer in, Class<E> type) {
+        String name = readString(in);
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    private static void writeEnums(DataOutputStream out, Collection<? extends Enum<?>> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (Enum<?> value : values) {
+            writeEnum(out, value);
+        }
+    }
+
+    private static <E extends Enum<E>> List<E> readEnumList(ByteBuffer in, Class<E> type) {
+        int count = in.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<E> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readEnum(in, type));
+        }
+        return values;
+    }
+
+    private static <E extends Enum<E>> Set<E> readEnumSet(ByteBuffer in, Class<E> type) {
+        List<E> values = readEnumList(in, type);
+        if (values == null) {
+            return null;
+        }
+        Set<E> set = EnumSet.noneOf(type);
+        set.addAll(values);
+        return set;
+    }
+
+    private static <E> List<E> immutable(List<E> values) {
+        return values == null ? null : List.copyOf(values);
+    }
+
+    /**
+     * SHA-256 over the mapping code's class files, or null — disabling the tier — if any of them
+     * cannot be read, since a key that ignored a code change would serve stale faces.
+     */
+    private static byte[] fingerprint(Class<?> loaderClass) {
+        MessageDigest digest = sha256();
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(FORMAT_VERSION).flip());
+        List<Class<?>> classes = new ArrayList<>(MAPPER_CLASSES);
+        classes.add(loaderClass);
+        for (Class<?> type : classes) {
+            try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                if (in == null) {
+                    LOG.warning("Pre-parsed oracle cache disabled: no class file for " + type.getName());
+                    return null;
+                }
+                digest.update(in.readAllBytes());
+            } catch (IOException e) {
+                LOG.warning("Pre-parsed oracle cache disabled: " + e.getMessage());
+                return null;
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required of every JVM", e);
+        }
+    }
+}
@@ -37,6 +37,7 @@ public final class SetJsonCache {
     private final Fetcher fetcher;
     private final int fetchAttempts;
     private final Duration retryDelay;
+    private final Object fetchLock = new Object();
 
     /**
      * @param filePrefix distinguishes one provider's cache files from another's in the shared cache
@@ -66,19 +67,34 @@ public final class SetJsonCache {
     }
 
     public String get(String setCode) throws IOException, InterruptedException {
+        return Files.readString(ensureCached(setCode));
+    }
+
+    /**
+     * The set's cache file, fetched first if it is not on disk yet. For callers that want the
+     * file rather than its text — {@link PreparsedSetCache} hashes the bytes without decoding them.
+     */
+    public Path ensureCached(String setCode) throws IOException, InterruptedException {
         Files.createDirectories(cacheDir);
         Path cacheFile = fileFor(setCode);
 
         if (Files.exists(cacheFile)) {
             LOG.info("Loading " + setCode + " from " + sourceName + " cache: " + cacheFile);
-            return Files.readString(cacheFile);
+            return cacheFile;
         }
 
-        LOG.info("Fetching " + setCode + " from " + sourceName + "...");
-        String json = fetch(setCode);
-        CardDataSupport.writeCacheFile(cacheFile, json);
-        LOG.info("Cached " + setCode + " to: " + cacheFile);
-        return json;
+        // Sets load in parallel at startup, but the fetchers pace themselves for one caller at a
+        // time (Scryfall's sleeps between requests), so a cold cache still fetches one set at a time.
+        synchronized (fetchLock) {
+            if (Files.exists(cacheFile)) {
+                return cacheFile;
+            }
+            LOG.info("Fetching " + setCode + " from " + sourceName + "...");
+            String json = fetch(setCode);
+            CardDataSupport.writeCacheFile(cacheFile, json);
+            LOG.info("Cached " + setCode + " to: " + cacheFile);
+            return cacheFile;
+        }
     }
 
     private String fetch(String setCode) throws IOException, InterruptedException {
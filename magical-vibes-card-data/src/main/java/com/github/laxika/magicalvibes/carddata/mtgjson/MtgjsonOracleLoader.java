@@ -6,7 +6,10 @@ import com.github.laxika.magicalvibes.carddata.CardDataSupport;
 import com.github.laxika.magicalvibes.carddata.CardPrintingRegistry;
 import com.github.laxika.magicalvibes.carddata.CardPrintingRegistry.TokenImageData;
 import com.github.laxika.magicalvibes.carddata.FaceOracleMapper;
+import com.github.laxika.magicalvibes.carddata.OracleLoadTimings;
+import com.github.laxika.magicalvibes.carddata.OracleLoadTimings.Phase;
 import com.github.laxika.magicalvibes.carddata.OracleLoader;
+import com.github.laxika.magicalvibes.carddata.PreparsedSetCache;
 import com.github.laxika.magicalvibes.carddata.RawFace;
 import com.github.laxika.magicalvibes.carddata.SetJsonCache;
 import com.github.laxika.magicalvibes.carddata.SetOracleData;
@@ -22,6 +25,8 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,57 +64,85 @@ public class MtgjsonOracleLoader implements OracleLoader {
     private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
 
     private final SetJsonCache cache;
+    private final PreparsedSetCache preparsed;
 
     public MtgjsonOracleLoader(@Value("${card-data.cache-dir:./card-data-cache}") String cacheDir) {
         this.cache = new SetJsonCache(cacheDir, "mtgjson-", "MTGJSON", MtgjsonOracleLoader::fetchFromMtgjson);
+        this.preparsed = new PreparsedSetCache(cacheDir, "mtgjson-", MtgjsonOracleLoader.class);
     }
 
     @Override
     public SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers) {
+        return loadSet(setCode, implementedCollectorNumbers, new OracleLoadTimings());
+    }
+
+    @Override
+    public SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers,
+                                 OracleLoadTimings timings) {
         try {
-            JsonNode setData = MAPPER.readTree(cache.get(setCode)).get("data");
-            if (setData == null) {
-                throw new IOException("MTGJSON file for set " + setCode + " has no data node");
-            }
+            long start = System.nanoTime();
+            Path setFile = cache.ensureCached(setCode);
+            timings.recordSince(Phase.READ, start);
 
-            String setName = setData.has("name") ? setData.get("name").asText() : null;
+            return preparsed.load(setCode, implementedCollectorNumbers, List.of(setFile), timings,
+                    () -> parseSet(setCode, setFile, implementedCollectorNumbers, timings));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load MTGJSON oracle data for set " + setCode, e);
+        }
+    }
 
-            FaceIndex faces = indexFacesByCollectorNumber(setData.get("cards"));
-            Map<String, JsonNode> frontFaceNodes = faces.frontFaces();
-            Map<String, JsonNode> backFaceNodes = faces.backFaces();
+    private static SetOracleData parseSet(String setCode, Path setFile, Set<String> implementedCollectorNumbers,
+                                          OracleLoadTimings timings) throws IOException {
+        long start = System.nanoTime();
+        String json = Files.readString(setFile);
+        timings.recordSince(Phase.READ, start);
 
-            // Rarity covers every card in the set, implemented or not.
-            Map<String, String> rarities = new HashMap<>();
-            for (Map.Entry<String, JsonNode> entry : frontFaceNodes.entrySet()) {
-                JsonNode cardNode = entry.getValue();
-                if (cardNode.has("rarity")) {
-                    rarities.put(entry.getKey(), cardNode.get("rarity").asText());
-                }
-            }
+        start = System.nanoTime();
+        JsonNode setData = MAPPER.readTree(json).get("data");
+        if (setData == null) {
+            throw new IOException("MTGJSON file for set " + setCode + " has no data node");
+        }
 
-            // Oracle text is parsed only for printings the game implements.
-            Map<String, OracleData> frontFaces = new HashMap<>();
-            Map<String, OracleData> backFaces = new HashMap<>();
-            for (String collectorNumber : implementedCollectorNumbers) {
-                JsonNode front = frontFaceNodes.get(collectorNumber);
-                if (front == null) {
-                    continue;
-                }
-                frontFaces.put(collectorNumber, parseOracleData(front, false));
+        String setName = setData.has("name") ? setData.get("name").asText() : null;
 
-                JsonNode back = backFaceNodes.get(collectorNumber);
-                if (back != null) {
-                    backFaces.put(collectorNumber, parseOracleData(back, true));
-                }
+        FaceIndex faces = indexFacesByCollectorNumber(setData.get("cards"));
+        Map<String, JsonNode> frontFaceNodes = faces.frontFaces();
+        Map<String, JsonNode> backFaceNodes = faces.backFaces();
+
+        // Rarity covers every card in the set, implemented or not.
+        Map<String, String> rarities = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : frontFaceNodes.entrySet()) {
+            JsonNode cardNode = entry.getValue();
+            if (cardNode.has("rarity")) {
+                rarities.put(entry.getKey(), cardNode.get("rarity").asText());
+            }
+        }
+        timings.recordSince(Phase.PARSE, start);
+
+        // Oracle text is parsed only for printings the game implements.
+        start = System.nanoTime();
+        Map<String, OracleData> frontFaces = new HashMap<>();
+        Map<String, OracleData> backFaces = new HashMap<>();
+        for (String collectorNumber : implementedCollectorNumbers) {
+            JsonNode front = frontFaceNodes.get(collectorNumber);
+            if (front == null) {
+                continue;
             }
+            frontFaces.put(collectorNumber, parseOracleData(front, false));
 
-            // Total cards in the set (one entry per collector number, meld results included —
-            // the same count Scryfall yields) — the set-completeness denominator.
-            return new SetOracleData(setName, frontFaceNodes.size(), rarities,
-                    frontFaces, backFaces, parseTokens(setCode, setData));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load MTGJSON oracle data for set " + setCode, e);
+            JsonNode back = backFaceNodes.get(collectorNumber);
+            if (back != null) {
+                backFaces.put(collectorNumber, parseOracleData(back, true));
+            }
         }
+
+        Map<String, TokenImageData> tokens = parseTokens(setCode, setData);
+        timings.recordSince(Phase.MAP, start);
+
+        // Total cards in the set (one entry per collector number, meld results included —
+        // the same count Scryfall yields) — the set-completeness denominator.
+        return new SetOracleData(setName, frontFaceNodes.size(), rarities,
+                frontFaces, backFaces, tokens);
     }
 
     /** The set's card entries keyed by collector number, one map per side. */
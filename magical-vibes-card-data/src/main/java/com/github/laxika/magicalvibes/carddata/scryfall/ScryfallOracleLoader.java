@@ -3,7 +3,10 @@ package com.github.laxika.magicalvibes.carddata.scryfall;
 import com.github.laxika.magicalvibes.carddata.CardDataSupport;
 import com.github.laxika.magicalvibes.carddata.CardPrintingRegistry;
 import com.github.laxika.magicalvibes.carddata.FaceOracleMapper;
+import com.github.laxika.magicalvibes.carddata.OracleLoadTimings;
+import com.github.laxika.magicalvibes.carddata.OracleLoadTimings.Phase;
 import com.github.laxika.magicalvibes.carddata.OracleLoader;
+import com.github.laxika.magicalvibes.carddata.PreparsedSetCache;
 import com.github.laxika.magicalvibes.carddata.RawFace;
 import com.github.laxika.magicalvibes.carddata.SetJsonCache;
 import com.github.laxika.magicalvibes.carddata.SetOracleData;
@@ -47,71 +50,142 @@ public class ScryfallOracleLoader implements OracleLoader {
     private static final ObjectMapper MAPPER = JsonMapper.builder().build();
 
     private final SetJsonCache cache;
+    private final PreparsedSetCache preparsed;
 
     @Autowired
     public ScryfallOracleLoader(@Value("${card-data.cache-dir:./card-data-cache}") String cacheDir) {
-        this(cacheDir, ScryfallOracleLoader::fetchFromScryfall);
+        this(cacheDir, ScryfallOracleLoader::fetchFromScryfall,
+                new PreparsedSetCache(cacheDir, "scryfall-", ScryfallOracleLoader.class));
     }
 
+    /** For tests with a stub fetcher: always parses, so the cache directory holds only the JSON. */
     ScryfallOracleLoader(String cacheDir, SetJsonCache.Fetcher fetcher) {
+        this(cacheDir, fetcher, PreparsedSetCache.disabled());
+    }
+
+    private ScryfallOracleLoader(String cacheDir, SetJsonCache.Fetcher fetcher, PreparsedSetCache preparsed) {
         this.cache = new SetJsonCache(cacheDir, "scryfall-", "Scryfall", fetcher);
+        this.preparsed = preparsed;
     }
 
     @Override
     public SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers) {
+        return loadSet(setCode, implementedCollectorNumbers, new OracleLoadTimings());
+    }
+
+    @Override
+    public SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers,
+                                 OracleLoadTimings timings) {
         try {
-            Map<String, JsonNode> cardsByCollectorNumber = parseSetJson(cache.get(setCode));
+            long start = System.nanoTime();
+            Path setFile = cache.ensureCached(setCode);
+            Path tokenFile = ensureTokenSetCached(setCode);
+            timings.recordSince(Phase.READ, start);
+
+            List<Path> sources = tokenFile == null ? List.of(setFile) : List.of(setFile, tokenFile);
+            return preparsed.load(setCode, implementedCollectorNumbers, sources, timings,
+                    () -> parseSet(setCode, setFile, tokenFile, implementedCollectorNumbers, timings));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load Scryfall oracle data for set " + setCode, e);
+        }
+    }
 
-            String setName = null;
-            if (!cardsByCollectorNumber.isEmpty()) {
-                JsonNode firstCard = cardsByCollectorNumber.values().iterator().next();
-                if (firstCard.has("set_name")) {
-                    setName = firstCard.get("set_name").asText();
-                }
+    private static SetOracleData parseSet(String setCode, Path setFile, Path tokenFile,
+                                          Set<String> implementedCollectorNumbers,
+                                          OracleLoadTimings timings) throws IOException {
+        long start = System.nanoTime();
+        String json = Files.readString(setFile);
+        timings.recordSince(Phase.READ, start);
+
+        start = System.nanoTime();
+        Map<String, JsonNode> cardsByCollectorNumber = parseSetJson(json);
+
+        String setName = null;
+        if (!cardsByCollectorNumber.isEmpty()) {
+            JsonNode firstCard = cardsByCollectorNumber.values().iterator().next();
+            if (firstCard.has("set_name")) {
+                setName = firstCard.get("set_name").asText();
+            }
+        }
+
+        // Rarity covers every card in the set, implemented or not.
+        Map<String, String> rarities = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : cardsByCollectorNumber.entrySet()) {
+            JsonNode cardNode = entry.getValue();
+            if (cardNode.has("rarity")) {
+                rarities.put(entry.getKey(), cardNode.get("rarity").asText());
+            }
+        }
+        timings.recordSince(Phase.PARSE, start);
+
+        // Oracle text is parsed only for printings the game implements.
+        start = System.nanoTime();
+        Map<String, OracleData> frontFaces = new HashMap<>();
+        Map<String, OracleData> backFaces = new HashMap<>();
+        for (String collectorNumber : implementedCollectorNumbers) {
+            JsonNode cardNode = cardsByCollectorNumber.get(collectorNumber);
+            if (cardNode == null) {
+                continue;
             }
+            frontFaces.put(collectorNumber, parseOracleData(cardNode));
 
-            // Rarity covers every card in the set, implemented or not.
-            Map<String, String> rarities = new HashMap<>();
-            for (Map.Entry<String, JsonNode> entry : cardsByCollectorNumber.entrySet()) {
-                JsonNode cardNode = entry.getValue();
-                if (cardNode.has("rarity")) {
-                    rarities.put(entry.getKey(), cardNode.get("rarity").asText());
-                }
+            OracleData backFaceData = parseBackFaceOracleData(cardNode);
+            if (backFaceData != null) {
+                backFaces.put(collectorNumber, backFaceData);
             }
+        }
 
-            // Oracle text is parsed only for printings the game implements.
-            Map<String, OracleData> frontFaces = new HashMap<>();
-            Map<String, OracleData> backFaces = new HashMap<>();
-            for (String collectorNumber : implementedCollectorNumbers) {
-                JsonNode cardNode = cardsByCollectorNumber.get(collectorNumber);
-                if (cardNode == null) {
-                    continue;
-                }
-                frontFaces.put(collectorNumber, parseOracleData(cardNode));
+        timings.recordSince(Phase.MAP, start);
 
-                OracleData backFaceData = parseBackFaceOracleData(cardNode);
-                if (backFaceData != null) {
-                    backFaces.put(collectorNumber, backFaceData);
-                }
-            }
+        return new SetOracleData(setName, cardsByCollectorNumber.size(), rarities,
+                frontFaces, backFaces, loadTokens(setCode, tokenFile, timings));
+    }
 
-            return new SetOracleData(setName, cardsByCollectorNumber.size(), rarities,
-                    frontFaces, backFaces, loadTokens(setCode));
+    /**
+     * The cache file of the set's Scryfall token set ({@code t}-prefixed), or null if there is
+     * none. Never throws: a set with no token set is normal, and a token fetch failing is not a
+     * reason to fail the card load.
+     */
+    private Path ensureTokenSetCached(String setCode) {
+        String tokenSetCode = "t" + setCode.toLowerCase();
+        try {
+            return cache.ensureCached(tokenSetCode);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to load Scryfall oracle data for set " + setCode, e);
+            // Write empty cache to avoid hitting Scryfall again on next startup
+            Path cacheFile = cache.fileFor(tokenSetCode);
+            if (!Files.exists(cacheFile)) {
+                try {
+                    CardDataSupport.writeCacheFile(cacheFile, "[]");
+                } catch (IOException ignored) {}
+            }
+            LOG.warning("Could not load token set " + tokenSetCode + ": " + e.getMessage());
+            return Files.exists(cacheFile) ? cacheFile : null;
         }
     }
 
     /**
-     * Token art for the set, from Scryfall's separate {@code t}-prefixed set. Never throws: a set
-     * with no token set is normal, and a token fetch failing is not a reason to fail the card load.
-     * Loads creature and non-creature tokens (Treasure, Food, …); skips emblems.
+     * Token art for the set from its cached token set file. Never throws, for the same reason as
+     * {@link #ensureTokenSetCached}. Loads creature and non-creature tokens (Treasure, Food, …);
+     * skips emblems.
      */
-    private Map<String, CardPrintingRegistry.TokenImageData> loadTokens(String setCode) {
+    private static Map<String, CardPrintingRegistry.TokenImageData> loadTokens(String setCode, Path tokenFile,
+                                                                               OracleLoadTimings timings) {
         String tokenSetCode = "t" + setCode.toLowerCase();
         Map<String, CardPrintingRegistry.TokenImageData> tokenMap = new HashMap<>();
+        if (tokenFile == null) {
+            return tokenMap;
+        }
         try {
-            for (Map.Entry<String, JsonNode> entry : parseSetJson(cache.get(tokenSetCode)).entrySet()) {
+            long start = System.nanoTime();
+            String json = Files.readString(tokenFile);
+            timings.recordSince(Phase.READ, start);
+
+            start = System.nanoTime();
+            Map<String, JsonNode> tokensByCollectorNumber = parseSetJson(json);
+            timings.recordSince(Phase.PARSE, start);
+
+            start = System.nanoTime();
+            for (Map.Entry<String, JsonNode> entry : tokensByCollectorNumber.entrySet()) {
                 JsonNode tokenNode = entry.getValue();
                 String typeLine = tokenNode.has("type_line") ? tokenNode.get("type_line").asText() : "";
                 if (typeLine.contains("Emblem")) continue;
@@ -127,17 +201,11 @@ public class ScryfallOracleLoader implements OracleLoader {
                 String key = CardPrintingRegistry.buildTokenKey(name, power, toughness, color);
                 tokenMap.put(key, new CardPrintingRegistry.TokenImageData(tokenSetCode, entry.getKey()));
             }
+            timings.recordSince(Phase.MAP, start);
             if (!tokenMap.isEmpty()) {
                 LOG.info("Loaded " + tokenMap.size() + " token images for set " + setCode);
             }
         } catch (Exception e) {
-            // Write empty cache to avoid hitting Scryfall again on next startup
-            Path cacheFile = cache.fileFor(tokenSetCode);
-            if (!Files.exists(cacheFile)) {
-                try {
-                    CardDataSupport.writeCacheFile(cacheFile, "[]");
-                } catch (IOException ignored) {}
-            }
             LOG.warning("Could not load token set " + tokenSetCode + ": " + e.getMessage());
         }
         return tokenMap;
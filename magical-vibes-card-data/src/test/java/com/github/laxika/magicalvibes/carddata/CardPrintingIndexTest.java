@@ -0,0 +1,44 @@
+package com.github.laxika.magicalvibes.carddata;
+
+import com.github.laxika.magicalvibes.cards.CardPrinting;
+import com.github.laxika.magicalvibes.cards.CardScanner;
+import com.github.laxika.magicalvibes.cards.CardSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The build-time printing index must be on the test classpath and say exactly what a classpath scan
+ * says; a stale or missing index would silently drop or misfile printings at startup.
+ */
+class CardPrintingIndexTest {
+
+    @Test
+    void buildPutsTheIndexOnTheClasspath() {
+        assertThat(CardScanner.class.getClassLoader().getResource("META-INF/magical-vibes/card-printings.tsv"))
+                .as("generateCardPrintingIndex output")
+                .isNotNull();
+    }
+
+    @Test
+    void indexMatchesAClasspathScan() {
+        Map<CardSet, List<CardPrinting>> indexed = CardScanner.scan();
+        Map<CardSet, List<CardPrinting>> scanned = CardScanner.scanClasspath();
+
+        for (CardSet cardSet : CardSet.values()) {
+            assertThat(describe(indexed.get(cardSet)))
+                    .as(cardSet.getCode())
+                    .containsExactlyElementsOf(describe(scanned.get(cardSet)));
+        }
+    }
+
+    private static List<String> describe(List<CardPrinting> printings) {
+        return printings.stream()
+                .map(p -> p.setCode() + " " + p.collectorNumber() + " " + p.cardClassName() + " "
+                        + p.simpleCardClassName() + " " + p.hasBackFace())
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.carddata;
 
+import com.github.laxika.magicalvibes.cards.CardMetadata;
 import com.github.laxika.magicalvibes.cards.CardPrinting;
 import com.github.laxika.magicalvibes.cards.CardScanner;
 import com.github.laxika.magicalvibes.cards.CardSet;
@@ -87,6 +88,26 @@ class CardRegistryOnDemandTest {
         assertThat(new Pacifism().getName()).isEqualTo("Pacifism");
     }
 
+    @Test
+    void metadataComesFromTheOracleDataOfThePrintingsOwnSet() {
+        RecordingLoader loader = new RecordingLoader();
+        registry = new CardRegistry(loader, OracleLoadMode.EXPLICIT);
+        registry.load();
+        CardPrinting pacifism = registry.getPrintings(CardSet.SET_10E).stream()
+                .filter(printing -> printing.collectorNumber().equals("31"))
+                .findFirst().orElseThrow();
+
+        CardMetadata metadata = registry.getMetadata(pacifism);
+
+        assertThat(loader.loadedSetCodes).containsExactly("10E");
+        assertThat(metadata.name()).isEqualTo("Pacifism");
+        assertThat(metadata.type()).isEqualTo(CardType.ENCHANTMENT);
+        assertThat(metadata.manaValue()).isEqualTo(2);
+        assertThat(metadata.isLand()).isFalse();
+        // What a constructed card would have reported, without constructing one.
+        assertThat(metadata).isEqualTo(CardMetadata.of(pacifism.createCard(), pacifism.hasBackFace()));
+    }
+
     @Test
     void groupedCardLoadChoosesSetsCoveringTheMostCards() {
         RecordingLoader loader = new RecordingLoader();
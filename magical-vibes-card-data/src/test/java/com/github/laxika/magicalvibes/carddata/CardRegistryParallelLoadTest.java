@@ -0,0 +1,94 @@
+package com.github.laxika.magicalvibes.carddata;
+
+import com.github.laxika.magicalvibes.cards.CardPrinting;
+import com.github.laxika.magicalvibes.cards.CardScanner;
+import com.github.laxika.magicalvibes.cards.CardSet;
+import com.github.laxika.magicalvibes.cards.p.Pacifism;
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.OracleData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardRegistryParallelLoadTest {
+
+    private static final Map<CardSet, List<CardPrinting>> PRINTINGS = CardScanner.scan();
+
+    @BeforeEach
+    @AfterEach
+    void clearOracleData() {
+        Card.clearOracleRegistry();
+    }
+
+    @Test
+    void registersInSetOrderWhateverOrderTheLoadsFinishIn() {
+        ScrambledLoader loader = new ScrambledLoader();
+        CardRegistry registry = new CardRegistry(loader, OracleLoadMode.EAGER, 8);
+        registry.load();
+
+        // Pacifism is printed in many sets; a sequential load leaves it with the last one's data.
+        CardSet lastPacifismSet = Arrays.stream(CardSet.values())
+                .filter(set -> PRINTINGS.get(set).stream()
+                        .anyMatch(printing -> printing.cardClassName().equals(Pacifism.class.getName())))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertThat(new Pacifism().getCardText()).isEqualTo(lastPacifismSet.getCode());
+        assertThat(loader.threads).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void aFailedSetFailsTheLoadWithTheLoadersOwnException() {
+        CardRegistry registry = new CardRegistry((setCode, implemented) -> {
+            if (setCode.equals("DKA")) {
+                throw new RuntimeException("Failed to load " + setCode);
+            }
+            return new SetOracleData(null, 0, Map.of(), Map.of(), Map.of(), Map.of());
+        }, OracleLoadMode.EAGER, 4);
+
+        assertThatThrownBy(registry::load)
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to load DKA");
+    }
+
+    /**
+     * Names each printing after its class and marks the set it came from in the card text. Early
+     * sets take longest, so with several threads the loads finish roughly in reverse set order.
+     */
+    private static final class ScrambledLoader implements OracleLoader {
+
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public SetOracleData loadSet(String setCode, Set<String> implementedCollectorNumbers) {
+            threads.add(Thread.currentThread().getName());
+            CardSet cardSet = CardSet.findByCode(setCode);
+            try {
+                Thread.sleep((CardSet.values().length - cardSet.ordinal()) / 20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Map<String, OracleData> fronts = new HashMap<>();
+            for (CardPrinting printing : PRINTINGS.get(cardSet)) {
+                if (implementedCollectorNumbers.contains(printing.collectorNumber())) {
+                    fronts.put(printing.collectorNumber(), new OracleData(printing.simpleCardClassName(),
+                            CardType.ENCHANTMENT, Set.of(), "{1}{W}", null, List.of(), List.of(), Set.of(),
+                            List.of(), setCode, null, null, Set.of(), null, null, null));
+                }
+            }
+            return new SetOracleData(setCode, implementedCollectorNumbers.size(),
+                    Map.of(), fronts, Map.of(), Map.of());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.laxika.magicalvibes.carddata;
+
+import com.github.laxika.magicalvibes.carddata.CardPrintingRegistry.TokenImageData;
+import com.github.laxika.magicalvibes.model.OracleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The pre-parsed tier must hand back exactly what the parser produced, and must never serve an
+ * entry whose inputs have changed or whose bytes are damaged — either would put wrong oracle text
+ * on cards without any error.
+ */
+class PreparsedSetCacheTest {
+
+    private static final Set<String> IMPLEMENTED = Set.of("1", "2");
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void aSecondLoadDecodesWhatTheFirstParsed() throws Exception {
+        Path source = source("v1");
+        PreparsedSetCache cache = cache();
+        AtomicInteger parses = new AtomicInteger();
+        OracleLoadTimings timings = new OracleLoadTimings();
+
+        SetOracleData parsed = cache.load("ISD", IMPLEMENTED, List.of(source), timings, counting(parses));
+        SetOracleData decoded = cache.load("ISD", IMPLEMENTED, List.of(source), timings, counting(parses));
+
+        assertThat(parses).hasValue(1);
+        assertThat(decoded).isEqualTo(parsed);
+        assertThat(timings.preparsedSets()).isEqualTo(1);
+    }
+
+    @Test
+    void aChangedSourceFileIsParsedAgain() throws Exception {
+        Path source = source("v1");
+        PreparsedSetCache cache = cache();
+        AtomicInteger parses = new AtomicInteger();
+
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+        Files.writeString(source, "v2");
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    void aNewlyImplementedPrintingIsParsedAgain() throws Exception {
+        Path source = source("v1");
+        PreparsedSetCache cache = cache();
+        AtomicInteger parses = new AtomicInteger();
+
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+        cache.load("ISD", Set.of("1", "2", "3"), List.of(source), new OracleLoadTimings(), counting(parses));
+
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    void aDamagedEntryFallsBackToParsing() throws Exception {
+        Path source = source("v1");
+        PreparsedSetCache cache = cache();
+        AtomicInteger parses = new AtomicInteger();
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+
+        Path entry = cache.fileFor("ISD");
+        byte[] bytes = Files.readAllBytes(entry);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(entry, bytes);
+
+        OracleLoadTimings timings = new OracleLoadTimings();
+        SetOracleData reloaded = cache.load("ISD", IMPLEMENTED, List.of(source), timings, counting(parses));
+
+        assertThat(parses).hasValue(2);
+        assertThat(timings.preparsedSets()).isZero();
+        assertThat(reloaded).isEqualTo(set());
+    }
+
+    @Test
+    void aDisabledTierAlwaysParsesAndWritesNothing() throws Exception {
+        Path source = source("v1");
+        PreparsedSetCache cache = PreparsedSetCache.disabled();
+        AtomicInteger parses = new AtomicInteger();
+
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+        cache.load("ISD", IMPLEMENTED, List.of(source), new OracleLoadTimings(), counting(parses));
+
+        assertThat(parses).hasValue(2);
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files).containsExactly(source);
+        }
+    }
+
+    private PreparsedSetCache cache() {
+        return new PreparsedSetCache(cacheDir.toString(), "test-", PreparsedSetCacheTest.class);
+    }
+
+    private Path source(String contents) throws Exception {
+        Path source = cacheDir.resolve("test-isd.json");
+        Files.writeString(source, contents);
+        return source;
+    }
+
+    private static PreparsedSetCache.Parser counting(AtomicInteger parses) {
+        return () -> {
+            parses.incrementAndGet();
+            return set();
+        };
+    }
+
+    /** Built through the mapper, so the decoded faces have to match its collection types and nulls. */
+    private static SetOracleData set() {
+        OracleData front = FaceOracleMapper.toOracleData(new RawFace("Delver of Secrets // Insectile Aberration",
+                "{U}", "Creature — Human Wizard", "At the beginning of your upkeep, look at the top card of your library.",
+                List.of("U"), List.of(), List.of("U"), "1", "1", null, null, List.of("Transform"), null), false);
+        OracleData back = FaceOracleMapper.toOracleData(new RawFace("Insectile Aberration",
+                null, "Creature — Human Insect", "Flying", List.of("U"), List.of("U"), List.of("U"),
+                "3", "2", null, null, List.of("Flying", "Transform"), null), true);
+        OracleData land = FaceOracleMapper.toOracleData(new RawFace("Island", null, "Basic Land — Island",
+                "({T}: Add {U}.)", List.of(), List.of(), List.of("U"), null, null, null, null, List.of(), null), false);
+
+        return new SetOracleData("Innistrad", 264, Map.of("1", "common", "2", "common", "3", "rare"),
+                Map.of("1", front, "2", land), Map.of("1", back),
+                Map.of("Zombie|2|2|BLACK", new TokenImageData("tisd", "7")));
+    }
+}
@@ -1,4 +1,22 @@
 dependencies {
     api(project(":magical-vibes-domain"))
     implementation("io.github.classgraph:classgraph:4.8.179")
-}
\ No newline at end of file
+}
+
+// Scan the compiled card classes once, at build time, into a resource that CardScanner reads at
+// startup instead of running ClassGraph over ~17,800 class files (see CardPrintingIndex).
+val generateCardPrintingIndex = tasks.register<JavaExec>("generateCardPrintingIndex") {
+    description = "Write the implemented card printings to a classpath resource."
+    val mainSourceSet = project.the<SourceSetContainer>()["main"]
+    val outputDir = layout.buildDirectory.dir("generated/card-printing-index")
+    mainClass.set("com.github.laxika.magicalvibes.cards.CardPrintingIndex")
+    classpath = files(mainSourceSet.output.classesDirs, configurations["runtimeClasspath"])
+    javaLauncher.set(project.the<JavaToolchainService>().launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    inputs.files(mainSourceSet.output.classesDirs).withPropertyName("cardClasses")
+    outputs.dir(outputDir).withPropertyName("index")
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+}
+
+project.the<SourceSetContainer>()["main"].resources.srcDir(generateCardPrintingIndex)
@@ -26,6 +26,12 @@ public interface CardCatalog {
      */
     CardPrinting findByCollectorNumber(CardSet set, String collectorNumber);
 
+    /**
+     * The printing's name, types, colours and mana cost, for code that sorts or filters printings
+     * without needing the card itself. Loads the printing's set first if it is not loaded yet.
+     */
+    CardMetadata getMetadata(CardPrinting printing);
+
     /** The set's full name from the oracle data, falling back to its code when not loaded. */
     String getName(CardSet set);
 
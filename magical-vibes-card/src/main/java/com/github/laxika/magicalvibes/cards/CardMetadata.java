@@ -0,0 +1,65 @@
+package com.github.laxika.magicalvibes.cards;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.CardColor;
+import com.github.laxika.magicalvibes.model.CardSupertype;
+import com.github.laxika.magicalvibes.model.CardType;
+import com.github.laxika.magicalvibes.model.ManaCost;
+import com.github.laxika.magicalvibes.model.OracleData;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The characteristics of a printing's front face that deck generation, drafting and deck
+ * validation filter on, read without constructing the card. Building a {@link Card} runs its
+ * constructor — every ability, effect and target filter the card has — and the first construction
+ * of each class also loads it; sorting a set's pool by colour or rarity used to pay that for every
+ * printing, on every deck.
+ *
+ * <p>Card constructors never set any of these characteristics themselves; a constructed card takes
+ * all of them from its oracle data, so {@link #of(OracleData, boolean)} matches what
+ * {@link CardPrinting#createCard()} would build.
+ *
+ * @param manaCost the printed mana cost string, {@code null} for a card without one (lands)
+ */
+public record CardMetadata(
+        String name,
+        CardType type,
+        Set<CardType> additionalTypes,
+        Set<CardSupertype> supertypes,
+        List<CardColor> colors,
+        String manaCost,
+        int manaValue,
+        boolean hasBackFace) {
+
+    public static CardMetadata of(OracleData oracle, boolean hasBackFace) {
+        return new CardMetadata(oracle.name(), oracle.type(), nullToEmpty(oracle.additionalTypes()),
+                nullToEmpty(oracle.supertypes()), oracle.colors() == null ? List.of() : oracle.colors(),
+                oracle.manaCost(), oracle.manaCost() == null ? 0 : new ManaCost(oracle.manaCost()).getManaValue(),
+                hasBackFace);
+    }
+
+    /** For printings the oracle data does not cover: read the same fields off a constructed card. */
+    public static CardMetadata of(Card card, boolean hasBackFace) {
+        return new CardMetadata(card.getName(), card.getType(), nullToEmpty(card.getAdditionalTypes()),
+                nullToEmpty(card.getSupertypes()), card.getColors() == null ? List.of() : card.getColors(),
+                card.getManaCost(), card.getManaValue(), hasBackFace);
+    }
+
+    public boolean hasType(CardType cardType) {
+        return type == cardType || additionalTypes.contains(cardType);
+    }
+
+    public boolean isLand() {
+        return hasType(CardType.LAND);
+    }
+
+    public boolean isBasic() {
+        return supertypes.contains(CardSupertype.BASIC);
+    }
+
+    private static <T> Set<T> nullToEmpty(Set<T> values) {
+        return values == null ? Set.of() : values;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.laxika.magicalvibes.cards;
+
+import com.github.laxika.magicalvibes.model.Card;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The implemented printings as a build-time resource, so startup reads one small file instead of
+ * having ClassGraph open and parse every one of the ~17,800 card class files to find their
+ * {@link CardRegistration}s.
+ *
+ * <p>The {@code generateCardPrintingIndex} Gradle task runs {@link #main} against this module's
+ * compiled classes: it performs the classpath scan once, at build time, and writes one line per
+ * printing — set code, collector number, class name, simple class name and the back-face flag —
+ * into the module's resources. The task's inputs are the class files, so the index is rewritten
+ * whenever a card class changes.
+ *
+ * <p>Card characteristics (name, types, colours, mana cost) are deliberately not in here: they come
+ * from the oracle data, which is fetched at run time, and are served per printing by
+ * {@link CardCatalog#getMetadata}.
+ */
+public final class CardPrintingIndex {
+
+    static final String RESOURCE = "META-INF/magical-vibes/card-printings.tsv";
+
+    private static final String HEADER = "# set\tcollector number\tclass\tsimple class\tback face";
+
+    private CardPrintingIndex() {
+    }
+
+    /** Writes the index for the classes on the classpath under the resource root {@code args[0]}. */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CardPrintingIndex <resource output directory>");
+        }
+        Path target = Path.of(args[0]).resolve(RESOURCE);
+        Files.createDirectories(target.getParent());
+        Map<CardSet, List<CardPrinting>> printings = CardScanner.scanClasspath();
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            write(printings, writer);
+        }
+        System.out.println("Indexed " + printings.values().stream().mapToInt(List::size).sum()
+                + " card printings to " + target);
+    }
+
+    static void write(Map<CardSet, List<CardPrinting>> printings, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (List<CardPrinting> setPrintings : printings.values()) {
+            for (CardPrinting printing : setPrintings) {
+                writer.write(printing.setCode() + '\t' + printing.collectorNumber() + '\t'
+                        + printing.cardClassName() + '\t' + printing.simpleCardClassName() + '\t'
+                        + (printing.hasBackFace() ? '1' : '0') + '\n');
+            }
+        }
+    }
+
+    /** The index on the classpath, or {@code null} when this build did not generate one. */
+    static Map<CardSet, List<CardPrinting>> load() {
+        try (InputStream in = CardPrintingIndex.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            return in == null ? null : read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+        }
+    }
+
+    static Map<CardSet, List<CardPrinting>> read(InputStream in) throws IOException {
+        Map<CardSet, List<CardPrinting>> result = new EnumMap<>(CardSet.class);
+        for (CardSet cs : CardSet.values()) {
+            result.put(cs, new ArrayList<>());
+        }
+
+        // One factory per class, as the scan builds it, so reprints share the cached constructor.
+        Map<String, Supplier<Card>> factories = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields.length != 5) {
+                throw new IllegalStateException("Malformed line in " + RESOURCE + ": " + line);
+            }
+            CardSet cardSet = CardSet.findByCode(fields[0]);
+            if (cardSet == null) {
+                throw new IllegalStateException("Unknown set code '" + fields[0] + "' on " + fields[3]
+                        + " in " + RESOURCE + " — rebuild the module to regenerate it");
+            }
+            result.get(cardSet).add(new CardPrinting(fields[0], fields[1], fields[2], fields[3],
+                    fields[4].equals("1"),
+                    factories.computeIfAbsent(fields[2], CardScanner::createFactory)));
+        }
+
+        CardScanner.sortByCollectorNumber(result);
+        return result;
+    }
+}
@@ -15,13 +15,46 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
-
+import java.util.logging.Logger;
+
+/**
+ * Finds the implemented printings: every {@link CardRegistration} on a {@link Card} subclass.
+ *
+ * <p>Reads the build-time {@link CardPrintingIndex} when the classpath carries one, and scans the
+ * card classes with ClassGraph otherwise (a classpath assembled without the Gradle build). Either
+ * way no card class is loaded — each printing's factory resolves its constructor on first use.
+ *
+ * <p>Escape hatches: {@code -DdisableCardPrintingIndex=true} always scans;
+ * {@code -DverifyCardPrintingIndex=true} scans as well and fails loudly when the index disagrees.
+ */
 public final class CardScanner {
 
+    private static final Logger LOG = Logger.getLogger(CardScanner.class.getName());
+    private static final boolean INDEX_DISABLED = Boolean.getBoolean("disableCardPrintingIndex");
+    private static final boolean VERIFY_INDEX = Boolean.getBoolean("verifyCardPrintingIndex");
+
     private CardScanner() {
     }
 
     public static Map<CardSet, List<CardPrinting>> scan() {
+        long start = System.nanoTime();
+        Map<CardSet, List<CardPrinting>> indexed = INDEX_DISABLED ? null : CardPrintingIndex.load();
+        if (indexed == null) {
+            Map<CardSet, List<CardPrinting>> scanned = scanClasspath();
+            LOG.info("Scanned " + count(scanned) + " card printings from the classpath in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return scanned;
+        }
+        LOG.info("Read " + count(indexed) + " card printings from the build-time index in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        if (VERIFY_INDEX) {
+            verifyIndex(indexed, scanClasspath());
+        }
+        return indexed;
+    }
+
+    /** The ClassGraph scan itself; the build runs it once to write {@link CardPrintingIndex}. */
+    public static Map<CardSet, List<CardPrinting>> scanClasspath() {
         Map<String, CardSet> codeToSet = new HashMap<>();
         for (CardSet cs : CardSet.values()) {
             codeToSet.put(cs.getCode(), cs);
@@ -47,14 +80,41 @@ public final class CardScanner {
             }
         }
 
-        for (List<CardPrinting> printings : result.values()) {
+        sortByCollectorNumber(result);
+        return result;
+    }
+
+    static void sortByCollectorNumber(Map<CardSet, List<CardPrinting>> printingsBySet) {
+        for (List<CardPrinting> printings : printingsBySet.values()) {
             // Collector numbers may be alphanumeric (meld results like "14b").
             printings.sort(Comparator
                     .comparingInt((CardPrinting p) -> leadingCollectorNumber(p.collectorNumber()))
                     .thenComparing(CardPrinting::collectorNumber));
         }
+    }
 
-        return result;
+    private static int count(Map<CardSet, List<CardPrinting>> printingsBySet) {
+        return printingsBySet.values().stream().mapToInt(List::size).sum();
+    }
+
+    /** Compares everything but the factories, which are never equal across two builds. */
+    private static void verifyIndex(Map<CardSet, List<CardPrinting>> indexed,
+                                     Map<CardSet, List<CardPrinting>> scanned) {
+        for (CardSet cardSet : CardSet.values()) {
+            List<String> fromIndex = describe(indexed.get(cardSet));
+            List<String> fromScan = describe(scanned.get(cardSet));
+            if (!fromIndex.equals(fromScan)) {
+                throw new IllegalStateException("Card printing index is stale for " + cardSet.getCode()
+                        + ": index has " + fromIndex + ", classpath has " + fromScan
+                        + ". Rebuild magical-vibes-card to regenerate it.");
+            }
+        }
+    }
+
+    private static List<String> describe(List<CardPrinting> printings) {
+        return printings.stream()
+                .map(p -> p.collectorNumber() + " " + p.cardClassName() + (p.hasBackFace() ? " (DFC)" : ""))
+                .toList();
     }
 
     private static void processClass(ClassInfo classInfo, Map<String, CardSet> codeToSet,
@@ -111,7 +171,7 @@ public final class CardScanner {
         return Integer.parseInt(collectorNumber.substring(0, i));
     }
 
-    private static Supplier<Card> createFactory(String className) {
+    static Supplier<Card> createFactory(String className) {
         return new Supplier<>() {
             private volatile Constructor<? extends Card> constructor;
 
@@ -2,7 +2,6 @@ package com.github.laxika.magicalvibes.cards;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardColor;
-import com.github.laxika.magicalvibes.model.CardType;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,7 +21,8 @@ import java.util.Set;
  * <p>The card pool is built lazily on first use and cached for the lifetime of this instance. It
  * was previously cached in statics for the lifetime of the JVM, which silently tied every caller to
  * whichever {@link CardCatalog} happened to warm it first; the cache now lives and dies with the
- * catalog it was derived from.
+ * catalog it was derived from. Filtering the pool by type and colour reads each printing's
+ * {@link CardMetadata}; only the cards that end up in a deck are constructed.
  */
 public final class RandomDeckGenerator {
 
@@ -113,8 +113,7 @@ public final class RandomDeckGenerator {
     private List<Card> buildDeck(Set<CardColor> deckColors, List<CardPrinting> pool, Random rng) {
         List<CardPrinting> playable = new ArrayList<>();
         for (CardPrinting printing : pool) {
-            Card sample = printing.createCard();
-            if (deckColors.containsAll(sample.getColors())) {
+            if (deckColors.containsAll(catalog.getMetadata(printing).colors())) {
                 playable.add(printing);
             }
         }
@@ -167,8 +166,8 @@ public final class RandomDeckGenerator {
         List<CardPrinting> printings = new ArrayList<>();
         for (CardSet set : CardSet.values()) {
             for (CardPrinting printing : catalog.getPrintings(set)) {
-                Card sample = printing.createCard();
-                if (!sample.hasType(CardType.LAND) && sample.getManaCost() != null) {
+                CardMetadata metadata = catalog.getMetadata(printing);
+                if (!metadata.isLand() && metadata.manaCost() != null) {
                     printings.add(printing);
                 }
             }
@@ -231,6 +231,9 @@ public class Card {
     /** Cached effect-only lists, invalidated on addEffect. */
     @Getter(AccessLevel.NONE)
     private Map<EffectSlot, List<CardEffect>> effectCache = new EnumMap<>(EffectSlot.class);
+    /** Bumped whenever {@link #effectRegistrations} changes, so per-slot indexes built from this
+     *  card can tell that an unfrozen runtime copy was edited in place. */
+    private int effectRevision;
     /** Per-chapter target filters for Saga cards (e.g. "target creature an opponent controls"). */
     @Getter(AccessLevel.NONE)
     private Map<EffectSlot, Set<TargetFilter>> sagaChapterTargetFilters = new EnumMap<>(EffectSlot.class);
@@ -245,7 +248,7 @@ public class Card {
     private List<ActivatedAbility> stackActivatedAbilities = new ArrayList<>();
 
     public Card() {
-        this.id = UUID.randomUUID();
+        this.id = GameEntropy.newId();
         Class<? extends Card> cardClass = getClass().asSubclass(Card.class);
         String className = cardClass.getSimpleName();
         OracleData oracle = oracleRegistry.get(className);
@@ -338,6 +341,7 @@ public class Card {
         source.effectRegistrations.forEach((slot, regs) ->
                 this.effectRegistrations.put(slot, new ArrayList<>(regs)));
         // effectCache intentionally left empty — rebuilt lazily by getEffects()
+        this.effectRevision = source.effectRevision;
         this.sagaChapterTargetFilters.putAll(source.sagaChapterTargetFilters);
         source.sagaChapterTargetGroups.forEach((slot, groups) ->
                 this.sagaChapterTargetGroups.put(slot, List.copyOf(groups)));
@@ -417,6 +421,7 @@ public class Card {
         face.effectRegistrations.forEach((slot, regs) ->
                 this.effectRegistrations.put(slot, new ArrayList<>(regs)));
         this.effectCache.clear();
+        this.effectRevision++;
         this.sagaChapterTargetFilters.clear();
         this.sagaChapterTargetFilters.putAll(face.sagaChapterTargetFilters);
         this.activatedAbilities = new ArrayList<>(face.activatedAbilities);
@@ -435,6 +440,11 @@ public class Card {
         this.frozen = true;
     }
 
+    /** Whether this card is live. Only an unfrozen card can still change its effects in place. */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     private void assertMutable() {
         if (frozen) {
             throw new IllegalStateException("Card '" + name + "' (" + id + ") is frozen. Live cards are shared"
@@ -877,6 +887,11 @@ public class Card {
         return unmodifiable;
     }
 
+    /** The slots this card has at least one effect registered in. */
+    public Set<EffectSlot> getEffectSlots() {
+        return Collections.unmodifiableSet(effectRegistrations.keySet());
+    }
+
     public List<EffectRegistration> getEffectRegistrations(EffectSlot slot) {
         return effectRegistrations.getOrDefault(slot, List.of());
     }
@@ -895,6 +910,7 @@ public class Card {
         validateEffectSlotType(slot, effect);
         effectRegistrations.computeIfAbsent(slot, k -> new ArrayList<>()).add(new EffectRegistration(effect));
         effectCache.remove(slot);
+        effectRevision++;
     }
 
     public void addEffect(EffectSlot slot, CardEffect effect, TriggerMode triggerMode) {
@@ -902,6 +918,7 @@ public class Card {
         validateEffectSlotType(slot, effect);
         effectRegistrations.computeIfAbsent(slot, k -> new ArrayList<>()).add(new EffectRegistration(effect, triggerMode));
         effectCache.remove(slot);
+        effectRevision++;
     }
 
     private void validateEffectSlotType(EffectSlot slot, CardEffect effect) {
@@ -0,0 +1,163 @@
+package com.github.laxika.magicalvibes.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Card-zone list for AI simulation copies that shares its storage with the zone it was copied
+ * from until either side writes to it. {@link GameData#simulationCopy()} uses it for libraries,
+ * hands, graveyards, sideboards and command zones: a rollout draws a card or two and leaves the
+ * rest of the ~60 zone lists it copies untouched, so cloning every one of them on every MCTS
+ * iteration was almost entirely wasted work.
+ *
+ * <p>This is the only structural sharing between simulation copies. Battlefields (their
+ * {@link Permanent}s are deep-copied), the per-player maps and the remaining collections are
+ * still copied in full by every {@code simulationCopy()}.
+ *
+ * <p>Copying a live (non-{@code CopyOnWriteZone}) list still copies it once — the live game keeps
+ * mutating its own lists and must never be aliased. Copying a {@code CopyOnWriteZone} shares the
+ * backing array and marks both sides shared; the first mutation through either side then clones
+ * the storage it is about to change. Only safe because the elements are frozen {@link Card}s
+ * (see "Cards freeze once live" in {@code ARCHITECTURE.md}) — never use it for mutable elements
+ * such as {@link Permanent}.
+ *
+ * <p>Like the plain lists simulation copies used before, this is not thread-safe for writers.
+ * Concurrent <em>copying</em> of a zone nobody writes to (parallel MCTS workers determinizing the
+ * same search baseline) is safe: it only ever publishes {@code shared = true}.
+ */
+public final class CopyOnWriteZone<E> extends AbstractList<E> implements RandomAccess {
+
+    private ArrayList<E> elements;
+    private volatile boolean shared;
+    /** Counts this copy's structural writes, for {@link ZoneStamp}. Not shared with the copy's source. */
+    private long revision;
+
+    private CopyOnWriteZone(ArrayList<E> elements, boolean shared) {
+        this.elements = elements;
+        this.shared = shared;
+    }
+
+    /**
+     * Returns a simulation-owned copy of {@code source}: a shared view when it is already a
+     * {@code CopyOnWriteZone}, otherwise an eager copy of the (live) list.
+     */
+    public static <E> CopyOnWriteZone<E> copyOf(List<E> source) {
+        if (source instanceof CopyOnWriteZone<E> zone) {
+            zone.shared = true;
+            return new CopyOnWriteZone<>(zone.elements, true);
+        }
+        return new CopyOnWriteZone<>(new ArrayList<>(source), false);
+    }
+
+    long revision() {
+        return revision;
+    }
+
+    /** Whether this zone still shares its storage with another copy. Exposed for tests. */
+    public boolean isShared() {
+        return shared;
+    }
+
+    private ArrayList<E> writable() {
+        revision++;
+        if (shared) {
+            elements = new ArrayList<>(elements);
+            shared = false;
+        }
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return writable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        writable().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public boolean add(E element) {
+        writable().add(element);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = writable().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        modCount++;
+        return writable().addAll(collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        modCount++;
+        return writable().addAll(index, collection);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (!elements.stream().anyMatch(filter)) {
+            return false;
+        }
+        modCount++;
+        return writable().removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        writable().replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        writable().sort(comparator);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (elements.isEmpty()) {
+            return;
+        }
+        revision++;
+        if (shared) {
+            elements = new ArrayList<>();
+            shared = false;
+        } else {
+            elements.clear();
+        }
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        writable().subList(fromIndex, toIndex).clear();
+        modCount++;
+    }
+}
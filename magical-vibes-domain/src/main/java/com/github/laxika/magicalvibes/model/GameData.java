@@ -4,7 +4,6 @@ package com.github.laxika.magicalvibes.model;
 import java.time.LocalDateTime;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.EnumMap;
@@ -201,6 +200,12 @@ public class GameData {
      * spent to pay this activation cost" effect can read it when the ability resolves.
      */
     public final Map<UUID, Map<ManaColor, Integer>> abilityActivationManaSpent = new ConcurrentHashMap<>();
+    /**
+     * Id → zone index fed by the lists {@link #newBattlefieldList()} and {@link #newGraveyardList()}
+     * create. Not copied by {@link #simulationCopy()}: the copy's own battlefield lists rebuild it
+     * as the copied permanents are inserted.
+     */
+    private final ZoneLocationIndex zoneLocationIndex = new ZoneLocationIndex(this);
     public final Map<UUID, List<Permanent>> playerBattlefields = new ConcurrentHashMap<>();
     /**
      * Phased-out permanents (CR 702.26b), keyed by the player who controlled them when they phased
@@ -335,7 +340,7 @@ public class GameData {
     /** Source permanent id → ids of the tokens created with it ("tokens created with this permanent"; Tetravus, Tombstone Stairwell). */
     public final Map<UUID, Set<UUID>> sourceCreatedTokens = new ConcurrentHashMap<>();
     /** Unified exile zone: every exiled card with its owner and optional source permanent. */
-    public final List<ExiledCardEntry> exiledCards = Collections.synchronizedList(new ArrayList<>());
+    public final RevisionedList<ExiledCardEntry> exiledCards = new RevisionedList<>();
     /** Exiled Cosima card UUID → voyage counters accumulated while it remains exiled. */
     public final Map<UUID, Integer> exiledVoyageCounters = new ConcurrentHashMap<>();
     /** Exiled Cosima card UUID → controller of the ability that exiled it. */
@@ -825,7 +830,7 @@ public class GameData {
     public final List<UUID> pendingEachPlayerDrawUpToQueue = Collections.synchronizedList(new ArrayList<>());
     /** APNAP-ordered queue of players still to choose for "each other player may draw up to N" effects. */
     public final List<UUID> pendingEachOtherPlayerDrawUpToQueue = Collections.synchronizedList(new ArrayList<>());
-    public final List<Emblem> emblems = Collections.synchronizedList(new ArrayList<>());
+    public final RevisionedList<Emblem> emblems = new RevisionedList<>();
     /** Players who have been granted "no maximum hand size" for the rest of the game. */
     public final Set<UUID> playersWithNoMaximumHandSize = ConcurrentHashMap.newKeySet();
     /** Players who have no maximum hand size until the beginning of their next turn. */
@@ -1794,41 +1799,65 @@ public class GameData {
      * stamps it early. Harmless — the funnel overwrites the stamp unconditionally right after,
      * and the only cost is one burned counter value — but it means an entering permanent may
      * carry a provisional timestamp while the lookahead runs.
+     *
+     * <p>The list also reports every insert and removal to this game's {@link ZoneLocationIndex},
+     * which is what lets {@link #locatePermanent} skip the battlefield scan.
      */
     public List<Permanent> newBattlefieldList() {
-        return Collections.synchronizedList(new TimestampingBattlefieldList());
+        return zoneLocationIndex.newBattlefield(this::stampUnstamped);
     }
 
-    private final class TimestampingBattlefieldList extends ArrayList<Permanent> {
-        @Override
-        public boolean add(Permanent permanent) {
-            stamp(permanent);
-            return super.add(permanent);
+    private void stampUnstamped(Permanent permanent) {
+        if (permanent.getTimestamp() == 0) {
+            permanent.setTimestamp(nextTimestamp());
         }
+    }
 
-        @Override
-        public void add(int index, Permanent permanent) {
-            stamp(permanent);
-            super.add(index, permanent);
-        }
+    /**
+     * Creates a live game's graveyard list, which keeps {@link #locateGraveyardCard} on its O(1)
+     * path. Simulation copies keep their copy-on-write graveyards and answer by scanning instead.
+     */
+    public List<Card> newGraveyardList() {
+        return zoneLocationIndex.newGraveyard();
+    }
 
-        @Override
-        public boolean addAll(Collection<? extends Permanent> permanents) {
-            permanents.forEach(this::stamp);
-            return super.addAll(permanents);
-        }
+    /**
+     * Where the permanent with this id is: the controlling player and the object, or {@code null}
+     * when it is on no battlefield. O(players) while every battlefield came from
+     * {@link #newBattlefieldList()}, a full scan otherwise (see {@link ZoneLocationIndex}).
+     */
+    public ZoneLocationIndex.Location<Permanent> locatePermanent(UUID permanentId) {
+        return zoneLocationIndex.locatePermanent(permanentId);
+    }
 
-        @Override
-        public boolean addAll(int index, Collection<? extends Permanent> permanents) {
-            permanents.forEach(this::stamp);
-            return super.addAll(index, permanents);
-        }
+    /** Graveyard counterpart of {@link #locatePermanent}: the owning player and the card. */
+    public ZoneLocationIndex.Location<Card> locateGraveyardCard(UUID cardId) {
+        return zoneLocationIndex.locateGraveyardCard(cardId);
+    }
 
-        private void stamp(Permanent permanent) {
-            if (permanent.getTimestamp() == 0) {
-                permanent.setTimestamp(nextTimestamp());
-            }
+    /** Describes the first object the zone location index misplaces, or {@code null}; for the fuzz invariants. */
+    public String findZoneLocationIndexInconsistency() {
+        return zoneLocationIndex.findInconsistency();
+    }
+
+    /**
+     * Structural revision of one of this game's battlefield or graveyard lists, or {@code -1} for a
+     * list that does not count its writes (a hand-built plain list). See {@link ZoneStamp}.
+     */
+    long zoneRevision(List<?> zone) {
+        if (zone instanceof CopyOnWriteZone<?> copyOnWrite) {
+            return copyOnWrite.revision();
         }
+        return zoneLocationIndex.revisionOf(zone);
+    }
+
+    /**
+     * Moves whenever an emblem, floating effect or exiled card comes or goes — every source a
+     * continuous grant can have besides the battlefields and graveyards, whose lists count their
+     * own writes. Each list's count only grows, so equal sums mean none of them was written.
+     */
+    public long grantSourceRevision() {
+        return emblems.revision() + floatingEffects.revision() + exiledCards.revision();
     }
 
     /** Continuous effects created by resolved spells/abilities (CR 611.2), for the CR 613 layer
@@ -1838,7 +1867,7 @@ public class GameData {
      *  {@code WHILE_SOURCE_ON_BATTLEFIELD}/{@code WHILE_ATTACHED} when the source permanent
      *  leaves the battlefield or becomes unattached, {@code UNTIL_YOUR_NEXT_TURN} at the start
      *  of the controller's next turn. */
-    public final List<FloatingContinuousEffect> floatingEffects = Collections.synchronizedList(new ArrayList<>());
+    public final RevisionedList<FloatingContinuousEffect> floatingEffects = new RevisionedList<>();
 
     /** Permanents whose temporary control effect carries a "tap it when you lose control" rider
      *  (Magus of the Unseen). Tapped and cleared during the cleanup step, when the until-end-of-turn
@@ -1855,6 +1884,45 @@ public class GameData {
      */
     public transient volatile Object layeredBoardCache;
 
+    /**
+     * Opaque slot for the engine's per-slot trigger listener index
+     * ({@code TriggerListenerIndex.Snapshot}; the engine owns the type). Derived state, kept
+     * current per zone from the zone lists' write counts ({@link ZoneStamp},
+     * {@link #grantSourceRevision()}), and deliberately NOT copied by {@link #simulationCopy()}.
+     */
+    public transient volatile Object triggerListenerIndex;
+
+    /**
+     * Opaque slot for the engine's static effect presence index ({@code StaticEffectIndex}; the
+     * engine owns the type). Derived state kept current per battlefield from the lists' write
+     * counts, like {@link #triggerListenerIndex}, and deliberately NOT copied by {@link #simulationCopy()}.
+     */
+    public transient volatile Object staticEffectIndex;
+
+    /**
+     * Opaque slot for the engine's per-game mutation ordering state
+     * ({@code GameMutationCoordinator.ActionState}; the engine owns the type). Owned by the game
+     * itself so unrelated games — and the MCTS simulation copies of parallel search workers — never
+     * meet in a shared lookup structure. Installed once by compare-and-set and never replaced.
+     * Deliberately NOT copied by {@link #simulationCopy()}: a copy gets its own ordering state.
+     */
+    public transient volatile Object mutationActionState;
+
+    /**
+     * Seeded randomness and fresh ids for this game ({@link GameEntropy}), bound by the engine's
+     * mutation coordinator around every live action. Set when the game is created; {@code null}
+     * (thread randomness) for games built directly by tests. Deliberately NOT copied by
+     * {@link #simulationCopy()}: a rollout must never advance the live game's generator.
+     */
+    public transient volatile GameEntropy entropy;
+
+    /**
+     * True while the crash-recovery journal replays this game's recorded commands after a restart:
+     * the engine builds no outbound batches for subscribers and does not journal the replayed
+     * commands again. Not copied by {@link #simulationCopy()}.
+     */
+    public transient volatile boolean journalReplay;
+
     private transient volatile Consumer<GameData> cardsExiledListener;
 
     public void setCardsExiledListener(Consumer<GameData> cardsExiledListener) {
@@ -3144,7 +3212,7 @@ public class GameData {
                     pile.add(exiledCards.get(i));
                 }
             }
-            Collections.shuffle(pile);
+            Collections.shuffle(pile, GameEntropy.random());
             for (int i = 0; i < positions.size(); i++) {
                 exiledCards.set(positions.get(i), pile.get(i));
             }
@@ -3341,7 +3409,13 @@ public class GameData {
      * <ul>
      *   <li>Card objects are shared (immutable after construction)</li>
      *   <li>Permanent objects are deep-copied (mutable state)</li>
-     *   <li>Collections are copied to new independent instances</li>
+     *   <li>Collections are copied to new independent instances, except card zones (library,
+     *       hand, graveyard, sideboard, command zone): those are {@link CopyOnWriteZone}s, copied
+     *       eagerly from a live game but shared with a simulation-copy source until either side
+     *       writes — so copying a copy (one determinization per MCTS iteration off a search
+     *       baseline) skips cloning the card zones the rollout leaves alone. Nothing else is
+     *       shared: battlefields and their permanents, the per-player maps and every other
+     *       collection are still copied in full on every call</li>
      *   <li>Primitive/enum/UUID/String fields are assigned directly</li>
      * </ul>
      */
@@ -3742,12 +3816,12 @@ public class GameData {
         // --- Map<UUID, Set<TurnStep>> ---
         this.playerAutoStopSteps.forEach((k, v) -> copy.playerAutoStopSteps.put(k, new HashSet<>(v)));
 
-        // --- Map<UUID, List<Card>> (shared Card refs) ---
-        this.playerDecks.forEach((k, v) -> copy.playerDecks.put(k, new ArrayList<>(v)));
-        this.playerSideboards.forEach((k, v) -> copy.playerSideboards.put(k, new ArrayList<>(v)));
-        this.playerHands.forEach((k, v) -> copy.playerHands.put(k, new ArrayList<>(v)));
-        this.playerGraveyards.forEach((k, v) -> copy.playerGraveyards.put(k, new ArrayList<>(v)));
-        this.playerCommandZones.forEach((k, v) -> copy.playerCommandZones.put(k, new ArrayList<>(v)));
+        // --- Map<UUID, List<Card>> (shared Card refs; zones copy-on-write between simulation copies) ---
+        this.playerDecks.forEach((k, v) -> copy.playerDecks.put(k, CopyOnWriteZone.copyOf(v)));
+        this.playerSideboards.forEach((k, v) -> copy.playerSideboards.put(k, CopyOnWriteZone.copyOf(v)));
+        this.playerHands.forEach((k, v) -> copy.playerHands.put(k, CopyOnWriteZone.copyOf(v)));
+        this.playerGraveyards.forEach((k, v) -> copy.playerGraveyards.put(k, CopyOnWriteZone.copyOf(v)));
+        this.playerCommandZones.forEach((k, v) -> copy.playerCommandZones.put(k, CopyOnWriteZone.copyOf(v)));
         copy.exiledCards.addAll(this.exiledCards);
         copy.antedCardIds.addAll(this.antedCardIds);
         copy.exiledCardEggCounters.putAll(this.exiledCardEggCounters);
@@ -4222,9 +4296,6 @@ public class GameData {
         copy.allRandom = this.allRandom;
         copy.randomSetCode = this.randomSetCode;
 
-        // --- Game log (share reference for simulation — not read during MCTS) ---
-        copy.gameLog.addAll(this.gameLog);
-
         copy.controllerNoncombatDamageBonusThisTurn.putAll(this.controllerNoncombatDamageBonusThisTurn);
         this.crimeCandidatesThisTurn.forEach((key, entries) ->
                 copy.crimeCandidatesThisTurn.put(key,
@@ -0,0 +1,81 @@
+package com.github.laxika.magicalvibes.model;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The single source of randomness and fresh object identities for one live game: library
+ * shuffles, "at random" choices, and the ids of cards, permanents and decisions all draw from a
+ * seeded generator, so a game replayed from its seed and its ordered player commands reaches the
+ * same state with the same ids (the crash-recovery journal depends on this).
+ *
+ * <p>The engine's mutation coordinator binds the game's entropy to the thread for the duration of
+ * an outermost live action; engine and model code reach it through the static {@link #newId()} and
+ * {@link #random()}. Outside a bound action — AI simulation copies, card catalog loading, tests
+ * that build state directly — both fall back to the thread's own unseeded generator, which is also
+ * cheaper than {@link UUID#randomUUID()}'s secure random.
+ */
+public final class GameEntropy {
+
+    private static final ThreadLocal<GameEntropy> BOUND = new ThreadLocal<>();
+
+    private final long seed;
+    private final Random random;
+
+    public GameEntropy(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    /** A fresh, unpredictable seed for a new game. */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Binds {@code entropy} (or nothing, for {@code null}) to the current thread and returns the
+     * previous binding, which the caller must hand back to {@link #restore} in a finally block.
+     */
+    public static GameEntropy bind(GameEntropy entropy) {
+        GameEntropy previous = BOUND.get();
+        if (entropy == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(entropy);
+        }
+        return previous;
+    }
+
+    public static void restore(GameEntropy previous) {
+        if (previous == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+
+    /** A new random (version 4) id from the bound game's generator, or the thread's own. */
+    public static UUID newId() {
+        GameEntropy bound = BOUND.get();
+        return bound != null ? uuid(bound.random) : uuid(ThreadLocalRandom.current());
+    }
+
+    /** The bound game's generator, or the thread's own outside a live action. */
+    public static Random random() {
+        GameEntropy bound = BOUND.get();
+        return bound != null ? bound.random : ThreadLocalRandom.current();
+    }
+
+    private static UUID uuid(Random random) {
+        long msb = random.nextLong();
+        long lsb = random.nextLong();
+        msb = (msb & ~0xF000L) | 0x4000L;
+        lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -46,7 +46,7 @@ public class InteractionState {
 
     /** Marks the given registry-managed interaction as the currently active one. */
     public void beginInteraction(PendingInteraction interaction) {
-        beginInteraction(interaction, UUID.randomUUID());
+        beginInteraction(interaction, GameEntropy.newId());
     }
 
     /** Restores an interaction with an existing stable identity (used by simulation copies). */
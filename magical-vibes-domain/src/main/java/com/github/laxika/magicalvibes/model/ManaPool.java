@@ -867,6 +867,22 @@ public class ManaPool {
         }
     }
 
+    /**
+     * Takes back mana booked with {@link #add}, {@link #addSnowMana} and {@link #addCreatureMana}
+     * without the spending rules {@link #remove(ManaColor)} applies (rider tags first, promoted
+     * buckets). Only {@link VirtualManaPool} uses it, to turn an over-counted planning pool back
+     * into the concrete pools its sources can actually produce.
+     */
+    void withdrawBooked(ManaColor color, int amount, boolean snow, boolean creature) {
+        pool.merge(color, -amount, Integer::sum);
+        if (snow) {
+            snowMana.merge(color, -amount, Integer::sum);
+        }
+        if (creature) {
+            creatureMana.merge(color, -amount, Integer::sum);
+        }
+    }
+
     public int getCreatureMana(ManaColor color) {
         return creatureMana.getOrDefault(color, 0);
     }
@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -263,6 +264,11 @@ public class Permanent {
      *  duration belongs to the resolving ability's controller. */
     private final Map<EffectSlot, Map<UUID, List<CardEffect>>> untilNextUpkeepTriggeredEffects =
             new EnumMap<>(EffectSlot.class);
+    /** Bumps the structural revision of the battlefield list holding this permanent when its card
+     *  or granted triggered effects change, so the indexes built over that list see the edit.
+     *  Attached by the list on insert (see {@link ZoneLocationIndex}); not copied. */
+    @Getter(AccessLevel.NONE)
+    private Runnable structureListener;
     @Setter private boolean basePowerToughnessOverriddenUntilEndOfTurn;
     @Setter private int basePowerOverride;
     @Setter private int baseToughnessOverride;
@@ -593,7 +599,7 @@ public class Permanent {
     @Setter private long timestamp;
 
     public Permanent(Card card) {
-        this.id = UUID.randomUUID();
+        this.id = GameEntropy.newId();
         // A card wrapped in a Permanent is live game state shared with AI simulation copies —
         // freeze it so any later mutation of the Card object fails fast instead of leaking.
         card.freeze();
@@ -837,7 +843,28 @@ public class Permanent {
     }
 
     public void setCard(Card card) {
-        this.card = card;
+        if (this.card != card) {
+            this.card = card;
+            structureChanged();
+        }
+    }
+
+    void watchStructure(Runnable listener) {
+        this.structureListener = listener;
+    }
+
+    /** Detaches {@code listener} unless a list the permanent was inserted into since replaced it. */
+    void unwatchStructure(Runnable listener) {
+        if (this.structureListener == listener) {
+            this.structureListener = null;
+        }
+    }
+
+    private void structureChanged() {
+        Runnable listener = structureListener;
+        if (listener != null) {
+            listener.run();
+        }
     }
 
     /**
@@ -958,7 +985,10 @@ public class Permanent {
         this.blocking = false;
         this.blockingTargets.clear();
         this.blockingTargetIds.clear();
-        this.combatTriggeredEffects.clear();
+        if (!this.combatTriggeredEffects.isEmpty()) {
+            this.combatTriggeredEffects.clear();
+            structureChanged();
+        }
         this.bandId = null;
         this.cantBlockThisCombat = false;
         this.mustAttackThisCombat = false;
@@ -1290,6 +1320,7 @@ public class Permanent {
 
     public void addTemporaryTriggeredEffect(EffectSlot slot, CardEffect effect) {
         temporaryTriggeredEffects.computeIfAbsent(slot, k -> new ArrayList<>()).add(effect);
+        structureChanged();
     }
 
     public List<CardEffect> getTemporaryTriggeredEffects(EffectSlot slot) {
@@ -1309,10 +1340,12 @@ public class Permanent {
 
     public void addCombatTriggeredEffect(EffectSlot slot, CardEffect effect) {
         combatTriggeredEffects.computeIfAbsent(slot, k -> new ArrayList<>()).add(effect);
+        structureChanged();
     }
 
     public void addPersistentTriggeredEffect(EffectSlot slot, CardEffect effect) {
         persistentTriggeredEffects.computeIfAbsent(slot, k -> new ArrayList<>()).add(effect);
+        structureChanged();
     }
 
     public List<CardEffect> getPersistentTriggeredEffects(EffectSlot slot) {
@@ -1324,6 +1357,7 @@ public class Permanent {
                 .computeIfAbsent(slot, ignored -> new HashMap<>())
                 .computeIfAbsent(expiryPlayerId, ignored -> new ArrayList<>())
                 .add(effect);
+        structureChanged();
     }
 
     private List<CardEffect> getUntilNextUpkeepTriggeredEffects(EffectSlot slot) {
@@ -1337,8 +1371,12 @@ public class Permanent {
     }
 
     public void clearUntilNextUpkeepTriggeredEffects(UUID expiryPlayerId) {
+        if (untilNextUpkeepTriggeredEffects.isEmpty()) {
+            return;
+        }
         untilNextUpkeepTriggeredEffects.values().forEach(effectsByPlayer -> effectsByPlayer.remove(expiryPlayerId));
         untilNextUpkeepTriggeredEffects.values().removeIf(Map::isEmpty);
+        structureChanged();
     }
 
     /**
@@ -1420,7 +1458,10 @@ public class Permanent {
         this.exileDamagedCreaturesInsteadOfDyingThisTurn = false;
         this.exileInsteadOfDieThisTurn = false;
         this.hasDamageToOpponentCreatureBounce = false;
-        this.temporaryTriggeredEffects.clear();
+        if (!this.temporaryTriggeredEffects.isEmpty()) {
+            this.temporaryTriggeredEffects.clear();
+            structureChanged();
+        }
         this.saddled = false;
         this.animatedUntilEndOfTurn = false;
         this.animatedUntilEndOfCombat = false;
@@ -0,0 +1,126 @@
+package com.github.laxika.magicalvibes.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Synchronized list that counts its writes, for the game-wide lists whose contents feed derived
+ * indexes — emblems, floating effects and exile (see {@link GameData#grantSourceRevision()}).
+ * A drop-in for the {@code Collections.synchronizedList} it replaces: every method locks the list
+ * itself, so callers still hold {@code synchronized (list)} while iterating.
+ *
+ * <p>Like {@link CopyOnWriteZone} it extends {@link AbstractList}, which routes iterator removals
+ * and bulk writes through the primitives below, so none of them can skip the count.
+ */
+public final class RevisionedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+    private volatile long revision;
+
+    /** Number of structural writes so far; moves on every add, set, removal, reorder and clear. */
+    public long revision() {
+        return revision;
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return elements.size();
+    }
+
+    @Override
+    public synchronized E set(int index, E element) {
+        revision++;
+        return elements.set(index, element);
+    }
+
+    @Override
+    public synchronized void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        revision++;
+    }
+
+    @Override
+    public synchronized E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        revision++;
+        return removed;
+    }
+
+    @Override
+    protected synchronized void removeRange(int fromIndex, int toIndex) {
+        elements.subList(fromIndex, toIndex).clear();
+        modCount++;
+        revision++;
+    }
+
+    @Override
+    public synchronized void sort(Comparator<? super E> comparator) {
+        elements.sort(comparator);
+        modCount++;
+        revision++;
+    }
+
+    // Compound operations stay atomic under the list's lock, as they were on the synchronized wrapper.
+
+    @Override
+    public synchronized boolean add(E element) {
+        return super.add(element);
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends E> collection) {
+        return super.addAll(collection);
+    }
+
+    @Override
+    public synchronized boolean remove(Object element) {
+        return super.remove(element);
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super E> filter) {
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+    }
+
+    @Override
+    public synchronized void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+    @Override
+    public synchronized boolean contains(Object element) {
+        return elements.contains(element);
+    }
+
+    @Override
+    public synchronized Object[] toArray() {
+        return elements.toArray();
+    }
+
+    @Override
+    public synchronized <T> T[] toArray(T[] array) {
+        return elements.toArray(array);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return elements.toString();
+    }
+}
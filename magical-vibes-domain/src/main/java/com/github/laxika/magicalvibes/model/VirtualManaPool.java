@@ -1,6 +1,14 @@
 package com.github.laxika.magicalvibes.model;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * A mana pool used by the AI for planning purposes. Extends {@link ManaPool} with
@@ -21,16 +29,45 @@ import java.util.EnumMap;
  * </ul>
  * The overrides of {@link #get(ManaColor)} and {@link #getTotal()} subtract these
  * corrections so that {@link ManaCost#canPay} sees the actual realizable mana.
+ * <p>
+ * The corrections are aggregate, so they can still promise a combination no single choice
+ * delivers: a Taiga (R or G) and a Plains pass the {@code {R}{G}} check — one red, one green,
+ * two mana — although the Taiga makes only one of them. Every source with mutually exclusive
+ * outputs is therefore also recorded as a {@link ChoiceSource}, and {@link #realisations}
+ * expands the pool into the concrete pools the player could really end up with; checking a
+ * cost against those is exact.
  */
 public class VirtualManaPool extends ManaPool {
 
     private int flexibleOvercount;
     private final EnumMap<ManaColor, Integer> perColorOvercount;
     private int creatureManaOvercount;
+    private final List<ChoiceSource> choiceSources;
+
+    /**
+     * A source booked into this pool with all of its mutually exclusive outputs at once.
+     *
+     * @param sourceId the permanent, or {@code null} for a hypothetical card
+     * @param options  one color→amount map per output a single tap could yield
+     */
+    public record ChoiceSource(UUID sourceId, List<Map<ManaColor, Integer>> options,
+                               boolean creature, boolean snow) {
+        public ChoiceSource {
+            options = List.copyOf(options);
+        }
+    }
+
+    /**
+     * One concrete pool the sources can produce, with the output picked for each
+     * {@link ChoiceSource} (same order as {@link #getChoiceSources()}) — the tap plan behind it.
+     */
+    public record Realisation(ManaPool pool, List<Map<ManaColor, Integer>> chosenOptions) {
+    }
 
     public VirtualManaPool() {
         super();
         this.perColorOvercount = new EnumMap<>(ManaColor.class);
+        this.choiceSources = new ArrayList<>();
     }
 
     /**
@@ -41,6 +78,7 @@ public class VirtualManaPool extends ManaPool {
         this.flexibleOvercount = source.flexibleOvercount;
         this.perColorOvercount = new EnumMap<>(source.perColorOvercount);
         this.creatureManaOvercount = source.creatureManaOvercount;
+        this.choiceSources = new ArrayList<>(source.choiceSources);
     }
 
     public void addFlexibleOvercount(int amount) {
@@ -102,4 +140,166 @@ public class VirtualManaPool extends ManaPool {
     public int getCreatureManaTotal() {
         return Math.max(0, super.getCreatureManaTotal() - creatureManaOvercount);
     }
+
+    /**
+     * Records that every option of a source has been booked into this pool (the over-count
+     * corrections are still the caller's job). Single-option sources are exact already and
+     * need no record.
+     */
+    public void recordChoiceSource(UUID sourceId, List<? extends Map<ManaColor, Integer>> options,
+                                   boolean creature, boolean snow) {
+        if (options.size() > 1) {
+            choiceSources.add(new ChoiceSource(sourceId, List.copyOf(options), creature, snow));
+        }
+    }
+
+    public List<ChoiceSource> getChoiceSources() {
+        return List.copyOf(choiceSources);
+    }
+
+    public boolean hasChoiceSources() {
+        return !choiceSources.isEmpty();
+    }
+
+    /**
+     * Every distinct concrete pool the recorded choice sources can produce, as plain
+     * {@link ManaPool}s (no over-count corrections) carrying this pool's fixed mana, restricted
+     * buckets and spend-as flags. Choices that add up to the same mana are merged, so a board of
+     * interchangeable duals grows with the number of sources rather than exponentially.
+     *
+     * @return the realisations, or {@code null} when there would be more than {@code limit} of
+     *         them — callers then search them one at a time with {@link #findRealisation}
+     */
+    public List<Realisation> realisations(int limit) {
+        ManaPool base = fixedMana();
+
+        // Breadth-first over the sources, keyed by what the picks add up to so equivalent
+        // choices collapse into one state.
+        int[] nothing = new int[3 * ManaColor.values().length];
+        Map<List<Integer>, PartialChoice> states = new HashMap<>();
+        states.put(contributionKey(nothing), new PartialChoice(nothing, List.of()));
+        for (ChoiceSource source : choiceSources) {
+            Map<List<Integer>, PartialChoice> nextStates = new HashMap<>();
+            for (PartialChoice state : states.values()) {
+                for (Map<ManaColor, Integer> option : source.options()) {
+                    int[] next = state.total().clone();
+                    addContribution(next, option, source);
+                    List<Integer> key = contributionKey(next);
+                    if (nextStates.containsKey(key)) {
+                        continue;
+                    }
+                    List<Map<ManaColor, Integer>> picks = new ArrayList<>(state.picks());
+                    picks.add(option);
+                    nextStates.put(key, new PartialChoice(next, picks));
+                    if (nextStates.size() > limit) {
+                        return null;
+                    }
+                }
+            }
+            states = nextStates;
+        }
+
+        List<Realisation> realisations = new ArrayList<>(states.size());
+        for (PartialChoice state : states.values()) {
+            realisations.add(new Realisation(concretePool(base, state.picks()), List.copyOf(state.picks())));
+        }
+        return realisations;
+    }
+
+    /**
+     * The first concrete pool the choice sources can produce that {@code payable} accepts, found
+     * depth-first without expanding every realisation up front — for pools too large for
+     * {@link #realisations}. Choices that add up to the same mana are tried once. The search gives
+     * up after {@code budget} partial choices.
+     *
+     * @return the paying realisation, or {@code null} when none pays or the search gave up; either
+     *         way the cost is not known to be payable
+     */
+    public Realisation findRealisation(Predicate<ManaPool> payable, int budget) {
+        int[] nothing = new int[3 * ManaColor.values().length];
+        return search(fixedMana(), payable, 0, nothing, new ArrayList<>(), new HashSet<>(), new int[]{budget});
+    }
+
+    private Realisation search(ManaPool base, Predicate<ManaPool> payable, int depth, int[] total,
+                               List<Map<ManaColor, Integer>> picks, Set<List<Integer>> seen, int[] budget) {
+        if (depth == choiceSources.size()) {
+            ManaPool concrete = concretePool(base, picks);
+            return payable.test(concrete) ? new Realisation(concrete, List.copyOf(picks)) : null;
+        }
+        ChoiceSource source = choiceSources.get(depth);
+        for (Map<ManaColor, Integer> option : source.options()) {
+            int[] next = total.clone();
+            addContribution(next, option, source);
+            List<Integer> key = contributionKey(next);
+            key.add(depth);
+            if (!seen.add(key)) {
+                continue;
+            }
+            if (--budget[0] < 0) {
+                return null;
+            }
+            picks.add(option);
+            Realisation found = search(base, payable, depth + 1, next, picks, seen, budget);
+            picks.removeLast();
+            if (found != null || budget[0] < 0) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /** This pool without anything the choice sources booked: the mana every choice keeps. */
+    private ManaPool fixedMana() {
+        ManaPool base = new ManaPool(this);
+        for (ChoiceSource source : choiceSources) {
+            for (Map<ManaColor, Integer> option : source.options()) {
+                option.forEach((color, amount) ->
+                        base.withdrawBooked(color, amount, source.snow(), source.creature()));
+            }
+        }
+        return base;
+    }
+
+    private ManaPool concretePool(ManaPool base, List<Map<ManaColor, Integer>> picks) {
+        ManaPool concrete = new ManaPool(base);
+        for (int i = 0; i < picks.size(); i++) {
+            ChoiceSource source = choiceSources.get(i);
+            picks.get(i).forEach((color, amount) -> {
+                if (source.snow()) {
+                    concrete.addSnowMana(color, amount);
+                } else {
+                    concrete.add(color, amount);
+                }
+                if (source.creature()) {
+                    concrete.addCreatureMana(color, amount);
+                }
+            });
+        }
+        return concrete;
+    }
+
+    /** Picks made for the first sources, and what they add per color / snow tag / creature tag. */
+    private record PartialChoice(int[] total, List<Map<ManaColor, Integer>> picks) {
+    }
+
+    private static void addContribution(int[] total, Map<ManaColor, Integer> option, ChoiceSource source) {
+        int colors = ManaColor.values().length;
+        option.forEach((color, amount) -> {
+            total[color.ordinal()] += amount;
+            if (source.snow()) {
+                total[colors + color.ordinal()] += amount;
+            }
+            if (source.creature()) {
+                total[2 * colors + color.ordinal()] += amount;
+            }
+        });
+    }
+
+    private static List<Integer> contributionKey(int[] total) {
+        List<Integer> key = new ArrayList<>(total.length);
+        for (int value : total) {
+            key.add(value);
+        }
+        return key;
+    }
 }
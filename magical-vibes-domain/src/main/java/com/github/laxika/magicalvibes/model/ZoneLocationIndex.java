@@ -0,0 +1,314 @@
+package com.github.laxika.magicalvibes.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Id → location index over one game's battlefields and graveyards, so
+ * {@code GameQueryService.findPermanentById} / {@code findPermanentController} /
+ * {@code findCardInGraveyardById} — by far the engine's most frequent lookups — answer with a hash
+ * probe instead of walking every player's zone list.
+ *
+ * <p>The index is maintained by the zone lists themselves rather than by the zone-move services:
+ * the entry and removal funnels are only some of the writers, and control changes, phasing,
+ * graveyard reorders and test setups all mutate the lists directly. Lists made by
+ * {@link GameData#newBattlefieldList()} and {@link GameData#newGraveyardList()} report every
+ * insert and removal, whichever path performs it. A lookup is answered from the index only while
+ * every battlefield (respectively graveyard) of the game is such a list; one hand-built plain list
+ * — older tests, and the copy-on-write graveyards of simulation copies — sends that zone kind back
+ * to the linear scan, so the index can make a lookup slower but never wrong.
+ *
+ * <p>An entry records the zone list holding the object rather than a position: positions shift on
+ * every removal ahead of them, while the holding player is recovered from the list's identity in
+ * O(players). The same lists count their structural writes — inserts, removals, reorders, and a
+ * held permanent swapping its card or granted triggered effects — so indexes derived from a zone
+ * ({@link ZoneStamp}) can tell it is unchanged without walking it. {@code -DdisableZoneLocationIndex}
+ * turns lookups back into scans;
+ * {@code -DverifyZoneLocationIndex} cross-checks every indexed answer against a full scan and
+ * throws on disagreement.
+ */
+public final class ZoneLocationIndex {
+
+    private static final boolean DISABLED = Boolean.getBoolean("disableZoneLocationIndex");
+    private static final boolean VERIFY = Boolean.getBoolean("verifyZoneLocationIndex");
+
+    /** Where an object was found: the player whose zone holds it, and the object itself. */
+    public record Location<E>(UUID playerId, E element) {
+    }
+
+    private record Entry<E>(List<E> zone, E element) {
+    }
+
+    private final GameData gameData;
+    private final Map<UUID, Entry<Permanent>> permanents = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry<Card>> graveyardCards = new ConcurrentHashMap<>();
+    /** The zone lists reporting into this index; only ever grows. */
+    private volatile IndexedZoneList<?>[] indexedZones = new IndexedZoneList<?>[0];
+
+    ZoneLocationIndex(GameData gameData) {
+        this.gameData = gameData;
+    }
+
+    /** A battlefield list whose inserts and removals keep {@link #permanents} current. */
+    List<Permanent> newBattlefield(Consumer<Permanent> beforeInsert) {
+        IndexedZoneList<Permanent> zone = new IndexedZoneList<>(permanents, Permanent::getId, beforeInsert);
+        // The synchronized wrapper is what callers store and lock, so it is the identity to index.
+        List<Permanent> battlefield = Collections.synchronizedList(zone);
+        zone.published = battlefield;
+        register(zone);
+        return battlefield;
+    }
+
+    /** A graveyard list whose inserts and removals keep {@link #graveyardCards} current. */
+    List<Card> newGraveyard() {
+        IndexedZoneList<Card> graveyard = new IndexedZoneList<>(graveyardCards, Card::getId, card -> { });
+        register(graveyard);
+        return graveyard;
+    }
+
+    private synchronized void register(IndexedZoneList<?> zone) {
+        IndexedZoneList<?>[] grown = Arrays.copyOf(indexedZones, indexedZones.length + 1);
+        grown[grown.length - 1] = zone;
+        indexedZones = grown;
+    }
+
+    Location<Permanent> locatePermanent(UUID permanentId) {
+        if (permanentId == null) return null;
+        if (DISABLED || !coversEveryZone(gameData.playerBattlefields)) {
+            return scan(gameData.playerBattlefields, permanentId, Permanent::getId);
+        }
+        Location<Permanent> located = resolve(permanents.get(permanentId), gameData.playerBattlefields);
+        if (VERIFY) {
+            verify("permanent", permanentId, located, scan(gameData.playerBattlefields, permanentId, Permanent::getId));
+        }
+        return located;
+    }
+
+    Location<Card> locateGraveyardCard(UUID cardId) {
+        if (cardId == null) return null;
+        if (DISABLED || !coversEveryZone(gameData.playerGraveyards)) {
+            return scan(gameData.playerGraveyards, cardId, Card::getId);
+        }
+        Location<Card> located = resolve(graveyardCards.get(cardId), gameData.playerGraveyards);
+        if (VERIFY) {
+            verify("graveyard card", cardId, located, scan(gameData.playerGraveyards, cardId, Card::getId));
+        }
+        return located;
+    }
+
+    /**
+     * Cross-checks every object in an indexed zone against its entry, for the fuzz invariants.
+     * Returns a description of the first disagreement, or {@code null} when the index is sound.
+     */
+    String findInconsistency() {
+        String battlefields = findInconsistency("permanent", gameData.playerBattlefields, Permanent::getId, permanents);
+        return battlefields != null ? battlefields
+                : findInconsistency("graveyard card", gameData.playerGraveyards, Card::getId, graveyardCards);
+    }
+
+    private <E> String findInconsistency(String kind, Map<UUID, List<E>> zones, Function<E, UUID> idOf,
+                                         Map<UUID, Entry<E>> index) {
+        if (!coversEveryZone(zones)) return null;
+        int held = 0;
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            List<E> zone = zones.get(playerId);
+            if (zone == null) continue;
+            synchronized (zone) {
+                held += zone.size();
+                for (E element : zone) {
+                    Entry<E> entry = index.get(idOf.apply(element));
+                    if (entry == null || entry.element() != element || entry.zone() != zone) {
+                        return kind + " " + idOf.apply(element) + " in " + playerId + "'s zone is indexed as "
+                                + (entry == null ? "absent" : "held by another zone or object");
+                    }
+                }
+            }
+        }
+        // Every held object checked out, so any surplus entry claims an object its zone lost.
+        long claimed = index.values().stream().filter(entry -> resolve(entry, zones) != null).count();
+        return claimed == held ? null
+                : "index places " + claimed + " " + kind + "s in live zones, which hold " + held;
+    }
+
+    /**
+     * Structural revision of {@code zone}, or {@code -1} when it is not one of this index's lists
+     * and so does not count its writes.
+     */
+    long revisionOf(List<?> zone) {
+        IndexedZoneList<?> indexed = find(indexedZones, zone);
+        return indexed == null ? -1 : indexed.revision;
+    }
+
+    private boolean coversEveryZone(Map<UUID, ? extends List<?>> zones) {
+        IndexedZoneList<?>[] indexed = indexedZones;
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            List<?> zone = zones.get(playerId);
+            if (zone != null && find(indexed, zone) == null) return false;
+        }
+        return true;
+    }
+
+    private static IndexedZoneList<?> find(IndexedZoneList<?>[] indexed, List<?> zone) {
+        for (IndexedZoneList<?> candidate : indexed) {
+            if (candidate.published == zone) return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * Maps an entry back to the player whose zone holds it. An entry whose list is no longer any
+     * player's zone (a phased-out holding list, a battlefield replaced by a game restart) is absent.
+     */
+    private <E> Location<E> resolve(Entry<E> entry, Map<UUID, List<E>> zones) {
+        if (entry == null) return null;
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            if (zones.get(playerId) == entry.zone()) return new Location<>(playerId, entry.element());
+        }
+        return null;
+    }
+
+    private <E> Location<E> scan(Map<UUID, List<E>> zones, UUID id, Function<E, UUID> idOf) {
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            List<E> zone = zones.get(playerId);
+            if (zone == null) continue;
+            for (E element : zone) {
+                if (idOf.apply(element).equals(id)) return new Location<>(playerId, element);
+            }
+        }
+        return null;
+    }
+
+    private static <E> void verify(String kind, UUID id, Location<E> indexed, Location<E> scanned) {
+        boolean agree = indexed == null ? scanned == null
+                : scanned != null && indexed.element() == scanned.element() && indexed.playerId().equals(scanned.playerId());
+        if (!agree) {
+            throw new IllegalStateException("Zone location index disagrees with a full scan for " + kind + " " + id
+                    + ": indexed " + indexed + ", scanned " + scanned);
+        }
+    }
+
+    /**
+     * Array-backed zone list that reports every insert and removal to its index. Extending
+     * {@link AbstractList} rather than {@link ArrayList} routes every bulk and iterator mutation
+     * ({@code removeIf}, {@code clear}, {@code subList().clear()}, {@code iterator().remove()},
+     * {@code sort}) through the three primitives below, so no write path can skip the index or
+     * the {@link #revision} count. A held {@link Permanent} reports its own card and
+     * triggered-effect edits into the count through {@link #touch}.
+     */
+    private static final class IndexedZoneList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final ArrayList<E> elements = new ArrayList<>();
+        private final Map<UUID, Entry<E>> index;
+        private final Function<E, UUID> idOf;
+        private final Consumer<E> beforeInsert;
+        /** The list identity entries point at: this list, or the synchronized wrapper around it. */
+        private List<E> published = this;
+        /** Bumped by every structural write; written under the zone's writer, read by any thread. */
+        private volatile long revision;
+        private final Runnable touch = this::touch;
+
+        private IndexedZoneList(Map<UUID, Entry<E>> index, Function<E, UUID> idOf, Consumer<E> beforeInsert) {
+            this.index = index;
+            this.idOf = idOf;
+            this.beforeInsert = beforeInsert;
+        }
+
+        @Override
+        public E get(int i) {
+            return elements.get(i);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public void add(int i, E element) {
+            beforeInsert.accept(element);
+            elements.add(i, element);
+            modCount++;
+            index.put(idOf.apply(element), new Entry<>(published, element));
+            watch(element);
+            touch();
+        }
+
+        /**
+         * Replaces in place. {@code Collections.swap} and iterator-driven reorders briefly hold an
+         * object at two positions, so the displaced object keeps its entry while it is still here.
+         */
+        @Override
+        public E set(int i, E element) {
+            beforeInsert.accept(element);
+            E previous = elements.set(i, element);
+            if (previous != element && !holds(previous)) {
+                unindex(previous);
+            }
+            index.put(idOf.apply(element), new Entry<>(published, element));
+            watch(element);
+            touch();
+            return previous;
+        }
+
+        /** Reorders without touching the index: sorting changes no object's zone. */
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            elements.sort(comparator);
+            modCount++;
+            touch();
+        }
+
+        @Override
+        public E remove(int i) {
+            E removed = elements.remove(i);
+            modCount++;
+            unindex(removed);
+            touch();
+            return removed;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            range.forEach(this::unindex);
+            range.clear();
+            modCount++;
+            touch();
+        }
+
+        private void touch() {
+            revision++;
+        }
+
+        private void watch(E element) {
+            if (element instanceof Permanent permanent) {
+                permanent.watchStructure(touch);
+            }
+        }
+
+        private boolean holds(E element) {
+            for (E candidate : elements) {
+                if (candidate == element) return true;
+            }
+            return false;
+        }
+
+        /** Drops the entry only if it still points here: the object may already sit in its next zone. */
+        private void unindex(E element) {
+            index.computeIfPresent(idOf.apply(element), (id, entry) -> entry.zone() == published ? null : entry);
+            if (element instanceof Permanent permanent) {
+                permanent.unwatchStructure(touch);
+            }
+        }
+    }
+}
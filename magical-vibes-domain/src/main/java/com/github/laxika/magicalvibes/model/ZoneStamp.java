@@ -0,0 +1,111 @@
+package com.github.laxika.magicalvibes.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What an index derived from one battlefield or graveyard list needs to know to reuse its work:
+ * the list it read and that list's structural revision when it read it. Taking a stamp walks the
+ * zone once — the caller is walking it to build anyway — and checking one is O(1) for the lists
+ * {@link GameData#newBattlefieldList()}, {@link GameData#newGraveyardList()} and simulation copies
+ * create, which count their own writes (see {@link ZoneLocationIndex}).
+ *
+ * <p>Two things the count cannot see are checked separately. A hand-built plain list (older
+ * tests) counts nothing, so its stamp falls back to an identity fingerprint of the zone, taken
+ * again on every check. And an unfrozen runtime copy of a card can gain effects in place without
+ * any list being written, so the stamp remembers the {@code effectRevision} of each unfrozen card
+ * it saw — live cards are frozen, so that list is almost always empty.
+ */
+public final class ZoneStamp {
+
+    private final List<?> zone;
+    private final long revision;
+    private final boolean counted;
+    private final List<Card> unfrozenCards;
+    private final int[] unfrozenRevisions;
+
+    private ZoneStamp(List<?> zone, long revision, boolean counted, List<Card> unfrozenCards) {
+        this.zone = zone;
+        this.revision = revision;
+        this.counted = counted;
+        this.unfrozenCards = unfrozenCards;
+        this.unfrozenRevisions = new int[unfrozenCards.size()];
+        for (int i = 0; i < unfrozenRevisions.length; i++) {
+            unfrozenRevisions[i] = unfrozenCards.get(i).getEffectRevision();
+        }
+    }
+
+    /**
+     * Stamps {@code zone} (a list of {@link Permanent}s or {@link Card}s, or {@code null} for a
+     * player without one) as {@code gameData} holds it now. Take it before reading the zone: a
+     * write racing the build then leaves the stamp behind, and the next check rebuilds.
+     */
+    public static ZoneStamp of(GameData gameData, List<?> zone) {
+        if (zone == null) {
+            return new ZoneStamp(null, 0, true, List.of());
+        }
+        long revision = gameData.zoneRevision(zone);
+        boolean counted = revision >= 0;
+        List<Card> unfrozen = new ArrayList<>(0);
+        synchronized (zone) {
+            for (Object element : zone) {
+                Card card = cardOf(element);
+                if (!card.isFrozen()) {
+                    unfrozen.add(card);
+                }
+            }
+        }
+        return new ZoneStamp(zone, counted ? revision : fingerprint(zone), counted, List.copyOf(unfrozen));
+    }
+
+    /** Whether {@code zone} is still the list this stamp was taken from, unchanged since. */
+    public boolean isCurrent(GameData gameData, List<?> zone) {
+        if (zone != this.zone) {
+            return false;
+        }
+        if (zone == null) {
+            return true;
+        }
+        if (revision != (counted ? gameData.zoneRevision(zone) : fingerprint(zone))) {
+            return false;
+        }
+        for (int i = 0; i < unfrozenRevisions.length; i++) {
+            if (unfrozenCards.get(i).getEffectRevision() != unfrozenRevisions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Card cardOf(Object element) {
+        return element instanceof Permanent permanent ? permanent.getCard() : (Card) element;
+    }
+
+    /**
+     * Identity fingerprint of an uncounted zone: membership and order, each permanent's current
+     * card and granted STATIC triggered effects, each card's {@code effectRevision}.
+     */
+    private static long fingerprint(List<?> zone) {
+        long h = 0x9E3779B97F4A7C15L;
+        synchronized (zone) {
+            h = mix(h, zone.size());
+            for (Object element : zone) {
+                Card card = cardOf(element);
+                h = mix(h, System.identityHashCode(element));
+                h = mix(h, System.identityHashCode(card));
+                h = mix(h, card.getEffectRevision());
+                if (element instanceof Permanent permanent) {
+                    h = mix(h, permanent.getTemporaryTriggeredEffects(EffectSlot.STATIC).size() * 31L
+                            + permanent.getPersistentTriggeredEffects(EffectSlot.STATIC).size());
+                }
+            }
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        h ^= value;
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.laxika.magicalvibes.model.event;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One player command as it entered the engine: the name of the command-surface method that
+ * received it (a {@code GameService} entry point, or a setup command such as
+ * {@code "createGame"}) and its arguments after the {@code GameData}, in declaration order.
+ * Arguments may be {@code null}.
+ *
+ * <p>An outermost live action started with a command reports it to the engine's command
+ * listeners once it commits (or fails); replaying a game's commands in order against the same
+ * seed reproduces the game.
+ */
+public record GameCommand(String name, List<Object> arguments) {
+
+    public GameCommand {
+        Objects.requireNonNull(name, "name");
+        arguments = Collections.unmodifiableList(Arrays.asList(
+                Objects.requireNonNull(arguments, "arguments").toArray()));
+    }
+
+    public static GameCommand of(String name, Object... arguments) {
+        return new GameCommand(name, Arrays.asList(arguments));
+    }
+}
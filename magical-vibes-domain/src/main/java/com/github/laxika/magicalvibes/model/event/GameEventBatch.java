@@ -36,6 +36,8 @@ public record GameEventBatch(
 
     public enum DispatchMode {
         LIVE,
-        SUPPRESSED_SIMULATION
+        SUPPRESSED_SIMULATION,
+        /** A command re-applied by crash recovery: its observers already saw it before the restart. */
+        SUPPRESSED_REPLAY
     }
 }
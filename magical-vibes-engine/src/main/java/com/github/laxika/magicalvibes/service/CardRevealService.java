@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.event.GameEventAudience;
@@ -111,7 +112,7 @@ public class CardRevealService {
         mutationCoordinator.emit(
                 gameData,
                 new GameEventFact.PrivateReveal(
-                        UUID.randomUUID(), subjectPlayerId, zone, snapshots),
+                        GameEntropy.newId(), subjectPlayerId, zone, snapshots),
                 new GameEventAudience(GameEventAudience.Visibility.PRIVATE, recipients));
     }
 
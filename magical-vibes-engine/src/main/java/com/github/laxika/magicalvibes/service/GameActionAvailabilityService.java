@@ -6,6 +6,7 @@ import com.github.laxika.magicalvibes.networking.message.ValidTargetsResponse;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import com.github.laxika.magicalvibes.service.cast.CastingCostService;
 import com.github.laxika.magicalvibes.service.cast.CastingPermissionService;
+import com.github.laxika.magicalvibes.service.cast.ManaPaymentSolver;
 import com.github.laxika.magicalvibes.service.cast.PotentialManaService;
 import com.github.laxika.magicalvibes.service.filter.PredicateEvaluationService;
 import com.github.laxika.magicalvibes.service.target.ValidTargetService;
@@ -92,8 +93,17 @@ public class GameActionAvailabilityService {
                 || !playerId.equals(gameQueryService.getPriorityPlayerId(gameData))) {
             return new ArrayList<>(strictIndices);
         }
-        List<Integer> potential = getPlayableCardIndices(gameData, playerId, 0,
-                potentialManaService.buildVirtualManaPool(gameData, playerId));
+        VirtualManaPool virtualPool = potentialManaService.buildVirtualManaPool(gameData, playerId);
+        List<Integer> potential = getPlayableCardIndices(gameData, playerId, 0, virtualPool);
+        if (!potential.isEmpty() && virtualPool.hasChoiceSources()) {
+            // The virtual pool over-promises across exclusive outputs (a Taiga and a Plains
+            // "pay" {R}{G}); keep only cards some real choice of taps pays for.
+            ManaPaymentSolver solver = ManaPaymentSolver.forPool(virtualPool);
+            List<Card> hand = gameData.playerHands.get(playerId);
+            SpellPlayabilityContext ctx = buildSpellPlayabilityContext(gameData, playerId);
+            potential.removeIf(i -> !strictIndices.contains(i) && !solver.confirm(
+                    pool -> isCardPlayable(gameData, playerId, hand.get(i), pool, 0, 0, ctx)));
+        }
         for (Integer i : strictIndices) {
             if (!potential.contains(i)) {
                 potential.add(i);
@@ -136,6 +146,7 @@ public class GameActionAvailabilityService {
             fullPool = new VirtualManaPool(fullPool);
             fullPool.setAllManaSpendableAsAnyColor(true);
         }
+        ManaPaymentSolver fullSolver = ManaPaymentSolver.forPool(fullPool);
         Map<UUID, List<Integer>> result = new HashMap<>();
         for (Permanent perm : battlefield) {
             if (perm.isFaceDown()) {
@@ -144,6 +155,7 @@ public class GameActionAvailabilityService {
             List<ActivatedAbility> abilities = perm.getCard().getActivatedAbilities();
             List<Integer> payable = new ArrayList<>();
             VirtualManaPool poolWithoutSource = null;
+            ManaPaymentSolver solverWithoutSource = null;
             for (int i = 0; i < abilities.size(); i++) {
                 ActivatedAbility ability = abilities.get(i);
                 String abilityManaCost = effectiveAbilityManaCost(gameData, playerId, perm, ability);
@@ -151,7 +163,8 @@ public class GameActionAvailabilityService {
                         || !PotentialManaService.meetsRequiredSourceCounters(ability, perm)) {
                     continue;
                 }
-                ManaPool pool = fullPool;
+                VirtualManaPool pool = fullPool;
+                ManaPaymentSolver solver = fullSolver;
                 if (ability.isRequiresTap()) {
                     if (poolWithoutSource == null) {
                         poolWithoutSource = potentialManaService.buildVirtualManaPool(gameData, playerId, perm.getId());
@@ -159,8 +172,10 @@ public class GameActionAvailabilityService {
                         if (gameQueryService.canSpendManaAsAnyColor(gameData, playerId)) {
                             poolWithoutSource.setAllManaSpendableAsAnyColor(true);
                         }
+                        solverWithoutSource = ManaPaymentSolver.forPool(poolWithoutSource);
                     }
                     pool = poolWithoutSource;
+                    solver = solverWithoutSource;
                 }
                 ManaCost manaCost = new ManaCost(abilityManaCost);
                 boolean artifactCtx = gameQueryService.isArtifact(perm);
@@ -171,9 +186,11 @@ public class GameActionAvailabilityService {
                 soaCtx.addAll(perm.getGrantedSubtypes());
                 Set<CardSubtype> creatureSourceSoaCtx = gameQueryService.isCreature(gameData, perm)
                         ? soaCtx : Set.of();
-                if (manaCost.canPay(pool, 0, artifactCtx, myrCtx, false, false, false, null,
-                        soaCtx, false, artifactCtx, false, false, Set.of(), creatureSourceSoaCtx,
-                        powerstoneCtx)) {
+                AbilityCostKey costKey = new AbilityCostKey(abilityManaCost, artifactCtx, myrCtx, powerstoneCtx,
+                        soaCtx, creatureSourceSoaCtx);
+                if (solver.canPay(costKey, candidate -> manaCost.canPay(candidate, 0, artifactCtx, myrCtx,
+                        false, false, false, null, soaCtx, false, artifactCtx, false, false, Set.of(),
+                        creatureSourceSoaCtx, powerstoneCtx))) {
                     payable.add(i);
                 }
             }
@@ -265,6 +282,11 @@ public class GameActionAvailabilityService {
                 buildSpellPlayabilityContext(gameData, playerId), true);
     }
 
+    /** Everything an ability's mana payability depends on besides the pool; the solver memoizes on it. */
+    private record AbilityCostKey(String manaCost, boolean artifactSource, boolean myrSource, boolean powerstone,
+                                  Set<CardSubtype> sourceSubtypes, Set<CardSubtype> creatureSourceSubtypes) {
+    }
+
     /** Per-player values shared by every card's playability check; computed once per hand scan. */
     private record SpellPlayabilityContext(boolean isActivePlayer, boolean isMainPhase, boolean stackEmpty,
                                            int landsPlayed, boolean spellLimitReached, boolean cantCastDueToAttack,
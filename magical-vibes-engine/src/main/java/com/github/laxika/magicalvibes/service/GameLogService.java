@@ -12,6 +12,10 @@ import java.util.Objects;
 
 /**
  * Canonical owner of authoritative structured game-log mutation and event recording.
+ *
+ * <p>Simulation copies keep no game log: nobody reads a rollout's log, so {@link #append} drops
+ * the entry there, and hot callers skip building it at all by checking {@code GameData.simulation}
+ * first.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +34,9 @@ public class GameLogService {
             throw new IllegalStateException(
                     "Game logs may only be appended inside their game's mutation scope");
         }
+        if (gameData.simulation) {
+            return;
+        }
 
         int logIndex = gameData.gameLog.size();
         gameData.gameLog.add(logEntry);
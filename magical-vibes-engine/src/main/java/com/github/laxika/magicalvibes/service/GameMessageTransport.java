@@ -1,6 +1,8 @@
 package com.github.laxika.magicalvibes.service;
 
+import com.github.laxika.magicalvibes.networking.MessageEncodingCache;
 import com.github.laxika.magicalvibes.networking.SessionManager;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,10 @@ import java.util.UUID;
  *
  * <p>Projection code never talks to connections directly. Failures are isolated per recipient so
  * one broken connection cannot prevent delivery to another player.
+ *
+ * <p>Deliveries inside {@link #withSharedEncoding} share one {@link MessageEncodingCache}: a
+ * message object sent to several recipients is serialized once and every connection writes the
+ * same frame. {@link #sendToPlayers} always fans out that way.
  */
 @Slf4j
 @Component
@@ -20,10 +26,35 @@ import java.util.UUID;
 public class GameMessageTransport {
 
     private final SessionManager sessionManager;
+    private final ThreadLocal<MessageEncodingCache> sharedEncodings = new ThreadLocal<>();
+
+    /**
+     * Runs {@code deliveries} with one encoding cache shared by every send on this thread, so
+     * projection code can hand the same message object to recipients one at a time and still pay
+     * for a single serialization. Nested scopes reuse the outer cache. Messages must not be
+     * mutated between sends inside the scope.
+     */
+    public void withSharedEncoding(Runnable deliveries) {
+        if (sharedEncodings.get() != null) {
+            deliveries.run();
+            return;
+        }
+        sharedEncodings.set(new MessageEncodingCache());
+        try {
+            deliveries.run();
+        } finally {
+            sharedEncodings.remove();
+        }
+    }
 
     public void sendToPlayer(UUID playerId, Object message) {
         try {
-            sessionManager.sendToPlayer(playerId, message);
+            MessageEncodingCache encodings = sharedEncodings.get();
+            if (encodings != null) {
+                sessionManager.sendToPlayer(playerId, message, encodings);
+            } else {
+                sessionManager.sendToPlayer(playerId, message);
+            }
         } catch (VirtualMachineError fatal) {
             throw fatal;
         } catch (Throwable failure) {
@@ -32,9 +63,25 @@ public class GameMessageTransport {
         }
     }
 
-    public void sendToPlayers(Collection<UUID> playerIds, Object message) {
-        for (UUID playerId : playerIds) {
-            sendToPlayer(playerId, message);
+    /**
+     * Delivers one recipient's projected state for {@code stateVersion}, which lets a connection
+     * that speaks the delta protocol send only what changed since the state it last delivered.
+     */
+    public void sendGameState(UUID playerId, UUID gameId, long stateVersion, GameStateMessage message) {
+        try {
+            sessionManager.sendGameState(playerId, gameId, stateVersion, message);
+        } catch (VirtualMachineError fatal) {
+            throw fatal;
+        } catch (Throwable failure) {
+            log.error("Failed to deliver game state {} to player {}", stateVersion, playerId, failure);
         }
     }
+
+    public void sendToPlayers(Collection<UUID> playerIds, Object message) {
+        withSharedEncoding(() -> {
+            for (UUID playerId : playerIds) {
+                sendToPlayer(playerId, message);
+            }
+        });
+    }
 }
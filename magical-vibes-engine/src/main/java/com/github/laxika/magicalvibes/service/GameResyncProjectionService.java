@@ -8,6 +8,8 @@ import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,4 +38,21 @@ public class GameResyncProjectionService {
                 current -> transport.sendToPlayer(
                         playerId, new JoinGameMessage(messageType, current)));
     }
+
+    /**
+     * Sends a full, unversioned {@code GAME_STATE} — the answer to a client that could not apply a
+     * {@code GAME_STATE_PATCH} to the version it holds. Delivering it resets the connection's patch
+     * baseline, so the next projected state also goes out in full.
+     */
+    public void sendCurrentGameState(GameData gameData, UUID playerId) {
+        mutationCoordinator.observe(
+                gameData,
+                () -> projectionFactory.rebuildGameStateMessages(gameData, List.of(), Set.of(playerId))
+                        .get(playerId),
+                current -> {
+                    if (current != null) {
+                        transport.sendToPlayer(playerId, current);
+                    }
+                });
+    }
 }
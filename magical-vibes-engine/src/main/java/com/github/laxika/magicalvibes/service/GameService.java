@@ -26,6 +26,7 @@ import com.github.laxika.magicalvibes.model.effect.TurnFaceUpReplacementEffect;
 import com.github.laxika.magicalvibes.model.effect.TargetPredicate;
 import com.github.laxika.magicalvibes.model.filter.StackEntryPredicate;
 import com.github.laxika.magicalvibes.model.filter.StackEntryPredicateTargetFilter;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
 import com.github.laxika.magicalvibes.model.event.GameEventAudience;
 import com.github.laxika.magicalvibes.model.event.GameEventFact;
 import com.github.laxika.magicalvibes.networking.message.BlockerAssignment;
@@ -124,11 +125,11 @@ public class GameService {
                 manaChoiceNarrowingService, null, null, null, null, null, null);
     }
 
-    private boolean runAsActionIfNeeded(GameData gameData, Runnable action) {
+    private boolean runAsActionIfNeeded(GameData gameData, GameCommand command, Runnable action) {
         if (mutationCoordinator.isInAction(gameData)) {
             return false;
         }
-        mutationCoordinator.mutate(gameData, action);
+        mutationCoordinator.mutate(gameData, command, action);
         return true;
     }
 
@@ -138,12 +139,12 @@ public class GameService {
      * failed action are deliberately discarded by the coordinator, so retry delivery cannot be
      * emitted from inside the failing mutation.
      */
-    private boolean runAsCombatActionIfNeeded(GameData gameData, Runnable action) {
+    private boolean runAsCombatActionIfNeeded(GameData gameData, GameCommand command, Runnable action) {
         if (mutationCoordinator.isInAction(gameData)) {
             return false;
         }
         try {
-            mutationCoordinator.mutate(gameData, action);
+            mutationCoordinator.mutate(gameData, command, action);
         } catch (IllegalStateException | IllegalArgumentException failure) {
             mutationCoordinator.mutate(
                     gameData, () -> interactionHandlerRegistry.requestActiveDecision(gameData));
@@ -267,7 +268,7 @@ public class GameService {
 
     public void passPriority(GameData gameData, Player player) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData, () -> passPriority(gameData, actionPlayer))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("passPriority", actionPlayer), () -> passPriority(gameData, actionPlayer))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
             requirePriority(gameData, player);
@@ -304,7 +305,7 @@ public class GameService {
     }
 
     public void paySearchTax(GameData gameData, Player player) {
-        if (runAsActionIfNeeded(gameData, () -> paySearchTax(gameData, player))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("paySearchTax", player), () -> paySearchTax(gameData, player))) return;
         synchronized (gameData) {
             requirePriority(gameData, player);
 
@@ -351,7 +352,7 @@ public class GameService {
     /** Exiles a foretell card from the active player's hand as a special action. */
     public void foretellCard(GameData gameData, Player player, int cardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData, () -> foretellCard(gameData, actionPlayer, cardIndex))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("foretellCard", actionPlayer, cardIndex), () -> foretellCard(gameData, actionPlayer, cardIndex))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
             requirePriority(gameData, player);
@@ -402,7 +403,7 @@ public class GameService {
     }
 
     public void surrender(GameData gameData, Player player) {
-        if (runAsActionIfNeeded(gameData, () -> surrender(gameData, player))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("surrender", player), () -> surrender(gameData, player))) return;
         synchronized (gameData) {
             if (gameData.status == GameStatus.FINISHED) {
                 throw new IllegalStateException("Game is already finished");
@@ -415,12 +416,12 @@ public class GameService {
     }
 
     public void advanceStep(GameData gameData) {
-        if (runAsActionIfNeeded(gameData, () -> advanceStep(gameData))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("advanceStep"), () -> advanceStep(gameData))) return;
         turnProgressionService.advanceStep(gameData);
     }
 
     public void keepHand(GameData gameData, Player player) {
-        if (runAsActionIfNeeded(gameData, () -> keepHand(gameData, player))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("keepHand", player), () -> keepHand(gameData, player))) return;
         synchronized (gameData) {
             if (gameData.status != GameStatus.MULLIGAN) {
                 throw new IllegalStateException("Game is not in mulligan phase");
@@ -430,7 +431,7 @@ public class GameService {
     }
 
     public void bottomCards(GameData gameData, Player player, List<Integer> cardIndices) {
-        if (runAsActionIfNeeded(gameData, () -> bottomCards(gameData, player, cardIndices))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("bottomCards", player, cardIndices), () -> bottomCards(gameData, player, cardIndices))) return;
         synchronized (gameData) {
             if (gameData.status != GameStatus.MULLIGAN) {
                 throw new IllegalStateException("Game is not in mulligan phase");
@@ -440,7 +441,7 @@ public class GameService {
     }
 
     public void mulligan(GameData gameData, Player player) {
-        if (runAsActionIfNeeded(gameData, () -> mulligan(gameData, player))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("mulligan", player), () -> mulligan(gameData, player))) return;
         synchronized (gameData) {
             if (gameData.status != GameStatus.MULLIGAN) {
                 throw new IllegalStateException("Game is not in mulligan phase");
@@ -451,7 +452,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -477,7 +478,7 @@ public class GameService {
     public void playModalXCard(GameData gameData, Player player, int cardIndex, int modeIndex, int modalXValue,
                                UUID targetId, List<UUID> targetIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playModalXCard", actionPlayer, cardIndex, modeIndex, modalXValue, targetId, targetIds),
                 () -> playModalXCard(gameData, actionPlayer, cardIndex, modeIndex, modalXValue, targetId, targetIds))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -489,7 +490,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds))) return;
         synchronized (gameData) {
@@ -501,7 +502,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard))) return;
         synchronized (gameData) {
@@ -513,7 +514,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId))) return;
         synchronized (gameData) {
@@ -525,7 +526,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount))) return;
@@ -538,7 +539,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount, List<UUID> alternateCostSacrificePermanentIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds))) return;
@@ -551,7 +552,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount, List<UUID> alternateCostSacrificePermanentIds, Integer exileGraveyardCardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds, exileGraveyardCardIndex),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds,
@@ -569,7 +570,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount, List<UUID> alternateCostSacrificePermanentIds, Integer exileGraveyardCardIndex, List<Integer> exileGraveyardCardIndices, boolean kicked) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds, exileGraveyardCardIndex, exileGraveyardCardIndices, kicked),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds,
@@ -603,7 +604,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount, List<UUID> alternateCostSacrificePermanentIds, Integer exileGraveyardCardIndex, List<Integer> exileGraveyardCardIndices, boolean kicked, Integer discardHandCardIndex, List<Integer> discardHandCardIndices, List<UUID> imposedSacrificePermanentIds, List<UUID> additionalCostSacrificePermanentIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds, exileGraveyardCardIndex, exileGraveyardCardIndices, kicked, discardHandCardIndex, discardHandCardIndices, imposedSacrificePermanentIds, additionalCostSacrificePermanentIds),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds,
@@ -655,7 +656,7 @@ public class GameService {
 
     public void playCard(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> convokeCreatureIds, boolean fromGraveyard, UUID sacrificePermanentId, Integer phyrexianLifeCount, List<UUID> alternateCostSacrificePermanentIds, Integer exileGraveyardCardIndex, List<Integer> exileGraveyardCardIndices, boolean kicked, Integer discardHandCardIndex, List<Integer> discardHandCardIndices, List<UUID> imposedSacrificePermanentIds, List<UUID> additionalCostSacrificePermanentIds, List<String> repeatedAdditionalCosts, boolean buyback, Integer sharedColorDiscardHandCardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds, exileGraveyardCardIndex, exileGraveyardCardIndices, kicked, discardHandCardIndex, discardHandCardIndices, imposedSacrificePermanentIds, additionalCostSacrificePermanentIds, repeatedAdditionalCosts, buyback, sharedColorDiscardHandCardIndex),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds,
@@ -709,7 +710,7 @@ public class GameService {
                          List<UUID> beholdPermanentIds, List<Integer> beholdHandCardIndices,
                          CardSubtype beholdChosenSubtype, CardSubtype chosenCreatureType) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCard", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId, phyrexianLifeCount, alternateCostSacrificePermanentIds, exileGraveyardCardIndex, exileGraveyardCardIndices, kicked, discardHandCardIndex, discardHandCardIndices, imposedSacrificePermanentIds, additionalCostSacrificePermanentIds, repeatedAdditionalCosts, buyback, beholdPermanentId, beholdHandCardIndex, beholdPermanentIds, beholdHandCardIndices, beholdChosenSubtype, chosenCreatureType),
                 () -> playCard(gameData, actionPlayer, cardIndex, xValue, targetId, damageAssignments,
                         targetIds, convokeCreatureIds, fromGraveyard, sacrificePermanentId,
                         phyrexianLifeCount, alternateCostSacrificePermanentIds,
@@ -795,7 +796,7 @@ public class GameService {
                                     UUID sacrificePermanentId, List<UUID> additionalCostSacrificePermanentIds,
                                     Map<UUID, Integer> damageAssignments) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playFlashbackSpell", actionPlayer, graveyardCardIndex, xValue, targetId, targetIds, exileGraveyardCardIndices, chosenGraveyardType, tapPermanentIds, retraceDiscardHandCardIndex, sacrificePermanentId, additionalCostSacrificePermanentIds, damageAssignments),
                 () -> playFlashbackSpell(gameData, actionPlayer, graveyardCardIndex, xValue, targetId,
                         targetIds, exileGraveyardCardIndices, chosenGraveyardType, tapPermanentIds,
                         retraceDiscardHandCardIndex, sacrificePermanentId, additionalCostSacrificePermanentIds,
@@ -828,7 +829,7 @@ public class GameService {
                                     UUID sacrificePermanentId, List<UUID> additionalCostSacrificePermanentIds,
                                     List<UUID> beholdPermanentIds, List<Integer> beholdHandCardIndices) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playFlashbackSpell", actionPlayer, graveyardCardIndex, xValue, targetId, targetIds, exileGraveyardCardIndices, chosenGraveyardType, tapPermanentIds, retraceDiscardHandCardIndex, sacrificePermanentId, additionalCostSacrificePermanentIds, beholdPermanentIds, beholdHandCardIndices),
                 () -> playFlashbackSpell(gameData, actionPlayer, graveyardCardIndex, xValue, targetId,
                         targetIds, exileGraveyardCardIndices, chosenGraveyardType, tapPermanentIds,
                         retraceDiscardHandCardIndex, sacrificePermanentId, additionalCostSacrificePermanentIds,
@@ -849,7 +850,7 @@ public class GameService {
                                     UUID targetId, List<UUID> targetIds,
                                     List<Integer> exileGraveyardCardIndices, CardType chosenGraveyardType) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playFlashbackSpell", actionPlayer, graveyardCardId, xValue, targetId, targetIds, exileGraveyardCardIndices, chosenGraveyardType),
                 () -> playFlashbackSpell(gameData, actionPlayer, graveyardCardId, xValue, targetId,
                         targetIds, exileGraveyardCardIndices, chosenGraveyardType))) return;
         synchronized (gameData) {
@@ -862,7 +863,7 @@ public class GameService {
     public void playCardWithEvoke(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId,
                                   Map<UUID, Integer> damageAssignments, List<UUID> targetIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithEvoke", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds),
                 () -> playCardWithEvoke(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds))) return;
         synchronized (gameData) {
@@ -876,7 +877,7 @@ public class GameService {
     public void playCardWithProwl(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId,
                                   Map<UUID, Integer> damageAssignments, List<UUID> targetIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithProwl", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds),
                 () -> playCardWithProwl(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds))) return;
         synchronized (gameData) {
@@ -894,7 +895,7 @@ public class GameService {
     public void playCardWithAlternateCost(GameData gameData, Player player, int cardIndex, Integer xValue,
                                           UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithAlternateCost", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds),
                 () -> playCardWithAlternateCost(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds))) return;
         synchronized (gameData) {
@@ -914,7 +915,7 @@ public class GameService {
                                   UUID targetId, Map<UUID, Integer> damageAssignments, List<UUID> targetIds,
                                   Integer revealedHandCardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithMorph", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, revealedHandCardIndex),
                 () -> playCardWithMorph(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds, revealedHandCardIndex))) return;
         synchronized (gameData) {
@@ -927,13 +928,13 @@ public class GameService {
 
     public void turnFaceUp(GameData gameData, Player player, int permanentIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData, () -> turnFaceUp(gameData, actionPlayer, permanentIndex, null))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("turnFaceUp", actionPlayer, permanentIndex, null), () -> turnFaceUp(gameData, actionPlayer, permanentIndex, null))) return;
         turnFaceUp(gameData, player, permanentIndex, null);
     }
 
     public void turnFaceUp(GameData gameData, Player player, int permanentIndex, Integer revealedHandCardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("turnFaceUp", actionPlayer, permanentIndex, revealedHandCardIndex),
                 () -> turnFaceUp(gameData, actionPlayer, permanentIndex, revealedHandCardIndex))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1047,7 +1048,7 @@ public class GameService {
     /** Casts a card for its overload cost (CR 702.96a). Overloaded spells never take targets (CR 702.96b). */
     public void playCardWithOverload(GameData gameData, Player player, int cardIndex, Integer xValue) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithOverload", actionPlayer, cardIndex, xValue),
                 () -> playCardWithOverload(gameData, actionPlayer, cardIndex, xValue))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1059,7 +1060,7 @@ public class GameService {
     public void playCardWithConspire(GameData gameData, Player player, int cardIndex, Integer xValue, UUID targetId,
                                      Map<UUID, Integer> damageAssignments, List<UUID> targetIds, List<UUID> conspireCreatureIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithConspire", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, conspireCreatureIds),
                 () -> playCardWithConspire(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds, conspireCreatureIds))) return;
         synchronized (gameData) {
@@ -1081,7 +1082,7 @@ public class GameService {
                                    Map<UUID, Integer> damageAssignments, List<UUID> targetIds,
                                    List<Integer> spliceHandCardIndices, List<UUID> splicePermanentIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardWithSplice", actionPlayer, cardIndex, xValue, targetId, damageAssignments, targetIds, spliceHandCardIndices, splicePermanentIds),
                 () -> playCardWithSplice(gameData, actionPlayer, cardIndex, xValue, targetId,
                         damageAssignments, targetIds, spliceHandCardIndices, splicePermanentIds))) return;
         synchronized (gameData) {
@@ -1101,7 +1102,7 @@ public class GameService {
     public void playCardFromExile(GameData gameData, Player player, UUID exileCardId, Integer xValue,
                                   UUID targetId, List<UUID> exileCounterCostPermanentIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardFromExile", actionPlayer, exileCardId, xValue, targetId, exileCounterCostPermanentIds),
                 () -> playCardFromExile(gameData, actionPlayer, exileCardId, xValue, targetId,
                         exileCounterCostPermanentIds))) return;
         synchronized (gameData) {
@@ -1114,7 +1115,7 @@ public class GameService {
 
     public void playCardFromLibraryTop(GameData gameData, Player player, Integer xValue, UUID targetId) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("playCardFromLibraryTop", actionPlayer, xValue, targetId),
                 () -> playCardFromLibraryTop(gameData, actionPlayer, xValue, targetId))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1133,7 +1134,7 @@ public class GameService {
      */
     public void tapPermanent(GameData gameData, Player player, int permanentIndex, ManaPaymentIntent paymentIntent) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("tapPermanent", actionPlayer, permanentIndex, paymentIntent),
                 () -> tapPermanent(gameData, actionPlayer, permanentIndex, paymentIntent))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1155,7 +1156,7 @@ public class GameService {
      */
     public void revertManaActivations(GameData gameData, Player player) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("revertManaActivations", actionPlayer),
                 () -> revertManaActivations(gameData, actionPlayer))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1168,7 +1169,7 @@ public class GameService {
 
     public void sacrificePermanent(GameData gameData, Player player, int permanentIndex, UUID targetId) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("sacrificePermanent", actionPlayer, permanentIndex, targetId),
                 () -> sacrificePermanent(gameData, actionPlayer, permanentIndex, targetId))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1180,7 +1181,7 @@ public class GameService {
 
     public void tapForeignLandForMana(GameData gameData, Player player, UUID permanentId) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("tapForeignLandForMana", actionPlayer, permanentId),
                 () -> tapForeignLandForMana(gameData, actionPlayer, permanentId))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1192,7 +1193,7 @@ public class GameService {
 
     public void payLifeForColorlessMana(GameData gameData, Player player) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("payLifeForColorlessMana", actionPlayer),
                 () -> payLifeForColorlessMana(gameData, actionPlayer))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1203,7 +1204,7 @@ public class GameService {
 
     public void payGuardianAngel(GameData gameData, Player player, UUID targetId) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("payGuardianAngel", actionPlayer, targetId),
                 () -> payGuardianAngel(gameData, actionPlayer, targetId))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1231,7 +1232,7 @@ public class GameService {
      */
     public void activateAbility(GameData gameData, Player player, int permanentIndex, Integer abilityIndex, Integer xValue, UUID targetId, Zone targetZone, List<UUID> targetIds, Map<UUID, Integer> damageAssignments, ManaPaymentIntent paymentIntent) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("activateAbility", actionPlayer, permanentIndex, abilityIndex, xValue, targetId, targetZone, targetIds, damageAssignments, paymentIntent),
                 () -> activateAbility(gameData, actionPlayer, permanentIndex, abilityIndex, xValue,
                         targetId, targetZone, targetIds, damageAssignments, paymentIntent))) return;
         synchronized (gameData) {
@@ -1257,7 +1258,7 @@ public class GameService {
     public void activateStackAbility(GameData gameData, Player player, UUID stackCardId,
                                      Integer abilityIndex, Integer discardHandCardIndex) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("activateStackAbility", actionPlayer, stackCardId, abilityIndex, discardHandCardIndex),
                 () -> activateStackAbility(gameData, actionPlayer, stackCardId, abilityIndex,
                         discardHandCardIndex))) return;
         synchronized (gameData) {
@@ -1288,7 +1289,7 @@ public class GameService {
     public void activateGraveyardAbility(GameData gameData, Player player, int graveyardCardIndex, Integer abilityIndex,
                                          Integer xValue, UUID targetId, List<UUID> graveyardTargetIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("activateGraveyardAbility", actionPlayer, graveyardCardIndex, abilityIndex, xValue, targetId, graveyardTargetIds),
                 () -> activateGraveyardAbility(gameData, actionPlayer, graveyardCardIndex, abilityIndex,
                         xValue, targetId, graveyardTargetIds))) return;
         synchronized (gameData) {
@@ -1306,7 +1307,7 @@ public class GameService {
 
     public void activateHandAbility(GameData gameData, Player player, int handCardIndex, Integer abilityIndex, UUID targetId, Integer xValue) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("activateHandAbility", actionPlayer, handCardIndex, abilityIndex, targetId, xValue),
                 () -> activateHandAbility(gameData, actionPlayer, handCardIndex, abilityIndex, targetId,
                         xValue))) return;
         synchronized (gameData) {
@@ -1319,7 +1320,7 @@ public class GameService {
 
     public void activateHandAbilityWithGraveyardTargets(GameData gameData, Player player, int handCardIndex, Integer abilityIndex, List<UUID> graveyardCardIds) {
         Player actionPlayer = player;
-        if (runAsActionIfNeeded(gameData,
+        if (runAsActionIfNeeded(gameData, GameCommand.of("activateHandAbilityWithGraveyardTargets", actionPlayer, handCardIndex, abilityIndex, graveyardCardIds),
                 () -> activateHandAbilityWithGraveyardTargets(gameData, actionPlayer, handCardIndex,
                         abilityIndex, graveyardCardIds))) return;
         synchronized (gameData) {
@@ -1379,7 +1380,7 @@ public class GameService {
     }
 
     public void setAutoStops(GameData gameData, Player player, List<TurnStep> stops) {
-        if (runAsActionIfNeeded(gameData, () -> setAutoStops(gameData, player, stops))) return;
+        if (runAsActionIfNeeded(gameData, GameCommand.of("setAutoStops", player, stops), () -> setAutoStops(gameData, player, stops))) return;
         synchronized (gameData) {
             if (gameData.status != GameStatus.RUNNING) {
                 throw new IllegalStateException("Game is not running");
@@ -1401,10 +1402,11 @@ public class GameService {
      */
     public void handleInteractionAnswer(GameData gameData, Player player, InteractionAnswer answer) {
         Player actionPlayer = player;
+        GameCommand command = GameCommand.of("handleInteractionAnswer", actionPlayer, answer);
         Runnable action = () -> handleInteractionAnswer(gameData, actionPlayer, answer);
         boolean delegated = isCombatAnswer(answer)
-                ? runAsCombatActionIfNeeded(gameData, action)
-                : runAsActionIfNeeded(gameData, action);
+                ? runAsCombatActionIfNeeded(gameData, command, action)
+                : runAsActionIfNeeded(gameData, command, action);
         if (delegated) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1427,7 +1429,7 @@ public class GameService {
     public void declareAttackers(GameData gameData, Player player, List<Integer> attackerIndices,
                                  Map<Integer, UUID> attackTargets, List<List<Integer>> bands) {
         Player actionPlayer = player;
-        if (runAsCombatActionIfNeeded(gameData,
+        if (runAsCombatActionIfNeeded(gameData, GameCommand.of("declareAttackers", actionPlayer, attackerIndices, attackTargets, bands),
                 () -> declareAttackers(gameData, actionPlayer, attackerIndices, attackTargets, bands))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1451,7 +1453,7 @@ public class GameService {
 
     public void declareBlockers(GameData gameData, Player player, List<BlockerAssignment> blockerAssignments) {
         Player actionPlayer = player;
-        if (runAsCombatActionIfNeeded(gameData,
+        if (runAsCombatActionIfNeeded(gameData, GameCommand.of("declareBlockers", actionPlayer, blockerAssignments),
                 () -> declareBlockers(gameData, actionPlayer, blockerAssignments))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -1467,7 +1469,7 @@ public class GameService {
 
     public void handleCombatDamageAssigned(GameData gameData, Player player, int attackerIndex, Map<UUID, Integer> assignments) {
         Player actionPlayer = player;
-        if (runAsCombatActionIfNeeded(gameData,
+        if (runAsCombatActionIfNeeded(gameData, GameCommand.of("handleCombatDamageAssigned", actionPlayer, attackerIndex, assignments),
                 () -> handleCombatDamageAssigned(gameData, actionPlayer, attackerIndex, assignments))) return;
         synchronized (gameData) {
             player = resolveActingPlayer(gameData, player);
@@ -5,11 +5,13 @@ import com.github.laxika.magicalvibes.cards.PrebuiltDeck;
 import com.github.laxika.magicalvibes.cards.RandomDeckGenerator;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLogEntry;
 import com.github.laxika.magicalvibes.model.GameStatus;
 import com.github.laxika.magicalvibes.model.ManaPool;
 import com.github.laxika.magicalvibes.model.Player;
 import com.github.laxika.magicalvibes.model.TurnStep;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
 import com.github.laxika.magicalvibes.model.event.GameEventAudience;
 import com.github.laxika.magicalvibes.model.event.GameEventFact;
 import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
@@ -22,7 +24,6 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,8 +41,6 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class GameSetupService {
 
-    private final Random random = new Random();
-
     private final GameRegistry gameRegistry;
     private final ObjectProvider<CustomDeckSource> customDeckSourceProvider;
     private final GameMutationCoordinator mutationCoordinator;
@@ -86,16 +85,33 @@ public class GameSetupService {
      * {@code allRandom} is set.
      */
     public GameData createGame(String gameName, Player player, String deckId, boolean allRandom, String randomSetCode) {
-        UUID gameId = UUID.randomUUID();
+        return createGame(UUID.randomUUID(), GameEntropy.newSeed(), false,
+                gameName, player, deckId, allRandom, randomSetCode);
+    }
 
+    /**
+     * Re-creates a journaled game with its recorded identity and seed, in replay mode: the
+     * journal recovery then re-applies the game's recorded commands before it goes live again.
+     */
+    public GameData recreateGame(UUID gameId, long seed, String gameName, Player player, String deckId,
+                                 boolean allRandom, String randomSetCode) {
+        return createGame(gameId, seed, true, gameName, player, deckId, allRandom, randomSetCode);
+    }
+
+    private GameData createGame(UUID gameId, long seed, boolean replay, String gameName, Player player,
+                                String deckId, boolean allRandom, String randomSetCode) {
+        GameCommand command = GameCommand.of("createGame",
+                gameId, seed, gameName, player, deckId, allRandom, randomSetCode);
         if (allRandom) {
             deckId = RandomDeckGenerator.RANDOM_DECK_ID;
         }
 
         GameData gameData = new GameData(gameId, gameName, player.getId(), player.getUsername());
+        gameData.entropy = new GameEntropy(seed);
+        gameData.journalReplay = replay;
         gameData.setCardsExiledListener(triggerCollectionService::checkControllerCardsExiledDuringTurnTriggers);
         String selectedDeckId = deckId;
-        mutationCoordinator.mutate(gameData, () -> {
+        mutationCoordinator.mutate(gameData, command, () -> {
             gameData.allRandom = allRandom;
             gameData.randomSetCode = allRandom ? randomSetCode : null;
             gameData.playerIds.add(player.getId());
@@ -109,7 +125,9 @@ public class GameSetupService {
                             GameEventFact.StateSection.GAME_STATUS));
         });
 
-        log.info("Game created: id={}, name='{}', creator={}", gameId, gameName, player.getUsername());
+        if (!replay) {
+            log.info("Game created: id={}, name='{}', creator={}", gameId, gameName, player.getUsername());
+        }
         return gameData;
     }
 
@@ -120,7 +138,8 @@ public class GameSetupService {
     public void joinGame(GameData gameData, Player player, String deckId) {
         String requestedDeckId = deckId;
         if (!mutationCoordinator.isInAction(gameData)) {
-            mutationCoordinator.mutate(gameData, () -> joinGame(gameData, player, requestedDeckId));
+            mutationCoordinator.mutate(gameData, GameCommand.of("joinGame", player, requestedDeckId),
+                    () -> joinGame(gameData, player, requestedDeckId));
             return;
         }
         synchronized (gameData) {
@@ -175,12 +194,12 @@ public class GameSetupService {
                 card.freeze();
             }
 
-            Collections.shuffle(deck, random);
+            Collections.shuffle(deck, GameEntropy.random());
             gameData.playerDecks.put(playerId, deck);
             gameData.playerSideboards.put(playerId, sideboard);
             gameData.mulliganCounts.put(playerId, 0);
             gameData.playerBattlefields.put(playerId, gameData.newBattlefieldList());
-            gameData.playerGraveyards.put(playerId, new ArrayList<>());
+            gameData.playerGraveyards.put(playerId, gameData.newGraveyardList());
             gameData.playerCommandZones.put(playerId, new ArrayList<>());
             gameData.playerManaPools.put(playerId, new ManaPool());
             gameData.playerLifeTotals.put(playerId, 20);
@@ -188,7 +207,7 @@ public class GameSetupService {
             List<Card> hand = new ArrayList<>(deck.subList(0, 7));
             deck.subList(0, 7).clear();
             gameData.playerHands.put(playerId, hand);
-            gameData.playerMulliganDecisionIds.put(playerId, UUID.randomUUID());
+            gameData.playerMulliganDecisionIds.put(playerId, GameEntropy.newId());
 
             Set<TurnStep> defaultStops = ConcurrentHashMap.newKeySet();
             defaultStops.add(TurnStep.PRECOMBAT_MAIN);
@@ -216,7 +235,7 @@ public class GameSetupService {
         }
 
         List<UUID> ids = new ArrayList<>(gameData.orderedPlayerIds);
-        UUID startingPlayerId = ids.get(random.nextInt(ids.size()));
+        UUID startingPlayerId = ids.get(GameEntropy.random().nextInt(ids.size()));
         String startingPlayerName = gameData.playerIdToName.get(startingPlayerId);
         gameData.startingPlayerId = startingPlayerId;
 
@@ -246,7 +265,7 @@ public class GameSetupService {
 
     private List<Card> resolveDeck(String deckId, String randomSetCode) {
         if (RandomDeckGenerator.RANDOM_DECK_ID.equals(deckId)) {
-            return randomDeckGenerator.generate(random, randomSetCode).cards();
+            return randomDeckGenerator.generate(GameEntropy.random(), randomSetCode).cards();
         }
         CustomDeckSource source = customDeckSourceProvider.getIfAvailable();
         if (source != null && source.isCustomDeck(deckId)) {
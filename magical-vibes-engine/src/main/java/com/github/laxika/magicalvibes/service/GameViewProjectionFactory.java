@@ -52,10 +52,17 @@ import com.github.laxika.magicalvibes.networking.service.GameLogViewFactory;
 import com.github.laxika.magicalvibes.networking.service.PermanentViewFactory;
 import com.github.laxika.magicalvibes.networking.service.StackEntryViewFactory;
 import com.github.laxika.magicalvibes.service.effect.GrantedAbilityViewFactory;
+import com.github.laxika.magicalvibes.service.effect.LayerSystemService;
+import com.github.laxika.magicalvibes.model.event.GameEventBatch;
+import com.github.laxika.magicalvibes.model.event.GameEventEnvelope;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -63,7 +70,16 @@ import java.util.stream.Collectors;
  *
  * <p>This factory performs no delivery, serialization, or domain mutation. The same methods serve
  * event-driven human output and explicit join/reconnect projection.
+ *
+ * <p>Event-driven state projection is section-scoped: {@link #recordBatch} drops only the cached
+ * sections a batch's {@code StateInvalidated} facts name, so a log-only append reuses the last
+ * battlefield, stack, graveyard, hand and playable-action views. The result is always equal to a
+ * full rebuild; {@code -DverifyIncrementalProjection=true} checks that on every projection.
+ *
+ * <p>When the battlefield section is rebuilt, each permanent's view is still reused if nothing it
+ * is built from changed (see {@link PermanentViewKey}), so one tapped land re-renders one view.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class GameViewProjectionFactory {
@@ -79,23 +95,133 @@ public class GameViewProjectionFactory {
     private final GrantedAbilityViewFactory grantedAbilityViewFactory;
     private final GameActionAvailabilityService actionAvailabilityService;
 
+    /**
+     * Escape hatch: {@code -DdisableIncrementalProjection=true} rebuilds every section of every
+     * state message, as before section-scoped reuse.
+     */
+    private static final boolean INCREMENTAL_DISABLED = Boolean.getBoolean("disableIncrementalProjection");
+
+    /**
+     * Test mode: {@code -DverifyIncrementalProjection=true} also performs the full rebuild for
+     * every projection, logs any difference from the incremental result and sends the rebuild.
+     */
+    private static final boolean VERIFY_INCREMENTAL = Boolean.getBoolean("verifyIncrementalProjection");
+
+    /**
+     * Escape hatch: {@code -DdisablePermanentViewCache=true} rebuilds every permanent's view
+     * whenever the battlefield section is rebuilt.
+     */
+    private static final boolean PERMANENT_VIEW_CACHE_DISABLED = Boolean.getBoolean("disablePermanentViewCache");
+
+    /**
+     * Test mode: {@code -DverifyPermanentViewCache=true} also builds a fresh view for every
+     * permanent whose cached view is reused, logs any difference and sends the fresh one.
+     */
+    private static final boolean VERIFY_PERMANENT_VIEW_CACHE = Boolean.getBoolean("verifyPermanentViewCache");
+
+    /** Upper bound on per-game section caches; dropping one only costs a full rebuild. */
+    private static final int MAX_CACHED_GAMES = 512;
+
+    /** Invalidations that leave the shared board sections (battlefields, stack, graveyards) valid. */
+    private static final Set<GameEventFact.StateSection> SHARED_SECTIONS_UNAFFECTED_BY =
+            EnumSet.of(GameEventFact.StateSection.GAME_LOG, GameEventFact.StateSection.PLAYABLE_ACTIONS);
+
+    /** Invalidations that leave the per-recipient hand and playable-action sections valid. */
+    private static final Set<GameEventFact.StateSection> RECIPIENT_SECTIONS_UNAFFECTED_BY =
+            EnumSet.of(GameEventFact.StateSection.GAME_LOG);
+
+    private final Map<UUID, SectionCache> sectionCaches = new ConcurrentHashMap<>();
+    private final AtomicLong incrementalMismatches = new AtomicLong();
+    private final AtomicLong permanentViewMismatches = new AtomicLong();
+
     public Map<UUID, GameStateMessage> createGameStateMessages(
             GameData gameData,
             List<GameLogEntryView> newLogEntries,
             Collection<UUID> recipientIds) {
+        SectionCache cache = INCREMENTAL_DISABLED ? null : sectionCaches.get(gameData.id);
+        if (cache != null && cache.gameData != gameData) {
+            cache = null;
+        }
+        SectionCache sections = cache;
+        Map<UUID, GameStateMessage> messages = gameQueryService.withQueryScope(gameData,
+                () -> createGameStateMessagesWithinQueryScope(
+                        gameData, newLogEntries, recipientIds, sections));
+        if (VERIFY_INCREMENTAL && sections != null) {
+            Map<UUID, GameStateMessage> rebuilt = rebuildGameStateMessages(gameData, newLogEntries, recipientIds);
+            if (!rebuilt.equals(messages)) {
+                long mismatches = incrementalMismatches.incrementAndGet();
+                log.error("Incremental projection of game {} differs from a full rebuild for recipients {} "
+                                + "(mismatch #{}); sending the rebuild",
+                        gameData.id, recipientIds, mismatches);
+                return rebuilt;
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Feeds one dispatched batch into the game's section cache before any of its facts are
+     * projected. Sections named by its {@code StateInvalidated} facts are dropped; a batch without
+     * any, or one whose state version does not directly follow the last recorded one, drops all of
+     * them. Games are only cached while in progress, so lobby games never take a slot.
+     */
+    public void recordBatch(GameData gameData, GameEventBatch batch) {
+        if (INCREMENTAL_DISABLED) {
+            return;
+        }
+        if (gameData.status != GameStatus.MULLIGAN && gameData.status != GameStatus.RUNNING) {
+            sectionCaches.remove(batch.gameId());
+            return;
+        }
+        SectionCache cache = sectionCaches.get(batch.gameId());
+        if (cache == null || cache.gameData != gameData) {
+            if (cache == null && sectionCaches.size() >= MAX_CACHED_GAMES) {
+                sectionCaches.keySet().stream().findAny().ifPresent(sectionCaches::remove);
+            }
+            cache = new SectionCache(gameData);
+            sectionCaches.put(batch.gameId(), cache);
+        }
+        cache.record(batch);
+    }
+
+    /** Drops the section cache of a game that ended or is no longer registered. */
+    public void evict(UUID gameId) {
+        sectionCaches.remove(gameId);
+    }
+
+    /** Number of incremental projections that differed from their full rebuild in verify mode. */
+    public long incrementalMismatchCount() {
+        return incrementalMismatches.get();
+    }
+
+    /** Number of reused permanent views that differed from a fresh build in verify mode. */
+    public long permanentViewMismatchCount() {
+        return permanentViewMismatches.get();
+    }
+
+    /** The full rebuild every incremental projection must match, bypassing the section cache. */
+    Map<UUID, GameStateMessage> rebuildGameStateMessages(
+            GameData gameData,
+            List<GameLogEntryView> newLogEntries,
+            Collection<UUID> recipientIds) {
         return gameQueryService.withQueryScope(gameData,
                 () -> createGameStateMessagesWithinQueryScope(
-                        gameData, newLogEntries, recipientIds));
+                        gameData, newLogEntries, recipientIds, null));
     }
 
     private Map<UUID, GameStateMessage> createGameStateMessagesWithinQueryScope(
             GameData gameData,
             List<GameLogEntryView> newLogEntries,
-            Collection<UUID> recipientIds) {
-        List<List<PermanentView>> battlefields = getBattlefields(gameData);
-        Map<UUID, FaceDownReveal> faceDownReveals = collectFaceDownReveals(gameData);
-        List<StackEntryView> stack = getStackViews(gameData);
-        List<List<CardView>> graveyards = getGraveyardViews(gameData);
+            Collection<UUID> recipientIds,
+            SectionCache cache) {
+        SharedSections shared = cache != null ? cache.shared() : null;
+        if (shared == null) {
+            shared = new SharedSections(getBattlefields(gameData, cache), collectFaceDownReveals(gameData),
+                    getStackViews(gameData), getGraveyardViews(gameData));
+            if (cache != null) {
+                cache.storeShared(shared);
+            }
+        }
         List<Integer> deckSizes = getDeckSizes(gameData);
         List<Integer> handSizes = getHandSizes(gameData);
         List<Integer> lifeTotals = getLifeTotals(gameData);
@@ -109,79 +235,203 @@ public class GameViewProjectionFactory {
             if (!recipientIds.contains(playerId)) {
                 continue;
             }
-            List<CardSubtype> playerGranted = gameQueryService.computeGrantedSubtypesForOwnedCreatureCard(gameData, playerId);
-            List<CardView> hand = gameData.playerHands.getOrDefault(playerId, List.of())
-                    .stream().map(c -> createHandCardView(gameData, playerId, c, playerGranted)).toList();
-            List<CardView> opponentHand = getRevealedOpponentHand(gameData, playerId);
+            RecipientSections sections = cache != null ? cache.recipient(playerId) : null;
+            if (sections == null) {
+                sections = createRecipientSections(gameData, playerId);
+                if (cache != null) {
+                    cache.storeRecipient(playerId, sections);
+                }
+            }
             int mulliganCount = gameData.mulliganCounts.getOrDefault(playerId, 0);
             Map<String, Integer> manaPool = getManaPool(gameData, playerId);
             List<TurnStep> autoStopSteps = gameData.playerAutoStopSteps.containsKey(playerId)
                     ? new ArrayList<>(gameData.playerAutoStopSteps.get(playerId))
                     : List.of(TurnStep.PRECOMBAT_MAIN, TurnStep.POSTCOMBAT_MAIN);
-            List<Integer> playableCardIndices = actionAvailabilityService.getPlayableCardIndices(gameData, playerId);
-            List<Integer> playableForetellIndices =
-                    actionAvailabilityService.getPlayableForetellIndices(gameData, playerId);
-            List<Integer> potentialPlayableCardIndices =
-                    actionAvailabilityService.getPotentialPlayableCardIndices(
-                            gameData, playerId, playableCardIndices);
-            int potentialManaTotal = actionAvailabilityService.getPotentialManaTotal(gameData, playerId);
-            Map<UUID, List<Integer>> potentialPayableAbilityIndices =
-                    actionAvailabilityService.getPotentialPayableAbilityIndices(gameData, playerId);
-            List<Integer> playableGraveyardLandIndices =
-                    actionAvailabilityService.getPlayableGraveyardLandIndices(gameData, playerId);
-            List<CardView> playableExileCards = getPlayableExileCards(gameData, playerId);
-            List<Integer> playableFlashbackIndices =
-                    actionAvailabilityService.getPlayableFlashbackIndices(gameData, playerId);
-            List<List<CardView>> revealedLibraryTopCards = getRevealedLibraryTopCards(gameData, playerId);
-            List<CardView> playableLibraryTopCards = getPlayableLibraryTopCards(gameData, playerId);
-            int searchTaxCost = getSearchTaxCost(gameData, playerId);
-
-            // Mindslaver: controller sees the controlled player's hand and playable indices
-            if (gameData.mindControllerPlayerId != null && playerId.equals(gameData.mindControllerPlayerId)) {
-                    UUID controlledId = gameData.mindControlledPlayerId;
-                if (controlledId != null) {
-                    List<CardSubtype> controlledGranted = gameQueryService.computeGrantedSubtypesForOwnedCreatureCard(gameData, controlledId);
-                    opponentHand = gameData.playerHands.getOrDefault(controlledId, List.of())
-                            .stream().map(c -> createHandCardView(gameData, controlledId, c, controlledGranted)).toList();
-                    playableCardIndices =
-                            actionAvailabilityService.getPlayableCardIndices(gameData, controlledId);
-                    playableForetellIndices =
-                            actionAvailabilityService.getPlayableForetellIndices(gameData, controlledId);
-                    potentialPlayableCardIndices =
-                            actionAvailabilityService.getPotentialPlayableCardIndices(
-                                    gameData, controlledId, playableCardIndices);
-                    potentialManaTotal =
-                            actionAvailabilityService.getPotentialManaTotal(gameData, controlledId);
-                    potentialPayableAbilityIndices =
-                            actionAvailabilityService.getPotentialPayableAbilityIndices(
-                                    gameData, controlledId);
-                    playableGraveyardLandIndices =
-                            actionAvailabilityService.getPlayableGraveyardLandIndices(
-                                    gameData, controlledId);
-                    playableExileCards = getPlayableExileCards(gameData, controlledId);
-                    playableFlashbackIndices =
-                            actionAvailabilityService.getPlayableFlashbackIndices(
-                                    gameData, controlledId);
-                    playableLibraryTopCards = getPlayableLibraryTopCards(gameData, controlledId);
-                }
-            }
 
             messages.put(playerId, new GameStateMessage(
                     MessageType.GAME_STATE, gameData.status, gameData.activePlayerId, gameData.turnNumber,
                     gameData.currentStep, priorityPlayerId,
-                    applyFaceDownReveals(battlefields, faceDownReveals, playerId),
-                    stack, graveyards, deckSizes, handSizes, lifeTotals, poisonCounters, energyCounters,
-                    hand, opponentHand, mulliganCount, manaPool, autoStopSteps, playableCardIndices,
-                    playableForetellIndices,
-                    playableGraveyardLandIndices, playableExileCards, newLogEntries, searchTaxCost,
-                    gameData.mindControlledPlayerId, revealedLibraryTopCards, playableFlashbackIndices,
-                    playableLibraryTopCards, potentialPlayableCardIndices, potentialManaTotal,
-                    potentialPayableAbilityIndices, speeds
+                    applyFaceDownReveals(shared.battlefields(), shared.faceDownReveals(), playerId),
+                    shared.stack(), shared.graveyards(), deckSizes, handSizes, lifeTotals, poisonCounters,
+                    energyCounters, sections.hand(), sections.opponentHand(), mulliganCount, manaPool,
+                    autoStopSteps, sections.playableCardIndices(), sections.playableForetellIndices(),
+                    sections.playableGraveyardLandIndices(), sections.playableExileCards(), newLogEntries,
+                    sections.searchTaxCost(), gameData.mindControlledPlayerId,
+                    sections.revealedLibraryTopCards(), sections.playableFlashbackIndices(),
+                    sections.playableLibraryTopCards(), sections.potentialPlayableCardIndices(),
+                    sections.potentialManaTotal(), sections.potentialPayableAbilityIndices(), speeds
             ));
         }
         return Collections.unmodifiableMap(messages);
     }
 
+    private RecipientSections createRecipientSections(GameData gameData, UUID playerId) {
+        List<CardSubtype> playerGranted = gameQueryService.computeGrantedSubtypesForOwnedCreatureCard(gameData, playerId);
+        List<CardView> hand = gameData.playerHands.getOrDefault(playerId, List.of())
+                .stream().map(c -> createHandCardView(gameData, playerId, c, playerGranted)).toList();
+        List<CardView> opponentHand = getRevealedOpponentHand(gameData, playerId);
+        List<Integer> playableCardIndices = actionAvailabilityService.getPlayableCardIndices(gameData, playerId);
+        List<Integer> playableForetellIndices =
+                actionAvailabilityService.getPlayableForetellIndices(gameData, playerId);
+        List<Integer> potentialPlayableCardIndices =
+                actionAvailabilityService.getPotentialPlayableCardIndices(
+                        gameData, playerId, playableCardIndices);
+        int potentialManaTotal = actionAvailabilityService.getPotentialManaTotal(gameData, playerId);
+        Map<UUID, List<Integer>> potentialPayableAbilityIndices =
+                actionAvailabilityService.getPotentialPayableAbilityIndices(gameData, playerId);
+        List<Integer> playableGraveyardLandIndices =
+                actionAvailabilityService.getPlayableGraveyardLandIndices(gameData, playerId);
+        List<CardView> playableExileCards = getPlayableExileCards(gameData, playerId);
+        List<Integer> playableFlashbackIndices =
+                actionAvailabilityService.getPlayableFlashbackIndices(gameData, playerId);
+        List<List<CardView>> revealedLibraryTopCards = getRevealedLibraryTopCards(gameData, playerId);
+        List<CardView> playableLibraryTopCards = getPlayableLibraryTopCards(gameData, playerId);
+        int searchTaxCost = getSearchTaxCost(gameData, playerId);
+
+        // Mindslaver: controller sees the controlled player's hand and playable indices
+        if (gameData.mindControllerPlayerId != null && playerId.equals(gameData.mindControllerPlayerId)) {
+            UUID controlledId = gameData.mindControlledPlayerId;
+            if (controlledId != null) {
+                List<CardSubtype> controlledGranted = gameQueryService.computeGrantedSubtypesForOwnedCreatureCard(gameData, controlledId);
+                opponentHand = gameData.playerHands.getOrDefault(controlledId, List.of())
+                        .stream().map(c -> createHandCardView(gameData, controlledId, c, controlledGranted)).toList();
+                playableCardIndices =
+                        actionAvailabilityService.getPlayableCardIndices(gameData, controlledId);
+                playableForetellIndices =
+                        actionAvailabilityService.getPlayableForetellIndices(gameData, controlledId);
+                potentialPlayableCardIndices =
+                        actionAvailabilityService.getPotentialPlayableCardIndices(
+                                gameData, controlledId, playableCardIndices);
+                potentialManaTotal =
+                        actionAvailabilityService.getPotentialManaTotal(gameData, controlledId);
+                potentialPayableAbilityIndices =
+                        actionAvailabilityService.getPotentialPayableAbilityIndices(
+                                gameData, controlledId);
+                playableGraveyardLandIndices =
+                        actionAvailabilityService.getPlayableGraveyardLandIndices(
+                                gameData, controlledId);
+                playableExileCards = getPlayableExileCards(gameData, controlledId);
+                playableFlashbackIndices =
+                        actionAvailabilityService.getPlayableFlashbackIndices(
+                                gameData, controlledId);
+                playableLibraryTopCards = getPlayableLibraryTopCards(gameData, controlledId);
+            }
+        }
+        return new RecipientSections(hand, opponentHand, playableCardIndices, playableForetellIndices,
+                potentialPlayableCardIndices, potentialManaTotal, potentialPayableAbilityIndices,
+                playableGraveyardLandIndices, playableExileCards, playableFlashbackIndices,
+                revealedLibraryTopCards, playableLibraryTopCards, searchTaxCost);
+    }
+
+    /** Board sections shared by every recipient; face-down reveals are applied per viewer. */
+    record SharedSections(List<List<PermanentView>> battlefields,
+                          Map<UUID, FaceDownReveal> faceDownReveals,
+                          List<StackEntryView> stack,
+                          List<List<CardView>> graveyards) {
+    }
+
+    /** Hand and playable-action sections of one recipient, Mindslaver overrides applied. */
+    record RecipientSections(List<CardView> hand,
+                             List<CardView> opponentHand,
+                             List<Integer> playableCardIndices,
+                             List<Integer> playableForetellIndices,
+                             List<Integer> potentialPlayableCardIndices,
+                             int potentialManaTotal,
+                             Map<UUID, List<Integer>> potentialPayableAbilityIndices,
+                             List<Integer> playableGraveyardLandIndices,
+                             List<CardView> playableExileCards,
+                             List<Integer> playableFlashbackIndices,
+                             List<List<CardView>> revealedLibraryTopCards,
+                             List<CardView> playableLibraryTopCards,
+                             int searchTaxCost) {
+    }
+
+    /**
+     * Everything a permanent's view is built from, compared before reusing the view from the last
+     * projection. The permanent's own inputs are hashed — {@link LayerSystemService#permanentFingerprint}
+     * (the same fields the layered board cache re-derives its validity from) plus the display-only
+     * fields the view factories read. Its layered characteristics are compared by value: the
+     * {@code StaticBonus} is cheap to get from the query scope's memo, while
+     * {@code explainStaticBonus} re-runs the assembly to attribute it. Attribution lines name
+     * their sources, so any permanent entering or leaving any battlefield (or an emblem appearing)
+     * changes {@code composition} and rebuilds every view; a stale line would need two sources'
+     * contributions to trade places within one action with an identical net bonus.
+     */
+    record PermanentViewKey(long fingerprint,
+                            long composition,
+                            GameQueryService.StaticBonus bonus,
+                            List<ExiledCardEntry> exiledWith) {
+    }
+
+    record MemoizedPermanentView(PermanentViewKey key, PermanentView view) {
+    }
+
+    /**
+     * Expensive sections of one game's last projection, kept until a recorded batch invalidates
+     * them. Cheap scalars (life, sizes, mana pool, priority) are always recomputed. Per-permanent
+     * views outlive the battlefield section: they carry their own key and are only reused when it
+     * still matches. Projection of one game is serialized by its action lock; the monitor only
+     * guards against test callers.
+     */
+    static final class SectionCache {
+
+        private final GameData gameData;
+        private long lastStateVersion;
+        private SharedSections shared;
+        private final Map<UUID, RecipientSections> recipients = new HashMap<>();
+        private Map<UUID, MemoizedPermanentView> permanentViews = Map.of();
+
+        SectionCache(GameData gameData) {
+            this.gameData = gameData;
+        }
+
+        synchronized void record(GameEventBatch batch) {
+            EnumSet<GameEventFact.StateSection> invalidated = EnumSet.noneOf(GameEventFact.StateSection.class);
+            for (GameEventEnvelope envelope : batch.events()) {
+                if (envelope.fact() instanceof GameEventFact.StateInvalidated state) {
+                    invalidated.addAll(state.sections());
+                }
+            }
+            // A skipped version is an action whose batch was never dispatched (no facts at all),
+            // so nothing says what it changed.
+            if (invalidated.isEmpty() || batch.stateVersion() != lastStateVersion + 1) {
+                invalidated = EnumSet.allOf(GameEventFact.StateSection.class);
+            }
+            lastStateVersion = batch.stateVersion();
+            if (!SHARED_SECTIONS_UNAFFECTED_BY.containsAll(invalidated)) {
+                shared = null;
+            }
+            if (!RECIPIENT_SECTIONS_UNAFFECTED_BY.containsAll(invalidated)) {
+                recipients.clear();
+            }
+        }
+
+        synchronized SharedSections shared() {
+            return shared;
+        }
+
+        synchronized void storeShared(SharedSections sections) {
+            shared = sections;
+        }
+
+        synchronized RecipientSections recipient(UUID playerId) {
+            return recipients.get(playerId);
+        }
+
+        synchronized void storeRecipient(UUID playerId, RecipientSections sections) {
+            recipients.put(playerId, sections);
+        }
+
+        synchronized Map<UUID, MemoizedPermanentView> permanentViews() {
+            return permanentViews;
+        }
+
+        /** Replaces the memo wholesale, so permanents that left the battlefield are dropped. */
+        synchronized void storePermanentViews(Map<UUID, MemoizedPermanentView> views) {
+            permanentViews = views;
+        }
+    }
+
     List<StackEntryView> getStackViews(GameData gameData) {
         return gameData.stack.stream().map(entry -> {
             List<CardSubtype> granted = gameQueryService.computeGrantedSubtypesForOwnedCreatureCard(
@@ -191,6 +441,14 @@ public class GameViewProjectionFactory {
     }
 
     List<List<PermanentView>> getBattlefields(GameData data) {
+        return getBattlefields(data, null);
+    }
+
+    private List<List<PermanentView>> getBattlefields(GameData data, SectionCache cache) {
+        Map<UUID, MemoizedPermanentView> previous =
+                cache != null && !PERMANENT_VIEW_CACHE_DISABLED ? cache.permanentViews() : null;
+        Map<UUID, MemoizedPermanentView> memoized = previous != null ? new HashMap<>() : null;
+        long composition = previous != null ? battlefieldComposition(data) : 0;
         List<List<PermanentView>> battlefields = new ArrayList<>();
         for (UUID pid : data.orderedPlayerIds) {
             List<Permanent> bf = data.playerBattlefields.get(pid);
@@ -199,34 +457,109 @@ public class GameViewProjectionFactory {
             } else {
                 List<PermanentView> views = new ArrayList<>();
                 for (Permanent p : bf) {
-                    GameQueryService.ExplainedBonus explained = gameQueryService.explainStaticBonus(data, p);
-                    GameQueryService.StaticBonus bonus = explained.bonus();
-                    // Compute adjusted bonus P/T to account for static base P/T overrides (e.g. Deep Freeze)
-                    int adjustedBonusPower = gameQueryService.getEffectivePower(p, bonus) - p.getEffectivePower();
-                    int adjustedBonusToughness = gameQueryService.getEffectiveToughness(p, bonus) - p.getEffectiveToughness();
-                    List<ActivatedAbility> allGrantedAbilities = new ArrayList<>(bonus.grantedActivatedAbilities());
-                    allGrantedAbilities.addAll(p.getPersistentGrantedActivatedAbilities());
-                    allGrantedAbilities.addAll(p.getTemporaryActivatedAbilities());
-                    allGrantedAbilities.addAll(p.getUntilNextTurnActivatedAbilities());
-                    List<Card> faceUpExiledWith = new ArrayList<>();
-                    int faceDownExiledCount = 0;
-                    for (ExiledCardEntry exiledWith : data.getExiledWithPermanentEntries(p.getId(), p.getCard().getId())) {
-                        if (exiledWith.faceDown()) {
-                            faceDownExiledCount++;
-                        } else {
-                            faceUpExiledWith.add(exiledWith.card());
-                        }
+                    if (memoized == null) {
+                        views.add(createPermanentView(data, p));
+                        continue;
                     }
-                    PermanentView view = permanentViewFactory.create(p, adjustedBonusPower, adjustedBonusToughness, bonus.keywords(), bonus.animatedCreature(), allGrantedAbilities, bonus.grantedColors(), bonus.grantedSubtypes(), bonus.grantedCardTypes(), bonus.colorOverriding(), bonus.subtypeOverriding(), bonus.landSubtypeOverriding(), bonus.cardTypeOverriding(), bonus.removedKeywords(), bonus.losesAllAbilities() || p.isLosesAllAbilitiesUntilEndOfTurn(), bonus.losesAllNonManaAbilities(), bonus.grantedSupertypes(), explained.lines(), faceUpExiledWith, faceDownExiledCount, bonus.name());
-                    views.add(view.withGrantedAbilities(grantedAbilityViewFactory.create(
-                            p, bonus, explained.grantedEffectAttributions())));
+                    PermanentViewKey key = permanentViewKey(data, p, composition);
+                    MemoizedPermanentView last = previous.get(p.getId());
+                    PermanentView view = last != null && last.key().equals(key)
+                            ? verifiedReuse(data, p, last.view()) : createPermanentView(data, p);
+                    memoized.put(p.getId(), new MemoizedPermanentView(key, view));
+                    views.add(view);
                 }
                 battlefields.add(views);
             }
         }
+        if (memoized != null) {
+            cache.storePermanentViews(memoized);
+        }
         return battlefields;
     }
 
+    /** {@code cached} as is, or in verify mode a fresh view when the two differ. */
+    private PermanentView verifiedReuse(GameData data, Permanent p, PermanentView cached) {
+        if (!VERIFY_PERMANENT_VIEW_CACHE) {
+            return cached;
+        }
+        PermanentView fresh = createPermanentView(data, p);
+        if (!fresh.equals(cached)) {
+            long mismatches = permanentViewMismatches.incrementAndGet();
+            log.error("Cached view of {} ({}) in game {} differs from a fresh build (mismatch #{}); sending the fresh view",
+                    p.getCard().getName(), p.getId(), data.id, mismatches);
+            return fresh;
+        }
+        return cached;
+    }
+
+    private PermanentView createPermanentView(GameData data, Permanent p) {
+        GameQueryService.ExplainedBonus explained = gameQueryService.explainStaticBonus(data, p);
+        GameQueryService.StaticBonus bonus = explained.bonus();
+        // Compute adjusted bonus P/T to account for static base P/T overrides (e.g. Deep Freeze)
+        int adjustedBonusPower = gameQueryService.getEffectivePower(p, bonus) - p.getEffectivePower();
+        int adjustedBonusToughness = gameQueryService.getEffectiveToughness(p, bonus) - p.getEffectiveToughness();
+        List<ActivatedAbility> allGrantedAbilities = new ArrayList<>(bonus.grantedActivatedAbilities());
+        allGrantedAbilities.addAll(p.getPersistentGrantedActivatedAbilities());
+        allGrantedAbilities.addAll(p.getTemporaryActivatedAbilities());
+        allGrantedAbilities.addAll(p.getUntilNextTurnActivatedAbilities());
+        List<Card> faceUpExiledWith = new ArrayList<>();
+        int faceDownExiledCount = 0;
+        for (ExiledCardEntry exiledWith : data.getExiledWithPermanentEntries(p.getId(), p.getCard().getId())) {
+            if (exiledWith.faceDown()) {
+                faceDownExiledCount++;
+            } else {
+                faceUpExiledWith.add(exiledWith.card());
+            }
+        }
+        PermanentView view = permanentViewFactory.create(p, adjustedBonusPower, adjustedBonusToughness, bonus.keywords(), bonus.animatedCreature(), allGrantedAbilities, bonus.grantedColors(), bonus.grantedSubtypes(), bonus.grantedCardTypes(), bonus.colorOverriding(), bonus.subtypeOverriding(), bonus.landSubtypeOverriding(), bonus.cardTypeOverriding(), bonus.removedKeywords(), bonus.losesAllAbilities() || p.isLosesAllAbilitiesUntilEndOfTurn(), bonus.losesAllNonManaAbilities(), bonus.grantedSupertypes(), explained.lines(), faceUpExiledWith, faceDownExiledCount, bonus.name());
+        return view.withGrantedAbilities(grantedAbilityViewFactory.create(
+                p, bonus, explained.grantedEffectAttributions()));
+    }
+
+    /**
+     * Key for reusing {@code p}'s view. The fingerprint extends the layered board's per-permanent
+     * hash with the fields only {@code PermanentViewFactory} and {@code GrantedAbilityViewFactory}
+     * read — extend it whenever either starts reading another {@code Permanent} field.
+     */
+    private PermanentViewKey permanentViewKey(GameData data, Permanent p, long composition) {
+        long h = LayerSystemService.permanentFingerprint(p);
+        h = LayerSystemService.mixFingerprint(h, p.isSummoningSick() ? 1 : 0);
+        h = LayerSystemService.mixFingerprint(h, p.getMarkedDamage());
+        h = LayerSystemService.mixFingerprint(h, p.getRegenerationShield());
+        h = LayerSystemService.mixFingerprint(h, p.isCantBeBlocked() ? 1 : 0);
+        h = LayerSystemService.mixFingerprint(h, p.isPrepared() ? 1 : 0);
+        h = LayerSystemService.mixFingerprint(h, p.getAttackTarget() == null ? 0 : p.getAttackTarget().hashCode());
+        h = LayerSystemService.mixFingerprint(h, p.getBlockingTargets().hashCode());
+        h = LayerSystemService.mixFingerprint(h, p.getProtectionFromColorsUntilEndOfTurn().hashCode());
+        h = LayerSystemService.mixFingerprint(h, p.getProtectionFromNonSubtypeCreaturesUntilEndOfTurn().hashCode());
+        h = LayerSystemService.mixFingerprint(h, p.isProtectionFromOpponentCreaturesUntilEndOfTurn() ? 1 : 0);
+        h = LayerSystemService.mixFingerprint(h, p.isProtectionFromOpponentsPermanently() ? 1 : 0);
+        for (ActivatedAbility ability : p.getTemporaryActivatedAbilities()) {
+            h = LayerSystemService.mixFingerprint(h, System.identityHashCode(ability));
+        }
+        h = LayerSystemService.mixFingerprint(h, -1);
+        for (ActivatedAbility ability : p.getUntilNextTurnActivatedAbilities()) {
+            h = LayerSystemService.mixFingerprint(h, System.identityHashCode(ability));
+        }
+        return new PermanentViewKey(h, composition, gameQueryService.computeStaticBonus(data, p),
+                data.getExiledWithPermanentEntries(p.getId(), p.getCard().getId()));
+    }
+
+    /** Identity and order of every permanent on every battlefield, plus the emblem count. */
+    private static long battlefieldComposition(GameData data) {
+        long h = data.emblems.size();
+        for (UUID pid : data.orderedPlayerIds) {
+            List<Permanent> bf = data.playerBattlefields.get(pid);
+            h = LayerSystemService.mixFingerprint(h, bf == null ? -1 : bf.size());
+            if (bf != null) {
+                for (Permanent p : bf) {
+                    h = LayerSystemService.mixFingerprint(h, System.identityHashCode(p));
+                }
+            }
+        }
+        return h;
+    }
+
     /** Face-down exiled cards of one permanent, revealed only to the viewer controlling it. */
     record FaceDownReveal(UUID viewerId, List<CardView> cards,
                           Map<UUID, List<CardView>> cardsByViewer) {
@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.service.input.PlayerInputService;
 import com.github.laxika.magicalvibes.service.turn.TurnProgressionService;
 
@@ -31,7 +32,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import com.github.laxika.magicalvibes.model.CounterType;
@@ -41,8 +41,6 @@ import com.github.laxika.magicalvibes.model.CounterType;
 @RequiredArgsConstructor
 public class MulliganService {
 
-    private final Random random = new Random();
-
     private final GameLogService gameLogService;
     private final TurnProgressionService turnProgressionService;
     private final BattlefieldEntryService battlefieldEntryService;
@@ -68,7 +66,7 @@ public class MulliganService {
         if (mulliganCount > 0 && !hand.isEmpty()) {
             int cardsToBottom = Math.min(mulliganCount, hand.size());
             gameData.playerNeedsToBottom.put(player.getId(), cardsToBottom);
-            UUID decisionId = UUID.randomUUID();
+            UUID decisionId = GameEntropy.newId();
             gameData.playerBottomDecisionIds.put(player.getId(), decisionId);
 
             String logEntry = player.getUsername() + " keeps their hand and must put " + cardsToBottom +
@@ -230,7 +228,7 @@ public class MulliganService {
 
         deck.addAll(hand);
         hand.clear();
-        Collections.shuffle(deck, random);
+        Collections.shuffle(deck, GameEntropy.random());
 
         List<Card> newHand = new ArrayList<>(deck.subList(0, 7));
         deck.subList(0, 7).clear();
@@ -238,7 +236,7 @@ public class MulliganService {
 
         int newMulliganCount = currentMulliganCount + 1;
         gameData.mulliganCounts.put(player.getId(), newMulliganCount);
-        UUID decisionId = UUID.randomUUID();
+        UUID decisionId = GameEntropy.newId();
         gameData.playerMulliganDecisionIds.put(player.getId(), decisionId);
 
         mutationCoordinator.emit(gameData,
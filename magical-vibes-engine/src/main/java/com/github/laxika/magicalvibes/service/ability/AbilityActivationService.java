@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.ability;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.service.GameLogService;
 import com.github.laxika.magicalvibes.service.CardRevealService;
@@ -163,7 +164,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
@@ -5117,7 +5117,7 @@ public class AbilityActivationService {
         }
 
         for (int i = 0; i < count && !hand.isEmpty(); i++) {
-            Card discarded = hand.remove(ThreadLocalRandom.current().nextInt(hand.size()));
+            Card discarded = hand.remove(GameEntropy.random().nextInt(hand.size()));
             graveyardService.addCardToGraveyard(gameData, playerId, discarded);
             gameData.discardCausedByOpponent = false;
             collectDiscardTriggersAsAbilityCost(gameData, playerId, discarded);
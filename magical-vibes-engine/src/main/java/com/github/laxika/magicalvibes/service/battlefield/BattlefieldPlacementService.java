@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.battlefield;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentAction;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentActionKind;
 import com.github.laxika.magicalvibes.model.Card;
@@ -451,7 +452,7 @@ public class BattlefieldPlacementService {
             permanent.getTransientColors().clear();
             permanent.getTransientColors().addAll(colors);
             permanent.setColorOverridden(true);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     permanent.getCard().getName(), null, controllerId, new SetTargetColorEffect(color),
                     permanent.getId(), null, null, EffectDuration.PERMANENT, 0));
         }
@@ -460,7 +461,7 @@ public class BattlefieldPlacementService {
             permanent.getTransientColors().clear();
             permanent.getTransientColors().addAll(temporaryColors);
             permanent.setColorOverridden(true);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     permanent.getCard().getName(), null, controllerId,
                     new com.github.laxika.magicalvibes.model.effect.GrantColorUntilEndOfTurnEffect(color),
                     permanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
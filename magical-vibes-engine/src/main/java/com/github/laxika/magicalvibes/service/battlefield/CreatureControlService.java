@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.battlefield;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -73,7 +74,7 @@ public class CreatureControlService {
                                    CardEffect wrappedEffect, EffectDuration duration,
                                    UUID sourcePermanentId, String sourceCardName) {
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), sourceCardName, sourcePermanentId, newControllerId,
+                GameEntropy.newId(), sourceCardName, sourcePermanentId, newControllerId,
                 wrappedEffect, target.getId(), null, null, duration, 0));
         recomputeControl(gameData, target);
     }
@@ -269,7 +270,7 @@ public class CreatureControlService {
             if (!present) {
                 UUID auraController = gameData.findControllerOf(aura);
                 gameData.addFloatingEffect(new FloatingContinuousEffect(
-                        UUID.randomUUID(), aura.getCard().getName(), aura.getId(), auraController,
+                        GameEntropy.newId(), aura.getCard().getName(), aura.getId(), auraController,
                         new ControlEnchantedCreatureEffect(), enchanted.getId(), null, null,
                         EffectDuration.WHILE_ATTACHED, 0));
             }
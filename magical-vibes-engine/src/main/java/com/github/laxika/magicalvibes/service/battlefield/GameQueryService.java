@@ -18,6 +18,7 @@ import com.github.laxika.magicalvibes.model.TargetSpellDamagePreventionShield;
 import com.github.laxika.magicalvibes.model.TurnStep;
 import com.github.laxika.magicalvibes.model.Zone;
 import com.github.laxika.magicalvibes.model.TextReplacement;
+import com.github.laxika.magicalvibes.model.ZoneLocationIndex;
 import com.github.laxika.magicalvibes.model.effect.ActivatedAbilitiesOfChosenNameCantBeActivatedEffect;
 import com.github.laxika.magicalvibes.model.effect.ActivatedAbilitiesOfMatchingPermanentsCantBeActivatedEffect;
 import com.github.laxika.magicalvibes.model.effect.ActivatedAbilityTimingEffect;
@@ -255,6 +256,12 @@ public class GameQueryService {
 
     private final StaticEffectHandlerRegistry staticEffectRegistry;
 
+    /**
+     * Answers the "does anyone control an X effect" questions from a per-game index. Sources whose
+     * abilities are gone are dropped inside the index, through {@link #abilitiesRemoved}.
+     */
+    private final StaticEffectIndex staticEffectIndex = new StaticEffectIndex(this::abilitiesRemoved);
+
     /**
      * The CR 613 layered engine: computes the whole-battlefield layer-4 (type-changing) pass
      * whose {@code CharacteristicState}s the legacy layer 5-7 accumulator below reads its
@@ -340,27 +347,13 @@ public class GameQueryService {
     // --- Lookup helpers ---
 
     private <T> T findInBattlefields(GameData gameData, UUID id, BiFunction<UUID, Permanent, T> mapper) {
-        if (id == null) return null;
-        for (UUID playerId : gameData.orderedPlayerIds) {
-            List<Permanent> bf = gameData.playerBattlefields.get(playerId);
-            if (bf == null) continue;
-            for (Permanent p : bf) {
-                if (p.getId().equals(id)) return mapper.apply(playerId, p);
-            }
-        }
-        return null;
+        ZoneLocationIndex.Location<Permanent> location = gameData.locatePermanent(id);
+        return location == null ? null : mapper.apply(location.playerId(), location.element());
     }
 
     private <T> T findInGraveyards(GameData gameData, UUID id, BiFunction<UUID, Card, T> mapper) {
-        if (id == null) return null;
-        for (UUID playerId : gameData.orderedPlayerIds) {
-            List<Card> gy = gameData.playerGraveyards.get(playerId);
-            if (gy == null) continue;
-            for (Card c : gy) {
-                if (c.getId().equals(id)) return mapper.apply(playerId, c);
-            }
-        }
-        return null;
+        ZoneLocationIndex.Location<Card> location = gameData.locateGraveyardCard(id);
+        return location == null ? null : mapper.apply(location.playerId(), location.element());
     }
 
     private boolean hasCardType(Card card, CardType type) {
@@ -391,14 +384,7 @@ public class GameQueryService {
     }
 
     private boolean playerBattlefieldHasStaticEffect(GameData gameData, UUID playerId, Class<? extends CardEffect> effectType) {
-        List<Permanent> bf = gameData.playerBattlefields.get(playerId);
-        if (bf == null) return false;
-        for (Permanent perm : bf) {
-            if (perm.getCard().getEffects(EffectSlot.STATIC).stream().anyMatch(effectType::isInstance)) {
-                return true;
-            }
-        }
-        return false;
+        return staticEffectIndex.controls(gameData, playerId, effectType);
     }
 
     /**
@@ -406,22 +392,20 @@ public class GameQueryService {
      * player controls a permanent whose STATIC slot grants them {@code keyword}.
      */
     private boolean playerBattlefieldGrantsControllerKeyword(GameData gameData, UUID playerId, Keyword keyword) {
-        List<Permanent> bf = gameData.playerBattlefields.get(playerId);
-        if (bf == null) return false;
-        for (Permanent perm : bf) {
-            for (CardEffect effect : perm.getCard().getEffects(EffectSlot.STATIC)) {
-                GrantControllerKeywordEffect grant = null;
-                if (effect instanceof GrantControllerKeywordEffect directGrant) {
-                    grant = directGrant;
-                } else if (effect instanceof ConditionalEffect conditional
-                        && conditional.wrapped() instanceof GrantControllerKeywordEffect conditionalGrant
-                        && conditionEvaluationService.isMet(gameData, conditional.condition(),
-                        ConditionContext.forStaticEffect(perm, playerId))) {
-                    grant = conditionalGrant;
-                }
-                if (grant != null && grant.keyword() == keyword) {
-                    return true;
-                }
+        for (StaticEffectIndex.Source source : staticEffectIndex.sources(gameData, GrantControllerKeywordEffect.class)) {
+            if (source.controllerId().equals(playerId)
+                    && ((GrantControllerKeywordEffect) source.effect()).keyword() == keyword) {
+                return true;
+            }
+        }
+        for (StaticEffectIndex.Source source : staticEffectIndex.sources(gameData, ConditionalEffect.class)) {
+            if (source.controllerId().equals(playerId)
+                    && source.effect() instanceof ConditionalEffect conditional
+                    && conditional.wrapped() instanceof GrantControllerKeywordEffect grant
+                    && grant.keyword() == keyword
+                    && conditionEvaluationService.isMet(gameData, conditional.condition(),
+                    ConditionContext.forStaticEffect(source.permanent(), playerId))) {
+                return true;
             }
         }
         return false;
@@ -438,20 +422,19 @@ public class GameQueryService {
         if (hasAuraWithEffect(gameData, permanent, EnchantedCreatureCantTransformEffect.class)) {
             return true;
         }
-        UUID controllerId = findPermanentController(gameData, permanent.getId());
-        if (controllerId == null) {
+        List<StaticEffectIndex.Source> preventers = staticEffectIndex.sources(gameData, PreventTransformEffect.class);
+        if (preventers.isEmpty()) {
             return false;
         }
-        List<Permanent> battlefield = gameData.playerBattlefields.get(controllerId);
-        if (battlefield == null) {
+        UUID controllerId = findPermanentController(gameData, permanent.getId());
+        if (controllerId == null) {
             return false;
         }
-        for (Permanent source : battlefield) {
-            for (CardEffect effect : source.getCard().getEffects(EffectSlot.STATIC)) {
-                if (effect instanceof PreventTransformEffect prevent
-                        && predicateEvaluationService.matchesPermanentPredicate(gameData, permanent, prevent.filter())) {
-                    return true;
-                }
+        for (StaticEffectIndex.Source source : preventers) {
+            if (source.controllerId().equals(controllerId)
+                    && predicateEvaluationService.matchesPermanentPredicate(
+                    gameData, permanent, ((PreventTransformEffect) source.effect()).filter())) {
+                return true;
             }
         }
         return false;
@@ -501,19 +484,23 @@ public class GameQueryService {
 
     private boolean losesSupertypeFromGlobalStaticEffect(
             GameData gameData, Permanent permanent, CardSupertype supertype) {
-        return gameData.anyPermanentMatches(source -> source.getCard().getEffects(EffectSlot.STATIC).stream()
-                .anyMatch(effect -> effect instanceof PermanentsMatchingLoseSupertypeEffect lose
-                        && lose.supertype() == supertype
-                        && (isStaticEvaluationActive()
-                        ? predicateEvaluationService.matchesStaticFilter(
-                                permanent, lose.filter(), FilterContext.of(gameData))
-                        : predicateEvaluationService.matchesPermanentPredicate(
-                                gameData, permanent, lose.filter()))));
+        for (StaticEffectIndex.Source source
+                : staticEffectIndex.sources(gameData, PermanentsMatchingLoseSupertypeEffect.class)) {
+            PermanentsMatchingLoseSupertypeEffect lose = (PermanentsMatchingLoseSupertypeEffect) source.effect();
+            if (lose.supertype() == supertype
+                    && (isStaticEvaluationActive()
+                    ? predicateEvaluationService.matchesStaticFilter(
+                            permanent, lose.filter(), FilterContext.of(gameData))
+                    : predicateEvaluationService.matchesPermanentPredicate(
+                            gameData, permanent, lose.filter()))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean anyBattlefieldHasStaticEffect(GameData gameData, Class<? extends CardEffect> effectType) {
-        return gameData.anyPermanentMatches(p ->
-                p.getCard().getEffects(EffectSlot.STATIC).stream().anyMatch(effectType::isInstance));
+        return staticEffectIndex.present(gameData, effectType);
     }
 
     // --- Permanent / Card lookups ---
@@ -606,12 +593,14 @@ public class GameQueryService {
                 || card.hasType(CardType.LAND)) {
             return false;
         }
-        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
-        if (battlefield == null) return false;
-        return battlefield.stream()
-                .flatMap(permanent -> permanent.getCard().getEffects(EffectSlot.STATIC).stream())
-                .anyMatch(effect -> effect instanceof GrantCardTypeToOwnNonlandPermanentsEffect grant
-                        && grant.cardType() == type);
+        for (StaticEffectIndex.Source source
+                : staticEffectIndex.sources(gameData, GrantCardTypeToOwnNonlandPermanentsEffect.class)) {
+            if (source.controllerId().equals(playerId)
+                    && ((GrantCardTypeToOwnNonlandPermanentsEffect) source.effect()).cardType() == type) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // --- Arcane Adaptation / all-zone subtype grants ---
@@ -1042,17 +1031,12 @@ public class GameQueryService {
                 || !hasEffectiveSupertype(gameData, permanent, CardSupertype.BASIC)) {
             return false;
         }
-        UUID controllerId = findPermanentController(gameData, permanent.getId());
-        if (controllerId == null) {
+        if (!staticEffectIndex.present(gameData, BasicLandManaProducesAnyColorEffect.class)) {
             return false;
         }
-        List<Permanent> battlefield = gameData.playerBattlefields.get(controllerId);
-        if (battlefield == null) {
-            return false;
-        }
-        return battlefield.stream()
-                .flatMap(source -> source.getCard().getEffects(EffectSlot.STATIC).stream())
-                .anyMatch(BasicLandManaProducesAnyColorEffect.class::isInstance);
+        UUID controllerId = findPermanentController(gameData, permanent.getId());
+        return controllerId != null
+                && staticEffectIndex.controls(gameData, controllerId, BasicLandManaProducesAnyColorEffect.class);
     }
 
     /**
@@ -1085,11 +1069,8 @@ public class GameQueryService {
      * for graveyards, Grafdigger's Cage for graveyards and libraries).
      */
     public boolean canPlayersCastSpellsFromZone(GameData gameData, Zone zone) {
-        return !gameData.anyPermanentMatches(p ->
-                p.getCard().getEffects(EffectSlot.STATIC).stream()
-                        .filter(PlayersCantCastSpellsFromZonesEffect.class::isInstance)
-                        .map(PlayersCantCastSpellsFromZonesEffect.class::cast)
-                        .anyMatch(e -> e.zones().contains(zone)));
+        return staticEffectIndex.sources(gameData, PlayersCantCastSpellsFromZonesEffect.class).stream()
+                .noneMatch(source -> ((PlayersCantCastSpellsFromZonesEffect) source.effect()).zones().contains(zone));
     }
 
     /**
@@ -1103,11 +1084,8 @@ public class GameQueryService {
         if (card.hasType(CardType.CREATURE)) {
             return true;
         }
-        return !gameData.anyPermanentMatches(p ->
-                p.getCard().getEffects(EffectSlot.STATIC).stream()
-                        .filter(NoncreatureSpellsCantBeCastFromZonesEffect.class::isInstance)
-                        .map(NoncreatureSpellsCantBeCastFromZonesEffect.class::cast)
-                        .anyMatch(e -> e.zones().contains(zone)));
+        return staticEffectIndex.sources(gameData, NoncreatureSpellsCantBeCastFromZonesEffect.class).stream()
+                .noneMatch(source -> ((NoncreatureSpellsCantBeCastFromZonesEffect) source.effect()).zones().contains(zone));
     }
 
     /**
@@ -1118,11 +1096,14 @@ public class GameQueryService {
      * cards) entering from a blocked zone are stopped.
      */
     public boolean isCardBlockedFromEnteringFromZone(GameData gameData, Card card, Zone zone) {
-        return gameData.anyPermanentMatches(p ->
-                p.getCard().getEffects(EffectSlot.STATIC).stream()
-                        .filter(CardsCantEnterBattlefieldFromZonesEffect.class::isInstance)
-                        .map(CardsCantEnterBattlefieldFromZonesEffect.class::cast)
-                        .anyMatch(e -> e.zones().contains(zone) && predicateEvaluationService.matchesCardPredicate(card, e.filter(), null)));
+        for (StaticEffectIndex.Source source
+                : staticEffectIndex.sources(gameData, CardsCantEnterBattlefieldFromZonesEffect.class)) {
+            CardsCantEnterBattlefieldFromZonesEffect cage = (CardsCantEnterBattlefieldFromZonesEffect) source.effect();
+            if (cage.zones().contains(zone) && predicateEvaluationService.matchesCardPredicate(card, cage.filter(), null)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -1166,23 +1147,35 @@ public class GameQueryService {
 
     private boolean opponentControlsActiveStaticEffect(GameData gameData, UUID playerId,
                                                         Class<? extends CardEffect> effectType) {
-        for (Map.Entry<UUID, List<Permanent>> entry : gameData.playerBattlefields.entrySet()) {
-            if (entry.getKey().equals(playerId) || entry.getValue() == null) {
-                continue;
-            }
-            for (Permanent permanent : entry.getValue()) {
-                if (permanent.isLosesAllAbilitiesUntilEndOfTurn()
-                        || computeStaticBonus(gameData, permanent).losesAllAbilities()) {
-                    continue;
-                }
-                if (permanent.getCard().getEffects(EffectSlot.STATIC).stream().anyMatch(effectType::isInstance)) {
-                    return true;
-                }
+        for (StaticEffectIndex.Source source : staticEffectIndex.sources(gameData, effectType)) {
+            if (!source.controllerId().equals(playerId)) {
+                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Whether {@code permanent}'s abilities are gone (layer 6 "loses all abilities"), for
+     * {@link StaticEffectIndex}. Inside a static evaluation the layered result is what is being
+     * built, so the state in progress is read instead of recursing into another assembly.
+     */
+    private boolean abilitiesRemoved(GameData gameData, Permanent permanent) {
+        if (permanent.isLosesAllAbilitiesUntilEndOfTurn()) {
+            return true;
+        }
+        if (isStaticEvaluationActive()) {
+            CharacteristicState state = LayerSystemService.activeStateFor(permanent.getId());
+            return state != null && state.isLosesAllAbilities();
+        }
+        return computeStaticBonus(gameData, permanent).losesAllAbilities();
+    }
+
+    /** The static effect presence index, for tests and benchmarks in this package. */
+    StaticEffectIndex staticEffectIndex() {
+        return staticEffectIndex;
+    }
+
     /**
      * Returns {@code true} if the given player may activate abilities of creatures they control as
      * though those creatures had haste (i.e. they control a permanent with
@@ -2517,15 +2510,7 @@ public class GameQueryService {
                 gameData, gameData.countersLockedPlayersWhileSourceOnBattlefield, playerId)) {
             return false;
         }
-        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
-        if (battlefield == null) return true;
-        for (Permanent p : battlefield) {
-            if (p.getCard().getEffects(EffectSlot.STATIC).stream()
-                    .anyMatch(PlayerCantGetPoisonCountersEffect.class::isInstance)) {
-                return false;
-            }
-        }
-        return true;
+        return !staticEffectIndex.controls(gameData, playerId, PlayerCantGetPoisonCountersEffect.class);
     }
 
     /**
@@ -2537,11 +2522,7 @@ public class GameQueryService {
             return 0;
         }
 
-        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
-        boolean hasMeliraReplacement = battlefield != null && battlefield.stream()
-                .anyMatch(permanent -> permanent.getCard().getEffects(EffectSlot.STATIC).stream()
-                        .anyMatch(MeliraPoisonReplacementEffect.class::isInstance));
-        if (!hasMeliraReplacement) {
+        if (!staticEffectIndex.controls(gameData, playerId, MeliraPoisonReplacementEffect.class)) {
             return amount;
         }
         return gameData.playersAffectedByMeliraPoisonReplacementThisTurn.add(playerId) ? 1 : 0;
@@ -4382,24 +4363,14 @@ public class GameQueryService {
 
     /** Whether {@code playerId} controls a permanent carrying the given STATIC-slot effect. */
     private boolean playerControlsStaticEffect(GameData gameData, UUID playerId, Class<? extends CardEffect> effectType) {
-        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
-        if (battlefield == null) {
-            return false;
-        }
-        return battlefield.stream().anyMatch(p ->
-                p.getCard().getEffects(EffectSlot.STATIC).stream().anyMatch(effectType::isInstance));
+        return staticEffectIndex.controls(gameData, playerId, effectType);
     }
 
     /** Returns the number of STATIC-slot effects of the given type controlled by a player. */
     public int countPlayerControlledStaticEffects(GameData gameData, UUID playerId,
                                                    Class<? extends CardEffect> effectType) {
-        List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
-        if (battlefield == null) {
-            return 0;
-        }
-        return (int) battlefield.stream()
-                .flatMap(permanent -> permanent.getCard().getEffects(EffectSlot.STATIC).stream())
-                .filter(effectType::isInstance)
+        return (int) staticEffectIndex.sources(gameData, effectType).stream()
+                .filter(source -> source.controllerId().equals(playerId))
                 .count();
     }
 
@@ -6938,13 +6909,7 @@ public class GameQueryService {
         if (battlefield == null) {
             return 0;
         }
-        int count = 0;
-        for (Permanent permanent : battlefield) {
-            if (predicateEvaluationService.matchesPermanentPredicate(gameData, permanent, predicate)) {
-                count++;
-            }
-        }
-        return count;
+        return predicateEvaluationService.countMatchingPermanents(gameData, battlefield, predicate);
     }
 
     public int countControlledSubtypePermanents(GameData gameData, UUID controllerId, CardSubtype subtype) {
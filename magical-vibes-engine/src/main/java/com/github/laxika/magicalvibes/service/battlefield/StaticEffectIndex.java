@@ -0,0 +1,195 @@
+package com.github.laxika.magicalvibes.service.battlefield;
+
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.ZoneStamp;
+import com.github.laxika.magicalvibes.model.effect.CardEffect;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Per-game index from STATIC-slot effect class to the permanents carrying it, so the "does anyone
+ * control an X effect" questions {@link GameQueryService} asks on every casting check, damage event
+ * and projection become an empty-list check instead of a walk over every permanent's statics.
+ *
+ * <p>The index is built from the STATIC effects printed on each permanent's current card, so copy
+ * and transform swaps (a new {@code Card}) and in-place edits of unfrozen runtime copies
+ * ({@code effectRevision}) are seen. Whether a source's abilities still work is answered on the way
+ * out: every answer drops the sources whose abilities were removed (layer 6 "loses all abilities",
+ * read through the {@code abilitiesRemoved} check its owner supplies), so {@link #sources},
+ * {@link #present} and {@link #controls} agree with each other and no caller has to remember to
+ * filter. The check runs only on matching sources, which are usually none and always few.
+ *
+ * <p>The snapshot in {@code GameData.staticEffectIndex} is kept per battlefield, each part current
+ * as long as its list's write count ({@link ZoneStamp}) has not moved: entries, exits, control
+ * changes, reorders and card swaps all move it. A battlefield that moved is re-read alone. Answers
+ * per queried effect type are memoized on the snapshot, so repeated questions between two board
+ * changes cost one count comparison per player.
+ *
+ * <p>Escape hatches: {@code -DdisableStaticEffectIndex=true} rebuilds on every read (the scan the
+ * index replaced); {@code -DverifyStaticEffectIndex=true} rebuilds on every read and fails loudly
+ * when the cached snapshot disagrees. {@link #findInconsistency} is the fuzz-test check.
+ */
+public final class StaticEffectIndex {
+
+    private static final boolean INDEX_DISABLED = Boolean.getBoolean("disableStaticEffectIndex");
+    private static final boolean VERIFY = Boolean.getBoolean("verifyStaticEffectIndex");
+
+    /** One STATIC effect on the battlefield, with the permanent printing it and that permanent's controller. */
+    public record Source(UUID controllerId, Permanent permanent, CardEffect effect) {
+    }
+
+    /** One battlefield's statics in battlefield order, as of {@code stamp}. */
+    private record BattlefieldSources(ZoneStamp stamp, List<Source> sources) {
+    }
+
+    /** One version of the index: every battlefield static in player then battlefield order, plus the per-type memo. */
+    private record Snapshot(List<UUID> playerIds, Map<UUID, BattlefieldSources> battlefields, List<Source> all,
+                            Map<Class<? extends CardEffect>, List<Source>> byType) {
+
+        List<Source> sources(Class<? extends CardEffect> effectType) {
+            return byType.computeIfAbsent(effectType, type -> {
+                List<Source> matching = new ArrayList<>();
+                for (Source source : all) {
+                    if (type.isInstance(source.effect())) {
+                        matching.add(source);
+                    }
+                }
+                return matching.isEmpty() ? List.of() : List.copyOf(matching);
+            });
+        }
+
+        /** Whether no battlefield this snapshot read has been written since. O(players). */
+        boolean isCurrent(GameData gameData) {
+            if (!playerIds.equals(gameData.orderedPlayerIds)) {
+                return false;
+            }
+            for (UUID playerId : playerIds) {
+                if (!battlefields.get(playerId).stamp().isCurrent(gameData, gameData.playerBattlefields.get(playerId))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final BiPredicate<GameData, Permanent> abilitiesRemoved;
+
+    /**
+     * @param abilitiesRemoved whether a permanent's abilities are currently gone; must not call
+     *                         back into this index for the same permanent
+     */
+    public StaticEffectIndex(BiPredicate<GameData, Permanent> abilitiesRemoved) {
+        this.abilitiesRemoved = abilitiesRemoved;
+    }
+
+    /**
+     * Every working STATIC effect of {@code effectType} (subtypes included) on any battlefield, in
+     * {@code orderedPlayerIds} then battlefield order. Usually empty.
+     */
+    public List<Source> sources(GameData gameData, Class<? extends CardEffect> effectType) {
+        List<Source> printed = snapshot(gameData).sources(effectType);
+        List<Source> working = null;
+        for (int i = 0; i < printed.size(); i++) {
+            Source source = printed.get(i);
+            if (abilitiesRemoved.test(gameData, source.permanent())) {
+                if (working == null) {
+                    working = new ArrayList<>(printed.subList(0, i));
+                }
+            } else if (working != null) {
+                working.add(source);
+            }
+        }
+        return working == null ? printed : List.copyOf(working);
+    }
+
+    /** Whether any battlefield carries a working STATIC effect of {@code effectType}. */
+    public boolean present(GameData gameData, Class<? extends CardEffect> effectType) {
+        for (Source source : snapshot(gameData).sources(effectType)) {
+            if (!abilitiesRemoved.test(gameData, source.permanent())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether {@code playerId} controls a permanent carrying a working STATIC effect of {@code effectType}. */
+    public boolean controls(GameData gameData, UUID playerId, Class<? extends CardEffect> effectType) {
+        for (Source source : snapshot(gameData).sources(effectType)) {
+            if (source.controllerId().equals(playerId) && !abilitiesRemoved.test(gameData, source.permanent())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Consistency check for the fuzz tests: the stored snapshot, when current, must equal a fresh
+     * build. Returns a description of the violation, or {@code null}.
+     */
+    public static String findInconsistency(GameData gameData) {
+        if (INDEX_DISABLED || !(gameData.staticEffectIndex instanceof Snapshot cached) || !cached.isCurrent(gameData)) {
+            return null;
+        }
+        Snapshot fresh = refresh(gameData, null);
+        return cached.all().equals(fresh.all()) ? null
+                : "invariant violated: static effect index is stale — cached " + cached.all().size()
+                + " sources, rebuilt " + fresh.all().size();
+    }
+
+    private static Snapshot snapshot(GameData gameData) {
+        if (INDEX_DISABLED) {
+            return refresh(gameData, null);
+        }
+        Snapshot cached = gameData.staticEffectIndex instanceof Snapshot stored ? stored : null;
+        Snapshot current = cached != null && cached.isCurrent(gameData) ? cached : refresh(gameData, cached);
+        if (VERIFY) {
+            Snapshot fresh = refresh(gameData, null);
+            if (!current.all().equals(fresh.all())) {
+                throw new IllegalStateException("Static effect index diverged from a rebuild: cached "
+                        + current.all().size() + " sources, rebuilt " + fresh.all().size());
+            }
+        }
+        if (current != cached) {
+            gameData.staticEffectIndex = current;
+        }
+        return current;
+    }
+
+    /** A snapshot of the battlefields as they are now, reusing every part of {@code previous} still current. */
+    private static Snapshot refresh(GameData gameData, Snapshot previous) {
+        List<UUID> playerIds = List.copyOf(gameData.orderedPlayerIds);
+        Map<UUID, BattlefieldSources> battlefields = new HashMap<>();
+        List<Source> all = new ArrayList<>();
+        for (UUID playerId : playerIds) {
+            List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+            BattlefieldSources sources = previous == null ? null : previous.battlefields().get(playerId);
+            if (sources == null || !sources.stamp().isCurrent(gameData, battlefield)) {
+                sources = readBattlefield(gameData, playerId, battlefield);
+            }
+            battlefields.put(playerId, sources);
+            all.addAll(sources.sources());
+        }
+        return new Snapshot(playerIds, battlefields, List.copyOf(all), new ConcurrentHashMap<>());
+    }
+
+    private static BattlefieldSources readBattlefield(GameData gameData, UUID playerId, List<Permanent> battlefield) {
+        ZoneStamp stamp = ZoneStamp.of(gameData, battlefield);
+        List<Source> sources = new ArrayList<>();
+        if (battlefield != null) {
+            for (Permanent permanent : List.copyOf(battlefield)) {
+                for (CardEffect effect : permanent.getCard().getEffects(EffectSlot.STATIC)) {
+                    sources.add(new Source(playerId, permanent, effect));
+                }
+            }
+        }
+        return new BattlefieldSources(stamp, List.copyOf(sources));
+    }
+}
@@ -121,8 +121,9 @@ public class ManaChoiceNarrowingService {
             if (hand == null || index < 0 || index >= hand.size()) {
                 return null;
             }
-            return gameActionAvailabilityService.isCardPlayable(
-                    gameData, playerId, hand.get(index), pool, intent.announcedX());
+            Card card = hand.get(index);
+            return ManaPaymentSolver.forPool(pool).canPay(candidate -> gameActionAvailabilityService
+                    .isCardPlayable(gameData, playerId, card, candidate, intent.announcedX()));
         }
         if (!intent.isAbility()) {
             return null;
@@ -148,8 +149,10 @@ public class ManaChoiceNarrowingService {
         Set<CardSubtype> subtypeContext = new HashSet<>(source.getCard().getSubtypes());
         subtypeContext.addAll(source.getTransientSubtypes());
         subtypeContext.addAll(source.getGrantedSubtypes());
-        return new ManaCost(abilityCost).canPay(pool, 0, artifactContext, myrContext, false, false,
-                false, null, subtypeContext, false, artifactContext);
+        ManaCost cost = new ManaCost(abilityCost);
+        return ManaPaymentSolver.forPool(pool).canPay(candidate -> cost.canPay(candidate, 0,
+                artifactContext, myrContext, false, false, false, null, subtypeContext, false,
+                artifactContext));
     }
 
     /**
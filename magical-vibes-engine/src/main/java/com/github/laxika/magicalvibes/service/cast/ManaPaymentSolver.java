@@ -0,0 +1,123 @@
+package com.github.laxika.magicalvibes.service.cast;
+
+import com.github.laxika.magicalvibes.model.ManaCost;
+import com.github.laxika.magicalvibes.model.ManaPool;
+import com.github.laxika.magicalvibes.model.VirtualManaPool;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Exact payability against a potential pool from {@link PotentialManaService#buildVirtualManaPool}.
+ *
+ * <p>The virtual pool books every output of a source with mutually exclusive outputs (duals, pain
+ * lands, "any color" producers) and corrects the totals in aggregate, which is an upper bound: it
+ * can call a cost payable that no actual choice of taps pays (a Taiga and a Plains for
+ * {@code {R}{G}}). This solver keeps the cheap check as a filter — a "no" from the virtual pool is
+ * final — and confirms every "yes" against the concrete pools the sources can really produce
+ * ({@link VirtualManaPool#realisations}). Checking a concrete pool goes through the same
+ * {@link ManaCost#canPay} family as a real payment, so every restricted bucket, spend-as effect and
+ * hybrid/Phyrexian rule applies unchanged.
+ *
+ * <p>One instance serves a batch of checks against one pool (a hand, a battlefield's abilities):
+ * the realisations are expanded once, on the first check that needs them. When the pool would
+ * expand into more than {@link #MAX_REALISATIONS} distinct pools each check searches the choices
+ * depth-first instead ({@link VirtualManaPool#findRealisation}), stopping at the first paying pool;
+ * a search that runs past {@link #SEARCH_BUDGET} answers "no" — an unconfirmed cost is never
+ * offered. {@code -DdisableExactPotentialMana=true} answers with the virtual pool alone.
+ *
+ * <p>The solver is the source set, so answers are memoized per cost on it: {@link #canPay(Object,
+ * Predicate)} takes a key for checks that depend on nothing but the pool and that key (an
+ * ability's mana cost and its source context), and a battlefield full of the same cost pays for
+ * one check.
+ */
+public final class ManaPaymentSolver {
+
+    private static final boolean EXACT_DISABLED = Boolean.getBoolean("disableExactPotentialMana");
+
+    /** Distinct concrete pools worth checking; a board of five "any color" creatures stays under it. */
+    static final int MAX_REALISATIONS = 256;
+
+    /** Partial choices one search above {@link #MAX_REALISATIONS} may try before it answers "no". */
+    static final int SEARCH_BUDGET = 16_384;
+
+    private final VirtualManaPool pool;
+    private final Map<Object, Boolean> answers = new HashMap<>();
+    private List<VirtualManaPool.Realisation> realisations;
+    private boolean expanded;
+
+    private ManaPaymentSolver(VirtualManaPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * A solver for {@code pool}. The pool must not be mutated while the solver is in use — set
+     * spend-as flags and promote ability-only mana first.
+     */
+    public static ManaPaymentSolver forPool(VirtualManaPool pool) {
+        return new ManaPaymentSolver(pool);
+    }
+
+    /** Whether some realisable choice of taps pays what {@code payable} asks for. */
+    public boolean canPay(Predicate<ManaPool> payable) {
+        return payable.test(pool) && confirm(payable);
+    }
+
+    /**
+     * {@link #canPay} memoized under {@code costKey}. The key must capture everything
+     * {@code payable} depends on besides the pool; the first answer for it is reused.
+     */
+    public boolean canPay(Object costKey, Predicate<ManaPool> payable) {
+        Boolean known = answers.get(costKey);
+        if (known == null) {
+            known = canPay(payable);
+            answers.put(costKey, known);
+        }
+        return known;
+    }
+
+    /**
+     * {@link #canPay} for a caller that has already seen {@code payable} accept the virtual pool
+     * itself (a batch filtered against it first).
+     */
+    public boolean confirm(Predicate<ManaPool> payable) {
+        if (EXACT_DISABLED || !pool.hasChoiceSources()) {
+            return true;
+        }
+        return firstPaying(payable) != null;
+    }
+
+    /**
+     * The first realisation that pays, with the output to pick from each choice source — the tap
+     * plan. A pool without choice sources pays as it stands, with no picks. Empty when nothing
+     * pays, and also when the search over a pool too large to expand gave up.
+     */
+    public Optional<VirtualManaPool.Realisation> findPayment(Predicate<ManaPool> payable) {
+        if (!payable.test(pool)) {
+            return Optional.empty();
+        }
+        if (!pool.hasChoiceSources()) {
+            return Optional.of(new VirtualManaPool.Realisation(pool, List.of()));
+        }
+        return Optional.ofNullable(firstPaying(payable));
+    }
+
+    private VirtualManaPool.Realisation firstPaying(Predicate<ManaPool> payable) {
+        if (!expanded) {
+            expanded = true;
+            realisations = pool.realisations(MAX_REALISATIONS);
+        }
+        if (realisations == null) {
+            return pool.findRealisation(payable, SEARCH_BUDGET);
+        }
+        for (VirtualManaPool.Realisation realisation : realisations) {
+            if (payable.test(realisation.pool())) {
+                return realisation;
+            }
+        }
+        return null;
+    }
+}
@@ -24,6 +24,7 @@ import com.github.laxika.magicalvibes.model.effect.ManaProducingEffect;
 import com.github.laxika.magicalvibes.model.effect.ManaSpendRestriction;
 import com.github.laxika.magicalvibes.service.ability.AbilityActivationService;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import com.github.laxika.magicalvibes.service.effect.LayerSystemService;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
@@ -47,6 +48,9 @@ import java.util.UUID;
  * generic cost against this pool would otherwise be promised mana that cost can never spend.
  * {@code GameActionAvailabilityService.getPotentialPlayableCardIndices} closes that gap the honest
  * way, by unioning with the strictly-affordable indices computed from the real pool.
+ *
+ * <p>The pool is an upper bound across sources with exclusive outputs; pair it with
+ * {@link ManaPaymentSolver} for an exact answer.
  */
 @Component
 public class PotentialManaService {
@@ -58,6 +62,9 @@ public class PotentialManaService {
      */
     private static final ManaPool NO_MANA_AVAILABLE = new ManaPool();
 
+    /** Escape hatch: {@code -DdisablePotentialManaMemo=true} rebuilds every virtual pool. */
+    private static final boolean MEMO_DISABLED = Boolean.getBoolean("disablePotentialManaMemo");
+
     private final GameQueryService gameQueryService;
     /**
      * The authority on activation legality. Injected {@code @Lazy} because the edge closes a
@@ -84,6 +91,30 @@ public class PotentialManaService {
      * is tapped by the activation itself, so its mana can never help pay that cost.
      */
     public VirtualManaPool buildVirtualManaPool(GameData gameData, UUID playerId, UUID excludedPermanentId) {
+        // A projection asks for the same pools several times (playable hand, mana total, payable
+        // abilities, once more per {T}-ability source); inside one query scope the board cannot
+        // change, so build each once. Callers mutate what they get (promoteAbilityOnlyMana,
+        // spend-as flags), hence the copy.
+        LayerSystemService.Pass pass = LayerSystemService.activePass();
+        if (MEMO_DISABLED || pass == null || pass.gameData() != gameData || !pass.isBoardReady()) {
+            return computeVirtualManaPool(gameData, playerId, excludedPermanentId);
+        }
+        PotentialPoolKey key = new PotentialPoolKey(playerId, excludedPermanentId);
+        VirtualManaPool memoized;
+        if (pass.queryMemo().get(key) instanceof VirtualManaPool cached) {
+            memoized = cached;
+        } else {
+            memoized = computeVirtualManaPool(gameData, playerId, excludedPermanentId);
+            pass.queryMemo().put(key, memoized);
+        }
+        return new VirtualManaPool(memoized);
+    }
+
+    /** Query-scope memo key for {@link #buildVirtualManaPool(GameData, UUID, UUID)}. */
+    private record PotentialPoolKey(UUID playerId, UUID excludedPermanentId) {
+    }
+
+    private VirtualManaPool computeVirtualManaPool(GameData gameData, UUID playerId, UUID excludedPermanentId) {
         VirtualManaPool virtual = new VirtualManaPool();
 
         ManaPool current = gameData.playerManaPools.get(playerId);
@@ -362,6 +393,7 @@ public class PotentialManaService {
 
         int creatureManaAdded = 0;
         int maxCreatureManaOption = 0;
+        List<EnumMap<ManaColor, Integer>> bookedOptions = new ArrayList<>();
 
         List<ActivatedAbility> abilities = activatedAbilitiesFor(gameData, permanent, card);
         for (int abilityIndex = 0; abilityIndex < abilities.size(); abilityIndex++) {
@@ -371,6 +403,7 @@ public class PotentialManaService {
             }
 
             for (EnumMap<ManaColor, Integer> abilityByColor : manaOptionsFor(ability, permanent, gameData)) {
+                bookedOptions.add(abilityByColor);
                 int abilityTotal = 0;
                 for (Map.Entry<ManaColor, Integer> e : abilityByColor.entrySet()) {
                     ManaColor color = e.getKey();
@@ -410,6 +443,9 @@ public class PotentialManaService {
                 }
             }
             vmp.addCreatureManaOvercount(creatureManaAdded - maxCreatureManaOption);
+            boolean snow = permanent != null
+                    && gameQueryService.hasEffectiveSupertype(gameData, permanent, CardSupertype.SNOW);
+            vmp.recordChoiceSource(permanent == null ? null : permanent.getId(), bookedOptions, isCreature, snow);
         }
     }
 
@@ -474,6 +510,11 @@ public class PotentialManaService {
             if (isCreature) {
                 vmp.addCreatureManaOvercount(overcount);
             }
+            List<Map<ManaColor, Integer>> options = new ArrayList<>();
+            for (ManaColor color : ManaColor.COLORS) {
+                options.add(Map.of(color, amount));
+            }
+            vmp.recordChoiceSource(null, options, isCreature, false);
         }
     }
 
@@ -682,6 +723,11 @@ public class PotentialManaService {
             if (isCreature) {
                 vmp.addCreatureManaOvercount(amount * (twisted.size() - 1));
             }
+            List<Map<ManaColor, Integer>> options = new ArrayList<>();
+            for (ManaColor color : twisted) {
+                options.add(Map.of(color, amount));
+            }
+            vmp.recordChoiceSource(null, options, isCreature, false);
         }
     }
 
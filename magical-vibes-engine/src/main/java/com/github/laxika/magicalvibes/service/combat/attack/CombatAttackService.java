@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.combat.attack;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.service.GameLogService;
 
 import com.github.laxika.magicalvibes.model.CombatAttackTarget;
@@ -714,7 +715,7 @@ public class CombatAttackService {
         // Assign band membership (CR 702.22): every member of a band shares one band id, which
         // persists for the rest of combat even if banding is later removed (CR 702.22e).
         for (Set<Integer> band : validatedBands) {
-            UUID bandId = UUID.randomUUID();
+            UUID bandId = GameEntropy.newId();
             for (int idx : band) {
                 battlefield.get(idx).setBandId(bandId);
             }
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
@@ -131,7 +132,7 @@ public class AuraCopyService {
         permanentCopierService.applyCloneCopy(affected, chosen, null, null);
         affected.setCopyWhileAttached(true);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), source.getCard().getName(), source.getId(),
+                GameEntropy.newId(), source.getCard().getName(), source.getId(),
                 gameQueryService.findPermanentController(gameData, source.getId()),
                 floatingEffect, affected.getId(), null, null,
                 EffectDuration.WHILE_ATTACHED, 0));
@@ -151,7 +152,7 @@ public class AuraCopyService {
         permanentCopierService.applyCloneCopy(attached, exiledCreature, null, null, java.util.Set.of());
         attached.setCopyWhileAttached(true);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), equipment.getCard().getName(), equipment.getId(),
+                GameEntropy.newId(), equipment.getCard().getName(), equipment.getId(),
                 gameQueryService.findPermanentController(gameData, equipment.getId()),
                 new AttachedCreatureIsCopyOfExiledCreatureEffect(), attached.getId(), null, null,
                 EffectDuration.WHILE_ATTACHED, 0));
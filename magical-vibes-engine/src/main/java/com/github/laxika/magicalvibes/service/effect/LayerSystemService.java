@@ -9,6 +9,7 @@ import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.ExiledCardEntry;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.TextReplacement;
@@ -353,8 +354,11 @@ public class LayerSystemService {
         private final Pass parent;
         private LayeredBoardState board;
         private boolean boardReady;
+        /** Set while building when anything read tap or combat state (see {@link #noteTapOrCombatStateRead}). */
+        private boolean readsTapOrCombatState;
         private final Map<UUID, GameQueryService.StaticBonus> bonusMemo = new HashMap<>();
         private final Map<UUID, GameQueryService.StaticBonus> preliminaryBonusMemo = new HashMap<>();
+        private final Map<Object, Object> queryMemo = new HashMap<>();
 
         private Pass(GameData gameData, Pass parent) {
             this.gameData = gameData;
@@ -389,6 +393,16 @@ public class LayerSystemService {
         public Map<UUID, GameQueryService.StaticBonus> preliminaryBonusMemo() {
             return preliminaryBonusMemo;
         }
+
+        /**
+         * Memo for derived read-only answers other services compute on top of the finished board
+         * (e.g. {@code PotentialManaService}'s virtual pools), keyed by a record of the service's
+         * choosing. Valid for exactly as long as {@link #bonusMemo}: the pass's queries do not
+         * mutate game state.
+         */
+        public Map<Object, Object> queryMemo() {
+            return queryMemo;
+        }
     }
 
     /**
@@ -418,6 +432,21 @@ public class LayerSystemService {
         return false;
     }
 
+    /**
+     * Records that the board being built depends on tap or combat state — a tapped/attacking/
+     * blocking filter leaf or a tapped-creatures scope. Boards built without such a read are
+     * reused across tap and combat changes (see {@link #beginPass}); the read sites that the
+     * layer pass can reach call this, so a new one must too. Marks every pass still building
+     * its board, since a nested build feeds the outer one.
+     */
+    public static void noteTapOrCombatStateRead() {
+        for (Pass pass = ACTIVE_PASS.get(); pass != null; pass = pass.parent) {
+            if (!pass.boardReady) {
+                pass.readsTapOrCombatState = true;
+            }
+        }
+    }
+
     /** Returns the active pass for the given game state on this thread, or {@code null}. */
     public Pass activePass(GameData gameData) {
         Pass pass = ACTIVE_PASS.get();
@@ -432,8 +461,19 @@ public class LayerSystemService {
      * write; a finished {@link LayeredBoardState} is never mutated again, so it is safe to
      * share across queries and threads. AI simulation copies get a fresh {@code GameData}
      * whose slot starts {@code null} — real game and simulation never share a board.
+     *
+     * <p>Tap and combat state are kept out of the structural fingerprint: only a board whose
+     * computation read them ({@code readsTapOrCombatState}) also has to match
+     * {@code tapAndCombatFingerprint}, so tapping a land or declaring attackers keeps a board
+     * that no tapped/attacking/blocking filter looked at.
      */
-    private record BoardCache(long fingerprint, LayeredBoardState board) {
+    private record BoardCache(long fingerprint, boolean readsTapOrCombatState,
+                              long tapAndCombatFingerprint, LayeredBoardState board) {
+
+        boolean matches(long fingerprint, GameData gameData) {
+            return this.fingerprint == fingerprint
+                    && (!readsTapOrCombatState || tapAndCombatFingerprint == computeTapAndCombatFingerprint(gameData));
+        }
     }
 
     /** Escape hatch: {@code -DdisableLayerBoardCache=true} turns the cross-query board cache
@@ -441,6 +481,10 @@ public class LayerSystemService {
      *  {@code LayerPassBenchmarkTest} to measure before/after from one build. */
     private static final boolean CACHE_DISABLED = Boolean.getBoolean("disableLayerBoardCache");
 
+    /** Test mode: {@code -DverifyIncrementalLayers=true} reruns the full pass on every board
+     *  cache hit and fails loudly when the reused board differs from it. */
+    private static final boolean VERIFY_INCREMENTAL = Boolean.getBoolean("verifyIncrementalLayers");
+
     /**
      * Registers a pass for the given game state on this thread and provides its layered board:
      * reused from the {@code GameData}-level cache when the board fingerprint is unchanged
@@ -457,11 +501,17 @@ public class LayerSystemService {
             } else {
                 long fingerprint = computeBoardFingerprint(gameData);
                 if (gameData.layeredBoardCache instanceof BoardCache cached
-                        && cached.fingerprint() == fingerprint) {
+                        && cached.matches(fingerprint, gameData)) {
                     pass.board = cached.board();
+                    if (VERIFY_INCREMENTAL) {
+                        verifyAgainstFullPass(gameData, cached.board());
+                    }
                 } else {
                     computeBoardState(gameData, pass);
-                    gameData.layeredBoardCache = new BoardCache(fingerprint, pass.board);
+                    boolean readsTapOrCombatState = pass.readsTapOrCombatState;
+                    gameData.layeredBoardCache = new BoardCache(fingerprint, readsTapOrCombatState,
+                            readsTapOrCombatState ? computeTapAndCombatFingerprint(gameData) : 0,
+                            pass.board);
                 }
             }
             pass.boardReady = true;
@@ -551,6 +601,43 @@ public class LayerSystemService {
         return copy;
     }
 
+    /**
+     * The {@code verifyIncrementalLayers} oracle: recomputes the board from scratch in a
+     * throwaway nested pass and compares every finished characteristic with the reused one.
+     */
+    private void verifyAgainstFullPass(GameData gameData, LayeredBoardState reused) {
+        Pass oracle = new Pass(gameData, ACTIVE_PASS.get());
+        ACTIVE_PASS.set(oracle);
+        try {
+            computeBoardState(gameData, oracle);
+        } finally {
+            endPass(oracle);
+        }
+        Object expected = boardSignature(oracle.board);
+        Object actual = boardSignature(reused);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Reused layered board of game " + gameData.id
+                    + " differs from a full pass: expected " + expected + " but was " + actual);
+        }
+    }
+
+    /** The finished, comparable content of a board — what queries and the assembly read from it. */
+    private static List<Object> boardSignature(LayeredBoardState board) {
+        Map<UUID, List<Object>> states = new HashMap<>();
+        board.states().forEach((id, state) -> states.put(id, List.of(
+                String.valueOf(state.getName()), state.getCardTypes(), state.getSupertypes(),
+                state.getSubtypes(), state.getColors(), state.getKeywords(), state.getBlockedKeywords(),
+                state.getProtectionColors(), state.getGrantedActivatedAbilities().size(),
+                state.getGrantedStaticEffects().size(), state.getBasePower(), state.getBaseToughness(),
+                state.getPowerDelta(), state.getToughnessDelta(), state.getSwitchCount(),
+                state.isLosesAllAbilities(), state.isLosesAllNonManaAbilities(),
+                state.isPrintedAbilitiesRemoved())));
+        return List.of(states, board.landTypeOverrides(), board.marchAnimatedIds(),
+                board.starfieldAnimatedIds(), board.opalescenceAnimatedIds(), board.managedL4Effects(),
+                board.l4Contributions(), board.managedL56Effects(), board.l56Touched(),
+                board.basePt7b(), board.switchedPt7d());
+    }
+
     public void endPass(Pass pass) {
         if (ACTIVE_PASS.get() == pass) {
             if (pass.parent != null) {
@@ -575,8 +662,7 @@ public class LayerSystemService {
      * <ul>
      * <li>battlefield composition and order per player (L2 control is physical membership;
      *     position is the equal-timestamp fallback), each permanent's identity, timestamp and
-     *     every mutable field the pass seeds from or applies with — tap state
-     *     ({@code OWN_TAPPED_CREATURES}, tapped-scope filters), attachment, chosen values,
+     *     every mutable field the pass seeds from or applies with — attachment, chosen values,
      *     counters (P/T predicate leaves, AWAKENING animation), P/T modifiers and overrides,
      *     animation state, granted/removed keywords, colors, subtypes, card types, the
      *     transient land-type override, lose-all flags, text replacements and persistent
@@ -591,6 +677,10 @@ public class LayerSystemService {
      * <li>{@code timestampCounter} as stamp-event insurance.</li>
      * </ul>
      *
+     * <p>Tap state and combat assignments ({@code OWN_TAPPED_CREATURES}, tapped/attacking/
+     * blocking filter leaves) are hashed separately by {@link #computeTapAndCombatFingerprint}
+     * and only checked for boards whose computation read them.
+     *
      * <p>NOT covered (assembly-only inputs — the per-target {@code StaticBonus} is rebuilt on
      * every query and only the finished board is cached): emblems, the conditions of the
      * conditional wrappers the pass did not collect, life totals, turn/step state, amount
@@ -658,6 +748,51 @@ public class LayerSystemService {
         return h;
     }
 
+    /**
+     * The part of {@link #computeBoardFingerprint} that covers one permanent: its identity,
+     * timestamp, every pass-read field and its card (see {@code hashCard}). Used by the game-view
+     * projection to memoize {@code PermanentView}s per permanent; it mixes the display-only fields
+     * on top with {@link #mixFingerprint}.
+     */
+    public static long permanentFingerprint(Permanent permanent) {
+        return hashTapAndCombatState(hashPermanent(0x9E3779B97F4A7C15L, permanent), permanent);
+    }
+
+    /** The fingerprint accumulation step, for callers extending {@link #permanentFingerprint}. */
+    public static long mixFingerprint(long h, long value) {
+        return mix(h, value);
+    }
+
+    /**
+     * Tap state and combat assignments of every permanent, in battlefield order. They feed the
+     * pass only through tapped-creatures scopes and the tapped/attacking/blocking filter leaves
+     * ("creatures blocking or blocked by this creature have lifelink" — Alms Beast), which report
+     * themselves via {@link #noteTapOrCombatStateRead}; a cached board is checked against this
+     * only when one of them ran.
+     */
+    private static long computeTapAndCombatFingerprint(GameData gameData) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+            if (battlefield != null) {
+                for (Permanent permanent : battlefield) {
+                    h = hashTapAndCombatState(h, permanent);
+                }
+            }
+        }
+        return h;
+    }
+
+    private static long hashTapAndCombatState(long h, Permanent p) {
+        long flags = (p.isTapped() ? 1 : 0) | (p.isAttacking() ? 2 : 0) | (p.isBlocking() ? 4 : 0);
+        h = mix(h, flags);
+        h = mix(h, p.getAttackTarget() == null ? 0 : p.getAttackTarget().hashCode());
+        for (UUID blockingTargetId : p.getBlockingTargetIds()) {
+            h = mix(h, blockingTargetId.hashCode());
+        }
+        return h;
+    }
+
     private static long hashPermanent(long h, Permanent p) {
         h = mix(h, System.identityHashCode(p));
         h = mix(h, p.getId().hashCode());
@@ -665,7 +800,6 @@ public class LayerSystemService {
         h = hashCard(h, p.getCard());
 
         long flags = 0;
-        flags = flags << 1 | (p.isTapped() ? 1 : 0);
         flags = flags << 1 | (p.isColorOverridden() ? 1 : 0);
         flags = flags << 1 | (p.isBasePowerToughnessOverriddenUntilEndOfTurn() ? 1 : 0);
         flags = flags << 1 | (p.isAnimatedUntilEndOfTurn() ? 1 : 0);
@@ -678,15 +812,7 @@ public class LayerSystemService {
         flags = flags << 1 | (p.isLosesAllCreatureTypesUntilEndOfTurn() ? 1 : 0);
         flags = flags << 1 | (p.isTransformed() ? 1 : 0);
         flags = flags << 1 | (p.isFaceDown() ? 1 : 0);
-        // Combat assignments feed static scopes ("creatures blocking or blocked by this creature
-        // have lifelink" — Alms Beast), so declaring attackers or blockers must invalidate the
-        // memoized board.
-        flags = flags << 1 | (p.isAttacking() ? 1 : 0);
-        flags = flags << 1 | (p.isBlocking() ? 1 : 0);
         h = mix(h, flags);
-        for (UUID blockingTargetId : p.getBlockingTargetIds()) {
-            h = mix(h, blockingTargetId.hashCode());
-        }
 
         h = mix(h, p.getAttachedTo() == null ? 0 : p.getAttachedTo().hashCode());
         h = mix(h, p.getPairedWithId() == null ? 0 : p.getPairedWithId().hashCode());
@@ -1045,7 +1171,7 @@ public class LayerSystemService {
                     GrantKeywordEffect grant = new GrantKeywordEffect(
                             keyword, GrantScope.TARGET, GrantDuration.INDEFINITE);
                     FloatingContinuousEffect counterEffect = new FloatingContinuousEffect(
-                            UUID.randomUUID(), keyword.name().toLowerCase() + " counter", null,
+                            GameEntropy.newId(), keyword.name().toLowerCase() + " counter", null,
                             slot.controllerId(), grant, permanent.getId(), null, null,
                             EffectDuration.PERMANENT, permanent.getCounterTimestamp(counterType));
                     instances.add(new EffectInstance(null, grant, grant, counterEffect, false,
@@ -1844,6 +1970,7 @@ public class LayerSystemService {
                 }
             }
             case OWN_TAPPED_CREATURES -> {
+                noteTapOrCombatStateRead();
                 for (PermanentSlot slot : slots) {
                     if (slot.permanent() == source.permanent()) continue;
                     if (slot.controllerId().equals(source.controllerId()) && slot.permanent().isTapped()) {
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.AllowCastCardsExiledWithSourceUntilEndOfTurnEffect;
@@ -40,7 +41,7 @@ public class AllowCastCardsExiledWithSourceUntilEndOfTurnEffectHandler implement
                 .toList();
         if (matchingCards.isEmpty()) return;
 
-        UUID grantId = UUID.randomUUID();
+        UUID grantId = GameEntropy.newId();
         for (Card card : matchingCards) {
             gameData.exileCastPermissionsUntilEndOfTurn.add(new GameData.ExileCastPermission(
                     grantId, sourcePermanentId, entry.getControllerId(), card.getId(),
@@ -6,6 +6,7 @@ import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
@@ -75,7 +76,7 @@ public class AnimationSupport {
      */
     private void addAnimationBasePtFloatingEffect(GameData gameData, StackEntry entry, Permanent target,
                                                   int power, int toughness, EffectDuration duration) {
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                 new SetBasePowerToughnessEffect(power, toughness), target.getId(), null, null,
                 duration, 0));
@@ -85,7 +86,7 @@ public class AnimationSupport {
                                                  CardColor color,
                                                  EffectDuration duration) {
         if (color == null) return;
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                 new GrantColorEffect(color, GrantScope.SELF, true), target.getId(), null, null,
                 duration, 0));
@@ -93,7 +94,7 @@ public class AnimationSupport {
 
     private void addAnimationCardTypeOverrideFloatingEffect(GameData gameData, StackEntry entry,
                                                             Permanent target, Set<CardType> cardTypes) {
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                 new SetCardTypesEffect(cardTypes, GrantScope.TARGET), target.getId(), null, null,
                 EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -470,7 +471,7 @@ public class AnimationSupport {
         target.setPermanentlyAnimated(true);
         target.setPermanentAnimatedPower(power);
         target.setPermanentAnimatedToughness(toughness);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(), sourceName,
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(), sourceName,
                 sourcePermanentId, controllerId, new SetBasePowerToughnessEffect(power, toughness),
                 target.getId(), null, null, EffectDuration.PERMANENT, 0));
 
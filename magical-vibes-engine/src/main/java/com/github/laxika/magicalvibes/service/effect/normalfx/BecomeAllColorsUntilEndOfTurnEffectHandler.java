@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.CardColor;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -48,7 +49,7 @@ public class BecomeAllColorsUntilEndOfTurnEffectHandler implements NormalEffectH
         self.getTransientColors().clear();
         self.getTransientColors().addAll(allColors);
         self.setColorOverridden(true);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(),
                 new BecomeChosenColorsUntilEndOfTurnEffect(allColors),
                 self.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -48,7 +49,7 @@ public class BecomeColorlessIndefinitelyEffectHandler implements NormalEffectHan
 
         affected.getTransientColors().clear();
         affected.setColorOverridden(true);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(),
                 new BecomeColorlessUntilEndOfTurnEffect(false),
                 affected.getId(), null, null, EffectDuration.PERMANENT, 0));
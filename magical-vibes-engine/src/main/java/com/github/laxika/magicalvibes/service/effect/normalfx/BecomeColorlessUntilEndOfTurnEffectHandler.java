@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -47,7 +48,7 @@ public class BecomeColorlessUntilEndOfTurnEffectHandler implements NormalEffectH
         // fields are seeded for direct getEffectiveColor callers.
         self.getTransientColors().clear();
         self.setColorOverridden(true);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(),
                 new BecomeColorlessUntilEndOfTurnEffect(false),
                 self.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
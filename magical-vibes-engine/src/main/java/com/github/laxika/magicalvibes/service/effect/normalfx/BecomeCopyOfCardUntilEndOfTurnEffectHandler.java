@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -18,7 +19,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
-import java.util.UUID;
 
 /** Applies Lazav, Familiar Stranger's temporary copy of the exiled creature card. */
 @Component
@@ -54,7 +54,7 @@ public class BecomeCopyOfCardUntilEndOfTurnEffectHandler implements NormalEffect
         permanentCopierService.applyCloneCopy(source, card, null, null, Set.of());
         source.setCopyUntilEndOfTurn(true);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), source.getId(),
+                GameEntropy.newId(), entry.getCard().getName(), source.getId(),
                 entry.getControllerId(), new BecomeCopyOfTargetCreatureUntilEndOfTurnEffect(), source.getId(),
                 null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
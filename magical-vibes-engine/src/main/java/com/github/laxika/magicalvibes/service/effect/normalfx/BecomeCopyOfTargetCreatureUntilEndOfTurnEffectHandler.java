@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -59,7 +60,7 @@ public class BecomeCopyOfTargetCreatureUntilEndOfTurnEffectHandler implements No
         // swap above stores the copiable values; the floating effect carries the CR 613.7
         // timestamp and drives the revert when it expires at the cleanup step.
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), sourcePermanentId,
+                GameEntropy.newId(), entry.getCard().getName(), sourcePermanentId,
                 entry.getControllerId(), effect, sourcePermanentId, null, null,
                 EffectDuration.UNTIL_END_OF_TURN, 0));
 
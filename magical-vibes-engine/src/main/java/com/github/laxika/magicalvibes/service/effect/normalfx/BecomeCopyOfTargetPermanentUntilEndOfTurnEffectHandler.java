@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -60,7 +61,7 @@ public class BecomeCopyOfTargetPermanentUntilEndOfTurnEffectHandler implements N
         targetPermanent.setCopyUntilEndOfTurn(true);
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), new BecomeCopyOfTargetCreatureUntilEndOfTurnEffect(),
                 targetPermanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.BecomeEnchantmentUntilCreatureSpellCastEffect;
@@ -36,7 +37,7 @@ public class BecomeEnchantmentUntilCreatureSpellCastEffectHandler implements Nor
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), effect, target.getId(), null, null,
                 EffectDuration.UNTIL_CREATURE_SPELL_CAST, 0));
     }
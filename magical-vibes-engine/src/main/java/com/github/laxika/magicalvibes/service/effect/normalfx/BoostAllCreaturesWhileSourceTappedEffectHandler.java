@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -52,7 +53,7 @@ public class BoostAllCreaturesWhileSourceTappedEffectHandler implements NormalEf
 
         for (Permanent creature : creatures) {
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), sourcePermanentId,
+                    GameEntropy.newId(), entry.getCard().getName(), sourcePermanentId,
                     entry.getControllerId(),
                     new BuffTargetCreatureIndefinitelyEffect(boost.powerBoost(), boost.toughnessBoost()),
                     creature.getId(), null, null, EffectDuration.WHILE_SOURCE_TAPPED, 0));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -21,7 +22,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -66,7 +66,7 @@ public class BoostAllOwnCreaturesEffectHandler implements NormalEffectHandlerBea
                     && (boost.filter() == null
                         || predicateEvaluationService.matchesPermanentPredicate(permanent, boost.filter(), filterContext))) {
                 if (boost.duration() == GrantDuration.UNTIL_YOUR_NEXT_TURN) {
-                    gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+                    gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                             entry.getCard().getName(), null, entry.getControllerId(),
                             new BuffTargetCreatureIndefinitelyEffect(powerBoost, toughnessBoost),
                             permanent.getId(), null, null, EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -91,7 +92,7 @@ public class BoostTargetCreatureEffectHandler implements NormalEffectHandlerBean
         // layered pass reads the sublayer-7c addition off it (same read path as Riding the Dilu
         // Horse's indefinite buff).
         if (duration == GrantDuration.UNTIL_YOUR_NEXT_TURN) {
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(),
                     new BuffTargetCreatureIndefinitelyEffect(powerBoost, toughnessBoost),
                     target.getId(), null, null, EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
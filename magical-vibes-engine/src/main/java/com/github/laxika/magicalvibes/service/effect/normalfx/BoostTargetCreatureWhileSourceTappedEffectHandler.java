@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -62,7 +63,7 @@ public class BoostTargetCreatureWhileSourceTappedEffectHandler implements Normal
                 continue; // Partially resolves — skip removed targets
             }
 
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), sourcePermanentId, entry.getControllerId(),
                     new BuffTargetCreatureIndefinitelyEffect(boost.power(), boost.toughness(), boost.keywords()),
                     target.getId(), null, null, EffectDuration.WHILE_SOURCE_TAPPED, 0));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -49,7 +50,7 @@ public class BuffTargetCreatureIndefinitelyEffectHandler implements NormalEffect
             // it as a PERMANENT floating continuous effect on the target — the layered pass reads
             // the +P/+Y (sublayer 7c) and the granted keywords (layer 6) off it for as long as the
             // permanent exists, so a second copy stacks additively rather than being replaced.
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(), buff,
                     target.getId(), null, null, EffectDuration.PERMANENT, 0));
 
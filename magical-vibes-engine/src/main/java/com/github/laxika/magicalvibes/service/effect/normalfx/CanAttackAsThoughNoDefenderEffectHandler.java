@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -49,7 +50,7 @@ public class CanAttackAsThoughNoDefenderEffectHandler implements NormalEffectHan
             return;
         }
 
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), sourceId, entry.getControllerId(), effect,
                 sourceId, null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
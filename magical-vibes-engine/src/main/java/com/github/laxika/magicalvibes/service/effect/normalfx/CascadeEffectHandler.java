@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -82,7 +83,7 @@ public class CascadeEffectHandler implements NormalEffectHandlerBean {
 
         if (hit == null) {
             // Dug through the whole library without a qualifying card — bottom everything randomly.
-            Collections.shuffle(exiled);
+            Collections.shuffle(exiled, GameEntropy.random());
             deck.addAll(exiled);
             gameLogService.append(gameData, GameLog.text(sourceName
                     + " (Cascade): no nonland card with lesser mana value found. Exiled cards go to the"
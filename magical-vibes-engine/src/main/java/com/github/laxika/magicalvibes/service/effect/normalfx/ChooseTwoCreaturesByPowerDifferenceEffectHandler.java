@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.MultiPermanentChoiceContext;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -74,7 +75,7 @@ public class ChooseTwoCreaturesByPowerDifferenceEffectHandler implements NormalE
             permanent.setPowerModifier(permanent.getPowerModifier() + x);
             permanent.setToughnessModifier(permanent.getToughnessModifier() + x);
             permanent.getGrantedKeywords().addAll(trampleGrant.keywords());
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(), sourceCardName, null,
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(), sourceCardName, null,
                     entry.getControllerId(), trampleGrant, permanent.getId(), null, null,
                     EffectDuration.UNTIL_END_OF_TURN, 0));
         }
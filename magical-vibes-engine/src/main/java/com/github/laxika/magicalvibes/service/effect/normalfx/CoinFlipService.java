@@ -1,10 +1,10 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.effect.KrarksThumbEffect;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,7 +21,7 @@ public class CoinFlipService {
         int physicalFlips = 1 << thumbCount;
         boolean heads = false;
         for (int i = 0; i < physicalFlips; i++) {
-            heads |= ThreadLocalRandom.current().nextBoolean();
+            heads |= GameEntropy.random().nextBoolean();
         }
         return new CoinFlipResult(heads, physicalFlips);
     }
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -85,7 +86,7 @@ public class CounterSpellAndExileAllWithSameNameEffectHandler implements NormalE
             graveyardService.notifyCardsExiledFromGraveyard(gameData, targetPlayerId, exiledGraveyardCards);
         }
         if (library != null) {
-            Collections.shuffle(library);
+            Collections.shuffle(library, GameEntropy.random());
         }
 
         if (counterEffect.drawCardsExiledFromHand()) {
@@ -111,7 +112,7 @@ public class CounterSpellAndExileAllWithSameNameEffectHandler implements NormalE
         List<Card> library = gameData.playerDecks.get(targetPlayerId);
         if (matchingCards.isEmpty()) {
             if (library != null) {
-                Collections.shuffle(library);
+                Collections.shuffle(library, GameEntropy.random());
             }
             return;
         }
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -12,7 +13,6 @@ import com.github.laxika.magicalvibes.service.effect.AmountEvaluationService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -58,7 +58,7 @@ public class DealDamageToRandomOpponentCreatureEffectHandler implements NormalEf
                 AmountContext.forStackEntry(entry, source));
         int rawDamage = gameQueryService.applyDamageMultiplier(gameData, damage, entry);
 
-        UUID chosen = pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+        UUID chosen = pool.get(GameEntropy.random().nextInt(pool.size()));
         damageSupport.resolveAnyTargetDamage(gameData, entry, chosen, rawDamage, false);
         gameOutcomeService.checkWinCondition(gameData);
     }
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -9,7 +10,6 @@ import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -48,7 +48,7 @@ public class DestroyOneOfTargetsAtRandomEffectHandler implements NormalEffectHan
                     return;
                 }
 
-                int randomIndex = ThreadLocalRandom.current().nextInt(validTargetIds.size());
+                int randomIndex = GameEntropy.random().nextInt(validTargetIds.size());
                 UUID chosenId = validTargetIds.get(randomIndex);
                 Permanent chosen = gameQueryService.findPermanentById(gameData, chosenId);
                 if (chosen != null) {
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -11,7 +12,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @RequiredArgsConstructor
@@ -37,7 +37,7 @@ public class DestroyRandomAttackingCreatureEffectHandler implements NormalEffect
         }
         if (candidates.isEmpty()) return;
 
-        Permanent chosen = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        Permanent chosen = candidates.get(GameEntropy.random().nextInt(candidates.size()));
         destructionSupport.tryDestroyAndLog(gameData, chosen, entry.getCard().getName(), false);
     }
 }
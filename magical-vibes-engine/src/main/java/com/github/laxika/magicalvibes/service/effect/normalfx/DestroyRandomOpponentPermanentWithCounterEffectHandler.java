@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -9,7 +10,6 @@ import com.github.laxika.magicalvibes.model.effect.DestroyRandomOpponentPermanen
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -59,7 +59,7 @@ public class DestroyRandomOpponentPermanentWithCounterEffectHandler implements N
                 }
 
                 // Destroy one at random
-                int randomIndex = ThreadLocalRandom.current().nextInt(candidates.size());
+                int randomIndex = GameEntropy.random().nextInt(candidates.size());
                 Permanent chosen = candidates.get(randomIndex);
                 destructionSupport.tryDestroyAndLog(gameData, chosen, entry.getCard().getName(), false);
     }
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -15,7 +16,6 @@ import com.github.laxika.magicalvibes.service.graveyard.GraveyardService;
 import com.github.laxika.magicalvibes.service.trigger.TriggerCollectionService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -56,7 +56,7 @@ public class DiscardRandomCardDealDiscardedPowerToTargetPlayerOrPlaneswalkerEffe
 
         // Discard a card at random (self-inflicted, so no opponent-discard replacements apply).
         gameData.discardCausedByOpponent = false;
-        int randomIndex = ThreadLocalRandom.current().nextInt(hand.size());
+        int randomIndex = GameEntropy.random().nextInt(hand.size());
         Card discarded = hand.remove(randomIndex);
         graveyardService.discardCard(gameData, controllerId, discarded);
         gameLogService.append(gameData, GameLog.textCardText(playerName + " discards ", discarded, " at random."));
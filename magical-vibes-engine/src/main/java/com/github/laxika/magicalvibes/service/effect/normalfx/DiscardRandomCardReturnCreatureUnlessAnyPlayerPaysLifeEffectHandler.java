@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import com.github.laxika.magicalvibes.service.trigger.TriggerCollectionService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -51,7 +51,7 @@ public class DiscardRandomCardReturnCreatureUnlessAnyPlayerPaysLifeEffectHandler
             return;
         }
 
-        Card discarded = hand.remove(ThreadLocalRandom.current().nextInt(hand.size()));
+        Card discarded = hand.remove(GameEntropy.random().nextInt(hand.size()));
         gameData.discardCausedByOpponent = false;
         graveyardService.discardCard(gameData, controllerId, discarded);
         gameLogService.append(gameData, GameLog.textCardText(
@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CounterType;
@@ -17,7 +18,6 @@ import com.github.laxika.magicalvibes.service.trigger.TriggerCollectionService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -58,7 +58,7 @@ public class DrawAndRandomDiscardWithSharedTypeCountersEffectHandler implements
         triggerCollectionService.beginDiscardEvent(gameData, controllerId);
         for (int i = 0; i < e.discardAmount(); i++) {
             if (hand == null || hand.isEmpty()) break;
-            int randomIndex = ThreadLocalRandom.current().nextInt(hand.size());
+            int randomIndex = GameEntropy.random().nextInt(hand.size());
             Card discarded = hand.remove(randomIndex);
             discardedCards.add(discarded);
             graveyardService.discardCard(gameData, controllerId, discarded);
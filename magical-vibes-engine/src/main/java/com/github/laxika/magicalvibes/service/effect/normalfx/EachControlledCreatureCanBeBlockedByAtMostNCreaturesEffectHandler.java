@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -45,7 +45,7 @@ public class EachControlledCreatureCanBeBlockedByAtMostNCreaturesEffectHandler i
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(),
+                    GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(),
                     new CanBeBlockedByAtMostNCreaturesEffect(restriction.maxBlockers()),
                     permanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             count++;
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -64,7 +65,7 @@ public class EachOtherCreatureBecomesCopyOfTargetCreatureUntilEndOfTurnEffectHan
             // card swap stores the copiable values; the floating effect carries the timestamp and
             // drives the revert (BecomeCopyOfTargetCreatureUntilEndOfTurnEffect) at cleanup.
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), creature.getId(),
+                    GameEntropy.newId(), entry.getCard().getName(), creature.getId(),
                     entry.getControllerId(), new BecomeCopyOfTargetCreatureUntilEndOfTurnEffect(),
                     creature.getId(), null, null,
                     EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.CounterType;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -114,7 +115,7 @@ public class EachPlayerRevealsTopCardsToBattlefieldRestToGraveyardEffectHandler
         }
 
         shuffledLibraries.forEach((playerId, ignored) ->
-                Collections.shuffle(gameData.playerDecks.get(playerId)));
+                Collections.shuffle(gameData.playerDecks.get(playerId), GameEntropy.random()));
 
         enteredByController.forEach((controllerId, permanents) -> {
             for (Permanent permanent : permanents) {
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.ExiledCardEntry;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.service.GameLogService;
 import java.util.ArrayList;
@@ -54,7 +55,7 @@ public class ExileBottomRandomSupport {
             if (deck == null) {
                 return;
             }
-            Collections.shuffle(cards);
+            Collections.shuffle(cards, GameEntropy.random());
             deck.addAll(cards);
             gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(ownerId)
                     + " puts " + cards.size() + " exiled card" + (cards.size() == 1 ? "" : "s")
@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSupertype;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -62,7 +63,7 @@ public class ExileNonBasicLandGraveyardAndSameNameFromLibraryEffectHandler imple
 
         if (toExile.isEmpty()) {
             // No non-basic-land cards to exile — just shuffle and log
-            java.util.Collections.shuffle(library);
+            java.util.Collections.shuffle(library, GameEntropy.random());
             String logEntry = controllerName + " resolves Haunting Echoes — no non-basic-land cards in "
                     + targetName + "'s graveyard. " + targetName + " shuffles their library.";
             gameLogService.append(gameData, GameLog.text(logEntry));
@@ -96,7 +97,7 @@ public class ExileNonBasicLandGraveyardAndSameNameFromLibraryEffectHandler imple
         }
 
         // Shuffle library
-        java.util.Collections.shuffle(library);
+        java.util.Collections.shuffle(library, GameEntropy.random());
 
         int totalExiled = toExile.size() + libraryExiles.size();
         String logEntry = controllerName + " resolves Haunting Echoes — exiles " + toExile.size()
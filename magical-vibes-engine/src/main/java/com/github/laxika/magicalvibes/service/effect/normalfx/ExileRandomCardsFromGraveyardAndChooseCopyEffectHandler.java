@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -45,7 +46,7 @@ public class ExileRandomCardsFromGraveyardAndChooseCopyEffectHandler implements
         }
 
         List<Card> selectedCards = new ArrayList<>(graveyard);
-        Collections.shuffle(selectedCards);
+        Collections.shuffle(selectedCards, GameEntropy.random());
         List<UUID> eligibleCardIds = new ArrayList<>();
         int selectedCount = Math.min(copyEffect.count(), selectedCards.size());
         for (Card card : selectedCards.subList(0, selectedCount)) {
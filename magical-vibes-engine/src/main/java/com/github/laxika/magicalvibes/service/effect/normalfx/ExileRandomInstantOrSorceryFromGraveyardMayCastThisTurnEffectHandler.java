@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Resolves Radiant Scrollwielder's upkeep ability. The random choice is made from the matching
@@ -50,7 +50,7 @@ public class ExileRandomInstantOrSorceryFromGraveyardMayCastThisTurnEffectHandle
             return;
         }
 
-        Card exiled = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        Card exiled = candidates.get(GameEntropy.random().nextInt(candidates.size()));
         permanentRemovalService.removeCardFromGraveyardByIdForExile(gameData, exiled.getId());
         exileService.exileCard(gameData, controllerId, exiled);
 
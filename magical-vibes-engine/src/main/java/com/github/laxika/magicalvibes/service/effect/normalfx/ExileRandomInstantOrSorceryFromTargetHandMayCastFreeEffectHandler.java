@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.action.ReturnExiledCardToHandAtNextEndStep;
@@ -14,7 +15,6 @@ import com.github.laxika.magicalvibes.service.GameLogService;
 import com.github.laxika.magicalvibes.service.exile.ExileService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -47,7 +47,7 @@ public class ExileRandomInstantOrSorceryFromTargetHandMayCastFreeEffectHandler
             return;
         }
 
-        int randomIndex = ThreadLocalRandom.current().nextInt(hand.size());
+        int randomIndex = GameEntropy.random().nextInt(hand.size());
         Card revealed = hand.get(randomIndex);
         cardRevealService.revealToAllPlayers(
                 gameData, targetPlayerId, GameEventFact.RevealZone.HAND, List.of(revealed));
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -68,7 +69,7 @@ public class ExileTargetGraveyardCardAndSameNameFromZonesEffectHandler implement
         if (matchingCards.isEmpty()) {
             // No matching cards — just shuffle library and resolve
             if (library != null) {
-                java.util.Collections.shuffle(library);
+                java.util.Collections.shuffle(library, GameEntropy.random());
             }
 
             String exileLog = controllerName + " exiles 0 cards named \"" + cardName + "\" from " + targetName
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -84,7 +85,7 @@ public class ExileTargetPermanentAndAllWithSameNameFromZonesEffectHandler implem
             graveyardService.notifyCardsExiledFromGraveyard(gameData, controllerId, exiledFromGraveyard);
         }
         if (library != null) {
-            Collections.shuffle(library);
+            Collections.shuffle(library, GameEntropy.random());
         }
 
         String controllerName = gameData.playerIdToName.get(controllerId);
@@ -101,7 +102,7 @@ public class ExileTargetPermanentAndAllWithSameNameFromZonesEffectHandler implem
         List<Card> library = gameData.playerDecks.get(controllerId);
         if (matchingCards.isEmpty()) {
             if (library != null) {
-                Collections.shuffle(library);
+                Collections.shuffle(library, GameEntropy.random());
             }
             String controllerName = gameData.playerIdToName.get(controllerId);
             gameLogService.append(gameData, GameLog.text(entry.getCard().getName() + " exiles 0 cards named "
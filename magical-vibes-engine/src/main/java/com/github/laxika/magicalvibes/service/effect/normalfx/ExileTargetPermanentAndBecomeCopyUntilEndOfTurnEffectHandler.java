@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -65,7 +66,7 @@ public class ExileTargetPermanentAndBecomeCopyUntilEndOfTurnEffectHandler implem
         permanentCopierService.applyCloneCopy(source, targetCard, null, null, Set.of());
         source.setCopyUntilEndOfTurn(true);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), source.getId(),
+                GameEntropy.newId(), entry.getCard().getName(), source.getId(),
                 entry.getControllerId(), new BecomeCopyOfTargetCreatureUntilEndOfTurnEffect(),
                 source.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -12,7 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 /** Resolves Impulsive Maneuvers's per-attacker coin flip and installs its one-shot combat shield. */
 @Component
@@ -33,7 +33,7 @@ public class FlipCoinDoubleOrPreventNextCombatDamageFromAttackingCreatureEffectH
         UUID attackerId = entry.getTargetId();
         if (attackerId == null) return;
 
-        boolean wonFlip = ThreadLocalRandom.current().nextBoolean();
+        boolean wonFlip = GameEntropy.random().nextBoolean();
         UUID controllerId = entry.getControllerId();
         String sourceName = entry.getCard().getName();
         gameLogService.append(gameData, GameLog.text(wonFlip
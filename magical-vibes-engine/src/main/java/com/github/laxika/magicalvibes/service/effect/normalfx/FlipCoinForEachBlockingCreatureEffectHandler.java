@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -9,7 +10,6 @@ import com.github.laxika.magicalvibes.model.effect.FlipCoinForEachBlockingCreatu
 import com.github.laxika.magicalvibes.service.GameLogService;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -38,7 +38,7 @@ public class FlipCoinForEachBlockingCreatureEffectHandler implements NormalEffec
         String playerName = gameData.playerIdToName.get(entry.getControllerId());
         String cardName = entry.getCard().getName();
         for (Permanent blocker : blockers) {
-            boolean wonFlip = ThreadLocalRandom.current().nextBoolean();
+            boolean wonFlip = GameEntropy.random().nextBoolean();
             String outcome = wonFlip ? " wins" : " loses";
             gameLogService.append(gameData, GameLog.text(playerName + outcome
                     + " the coin flip for " + cardName + " for " + blocker.getCard().getName() + "."));
@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.CardSupertype;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -76,7 +77,7 @@ public class GargantuanGorillaUpkeepSupport {
         // CR 613 layer engine: a one-shot keyword grant is a floating layer-6 effect with its own
         // timestamp; the legacy bucket is kept for direct Permanent.hasKeyword callers.
         source.getGrantedKeywords().add(Keyword.TRAMPLE);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 source.getCard().getName(), null, controllerId,
                 new GrantKeywordEffect(Keyword.TRAMPLE, GrantScope.SELF),
                 source.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
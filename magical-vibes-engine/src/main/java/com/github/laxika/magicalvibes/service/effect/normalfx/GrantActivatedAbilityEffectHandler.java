@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -121,7 +122,7 @@ public class GrantActivatedAbilityEffectHandler implements NormalEffectHandlerBe
         if (duration == EffectDuration.WHILE_SOURCE_ON_BATTLEFIELD
                 || duration == EffectDuration.PERMANENT) {
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(),
+                    GameEntropy.newId(),
                     entry.getCard().getName(),
                     entry.getSourcePermanentId(),
                     entry.getControllerId(),
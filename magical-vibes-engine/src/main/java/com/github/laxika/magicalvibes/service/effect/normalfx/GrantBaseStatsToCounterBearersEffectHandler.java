@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
 import com.github.laxika.magicalvibes.model.effect.EffectDuration;
@@ -48,12 +49,12 @@ public class GrantBaseStatsToCounterBearersEffectHandler implements NormalEffect
         UUID controllerId = entry.getControllerId();
         var scope = new PermanentHasCountersPredicate(rule.counterType());
 
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(), sourceName, null,
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(), sourceName, null,
                 controllerId, new SetBasePowerToughnessEffect(rule.power(), rule.toughness(), GrantScope.ALL_CREATURES),
                 null, null, scope, EffectDuration.PERMANENT, 0));
 
         if (!rule.keywords().isEmpty()) {
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(), sourceName, null,
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(), sourceName, null,
                     controllerId, new GrantKeywordEffect(rule.keywords(), GrantScope.ALL_CREATURES),
                     null, null, scope, EffectDuration.PERMANENT, 0));
         }
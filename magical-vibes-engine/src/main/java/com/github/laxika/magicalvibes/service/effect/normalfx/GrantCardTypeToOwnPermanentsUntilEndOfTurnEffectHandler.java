@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -49,7 +49,7 @@ public class GrantCardTypeToOwnPermanentsUntilEndOfTurnEffectHandler implements
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                    GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                     entry.getControllerId(), new GrantCardTypeEffect(grant.cardType(), GrantScope.TARGET),
                     permanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             count++;
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -118,7 +119,7 @@ public class GrantColorUntilEndOfTurnEffectHandler implements NormalEffectHandle
         // untouched: seedLegacyColorAndAbilityState folds transientColors into the *seeded* colors
         // before snapshotting, so the query pass would strip them as intrinsic. The floating
         // effect below adds the color after the snapshot, so it registers as a granted color.
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(), e,
                 target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
     }
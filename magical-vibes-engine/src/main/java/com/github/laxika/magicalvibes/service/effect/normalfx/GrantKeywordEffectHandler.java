@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -68,7 +69,7 @@ public class GrantKeywordEffectHandler implements NormalEffectHandlerBean {
                     continue;
                 }
                 addLegacyBucket(permanent, grant.duration(), grantableKeywords);
-                gameData.addFloatingEffect(new FloatingContinuousEffect(java.util.UUID.randomUUID(),
+                gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                         entry.getCard().getName(), null, entry.getControllerId(),
                         new GrantKeywordEffect(grantableKeywords, grant.scope(), grant.filter(), grant.duration(), grant.grantCondition()),
                         permanent.getId(), null, null, floatingDurationFor(grant.duration()), 0));
@@ -164,7 +165,7 @@ public class GrantKeywordEffectHandler implements NormalEffectHandlerBean {
                 return;
             }
             addLegacyBucket(target, grant.duration(), grantableKeywords);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(java.util.UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(),
                     new GrantKeywordEffect(grantableKeywords, GrantScope.TARGET, null,
                             grant.duration(), grant.grantCondition()),
@@ -284,7 +285,7 @@ public class GrantKeywordEffectHandler implements NormalEffectHandlerBean {
             UUID floatingSourceId = grant.duration() == GrantDuration.WHILE_SOURCE_ON_BATTLEFIELD
                     ? entry.getSourcePermanentId()
                     : null;
-            gameData.addFloatingEffect(new FloatingContinuousEffect(java.util.UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), floatingSourceId, entry.getControllerId(), resolvedGrant,
                     target.getId(), null, null, floatingDurationFor(grant.duration()), 0));
             String keywordNames = formatKeywords(grant.keywords());
@@ -301,7 +302,7 @@ public class GrantKeywordEffectHandler implements NormalEffectHandlerBean {
         }
 
         addLegacyBucket(permanent, GrantDuration.END_OF_TURN, grantableKeywords);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(java.util.UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(),
                 new GrantKeywordEffect(grantableKeywords, GrantScope.TARGET),
                 permanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
@@ -110,7 +111,7 @@ public class GrantKeywordToBlockingCreaturesUnlessAttackerPaysEffectHandler impl
             }
             blocker.getGrantedKeywords().add(effect.keyword());
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(), grant,
+                    GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(), grant,
                     blocker.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             gameLogService.append(gameData,
                     GameLog.cardThen(blocker.getCard(), " gains " + formatKeyword(effect.keyword())
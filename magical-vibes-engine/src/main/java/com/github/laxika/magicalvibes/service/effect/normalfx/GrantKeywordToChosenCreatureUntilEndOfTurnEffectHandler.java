@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -101,7 +102,7 @@ public class GrantKeywordToChosenCreatureUntilEndOfTurnEffectHandler implements
             return;
         }
         target.getGrantedKeywords().add(keyword);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(),
                 new GrantKeywordEffect(Set.of(keyword), GrantScope.TARGET),
                 target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -68,7 +69,7 @@ public class GrantKeywordsToOwnPermanentsOfChosenSubtypeUntilEndOfTurnEffectHand
 
                 permanent.getGrantedKeywords().addAll(grant.keywords());
                 gameData.addFloatingEffect(new FloatingContinuousEffect(
-                        UUID.randomUUID(), entry.getCard().getName(), sourcePermanentId,
+                        GameEntropy.newId(), entry.getCard().getName(), sourcePermanentId,
                         entry.getControllerId(),
                         new GrantKeywordEffect(grant.keywords(), GrantScope.TARGET),
                         permanent.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
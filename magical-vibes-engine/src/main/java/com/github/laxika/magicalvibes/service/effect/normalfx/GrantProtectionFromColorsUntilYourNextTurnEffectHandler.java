@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -40,7 +40,7 @@ public class GrantProtectionFromColorsUntilYourNextTurnEffectHandler implements
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(),
+                GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(),
                 new ProtectionFromColorsEffect(grant.colors(), GrantScope.TARGET), target.getId(), null, null,
                 EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
 
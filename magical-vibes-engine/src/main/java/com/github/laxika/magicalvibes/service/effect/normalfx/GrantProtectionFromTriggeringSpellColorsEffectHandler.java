@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.CardColor;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -14,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -44,7 +44,7 @@ public class GrantProtectionFromTriggeringSpellColorsEffectHandler implements No
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), source.getId(), entry.getControllerId(),
+                GameEntropy.newId(), entry.getCard().getName(), source.getId(), entry.getControllerId(),
                 new ProtectionFromColorsEffect(colors), source.getId(), null, null,
                 EffectDuration.PERMANENT, 0));
     }
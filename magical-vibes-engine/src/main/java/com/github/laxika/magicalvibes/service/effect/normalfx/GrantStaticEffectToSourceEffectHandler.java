@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -35,7 +36,7 @@ public class GrantStaticEffectToSourceEffectHandler implements NormalEffectHandl
             return;
         }
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(),
+                GameEntropy.newId(),
                 entry.getCard().getName(),
                 sourcePermanentId,
                 entry.getControllerId(),
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -98,7 +99,7 @@ public class GrantSubtypeUntilEndOfTurnEffectHandler implements NormalEffectHand
     private void applyEffect(GameData gameData, StackEntry entry,
                              GrantSubtypeUntilEndOfTurnEffect effect, Permanent target) {
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), new GrantSubtypeEffect(effect.subtype(), GrantScope.TARGET),
                 target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
     }
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -52,7 +53,7 @@ public class GrantSupertypeUntilEndOfTurnEffectHandler implements NormalEffectHa
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(), grant,
+                    GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(), grant,
                     target.getId(), null, null,
                     EffectDuration.UNTIL_END_OF_TURN, 0));
             String supertypeName = grant.supertype().getDisplayName().toLowerCase();
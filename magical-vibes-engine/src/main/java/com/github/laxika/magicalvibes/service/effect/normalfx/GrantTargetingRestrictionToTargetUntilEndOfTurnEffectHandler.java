@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
 import com.github.laxika.magicalvibes.model.effect.EffectDuration;
@@ -38,7 +39,7 @@ public class GrantTargetingRestrictionToTargetUntilEndOfTurnEffectHandler implem
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(),
+                    GameEntropy.newId(),
                     entry.getCard().getName(),
                     entry.getSourcePermanentId(),
                     entry.getControllerId(),
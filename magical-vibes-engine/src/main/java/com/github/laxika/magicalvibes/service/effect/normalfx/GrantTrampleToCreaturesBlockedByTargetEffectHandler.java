@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -48,7 +49,7 @@ public class GrantTrampleToCreaturesBlockedByTargetEffectHandler implements Norm
             }
             blockedCreature.getGrantedKeywords().add(Keyword.TRAMPLE);
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(), grant,
+                    GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(), grant,
                     blockedCreature.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             gameLogService.append(gameData, GameLog.cardThen(blockedCreature.getCard(), " gains trample until end of turn."));
         }
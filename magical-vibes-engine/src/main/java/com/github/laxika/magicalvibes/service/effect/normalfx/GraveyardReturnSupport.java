@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentAction;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentActionKind;
 import com.github.laxika.magicalvibes.model.action.ExilePermanentAtNextUpkeep;
@@ -53,7 +54,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -685,7 +685,7 @@ public class GraveyardReturnSupport {
         }
 
         if (effect.shuffleGraveyardBeforeRandomSelection()) {
-            Collections.shuffle(graveyard, ThreadLocalRandom.current());
+            Collections.shuffle(graveyard, GameEntropy.random());
         }
 
         List<Card> matchingCards = new ArrayList<>();
@@ -706,7 +706,7 @@ public class GraveyardReturnSupport {
         graveyardService.beginGraveyardLeaveBatch(gameData);
         try {
             for (int i = 0; i < count; i++) {
-                Card randomCard = matchingCards.get(ThreadLocalRandom.current().nextInt(matchingCards.size()));
+                Card randomCard = matchingCards.get(GameEntropy.random().nextInt(matchingCards.size()));
                 matchingCards.remove(randomCard);
                 graveyard.remove(randomCard);
                 graveyardService.notifyCardsExiledFromGraveyard(gameData, controllerId, randomCard);
@@ -1379,7 +1379,7 @@ public class GraveyardReturnSupport {
     public void trackStolenCreature(GameData gameData, UUID permanentId, UUID controllerId, UUID originalOwnerId) {
         gameData.stolenCreatures.put(permanentId, originalOwnerId);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), null, null, controllerId,
+                GameEntropy.newId(), null, null, controllerId,
                 new GainControlOfTargetEffect(ControlDuration.PERMANENT),
                 permanentId, null, null, EffectDuration.PERMANENT, 0));
     }
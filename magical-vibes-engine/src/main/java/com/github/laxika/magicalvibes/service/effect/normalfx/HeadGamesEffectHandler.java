@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -47,7 +48,7 @@ public class HeadGamesEffectHandler implements NormalEffectHandlerBean {
             // Search prevented — still execute remaining spell steps per rules:
             // target puts hand on top of library, then library is shuffled.
             librarySearchSupport.putHandOnTopOfLibrary(gameData, targetHand, targetDeck, targetName);
-            Collections.shuffle(targetDeck);
+            Collections.shuffle(targetDeck, GameEntropy.random());
             String shuffleLog = targetName + "'s library is shuffled.";
             gameLogService.append(gameData, GameLog.text(shuffleLog));
             return;
@@ -59,7 +60,7 @@ public class HeadGamesEffectHandler implements NormalEffectHandlerBean {
         if (handSize == 0) {
             String logMsg = targetName + " has no cards in hand. " + targetName + "'s library is shuffled.";
             gameLogService.append(gameData, GameLog.text(logMsg));
-            Collections.shuffle(targetDeck);
+            Collections.shuffle(targetDeck, GameEntropy.random());
             return;
         }
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -39,7 +40,7 @@ public class JohanCombatEffectHandler implements NormalEffectHandlerBean {
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), sourceId, entry.getControllerId(), effect,
+                GameEntropy.newId(), entry.getCard().getName(), sourceId, entry.getControllerId(), effect,
                 sourceId, null, null, EffectDuration.UNTIL_END_OF_COMBAT, 0));
         gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
                 " can't attack this combat; attacking creatures don't tap while it is untapped."));
@@ -1,4 +1,5 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentAction;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentActionKind;
 import com.github.laxika.magicalvibes.model.action.EpicDelayedTrigger;
@@ -142,7 +143,7 @@ public class KarnRestartGameEffectHandler implements NormalEffectHandlerBean {
             allCards.removeAll(karnExiledCards);
 
             // Shuffle into library
-            Collections.shuffle(allCards);
+            Collections.shuffle(allCards, GameEntropy.random());
             deck = gameData.playerDecks.get(playerId);
             if (deck == null) {
                 deck = Collections.synchronizedList(new ArrayList<>());
@@ -343,7 +344,7 @@ public class KarnRestartGameEffectHandler implements NormalEffectHandlerBean {
 
         for (UUID playerId : gameData.orderedPlayerIds) {
             gameData.mulliganCounts.put(playerId, 0);
-            gameData.playerMulliganDecisionIds.put(playerId, UUID.randomUUID());
+            gameData.playerMulliganDecisionIds.put(playerId, GameEntropy.newId());
         }
         gameData.playerKeptHand.clear();
         gameData.playerNeedsToBottom.clear();
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -58,7 +59,7 @@ public class LockTargetPermanentEffectHandler implements NormalEffectHandlerBean
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), lock, target.getId(), null, null, lock.duration(), 0));
 
         gameLogService.append(gameData, GameLog.cardThen(target.getCard(), " " + describe(lock) + "."));
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -55,7 +56,7 @@ public class LookAtTopCardsAndMayCastEffectHandler implements NormalEffectHandle
                         card, lookEffect.castPredicate(), entry.getCard().getId(), gameData, controllerId))
                 .toList();
         if (castable.isEmpty()) {
-            Collections.shuffle(topCards);
+            Collections.shuffle(topCards, GameEntropy.random());
             deck.addAll(topCards);
             return;
         }
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchFollowUp;
@@ -324,7 +325,7 @@ public class LookAtTopCardsEffectHandler implements NormalEffectHandlerBean {
     /** No eligible card was found: every looked-at card goes to the bottom in a random order. */
     private void bottomInRandomOrder(GameData gameData, UUID controllerId, String playerName,
             List<Card> topCards) {
-        java.util.Collections.shuffle(topCards);
+        java.util.Collections.shuffle(topCards, GameEntropy.random());
         gameData.playerDecks.get(controllerId).addAll(topCards);
         gameLogService.append(gameData, GameLog.text(playerName
                 + " finds no eligible cards. All cards are put on the bottom of their library in a random order."));
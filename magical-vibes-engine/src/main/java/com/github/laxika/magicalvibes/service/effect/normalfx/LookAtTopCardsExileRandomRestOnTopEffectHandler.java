@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -12,7 +13,6 @@ import com.github.laxika.magicalvibes.service.exile.ExileService;
 import com.github.laxika.magicalvibes.service.interaction.InteractionHandlerRegistry;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -52,7 +52,7 @@ public class LookAtTopCardsExileRandomRestOnTopEffectHandler implements NormalEf
         // Fewer cards than the exile count simply means every looked-at card is exiled.
         int toExile = Math.min(e.exileCount(), looked.size());
         for (int i = 0; i < toExile; i++) {
-            Card exiled = looked.remove(ThreadLocalRandom.current().nextInt(looked.size()));
+            Card exiled = looked.remove(GameEntropy.random().nextInt(looked.size()));
             exileService.exileCard(gameData, controllerId, exiled);
             gameLogService.append(gameData, GameLog.textCardText(
                     result.playerName() + " exiles ", exiled, " at random."));
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -63,7 +64,7 @@ public class LookAtTopCardsMayCastExiledNonlandCardEffectHandler implements Norm
                 .filter(card -> !card.hasType(CardType.LAND))
                 .toList();
         if (nonlandCards.isEmpty()) {
-            Collections.shuffle(topCards);
+            Collections.shuffle(topCards, GameEntropy.random());
             deck.addAll(topCards);
             return;
         }
@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchFollowUp;
@@ -192,7 +193,7 @@ public class LookAtTopCardsRevealTwoTypesToHandThenRestEffectHandler implements
             List<Card> cards, boolean toGraveyard, boolean randomBottom) {
         if (!toGraveyard) {
             if (randomBottom) {
-                Collections.shuffle(cards);
+                Collections.shuffle(cards, GameEntropy.random());
                 gameData.playerDecks.get(controllerId).addAll(cards);
                 gameLogService.append(gameData, GameLog.text(playerName
                         + " puts the unchosen cards on the bottom of their library in a random order."));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.GameLog;
@@ -77,7 +78,7 @@ public class LookAtTopXCardsPermanentsToBattlefieldRestToGraveyardEffectHandler
         if (eligibleCards.isEmpty()) {
             if (toBottomRandom) {
                 // No eligible cards — put all on bottom in random order
-                Collections.shuffle(revealedCards);
+                Collections.shuffle(revealedCards, GameEntropy.random());
                 deck.addAll(revealedCards);
                 String noEligibleLog = playerName + " finds no eligible cards. All cards are put on the bottom of their library in a random order.";
                 gameLogService.append(gameData, GameLog.text(noEligibleLog));
@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -83,7 +84,7 @@ public class MadcapExperimentEffectHandler implements NormalEffectHandlerBean {
         }
 
         if (deck != null && !revealedCards.isEmpty()) {
-            Collections.shuffle(revealedCards);
+            Collections.shuffle(revealedCards, GameEntropy.random());
             deck.addAll(revealedCards);
         }
 
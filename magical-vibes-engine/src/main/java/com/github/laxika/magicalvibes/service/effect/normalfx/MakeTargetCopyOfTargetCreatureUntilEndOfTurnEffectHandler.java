@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -57,7 +58,7 @@ public class MakeTargetCopyOfTargetCreatureUntilEndOfTurnEffectHandler implement
         permanentCopierService.applyCloneCopy(target, copySource, null, null);
         target.setCopyUntilEndOfTurn(true);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), target.getId(),
+                GameEntropy.newId(), entry.getCard().getName(), target.getId(),
                 entry.getControllerId(), new BecomeCopyOfTargetCreatureUntilEndOfTurnEffect(),
                 target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -57,7 +58,7 @@ public class MakeTargetCopyOfTargetCreatureUntilNextTurnEffectHandler implements
         // swap above stores the copiable values; the floating effect carries the CR 613.7
         // timestamp and drives the revert when it expires at the ability controller's turn start.
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), effect, shapeshifter.getId(), null, null,
                 EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
 
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -54,7 +55,7 @@ public class MayCastPermanentSpellFromHandOrPutLandEffectHandler implements Norm
                 new CardTypePredicate(CardType.LAND), "land");
 
         if (!eligible.isEmpty()) {
-            UUID choiceGroupId = UUID.randomUUID();
+            UUID choiceGroupId = GameEntropy.newId();
             for (int i = eligible.size() - 1; i >= 0; i--) {
                 Card card = eligible.get(i);
                 gameData.pendingMayAbilities.addFirst(new PendingMayAbility(
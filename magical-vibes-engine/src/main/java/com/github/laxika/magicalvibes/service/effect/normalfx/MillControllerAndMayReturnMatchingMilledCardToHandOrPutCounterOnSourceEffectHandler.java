@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.StackEntryType;
@@ -52,7 +53,7 @@ public class MillControllerAndMayReturnMatchingMilledCardToHandOrPutCounterOnSou
             return;
         }
 
-        UUID groupId = UUID.randomUUID();
+        UUID groupId = GameEntropy.newId();
         for (int i = eligibleCards.size() - 1; i >= 0; i--) {
             Card card = eligibleCards.get(i);
             gameData.pendingMayAbilities.addFirst(new PendingMayAbility(
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -58,7 +59,7 @@ public class MoveKeywordFromTargetToTargetEffectHandler implements NormalEffectH
         if (loser != null) {
             RemoveKeywordEffect remove = new RemoveKeywordEffect(keyword, GrantScope.TARGET);
             loser.getRemovedKeywords().add(keyword);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(), remove,
                     loser.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             gameLogService.append(gameData, GameLog.builder().card(loser.getCard())
@@ -68,7 +69,7 @@ public class MoveKeywordFromTargetToTargetEffectHandler implements NormalEffectH
         if (gainer != null) {
             GrantKeywordEffect grant = new GrantKeywordEffect(keyword, GrantScope.TARGET);
             gainer.getGrantedKeywords().add(keyword);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(), grant,
                     gainer.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             gameLogService.append(gameData, GameLog.builder().card(gainer.getCard())
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardColor;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.service.GameLogService;
@@ -103,7 +104,7 @@ public class NivMizzetRevealSupport {
         for (Card card : selectedCards) {
             gameData.addCardToHand(controllerId, card);
         }
-        Collections.shuffle(remainingCards);
+        Collections.shuffle(remainingCards, GameEntropy.random());
         gameData.playerDecks.get(controllerId).addAll(remainingCards);
 
         if (!selectedCards.isEmpty()) {
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.ManaCost;
 import com.github.laxika.magicalvibes.model.ManaPool;
@@ -93,7 +94,7 @@ public class PayXManaRevealTopCardsToHandRestToBottomRandomEffectHandler impleme
             List<Card> remainingCards = new ArrayList<>(topCards);
             remainingCards.removeAll(matchingCards);
             if (!remainingCards.isEmpty()) {
-                Collections.shuffle(remainingCards);
+                Collections.shuffle(remainingCards, GameEntropy.random());
                 gameData.playerDecks.get(controllerId).addAll(remainingCards);
             }
             return;
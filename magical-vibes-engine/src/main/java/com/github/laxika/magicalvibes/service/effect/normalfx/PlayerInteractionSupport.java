@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.DiscardFollowUp;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.GameLog;
@@ -31,7 +32,6 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Shared draw/discard/reveal/choice helpers used by every PlayerInteraction effect handler
@@ -299,7 +299,7 @@ public class PlayerInteractionSupport {
         for (int i = 0; i < amount; i++) {
             List<Card> currentHand = gameData.playerHands.get(playerId);
             if (currentHand.isEmpty()) break;
-            int randomIndex = ThreadLocalRandom.current().nextInt(currentHand.size());
+            int randomIndex = GameEntropy.random().nextInt(currentHand.size());
             Card discarded = currentHand.remove(randomIndex);
             graveyardService.discardCard(gameData, playerId, discarded);
             gameLogService.append(gameData, GameLog.textCardText(playerName + " discards " , discarded, " at random."));
@@ -349,7 +349,7 @@ public class PlayerInteractionSupport {
             return;
         }
 
-        int chosen = matchingIndices.get(ThreadLocalRandom.current().nextInt(matchingIndices.size()));
+        int chosen = matchingIndices.get(GameEntropy.random().nextInt(matchingIndices.size()));
         Card discarded = hand.remove(chosen);
         graveyardService.discardCard(gameData, playerId, discarded);
         gameLogService.append(gameData, GameLog.textCardText(playerName + " discards ", discarded, " at random."));
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.ExiledCardEntry;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Returns one randomly selected card tracked as exiled with the source permanent to its owner's
@@ -49,7 +49,7 @@ public class PutRandomCardExiledWithSourceIntoOwnersHandEffectHandler implements
             return;
         }
 
-        ExiledCardEntry chosen = matching.get(ThreadLocalRandom.current().nextInt(matching.size()));
+        ExiledCardEntry chosen = matching.get(GameEntropy.random().nextInt(matching.size()));
         if (!gameData.removeFromExile(chosen.card().getId())) {
             return;
         }
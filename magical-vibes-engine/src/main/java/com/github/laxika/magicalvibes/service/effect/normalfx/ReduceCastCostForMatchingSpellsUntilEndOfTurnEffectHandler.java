@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
 import com.github.laxika.magicalvibes.model.effect.CostModificationScope;
@@ -10,7 +11,6 @@ import com.github.laxika.magicalvibes.model.effect.ReduceCastCostForMatchingSpel
 import com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 public class ReduceCastCostForMatchingSpellsUntilEndOfTurnEffectHandler
@@ -25,7 +25,7 @@ public class ReduceCastCostForMatchingSpellsUntilEndOfTurnEffectHandler
     public void resolve(GameData gameData, StackEntry entry, CardEffect effect) {
         var reduction = (ReduceCastCostForMatchingSpellsUntilEndOfTurnEffect) effect;
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(),
+                GameEntropy.newId(),
                 entry.getCard().getName(),
                 null,
                 entry.getControllerId(),
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
 import com.github.laxika.magicalvibes.model.effect.EffectDuration;
@@ -8,7 +9,6 @@ import com.github.laxika.magicalvibes.model.effect.ReduceCastCostForNextMatching
 import com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component("reduceCastCostForNextMatchingSpellNormalEffectHandler")
 public class ReduceCastCostForNextMatchingSpellEffectHandler implements NormalEffectHandlerBean {
@@ -21,7 +21,7 @@ public class ReduceCastCostForNextMatchingSpellEffectHandler implements NormalEf
     @Override
     public void resolve(GameData gameData, StackEntry entry, CardEffect effect) {
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(),
+                GameEntropy.newId(),
                 entry.getCard().getName(),
                 null,
                 entry.getControllerId(),
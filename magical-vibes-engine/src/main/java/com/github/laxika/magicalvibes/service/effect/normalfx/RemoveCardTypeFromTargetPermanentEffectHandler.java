@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -13,7 +14,6 @@ import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -36,7 +36,7 @@ public class RemoveCardTypeFromTargetPermanentEffectHandler implements NormalEff
         }
 
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(), remove,
+                GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(), remove,
                 target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
         String typeName = remove.cardType().name().charAt(0)
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -110,7 +111,7 @@ public class RemoveKeywordEffectHandler implements NormalEffectHandlerBean {
         // legacy field is still written for direct Permanent.hasKeyword callers; the layered
         // pass seeds it and then replays this removal at its real timestamp.
         target.getRemovedKeywords().add(remove.keyword());
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), null, entry.getControllerId(), remove,
                 target.getId(), null, null, remove.duration(), 0));
         String keywordName = remove.keyword().name().charAt(0) + remove.keyword().name().substring(1).toLowerCase().replace('_', ' ');
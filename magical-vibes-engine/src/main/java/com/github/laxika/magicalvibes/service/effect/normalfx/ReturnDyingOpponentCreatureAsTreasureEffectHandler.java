@@ -5,6 +5,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -75,11 +76,11 @@ public class ReturnDyingOpponentCreatureAsTreasureEffectHandler implements Norma
 
     private void addTreasureAbilityEffects(GameData gameData, StackEntry entry, Permanent permanent) {
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(),
+                GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(),
                 new LosesAllAbilitiesEffect(GrantScope.TARGET), permanent.getId(), null, null,
                 EffectDuration.PERMANENT, 0));
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), null, entry.getControllerId(),
+                GameEntropy.newId(), entry.getCard().getName(), null, entry.getControllerId(),
                 new GrantActivatedAbilityEffect(new ActivatedAbility(
                         true, null,
                         List.of(new SacrificeSelfCost(), new AwardAnyColorManaEffect()),
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -78,7 +79,7 @@ public class ReturnSourceCardFromGraveyardToBattlefieldEffectHandler implements
 
         if (e.losesAllAbilities()) {
             permanent.setLosesAllAbilitiesPermanently(true);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(), card.getName(), null,
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(), card.getName(), null,
                     entry.getControllerId(), new LosesAllAbilitiesEffect(GrantScope.TARGET, EffectDuration.PERMANENT),
                     permanent.getId(), null, null, EffectDuration.PERMANENT, 0));
         }
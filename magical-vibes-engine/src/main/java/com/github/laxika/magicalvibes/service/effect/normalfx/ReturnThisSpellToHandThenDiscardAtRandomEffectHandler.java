@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -12,7 +13,6 @@ import com.github.laxika.magicalvibes.service.graveyard.GraveyardService;
 import com.github.laxika.magicalvibes.service.trigger.TriggerCollectionService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -65,7 +65,7 @@ public class ReturnThisSpellToHandThenDiscardAtRandomEffectHandler implements No
 
         // Self-inflicted discard, so no opponent-discard punishers apply.
         gameData.discardCausedByOpponent = false;
-        int randomIndex = ThreadLocalRandom.current().nextInt(candidates);
+        int randomIndex = GameEntropy.random().nextInt(candidates);
 
         Card discarded;
         if (randomIndex == handSize) {
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -13,7 +14,6 @@ import com.github.laxika.magicalvibes.service.GameOutcomeService;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -53,7 +53,7 @@ public class RevealRandomCardFromTargetPlayerHandDealDamageEqualToManaValueEffec
             return;
         }
 
-        Card revealed = hand.get(ThreadLocalRandom.current().nextInt(hand.size()));
+        Card revealed = hand.get(GameEntropy.random().nextInt(hand.size()));
         gameLogService.append(gameData,
                 GameLog.textCardText(targetName + " reveals ", revealed, " at random."));
         cardRevealService.revealToAllPlayers(
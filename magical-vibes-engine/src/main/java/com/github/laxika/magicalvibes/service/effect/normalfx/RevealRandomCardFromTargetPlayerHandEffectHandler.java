@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -11,7 +12,6 @@ import com.github.laxika.magicalvibes.service.CardRevealService;
 import com.github.laxika.magicalvibes.service.GameLogService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -44,7 +44,7 @@ public class RevealRandomCardFromTargetPlayerHandEffectHandler implements Normal
             return;
         }
 
-        int randomIndex = ThreadLocalRandom.current().nextInt(hand.size());
+        int randomIndex = GameEntropy.random().nextInt(hand.size());
         Card revealed = hand.get(randomIndex);
         gameLogService.append(gameData, GameLog.textCardText(targetName + " reveals " , revealed, " at random."));
 
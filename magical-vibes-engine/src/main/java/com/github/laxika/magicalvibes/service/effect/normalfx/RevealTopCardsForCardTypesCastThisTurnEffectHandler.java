@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchFollowUp;
@@ -105,7 +106,7 @@ public class RevealTopCardsForCardTypesCastThisTurnEffectHandler implements Norm
     }
 
     private void bottomRandomly(GameData gameData, UUID controllerId, List<Card> cards, String playerName) {
-        java.util.Collections.shuffle(cards);
+        java.util.Collections.shuffle(cards, GameEntropy.random());
         gameData.playerDecks.get(controllerId).addAll(cards);
         gameLogService.append(gameData, GameLog.text(playerName
                 + " puts the unchosen cards on the bottom of their library in a random order."));
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -59,7 +60,7 @@ public class RevealTopCardsOfTargetPlayerUntilInstantOrSorceryAndCastEffectHandl
         }
 
         if (hit == null) {
-            Collections.shuffle(exiled);
+            Collections.shuffle(exiled, GameEntropy.random());
             deck.addAll(exiled);
             return;
         }
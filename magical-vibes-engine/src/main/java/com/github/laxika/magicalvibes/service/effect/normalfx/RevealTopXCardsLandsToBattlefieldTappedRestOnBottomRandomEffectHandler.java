@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -82,7 +83,7 @@ public class RevealTopXCardsLandsToBattlefieldTappedRestOnBottomRandomEffectHand
         }
 
         if (!remaining.isEmpty()) {
-            Collections.shuffle(remaining);
+            Collections.shuffle(remaining, GameEntropy.random());
             deck.addAll(remaining);
         }
 
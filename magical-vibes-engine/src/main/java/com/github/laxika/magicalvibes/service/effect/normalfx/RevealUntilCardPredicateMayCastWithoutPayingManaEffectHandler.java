@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -67,7 +68,7 @@ public class RevealUntilCardPredicateMayCastWithoutPayingManaEffectHandler
                 playerName + " reveals " + revealedNames + " from the top of their library."));
 
         if (foundCard == null) {
-            Collections.shuffle(revealedCards);
+            Collections.shuffle(revealedCards, GameEntropy.random());
             deck.addAll(revealedCards);
             gameLogService.append(gameData, GameLog.text(
                     playerName + " reveals their entire library — no matching card was found."));
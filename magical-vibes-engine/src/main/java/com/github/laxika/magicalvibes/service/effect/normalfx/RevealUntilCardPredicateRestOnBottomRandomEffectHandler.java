@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -96,7 +97,7 @@ public class RevealUntilCardPredicateRestOnBottomRandomEffectHandler
         }
 
         if (!revealedCards.isEmpty()) {
-            Collections.shuffle(revealedCards);
+            Collections.shuffle(revealedCards, GameEntropy.random());
             deck.addAll(revealedCards);
         }
 
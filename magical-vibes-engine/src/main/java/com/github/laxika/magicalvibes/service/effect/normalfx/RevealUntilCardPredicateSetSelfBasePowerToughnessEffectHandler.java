@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -74,7 +75,7 @@ public class RevealUntilCardPredicateSetSelfBasePowerToughnessEffectHandler
         gameLogService.append(gameData, GameLog.text(
                 playerName + " reveals " + revealedNames + " from the top of their library."));
 
-        Collections.shuffle(revealedCards);
+        Collections.shuffle(revealedCards, GameEntropy.random());
         deck.addAll(revealedCards);
 
         if (foundCard == null) {
@@ -92,7 +93,7 @@ public class RevealUntilCardPredicateSetSelfBasePowerToughnessEffectHandler
         int power = cardPowerToughness.power() * typedEffect.multiplier();
         int toughness = cardPowerToughness.toughness() * typedEffect.multiplier();
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), source.getId(), controllerId,
+                GameEntropy.newId(), entry.getCard().getName(), source.getId(), controllerId,
                 new SetBasePowerToughnessEffect(power, toughness), source.getId(), null, null,
                 EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
 
@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingInteraction;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -155,7 +156,7 @@ public class RevealUntilCountMatchingCardsToBattlefieldRestOnBottomRandomEffectH
     }
 
     private void putRevealedCardsOnBottom(GameData gameData, UUID controllerId, List<Card> cards) {
-        Collections.shuffle(cards);
+        Collections.shuffle(cards, GameEntropy.random());
         gameData.playerDecks.get(controllerId).addAll(cards);
     }
 }
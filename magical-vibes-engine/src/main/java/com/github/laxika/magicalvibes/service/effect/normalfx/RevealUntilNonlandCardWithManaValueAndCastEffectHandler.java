@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -56,7 +57,7 @@ public class RevealUntilNonlandCardWithManaValueAndCastEffectHandler implements
         String sourceName = entry.getCard().getName();
         String playerName = gameData.playerIdToName.get(controllerId);
         if (hit == null) {
-            Collections.shuffle(revealed);
+            Collections.shuffle(revealed, GameEntropy.random());
             deck.addAll(revealed);
             gameLogService.append(gameData, GameLog.text(sourceName
                     + ": no qualifying nonland card was found; the revealed cards go to the bottom"
@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -12,7 +13,6 @@ import com.github.laxika.magicalvibes.service.battlefield.CreatureControlService
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -53,7 +53,7 @@ public class ScrambleverseEffectHandler implements NormalEffectHandlerBean {
         });
 
         for (Permanent permanent : nonlands) {
-            UUID chosen = players.get(ThreadLocalRandom.current().nextInt(players.size()));
+            UUID chosen = players.get(GameEntropy.random().nextInt(players.size()));
             creatureControlService.applyControlEffect(gameData, chosen, permanent, CONTROL_EFFECT,
                     ControlDuration.PERMANENT.toEffectDuration(), null, entry.getCard().getName());
             tapUntapSupport.untapPermanent(gameData, permanent);
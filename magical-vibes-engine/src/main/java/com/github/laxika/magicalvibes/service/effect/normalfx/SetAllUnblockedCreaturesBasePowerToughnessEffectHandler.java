@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -52,7 +52,7 @@ public class SetAllUnblockedCreaturesBasePowerToughnessEffectHandler implements
                 permanent.setBasePowerToughnessOverriddenUntilEndOfTurn(true);
                 permanent.setBasePowerOverride(power);
                 permanent.setBaseToughnessOverride(toughness);
-                gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+                gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                         entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                         new SetBasePowerToughnessEffect(power, toughness), permanent.getId(), null, null,
                         EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -49,7 +50,7 @@ public class SetCardTypesUntilEndOfTurnEffectHandler implements NormalEffectHand
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                    GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                     entry.getControllerId(), setTypes, target.getId(), null, null,
                     EffectDuration.UNTIL_END_OF_TURN, 0));
         }
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -17,7 +18,6 @@ import com.github.laxika.magicalvibes.service.effect.AmountEvaluationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -44,7 +44,7 @@ public class SetSelfBasePowerToAmountUntilEndOfTurnEffectHandler implements Norm
                 AmountContext.forStackEntry(entry, source));
         SetBasePowerToughnessEffect setter = new SetBasePowerToughnessEffect(power, null, GrantScope.SELF);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(), setter, source.getId(), null, null,
                 EffectDuration.UNTIL_END_OF_TURN, 0));
         gameLogService.append(gameData, GameLog.builder().card(source.getCard())
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 /**
  * Resolves {@link SetSelfBasePowerToughnessFromCombatOpponentEffect} by locking the combat
@@ -50,7 +50,7 @@ public class SetSelfBasePowerToughnessFromCombatOpponentEffectHandler implements
         source.setBasePowerOverride(power);
         source.setBaseToughnessOverride(toughness);
         gameData.addFloatingEffect(new FloatingContinuousEffect(
-                UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                 entry.getControllerId(),
                 new SetBasePowerToughnessEffect(power, toughness, GrantScope.SELF),
                 source.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
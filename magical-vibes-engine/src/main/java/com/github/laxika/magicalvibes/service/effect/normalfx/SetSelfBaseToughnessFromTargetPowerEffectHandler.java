@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -15,7 +16,6 @@ import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -41,7 +41,7 @@ public class SetSelfBaseToughnessFromTargetPowerEffectHandler implements NormalE
 
         int toughness = gameQueryService.getEffectivePower(gameData, target) + e.toughnessOffset();
         var setter = new SetBasePowerToughnessEffect(null, toughness, GrantScope.SELF);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), source.getId(), entry.getControllerId(), setter,
                 source.getId(), null, null, EffectDuration.PERMANENT, 0));
 
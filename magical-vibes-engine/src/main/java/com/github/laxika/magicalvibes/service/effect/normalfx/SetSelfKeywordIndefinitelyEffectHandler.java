@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -14,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -48,7 +48,7 @@ public class SetSelfKeywordIndefinitelyEffectHandler implements NormalEffectHand
                         && source.getId().equals(floating.affectedPermanentId()));
 
         // CR 611.2b: no stated duration means the continuous effect lasts indefinitely.
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), source.getId(), entry.getControllerId(), change,
                 source.getId(), null, null, EffectDuration.PERMANENT, 0));
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -16,7 +17,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 /**
  * Resolves {@link SetSelfPowerToughnessFromTargetCreatureEffect}: reads the target creature's
@@ -54,7 +54,7 @@ public class SetSelfPowerToughnessFromTargetCreatureEffectHandler implements Nor
         source.setBasePowerToughnessOverriddenUntilEndOfTurn(true);
         source.setBasePowerOverride(power);
         source.setBaseToughnessOverride(toughness);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                 setter, source.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.CardColor;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -66,7 +67,7 @@ public class SetTargetColorEffectHandler implements NormalEffectHandlerBean {
                 target.getTransientColors().add(color);
             }
             target.setColorOverridden(true);
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), null, entry.getControllerId(), e,
                     target.getId(), null, null, EffectDuration.PERMANENT, 0));
 
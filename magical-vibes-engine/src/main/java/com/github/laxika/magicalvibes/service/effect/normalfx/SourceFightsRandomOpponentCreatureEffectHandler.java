@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -13,7 +14,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -54,7 +54,7 @@ public class SourceFightsRandomOpponentCreatureEffectHandler implements NormalEf
         }
         if (pool.isEmpty()) return;
 
-        Permanent chosen = pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+        Permanent chosen = pool.get(GameEntropy.random().nextInt(pool.size()));
         gameLogService.append(gameData, GameLog.cardTextCard(entry.getCard(),
                 " fights ", chosen.getCard(), " (chosen at random)."));
         fightSupport.fight(gameData, entry, source, chosen);
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.LibrarySearchDestination;
 import com.github.laxika.magicalvibes.model.LibrarySearchParams;
@@ -65,7 +66,7 @@ public class SunbirdsInvocationRevealAndCastEffectHandler implements NormalEffec
 
         if (castable.isEmpty()) {
             // No castable cards — put all to bottom in random order
-            Collections.shuffle(topCards);
+            Collections.shuffle(topCards, GameEntropy.random());
             deck.addAll(topCards);
             String noMatchLog = sourceName + " — no castable cards found. Cards are put on the bottom in a random order.";
             gameLogService.append(gameData, GameLog.text(noMatchLog));
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -15,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -38,7 +38,7 @@ public class SwitchAllCreaturesPowerToughnessEffectHandler implements NormalEffe
                 return;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                    GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                     entry.getControllerId(), new SwitchPowerToughnessEffect(), permanent.getId(),
                     null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
             count[0]++;
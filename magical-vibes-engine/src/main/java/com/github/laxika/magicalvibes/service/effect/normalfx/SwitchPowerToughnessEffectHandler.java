@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -51,7 +52,7 @@ public class SwitchPowerToughnessEffectHandler implements NormalEffectHandlerBea
                 continue;
             }
 
-            gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+            gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                     entry.getCard().getName(), entry.getSourcePermanentId(), entry.getControllerId(),
                     switchEffect, target.getId(), null, null, EffectDuration.UNTIL_END_OF_TURN, 0));
 
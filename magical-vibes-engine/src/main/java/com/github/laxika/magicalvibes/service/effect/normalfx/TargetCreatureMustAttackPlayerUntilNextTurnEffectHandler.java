@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.effect.CardEffect;
@@ -40,7 +41,7 @@ public class TargetCreatureMustAttackPlayerUntilNextTurnEffectHandler implements
                 continue;
             }
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(), entry.getCard().getName(), entry.getSourcePermanentId(),
+                    GameEntropy.newId(), entry.getCard().getName(), entry.getSourcePermanentId(),
                     entry.getControllerId(), new GrantEffectEffect(new MustAttackPlayerEffect(), GrantScope.TARGET),
                     target.getId(), null, null, EffectDuration.UNTIL_YOUR_NEXT_TURN, 0));
         }
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Permanent;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -12,7 +13,6 @@ import com.github.laxika.magicalvibes.service.battlefield.PermanentRemovalServic
 import com.github.laxika.magicalvibes.service.trigger.TriggerCollectionService;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -56,7 +56,7 @@ public class TargetPlayerSacrificesRandomPermanentsUntilLandEffectHandler implem
                 return;
             }
 
-            Permanent chosen = battlefield.get(ThreadLocalRandom.current().nextInt(battlefield.size()));
+            Permanent chosen = battlefield.get(GameEntropy.random().nextInt(battlefield.size()));
             repeat = !gameQueryService.isLand(gameData, chosen);
 
             if (!permanentRemovalService.removePermanentToGraveyard(gameData, chosen)) {
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.effect.normalfx;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
@@ -15,7 +16,6 @@ import com.github.laxika.magicalvibes.service.graveyard.GraveyardService;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -49,7 +49,7 @@ public class TibaltTrickeryEffectHandler implements NormalEffectHandlerBean {
 
         UUID targetControllerId = targetSpell.getControllerId();
         UUID sourceId = entry.getCard().getId();
-        int millCount = ThreadLocalRandom.current().nextInt(1, 4);
+        int millCount = GameEntropy.random().nextInt(1, 4);
         graveyardService.resolveMillPlayer(gameData, targetControllerId, millCount);
 
         List<Card> library = gameData.playerDecks.get(targetControllerId);
@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.service.effect.normalfx;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.PendingWhimsOfTheFates;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @RequiredArgsConstructor
@@ -130,7 +130,7 @@ public class WhimsOfTheFatesEffectHandler implements NormalEffectHandlerBean {
     private void resolvePiles(GameData gameData, PendingWhimsOfTheFates state) {
         List<UUID> sacrificeIds = new ArrayList<>();
         for (PendingWhimsOfTheFates.PlayerPiles playerPiles : state.playerPiles()) {
-            int chosenPile = ThreadLocalRandom.current().nextInt(3);
+            int chosenPile = GameEntropy.random().nextInt(3);
             List<UUID> chosenIds = switch (chosenPile) {
                 case 0 -> playerPiles.pile1Ids();
                 case 1 -> playerPiles.pile2Ids();
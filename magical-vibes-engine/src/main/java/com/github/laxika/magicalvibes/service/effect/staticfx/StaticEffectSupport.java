@@ -29,6 +29,7 @@ import com.github.laxika.magicalvibes.model.filter.PermanentPredicate;
 import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
 import com.github.laxika.magicalvibes.service.effect.AmountContext;
 import com.github.laxika.magicalvibes.service.effect.AmountEvaluationService;
+import com.github.laxika.magicalvibes.service.effect.LayerSystemService;
 import com.github.laxika.magicalvibes.service.effect.StaticBonusAccumulator;
 import com.github.laxika.magicalvibes.service.effect.StaticEffectContext;
 import com.github.laxika.magicalvibes.service.filter.PredicateEvaluationService;
@@ -114,9 +115,11 @@ public class StaticEffectSupport {
                     || (pairedId != null && context.target().getId().equals(pairedId));
         }
         if (scope == GrantScope.OWN_TAPPED_CREATURES) {
+            LayerSystemService.noteTapOrCombatStateRead();
             return context.targetOnSameBattlefield() && context.target().isTapped();
         }
         if (scope == GrantScope.OWN_UNTAPPED_CREATURES) {
+            LayerSystemService.noteTapOrCombatStateRead();
             if (!context.targetOnSameBattlefield() || context.target().isTapped()) return false;
             boolean hasAnimateArtifacts = hasAnimateArtifactEffect(context.gameData());
             return isEffectivelyCreature(context.gameData(), context.target(), hasAnimateArtifacts);
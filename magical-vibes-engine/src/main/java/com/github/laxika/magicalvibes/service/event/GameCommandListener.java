@@ -0,0 +1,26 @@
+package com.github.laxika.magicalvibes.service.event;
+
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
+import com.github.laxika.magicalvibes.model.event.GameEventBatch;
+
+/**
+ * Observes the player commands that start live outermost actions, in the order the game applied
+ * them.
+ *
+ * <p>Called after the GameData monitor is released but while the game's action lock is still
+ * held and before the batch is dispatched: calls for one game never overlap or reorder, and the
+ * game cannot change underneath the call. Implementations must stay cheap — they sit on every
+ * player action. Never called for simulation copies or while a game is replayed from its journal.
+ */
+public interface GameCommandListener {
+
+    /** The action committed as {@code batch} (whose events may be empty). */
+    void commandApplied(GameData gameData, GameCommand command, GameEventBatch batch);
+
+    /**
+     * The action threw. Whatever it changed before failing stays changed, so a replay must run
+     * the command again and expect the same failure.
+     */
+    void commandRejected(GameData gameData, GameCommand command);
+}
@@ -20,7 +20,7 @@ public class GameEventDispatcher {
     }
 
     public void dispatch(GameEventBatch batch) {
-        if (batch.dispatchMode() == GameEventBatch.DispatchMode.SUPPRESSED_SIMULATION
+        if (batch.dispatchMode() != GameEventBatch.DispatchMode.LIVE
                 || batch.events().isEmpty()) {
             return;
         }
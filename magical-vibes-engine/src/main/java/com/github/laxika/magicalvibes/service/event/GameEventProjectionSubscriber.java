@@ -31,6 +31,8 @@ import java.util.UUID;
  *
  * <p>It resolves authoritative state by game ID only after mutation dispatch, enforces every
  * envelope audience, builds recipient-specific views, and delegates delivery. It never serializes.
+ * Every batch is recorded with the view factory first, so its section cache drops exactly what the
+ * batch invalidated before any of the batch's state is projected.
  */
 @Slf4j
 @Component
@@ -49,6 +51,7 @@ public class GameEventProjectionSubscriber implements GameEventSubscriber {
     public void onGameEvents(GameEventBatch batch) {
         GameData gameData = gameRegistry.get(batch.gameId());
         if (gameData == null) {
+            gameViewProjectionFactory.evict(batch.gameId());
             log.warn("Cannot project game event batch {}: game {} is not registered",
                     batch.causalActionId(), batch.gameId());
             return;
@@ -56,6 +59,7 @@ public class GameEventProjectionSubscriber implements GameEventSubscriber {
         if (Thread.holdsLock(gameData)) {
             throw new IllegalStateException("Game event projection must run outside the game monitor");
         }
+        gameViewProjectionFactory.recordBatch(gameData, batch);
 
         List<GameLogEntryView> newLogEntries = appendedLogEntries(gameData, batch);
         Set<UUID> logRecipients = new LinkedHashSet<>();
@@ -76,8 +80,8 @@ public class GameEventProjectionSubscriber implements GameEventSubscriber {
                         recipientsWithoutLogs.add(recipient);
                     }
                 }
-                projectState(gameData, newLogEntries, recipientsWithLogs, logRecipients);
-                projectState(gameData, List.of(), recipientsWithoutLogs, logRecipients);
+                projectState(gameData, batch.stateVersion(), newLogEntries, recipientsWithLogs, logRecipients);
+                projectState(gameData, batch.stateVersion(), List.of(), recipientsWithoutLogs, logRecipients);
             } else if (envelope.fact() instanceof GameEventFact.DecisionRequested decision) {
                 projectDecision(gameData, decision, recipients);
             } else if (envelope.fact() instanceof GameEventFact.PrivateReveal reveal) {
@@ -97,6 +101,7 @@ public class GameEventProjectionSubscriber implements GameEventSubscriber {
 
     private void projectState(
             GameData gameData,
+            long stateVersion,
             List<GameLogEntryView> logEntries,
             Set<UUID> recipients,
             Set<UUID> logRecipients) {
@@ -109,7 +114,7 @@ public class GameEventProjectionSubscriber implements GameEventSubscriber {
         for (UUID recipient : recipients) {
             GameStateMessage message = messages.get(recipient);
             if (message != null) {
-                transport.sendToPlayer(recipient, message);
+                transport.sendGameState(recipient, gameData.id, stateVersion, message);
                 logRecipients.add(recipient);
             }
         }
@@ -1,20 +1,25 @@
 package com.github.laxika.magicalvibes.service.event;
 
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
 import com.github.laxika.magicalvibes.model.event.GameEventAudience;
 import com.github.laxika.magicalvibes.model.event.GameEventBatch;
 import com.github.laxika.magicalvibes.model.event.GameEventEnvelope;
 import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -26,17 +31,50 @@ import java.util.function.Supplier;
  *
  * <p>The coordinator is intentionally the only owner of mutation-scope nesting and flushing.
  * Nested calls for the same game append to the outer context and inherit its causal action id.
+ *
+ * <p>Each game owns its ordering state ({@link GameData#mutationActionState}), so unrelated games
+ * share no lock or lookup structure. MCTS simulation copies run a lightweight scope: still ordered
+ * and nested the same way, but emitted facts are validated and dropped instead of assembled into a
+ * batch nobody will receive.
+ *
+ * <p>A live action binds its game's {@link GameEntropy} to the thread, so every shuffle, random
+ * choice and fresh id inside it comes from the game's seeded generator. An action started with a
+ * {@link GameCommand} is reported to the {@link GameCommandListener}s once it commits or fails;
+ * together the seed and the commands replay the game.
  */
+@Slf4j
 @Component
 public class GameMutationCoordinator {
 
+    private static final VarHandle ACTION_STATE;
+
+    static {
+        try {
+            ACTION_STATE = MethodHandles.lookup()
+                    .findVarHandle(GameData.class, "mutationActionState", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final GameEventDispatcher dispatcher;
-    private final Map<GameData, ActionState> actionStates =
-            Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<GameCommandListener> commandListeners;
+    /** Live actions in progress, for the one-game-per-scope check; simulation scopes never register. */
     private final Set<ActionState> activeActions = ConcurrentHashMap.newKeySet();
 
     public GameMutationCoordinator(GameEventDispatcher dispatcher) {
+        this(dispatcher, List.of());
+    }
+
+    @Autowired
+    public GameMutationCoordinator(GameEventDispatcher dispatcher,
+                                   ObjectProvider<GameCommandListener> commandListeners) {
+        this(dispatcher, commandListeners.orderedStream().toList());
+    }
+
+    public GameMutationCoordinator(GameEventDispatcher dispatcher, List<GameCommandListener> commandListeners) {
         this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this.commandListeners = List.copyOf(commandListeners);
     }
 
     /**
@@ -51,10 +89,29 @@ public class GameMutationCoordinator {
     }
 
     public <T> T mutate(GameData gameData, Supplier<T> mutation) {
+        return mutate(gameData, null, mutation);
+    }
+
+    /**
+     * Starts a new causal action on behalf of a player command. Only an outermost live action
+     * reports its command; a call that joins an action already in progress is part of that
+     * action's command.
+     */
+    public void mutate(GameData gameData, GameCommand command, Runnable mutation) {
+        mutate(gameData, command, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    public <T> T mutate(GameData gameData, GameCommand command, Supplier<T> mutation) {
         Objects.requireNonNull(gameData, "gameData");
         Objects.requireNonNull(mutation, "mutation");
 
         ActionState actionState = actionStateFor(gameData);
+        if (gameData.simulation) {
+            return mutateSimulation(gameData, actionState, mutation);
+        }
         ActionState currentThreadAction = currentThreadAction();
         if (currentThreadAction != null && currentThreadAction != actionState) {
             throw new IllegalStateException("A mutation scope cannot span multiple GameData instances");
@@ -75,18 +132,27 @@ public class GameMutationCoordinator {
                         "A subscriber cannot start a mutation while the previous action is still dispatching");
             }
 
-            MutationContext context = new MutationContext(gameData);
+            MutationContext context = new MutationContext(gameData, false);
             actionState.context = context;
+            boolean reportsCommand = command != null && !gameData.journalReplay && !commandListeners.isEmpty();
 
-            T result;
-            GameEventBatch batch;
+            T result = null;
+            GameEventBatch batch = null;
+            GameEntropy outerEntropy = GameEntropy.bind(gameData.entropy);
             try {
                 synchronized (gameData) {
                     result = mutation.get();
                     batch = completeBatch(context);
                 }
             } finally {
+                GameEntropy.restore(outerEntropy);
                 actionState.context = null;
+                if (reportsCommand && batch == null) {
+                    reportCommand(gameData, command, null);
+                }
+            }
+            if (reportsCommand) {
+                reportCommand(gameData, command, batch);
             }
 
             // The per-game action lock remains held so a later action cannot overtake this batch, but
@@ -106,6 +172,59 @@ public class GameMutationCoordinator {
         }
     }
 
+    /**
+     * Simulation scope: a simulation copy belongs to the one search worker that made it, and its
+     * batches are never dispatched, so the action is ordered and numbered like a live one but no
+     * events, envelopes or batch are built and the live-action registry is not touched.
+     */
+    private <T> T mutateSimulation(GameData gameData, ActionState actionState, Supplier<T> mutation) {
+        if (Thread.holdsLock(gameData)) {
+            if (actionState.actionLock.isHeldByCurrentThread() && actionState.context != null) {
+                return mutation.get();
+            }
+            throw new IllegalStateException(
+                    "Start the outermost GameMutationCoordinator scope before acquiring the GameData monitor");
+        }
+
+        actionState.actionLock.lock();
+        // A rollout draws from the worker's own randomness, never from a live game's generator.
+        GameEntropy outerEntropy = GameEntropy.bind(null);
+        try {
+            actionState.context = new MutationContext(gameData, true);
+            try {
+                synchronized (gameData) {
+                    T result = mutation.get();
+                    gameData.nextDomainActionSequence();
+                    gameData.advanceDomainStateVersion();
+                    return result;
+                }
+            } finally {
+                actionState.context = null;
+            }
+        } finally {
+            GameEntropy.restore(outerEntropy);
+            actionState.actionLock.unlock();
+        }
+    }
+
+    /** Reports a committed ({@code batch} set) or failed command; a broken listener is only logged. */
+    private void reportCommand(GameData gameData, GameCommand command, GameEventBatch batch) {
+        for (GameCommandListener listener : commandListeners) {
+            try {
+                if (batch != null) {
+                    listener.commandApplied(gameData, command, batch);
+                } else {
+                    listener.commandRejected(gameData, command);
+                }
+            } catch (VirtualMachineError fatal) {
+                throw fatal;
+            } catch (Throwable failure) {
+                log.error("Game command listener {} failed for game {} command {}",
+                        listener.getClass().getName(), gameData.id, command.name(), failure);
+            }
+        }
+    }
+
     /**
      * Returns whether the current call is already inside this game's protected causal action.
      * Canonical facades use this to let public overloads and recursive engine continuations join
@@ -113,11 +232,7 @@ public class GameMutationCoordinator {
      */
     public boolean isInAction(GameData gameData) {
         Objects.requireNonNull(gameData, "gameData");
-        ActionState actionState;
-        synchronized (actionStates) {
-            actionState = actionStates.get(gameData);
-        }
-        return actionState != null
+        return gameData.mutationActionState instanceof ActionState actionState
                 && actionState.actionLock.isHeldByCurrentThread()
                 && actionState.context != null
                 && Thread.holdsLock(gameData);
@@ -231,7 +346,9 @@ public class GameMutationCoordinator {
                     "Decisions and private reveals require an explicit private audience");
         }
 
-        context.append(fact, audience);
+        if (!context.simulation) {
+            context.append(fact, audience);
+        }
     }
 
     private GameEventBatch completeBatch(MutationContext context) {
@@ -253,14 +370,21 @@ public class GameMutationCoordinator {
 
         GameEventBatch.DispatchMode mode = gameData.simulation
                 ? GameEventBatch.DispatchMode.SUPPRESSED_SIMULATION
+                : gameData.journalReplay
+                ? GameEventBatch.DispatchMode.SUPPRESSED_REPLAY
                 : GameEventBatch.DispatchMode.LIVE;
         return new GameEventBatch(gameData.id, causalActionId, stateVersion, mode, envelopes);
     }
 
-    private ActionState actionStateFor(GameData gameData) {
-        synchronized (actionStates) {
-            return actionStates.computeIfAbsent(gameData, ignored -> new ActionState());
+    /** Returns the game's ordering state, installing it on first use; racing installers agree on one. */
+    private static ActionState actionStateFor(GameData gameData) {
+        Object installed = gameData.mutationActionState;
+        if (installed == null) {
+            ActionState created = new ActionState();
+            Object witness = ACTION_STATE.compareAndExchange(gameData, null, created);
+            installed = witness != null ? witness : created;
         }
+        return (ActionState) installed;
     }
 
     private ActionState currentThreadAction() {
@@ -278,11 +402,16 @@ public class GameMutationCoordinator {
 
     private static final class MutationContext {
         private final GameData gameData;
-        private final List<PendingEvent> pendingEvents = new ArrayList<>();
-        private final Map<GameEventAudience, Integer> invalidationIndexByAudience = new HashMap<>();
+        /** Simulation scope: facts are validated but never recorded. */
+        private final boolean simulation;
+        private final List<PendingEvent> pendingEvents;
+        private final Map<GameEventAudience, Integer> invalidationIndexByAudience;
 
-        private MutationContext(GameData gameData) {
+        private MutationContext(GameData gameData, boolean simulation) {
             this.gameData = gameData;
+            this.simulation = simulation;
+            this.pendingEvents = simulation ? List.of() : new ArrayList<>();
+            this.invalidationIndexByAudience = simulation ? Map.of() : new HashMap<>();
         }
 
         private void append(GameEventFact fact, GameEventAudience audience) {
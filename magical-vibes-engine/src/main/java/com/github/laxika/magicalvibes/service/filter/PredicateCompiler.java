@@ -0,0 +1,446 @@
+package com.github.laxika.magicalvibes.service.filter;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.filter.CardAllOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardAnyOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardColorPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardHasSourceChosenColorPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardHasSourceChosenSubtypePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardIsAuraPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardIsHistoricPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardIsPermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardIsTokenPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardKeywordPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardManaValueAtMostSourcePowerPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardManaValueLessThanSourceLoyaltyPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardMaxManaValuePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardMinManaValuePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardNameInControllerGraveyardPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardNamedPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardNotPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardSharesCardTypeWithImprintedCardPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardSharesNameWithAPermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardSubtypePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardSupertypePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardToughnessLessThanSourceToughnessPredicate;
+import com.github.laxika.magicalvibes.model.filter.CardTruePredicate;
+import com.github.laxika.magicalvibes.model.filter.CardTypePredicate;
+import com.github.laxika.magicalvibes.model.filter.FilterContext;
+import com.github.laxika.magicalvibes.model.filter.PermanentAllOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentAnyOfPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentAttackedDuringControllersLastTurnPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentAttackedOrBlockedThisTurnPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentAttackedThisTurnPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentColorInPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasAnySubtypePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasCountersPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasKeywordPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasProtectionFromColorPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasSubtypePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentHasSupertypePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsArtifactPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsAttackingPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsBattlePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsBlockingPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsColorlessPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsCreaturePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsEnchantmentPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsFaceDownPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsHistoricPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsKindredPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsLandPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsMonocoloredPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsMulticoloredPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsPlaneswalkerPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsRenownedPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsSourceCardPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsSpecificPermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsTappedPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsTokenPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentMaxManaValuePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentMinManaValuePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentNotPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPowerAtLeastPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPowerAtMostPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPowerEqualsToughnessPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentToughnessAtLeastPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentToughnessAtMostPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentTruePredicate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Compiles composite {@link PermanentPredicate} and {@link CardPredicate} trees into evaluator
+ * closures, once per distinct predicate, for {@link PredicateEvaluationService}.
+ *
+ * <p>A compiled tree no longer re-dispatches its composites through the evaluation switches:
+ * all-of / any-of / not become closures over their compiled children, and each all-of / any-of
+ * runs its children cheapest first — {@link Cost#INTRINSIC} checks read only the object's own
+ * fields, {@link Cost#CHARACTERISTIC} checks ask one layered question, {@link Cost#BOARD} checks
+ * scan other permanents or zones. Children of equal cost keep their written order. The
+ * cheapest intrinsic leaves and the hottest characteristic leaves are answered by the compiled
+ * closure itself; every other leaf falls back to its switch arm
+ * ({@link PredicateEvaluationService#matchesPermanentLeaf}, {@link PredicateEvaluationService#matchesCardLeaf}),
+ * so the switches stay the one definition of what a leaf means.
+ *
+ * <p>Reordering is sound because leaves are side-effect free: a conjunction or disjunction of
+ * pure checks has the same answer in any order. Tap/combat read tracking
+ * ({@code LayerSystemService.noteTapOrCombatStateRead}) stays sound for the same reason — a leaf
+ * skipped by short-circuiting could not have changed the answer.
+ *
+ * <p>Compiled evaluators are cached by predicate equality (predicates are immutable records),
+ * so a filter rebuilt per call still reuses the first compilation. The cache is bounded and
+ * simply cleared when full; recompiling costs one tree walk.
+ */
+final class PredicateCompiler {
+
+    /** Relative cost of evaluating a predicate; all-of / any-of children run cheapest first. */
+    enum Cost {
+        INTRINSIC, CHARACTERISTIC, BOARD
+    }
+
+    @FunctionalInterface
+    interface PermanentEvaluator {
+        boolean test(Permanent permanent, FilterContext context);
+    }
+
+    @FunctionalInterface
+    interface CardEvaluator {
+        boolean test(Card card, UUID sourceCardId, GameData gameData, UUID cardOwnerId,
+                     UUID sourcePermanentId, Integer sourcePowerAtTrigger, Integer xValue);
+    }
+
+    record CompiledPermanentPredicate(PermanentEvaluator evaluator, Cost cost) {
+    }
+
+    record CompiledCardPredicate(CardEvaluator evaluator, Cost cost) {
+    }
+
+    static final int MAX_CACHED = 4096;
+
+    /** Permanent leaves answered from the permanent's own fields. */
+    private static final Set<Class<? extends PermanentPredicate>> INTRINSIC_PERMANENT_LEAVES = Set.of(
+            PermanentIsTokenPredicate.class, PermanentIsFaceDownPredicate.class,
+            PermanentIsRenownedPredicate.class, PermanentIsTappedPredicate.class,
+            PermanentIsAttackingPredicate.class, PermanentIsBlockingPredicate.class,
+            PermanentAttackedThisTurnPredicate.class, PermanentAttackedDuringControllersLastTurnPredicate.class,
+            PermanentAttackedOrBlockedThisTurnPredicate.class, PermanentMaxManaValuePredicate.class,
+            PermanentMinManaValuePredicate.class, PermanentIsSourceCardPredicate.class,
+            PermanentIsSpecificPermanentPredicate.class, PermanentHasCountersPredicate.class,
+            PermanentTruePredicate.class);
+
+    /** Permanent leaves that ask one layered question about the permanent itself. */
+    private static final Set<Class<? extends PermanentPredicate>> CHARACTERISTIC_PERMANENT_LEAVES = Set.of(
+            PermanentIsCreaturePredicate.class, PermanentIsLandPredicate.class,
+            PermanentIsArtifactPredicate.class, PermanentIsEnchantmentPredicate.class,
+            PermanentIsPlaneswalkerPredicate.class, PermanentIsBattlePredicate.class,
+            PermanentIsKindredPredicate.class, PermanentIsHistoricPredicate.class,
+            PermanentHasKeywordPredicate.class, PermanentHasSubtypePredicate.class,
+            PermanentHasAnySubtypePredicate.class, PermanentHasSupertypePredicate.class,
+            PermanentColorInPredicate.class, PermanentIsMonocoloredPredicate.class,
+            PermanentIsColorlessPredicate.class, PermanentIsMulticoloredPredicate.class,
+            PermanentHasProtectionFromColorPredicate.class, PermanentPowerAtLeastPredicate.class,
+            PermanentPowerAtMostPredicate.class, PermanentToughnessAtLeastPredicate.class,
+            PermanentToughnessAtMostPredicate.class, PermanentPowerEqualsToughnessPredicate.class);
+
+    /** Card leaves that consult all-zone grants through the game state. */
+    private static final Set<Class<? extends CardPredicate>> CHARACTERISTIC_CARD_LEAVES = Set.of(
+            CardTypePredicate.class, CardSubtypePredicate.class, CardIsHistoricPredicate.class);
+
+    /** Card leaves that look up the source permanent or scan zones. */
+    private static final Set<Class<? extends CardPredicate>> BOARD_CARD_LEAVES = Set.of(
+            CardHasSourceChosenSubtypePredicate.class, CardHasSourceChosenColorPredicate.class,
+            CardManaValueAtMostSourcePowerPredicate.class, CardManaValueLessThanSourceLoyaltyPredicate.class,
+            CardSharesCardTypeWithImprintedCardPredicate.class,
+            CardToughnessLessThanSourceToughnessPredicate.class,
+            CardNameInControllerGraveyardPredicate.class, CardSharesNameWithAPermanentPredicate.class);
+
+    private static final CompiledPermanentPredicate NO_PERMANENT =
+            new CompiledPermanentPredicate((permanent, context) -> false, Cost.INTRINSIC);
+
+    private static final CompiledCardPredicate ANY_CARD = new CompiledCardPredicate(
+            (card, sourceCardId, gameData, cardOwnerId, sourcePermanentId, sourcePower, xValue) -> true,
+            Cost.INTRINSIC);
+
+    private final PredicateEvaluationService service;
+    private final Map<PermanentPredicate, CompiledPermanentPredicate> permanentCache = new ConcurrentHashMap<>();
+    private final Map<CardPredicate, CompiledCardPredicate> cardCache = new ConcurrentHashMap<>();
+
+    PredicateCompiler(PredicateEvaluationService service) {
+        this.service = service;
+    }
+
+    static boolean isComposite(PermanentPredicate predicate) {
+        return predicate instanceof PermanentAllOfPredicate
+                || predicate instanceof PermanentAnyOfPredicate
+                || predicate instanceof PermanentNotPredicate;
+    }
+
+    static boolean isComposite(CardPredicate predicate) {
+        return predicate instanceof CardAllOfPredicate
+                || predicate instanceof CardAnyOfPredicate
+                || predicate instanceof CardNotPredicate;
+    }
+
+    CompiledPermanentPredicate compile(PermanentPredicate predicate) {
+        CompiledPermanentPredicate compiled = permanentCache.get(predicate);
+        if (compiled == null) {
+            compiled = compilePermanent(predicate);
+            if (permanentCache.size() >= MAX_CACHED) {
+                permanentCache.clear();
+            }
+            permanentCache.put(predicate, compiled);
+        }
+        return compiled;
+    }
+
+    CompiledCardPredicate compile(CardPredicate predicate) {
+        CompiledCardPredicate compiled = cardCache.get(predicate);
+        if (compiled == null) {
+            compiled = compileCard(predicate);
+            if (cardCache.size() >= MAX_CACHED) {
+                cardCache.clear();
+            }
+            cardCache.put(predicate, compiled);
+        }
+        return compiled;
+    }
+
+    // --- Permanent predicates ---
+
+    private CompiledPermanentPredicate compilePermanent(PermanentPredicate predicate) {
+        if (predicate == null) {
+            return NO_PERMANENT;
+        }
+        return switch (predicate) {
+            case PermanentAllOfPredicate allOf -> {
+                CompiledPermanentPredicate[] parts = compilePermanentParts(allOf.predicates());
+                PermanentEvaluator[] evaluators = permanentEvaluators(parts);
+                yield new CompiledPermanentPredicate((permanent, context) -> {
+                    for (PermanentEvaluator evaluator : evaluators) {
+                        if (!evaluator.test(permanent, context)) return false;
+                    }
+                    return true;
+                }, maxCost(parts));
+            }
+            case PermanentAnyOfPredicate anyOf -> {
+                CompiledPermanentPredicate[] parts = compilePermanentParts(anyOf.predicates());
+                PermanentEvaluator[] evaluators = permanentEvaluators(parts);
+                yield new CompiledPermanentPredicate((permanent, context) -> {
+                    for (PermanentEvaluator evaluator : evaluators) {
+                        if (evaluator.test(permanent, context)) return true;
+                    }
+                    return false;
+                }, maxCost(parts));
+            }
+            case PermanentNotPredicate not -> {
+                CompiledPermanentPredicate inner = compilePermanent(not.predicate());
+                PermanentEvaluator evaluator = inner.evaluator();
+                yield new CompiledPermanentPredicate((permanent, context) -> !evaluator.test(permanent, context),
+                        inner.cost());
+            }
+            case PermanentIsTokenPredicate ignored ->
+                    intrinsic((permanent, context) -> permanent.getCard().isToken());
+            case PermanentIsFaceDownPredicate ignored ->
+                    intrinsic((permanent, context) -> permanent.isFaceDown());
+            case PermanentIsRenownedPredicate ignored ->
+                    intrinsic((permanent, context) -> permanent.isRenowned());
+            case PermanentMaxManaValuePredicate p -> {
+                int max = p.maxManaValue();
+                yield intrinsic((permanent, context) -> permanent.getCard().getManaValue() <= max);
+            }
+            case PermanentMinManaValuePredicate p -> {
+                int min = p.minManaValue();
+                yield intrinsic((permanent, context) -> permanent.getCard().getManaValue() >= min);
+            }
+            case PermanentIsSpecificPermanentPredicate p -> {
+                UUID id = p.permanentId();
+                yield intrinsic((permanent, context) -> id != null && id.equals(permanent.getId()));
+            }
+            case PermanentTruePredicate ignored -> intrinsic((permanent, context) -> true);
+            case PermanentIsCreaturePredicate ignored ->
+                    characteristic((permanent, context) -> service.isCreatureLeaf(gameData(context), permanent));
+            case PermanentIsLandPredicate ignored ->
+                    characteristic((permanent, context) -> service.isLandLeaf(gameData(context), permanent));
+            case PermanentHasKeywordPredicate p -> characteristic((permanent, context) ->
+                    service.hasKeywordLeaf(gameData(context), permanent, p.keyword()));
+            case PermanentPowerAtLeastPredicate p -> {
+                int min = p.minPower();
+                yield characteristic((permanent, context) -> service.powerLeaf(gameData(context), permanent) >= min);
+            }
+            case PermanentPowerAtMostPredicate p -> {
+                int max = p.maxPower();
+                yield characteristic((permanent, context) -> service.powerLeaf(gameData(context), permanent) <= max);
+            }
+            case PermanentToughnessAtMostPredicate p -> {
+                int max = p.maxToughness();
+                yield characteristic((permanent, context) ->
+                        service.toughnessLeaf(gameData(context), permanent) <= max);
+            }
+            default -> new CompiledPermanentPredicate(
+                    (permanent, context) -> service.matchesPermanentLeaf(permanent, predicate, context),
+                    permanentLeafCost(predicate));
+        };
+    }
+
+    private CompiledPermanentPredicate[] compilePermanentParts(List<PermanentPredicate> predicates) {
+        CompiledPermanentPredicate[] parts = new CompiledPermanentPredicate[predicates.size()];
+        int next = 0;
+        for (Cost cost : Cost.values()) {
+            for (PermanentPredicate predicate : predicates) {
+                CompiledPermanentPredicate part = compilePermanent(predicate);
+                if (part.cost() == cost) {
+                    parts[next++] = part;
+                }
+            }
+        }
+        return parts;
+    }
+
+    private static PermanentEvaluator[] permanentEvaluators(CompiledPermanentPredicate[] parts) {
+        PermanentEvaluator[] evaluators = new PermanentEvaluator[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            evaluators[i] = parts[i].evaluator();
+        }
+        return evaluators;
+    }
+
+    private static Cost maxCost(CompiledPermanentPredicate[] parts) {
+        Cost max = Cost.INTRINSIC;
+        for (CompiledPermanentPredicate part : parts) {
+            if (part.cost().compareTo(max) > 0) max = part.cost();
+        }
+        return max;
+    }
+
+    private static Cost permanentLeafCost(PermanentPredicate predicate) {
+        if (INTRINSIC_PERMANENT_LEAVES.contains(predicate.getClass())) return Cost.INTRINSIC;
+        if (CHARACTERISTIC_PERMANENT_LEAVES.contains(predicate.getClass())) return Cost.CHARACTERISTIC;
+        return Cost.BOARD;
+    }
+
+    private static CompiledPermanentPredicate intrinsic(PermanentEvaluator evaluator) {
+        return new CompiledPermanentPredicate(evaluator, Cost.INTRINSIC);
+    }
+
+    private static CompiledPermanentPredicate characteristic(PermanentEvaluator evaluator) {
+        return new CompiledPermanentPredicate(evaluator, Cost.CHARACTERISTIC);
+    }
+
+    private static GameData gameData(FilterContext context) {
+        return context != null ? context.gameData() : null;
+    }
+
+    // --- Card predicates ---
+
+    private CompiledCardPredicate compileCard(CardPredicate predicate) {
+        if (predicate == null) {
+            return ANY_CARD;
+        }
+        return switch (predicate) {
+            case CardAllOfPredicate allOf -> {
+                CompiledCardPredicate[] parts = compileCardParts(allOf.predicates());
+                CardEvaluator[] evaluators = cardEvaluators(parts);
+                yield new CompiledCardPredicate((card, sourceCardId, gameData, cardOwnerId,
+                                                 sourcePermanentId, sourcePower, xValue) -> {
+                    for (CardEvaluator evaluator : evaluators) {
+                        if (!evaluator.test(card, sourceCardId, gameData, cardOwnerId,
+                                sourcePermanentId, sourcePower, xValue)) return false;
+                    }
+                    return true;
+                }, maxCost(parts));
+            }
+            case CardAnyOfPredicate anyOf -> {
+                CompiledCardPredicate[] parts = compileCardParts(anyOf.predicates());
+                CardEvaluator[] evaluators = cardEvaluators(parts);
+                yield new CompiledCardPredicate((card, sourceCardId, gameData, cardOwnerId,
+                                                 sourcePermanentId, sourcePower, xValue) -> {
+                    for (CardEvaluator evaluator : evaluators) {
+                        if (evaluator.test(card, sourceCardId, gameData, cardOwnerId,
+                                sourcePermanentId, sourcePower, xValue)) return true;
+                    }
+                    return false;
+                }, maxCost(parts));
+            }
+            case CardNotPredicate not -> {
+                CompiledCardPredicate inner = compileCard(not.predicate());
+                CardEvaluator evaluator = inner.evaluator();
+                yield new CompiledCardPredicate((card, sourceCardId, gameData, cardOwnerId,
+                                                 sourcePermanentId, sourcePower, xValue) ->
+                        !evaluator.test(card, sourceCardId, gameData, cardOwnerId,
+                                sourcePermanentId, sourcePower, xValue), inner.cost());
+            }
+            case CardIsTokenPredicate ignored -> intrinsicCard(Card::isToken);
+            case CardIsAuraPredicate ignored -> intrinsicCard(Card::isAura);
+            case CardIsPermanentPredicate ignored -> intrinsicCard(card -> card.getType().isPermanentType());
+            case CardKeywordPredicate p -> intrinsicCard(card -> card.getKeywords().contains(p.keyword()));
+            case CardColorPredicate p -> intrinsicCard(card -> card.getColors().contains(p.color()));
+            case CardSupertypePredicate p -> intrinsicCard(card -> card.getSupertypes().contains(p.supertype()));
+            case CardMaxManaValuePredicate p -> {
+                int max = p.maxManaValue();
+                yield intrinsicCard(card -> card.getManaValue() <= max);
+            }
+            case CardMinManaValuePredicate p -> {
+                int min = p.minManaValue();
+                yield intrinsicCard(card -> card.getManaValue() >= min);
+            }
+            case CardNamedPredicate p -> intrinsicCard(card -> p.cardName().equals(card.getName()));
+            case CardTruePredicate ignored -> ANY_CARD;
+            default -> new CompiledCardPredicate((card, sourceCardId, gameData, cardOwnerId,
+                                                  sourcePermanentId, sourcePower, xValue) ->
+                    service.matchesCardLeaf(card, predicate, sourceCardId, gameData, cardOwnerId,
+                            sourcePermanentId, sourcePower, xValue), cardLeafCost(predicate));
+        };
+    }
+
+    private CompiledCardPredicate[] compileCardParts(List<CardPredicate> predicates) {
+        CompiledCardPredicate[] parts = new CompiledCardPredicate[predicates.size()];
+        int next = 0;
+        for (Cost cost : Cost.values()) {
+            for (CardPredicate predicate : predicates) {
+                CompiledCardPredicate part = compileCard(predicate);
+                if (part.cost() == cost) {
+                    parts[next++] = part;
+                }
+            }
+        }
+        return parts;
+    }
+
+    private static CardEvaluator[] cardEvaluators(CompiledCardPredicate[] parts) {
+        CardEvaluator[] evaluators = new CardEvaluator[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            evaluators[i] = parts[i].evaluator();
+        }
+        return evaluators;
+    }
+
+    private static Cost maxCost(CompiledCardPredicate[] parts) {
+        Cost max = Cost.INTRINSIC;
+        for (CompiledCardPredicate part : parts) {
+            if (part.cost().compareTo(max) > 0) max = part.cost();
+        }
+        return max;
+    }
+
+    private static Cost cardLeafCost(CardPredicate predicate) {
+        if (BOARD_CARD_LEAVES.contains(predicate.getClass())) return Cost.BOARD;
+        if (CHARACTERISTIC_CARD_LEAVES.contains(predicate.getClass())) return Cost.CHARACTERISTIC;
+        return Cost.INTRINSIC;
+    }
+
+    private static CompiledCardPredicate intrinsicCard(Predicate<Card> test) {
+        return new CompiledCardPredicate((card, sourceCardId, gameData, cardOwnerId,
+                                          sourcePermanentId, sourcePower, xValue) -> test.test(card),
+                Cost.INTRINSIC);
+    }
+}
@@ -242,6 +242,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * The single evaluation point for the predicate and target-filter hierarchies
@@ -262,8 +263,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PredicateEvaluationService {
 
+    /** Escape hatch: {@code -DdisableCompiledPredicates=true} walks every composite predicate
+     *  tree through the switches again (the pre-compilation behavior). Also used by
+     *  {@code PredicateBenchmarkTest} to measure before/after from one build. */
+    private static final boolean COMPILATION_DISABLED = Boolean.getBoolean("disableCompiledPredicates");
+
     private final GameQueryService gameQueryService;
 
+    private final PredicateCompiler compiler = new PredicateCompiler(this);
+
     /** Creature leaf built here rather than taken from an ability, so it never reads the CR 613.6 memo. */
     private static final PermanentIsCreaturePredicate STATIC_CREATURE_LEAF = new PermanentIsCreaturePredicate();
 
@@ -271,6 +279,48 @@ public class PredicateEvaluationService {
     private static final PermanentHasKeywordPredicate CHANGELING_PREDICATE =
             new PermanentHasKeywordPredicate(Keyword.CHANGELING);
 
+    /**
+     * The predicates known not to read tap state or combat assignments, directly or through a
+     * leaf of their own. Everything else — tap and combat leaves, turn history, the defending
+     * player, anything added later — counts as a read (see {@link #readsTapOrCombatState}), so a
+     * new predicate costs board-cache reuse until it is listed here, never correctness.
+     * Composites are listed because they evaluate their leaves through this funnel.
+     */
+    private static final Set<Class<? extends PermanentPredicate>> TAP_AND_COMBAT_INDEPENDENT = Set.of(
+            PermanentAllOfPredicate.class, PermanentAnyOfPredicate.class, PermanentNotPredicate.class,
+            PermanentAttachedToCreaturePredicate.class,
+            PermanentAttachedToCreatureControlledBySourceControllerPredicate.class,
+            PermanentAttachedToSourceControllerPredicate.class,
+            PermanentAttachedToSourcePermanentPredicate.class,
+            PermanentIsAuraAttachedToCreaturePredicate.class, PermanentIsAuraAttachedToLandPredicate.class,
+            PermanentIsAuraAttachedToSourcePredicate.class, PermanentIsEnchantedPredicate.class,
+            PermanentIsEquippedPredicate.class, PermanentIsHostOfSourceAuraPredicate.class,
+            PermanentIsArtifactPredicate.class, PermanentIsBattlePredicate.class,
+            PermanentIsCreaturePredicate.class, PermanentIsEnchantmentPredicate.class,
+            PermanentIsHistoricPredicate.class, PermanentIsKindredPredicate.class,
+            PermanentIsLandPredicate.class, PermanentIsPlaneswalkerPredicate.class,
+            PermanentHasSubtypePredicate.class, PermanentHasAnySubtypePredicate.class,
+            PermanentHasSupertypePredicate.class, PermanentHasKeywordPredicate.class,
+            PermanentHasProtectionFromColorPredicate.class, PermanentHasManaAbilityPredicate.class,
+            PermanentHasNonManaActivatedAbilityPredicate.class, PermanentHasCumulativeUpkeepPredicate.class,
+            PermanentColorInPredicate.class, PermanentIsColorlessPredicate.class,
+            PermanentIsMonocoloredPredicate.class, PermanentIsMulticoloredPredicate.class,
+            PermanentHasCountersPredicate.class, PermanentHasAtLeastCountersPredicate.class,
+            PermanentCounterCountAtLeastPredicate.class,
+            PermanentNamedPredicate.class, PermanentNameInPredicate.class,
+            PermanentHasSameNameAsSourcePredicate.class, PermanentHasSourceChosenNamePredicate.class,
+            PermanentHasSourceChosenColorPredicate.class, PermanentHasSourceChosenSubtypePredicate.class,
+            PermanentMaxManaValuePredicate.class, PermanentMinManaValuePredicate.class,
+            PermanentPowerAtLeastPredicate.class, PermanentPowerAtMostPredicate.class,
+            PermanentToughnessAtLeastPredicate.class, PermanentToughnessAtMostPredicate.class,
+            PermanentPowerEqualsToughnessPredicate.class,
+            PermanentControlledBySourceControllerPredicate.class,
+            PermanentOwnedBySourceControllerPredicate.class,
+            PermanentIsFaceDownPredicate.class, PermanentIsRenownedPredicate.class,
+            PermanentIsTokenPredicate.class, PermanentIsSourceCardPredicate.class,
+            PermanentIsSourcePermanentPredicate.class, PermanentIsSpecificPermanentPredicate.class,
+            PermanentTruePredicate.class);
+
     private static final Set<CardSubtype> BASIC_LAND_SUBTYPES = EnumSet.of(
             CardSubtype.PLAINS, CardSubtype.ISLAND, CardSubtype.SWAMP,
             CardSubtype.MOUNTAIN, CardSubtype.FOREST);
@@ -323,7 +373,18 @@ public class PredicateEvaluationService {
                                                  GameData gameData, UUID cardOwnerId, UUID sourcePermanentId,
                                                  Integer sourcePowerAtTrigger, Integer xValue) {
         if (predicate == null) return true;
+        if (!COMPILATION_DISABLED && PredicateCompiler.isComposite(predicate)) {
+            return compiler.compile(predicate).evaluator().test(card, sourceCardId, gameData, cardOwnerId,
+                    sourcePermanentId, sourcePowerAtTrigger, xValue);
+        }
+        return matchesCardLeaf(card, predicate, sourceCardId, gameData, cardOwnerId,
+                sourcePermanentId, sourcePowerAtTrigger, xValue);
+    }
 
+    /** The card counterpart of {@link #matchesPermanentLeaf}. */
+    boolean matchesCardLeaf(Card card, CardPredicate predicate, UUID sourceCardId,
+                            GameData gameData, UUID cardOwnerId, UUID sourcePermanentId,
+                            Integer sourcePowerAtTrigger, Integer xValue) {
         return switch (predicate) {
             case CardTypePredicate p ->
                     gameQueryService.cardHasType(card, p.cardType(), gameData, cardOwnerId);
@@ -498,6 +559,9 @@ public class PredicateEvaluationService {
      * source identity. When a {@link FilterContext} is provided, keyword and power checks
      * include static bonuses; otherwise they use only intrinsic values.
      *
+     * <p>Composite trees run through their {@link PredicateCompiler} evaluator, compiled on
+     * first use; single leaves are dispatched directly.
+     *
      * @param permanent     the permanent to test
      * @param predicate     the predicate to evaluate, or {@code null} (never matches)
      * @param filterContext context providing game data, source card ID, and source controller ID
@@ -507,17 +571,80 @@ public class PredicateEvaluationService {
                                              PermanentPredicate predicate,
                                              FilterContext filterContext) {
         if (predicate == null) return false;
+        if (!COMPILATION_DISABLED && PredicateCompiler.isComposite(predicate)) {
+            return compiler.compile(predicate).evaluator().test(permanent, filterContext);
+        }
+        return matchesPermanentLeaf(permanent, predicate, filterContext);
+    }
+
+    /**
+     * Every permanent of {@code candidates} that matches {@code predicate}, in order. A predicate
+     * that asks layered questions is evaluated under one shared layered pass
+     * ({@link GameQueryService#withQueryScope}), so the board fingerprint is checked once for the
+     * whole batch instead of once per permanent.
+     */
+    public List<Permanent> matchingPermanents(GameData gameData, List<Permanent> candidates,
+                                              PermanentPredicate predicate) {
+        List<Permanent> matching = new ArrayList<>();
+        forEachMatch(gameData, candidates, predicate, matching::add);
+        return matching;
+    }
+
+    /** The number of {@link #matchingPermanents}, without collecting them. */
+    public int countMatchingPermanents(GameData gameData, List<Permanent> candidates, PermanentPredicate predicate) {
+        int[] count = {0};
+        forEachMatch(gameData, candidates, predicate, ignored -> count[0]++);
+        return count[0];
+    }
+
+    private void forEachMatch(GameData gameData, List<Permanent> candidates, PermanentPredicate predicate,
+                              Consumer<Permanent> action) {
+        if (predicate == null || candidates.isEmpty()) {
+            return;
+        }
+        FilterContext context = FilterContext.of(gameData);
+        if (COMPILATION_DISABLED) {
+            for (Permanent permanent : candidates) {
+                if (matchesPermanentPredicate(permanent, predicate, context)) {
+                    action.accept(permanent);
+                }
+            }
+            return;
+        }
+        PredicateCompiler.CompiledPermanentPredicate compiled = compiler.compile(predicate);
+        Runnable scan = () -> {
+            for (Permanent permanent : candidates) {
+                if (compiled.evaluator().test(permanent, context)) {
+                    action.accept(permanent);
+                }
+            }
+        };
+        if (gameData == null || compiled.cost() == PredicateCompiler.Cost.INTRINSIC) {
+            scan.run();
+        } else {
+            gameQueryService.withQueryScope(gameData, () -> {
+                scan.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * One predicate evaluated by its own switch arm — composites recurse through
+     * {@link #matchesPermanentPredicate}. The compiled evaluators fall back to this for every
+     * leaf they do not answer themselves.
+     */
+    boolean matchesPermanentLeaf(Permanent permanent, PermanentPredicate predicate, FilterContext filterContext) {
         GameData gameData = filterContext != null ? filterContext.gameData() : null;
         UUID sourceCardId = filterContext != null ? filterContext.sourceCardId() : null;
         UUID sourceControllerId = filterContext != null ? filterContext.sourceControllerId() : null;
+        if (readsTapOrCombatState(predicate)) {
+            LayerSystemService.noteTapOrCombatStateRead();
+        }
 
         return switch (predicate) {
-            case PermanentHasKeywordPredicate hasKeywordPredicate -> {
-                if (gameData == null) {
-                    yield permanent.hasKeyword(hasKeywordPredicate.keyword());
-                }
-                yield gameQueryService.hasKeyword(gameData, permanent, hasKeywordPredicate.keyword());
-            }
+            case PermanentHasKeywordPredicate hasKeywordPredicate ->
+                    hasKeywordLeaf(gameData, permanent, hasKeywordPredicate.keyword());
             case PermanentHasProtectionFromColorPredicate hasProtectionPredicate -> {
                 if (gameData == null) {
                     yield hasRecursionSafeProtectionFrom(permanent, hasProtectionPredicate.color());
@@ -587,23 +714,8 @@ public class PredicateEvaluationService {
                     hasNonManaActivatedAbility(gameData, permanent, hasNonManaAbilityPredicate.levelUpOnly());
             case PermanentHasManaAbilityPredicate ignored ->
                     hasManaAbility(gameData, permanent);
-            case PermanentIsCreaturePredicate ignored -> {
-                if (gameData == null) {
-                    yield permanent.getCard().hasType(CardType.CREATURE)
-                            || permanent.isAnimatedUntilEndOfTurn()
-                            || permanent.isAnimatedUntilEndOfCombat()
-                            || permanent.isAnimatedUntilNextTurn()
-                            || permanent.isPermanentlyAnimated()
-                            || permanent.getCounterCount(CounterType.AWAKENING) > 0;
-                }
-                yield gameQueryService.isCreature(gameData, permanent);
-            }
-            case PermanentIsLandPredicate ignored -> {
-                if (gameData == null) {
-                    yield permanent.getCard().hasType(CardType.LAND);
-                }
-                yield gameQueryService.isLand(gameData, permanent);
-            }
+            case PermanentIsCreaturePredicate ignored -> isCreatureLeaf(gameData, permanent);
+            case PermanentIsLandPredicate ignored -> isLandLeaf(gameData, permanent);
             case PermanentIsArtifactPredicate ignored -> {
                 if (gameData == null) {
                     yield gameQueryService.isArtifact(permanent);
@@ -784,12 +896,8 @@ public class PredicateEvaluationService {
             // from inside the layered pass. They no longer read the permanent's printed numbers:
             // powerForStaticFilter answers with the layered value wherever that is reachable
             // without re-entering the assembly (see GameQueryService#powerForStaticFilter).
-            case PermanentPowerAtMostPredicate powerAtMostPredicate -> {
-                if (gameData == null) {
-                    yield gameQueryService.powerForStaticFilter(permanent) <= powerAtMostPredicate.maxPower();
-                }
-                yield gameQueryService.getEffectivePower(gameData, permanent) <= powerAtMostPredicate.maxPower();
-            }
+            case PermanentPowerAtMostPredicate powerAtMostPredicate ->
+                    powerLeaf(gameData, permanent) <= powerAtMostPredicate.maxPower();
             case PermanentPowerAtMostXPredicate ignored -> {
                 int xVal = filterContext != null && filterContext.xValue() != null ? filterContext.xValue() : 0;
                 if (gameData == null) {
@@ -944,12 +1052,8 @@ public class PredicateEvaluationService {
             case PermanentManaValueAtMostOwnCountersPredicate atMostOwnCounters ->
                     permanent.getCard().getManaValue()
                             <= permanent.getCounterCount(atMostOwnCounters.counterType());
-            case PermanentPowerAtLeastPredicate powerAtLeastPredicate -> {
-                if (gameData == null) {
-                    yield gameQueryService.powerForStaticFilter(permanent) >= powerAtLeastPredicate.minPower();
-                }
-                yield gameQueryService.getEffectivePower(gameData, permanent) >= powerAtLeastPredicate.minPower();
-            }
+            case PermanentPowerAtLeastPredicate powerAtLeastPredicate ->
+                    powerLeaf(gameData, permanent) >= powerAtLeastPredicate.minPower();
             case PermanentPowerAtLeastSourceControllerLifeTotalPredicate ignored -> {
                 if (gameData == null || sourceControllerId == null) {
                     yield false;
@@ -957,12 +1061,8 @@ public class PredicateEvaluationService {
                 yield gameQueryService.getEffectivePower(gameData, permanent)
                         >= gameData.getLife(sourceControllerId);
             }
-            case PermanentToughnessAtMostPredicate toughnessAtMostPredicate -> {
-                if (gameData == null) {
-                    yield gameQueryService.toughnessForStaticFilter(permanent) <= toughnessAtMostPredicate.maxToughness();
-                }
-                yield gameQueryService.getEffectiveToughness(gameData, permanent) <= toughnessAtMostPredicate.maxToughness();
-            }
+            case PermanentToughnessAtMostPredicate toughnessAtMostPredicate ->
+                    toughnessLeaf(gameData, permanent) <= toughnessAtMostPredicate.maxToughness();
             case PermanentToughnessAtMostXPredicate ignored -> {
                 int xVal = filterContext != null && filterContext.xValue() != null ? filterContext.xValue() : 0;
                 if (gameData == null) {
@@ -1601,6 +1701,9 @@ public class PredicateEvaluationService {
         if (layer4Verdict != null) {
             return layer4Verdict;
         }
+        if (readsTapOrCombatState(predicate)) {
+            LayerSystemService.noteTapOrCombatStateRead();
+        }
         return switch (predicate) {
             case PermanentNotPredicate p -> !matchesStaticFilter(permanent, p.predicate(), context);
             case PermanentOwnedBySourceControllerPredicate ignored -> {
@@ -1798,6 +1901,59 @@ public class PredicateEvaluationService {
         return false;
     }
 
+    // --- Leaves shared by the switch and the compiled evaluators ---
+
+    boolean hasKeywordLeaf(GameData gameData, Permanent permanent, Keyword keyword) {
+        if (gameData == null) {
+            return permanent.hasKeyword(keyword);
+        }
+        return gameQueryService.hasKeyword(gameData, permanent, keyword);
+    }
+
+    boolean isCreatureLeaf(GameData gameData, Permanent permanent) {
+        if (gameData == null) {
+            return permanent.getCard().hasType(CardType.CREATURE)
+                    || permanent.isAnimatedUntilEndOfTurn()
+                    || permanent.isAnimatedUntilEndOfCombat()
+                    || permanent.isAnimatedUntilNextTurn()
+                    || permanent.isPermanentlyAnimated()
+                    || permanent.getCounterCount(CounterType.AWAKENING) > 0;
+        }
+        return gameQueryService.isCreature(gameData, permanent);
+    }
+
+    boolean isLandLeaf(GameData gameData, Permanent permanent) {
+        if (gameData == null) {
+            return permanent.getCard().hasType(CardType.LAND);
+        }
+        return gameQueryService.isLand(gameData, permanent);
+    }
+
+    int powerLeaf(GameData gameData, Permanent permanent) {
+        return gameData == null
+                ? gameQueryService.powerForStaticFilter(permanent)
+                : gameQueryService.getEffectivePower(gameData, permanent);
+    }
+
+    int toughnessLeaf(GameData gameData, Permanent permanent) {
+        return gameData == null
+                ? gameQueryService.toughnessForStaticFilter(permanent)
+                : gameQueryService.getEffectiveToughness(gameData, permanent);
+    }
+
+    /**
+     * Whether evaluating {@code predicate} may read tap state or combat assignments, which the
+     * layered board cache keys only for boards that read them. Default-deny: true unless the
+     * predicate's class is known to be independent ({@link #TAP_AND_COMBAT_INDEPENDENT}).
+     */
+    static boolean readsTapOrCombatState(PermanentPredicate predicate) {
+        return readsTapOrCombatState(predicate.getClass());
+    }
+
+    static boolean readsTapOrCombatState(Class<? extends PermanentPredicate> type) {
+        return !TAP_AND_COMBAT_INDEPENDENT.contains(type);
+    }
+
     public boolean matchesStaticLeaf(Permanent permanent, PermanentPredicate predicate) {
         return matchesPermanentPredicate(
                 LayerSystemService.activeStateFor(permanent.getId()), permanent, predicate, null);
@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.input;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentAction;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentActionKind;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
@@ -1099,7 +1100,7 @@ public class CardChoiceHandlerService {
         List<Card> library = gameData.playerDecks.get(targetPlayerId);
         exiledCount += exileNamedCardsFromZone(gameData, targetPlayerId, library, names);
         if (library != null) {
-            java.util.Collections.shuffle(library);
+            java.util.Collections.shuffle(library, GameEntropy.random());
         }
 
         gameLogService.append(gameData, GameLog.text(player.getUsername() + " exiles " + exiledCount
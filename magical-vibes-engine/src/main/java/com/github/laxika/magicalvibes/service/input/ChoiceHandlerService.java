@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.CardColor;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
 import com.github.laxika.magicalvibes.model.CardSupertype;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.filter.PermanentAllOfPredicate;
 import com.github.laxika.magicalvibes.model.filter.PermanentColorInPredicate;
 import com.github.laxika.magicalvibes.model.filter.PermanentHasSubtypePredicate;
@@ -844,7 +845,7 @@ public class ChoiceHandlerService {
                 source.getTransientColors().clear();
                 source.getTransientColors().add(sourceChosenColor);
                 source.setColorOverridden(true);
-                gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+                gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                         source.getCard().getName(), null, ctx.playerId(),
                         new GrantColorUntilEndOfTurnEffect(sourceChosenColor), source.getId(), null, null,
                         EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -2018,7 +2019,7 @@ public class ChoiceHandlerService {
             target.getTransientColors().add(color);
             target.setColorOverridden(true);
             gameData.addFloatingEffect(new com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect(
-                    UUID.randomUUID(), ctx.sourceCardName(), null, ctx.controllerId(),
+                    GameEntropy.newId(), ctx.sourceCardName(), null, ctx.controllerId(),
                     new com.github.laxika.magicalvibes.model.effect.GrantColorUntilEndOfTurnEffect(color),
                     target.getId(), null, null,
                     com.github.laxika.magicalvibes.model.effect.EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -2055,7 +2056,7 @@ public class ChoiceHandlerService {
             target.getTransientColors().add(chosenColor);
             target.setColorOverridden(true);
             gameData.addFloatingEffect(new com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect(
-                    UUID.randomUUID(), ctx.sourceCardName(), null, ctx.controllerId(),
+                    GameEntropy.newId(), ctx.sourceCardName(), null, ctx.controllerId(),
                     new com.github.laxika.magicalvibes.model.effect.GrantColorUntilEndOfTurnEffect(chosenColor),
                     target.getId(), null, null,
                     com.github.laxika.magicalvibes.model.effect.EffectDuration.UNTIL_END_OF_TURN, 0));
@@ -2384,7 +2385,7 @@ public class ChoiceHandlerService {
         target.getTransientColors().clear();
         target.getTransientColors().addAll(colorSet);
         target.setColorOverridden(true);
-        gameData.addFloatingEffect(new FloatingContinuousEffect(UUID.randomUUID(),
+        gameData.addFloatingEffect(new FloatingContinuousEffect(GameEntropy.newId(),
                 ctx.sourceCardName(), null, controllerId,
                 new BecomeChosenColorsUntilEndOfTurnEffect(colorSet),
                 target.getId(), null, null, ctx.duration(), 0));
@@ -3346,7 +3347,7 @@ public class ChoiceHandlerService {
             return;
         }
 
-        Card revealed = hand.get(java.util.concurrent.ThreadLocalRandom.current().nextInt(hand.size()));
+        Card revealed = hand.get(GameEntropy.random().nextInt(hand.size()));
         gameLogService.append(gameData,
                 GameLog.textCardText(player.getUsername() + " reveals ", revealed, " at random."));
         cardRevealService.revealToAllPlayers(gameData, ctx.controllerId(),
@@ -3394,7 +3395,7 @@ public class ChoiceHandlerService {
 
         int revealCount = Math.min(Math.max(ctx.revealCount(), 0), hand.size());
         List<Card> shuffledHand = new ArrayList<>(hand);
-        Collections.shuffle(shuffledHand);
+        Collections.shuffle(shuffledHand, GameEntropy.random());
         List<Card> revealed = new ArrayList<>(shuffledHand.subList(0, revealCount));
 
         gameLogService.append(gameData,
@@ -3891,7 +3892,7 @@ public class ChoiceHandlerService {
         if (matchingCards.isEmpty()) {
             // No matching cards — just shuffle library and resolve
             if (library != null) {
-                Collections.shuffle(library);
+                Collections.shuffle(library, GameEntropy.random());
             }
 
             String exileLog = controllerName + " exiles 0 cards named \"" + cardName + "\" from " + targetName
@@ -3968,7 +3969,7 @@ public class ChoiceHandlerService {
 
             List<Card> library = gameData.playerDecks.get(targetPlayerId);
             if (library != null) {
-                Collections.shuffle(library);
+                Collections.shuffle(library, GameEntropy.random());
             }
             inputCompletionService.processMayAbilitiesThenAutoPass(gameData);
             return;
@@ -4001,7 +4002,7 @@ public class ChoiceHandlerService {
             library.removeAll(toExile);
             toExile.forEach(card -> gameData.addToExile(targetPlayerId, card));
             exiledCount += toExile.size();
-            Collections.shuffle(library);
+            Collections.shuffle(library, GameEntropy.random());
         }
 
         String exileLog = controllerName + " exiles " + exiledCount + " card" + (exiledCount != 1 ? "s" : "")
@@ -4115,7 +4116,7 @@ public class ChoiceHandlerService {
         }
 
         if (library != null) {
-            Collections.shuffle(library);
+            Collections.shuffle(library, GameEntropy.random());
         }
         gameLogService.append(gameData, GameLog.text(targetName + " shuffles their library."));
         log.info("Game {} - {} guessed {} copies of \"{}\" in {}'s library; actual {}",
@@ -4345,7 +4346,7 @@ public class ChoiceHandlerService {
 
         // Always shuffle target player's library
         if (library != null) {
-            Collections.shuffle(library);
+            Collections.shuffle(library, GameEntropy.random());
         }
 
         String exileLog = controllerName + " exiles " + exiledCount + " card" + (exiledCount != 1 ? "s" : "")
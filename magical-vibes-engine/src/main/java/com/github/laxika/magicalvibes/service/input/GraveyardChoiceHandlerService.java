@@ -1,5 +1,6 @@
 package com.github.laxika.magicalvibes.service.input;
 
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PermanentChoiceContext;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardColor;
@@ -51,7 +52,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -588,7 +588,7 @@ public class GraveyardChoiceHandlerService {
                 }
             }
             for (UUID ownerId : shuffledOwners) {
-                Collections.shuffle(gameData.playerDecks.get(ownerId), ThreadLocalRandom.current());
+                Collections.shuffle(gameData.playerDecks.get(ownerId), GameEntropy.random());
             }
             inputCompletionService.processMayAbilitiesThenAutoPassPreservingPriority(gameData);
             return;
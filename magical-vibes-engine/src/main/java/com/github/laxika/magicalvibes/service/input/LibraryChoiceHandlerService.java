@@ -2,6 +2,7 @@ package com.github.laxika.magicalvibes.service.input;
 
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardSubtype;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentAction;
 import com.github.laxika.magicalvibes.model.action.DelayedPermanentActionKind;
 import com.github.laxika.magicalvibes.model.CardPileDisposition;
@@ -79,7 +80,6 @@ import java.util.Map;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import com.github.laxika.magicalvibes.model.CounterType;
 
 @Slf4j
@@ -376,7 +376,7 @@ public class LibraryChoiceHandlerService {
             }
 
             if (destination == LibrarySearchDestination.EXILE_ONE_FACE_DOWN_REST_TO_BOTTOM_RANDOM) {
-                Collections.shuffle(sourceCards);
+                Collections.shuffle(sourceCards, GameEntropy.random());
                 deck.addAll(sourceCards);
                 finishSearchAndResume(gameData);
                 return;
@@ -410,7 +410,7 @@ public class LibraryChoiceHandlerService {
 
             if (followUp.secondBoundedPick() != null
                     && followUp.secondBoundedPick().randomRest()) {
-                Collections.shuffle(sourceCards);
+                Collections.shuffle(sourceCards, GameEntropy.random());
                 deck.addAll(sourceCards);
                 gameLogService.append(gameData, GameLog.text(player.getUsername()
                         + " puts the unchosen cards on the bottom of their library in a random order."));
@@ -1396,7 +1396,7 @@ public class LibraryChoiceHandlerService {
         Card chosen = null;
         long distinctNames = pool.stream().map(Card::getName).distinct().count();
         if (pool.size() == 3 && distinctNames == 3) {
-            chosen = pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+            chosen = pool.get(GameEntropy.random().nextInt(pool.size()));
             gameData.addCardToHand(controllerId, chosen);
             gameLogService.append(gameData, GameLog.textCardText(
                     controllerName + " chooses ", chosen, " at random and puts it into their hand."));
@@ -1555,7 +1555,7 @@ public class LibraryChoiceHandlerService {
         }
 
         if (anyBlocked) {
-            java.util.Collections.shuffle(gameData.playerDecks.get(ownerId));
+            java.util.Collections.shuffle(gameData.playerDecks.get(ownerId), GameEntropy.random());
         }
 
         if (animateFound != null && !permanents.isEmpty()) {
@@ -1995,7 +1995,7 @@ public class LibraryChoiceHandlerService {
             }
         } else if (libraryRevealChoice.randomRemainingToBottom()) {
             // Shuffle remaining cards and put them on the bottom of the library (Gishath, etc.)
-            Collections.shuffle(remainingCards);
+            Collections.shuffle(remainingCards, GameEntropy.random());
             List<Card> deck = gameData.playerDecks.get(controllerId);
             deck.addAll(remainingCards);
 
@@ -2242,7 +2242,7 @@ public class LibraryChoiceHandlerService {
 
         if (randomRemainingToBottom) {
             if (!remainingCards.isEmpty()) {
-                Collections.shuffle(remainingCards);
+                Collections.shuffle(remainingCards, GameEntropy.random());
                 gameData.playerDecks.get(controllerId).addAll(remainingCards);
             }
             if (selectedCards.isEmpty() && effectIfNoCardChosen != null && sourceEntry != null) {
@@ -2598,7 +2598,7 @@ public class LibraryChoiceHandlerService {
 
         // Put remaining cards on the bottom of the library in a random order
         if (!sourceCards.isEmpty()) {
-            Collections.shuffle(sourceCards);
+            Collections.shuffle(sourceCards, GameEntropy.random());
             deck.addAll(sourceCards);
             log.info("Game {} - {} remaining revealed cards shuffled to bottom of library",
                     gameData.id, sourceCards.size());
@@ -2635,7 +2635,7 @@ public class LibraryChoiceHandlerService {
         }
 
         if (!sourceCards.isEmpty()) {
-            Collections.shuffle(sourceCards);
+            Collections.shuffle(sourceCards, GameEntropy.random());
             deck.addAll(sourceCards);
         }
 
@@ -2670,7 +2670,7 @@ public class LibraryChoiceHandlerService {
         // The rest go to the bottom of the library in a random order.
         int bottomed = sourceCards.size();
         if (!sourceCards.isEmpty()) {
-            Collections.shuffle(sourceCards);
+            Collections.shuffle(sourceCards, GameEntropy.random());
             deck.addAll(sourceCards);
         }
         // Chosen card back on top, then draw it (fires draw triggers, counts as a draw).
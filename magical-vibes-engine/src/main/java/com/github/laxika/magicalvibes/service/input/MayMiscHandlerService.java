@@ -6,6 +6,7 @@ import com.github.laxika.magicalvibes.model.CounterType;
 import com.github.laxika.magicalvibes.model.ChoiceContext;
 import com.github.laxika.magicalvibes.model.DrawReplacementKind;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.OpeningHandRevealTrigger;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
@@ -351,7 +352,7 @@ public class MayMiscHandlerService {
             // they can't be attacked except by creatures with flying and/or islandwalk — stamped as a
             // player-scoped floating effect so it persists even if Island Sanctuary leaves.
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(),
+                    GameEntropy.newId(),
                     ability.sourceCard().getName(),
                     null,
                     drawingPlayerId,
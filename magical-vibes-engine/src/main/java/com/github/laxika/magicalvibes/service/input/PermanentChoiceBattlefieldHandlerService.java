@@ -4,6 +4,7 @@ import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.CardPileDisposition;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.GameLog;
 import com.github.laxika.magicalvibes.model.Keyword;
 import com.github.laxika.magicalvibes.model.Permanent;
@@ -1805,7 +1806,7 @@ public class PermanentChoiceBattlefieldHandlerService {
         if (source != null) {
             source.getGrantedKeywords().addAll(ctx.keywords());
             gameData.addFloatingEffect(new FloatingContinuousEffect(
-                    UUID.randomUUID(),
+                    GameEntropy.newId(),
                     ctx.sourceCard().getName(),
                     null,
                     ctx.controllerId(),
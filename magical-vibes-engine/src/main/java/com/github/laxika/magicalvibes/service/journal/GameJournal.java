@@ -0,0 +1,183 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.event.GameCommand;
+import com.github.laxika.magicalvibes.model.event.GameEventBatch;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import com.github.laxika.magicalvibes.service.event.GameCommandListener;
+import com.github.laxika.magicalvibes.service.event.GameEventSubscriber;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durable command journal for live games, so a restarted server can resume them.
+ *
+ * <p>A game is fully determined by its seed ({@link com.github.laxika.magicalvibes.model.GameEntropy})
+ * and the player commands it applied, in order. The journal records exactly that: the
+ * {@code createGame} command (which carries the seed), then every applied or rejected command with
+ * the state version it produced, and every {@link #CHECKPOINT_INTERVAL} applied commands — and after
+ * the command that ends the game — a {@link GameStateDigest} of the game that replay verifies. {@link GameJournalRecovery} rebuilds
+ * the games on startup.
+ *
+ * <p>Only games that start with {@code createGame} are journaled (draft and tournament games are
+ * set up elsewhere), and a journal is deleted as soon as its game ends — unless
+ * {@code magicalvibes.game.journal.corpus-dir} is set, in which case the journals of games that
+ * reached a result are moved there instead, as recordings for the replay benchmark. Disabled when
+ * {@code magicalvibes.game.journal.dir} is blank.
+ */
+@Slf4j
+@Component
+public class GameJournal implements GameCommandListener, GameEventSubscriber {
+
+    public static final String CREATE_GAME = "createGame";
+
+    /** Applied commands between two digest checkpoints. */
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    private final Path directory;
+    private final Path corpusDirectory;
+    private final GameJournalWriter writer;
+    private final GameJournalCodec codec = new GameJournalCodec();
+    private final Map<UUID, JournaledGame> games = new ConcurrentHashMap<>();
+
+    /** Per-game journal state; only touched under the game's action lock. */
+    private static final class JournaledGame {
+        private int appliedSinceCheckpoint;
+    }
+
+    public GameJournal(@Value("${magicalvibes.game.journal.dir:}") String directory,
+                       @Value("${magicalvibes.game.journal.corpus-dir:}") String corpusDirectory) {
+        if (directory == null || directory.isBlank()) {
+            this.directory = null;
+            this.corpusDirectory = null;
+            this.writer = null;
+            return;
+        }
+        this.corpusDirectory = corpusDirectory == null || corpusDirectory.isBlank() ? null : Path.of(corpusDirectory);
+        this.directory = Path.of(directory);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the game journal directory " + this.directory, e);
+        }
+        this.writer = new GameJournalWriter(this.directory);
+        log.info("Game journal enabled in {}", this.directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    GameJournalCodec codec() {
+        return codec;
+    }
+
+    /** Starts journaling a recovered game again; its journal file already holds its history. */
+    void resume(UUID gameId) {
+        if (writer != null) {
+            games.put(gameId, new JournaledGame());
+        }
+    }
+
+    /** Drops a recovered game's journal that could not be (or need not be) resumed. */
+    void discard(UUID gameId) {
+        games.remove(gameId);
+        if (writer != null) {
+            writer.delete(gameId);
+        }
+    }
+
+    /** Blocks until every record queued so far is on disk. */
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void commandApplied(GameData gameData, GameCommand command, GameEventBatch batch) {
+        if (writer == null || gameData.draftId != null) {
+            return;
+        }
+        JournaledGame game = CREATE_GAME.equals(command.name())
+                ? games.computeIfAbsent(gameData.id, ignored -> new JournaledGame())
+                : games.get(gameData.id);
+        if (game == null) {
+            return;
+        }
+        if (!append(gameData, JournalRecord.Kind.APPLIED, batch.stateVersion(), command)) {
+            return;
+        }
+        // The command that decided the game is always followed by a checkpoint, so a recording
+        // ends with the digest of its final state.
+        if (++game.appliedSinceCheckpoint >= CHECKPOINT_INTERVAL || gameData.gameResult != null) {
+            game.appliedSinceCheckpoint = 0;
+            writer.append(gameData.id, codec.frame(
+                    JournalRecord.checkpoint(batch.stateVersion(), GameStateDigest.of(gameData))));
+        }
+    }
+
+    @Override
+    public void commandRejected(GameData gameData, GameCommand command) {
+        if (writer == null || !games.containsKey(gameData.id)) {
+            return;
+        }
+        append(gameData, JournalRecord.Kind.REJECTED, gameData.domainStateVersion(), command);
+    }
+
+    @Override
+    public void onGameEvents(GameEventBatch batch) {
+        if (writer == null || !games.containsKey(batch.gameId())) {
+            return;
+        }
+        for (var envelope : batch.events()) {
+            if (envelope.fact() instanceof GameEventFact.GameEnded ended) {
+                if (corpusDirectory != null && ended.result() != GameEventFact.GameResult.ABANDONED) {
+                    games.remove(batch.gameId());
+                    writer.archive(batch.gameId(),
+                            GameJournalWriter.journalFile(corpusDirectory, batch.gameId()));
+                } else {
+                    discard(batch.gameId());
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean append(GameData gameData, JournalRecord.Kind kind, long stateVersion, GameCommand command) {
+        byte[] frame;
+        try {
+            frame = codec.frame(JournalRecord.command(kind, stateVersion, command.name(),
+                    codec.encodeArguments(command.arguments())));
+        } catch (RuntimeException e) {
+            // A journal missing a command would replay into a different game; stop journaling it.
+            log.error("Game journal: cannot encode command {} of game {}; the game will not be recoverable",
+                    command.name(), gameData.id, e);
+            discard(gameData.id);
+            return false;
+        }
+        writer.append(gameData.id, frame);
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.Player;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * The journal's on-disk format: a sequence of frames, each a big-endian payload length, the
+ * payload's CRC-32 and a JSON-encoded {@link JournalRecord}. A crash can only tear the last frame;
+ * {@link #read} stops at the first frame that is short or fails its checksum and reports where
+ * the intact prefix ends.
+ */
+final class GameJournalCodec {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    /** Frames read from a journal, and the length of the intact prefix they came from. */
+    record Contents(List<JournalRecord> records, long intactLength, long fileLength) {
+
+        boolean tornTail() {
+            return intactLength < fileLength;
+        }
+    }
+
+    // Deliberately not the application's mapper: its card-type mixins change enum encodings.
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+
+    byte[] frame(JournalRecord record) {
+        byte[] payload = mapper.writeValueAsBytes(record);
+        return ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt(checksum(payload))
+                .put(payload)
+                .array();
+    }
+
+    Contents read(Path journal) throws IOException {
+        byte[] bytes = Files.readAllBytes(journal);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        List<JournalRecord> records = new ArrayList<>();
+        long intactLength = 0;
+        while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (checksum(payload) != checksum) {
+                break;
+            }
+            records.add(mapper.readValue(payload, JournalRecord.class));
+            intactLength = buffer.position();
+        }
+        return new Contents(records, intactLength, bytes.length);
+    }
+
+    List<JournalRecord.Argument> encodeArguments(List<Object> arguments) {
+        List<JournalRecord.Argument> encoded = new ArrayList<>(arguments.size());
+        for (Object argument : arguments) {
+            if (argument == null) {
+                encoded.add(new JournalRecord.Argument(null, null));
+            } else if (argument instanceof Player player) {
+                // Player has no creator Jackson can use; keep its two fields explicitly.
+                ObjectNode node = mapper.createObjectNode();
+                node.put("id", player.getId().toString());
+                node.put("username", player.getUsername());
+                encoded.add(new JournalRecord.Argument(Player.class.getName(), node));
+            } else {
+                encoded.add(new JournalRecord.Argument(argument.getClass().getName(), mapper.valueToTree(argument)));
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes a recorded argument for a parameter declared as {@code declared}. The declared
+     * generic type wins (a {@code List<UUID>} comes back with UUID elements), except where it is
+     * an interface or abstract class, which only the recorded runtime class can instantiate.
+     */
+    Object decodeArgument(JournalRecord.Argument argument, Type declared) {
+        JsonNode value = argument.value();
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        JavaType type = mapper.getTypeFactory().constructType(declared);
+        Class<?> raw = type.getRawClass();
+        if (raw == Player.class) {
+            return new Player(
+                    mapper.treeToValue(value.get("id"), UUID.class),
+                    mapper.treeToValue(value.get("username"), String.class));
+        }
+        if (argument.type() != null && !raw.isPrimitive()
+                && (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()))
+                && !Iterable.class.isAssignableFrom(raw) && !Map.class.isAssignableFrom(raw)) {
+            type = mapper.getTypeFactory().constructType(recordedClass(argument.type()));
+        }
+        return mapper.treeToValue(value, type);
+    }
+
+    private static Class<?> recordedClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Journaled argument type is no longer on the classpath: " + name, e);
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
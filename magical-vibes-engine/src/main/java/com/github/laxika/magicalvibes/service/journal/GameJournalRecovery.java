@@ -0,0 +1,210 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.event.GameEventAudience;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import com.github.laxika.magicalvibes.service.GameRegistry;
+import com.github.laxika.magicalvibes.service.GameTimeoutService;
+import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
+import com.github.laxika.magicalvibes.service.interaction.InteractionHandlerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the games left in the {@link GameJournal} directory when the server starts.
+ *
+ * <p>Each journal is replayed from its seed by the {@link GameJournalReplayer}. Replayed actions
+ * dispatch nothing, so players, AI schedulers and the journal itself see none of the history again.
+ * A game that replays cleanly goes live again where it stopped: its players are told to refresh
+ * their view, open decisions are requested again, and disconnect timers are armed until the
+ * players come back. A game that diverges is abandoned and its journal kept as {@code .failed}
+ * for inspection.
+ *
+ * <p>Runs as the first lifecycle phase — after every handler registry is populated, before the
+ * web server accepts the first connection.
+ */
+@Slf4j
+@Component
+public class GameJournalRecovery implements SmartLifecycle {
+
+    static final String FAILED_SUFFIX = ".failed";
+
+    private final GameJournal journal;
+    private final GameJournalReplayer replayer;
+    private final GameRegistry gameRegistry;
+    private final GameMutationCoordinator mutationCoordinator;
+    private final InteractionHandlerRegistry interactionHandlerRegistry;
+    private final ObjectProvider<GameTimeoutService> gameTimeoutService;
+    private volatile boolean running;
+
+    public GameJournalRecovery(GameJournal journal,
+                               GameJournalReplayer replayer,
+                               GameRegistry gameRegistry,
+                               GameMutationCoordinator mutationCoordinator,
+                               InteractionHandlerRegistry interactionHandlerRegistry,
+                               ObjectProvider<GameTimeoutService> gameTimeoutService) {
+        this.journal = journal;
+        this.replayer = replayer;
+        this.gameRegistry = gameRegistry;
+        this.mutationCoordinator = mutationCoordinator;
+        this.interactionHandlerRegistry = interactionHandlerRegistry;
+        this.gameTimeoutService = gameTimeoutService;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (journal.isEnabled()) {
+            recoverAll();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void recoverAll() {
+        List<Path> journals = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                journal.directory(), "*" + GameJournalWriter.JOURNAL_SUFFIX)) {
+            stream.forEach(journals::add);
+        } catch (IOException e) {
+            log.error("Game journal: cannot list {}; no games recovered", journal.directory(), e);
+            return;
+        }
+
+        int restored = 0;
+        for (Path file : journals) {
+            if (recover(file)) {
+                restored++;
+            }
+        }
+        if (!journals.isEmpty()) {
+            log.info("Game journal: restored {} of {} journaled games", restored, journals.size());
+        }
+    }
+
+    private boolean recover(Path file) {
+        GameData gameData;
+        try {
+            GameJournalCodec.Contents contents = journal.codec().read(file);
+            if (contents.tornTail()) {
+                log.warn("Game journal: {} ends in a torn frame; dropping the last {} bytes",
+                        file.getFileName(), contents.fileLength() - contents.intactLength());
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(contents.intactLength());
+                }
+            }
+            if (contents.records().isEmpty()) {
+                Files.deleteIfExists(file);
+                return false;
+            }
+            gameData = replayer.replay(contents.records(), GameJournalReplayer.CommandObserver.NONE);
+        } catch (JournalReplayException e) {
+            log.error("Game journal: cannot restore {}; the game is abandoned", file.getFileName(), e);
+            close(e.gameData());
+            keepFailed(file);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            log.error("Game journal: cannot read {}", file.getFileName(), e);
+            keepFailed(file);
+            return false;
+        }
+
+        if (gameData.status == GameStatus.WAITING || gameData.status == GameStatus.FINISHED) {
+            // Nothing in progress to resume: nobody is waiting on a lobby that lost its creator's session.
+            close(gameData);
+            journal.discard(gameData.id);
+            return false;
+        }
+
+        goLive(gameData);
+        log.info("Game journal: restored game {} ('{}') at turn {}",
+                gameData.id, gameData.gameName, gameData.turnNumber);
+        return true;
+    }
+
+    /** Leaves replay mode and tells everyone watching the game where it stands now. */
+    private void goLive(GameData gameData) {
+        gameData.journalReplay = false;
+        journal.resume(gameData.id);
+        mutationCoordinator.mutate(gameData, () -> {
+            mutationCoordinator.invalidateAllPlayerViews(gameData);
+            if (gameData.status == GameStatus.MULLIGAN) {
+                for (UUID playerId : gameData.orderedPlayerIds) {
+                    UUID mulliganDecisionId = gameData.playerMulliganDecisionIds.get(playerId);
+                    if (mulliganDecisionId != null && !gameData.playerKeptHand.contains(playerId)) {
+                        mutationCoordinator.emit(gameData,
+                                new GameEventFact.DecisionRequested(mulliganDecisionId, playerId,
+                                        GameEventFact.DecisionKind.MULLIGAN),
+                                GameEventAudience.player(playerId));
+                    }
+                    UUID bottomDecisionId = gameData.playerBottomDecisionIds.get(playerId);
+                    if (bottomDecisionId != null && gameData.playerNeedsToBottom.containsKey(playerId)) {
+                        mutationCoordinator.emit(gameData,
+                                new GameEventFact.DecisionRequested(bottomDecisionId, playerId,
+                                        GameEventFact.DecisionKind.CARDS_TO_BOTTOM),
+                                GameEventAudience.player(playerId));
+                    }
+                }
+            }
+            interactionHandlerRegistry.requestActiveDecision(gameData);
+        });
+
+        // Nobody is connected after a restart. Start the disconnect timers so a game whose players
+        // never come back is still cleaned up; a vs-AI game waits for its human instead of closing.
+        GameTimeoutService timeoutService = gameTimeoutService.getIfAvailable();
+        if (timeoutService != null && !timeoutService.isVsAi(gameData)) {
+            for (UUID playerId : gameData.orderedPlayerIds) {
+                timeoutService.onPlayerDisconnect(playerId);
+            }
+        }
+    }
+
+    private void close(GameData gameData) {
+        if (gameData == null) {
+            return;
+        }
+        try {
+            replayer.close(gameData);
+        } catch (RuntimeException e) {
+            log.warn("Game journal: failed to close game {} cleanly", gameData.id, e);
+        } finally {
+            gameRegistry.remove(gameData.id);
+        }
+    }
+
+    private static void keepFailed(Path file) {
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + FAILED_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Game journal: cannot set aside {}", file.getFileName(), e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.model.event.GameEventFact;
+import com.github.laxika.magicalvibes.service.GameOutcomeService;
+import com.github.laxika.magicalvibes.service.GameService;
+import com.github.laxika.magicalvibes.service.GameSetupService;
+import com.github.laxika.magicalvibes.service.event.GameMutationCoordinator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Re-runs a recorded game: {@code createGame} with the recorded id and seed, then every journaled
+ * command in order through the same public entry points players use, checking the state version
+ * after each applied command and the digest at each checkpoint.
+ *
+ * <p>The game stays in replay mode throughout, so no batch is dispatched and nothing is journaled
+ * again. Shared by crash recovery ({@link GameJournalRecovery}) and the replay benchmark, which
+ * times each command through a {@link CommandObserver}.
+ */
+@Component
+public class GameJournalReplayer {
+
+    private static final List<Type> CREATE_GAME_TYPES = List.of(
+            UUID.class, long.class, String.class, Player.class, String.class, boolean.class, String.class);
+    private static final List<Type> JOIN_GAME_TYPES = List.of(Player.class, String.class);
+
+    /** Sees each replayed command (not {@code createGame} or checkpoints) just before and after it runs. */
+    public interface CommandObserver {
+
+        CommandObserver NONE = new CommandObserver() {
+        };
+
+        default void beforeCommand(GameData gameData, String command) {
+        }
+
+        default void afterCommand(GameData gameData, String command) {
+        }
+    }
+
+    private final GameSetupService gameSetupService;
+    private final GameService gameService;
+    private final GameMutationCoordinator mutationCoordinator;
+    private final GameOutcomeService gameOutcomeService;
+    private final ObjectProvider<JournaledCommandReplayer> replayerProvider;
+    private final GameJournalCodec codec = new GameJournalCodec();
+    private final Map<String, List<Method>> gameServiceCommands = gameServiceCommands();
+    private volatile Map<String, JournaledCommandReplayer> replayers;
+
+    public GameJournalReplayer(GameSetupService gameSetupService,
+                               GameService gameService,
+                               GameMutationCoordinator mutationCoordinator,
+                               GameOutcomeService gameOutcomeService,
+                               ObjectProvider<JournaledCommandReplayer> replayerProvider) {
+        this.gameSetupService = gameSetupService;
+        this.gameService = gameService;
+        this.mutationCoordinator = mutationCoordinator;
+        this.gameOutcomeService = gameOutcomeService;
+        this.replayerProvider = replayerProvider;
+    }
+
+    GameJournalCodec codec() {
+        return codec;
+    }
+
+    /**
+     * Replays {@code records} into a newly registered game, left in replay mode. Throws
+     * {@link JournalReplayException} — carrying whatever game was built — if the replay diverges.
+     */
+    GameData replay(List<JournalRecord> records, CommandObserver observer) {
+        if (records.isEmpty()) {
+            throw new JournalReplayException("journal is empty", null);
+        }
+        JournalRecord genesis = records.getFirst();
+        if (genesis.kind() != JournalRecord.Kind.APPLIED || !GameJournal.CREATE_GAME.equals(genesis.command())) {
+            throw new JournalReplayException("journal does not start with " + GameJournal.CREATE_GAME, null);
+        }
+
+        GameData gameData = null;
+        try {
+            List<Object> created = decode(genesis, CREATE_GAME_TYPES);
+            gameData = gameSetupService.recreateGame((UUID) created.get(0), (long) created.get(1),
+                    (String) created.get(2), (Player) created.get(3), (String) created.get(4),
+                    (boolean) created.get(5), (String) created.get(6));
+            expectVersion(gameData, genesis);
+
+            for (JournalRecord record : records.subList(1, records.size())) {
+                replay(gameData, record, observer);
+            }
+            return gameData;
+        } catch (JournalReplayException e) {
+            throw e.gameData() == null && gameData != null
+                    ? new JournalReplayException(e.getMessage(), gameData, e.getCause())
+                    : e;
+        } catch (Exception e) {
+            throw new JournalReplayException("replay failed: " + e.getMessage(), gameData, e);
+        }
+    }
+
+    /**
+     * Takes a replayed game out of replay mode and ends it live, so the game-end subscribers
+     * release what the replay set up (registry entry, AI schedulers). A game the replay already
+     * finished announces its recorded result again; any other game is abandoned.
+     */
+    void close(GameData gameData) {
+        gameData.journalReplay = false;
+        mutationCoordinator.mutate(gameData, () -> {
+            if (gameData.gameResult == null) {
+                gameOutcomeService.abandon(gameData);
+            } else {
+                mutationCoordinator.emit(gameData,
+                        new GameEventFact.GameEnded(gameData.gameResult, gameData.winnerPlayerId));
+            }
+        });
+    }
+
+    private void replay(GameData gameData, JournalRecord record, CommandObserver observer) throws Exception {
+        switch (record.kind()) {
+            case CHECKPOINT -> {
+                long digest = mutationCoordinator.observe(gameData, () -> GameStateDigest.of(gameData));
+                if (digest != record.digest()) {
+                    throw new JournalReplayException(
+                            "state digest differs at version " + record.stateVersion(), gameData);
+                }
+            }
+            case APPLIED -> {
+                observer.beforeCommand(gameData, record.command());
+                invoke(gameData, record);
+                observer.afterCommand(gameData, record.command());
+                expectVersion(gameData, record);
+            }
+            case REJECTED -> {
+                boolean rejected = false;
+                observer.beforeCommand(gameData, record.command());
+                try {
+                    invoke(gameData, record);
+                } catch (JournalReplayException diverged) {
+                    throw diverged;
+                } catch (RuntimeException expected) {
+                    rejected = true;
+                }
+                observer.afterCommand(gameData, record.command());
+                if (!rejected) {
+                    throw new JournalReplayException(
+                            record.command() + " was rejected before but applied on replay", gameData);
+                }
+                expectVersion(gameData, record);
+            }
+        }
+    }
+
+    private void invoke(GameData gameData, JournalRecord record) throws Exception {
+        if ("joinGame".equals(record.command())) {
+            List<Object> arguments = decode(record, JOIN_GAME_TYPES);
+            gameSetupService.joinGame(gameData, (Player) arguments.get(0), (String) arguments.get(1));
+            return;
+        }
+        JournaledCommandReplayer replayer = replayers().get(record.command());
+        if (replayer != null) {
+            replayer.replay(gameData, decode(record, replayer.argumentTypes()));
+            return;
+        }
+
+        Method method = gameServiceCommands.getOrDefault(record.command(), List.of()).stream()
+                .filter(candidate -> candidate.getParameterCount() == record.arguments().size() + 1)
+                .findFirst()
+                .orElseThrow(() -> new JournalReplayException("no GameService command " + record.command()
+                        + " taking " + record.arguments().size() + " arguments", gameData));
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        arguments[0] = gameData;
+        List<Object> decoded = decode(record, List.of(parameterTypes).subList(1, parameterTypes.length));
+        for (int i = 0; i < decoded.size(); i++) {
+            arguments[i + 1] = decoded.get(i);
+        }
+        try {
+            method.invoke(gameService, arguments);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<Object> decode(JournalRecord record, List<Type> types) {
+        if (record.arguments().size() != types.size()) {
+            throw new JournalReplayException(record.command() + " was recorded with "
+                    + record.arguments().size() + " arguments, expected " + types.size(), null);
+        }
+        List<Object> decoded = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            decoded.add(codec.decodeArgument(record.arguments().get(i), types.get(i)));
+        }
+        return decoded;
+    }
+
+    private static void expectVersion(GameData gameData, JournalRecord record) {
+        long version = gameData.domainStateVersion();
+        if (version != record.stateVersion()) {
+            throw new JournalReplayException(record.command() + " produced state version "
+                    + version + ", the journal recorded " + record.stateVersion(), gameData);
+        }
+    }
+
+    /** Resolved on first use: the AI module's replayers depend on services that are built after this one. */
+    private Map<String, JournaledCommandReplayer> replayers() {
+        Map<String, JournaledCommandReplayer> resolved = replayers;
+        if (resolved == null) {
+            resolved = new HashMap<>();
+            for (JournaledCommandReplayer replayer : replayerProvider.orderedStream().toList()) {
+                resolved.put(replayer.commandName(), replayer);
+            }
+            replayers = resolved;
+        }
+        return resolved;
+    }
+
+    /** Public GameService commands by name; recorded names and arities identify one overload each. */
+    private static Map<String, List<Method>> gameServiceCommands() {
+        Map<String, List<Method>> commands = new HashMap<>();
+        for (Method method : GameService.class.getMethods()) {
+            if (method.getDeclaringClass() == GameService.class
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() > 0
+                    && method.getParameterTypes()[0] == GameData.class) {
+                commands.computeIfAbsent(method.getName(), ignored -> new ArrayList<>()).add(method);
+            }
+        }
+        return commands;
+    }
+}
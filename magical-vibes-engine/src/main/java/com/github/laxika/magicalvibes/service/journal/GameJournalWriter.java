@@ -0,0 +1,243 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The journal's single background writer: one append-only file per game, written with group
+ * commit.
+ *
+ * <p>Game actions only enqueue encoded frames. The writer takes whatever has queued up since its
+ * last pass, appends each game's frames with one gathering write and then forces each file it
+ * touched once — so under load one {@code fsync} covers many actions across many games, and the
+ * action path never waits for the disk. A crash loses at most the frames of the pass in flight.
+ */
+@Slf4j
+final class GameJournalWriter implements AutoCloseable {
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Most queued operations one pass takes before it forces what it wrote. */
+    private static final int MAX_GROUP = 4096;
+
+    private sealed interface Operation permits Append, Delete, Archive, Barrier, Stop {
+    }
+
+    private record Append(UUID gameId, byte[] frame) implements Operation {
+    }
+
+    private record Delete(UUID gameId) implements Operation {
+    }
+
+    private record Archive(UUID gameId, Path target) implements Operation {
+    }
+
+    private record Barrier(CountDownLatch written) implements Operation {
+    }
+
+    private record Stop() implements Operation {
+    }
+
+    private final Path directory;
+    private final BlockingQueue<Operation> queue = new LinkedBlockingQueue<>();
+    /** Writer-thread state: open journals, and games whose journal failed and is abandoned. */
+    private final Map<UUID, FileChannel> channels = new HashMap<>();
+    private final Set<UUID> failed = new HashSet<>();
+    private final Thread thread;
+
+    GameJournalWriter(Path directory) {
+        this.directory = directory;
+        this.thread = Thread.ofPlatform().name("game-journal-writer").daemon().unstarted(this::run);
+        this.thread.start();
+    }
+
+    static Path journalFile(Path directory, UUID gameId) {
+        return directory.resolve(gameId + JOURNAL_SUFFIX);
+    }
+
+    void append(UUID gameId, byte[] frame) {
+        queue.add(new Append(gameId, frame));
+    }
+
+    /** Closes and deletes a game's journal once everything queued before it is written. */
+    void delete(UUID gameId) {
+        queue.add(new Delete(gameId));
+    }
+
+    /** Closes a finished game's journal once everything queued before it is written, and moves it to {@code target}. */
+    void archive(UUID gameId, Path target) {
+        queue.add(new Archive(gameId, target));
+    }
+
+    /** Blocks until everything queued so far is written and forced to disk. */
+    void flush() {
+        CountDownLatch written = new CountDownLatch(1);
+        queue.add(new Barrier(written));
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Writes out everything queued, then stops the writer thread and closes every journal. */
+    @Override
+    public void close() {
+        queue.add(new Stop());
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Operation> group = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                group.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(group, MAX_GROUP - 1);
+            running = commit(group);
+            group.clear();
+        }
+        for (FileChannel channel : channels.values()) {
+            closeQuietly(channel);
+        }
+        channels.clear();
+    }
+
+    /** One group commit. Returns false once the group contained the stop request. */
+    private boolean commit(List<Operation> group) {
+        Map<UUID, List<ByteBuffer>> pending = new LinkedHashMap<>();
+        List<Archive> archives = new ArrayList<>();
+        List<CountDownLatch> barriers = new ArrayList<>();
+        boolean running = true;
+        for (Operation operation : group) {
+            switch (operation) {
+                case Append append -> {
+                    if (!failed.contains(append.gameId())) {
+                        pending.computeIfAbsent(append.gameId(), ignored -> new ArrayList<>())
+                                .add(ByteBuffer.wrap(append.frame()));
+                    }
+                }
+                case Delete delete -> {
+                    // Frames still pending for a finished game would only be deleted with it.
+                    pending.remove(delete.gameId());
+                    failed.remove(delete.gameId());
+                    deleteJournal(delete.gameId());
+                }
+                case Archive archive -> archives.add(archive);
+                case Barrier barrier -> barriers.add(barrier.written());
+                case Stop ignored -> running = false;
+            }
+        }
+
+        List<FileChannel> written = new ArrayList<>(pending.size());
+        for (Map.Entry<UUID, List<ByteBuffer>> entry : pending.entrySet()) {
+            UUID gameId = entry.getKey();
+            try {
+                FileChannel channel = channel(gameId);
+                ByteBuffer[] frames = entry.getValue().toArray(ByteBuffer[]::new);
+                while (frames[frames.length - 1].hasRemaining()) {
+                    channel.write(frames);
+                }
+                written.add(channel);
+            } catch (IOException e) {
+                abandon(gameId, e);
+            }
+        }
+        for (FileChannel channel : written) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                log.error("Game journal: failed to force a journal to disk", e);
+            }
+        }
+        // After the writes: an archived game's final frames may have arrived in this same group.
+        for (Archive archive : archives) {
+            archiveJournal(archive);
+        }
+        barriers.forEach(CountDownLatch::countDown);
+        return running;
+    }
+
+    private FileChannel channel(UUID gameId) throws IOException {
+        FileChannel channel = channels.get(gameId);
+        if (channel == null) {
+            channel = FileChannel.open(journalFile(directory, gameId),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            channels.put(gameId, channel);
+        }
+        return channel;
+    }
+
+    private void deleteJournal(UUID gameId) {
+        FileChannel channel = channels.remove(gameId);
+        if (channel != null) {
+            closeQuietly(channel);
+        }
+        try {
+            Files.deleteIfExists(journalFile(directory, gameId));
+        } catch (IOException e) {
+            log.warn("Game journal: failed to delete the journal of game {}", gameId, e);
+        }
+    }
+
+    private void archiveJournal(Archive archive) {
+        FileChannel channel = channels.remove(archive.gameId());
+        if (channel != null) {
+            closeQuietly(channel);
+        }
+        if (failed.remove(archive.gameId())) {
+            return;
+        }
+        try {
+            Files.createDirectories(archive.target().getParent());
+            Files.move(journalFile(directory, archive.gameId()), archive.target(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Game journal: failed to archive the journal of game {}", archive.gameId(), e);
+            deleteJournal(archive.gameId());
+        }
+    }
+
+    /**
+     * A journal with a hole in it would restore a stale game; stop writing it and drop what it
+     * has rather than write past the hole.
+     */
+    private void abandon(UUID gameId, IOException cause) {
+        log.error("Game journal: write failed for game {}; the game will not be recoverable", gameId, cause);
+        failed.add(gameId);
+        deleteJournal(gameId);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Game journal: failed to close a journal", e);
+        }
+    }
+}
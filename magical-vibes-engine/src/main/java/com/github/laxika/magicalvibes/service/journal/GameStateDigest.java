@@ -0,0 +1,82 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.ExiledCardEntry;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.StackEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A 64-bit fingerprint of the parts of a game a divergent replay gets wrong first: turn
+ * structure, life totals, and the identity and order of every card in every zone. Equal digests
+ * are no proof of equal games, but unequal ones prove the replay diverged.
+ *
+ * <p>Callers must hold the game's action lock (or own the game outright, as a replay does) so the
+ * zones cannot change while they are read.
+ */
+final class GameStateDigest {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private GameStateDigest() {
+    }
+
+    static long of(GameData gameData) {
+        long h = FNV_OFFSET;
+        h = mix(h, gameData.status == null ? -1 : gameData.status.ordinal());
+        h = mix(h, gameData.turnNumber);
+        h = mix(h, gameData.currentStep == null ? -1 : gameData.currentStep.ordinal());
+        h = mix(h, gameData.activePlayerId);
+        for (UUID playerId : gameData.orderedPlayerIds) {
+            h = mix(h, playerId);
+            h = mix(h, gameData.playerLifeTotals.getOrDefault(playerId, 0));
+            h = mixCards(h, gameData.playerHands.get(playerId));
+            h = mixCards(h, gameData.playerDecks.get(playerId));
+            h = mixCards(h, gameData.playerGraveyards.get(playerId));
+            List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+            if (battlefield != null) {
+                h = mix(h, battlefield.size());
+                for (Permanent permanent : battlefield) {
+                    h = mix(h, permanent.getId());
+                    h = mix(h, permanent.getCard().getId());
+                    h = mix(h, permanent.isTapped() ? 1 : 0);
+                }
+            }
+        }
+        h = mix(h, gameData.stack.size());
+        for (StackEntry entry : gameData.stack) {
+            h = mix(h, entry.getCard() == null ? null : entry.getCard().getId());
+        }
+        h = mix(h, gameData.exiledCards.size());
+        for (ExiledCardEntry entry : gameData.exiledCards) {
+            h = mix(h, entry.card().getId());
+        }
+        return h;
+    }
+
+    private static long mixCards(long h, List<Card> cards) {
+        if (cards == null) {
+            return mix(h, -1);
+        }
+        h = mix(h, cards.size());
+        for (Card card : cards) {
+            h = mix(h, card.getId());
+        }
+        return h;
+    }
+
+    private static long mix(long h, UUID id) {
+        if (id == null) {
+            return mix(h, 0);
+        }
+        return mix(mix(h, id.getMostSignificantBits()), id.getLeastSignificantBits());
+    }
+
+    private static long mix(long h, long value) {
+        return (h ^ value) * FNV_PRIME;
+    }
+}
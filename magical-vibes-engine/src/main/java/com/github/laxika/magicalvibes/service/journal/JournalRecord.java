@@ -0,0 +1,39 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * One entry of a game's journal.
+ *
+ * <ul>
+ *   <li>{@link Kind#APPLIED}: a command that committed as state version {@code stateVersion}.</li>
+ *   <li>{@link Kind#REJECTED}: a command that threw; replay runs it again and expects it to throw.</li>
+ *   <li>{@link Kind#CHECKPOINT}: the {@link GameStateDigest} of the game at {@code stateVersion},
+ *       written every {@link GameJournal#CHECKPOINT_INTERVAL} applied commands.</li>
+ * </ul>
+ */
+record JournalRecord(Kind kind, long stateVersion, String command, List<Argument> arguments, long digest) {
+
+    enum Kind {
+        APPLIED,
+        REJECTED,
+        CHECKPOINT
+    }
+
+    /**
+     * A recorded argument: its runtime class (needed where the declared parameter type is an
+     * interface, such as an interaction answer) and its JSON form. Both are null for a null argument.
+     */
+    record Argument(String type, JsonNode value) {
+    }
+
+    static JournalRecord command(Kind kind, long stateVersion, String command, List<Argument> arguments) {
+        return new JournalRecord(kind, stateVersion, command, arguments, 0L);
+    }
+
+    static JournalRecord checkpoint(long stateVersion, long digest) {
+        return new JournalRecord(Kind.CHECKPOINT, stateVersion, null, List.of(), digest);
+    }
+}
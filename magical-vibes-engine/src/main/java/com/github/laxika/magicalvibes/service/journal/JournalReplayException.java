@@ -0,0 +1,27 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+
+/**
+ * A journal that cannot be replayed to the game it recorded: a command failed or succeeded
+ * differently, a state version or checkpoint digest differs, or the journal itself is malformed.
+ * Carries the partially replayed game (null if it was never created) so the caller can clean up.
+ */
+final class JournalReplayException extends IllegalStateException {
+
+    private final transient GameData gameData;
+
+    JournalReplayException(String message, GameData gameData) {
+        super(message);
+        this.gameData = gameData;
+    }
+
+    JournalReplayException(String message, GameData gameData, Throwable cause) {
+        super(message, cause);
+        this.gameData = gameData;
+    }
+
+    GameData gameData() {
+        return gameData;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.laxika.magicalvibes.service.journal;
+
+import com.github.laxika.magicalvibes.model.GameData;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Replays a journaled command that is issued outside {@link com.github.laxika.magicalvibes.service.GameService}
+ * and {@link com.github.laxika.magicalvibes.service.GameSetupService} — for example seating an AI
+ * player, which lives in a module the engine cannot see.
+ */
+public interface JournaledCommandReplayer {
+
+    /** The {@link com.github.laxika.magicalvibes.model.event.GameCommand#name()} this replayer handles. */
+    String commandName();
+
+    /** The declared types of the command's arguments, used to decode them. */
+    List<Type> argumentTypes();
+
+    /** Re-issues the command against the game being recovered. */
+    void replay(GameData gameData, List<Object> arguments);
+}
@@ -3,6 +3,7 @@ package com.github.laxika.magicalvibes.service.library;
 import com.github.laxika.magicalvibes.model.Card;
 import com.github.laxika.magicalvibes.model.EffectSlot;
 import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.model.PendingMayAbility;
 import com.github.laxika.magicalvibes.model.StackEntry;
 import com.github.laxika.magicalvibes.model.StackEntryType;
@@ -24,7 +25,7 @@ public final class LibraryShuffleHelper {
 
     public static void shuffleLibrary(GameData gameData, UUID playerId) {
         List<Card> deck = gameData.playerDecks.get(playerId);
-        Collections.shuffle(deck);
+        Collections.shuffle(deck, GameEntropy.random());
         checkOpponentShuffleTriggers(gameData, playerId);
     }
 
@@ -1,4 +1,5 @@
 package com.github.laxika.magicalvibes.service.spell;
+import com.github.laxika.magicalvibes.model.GameEntropy;
 import com.github.laxika.magicalvibes.service.battlefield.PermanentRemovalService;
 
 import com.github.laxika.magicalvibes.service.battlefield.BattlefieldEntryService;
@@ -167,7 +168,6 @@ import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
 
 @Slf4j
@@ -455,7 +455,7 @@ public class SpellCastingService {
         List<Card> eligibleCards = hand.stream()
                 .filter(candidate -> !candidate.getId().equals(card.getId()))
                 .toList();
-        Card discarded = eligibleCards.get(ThreadLocalRandom.current().nextInt(eligibleCards.size()));
+        Card discarded = eligibleCards.get(GameEntropy.random().nextInt(eligibleCards.size()));
         hand.remove(discarded);
         graveyardService.addCardToGraveyard(gameData, playerId, discarded);
         gameData.discardCausedByOpponent = false;
@@ -6747,7 +6747,7 @@ public class SpellCastingService {
         }
         triggerCollectionService.beginDiscardEvent(gameData, playerId);
         for (int i = 0; i < count; i++) {
-            Card discarded = hand.remove(ThreadLocalRandom.current().nextInt(hand.size()));
+            Card discarded = hand.remove(GameEntropy.random().nextInt(hand.size()));
             graveyardService.addCardToGraveyard(gameData, playerId, discarded);
             gameData.discardCausedByOpponent = false;
             triggerCollectionService.checkDiscardTriggers(gameData, playerId, discarded);
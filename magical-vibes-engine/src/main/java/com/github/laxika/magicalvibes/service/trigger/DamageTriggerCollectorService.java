@@ -121,9 +121,11 @@ public class DamageTriggerCollectorService {
         } else {
             damageContext.deferredTriggers().add(entry);
         }
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers after creature damage to a planeswalker",
-                match.gameData().id, watcher.getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers after creature damage to a planeswalker",
+                    match.gameData().id, watcher.getCard().getName());
+        }
         return true;
     }
 
@@ -137,9 +139,11 @@ public class DamageTriggerCollectorService {
         gameData.queueMayAbility(match.permanent().getCard(), match.controllerId(), may,
                 null, match.permanent().getId());
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers after an ally creature dealt combat damage to a creature",
-                gameData.id, match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers after an ally creature dealt combat damage to a creature",
+                    gameData.id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -168,9 +172,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers after a source dealt noncombat damage equal to a creature's toughness",
-                gameData.id, match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers after a source dealt noncombat damage equal to a creature's toughness",
+                    gameData.id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -194,8 +200,10 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers to put a counter on itself", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers to put a counter on itself", gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -222,9 +230,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers to create a token after dealing damage to a creature",
-                gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers to create a token after dealing damage to a creature",
+                    gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -258,9 +268,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers, exiling the creature it damaged",
-                gameData.id, watcher.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers, exiling the creature it damaged",
+                    gameData.id, watcher.getCard().getName());
+        }
         return true;
     }
 
@@ -277,10 +289,12 @@ public class DamageTriggerCollectorService {
         // Bounce the source to its owner's hand
         if (permanentRemovalService.removePermanentToHand(gameData, currentSource)) {
             permanentRemovalService.removeOrphanedAuras(gameData);
-            gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
-                    " triggers — ", currentSource.getCard(), " is returned to its owner's hand."));
-            log.info("Game {} - {} triggers, bouncing {} to owner's hand",
-                    gameData.id, match.permanent().getCard().getName(), currentSource.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
+                        " triggers — ", currentSource.getCard(), " is returned to its owner's hand."));
+                log.info("Game {} - {} triggers, bouncing {} to owner's hand",
+                        gameData.id, match.permanent().getCard().getName(), currentSource.getCard().getName());
+            }
         }
         return true;
     }
@@ -305,9 +319,11 @@ public class DamageTriggerCollectorService {
                 new GainControlOfTargetEffect(ControlDuration.PERMANENT),
                 EffectDuration.PERMANENT, null, match.permanent().getCard().getName());
 
-        log.info("Game {} - {} triggers, {} gains control of {}",
-                gameData.id, match.permanent().getCard().getName(),
-                gameData.playerIdToName.get(sourceControllerId), match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            log.info("Game {} - {} triggers, {} gains control of {}",
+                    gameData.id, match.permanent().getCard().getName(),
+                    gameData.playerIdToName.get(sourceControllerId), match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -328,11 +344,15 @@ public class DamageTriggerCollectorService {
 
         boolean destroyed = permanentRemovalService.tryDestroyPermanent(gameData, currentSource);
         if (destroyed) {
-            gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
-                    " triggers - ", currentSource.getCard(), " is destroyed."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
+                        " triggers - ", currentSource.getCard(), " is destroyed."));
+            }
+        }
+        if (!gameData.simulation) {
+            log.info("Game {} - {} triggers, destroying damage source {}",
+                    gameData.id, match.permanent().getCard().getName(), currentSource.getCard().getName());
         }
-        log.info("Game {} - {} triggers, destroying damage source {}",
-                gameData.id, match.permanent().getCard().getName(), currentSource.getCard().getName());
         return true;
     }
 
@@ -376,9 +396,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers, exiling damage source {} until it leaves",
-                gameData.id, watcher.getCard().getName(), damageSource.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers, exiling damage source {} until it leaves",
+                    gameData.id, watcher.getCard().getName(), damageSource.getCard().getName());
+        }
         return true;
     }
 
@@ -414,9 +436,11 @@ public class DamageTriggerCollectorService {
                     playerTargetOnly,
                     targetFilter,
                     dc.damageDealt()));
-            gameLogService.append(gameData, GameLog.abilityTriggers(dc.damagedCreature().getCard()));
-            log.info("Game {} - {} ON_DEALT_DAMAGE target trigger fires",
-                    gameData.id, dc.damagedCreature().getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(dc.damagedCreature().getCard()));
+                log.info("Game {} - {} ON_DEALT_DAMAGE target trigger fires",
+                        gameData.id, dc.damagedCreature().getCard().getName());
+            }
             return true;
         }
         UUID controllerId = gameQueryService.findPermanentController(gameData, dc.damagedCreature().getId());
@@ -460,9 +484,11 @@ public class DamageTriggerCollectorService {
             ));
         }
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(dc.damagedCreature().getCard()));
-        log.info("Game {} - {} ON_DEALT_DAMAGE target-opponent-or-planeswalker trigger fires",
-                gameData.id, dc.damagedCreature().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(dc.damagedCreature().getCard()));
+            log.info("Game {} - {} ON_DEALT_DAMAGE target-opponent-or-planeswalker trigger fires",
+                    gameData.id, dc.damagedCreature().getCard().getName());
+        }
         return true;
     }
 
@@ -483,9 +509,11 @@ public class DamageTriggerCollectorService {
                 damagedCreature.getCard(), controllerId, new ArrayList<>(List.of(trigger)),
                 false, null, dc.damageDealt()));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
-        log.info("Game {} - {} ON_DEALT_DAMAGE deal-damage-to-any-target trigger fires",
-                gameData.id, damagedCreature.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
+            log.info("Game {} - {} ON_DEALT_DAMAGE deal-damage-to-any-target trigger fires",
+                    gameData.id, damagedCreature.getCard().getName());
+        }
         return true;
     }
 
@@ -503,9 +531,11 @@ public class DamageTriggerCollectorService {
         match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                 sourceCard, match.controllerId(), new ArrayList<>(List.of(damage)), false,
                 sourceCard.getTargetFilter(), 0, match.permanent().getId()));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} counter-placement trigger fires for {} damage",
-                match.gameData().id, sourceCard.getName(), countersPlaced.amount());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} counter-placement trigger fires for {} damage",
+                    match.gameData().id, sourceCard.getName(), countersPlaced.amount());
+        }
         return true;
     }
 
@@ -535,9 +565,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers for damage dealt to a creature", gameData.id,
-                match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers for damage dealt to a creature", gameData.id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -586,9 +618,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers for damage dealt to a creature", gameData.id,
-                match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers for damage dealt to a creature", gameData.id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -623,9 +657,11 @@ public class DamageTriggerCollectorService {
         entry.setDamageSourceCard(enchantedCreature.getCard());
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
-        log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE trigger fires",
-                gameData.id, aura.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
+            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE trigger fires",
+                    gameData.id, aura.getCard().getName());
+        }
         return true;
     }
 
@@ -658,9 +694,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.damageDealt());
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(aura.getCard()));
-        log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE trigger fires ({} damage)",
-                match.gameData().id, aura.getCard().getName(), dc.damageDealt());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(aura.getCard()));
+            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE trigger fires ({} damage)",
+                    match.gameData().id, aura.getCard().getName(), dc.damageDealt());
+        }
         return true;
     }
 
@@ -687,9 +725,11 @@ public class DamageTriggerCollectorService {
                 null,
                 aura.getId()
         ));
-        gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
-        log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE life-loss trigger fires",
-                gameData.id, aura.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
+            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE life-loss trigger fires",
+                    gameData.id, aura.getCard().getName());
+        }
         return true;
     }
 
@@ -718,9 +758,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.damageDealt());
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
-        log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE token trigger fires",
-                gameData.id, aura.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
+            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE token trigger fires",
+                    gameData.id, aura.getCard().getName());
+        }
         return true;
     }
 
@@ -744,9 +786,11 @@ public class DamageTriggerCollectorService {
                 null,
                 aura.getId()
         ));
-        gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
-        log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE destroy trigger fires",
-                gameData.id, aura.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
+            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALT_DAMAGE destroy trigger fires",
+                    gameData.id, aura.getCard().getName());
+        }
         return true;
     }
 
@@ -772,9 +816,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.amount());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE trigger fires ({} damage)",
-                gameData.id, perm.getCard().getName(), dc.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE trigger fires ({} damage)",
+                    gameData.id, perm.getCard().getName(), dc.amount());
+        }
         return true;
     }
 
@@ -796,9 +842,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.amount());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE may trigger fires ({} damage)",
-                gameData.id, perm.getCard().getName(), dc.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE may trigger fires ({} damage)",
+                    gameData.id, perm.getCard().getName(), dc.amount());
+        }
         return true;
     }
 
@@ -818,9 +866,11 @@ public class DamageTriggerCollectorService {
                 perm.getId());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE trigger fires, removing a counter",
-                gameData.id, perm.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE trigger fires, removing a counter",
+                    gameData.id, perm.getCard().getName());
+        }
         return true;
     }
 
@@ -870,9 +920,11 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers after a creature dealt damage to an opponent",
-                match.gameData().id, watcher.getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers after a creature dealt damage to an opponent",
+                    match.gameData().id, watcher.getCard().getName());
+        }
         return true;
     }
 
@@ -899,9 +951,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.amount());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_ALLY_SOURCE_DEALS_DAMAGE_TO_OPPONENT trigger fires ({} damage)",
-                gameData.id, perm.getCard().getName(), dc.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_ALLY_SOURCE_DEALS_DAMAGE_TO_OPPONENT trigger fires ({} damage)",
+                    gameData.id, perm.getCard().getName(), dc.amount());
+        }
         return true;
     }
 
@@ -928,7 +982,9 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(source.getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(source.getCard()));
+        }
         return true;
     }
 
@@ -954,7 +1010,9 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(source.getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(source.getCard()));
+        }
         return true;
     }
 
@@ -976,9 +1034,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.amount());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_OPPONENT_DEALT_DAMAGE trigger fires ({} damage)",
-                gameData.id, perm.getCard().getName(), dc.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_OPPONENT_DEALT_DAMAGE trigger fires ({} damage)",
+                    gameData.id, perm.getCard().getName(), dc.amount());
+        }
         return true;
     }
 
@@ -1008,10 +1068,12 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers for source controller {} to sacrifice a permanent",
-                match.gameData().id, watcher.getCard().getName(),
-                match.gameData().playerIdToName.get(sourceControllerId));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers for source controller {} to sacrifice a permanent",
+                    match.gameData().id, watcher.getCard().getName(),
+                    match.gameData().playerIdToName.get(sourceControllerId));
+        }
         return true;
     }
 
@@ -1050,9 +1112,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(dc.amount());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-        log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE_BY_OPPONENT trigger fires ({} damage)",
-                gameData.id, perm.getCard().getName(), dc.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+            log.info("Game {} - {} ON_CONTROLLER_DEALT_DAMAGE_BY_OPPONENT trigger fires ({} damage)",
+                    gameData.id, perm.getCard().getName(), dc.amount());
+        }
         return true;
     }
 
@@ -1073,9 +1137,11 @@ public class DamageTriggerCollectorService {
                 may.prompt(), may.elseEffect(), may.choicePlayer());
         match.gameData().queueMayAbility(match.permanent().getCard(), match.controllerId(), boundMay,
                 null, match.permanent().getId());
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers after an opponent-controlled source dealt damage to its controller or permanent",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers after an opponent-controlled source dealt damage to its controller or permanent",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1106,11 +1172,13 @@ public class DamageTriggerCollectorService {
         se.setNonTargeting(true);
         gameData.stack.add(se);
 
-        gameLogService.append(gameData, GameLog.cardThen(watcher.getCard(),
-                "'s ability triggers — it deals " + sd.totalDamage() + " damage to "
-                        + gameData.playerIdToName.get(recipientId) + "."));
-        log.info("Game {} - {} reflects {} damage to {}", gameData.id, watcher.getCard().getName(),
-                sd.totalDamage(), gameData.playerIdToName.get(recipientId));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(watcher.getCard(),
+                    "'s ability triggers — it deals " + sd.totalDamage() + " damage to "
+                            + gameData.playerIdToName.get(recipientId) + "."));
+            log.info("Game {} - {} reflects {} damage to {}", gameData.id, watcher.getCard().getName(),
+                    sd.totalDamage(), gameData.playerIdToName.get(recipientId));
+        }
         return true;
     }
 
@@ -1140,9 +1208,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} triggers for {} damage from a noncreature source",
-                match.gameData().id, watcher.getCard().getName(), sd.totalDamage());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} triggers for {} damage from a noncreature source",
+                    match.gameData().id, watcher.getCard().getName(), sd.totalDamage());
+        }
         return true;
     }
 
@@ -1183,10 +1253,12 @@ public class DamageTriggerCollectorService {
         entry.setNonTargeting(true);
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.cardTextCard(watcher.getCard(),
-                " triggers — it deals " + dc.damage() + " damage to ", damageSource.getCard(), "."));
-        log.info("Game {} - {} reflects {} damage to {}", gameData.id, watcher.getCard().getName(),
-                dc.damage(), damageSource.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardTextCard(watcher.getCard(),
+                    " triggers — it deals " + dc.damage() + " damage to ", damageSource.getCard(), "."));
+            log.info("Game {} - {} reflects {} damage to {}", gameData.id, watcher.getCard().getName(),
+                    dc.damage(), damageSource.getCard().getName());
+        }
         return true;
     }
 
@@ -1218,9 +1290,11 @@ public class DamageTriggerCollectorService {
                     sourceCard, match.controllerId(), new ArrayList<>(List.of(effect)),
                     "deals damage", sourcePermanentId));
 
-            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-            log.info("Game {} - {} ON_SELF_DEALS_DAMAGE trigger awaits target ({} damage)",
-                    gameData.id, sourceCard.getName(), sd.totalDamage());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+                log.info("Game {} - {} ON_SELF_DEALS_DAMAGE trigger awaits target ({} damage)",
+                        gameData.id, sourceCard.getName(), sd.totalDamage());
+            }
             return true;
         }
 
@@ -1236,9 +1310,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} ON_SELF_DEALS_DAMAGE trigger fires ({} damage)",
-                gameData.id, sourceCard.getName(), sd.totalDamage());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} ON_SELF_DEALS_DAMAGE trigger fires ({} damage)",
+                    gameData.id, sourceCard.getName(), sd.totalDamage());
+        }
         return true;
     }
 
@@ -1272,10 +1348,12 @@ public class DamageTriggerCollectorService {
             entry.setEventValue(damage);
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-            log.info("Game {} - {} triggers for {} damage dealt to opponent {}",
-                    gameData.id, watcher.getCard().getName(), damage,
-                    gameData.playerIdToName.get(damagedPlayerId));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                log.info("Game {} - {} triggers for {} damage dealt to opponent {}",
+                        gameData.id, watcher.getCard().getName(), damage,
+                        gameData.playerIdToName.get(damagedPlayerId));
+            }
             triggered = true;
         }
         return triggered;
@@ -1307,9 +1385,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-        log.info("Game {} - {} ON_ALLY_INSTANT_OR_SORCERY_DEALS_DAMAGE trigger fires ({} damage from {})",
-                gameData.id, watcher.getCard().getName(), sd.totalDamage(), sd.sourceCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+            log.info("Game {} - {} ON_ALLY_INSTANT_OR_SORCERY_DEALS_DAMAGE trigger fires ({} damage from {})",
+                    gameData.id, watcher.getCard().getName(), sd.totalDamage(), sd.sourceCard().getName());
+        }
         return true;
     }
 
@@ -1326,9 +1406,11 @@ public class DamageTriggerCollectorService {
                     && !returnEffect.upTo() ? 1 : 0;
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                     sourceCard, sd.sourceControllerId(), new ArrayList<>(List.of(effect)), null, minTargets, 0));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-            log.info("Game {} - {} ON_SELF_DEALS_COMBAT_DAMAGE trigger awaits graveyard target",
-                    match.gameData().id, sourceCard.getName());
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+                log.info("Game {} - {} ON_SELF_DEALS_COMBAT_DAMAGE trigger awaits graveyard target",
+                        match.gameData().id, sourceCard.getName());
+            }
             return true;
         }
         StackEntry entry = new StackEntry(
@@ -1342,9 +1424,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} ON_SELF_DEALS_COMBAT_DAMAGE trigger fires ({} damage)",
-                match.gameData().id, sourceCard.getName(), sd.totalDamage());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} ON_SELF_DEALS_COMBAT_DAMAGE trigger fires ({} damage)",
+                    match.gameData().id, sourceCard.getName(), sd.totalDamage());
+        }
         return true;
     }
 
@@ -1368,9 +1452,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcherCard));
-        log.info("Game {} - {} ON_ALLY_CREATURE_DEALS_COMBAT_DAMAGE trigger fires ({} damage by {})",
-                match.gameData().id, watcherCard.getName(), sd.totalDamage(), sd.sourceCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(watcherCard));
+            log.info("Game {} - {} ON_ALLY_CREATURE_DEALS_COMBAT_DAMAGE trigger fires ({} damage by {})",
+                    match.gameData().id, watcherCard.getName(), sd.totalDamage(), sd.sourceCard().getName());
+        }
         return true;
     }
 
@@ -1385,18 +1471,22 @@ public class DamageTriggerCollectorService {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                     equipment.getCard(), match.controllerId(), new ArrayList<>(List.of(effect)),
                     false, null, 0, equipment.getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
-            log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger awaits any target",
-                    match.gameData().id, equipment.getCard().getName());
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
+                log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger awaits any target",
+                        match.gameData().id, equipment.getCard().getName());
+            }
             return true;
         }
 
         if (effect.targetSpec().admits(TargetPredicate.Kind.GRAVEYARD_CARD)) {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                     equipment.getCard(), match.controllerId(), new ArrayList<>(List.of(effect))));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
-            log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger awaits graveyard target",
-                    match.gameData().id, equipment.getCard().getName());
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
+                log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger awaits graveyard target",
+                        match.gameData().id, equipment.getCard().getName());
+            }
             return true;
         }
 
@@ -1412,9 +1502,11 @@ public class DamageTriggerCollectorService {
         entry.setEventValue(sd.totalDamage());
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
-        log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger fires ({} damage by {})",
-                match.gameData().id, equipment.getCard().getName(), sd.totalDamage(), sd.sourceCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(equipment.getCard()));
+            log.info("Game {} - {} ON_EQUIPPED_CREATURE_DEALS_COMBAT_DAMAGE trigger fires ({} damage by {})",
+                    match.gameData().id, equipment.getCard().getName(), sd.totalDamage(), sd.sourceCard().getName());
+        }
         return true;
     }
 
@@ -1459,9 +1551,11 @@ public class DamageTriggerCollectorService {
                 damagedCreature.getCard(), controllerId, new ArrayList<>(List.of(may)),
                 false, damagedCreature.getCard().getTargetFilter(), 0, damagedCreature.getId()));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
-        log.info("Game {} - {} ON_DEALT_DAMAGE targeted-may trigger fires",
-                gameData.id, damagedCreature.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
+            log.info("Game {} - {} ON_DEALT_DAMAGE targeted-may trigger fires",
+                    gameData.id, damagedCreature.getCard().getName());
+        }
         return true;
     }
 
@@ -1480,9 +1574,11 @@ public class DamageTriggerCollectorService {
                     !effect.targetSpec().admits(TargetPredicate.Kind.PERMANENT),
                     targetFilterForTriggeredEffect(damagedCreature.getCard(), effect),
                     dc.damageDealt(), damagedCreature.getId()));
-            gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
-            log.info("Game {} - {} ON_DEALT_DAMAGE targeted trigger fires",
-                    gameData.id, damagedCreature.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
+                log.info("Game {} - {} ON_DEALT_DAMAGE targeted trigger fires",
+                        gameData.id, damagedCreature.getCard().getName());
+            }
             return true;
         }
         addDealtDamageEntry(match.gameData(), dc.damagedCreature(), effect, dc.damageDealt());
@@ -1518,8 +1614,10 @@ public class DamageTriggerCollectorService {
         );
         triggerEntry.setEventValue(damageDealt);
         gameData.stack.add(triggerEntry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
-        log.info("Game {} - {} ON_DEALT_DAMAGE trigger fires", gameData.id, damagedCreature.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(damagedCreature.getCard()));
+            log.info("Game {} - {} ON_DEALT_DAMAGE trigger fires", gameData.id, damagedCreature.getCard().getName());
+        }
     }
 
     private TargetFilter targetFilterFor(Permanent source, CardEffect effect) {
@@ -204,8 +204,10 @@ public class DeathTriggerCollectorService {
                 sd.dyingCard().getName() + "'s ability",
                 new ArrayList<>(List.of(new ExileEquippedCreatureEffect(equippedCreatureId)))
         ));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sd.dyingCard()));
-        log.info("Game {} - {} exile-equipped-creature trigger fires", gameData.id, sd.dyingCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sd.dyingCard()));
+            log.info("Game {} - {} exile-equipped-creature trigger fires", gameData.id, sd.dyingCard().getName());
+        }
         return true;
     }
 
@@ -740,9 +742,11 @@ public class DeathTriggerCollectorService {
         );
         entry.setTargetId(match.permanent().getId());
         gameData.stack.add(entry);
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (equipped creature died)."));
-        log.info("Game {} - {} return trigger fires (equipped creature died)", gameData.id, match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (equipped creature died)."));
+            log.info("Game {} - {} return trigger fires (equipped creature died)", gameData.id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -765,9 +769,11 @@ public class DeathTriggerCollectorService {
                     match.permanent().getId()
             ));
         }
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (equipped creature died)."));
-        log.info("Game {} - {} triggers (equipped creature died)", gameData.id, match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (equipped creature died)."));
+            log.info("Game {} - {} triggers (equipped creature died)", gameData.id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -837,9 +843,11 @@ public class DeathTriggerCollectorService {
                         "Search your library for a creature card and put it onto the battlefield?"),
                 null,
                 match.permanent().getId());
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (enchanted creature died)", match.gameData().id,
-                match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (enchanted creature died)", match.gameData().id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -897,10 +905,12 @@ public class DeathTriggerCollectorService {
                 epd.dyingPermanentControllerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (enchanted permanent put into graveyard)."));
-        log.info("Game {} - {} triggers (enchanted permanent put into graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (enchanted permanent put into graveyard)."));
+            log.info("Game {} - {} triggers (enchanted permanent put into graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -923,10 +933,12 @@ public class DeathTriggerCollectorService {
                         new GainLifeEffect(toughness)
                 ))
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (enchanted permanent put into graveyard)."));
-        log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id,
-                match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (enchanted permanent put into graveyard)."));
+            log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -949,9 +961,11 @@ public class DeathTriggerCollectorService {
                 epd.dyingPermanentControllerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (enchanted permanent put into graveyard)."));
-        log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (enchanted permanent put into graveyard)."));
+            log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1033,9 +1047,11 @@ public class DeathTriggerCollectorService {
             entry.setEventValue(eventValue);
         }
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (enchanted permanent put into graveyard)."));
-        log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (enchanted permanent put into graveyard)."));
+            log.info("Game {} - {} triggers (enchanted permanent put into graveyard)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     private boolean effectReferencesEventValue(CardEffect effect) {
@@ -1142,9 +1158,11 @@ public class DeathTriggerCollectorService {
     }
 
     private void logEnchantedPermanentLTB(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (enchanted permanent left the battlefield)."));
-        log.info("Game {} - {} triggers (enchanted permanent left the battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (enchanted permanent left the battlefield)."));
+            log.info("Game {} - {} triggers (enchanted permanent left the battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ANY_ARTIFACT_PUT_INTO_GRAVEYARD_FROM_BATTLEFIELD ────────────
@@ -1241,8 +1259,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logArtifactGraveyard(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (artifact put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (artifact put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ANY_LAND_PUT_INTO_GRAVEYARD_FROM_BATTLEFIELD ────────────────
@@ -1281,8 +1301,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logLandGraveyard(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (land put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (land put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ANY_ENCHANTMENT_PUT_INTO_GRAVEYARD_FROM_BATTLEFIELD ─────────
@@ -1331,15 +1353,19 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (permanent owned by another player put into graveyard from battlefield)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (permanent owned by another player put into graveyard from battlefield)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
     private void logEnchantmentGraveyard(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (enchantment put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (enchantment put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ARTIFACT_PUT_INTO_OPPONENT_GRAVEYARD_FROM_BATTLEFIELD ───────
@@ -1369,8 +1395,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logOpponentArtifactGraveyard(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (opponent artifact put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (opponent artifact put into graveyard from battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_BLACK_CARD_PUT_INTO_OPPONENT_GRAVEYARD_FROM_ANYWHERE ────────
@@ -1400,8 +1428,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logBlackCardOpponentGraveyard(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (black card put into opponent's graveyard from anywhere)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (black card put into opponent's graveyard from anywhere)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ALLY_LAND_PUT_INTO_GRAVEYARD_BY_OPPONENT ────────────────────
@@ -1424,10 +1454,12 @@ public class DeathTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
-                "'s ability triggers (", landCard, " was put into a graveyard from the battlefield by an opponent)."));
-        log.info("Game {} - {} triggers (land {} put into graveyard by opponent)",
-                match.gameData().id, match.permanent().getCard().getName(), landCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
+                    "'s ability triggers (", landCard, " was put into a graveyard from the battlefield by an opponent)."));
+            log.info("Game {} - {} triggers (land {} put into graveyard by opponent)",
+                    match.gameData().id, match.permanent().getCard().getName(), landCard.getName());
+        }
         return true;
     }
 
@@ -1445,7 +1477,9 @@ public class DeathTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        }
         return true;
     }
 
@@ -1457,9 +1491,11 @@ public class DeathTriggerCollectorService {
         gameData.queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                 match.permanent().getCard(), match.controllerId(), new ArrayList<>(List.of(may)), false,
                 match.permanent().getCard().getTargetFilter(), 0, match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers after an opponent destroys a noncreature permanent",
-                gameData.id, match.permanent().getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers after an opponent destroys a noncreature permanent",
+                    gameData.id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1480,9 +1516,11 @@ public class DeathTriggerCollectorService {
                 match.permanent().getCard().getName() + "'s ability",
                 new ArrayList<>(List.of(baked))
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (opponent permanent put into graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (opponent permanent put into graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1507,9 +1545,11 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (permanent {} put into graveyard from battlefield)",
-                match.gameData().id, match.permanent().getCard().getName(), apg.dyingCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (permanent {} put into graveyard from battlefield)",
+                    match.gameData().id, match.permanent().getCard().getName(), apg.dyingCard().getName());
+        }
         return true;
     }
 
@@ -1534,9 +1574,11 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (equipped creature returns to hand)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (equipped creature returns to hand)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1549,9 +1591,11 @@ public class DeathTriggerCollectorService {
                 new ReturnDyingCreatureToOwnerHandUnlessTargetPaysLifeEffect(effect.lifeCost(), apg.dyingCard().getId());
         match.gameData().queueInteraction(new PermanentChoiceContext.DeathTriggerTarget(
                 match.permanent().getCard(), match.controllerId(), new ArrayList<>(List.of(baked))));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (owned creature put into graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (owned creature put into graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1573,9 +1617,11 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (controller's permanent put into graveyard from battlefield)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (controller's permanent put into graveyard from battlefield)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1593,9 +1639,11 @@ public class DeathTriggerCollectorService {
                 apg.graveyardOwnerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (nontoken permanent put into a graveyard from the battlefield)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (nontoken permanent put into a graveyard from the battlefield)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1612,9 +1660,11 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (nontoken permanent put into controller's graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (nontoken permanent put into controller's graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1631,9 +1681,11 @@ public class DeathTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (permanent put into controller's graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (permanent put into controller's graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1656,9 +1708,11 @@ public class DeathTriggerCollectorService {
                 apg.graveyardOwnerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (permanent {} put into an opponent's graveyard)",
-                match.gameData().id, match.permanent().getCard().getName(), apg.dyingCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (permanent {} put into an opponent's graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName(), apg.dyingCard().getName());
+        }
         return true;
     }
 
@@ -2034,8 +2088,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logAnyCreatureDeath(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (any creature died)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (any creature died)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ALLY_NONTOKEN_CREATURE_DIES ─────────────────────────────────
@@ -2167,8 +2223,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logAllyNontokenCreatureDeath(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (ally nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (ally nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_ANY_NONTOKEN_CREATURE_DIES ──────────────────────────────────
@@ -2185,9 +2243,11 @@ public class DeathTriggerCollectorService {
                 List.of(imprintEffect),
                 match.permanent().getCard().getName() + " — " + rawMay.prompt()
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s imprint ability triggers."));
-        log.info("Game {} - {} imprint triggers (nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s imprint ability triggers."));
+            log.info("Game {} - {} imprint triggers (nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -2210,9 +2270,11 @@ public class DeathTriggerCollectorService {
                 cd.dyingCard().getId(),
                 rawMayPay.manaCost()
         ));
-        gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
-                "'s ability triggers (", cd.dyingCard(), " died)."));
-        log.info("Game {} - {} return trigger fires (nontoken creature {} died)", gameData.id, match.permanent().getCard().getName(), cd.dyingCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
+                    "'s ability triggers (", cd.dyingCard(), " died)."));
+            log.info("Game {} - {} return trigger fires (nontoken creature {} died)", gameData.id, match.permanent().getCard().getName(), cd.dyingCard().getName());
+        }
         return true;
     }
 
@@ -2226,8 +2288,10 @@ public class DeathTriggerCollectorService {
                 match.permanent().getCard().getName() + "'s ability",
                 new ArrayList<>(List.of(effect))
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (any nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (any nontoken creature died)", match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -2285,8 +2349,10 @@ public class DeathTriggerCollectorService {
                 dyingCard.getId(),
                 rawMayPay.manaCost()
         ));
-        gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
-                "'s ability triggers (", dyingCard, " died)."));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
+                    "'s ability triggers (", dyingCard, " died)."));
+        }
         logOpponentCreatureDeath(match);
         return true;
     }
@@ -2363,8 +2429,10 @@ public class DeathTriggerCollectorService {
     }
 
     private void logOpponentCreatureDeath(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (opponent creature died)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (opponent creature died)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     // ── ON_SELF_LEAVES_BATTLEFIELD ─────────────────────────────────────
@@ -2677,9 +2745,11 @@ public class DeathTriggerCollectorService {
     }
 
     private void logSelfLeaves(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s ability triggers (left the battlefield)."));
-        log.info("Game {} - {} triggers (left the battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s ability triggers (left the battlefield)."));
+            log.info("Game {} - {} triggers (left the battlefield)", match.gameData().id, match.permanent().getCard().getName());
+        }
     }
 
     private int countConcreteCounters(Permanent permanent) {
@@ -2705,10 +2775,12 @@ public class DeathTriggerCollectorService {
                 "Return " + dyingCard.getName() + " to its owner's hand at the beginning of the next end step?");
         match.gameData().queueMayAbility(match.permanent().getCard(), aaeg.controllerId(), may);
 
-        gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
-                "'s ability triggers (", dyingCard, " was put into a graveyard from the battlefield)."));
-        log.info("Game {} - {} triggers (ally Aura/Equipment {} put into graveyard from battlefield)",
-                match.gameData().id, match.permanent().getCard().getName(), dyingCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
+                    "'s ability triggers (", dyingCard, " was put into a graveyard from the battlefield)."));
+            log.info("Game {} - {} triggers (ally Aura/Equipment {} put into graveyard from battlefield)",
+                    match.gameData().id, match.permanent().getCard().getName(), dyingCard.getName());
+        }
         return true;
     }
 }
@@ -74,8 +74,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger.wrapped())),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on opponent-caused discard", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on opponent-caused discard", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -98,8 +100,10 @@ public class DiscardTriggerCollectorService {
                     match.gameData().graveyardEntryVersion(triggeringCardId));
         }
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on discard (may ability)", match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on discard (may ability)", match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -115,10 +119,12 @@ public class DiscardTriggerCollectorService {
         damage += gameQueryService.getControllerDamageToOpponentBonus(
                 gameData, match.controllerId(), discardingPlayerId);
 
-        gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                " triggers — deals " + damage + " damage to " + gameData.playerIdToName.get(discardingPlayerId) + "."));
-        log.info("Game {} - {} triggers on discard, dealing {} damage to {}",
-                gameData.id, cardName, damage, gameData.playerIdToName.get(discardingPlayerId));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                    " triggers — deals " + damage + " damage to " + gameData.playerIdToName.get(discardingPlayerId) + "."));
+            log.info("Game {} - {} triggers on discard, dealing {} damage to {}",
+                    gameData.id, cardName, damage, gameData.playerIdToName.get(discardingPlayerId));
+        }
 
         CardColor sourceColor = gameQueryService.getEffectiveColor(gameData, match.permanent());
         boolean sourceDamagePrevented = damagePreventionService.isSourceDamagePreventedForPlayer(
@@ -140,7 +146,9 @@ public class DiscardTriggerCollectorService {
                 lifeSupport.applyPoisonCounters(gameData, discardingPlayerId, effectiveDamage,
                         cardName, match.controllerId());
             } else if (effectiveDamage > 0 && !gameQueryService.canPlayerLifeChange(gameData, discardingPlayerId)) {
-                gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(discardingPlayerId) + "'s life total can't change."));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(discardingPlayerId) + "'s life total can't change."));
+                }
             } else {
                 int currentLife = gameData.getLife(discardingPlayerId);
                 gameData.playerLifeTotals.put(discardingPlayerId, currentLife - effectiveDamage);
@@ -170,9 +178,11 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on controller discard (damage to each opponent)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on controller discard (damage to each opponent)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -184,8 +194,10 @@ public class DiscardTriggerCollectorService {
         gameData.queueInteraction(new PermanentChoiceContext.TriggeredModalTrigger(
                 sourceCard, match.controllerId(), new ChooseOneEffect(trigger.options()),
                 match.permanent().getId(), true));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on discard (turn-scoped modal)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on discard (turn-scoped modal)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -207,9 +219,11 @@ public class DiscardTriggerCollectorService {
                 match.permanent().getId());
         entry.setEventValue(discardEvent.discardedCount());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on controller discard event (damage to each opponent)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on controller discard event (damage to each opponent)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -229,9 +243,11 @@ public class DiscardTriggerCollectorService {
                 match.permanent().getId());
         entry.setEventValue(discardEvent.discardedCount());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on discard event (put {} counter(s))", gameData.id,
-                sourceCard.getName(), discardEvent.discardedCount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on discard event (put {} counter(s))", gameData.id,
+                    sourceCard.getName(), discardEvent.discardedCount());
+        }
         return true;
     }
 
@@ -263,10 +279,12 @@ public class DiscardTriggerCollectorService {
                 match.permanent().getId());
         entry.setTriggeringCardId(discarded.getId());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers to exile discarded card {}{}",
-                gameData.id, sourceCard.getName(), discarded.getName(),
-                trigger.trackWithSource() ? " with the source" : "");
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers to exile discarded card {}{}",
+                    gameData.id, sourceCard.getName(), discarded.getName(),
+                    trigger.trackWithSource() ? " with the source" : "");
+        }
         return true;
     }
 
@@ -285,8 +303,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (scry {})", gameData.id, sourceCard.getName(), trigger.count());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (scry {})", gameData.id, sourceCard.getName(), trigger.count());
+        }
         return true;
     }
 
@@ -306,8 +326,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (self-boost)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (self-boost)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -328,8 +350,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (sequence)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (sequence)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -342,8 +366,10 @@ public class DiscardTriggerCollectorService {
         gameData.queueInteraction(new PermanentChoiceContext.DiscardControllerTriggerTarget(
                 sourceCard, match.controllerId(), new ArrayList<>(List.of(trigger)),
                 match.permanent().getId(), discardEvent.discardedCount()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on discard event (sequence)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on discard event (sequence)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -371,8 +397,10 @@ public class DiscardTriggerCollectorService {
                     null,
                     match.permanent().getId()));
         }
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (grant keyword)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (grant keyword)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -387,8 +415,10 @@ public class DiscardTriggerCollectorService {
         Card sourceCard = match.permanent().getCard();
         gameData.queueInteraction(new PermanentChoiceContext.DiscardControllerTriggerTarget(
                 sourceCard, match.controllerId(), new ArrayList<>(List.of(trigger)), match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (boost target creature)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (boost target creature)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -409,8 +439,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (put counters on matching permanents)", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (put counters on matching permanents)", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -427,9 +459,11 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on controller discard (put counters on source)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on controller discard (put counters on source)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -449,8 +483,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on cycle/discard (may pay {})", gameData.id, sourceCard.getName(), trigger.manaCost());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on cycle/discard (may pay {})", gameData.id, sourceCard.getName(), trigger.manaCost());
+        }
         return true;
     }
 
@@ -477,9 +513,11 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on controller discard (create token)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on controller discard (create token)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -499,9 +537,11 @@ public class DiscardTriggerCollectorService {
                 match.permanent().getId());
         entry.setEventValue(discardEvent.discardedCount());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on discard event (create {} token(s))", gameData.id,
-                sourceCard.getName(), discardEvent.discardedCount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on discard event (create {} token(s))", gameData.id,
+                    sourceCard.getName(), discardEvent.discardedCount());
+        }
         return true;
     }
 
@@ -535,8 +575,10 @@ public class DiscardTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on discard ({})", gameData.id, sourceCard.getName(), what);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on discard ({})", gameData.id, sourceCard.getName(), what);
+        }
         return true;
     }
 
@@ -553,13 +595,17 @@ public class DiscardTriggerCollectorService {
         var gameData = match.gameData();
         var discardingPlayerId = dc.discardingPlayerId();
 
-        gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                " triggers — " + gameData.playerIdToName.get(discardingPlayerId) + " loses " + amount + " life."));
-        log.info("Game {} - {} triggers on discard, {} loses {} life",
-                gameData.id, cardName, gameData.playerIdToName.get(discardingPlayerId), amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                    " triggers — " + gameData.playerIdToName.get(discardingPlayerId) + " loses " + amount + " life."));
+            log.info("Game {} - {} triggers on discard, {} loses {} life",
+                    gameData.id, cardName, gameData.playerIdToName.get(discardingPlayerId), amount);
+        }
 
         if (!gameQueryService.canPlayerLifeChange(gameData, discardingPlayerId)) {
-            gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(discardingPlayerId) + "'s life total can't change."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(discardingPlayerId) + "'s life total can't change."));
+            }
         } else {
             int currentLife = gameData.getLife(discardingPlayerId);
             gameData.playerLifeTotals.put(discardingPlayerId, currentLife - amount);
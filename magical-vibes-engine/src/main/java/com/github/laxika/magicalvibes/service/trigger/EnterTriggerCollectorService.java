@@ -154,9 +154,11 @@ public class EnterTriggerCollectorService {
             entry.setTriggeringCardId(pe.enteringCard().getId());
             match.gameData().stack.add(entry);
         }
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers to untap {} entering tapped",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers to untap {} entering tapped",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -220,9 +222,11 @@ public class EnterTriggerCollectorService {
                         new ArrayList<>(List.of(effect)), match.permanent().getId(),
                         enteringPermanentId, enteringPermanentId));
             }
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-            log.info("Game {} - {} any-permanent-enters trigger awaiting target selection",
-                    match.gameData().id, match.permanent().getCard().getName());
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+                log.info("Game {} - {} any-permanent-enters trigger awaiting target selection",
+                        match.gameData().id, match.permanent().getCard().getName());
+            }
             return true;
         }
         StackEntry entry = new StackEntry(
@@ -237,9 +241,11 @@ public class EnterTriggerCollectorService {
         entry.setTriggeringPermanentId(pe.mayPayTargetCardId());
         entry.setTriggeringCardId(pe.enteringCard().getId());
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} any-permanent-enters trigger queued", match.gameData().id,
-                match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} any-permanent-enters trigger queued", match.gameData().id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -462,8 +468,10 @@ public class EnterTriggerCollectorService {
             match.gameData().stack.add(entry);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (sacrifice and create tokens)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (sacrifice and create tokens)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -516,8 +524,10 @@ public class EnterTriggerCollectorService {
                     match.permanent().getId());
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (may effect)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (may effect)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -545,8 +555,10 @@ public class EnterTriggerCollectorService {
             );
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (may effect for entering controller)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (may effect for entering controller)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -573,8 +585,10 @@ public class EnterTriggerCollectorService {
                         pe.mayPayTargetCardId(), enteringPermanentId);
             }
             logTriggered(match);
-            log.info("Game {} - {} triggers for {} entering (may pay mana)",
-                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+            if (!match.gameData().simulation) {
+                log.info("Game {} - {} triggers for {} entering (may pay mana)",
+                        match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+            }
             return true;
         }
         UUID targetCardId = mayPay.targetSpec().admits(TargetPredicate.Kind.PERMANENT)
@@ -584,8 +598,10 @@ public class EnterTriggerCollectorService {
             match.gameData().queueMayAbility(sourceCard, match.controllerId(), mayPay, targetCardId);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (may pay mana)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (may pay mana)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -622,10 +638,12 @@ public class EnterTriggerCollectorService {
         String cardName = sourceCard.getName();
         enqueue(match, new GainLifeEffect(amount), pe.defaultTargetPlayerId(), pe.perEffectTriggerCount());
         String controllerName = gameData.playerIdToName.get(match.controllerId());
-        gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                " triggers — " + controllerName + " will gain " + amount + " life."));
-        log.info("Game {} - {} triggers for {} entering (gain {} life)",
-                gameData.id, cardName, pe.enteringCard().getName(), amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                    " triggers — " + controllerName + " will gain " + amount + " life."));
+            log.info("Game {} - {} triggers for {} entering (gain {} life)",
+                    gameData.id, cardName, pe.enteringCard().getName(), amount);
+        }
         return true;
     }
 
@@ -670,10 +688,12 @@ public class EnterTriggerCollectorService {
         enqueue(match, new DealDamageToPlayersEffect(damageEffect.amount(), DamageRecipient.TARGET_PLAYER), targetPlayerId,
                 pe.perEffectTriggerCount());
         String targetName = gameData.playerIdToName.get(targetPlayerId);
-        gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                " triggers — deals " + damageEffect.amount() + " damage to " + targetName + "."));
-        log.info("Game {} - {} triggers for {} entering (deal {} damage to controller)",
-                gameData.id, cardName, pe.enteringCard().getName(), damageEffect.amount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                    " triggers — deals " + damageEffect.amount() + " damage to " + targetName + "."));
+            log.info("Game {} - {} triggers for {} entering (deal {} damage to controller)",
+                    gameData.id, cardName, pe.enteringCard().getName(), damageEffect.amount());
+        }
         return true;
     }
 
@@ -690,8 +710,10 @@ public class EnterTriggerCollectorService {
         TriggerContext.PermanentEnters pe = (TriggerContext.PermanentEnters) ctx;
         enqueue(match, effect, pe.enteringControllerId(), pe.perEffectTriggerCount());
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (controller sacrifices)",
-                match.gameData().id, match.permanent().getCard().getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (controller sacrifices)",
+                    match.gameData().id, match.permanent().getCard().getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -723,8 +745,10 @@ public class EnterTriggerCollectorService {
                     match.permanent().getId()));
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (deal damage to entering creature)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (deal damage to entering creature)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -755,8 +779,10 @@ public class EnterTriggerCollectorService {
             match.gameData().stack.add(entry);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (deal damage and boost source)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (deal damage and boost source)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -790,8 +816,10 @@ public class EnterTriggerCollectorService {
             match.gameData().queueInteraction(context);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (entering creature deals its power to any target)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (entering creature deals its power to any target)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -830,8 +858,10 @@ public class EnterTriggerCollectorService {
             match.gameData().stack.add(entry);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (entering creature deals power damage to each opponent)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (entering creature deals power damage to each opponent)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -873,8 +903,10 @@ public class EnterTriggerCollectorService {
                     match.permanent().getId()));
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (create token copy of entering creature)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (create token copy of entering creature)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -899,8 +931,10 @@ public class EnterTriggerCollectorService {
         enqueue(match, new BecomeCopyOfEnteringCreatureEffect(enteringPermanentId),
                 match.permanent().getId(), pe.perEffectTriggerCount());
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (become a copy of it)",
-                match.gameData().id, match.permanent().getCard().getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (become a copy of it)",
+                    match.gameData().id, match.permanent().getCard().getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -930,8 +964,10 @@ public class EnterTriggerCollectorService {
                     enteringPermanentId, match.permanent().getId());
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (may become a copy until end of turn)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (may become a copy until end of turn)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -961,8 +997,10 @@ public class EnterTriggerCollectorService {
             match.gameData().enqueueTrigger(entry);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (exile until source leaves)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (exile until source leaves)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -983,8 +1021,10 @@ public class EnterTriggerCollectorService {
             enqueue(match, counters, pe.defaultTargetPlayerId(), pe.perEffectTriggerCount());
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (put {} +1/+1 counter(s))",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(), power);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (put {} +1/+1 counter(s))",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(), power);
+        }
         return true;
     }
 
@@ -1024,9 +1064,11 @@ public class EnterTriggerCollectorService {
             }
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering ({} transform it)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
-                effect.optional() ? "may" : "mandatory");
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering ({} transform it)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
+                    effect.optional() ? "may" : "mandatory");
+        }
         return true;
     }
 
@@ -1071,8 +1113,10 @@ public class EnterTriggerCollectorService {
             match.gameData().enqueueTrigger(entry);
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (counter-based evolve)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (counter-based evolve)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -1124,9 +1168,11 @@ public class EnterTriggerCollectorService {
             }
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering ({} put {} {} counter(s) on it)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
-                effect.optional() ? "may" : "mandatory", effect.amount(), counterDescription);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering ({} put {} {} counter(s) on it)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
+                    effect.optional() ? "may" : "mandatory", effect.amount(), counterDescription);
+        }
         return true;
     }
 
@@ -1162,9 +1208,11 @@ public class EnterTriggerCollectorService {
                     match.permanent().getId()));
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (+{}/+{}, gains {})",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
-                effect.powerBoost(), effect.toughnessBoost(), effect.keywords());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (+{}/+{}, gains {})",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
+                    effect.powerBoost(), effect.toughnessBoost(), effect.keywords());
+        }
         return true;
     }
 
@@ -1201,8 +1249,10 @@ public class EnterTriggerCollectorService {
                     enteringPermanentId, match.permanent().getId());
         }
         logTriggered(match);
-        log.info("Game {} - {} soulbond may-pair with entering {}",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} soulbond may-pair with entering {}",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -1224,8 +1274,10 @@ public class EnterTriggerCollectorService {
             match.gameData().queueMayAbility(sourceCard, match.controllerId(), may, null, match.permanent().getId());
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (look at top {})",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(), power);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (look at top {})",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(), power);
+        }
         return true;
     }
 
@@ -1273,9 +1325,11 @@ public class EnterTriggerCollectorService {
             }
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering ({} attach equipment)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
-                effect.optional() ? "may" : "mandatory");
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering ({} attach equipment)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName(),
+                    effect.optional() ? "may" : "mandatory");
+        }
         return true;
     }
 
@@ -1303,8 +1357,10 @@ public class EnterTriggerCollectorService {
                     enteringPermanentId, match.permanent().getId());
         }
         logTriggered(match);
-        log.info("Game {} - {} triggers for {} entering (may attach aura)",
-                match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} triggers for {} entering (may attach aura)",
+                    match.gameData().id, sourceCard.getName(), pe.enteringCard().getName());
+        }
         return true;
     }
 
@@ -1362,7 +1418,9 @@ public class EnterTriggerCollectorService {
     }
 
     private void logTriggered(TriggerMatchContext match) {
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        }
     }
 
     private static boolean isTargeting(CardEffect effect) {
@@ -38,9 +38,11 @@ public class FaceUpTriggerCollectorService {
                 match.permanent().getId());
         entry.setTriggeringPermanentId(faceUp.turnedPermanent().getId());
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers when {} is turned face up",
-                match.gameData().id, sourceCard.getName(), faceUp.turnedPermanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers when {} is turned face up",
+                    match.gameData().id, sourceCard.getName(), faceUp.turnedPermanent().getCard().getName());
+        }
         return true;
     }
 }
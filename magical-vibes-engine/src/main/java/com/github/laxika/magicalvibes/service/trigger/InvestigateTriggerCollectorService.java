@@ -33,8 +33,10 @@ public class InvestigateTriggerCollectorService {
                 new ArrayList<>(List.of(trigger)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on investigate", match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on investigate", match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 }
@@ -96,7 +96,9 @@ public class LandTapTriggerCollectorService {
                 match.permanent().getId());
         entry.setNonTargeting(true);
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+        }
         return true;
     }
 
@@ -119,10 +121,12 @@ public class LandTapTriggerCollectorService {
         damage += gameQueryService.getControllerDamageToOpponentBonus(
                 gameData, match.controllerId(), tappingPlayerId);
 
-        gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                " triggers — deals " + damage + " damage to " + gameData.playerIdToName.get(tappingPlayerId) + "."));
-        log.info("Game {} - {} triggers on land tap, dealing {} damage to {}",
-                gameData.id, cardName, damage, gameData.playerIdToName.get(tappingPlayerId));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                    " triggers — deals " + damage + " damage to " + gameData.playerIdToName.get(tappingPlayerId) + "."));
+            log.info("Game {} - {} triggers on land tap, dealing {} damage to {}",
+                    gameData.id, cardName, damage, gameData.playerIdToName.get(tappingPlayerId));
+        }
 
         CardColor sourceColor = gameQueryService.getEffectiveColor(gameData, match.permanent());
         boolean sourceDamagePrevented = damagePreventionService.isSourceDamagePreventedForPlayer(
@@ -144,7 +148,9 @@ public class LandTapTriggerCollectorService {
                 lifeSupport.applyPoisonCounters(gameData, tappingPlayerId, effectiveDamage,
                         cardName, match.controllerId());
             } else if (effectiveDamage > 0 && !gameQueryService.canPlayerLifeChange(gameData, tappingPlayerId)) {
-                gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(tappingPlayerId) + "'s life total can't change."));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(gameData.playerIdToName.get(tappingPlayerId) + "'s life total can't change."));
+                }
             } else {
                 int currentLife = gameData.getLife(tappingPlayerId);
                 gameData.playerLifeTotals.put(tappingPlayerId, currentLife - effectiveDamage);
@@ -172,9 +178,11 @@ public class LandTapTriggerCollectorService {
 
         lifeSupport.applyGainLife(match.gameData(), match.controllerId(), trigger.lifeAmount());
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(match.controllerId())
-                        + " gains " + trigger.lifeAmount() + " life."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(match.controllerId())
+                            + " gains " + trigger.lifeAmount() + " life."));
+        }
         return true;
     }
 
@@ -202,9 +210,11 @@ public class LandTapTriggerCollectorService {
                 return false;
             }
 
-            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                    " triggers — " + playerName + " chooses a color of mana to add."));
-            log.info("Game {} - Awaiting {} to choose a mana color from {}", gameData.id, playerName, cardName);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                        " triggers — " + playerName + " chooses a color of mana to add."));
+                log.info("Game {} - Awaiting {} to choose a mana color from {}", gameData.id, playerName, cardName);
+            }
             return true;
         }
 
@@ -217,8 +227,10 @@ public class LandTapTriggerCollectorService {
 
             gameData.playerManaPools.get(tappingPlayerId).add(award.color(), amount);
 
-            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                    " triggers - " + playerName + " adds " + amount + " " + award.color().name().toLowerCase() + " mana."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                        " triggers - " + playerName + " adds " + amount + " " + award.color().name().toLowerCase() + " mana."));
+            }
             return true;
         }
 
@@ -232,9 +244,11 @@ public class LandTapTriggerCollectorService {
             if (ofColors.colors().size() == 1) {
                 ManaColor manaColor = ofColors.colors().get(0);
                 gameData.playerManaPools.get(tappingPlayerId).add(manaColor, amount);
-                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                        " triggers - " + playerName + " adds " + amount + " "
-                                + manaColor.name().toLowerCase() + " mana."));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                            " triggers - " + playerName + " adds " + amount + " "
+                                    + manaColor.name().toLowerCase() + " mana."));
+                }
                 return true;
             }
 
@@ -243,10 +257,12 @@ public class LandTapTriggerCollectorService {
             List<String> colors = ofColors.colors().stream().map(Enum::name).toList();
             interactionHandlerRegistry.begin(gameData, new PendingInteraction.ColorChoice(
                     tappingPlayerId, null, null, choiceContext, colors, "Choose a color of mana to add."));
-            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                    " triggers — " + playerName + " chooses colors of mana to add."));
-            log.info("Game {} - Awaiting {} to choose {} colors of mana from {}", gameData.id,
-                    playerName, amount, cardName, colors);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                        " triggers — " + playerName + " chooses colors of mana to add."));
+                log.info("Game {} - Awaiting {} to choose {} colors of mana from {}", gameData.id,
+                        playerName, amount, cardName, colors);
+            }
             return true;
         }
 
@@ -258,9 +274,11 @@ public class LandTapTriggerCollectorService {
 
             ManaColor chosenManaColor = ManaColor.valueOf(chosenColor.name());
             gameData.playerManaPools.get(tappingPlayerId).add(chosenManaColor);
-            gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                    " triggers - " + playerName + " adds 1 additional "
-                            + chosenColor.name().toLowerCase() + " mana."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                        " triggers - " + playerName + " adds 1 additional "
+                                + chosenColor.name().toLowerCase() + " mana."));
+            }
             return true;
         }
 
@@ -289,9 +307,11 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         pool.add(chosenManaColor);
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds 1 additional " + chosenColor.name().toLowerCase() + " mana."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds 1 additional " + chosenColor.name().toLowerCase() + " mana."));
+        }
         return true;
     }
 
@@ -328,9 +348,11 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         pool.add(producedColor);
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        }
         return true;
     }
 
@@ -366,10 +388,12 @@ public class LandTapTriggerCollectorService {
             pool.add(color, Math.toIntExact(matchingLandCount));
         }
 
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + gameData.playerIdToName.get(lt.tappingPlayerId())
-                        + " adds " + matchingLandCount + " additional mana of each type produced by "
-                        + tappedLand.getCard().getName() + "."));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + gameData.playerIdToName.get(lt.tappingPlayerId())
+                            + " adds " + matchingLandCount + " additional mana of each type produced by "
+                            + tappedLand.getCard().getName() + "."));
+        }
         return true;
     }
 
@@ -397,9 +421,11 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         pool.add(producedColor);
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        }
         return true;
     }
 
@@ -425,9 +451,11 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         pool.add(producedColor);
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds 1 additional " + producedColor.name().toLowerCase() + " mana."));
+        }
         return true;
     }
 
@@ -442,8 +470,10 @@ public class LandTapTriggerCollectorService {
 
         tappedLand.setSkipUntapCount(tappedLand.getSkipUntapCount() + 1);
 
-        gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
-                " triggers — ", tappedLand.getCard(), " doesn't untap during its controller's next untap step."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
+                    " triggers — ", tappedLand.getCard(), " doesn't untap during its controller's next untap step."));
+        }
         return true;
     }
 
@@ -461,9 +491,11 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         pool.add(trigger.color());
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds 1 additional " + trigger.color().name().toLowerCase() + " mana."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds 1 additional " + trigger.color().name().toLowerCase() + " mana."));
+        }
         return true;
     }
 
@@ -482,10 +514,12 @@ public class LandTapTriggerCollectorService {
         ManaPool pool = match.gameData().playerManaPools.get(lt.tappingPlayerId());
         trigger.restriction().applyTo(pool, trigger.color(), amount);
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
-                        + " adds " + amount + " additional " + trigger.color().name().toLowerCase()
-                        + " mana (" + trigger.restriction().description() + ")."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(lt.tappingPlayerId())
+                            + " adds " + amount + " additional " + trigger.color().name().toLowerCase()
+                            + " mana (" + trigger.restriction().description() + ")."));
+        }
         return true;
     }
 
@@ -499,8 +533,10 @@ public class LandTapTriggerCollectorService {
         if (tappedLand == null) return false;
         if (!permanentRemovalService.removePermanentToHand(match.gameData(), tappedLand)) return false;
 
-        gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
-                " triggers — ", tappedLand.getCard(), " is returned to its owner's hand."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
+                    " triggers — ", tappedLand.getCard(), " is returned to its owner's hand."));
+        }
         return true;
     }
 
@@ -524,9 +560,11 @@ public class LandTapTriggerCollectorService {
         entry.setNonTargeting(true);
         entry.setTriggeringPermanentId(lt.tappedLandId());
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to destroy a land tapped outside its controller's turn",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to destroy a land tapped outside its controller's turn",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -548,9 +586,11 @@ public class LandTapTriggerCollectorService {
         permanentControlSupport.applyCreateToken(match.gameData(), opponentId, trigger.tokenEffect(),
                 match.permanent().getCard().getSetCode());
 
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(opponentId)
-                        + " creates a " + trigger.tokenEffect().tokenName() + " token."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(opponentId)
+                            + " creates a " + trigger.tokenEffect().tokenName() + " token."));
+        }
         return true;
     }
 
@@ -572,7 +612,9 @@ public class LandTapTriggerCollectorService {
                 match.permanent().getId());
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        }
         return true;
     }
 
@@ -588,8 +630,10 @@ public class LandTapTriggerCollectorService {
 
         tappedLand.setSkipUntapCount(tappedLand.getSkipUntapCount() + 1);
 
-        gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
-                " triggers — ", tappedLand.getCard(), " doesn't untap during its controller's next untap step."));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardTextCard(match.permanent().getCard(),
+                    " triggers — ", tappedLand.getCard(), " doesn't untap during its controller's next untap step."));
+        }
         return true;
     }
 
@@ -618,9 +662,11 @@ public class LandTapTriggerCollectorService {
         entry.setNonTargeting(true);
         entry.setTriggeringPermanentId(lt.tappedLandId());
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on opponent land tap", match.gameData().id,
-                match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on opponent land tap", match.gameData().id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 }
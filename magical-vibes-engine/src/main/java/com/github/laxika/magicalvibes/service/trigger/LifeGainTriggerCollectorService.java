@@ -35,8 +35,10 @@ public class LifeGainTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on life gain", match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on life gain", match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 }
@@ -22,11 +22,13 @@ public class ManaTapTriggerCollectorService {
             AddManaWhenCreatureTappedForManaEffect trigger, TriggerContext ctx) {
         TriggerContext.CreatureTapForMana creatureTap = (TriggerContext.CreatureTapForMana) ctx;
         match.gameData().playerManaPools.get(creatureTap.tappingPlayerId()).add(trigger.color());
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + match.gameData().playerIdToName.get(creatureTap.tappingPlayerId())
-                        + " adds 1 additional " + trigger.color().name().toLowerCase() + " mana."));
-        log.info("Game {} - {} triggers on creature tap for mana", match.gameData().id,
-                match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + match.gameData().playerIdToName.get(creatureTap.tappingPlayerId())
+                            + " adds 1 additional " + trigger.color().name().toLowerCase() + " mana."));
+            log.info("Game {} - {} triggers on creature tap for mana", match.gameData().id,
+                    match.permanent().getCard().getName());
+        }
         return true;
     }
 }
@@ -166,8 +166,10 @@ public class MiscTriggerCollectorService {
                     null,
                     match.permanent().getId()));
         }
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(card));
-        log.info("Game {} - {} triggers on becoming untapped", match.gameData().id, card.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(card));
+            log.info("Game {} - {} triggers on becoming untapped", match.gameData().id, card.getName());
+        }
         return true;
     }
 
@@ -212,10 +214,12 @@ public class MiscTriggerCollectorService {
                     List.of(),
                     List.of()));
         }
-        gameLogService.append(match.gameData(), GameLog.cardThen(card,
-                "'s ability triggers (became monstrous)."));
-        log.info("Game {} - {} triggers on becoming monstrous", match.gameData().id,
-                card.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(card,
+                    "'s ability triggers (became monstrous)."));
+            log.info("Game {} - {} triggers on becoming monstrous", match.gameData().id,
+                    card.getName());
+        }
         return true;
     }
 
@@ -256,7 +260,9 @@ public class MiscTriggerCollectorService {
         // and the "you may" is offered to the source's controller (not the sacrificing player).
         match.gameData().queueMayAbility(match.permanent().getCard(), match.controllerId(), may,
                 null, match.permanent().getId());
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        }
         return true;
     }
 
@@ -268,7 +274,9 @@ public class MiscTriggerCollectorService {
             match.gameData().queueInteraction(new PermanentChoiceContext.EntersTriggerTarget(
                     match.permanent().getCard(), as.sacrificingPlayerId(),
                     new ArrayList<>(List.of(effect)), match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
             return true;
         }
         match.gameData().enqueueTrigger(new StackEntry(
@@ -292,7 +300,9 @@ public class MiscTriggerCollectorService {
             match.gameData().queueInteraction(new PermanentChoiceContext.EntersTriggerTarget(
                     match.permanent().getCard(), match.controllerId(),
                     new ArrayList<>(List.of(effect)), match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
             return true;
         }
         match.gameData().enqueueTrigger(new StackEntry(
@@ -324,9 +334,11 @@ public class MiscTriggerCollectorService {
                     match.controllerId(),
                     new ArrayList<>(List.of(conditional.wrapped())),
                     match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-            log.info("Game {} - {} triggers on matching permanent sacrifice (awaiting target)",
-                    match.gameData().id, cardName);
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+                log.info("Game {} - {} triggers on matching permanent sacrifice (awaiting target)",
+                        match.gameData().id, cardName);
+            }
             return true;
         }
         match.gameData().enqueueTrigger(new StackEntry(
@@ -338,8 +350,10 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on matching permanent sacrifice", match.gameData().id, cardName);
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on matching permanent sacrifice", match.gameData().id, cardName);
+        }
         return true;
     }
 
@@ -362,7 +376,9 @@ public class MiscTriggerCollectorService {
         entry.setTriggeringCardGraveyardEntryVersion(
                 match.gameData().graveyardEntryVersion(sacrificed.sacrificedCard().getId()));
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+        }
         return true;
     }
 
@@ -383,10 +399,12 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on enchanted permanent tap ({})",
-                match.gameData().id, match.permanent().getCard().getName(),
-                ept.tappedPermanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on enchanted permanent tap ({})",
+                    match.gameData().id, match.permanent().getCard().getName(),
+                    ept.tappedPermanent().getCard().getName());
+        }
         return true;
     }
 
@@ -402,9 +420,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to destroy enchanted permanent",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to destroy enchanted permanent",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -423,9 +443,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to remove a counter from itself",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to remove a counter from itself",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -443,9 +465,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to put a counter on enchanted creature",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to put a counter on enchanted creature",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -463,9 +487,11 @@ public class MiscTriggerCollectorService {
                 ept.tappedPermanentControllerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to damage enchanted permanent's controller",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to damage enchanted permanent's controller",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -484,9 +510,11 @@ public class MiscTriggerCollectorService {
                 ept.tappedPermanentControllerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (pay-or-penalty) on enchanted permanent tap",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (pay-or-penalty) on enchanted permanent tap",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -506,9 +534,11 @@ public class MiscTriggerCollectorService {
                 ept.tappedPermanent().getId(),
                 match.permanent().getId()));
         String triggerLog = match.permanent().getCard().getName() + "'s ability triggers.";
-        gameLogService.append(match.gameData(), GameLog.text(triggerLog));
-        log.info("Game {} - {} triggers, enchanted permanent's controller loses life",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.text(triggerLog));
+            log.info("Game {} - {} triggers, enchanted permanent's controller loses life",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -527,9 +557,11 @@ public class MiscTriggerCollectorService {
                 ept.tappedPermanentControllerId(),
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers, enchanted permanent's controller mills",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers, enchanted permanent's controller mills",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -548,9 +580,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on enchanted permanent tap (modal)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on enchanted permanent tap (modal)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -567,9 +601,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to draw on enchanted permanent tap",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to draw on enchanted permanent tap",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -584,10 +620,12 @@ public class MiscTriggerCollectorService {
         String playerName = gameData.playerIdToName.get(ll.losingPlayerId());
         int amount = ll.lifeLostAmount();
 
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + playerName + " mills " + amount + " card" + (amount != 1 ? "s" : "") + "."));
-        log.info("Game {} - {} triggers on life loss, milling {} for {} cards",
-                gameData.id, cardName, playerName, amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + playerName + " mills " + amount + " card" + (amount != 1 ? "s" : "") + "."));
+            log.info("Game {} - {} triggers on life loss, milling {} for {} cards",
+                    gameData.id, cardName, playerName, amount);
+        }
 
         graveyardService.resolveMillPlayer(gameData, ll.losingPlayerId(), amount);
         return true;
@@ -618,9 +656,11 @@ public class MiscTriggerCollectorService {
         }
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on opponent life loss ({} life), controller gains that much",
-                gameData.id, cardName, ll.lifeLostAmount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on opponent life loss ({} life), controller gains that much",
+                    gameData.id, cardName, ll.lifeLostAmount());
+        }
         return true;
     }
 
@@ -647,8 +687,10 @@ public class MiscTriggerCollectorService {
         }
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life payment (put counter on self)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life payment (put counter on self)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -668,8 +710,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -689,8 +733,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (surveil {})", gameData.id, cardName, effect.count());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (surveil {})", gameData.id, cardName, effect.count());
+        }
         return true;
     }
 
@@ -710,8 +756,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (create token)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (create token)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -736,8 +784,10 @@ public class MiscTriggerCollectorService {
         }
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (put counter on self)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (put counter on self)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -754,9 +804,11 @@ public class MiscTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on energy gain (self-boost)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on energy gain (self-boost)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -783,8 +835,10 @@ public class MiscTriggerCollectorService {
                     null,
                     match.permanent().getId()));
         }
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on energy gain", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on energy gain", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -804,8 +858,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (untap self)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (untap self)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -822,8 +878,10 @@ public class MiscTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on proliferate", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on proliferate", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -841,9 +899,11 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId());
         entry.setTriggeringPermanentId(ept.tappedPermanent().getId());
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on enchanted permanent tap (sequence)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on enchanted permanent tap (sequence)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -854,8 +914,10 @@ public class MiscTriggerCollectorService {
         Permanent permanent = match.permanent();
 
         enqueueCoinFlipTrigger(gameData, permanent, match.controllerId(), match.controllerId(), effect);
-        gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
-        log.info("Game {} - {} triggers on winning a coin flip", gameData.id, permanent.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
+            log.info("Game {} - {} triggers on winning a coin flip", gameData.id, permanent.getCard().getName());
+        }
         return true;
     }
 
@@ -870,8 +932,10 @@ public class MiscTriggerCollectorService {
         }
 
         enqueueCoinFlipTrigger(gameData, permanent, match.controllerId(), choosingPlayerId, effect);
-        gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
-        log.info("Game {} - {} triggers on losing a coin flip", gameData.id, permanent.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
+            log.info("Game {} - {} triggers on losing a coin flip", gameData.id, permanent.getCard().getName());
+        }
         return true;
     }
 
@@ -909,8 +973,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (land put into graveyard)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (land put into graveyard)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -930,8 +996,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on a land card being milled", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on a land card being milled", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -952,9 +1020,11 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on creature cards put into graveyard from library",
-                gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on creature cards put into graveyard from library",
+                    gameData.id, cardName);
+        }
         return true;
     }
 
@@ -987,8 +1057,10 @@ public class MiscTriggerCollectorService {
             ));
         }
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (card put into controller's graveyard from anywhere)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (card put into controller's graveyard from anywhere)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1022,9 +1094,11 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId());
         entry.setTriggeringCardId(triggeringCard.getId());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers to exile {} from a graveyard", gameData.id, cardName,
-                triggeringCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers to exile {} from a graveyard", gameData.id, cardName,
+                    triggeringCard.getName());
+        }
         return true;
     }
 
@@ -1044,8 +1118,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (creature card put into graveyard from anywhere)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (creature card put into graveyard from anywhere)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1071,8 +1147,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1094,8 +1172,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1121,8 +1201,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (become a copy of {})", gameData.id, cardName, triggeringCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (become a copy of {})", gameData.id, cardName, triggeringCard.getName());
+        }
         return true;
     }
 
@@ -1142,8 +1224,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (creature card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (creature card put into opponent's graveyard from anywhere)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1163,8 +1247,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (draw a card)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (draw a card)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1185,8 +1271,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (put +1/+1 counters)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (put +1/+1 counters)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1211,9 +1299,11 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on spell life gain (source: {})",
-                gameData.id, cardName, lg.sourceCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on spell life gain (source: {})",
+                    gameData.id, cardName, lg.sourceCard().getName());
+        }
         return true;
     }
 
@@ -1249,9 +1339,11 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId(),
                 true));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain ({} life), pay for +1/+1 counters on target creature",
-                gameData.id, cardName, lifeGained);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain ({} life), pay for +1/+1 counters on target creature",
+                    gameData.id, cardName, lifeGained);
+        }
         return true;
     }
 
@@ -1279,9 +1371,11 @@ public class MiscTriggerCollectorService {
         }
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain ({} life), target opponent loses that much",
-                gameData.id, cardName, lg.lifeGainedAmount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain ({} life), target opponent loses that much",
+                    gameData.id, cardName, lg.lifeGainedAmount());
+        }
         return true;
     }
 
@@ -1311,10 +1405,12 @@ public class MiscTriggerCollectorService {
                 gameData, match.controllerId(), tokenEffect, match.permanent().getCard().getSetCode()
         );
 
-        gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
-                "'s ability triggers — exiling ", milled.milledCard(), " and creating a 2/2 black Zombie creature token."));
-        log.info("Game {} - {} triggers on creature card milled: exile {} + create Zombie token",
-                gameData.id, cardName, milledCardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardTextCard(match.permanent().getCard(),
+                    "'s ability triggers — exiling ", milled.milledCard(), " and creating a 2/2 black Zombie creature token."));
+            log.info("Game {} - {} triggers on creature card milled: exile {} + create Zombie token",
+                    gameData.id, cardName, milledCardName);
+        }
         return true;
     }
 
@@ -1346,8 +1442,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on noncombat damage to opponent", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on noncombat damage to opponent", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1374,9 +1472,11 @@ public class MiscTriggerCollectorService {
         }
         entry.setNonTargeting(true);
         match.gameData().enqueueTrigger(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on controlled-source noncombat damage ({} damage)",
-                match.gameData().id, match.permanent().getCard().getName(), damage.damageAmount());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on controlled-source noncombat damage ({} damage)",
+                    match.gameData().id, match.permanent().getCard().getName(), damage.damageAmount());
+        }
         return true;
     }
 
@@ -1393,9 +1493,11 @@ public class MiscTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on foretell (self-boost)",
-                gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on foretell (self-boost)",
+                    gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -1429,9 +1531,11 @@ public class MiscTriggerCollectorService {
                 false,
                 damage.damagedPlayerId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on noncombat damage to opponent and awaits a target",
-                match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on noncombat damage to opponent and awaits a target",
+                    match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -1456,9 +1560,11 @@ public class MiscTriggerCollectorService {
         entry.setEventValue(lifeGained);
         match.gameData().enqueueTrigger(entry);
 
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain ({} life), may pay X to draw X",
-                match.gameData().id, cardName, lifeGained);
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain ({} life), may pay X to draw X",
+                    match.gameData().id, cardName, lifeGained);
+        }
         return true;
     }
 
@@ -1477,8 +1583,10 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on surveil (put counter on self)", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on surveil (put counter on self)", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1501,8 +1609,10 @@ public class MiscTriggerCollectorService {
                 source.getId()));
         gameData.oncePerTurnTriggersFiredThisTurn.add(source.getId());
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers on surveil (once per turn)", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers on surveil (once per turn)", gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -1520,8 +1630,10 @@ public class MiscTriggerCollectorService {
                 null,
                 source.getId()));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers on surveil", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers on surveil", gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -1543,9 +1655,11 @@ public class MiscTriggerCollectorService {
                 null,
                 source.getId()));
         gameData.oncePerTurnTriggersFiredThisTurn.add(source.getId());
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers on a crime (once per turn)",
-                gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers on a crime (once per turn)",
+                    gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -1561,8 +1675,10 @@ public class MiscTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 source.getId()));
-        gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-        log.info("Game {} - {} triggers on a crime", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            log.info("Game {} - {} triggers on a crime", gameData.id, source.getCard().getName());
+        }
         return true;
     }
 
@@ -1581,9 +1697,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life gain (may pay {})",
-                gameData.id, cardName, effect.manaCost());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life gain (may pay {})",
+                    gameData.id, cardName, effect.manaCost());
+        }
         return true;
     }
 
@@ -1596,11 +1714,13 @@ public class MiscTriggerCollectorService {
         UUID controllerId = match.controllerId();
         int amount = lg.lifeGainedAmount();
 
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + gameData.playerIdToName.get(controllerId)
-                        + " draws " + amount + " card" + (amount != 1 ? "s" : "") + "."));
-        log.info("Game {} - {} triggers on life gain, drawing {} cards",
-                gameData.id, cardName, amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + gameData.playerIdToName.get(controllerId)
+                            + " draws " + amount + " card" + (amount != 1 ? "s" : "") + "."));
+            log.info("Game {} - {} triggers on life gain, drawing {} cards",
+                    gameData.id, cardName, amount);
+        }
 
         for (int i = 0; i < amount; i++) {
             drawService.resolveDrawCard(gameData, controllerId);
@@ -1631,9 +1751,11 @@ public class MiscTriggerCollectorService {
         }
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life loss ({} life) — sacrifice permanents",
-                gameData.id, cardName, ll.lifeLostAmount());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life loss ({} life) — sacrifice permanents",
+                    gameData.id, cardName, ll.lifeLostAmount());
+        }
         return true;
     }
 
@@ -1657,9 +1779,11 @@ public class MiscTriggerCollectorService {
         entry.setEventValue(amount);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life loss ({} life) — sacrifice/discard per life lost",
-                gameData.id, cardName, amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life loss ({} life) — sacrifice/discard per life lost",
+                    gameData.id, cardName, amount);
+        }
         return true;
     }
 
@@ -1689,9 +1813,11 @@ public class MiscTriggerCollectorService {
         entry.setEventValue(amount);
         gameData.enqueueTrigger(entry);
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life loss ({} life), drawing that many cards",
-                gameData.id, cardName, amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life loss ({} life), drawing that many cards",
+                    gameData.id, cardName, amount);
+        }
         return true;
     }
 
@@ -1704,11 +1830,13 @@ public class MiscTriggerCollectorService {
         UUID controllerId = match.controllerId();
         int amount = ll.lifeLostAmount();
 
-        gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
-                " triggers — " + gameData.playerIdToName.get(controllerId)
-                        + " must exile " + amount + " card" + (amount != 1 ? "s" : "") + "/permanent" + (amount != 1 ? "s" : "") + "."));
-        log.info("Game {} - {} triggers on life loss, exiling {} cards/permanents",
-                gameData.id, cardName, amount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(match.permanent().getCard(),
+                    " triggers — " + gameData.playerIdToName.get(controllerId)
+                            + " must exile " + amount + " card" + (amount != 1 ? "s" : "") + "/permanent" + (amount != 1 ? "s" : "") + "."));
+            log.info("Game {} - {} triggers on life loss, exiling {} cards/permanents",
+                    gameData.id, cardName, amount);
+        }
 
         performLichExile(gameData, controllerId, amount, match.permanent());
         return true;
@@ -1730,8 +1858,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on life loss", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on life loss", gameData.id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -1751,8 +1881,10 @@ public class MiscTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers on life loss", gameData.id, cardName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers on life loss", gameData.id, cardName);
+        }
         return true;
     }
 
@@ -1773,8 +1905,10 @@ public class MiscTriggerCollectorService {
                     Card card = graveyard.removeLast();
                     graveyardService.notifyCardsExiledFromGraveyard(gameData, controllerId, card);
                     exileService.exileCard(gameData, controllerId, card);
-                    gameLogService.append(gameData, GameLog.textCardText(
-                            gameData.playerIdToName.get(controllerId) + " exiles ", card, " from their graveyard."));
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.textCardText(
+                                gameData.playerIdToName.get(controllerId) + " exiles ", card, " from their graveyard."));
+                    }
                     remaining--;
                 }
             } finally {
@@ -1788,8 +1922,10 @@ public class MiscTriggerCollectorService {
             while (remaining > 0 && !hand.isEmpty()) {
                 Card card = hand.removeLast();
                 exileService.exileCard(gameData, controllerId, card);
-                gameLogService.append(gameData, GameLog.textCardText(
-                        gameData.playerIdToName.get(controllerId) + " exiles ", card, " from their hand."));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.textCardText(
+                            gameData.playerIdToName.get(controllerId) + " exiles ", card, " from their hand."));
+                }
                 remaining--;
             }
         }
@@ -1818,8 +1954,10 @@ public class MiscTriggerCollectorService {
                     Card exiledCard = toExile.getCard();
                     permanentRemovalService.removePermanentToExile(gameData, toExile);
                     permanentRemovalService.removeOrphanedAuras(gameData);
-                    gameLogService.append(gameData, GameLog.textCardText(
-                            gameData.playerIdToName.get(controllerId) + " exiles ", exiledCard, " from the battlefield."));
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.textCardText(
+                                gameData.playerIdToName.get(controllerId) + " exiles ", exiledCard, " from the battlefield."));
+                    }
                     remaining--;
                 }
             }
@@ -1828,9 +1966,11 @@ public class MiscTriggerCollectorService {
         if (remaining > 0) {
             String logEntry = gameData.playerIdToName.get(controllerId)
                     + " has nothing left to exile (" + remaining + " remaining).";
-            gameLogService.append(gameData, GameLog.text(logEntry));
-            log.info("Game {} - {} ran out of things to exile ({} remaining)",
-                    gameData.id, gameData.playerIdToName.get(controllerId), remaining);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.text(logEntry));
+                log.info("Game {} - {} ran out of things to exile ({} remaining)",
+                        gameData.id, gameData.playerIdToName.get(controllerId), remaining);
+            }
         }
     }
 
@@ -1854,9 +1994,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (cards left graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (cards left graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1877,9 +2019,11 @@ public class MiscTriggerCollectorService {
         );
         entry.setEventValue(exiled.count());
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (cards exiled from graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (cards exiled from graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1898,9 +2042,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (cards exiled during turn)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (cards exiled during turn)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1916,9 +2062,11 @@ public class MiscTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (creature cards left graveyard)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (creature cards left graveyard)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1969,9 +2117,11 @@ public class MiscTriggerCollectorService {
         );
         entry.setEventValue(exiled.count());
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
-        log.info("Game {} - {} triggers (cards exiled from graveyards or battlefield during your turn)",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            log.info("Game {} - {} triggers (cards exiled from graveyards or battlefield during your turn)",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -73,9 +73,11 @@ public class PlayedCardNameTriggerCollectorService {
                 match.permanent().getId());
         entry.setTargetId(lp.playingPlayerId());
         match.gameData().stack.add(entry);
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on an opponent playing a land for that player to draw",
-                match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on an opponent playing a land for that player to draw",
+                    match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -140,9 +142,11 @@ public class PlayedCardNameTriggerCollectorService {
                 new ArrayList<>(List.of(effect)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on playing a land",
-                match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on playing a land",
+                    match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 
@@ -180,9 +184,11 @@ public class PlayedCardNameTriggerCollectorService {
                 sourcePermanentId);
         entry.setNonTargeting(true);
         gameData.stack.add(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on played card {} matching an exiled name",
-                gameData.id, sourceCard.getName(), playedName);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on played card {} matching an exiled name",
+                    gameData.id, sourceCard.getName(), playedName);
+        }
         return true;
     }
 }
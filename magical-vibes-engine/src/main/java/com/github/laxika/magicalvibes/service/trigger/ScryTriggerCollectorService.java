@@ -73,8 +73,10 @@ public class ScryTriggerCollectorService {
             entry.setEventValue(scry.bottomedCardCount());
             match.gameData().enqueueTrigger(entry);
         }
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers on scry", match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers on scry", match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 
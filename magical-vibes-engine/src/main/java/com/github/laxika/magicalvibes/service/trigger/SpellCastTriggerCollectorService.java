@@ -736,8 +736,10 @@ public class SpellCastTriggerCollectorService {
                 match.controllerId(),
                 List.of(castEffect)
         ));
-        log.info("Game {} - {} same-name graveyard spell-cast trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} same-name graveyard spell-cast trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -780,8 +782,10 @@ public class SpellCastTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        log.info("Game {} - {} spell-cast equipped-boost trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} spell-cast equipped-boost trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -958,8 +962,10 @@ public class SpellCastTriggerCollectorService {
                 match.permanent().getId()
         ));
 
-        log.info("Game {} - {} chosen-subtype spell-cast trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} chosen-subtype spell-cast trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -996,8 +1002,10 @@ public class SpellCastTriggerCollectorService {
             match.gameData().stack.add(entry);
         }
 
-        log.info("Game {} - {} Nth-spell-cast trigger fired (spell #{})",
-                match.gameData().id, match.permanent().getCard().getName(), trigger.spellNumber());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} Nth-spell-cast trigger fired (spell #{})",
+                    match.gameData().id, match.permanent().getCard().getName(), trigger.spellNumber());
+        }
         return true;
     }
 
@@ -1020,9 +1028,11 @@ public class SpellCastTriggerCollectorService {
                 sc.spellCard().getId(),
                 Zone.STACK
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(source, "'s ability triggers — counter that spell."));
-        log.info("Game {} - {} counters opponent's first spell this turn",
-                match.gameData().id, source.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(source, "'s ability triggers — counter that spell."));
+            log.info("Game {} - {} counters opponent's first spell this turn",
+                    match.gameData().id, source.getName());
+        }
         return true;
     }
 
@@ -1069,8 +1079,10 @@ public class SpellCastTriggerCollectorService {
         entry.setEventValue(kickCount);
         match.gameData().stack.add(entry);
 
-        log.info("Game {} - {} kicked-spell-cast trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} kicked-spell-cast trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1099,8 +1111,10 @@ public class SpellCastTriggerCollectorService {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                     match.permanent().getCard(), match.controllerId(), new ArrayList<>(trigger.resolvedEffects())
             ));
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers — choose a target."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers — choose a target."));
+            }
         } else {
             match.gameData().stack.add(new StackEntry(
                     StackEntryType.TRIGGERED_ABILITY,
@@ -1110,8 +1124,10 @@ public class SpellCastTriggerCollectorService {
                     new ArrayList<>(trigger.resolvedEffects())
             ));
         }
-        log.info("Game {} - {} cast-from-graveyard trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} cast-from-graveyard trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1131,8 +1147,10 @@ public class SpellCastTriggerCollectorService {
                 new ArrayList<>(List.of(new SunbirdsInvocationRevealAndCastEffect(manaValue)))
         ));
 
-        log.info("Game {} - Sunbird's Invocation trigger queued (mana value {})",
-                match.gameData().id, manaValue);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - Sunbird's Invocation trigger queued (mana value {})",
+                    match.gameData().id, manaValue);
+        }
         return true;
     }
 
@@ -1152,8 +1170,10 @@ public class SpellCastTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        log.info("Game {} - {} first-spell trigger queued (mana value {})",
-                match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} first-spell trigger queued (mana value {})",
+                    match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        }
         return true;
     }
 
@@ -1169,10 +1189,12 @@ public class SpellCastTriggerCollectorService {
         match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                 match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects)
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s triggered ability triggers — choose a target for " + manaValue + " damage."));
-        log.info("Game {} - {} spell-cast mana-value trigger queued ({} damage)",
-                match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s triggered ability triggers — choose a target for " + manaValue + " damage."));
+            log.info("Game {} - {} spell-cast mana-value trigger queued ({} damage)",
+                    match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        }
         return true;
     }
 
@@ -1201,15 +1223,19 @@ public class SpellCastTriggerCollectorService {
                     null,
                     match.permanent().getId(),
                     sc.spellCard().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
         } else {
             TargetFilter targetFilter = new PermanentPredicateTargetFilter(targetPredicate,
                     "Target must be a creature with mana value " + manaValue);
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                     match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects),
                     false, targetFilter, 0, match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers - choose a creature with mana value " + manaValue + "."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers - choose a creature with mana value " + manaValue + "."));
+            }
         }
         return true;
     }
@@ -1233,13 +1259,17 @@ public class SpellCastTriggerCollectorService {
                     null,
                     match.permanent().getId(),
                     sc.spellCard().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
         } else {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                     match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects)
             ));
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers - choose a player to mill " + manaValue + " cards."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers - choose a player to mill " + manaValue + " cards."));
+            }
         }
         return true;
     }
@@ -1263,7 +1293,9 @@ public class SpellCastTriggerCollectorService {
                     null,
                     match.permanent().getId(),
                     sc.spellCard().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
         } else {
             match.gameData().stack.add(new StackEntry(
                     StackEntryType.TRIGGERED_ABILITY,
@@ -1273,8 +1305,10 @@ public class SpellCastTriggerCollectorService {
                     resolvedEffects,
                     null,
                     match.permanent().getId()));
-            log.info("Game {} - {} spell-cast mana-value life-gain trigger queued ({})",
-                    match.gameData().id, match.permanent().getCard().getName(), manaValue);
+            if (!match.gameData().simulation) {
+                log.info("Game {} - {} spell-cast mana-value life-gain trigger queued ({})",
+                        match.gameData().id, match.permanent().getCard().getName(), manaValue);
+            }
         }
         return true;
     }
@@ -1302,13 +1336,17 @@ public class SpellCastTriggerCollectorService {
                     null,
                     match.permanent().getId(),
                     sc.spellCard().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
         } else {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                     match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects), true));
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers - choose a player to reveal their hand and discard cards with mana value "
-                            + manaValue + "."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers - choose a player to reveal their hand and discard cards with mana value "
+                                + manaValue + "."));
+            }
         }
         return true;
     }
@@ -1335,8 +1373,10 @@ public class SpellCastTriggerCollectorService {
                 null,
                 match.permanent().getId());
         match.gameData().stack.add(entry);
-        log.info("Game {} - {} spell-cast mana-value destruction trigger queued ({})",
-                match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} spell-cast mana-value destruction trigger queued ({})",
+                    match.gameData().id, match.permanent().getCard().getName(), manaValue);
+        }
         return true;
     }
 
@@ -1355,10 +1395,12 @@ public class SpellCastTriggerCollectorService {
         match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                 match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects)
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s triggered ability triggers — choose a target for " + manaSpent + " damage."));
-        log.info("Game {} - {} spell-cast mana-spent trigger queued ({} damage)",
-                match.gameData().id, match.permanent().getCard().getName(), manaSpent);
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s triggered ability triggers — choose a target for " + manaSpent + " damage."));
+            log.info("Game {} - {} spell-cast mana-spent trigger queued ({} damage)",
+                    match.gameData().id, match.permanent().getCard().getName(), manaSpent);
+        }
         return true;
     }
 
@@ -1380,8 +1422,10 @@ public class SpellCastTriggerCollectorService {
                 resolved,
                 null,
                 match.permanent().getId()));
-        log.info("Game {} - {} spell-cast mana-value self-boost trigger queued (+{}/+{})",
-                match.gameData().id, match.permanent().getCard().getName(), manaValue, manaValue);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} spell-cast mana-value self-boost trigger queued (+{}/+{})",
+                    match.gameData().id, match.permanent().getCard().getName(), manaValue, manaValue);
+        }
         return true;
     }
 
@@ -1407,8 +1451,10 @@ public class SpellCastTriggerCollectorService {
         entry.setTriggeringCardId(sc.spellCard().getId());
         match.gameData().stack.add(entry);
 
-        log.info("Game {} - {} spell-cast mana-value animation trigger queued ({} / {})",
-                match.gameData().id, match.permanent().getCard().getName(), manaValue, manaValue);
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} spell-cast mana-value animation trigger queued ({} / {})",
+                    match.gameData().id, match.permanent().getCard().getName(), manaValue, manaValue);
+        }
         return true;
     }
 
@@ -1424,10 +1470,12 @@ public class SpellCastTriggerCollectorService {
         match.gameData().queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                 match.permanent().getCard(), match.controllerId(), new ArrayList<>(resolvedEffects), true
         ));
-        gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                "'s triggered ability triggers — choose target player for poison counter."));
-        log.info("Game {} - {} spell-cast poison trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                    "'s triggered ability triggers — choose target player for poison counter."));
+            log.info("Game {} - {} spell-cast poison trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1477,8 +1525,10 @@ public class SpellCastTriggerCollectorService {
                 null,
                 match.permanent().getId()
         ));
-        log.info("Game {} - {} opponent-spell-cast put-counters trigger queued",
-                match.gameData().id, match.permanent().getCard().getName());
+        if (!match.gameData().simulation) {
+            log.info("Game {} - {} opponent-spell-cast put-counters trigger queued",
+                    match.gameData().id, match.permanent().getCard().getName());
+        }
         return true;
     }
 
@@ -1753,8 +1803,10 @@ public class SpellCastTriggerCollectorService {
                     match.permanent().getCard(), match.controllerId(), resolved,
                     needsPlayerTarget && !needsPermanentTarget, trigger.targetFilter(), 0,
                     match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers — choose a target."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers — choose a target."));
+            }
             return true;
         }
 
@@ -1869,13 +1921,17 @@ public class SpellCastTriggerCollectorService {
         } else if (resolved.size() == 1 && resolved.getFirst() instanceof ChooseOneEffect chooseOneEffect) {
             match.gameData().queueInteraction(new PermanentChoiceContext.TriggeredModalTrigger(
                     match.permanent().getCard(), match.controllerId(), chooseOneEffect, match.permanent().getId()));
-            gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.abilityTriggers(match.permanent().getCard()));
+            }
         } else if (needsGraveyardTarget) {
             match.gameData().queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                     match.permanent().getCard(), match.controllerId(), resolved
             ));
-            log.info("Game {} - {} spell-cast graveyard-target trigger queued",
-                    match.gameData().id, match.permanent().getCard().getName());
+            if (!match.gameData().simulation) {
+                log.info("Game {} - {} spell-cast graveyard-target trigger queued",
+                        match.gameData().id, match.permanent().getCard().getName());
+            }
         } else if (needsSpellTarget && !needsTargeting) {
             StackEntry entry = new StackEntry(
                     StackEntryType.TRIGGERED_ABILITY,
@@ -1916,8 +1972,10 @@ public class SpellCastTriggerCollectorService {
                         spellManaSpentX, match.permanent().getId()
                 ));
             }
-            gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
-                    "'s triggered ability triggers — choose a target."));
+            if (!match.gameData().simulation) {
+                gameLogService.append(match.gameData(), GameLog.cardThen(match.permanent().getCard(),
+                        "'s triggered ability triggers — choose a target."));
+            }
         } else {
             StackEntry entry;
             if (countersTriggeringSpell) {
@@ -48,9 +48,11 @@ public class TransformTriggerCollectorService {
                 new ArrayList<>(List.of(resolved)),
                 null,
                 match.permanent().getId()));
-        gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
-        log.info("Game {} - {} triggers when an ally permanent transforms",
-                match.gameData().id, sourceCard.getName());
+        if (!match.gameData().simulation) {
+            gameLogService.append(match.gameData(), GameLog.abilityTriggers(sourceCard));
+            log.info("Game {} - {} triggers when an ally permanent transforms",
+                    match.gameData().id, sourceCard.getName());
+        }
         return true;
     }
 }
@@ -182,6 +182,7 @@ public class TriggerCollectionService {
     private final GameLogService gameLogService;
     private final ETBTokenTargetService etbTokenTargetService;
     private final GrantedTriggeredAbilitySupport grantedTriggeredAbilitySupport;
+    private final TriggerListenerIndex triggerListenerIndex;
 
     public List<CardEffect> grantedTriggeredEffects(GameData gameData, Permanent permanent, EffectSlot slot) {
         return grantedTriggeredAbilitySupport.grantedTriggeredEffects(gameData, permanent, slot);
@@ -191,13 +192,13 @@ public class TriggerCollectionService {
         if (placingPlayerId == null || amount <= 0) {
             return;
         }
-        List<Permanent> battlefield = gameData.playerBattlefields.get(placingPlayerId);
-        if (battlefield == null) {
+        if (gameData.playerBattlefields.get(placingPlayerId) == null) {
             return;
         }
 
         TriggerContext context = new TriggerContext.CountersPlaced(placingPlayerId, amount);
-        for (Permanent permanent : new ArrayList<>(battlefield)) {
+        for (Permanent permanent : triggerListenerIndex.battlefieldListeners(gameData, placingPlayerId,
+                EffectSlot.ON_YOU_PUT_COUNTERS_ON_PERMANENT_OR_PLAYER)) {
             dispatchSlot(gameData, permanent, placingPlayerId,
                     EffectSlot.ON_YOU_PUT_COUNTERS_ON_PERMANENT_OR_PLAYER, context);
         }
@@ -272,10 +273,12 @@ public class TriggerCollectionService {
                         delayed.targetFilter(),
                         0,
                         delayed.sourcePermanentId()));
-                gameLogService.append(gameData, GameLog.cardTextCard(
-                        delayed.sourceCard(), "'s delayed trigger fires for ", spellCard, "."));
-                log.info("Game {} - {} delayed spell-cast trigger awaits a target for {}",
-                        gameData.id, delayed.sourceCard().getName(), spellCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardTextCard(
+                            delayed.sourceCard(), "'s delayed trigger fires for ", spellCard, "."));
+                    log.info("Game {} - {} delayed spell-cast trigger awaits a target for {}",
+                            gameData.id, delayed.sourceCard().getName(), spellCard.getName());
+                }
                 continue;
             }
 
@@ -291,10 +294,12 @@ public class TriggerCollectionService {
             entry.setEventValue(spellCard.getManaValue());
             entry.setNonTargeting(true);
             gameData.stack.add(entry);
-            gameLogService.append(gameData, GameLog.cardTextCard(
-                    delayed.sourceCard(), "'s delayed trigger fires for ", spellCard, "."));
-            log.info("Game {} - {} delayed spell-cast trigger fires for {}",
-                    gameData.id, delayed.sourceCard().getName(), spellCard.getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardTextCard(
+                        delayed.sourceCard(), "'s delayed trigger fires for ", spellCard, "."));
+                log.info("Game {} - {} delayed spell-cast trigger fires for {}",
+                        gameData.id, delayed.sourceCard().getName(), spellCard.getName());
+            }
         }
     }
 
@@ -307,18 +312,17 @@ public class TriggerCollectionService {
         if (!gameData.isCommittedCrime(stackEntry)) return;
 
         UUID committingPlayerId = stackEntry.getControllerId();
-        List<Permanent> battlefield = gameData.playerBattlefields.get(committingPlayerId);
         TriggerContext ctx = new TriggerContext.Crime(committingPlayerId);
-        if (battlefield != null) {
-            for (Permanent permanent : List.copyOf(battlefield)) {
-                dispatchSlot(gameData, permanent, committingPlayerId,
-                        EffectSlot.ON_CONTROLLER_COMMITS_CRIME, ctx);
-            }
+        for (Permanent permanent : triggerListenerIndex.battlefieldListeners(gameData, committingPlayerId,
+                EffectSlot.ON_CONTROLLER_COMMITS_CRIME)) {
+            dispatchSlot(gameData, permanent, committingPlayerId,
+                    EffectSlot.ON_CONTROLLER_COMMITS_CRIME, ctx);
         }
 
         List<Card> graveyard = gameData.playerGraveyards.get(committingPlayerId);
         if (graveyard != null) {
-            for (Card card : List.copyOf(graveyard)) {
+            for (Card card : triggerListenerIndex.graveyardListeners(gameData, committingPlayerId,
+                    EffectSlot.GRAVEYARD_ON_CONTROLLER_COMMITS_CRIME)) {
                 for (CardEffect effect : card.getEffects(EffectSlot.GRAVEYARD_ON_CONTROLLER_COMMITS_CRIME)) {
                     queueGraveyardCrimeTrigger(gameData, card, committingPlayerId, effect);
                 }
@@ -340,7 +344,9 @@ public class TriggerCollectionService {
                     card.getName() + "'s ability",
                     new ArrayList<>(List.of(effect))));
         }
-        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(card));
+        }
     }
 
     /**
@@ -387,20 +393,20 @@ public class TriggerCollectionService {
         }
 
         // ON_ANY_PLAYER_CASTS_SPELL
-        gameData.forEachPermanent((playerId, perm) -> {
+        triggerListenerIndex.forEachListener(gameData, EffectSlot.ON_ANY_PLAYER_CASTS_SPELL, (playerId, perm) -> {
             dispatchSlot(gameData, perm, playerId, EffectSlot.ON_ANY_PLAYER_CASTS_SPELL, ctx);
         });
 
         // ON_CONTROLLER_CASTS_SPELL (only controller's own spells)
-        gameData.forEachPermanent((playerId, perm) -> {
-            if (!playerId.equals(castingPlayerId)) return;
-            dispatchSlot(gameData, perm, playerId, EffectSlot.ON_CONTROLLER_CASTS_SPELL, ctx);
-        });
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, castingPlayerId,
+                EffectSlot.ON_CONTROLLER_CASTS_SPELL)) {
+            dispatchSlot(gameData, perm, castingPlayerId, EffectSlot.ON_CONTROLLER_CASTS_SPELL, ctx);
+        }
 
         processDelayedControllerSpellCastTriggers(gameData, spellCard, castingPlayerId);
 
         // ON_OPPONENT_CASTS_SPELL (only opponents' permanents)
-        gameData.forEachPermanent((playerId, perm) -> {
+        triggerListenerIndex.forEachListener(gameData, EffectSlot.ON_OPPONENT_CASTS_SPELL, (playerId, perm) -> {
             if (playerId.equals(castingPlayerId)) return;
             dispatchSlot(gameData, perm, playerId, EffectSlot.ON_OPPONENT_CASTS_SPELL, ctx);
         });
@@ -439,10 +445,12 @@ public class TriggerCollectionService {
                             spellCard.getId(),
                             Zone.STACK
                     ));
-                    gameLogService.append(gameData,
-                            GameLog.text(desc + " triggers — counter that spell."));
-                    log.info("Game {} - {} counters opponent's first spell this turn",
-                            gameData.id, desc);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData,
+                                GameLog.text(desc + " triggers — counter that spell."));
+                        log.info("Game {} - {} counters opponent's first spell this turn",
+                                gameData.id, desc);
+                    }
                 } else if (effect instanceof SearchCreatureToBattlefieldOnControllerCastsCreatureSpellEffect) {
                     // Garruk, Caller of Beasts' emblem — fires on the controller's own creature spells.
                     if (!emblem.controllerId().equals(castingPlayerId)) continue;
@@ -461,8 +469,10 @@ public class TriggerCollectionService {
                                             LibrarySearchDestination.BATTLEFIELD),
                                     "Search your library for a creature card and put it onto the battlefield?")))
                     ));
-                    gameLogService.append(gameData, GameLog.text(desc + " triggers."));
-                    log.info("Game {} - {} creature-spell search trigger queued", gameData.id, desc);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.text(desc + " triggers."));
+                        log.info("Game {} - {} creature-spell search trigger queued", gameData.id, desc);
+                    }
                 } else if (effect instanceof MillEffect mill && mill.recipient() == MillRecipient.TARGET_PLAYER) {
                     // "Whenever you cast a spell, target opponent mills N cards" (Jace, Telepath
                     // Unbound's emblem) — the opponent restriction rides the player target filter.
@@ -478,10 +488,12 @@ public class TriggerCollectionService {
                                     new PlayerRelationPredicate(PlayerRelation.OPPONENT),
                                     "Target must be an opponent")
                     ));
-                    gameLogService.append(gameData, GameLog.text(
-                            (source != null ? source.getName() : "Emblem")
-                                    + "'s emblem triggers — choose target opponent."));
-                    log.info("Game {} - emblem mill trigger queued", gameData.id);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.text(
+                                (source != null ? source.getName() : "Emblem")
+                                        + "'s emblem triggers — choose target opponent."));
+                        log.info("Game {} - emblem mill trigger queued", gameData.id);
+                    }
                 } else if (effect instanceof DealDamageEqualToManaSpentToCastToAnyTargetEffect damageTrigger) {
                     if (!emblem.controllerId().equals(castingPlayerId)) continue;
                     if (damageTrigger.spellFilter() != null
@@ -499,10 +511,12 @@ public class TriggerCollectionService {
                             emblem.controllerId(),
                             new ArrayList<>(List.of(new DealDamageToAnyTargetEffect(manaSpent)))
                     ));
-                    gameLogService.append(gameData,
-                            GameLog.text(desc + " triggers — choose a target for " + manaSpent + " damage."));
-                    log.info("Game {} - {} emblem mana-spent damage trigger queued ({} damage)",
-                            gameData.id, desc, manaSpent);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData,
+                                GameLog.text(desc + " triggers — choose a target for " + manaSpent + " damage."));
+                        log.info("Game {} - {} emblem mana-spent damage trigger queued ({} damage)",
+                                gameData.id, desc, manaSpent);
+                    }
                 } else if (effect instanceof CopyControllerCastSpellOnSpellCastEffect copyTrigger) {
                     if (!emblem.controllerId().equals(castingPlayerId)) continue;
                     if (copyTrigger.spellFilter() != null
@@ -551,8 +565,10 @@ public class TriggerCollectionService {
                     entry.setTriggeringCardId(spellCard.getId());
                     entry.setNonTargeting(true);
                     gameData.stack.add(entry);
-                    gameLogService.append(gameData, GameLog.text(desc + " triggers."));
-                    log.info("Game {} - {} generic emblem spell-cast trigger queued", gameData.id, desc);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.text(desc + " triggers."));
+                        log.info("Game {} - {} generic emblem spell-cast trigger queued", gameData.id, desc);
+                    }
                 } else if (effect instanceof DealDamageToAnyTargetOnControllerSpellCastEffect damageTrigger) {
                     if (!emblem.controllerId().equals(castingPlayerId)) continue;
                     if (damageTrigger.spellFilter() != null
@@ -571,10 +587,12 @@ public class TriggerCollectionService {
                             emblem.controllerId(),
                             resolvedEffects
                     ));
-                    gameLogService.append(gameData,
-                            GameLog.text(desc + " triggers — choose a target for " + damageTrigger.damage() + " damage."));
-                    log.info("Game {} - {} damage trigger queued ({})",
-                            gameData.id, desc, damageTrigger.damage());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData,
+                                GameLog.text(desc + " triggers — choose a target for " + damageTrigger.damage() + " damage."));
+                        log.info("Game {} - {} damage trigger queued ({})",
+                                gameData.id, desc, damageTrigger.damage());
+                    }
                 }
             }
         }
@@ -625,8 +643,10 @@ public class TriggerCollectionService {
                             gameData.stack.add(entry);
                         }
 
-                        log.info("Game {} - {} graveyard spell-cast trigger queued",
-                                gameData.id, card.getName());
+                        if (!gameData.simulation) {
+                            log.info("Game {} - {} graveyard spell-cast trigger queued",
+                                    gameData.id, card.getName());
+                        }
                     }
                 }
             }
@@ -651,8 +671,10 @@ public class TriggerCollectionService {
                                 card.getName() + "'s ability",
                                 new ArrayList<>(trigger.resolvedEffects())
                         ));
-                        log.info("Game {} - {} command-zone spell-cast trigger queued",
-                                gameData.id, card.getName());
+                        if (!gameData.simulation) {
+                            log.info("Game {} - {} command-zone spell-cast trigger queued",
+                                    gameData.id, card.getName());
+                        }
                     }
                 }
             }
@@ -683,9 +705,11 @@ public class TriggerCollectionService {
                     ));
                 }
                 gameData.pendingNextInstantSorceryCopyCount.remove(castingPlayerId);
-                gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (Primal Wellspring)."));
-                log.info("Game {} - {} spell-copy trigger(s) queued for {} (Primal Wellspring)",
-                        gameData.id, pendingCopies, spellCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (Primal Wellspring)."));
+                    log.info("Game {} - {} spell-copy trigger(s) queued for {} (Primal Wellspring)",
+                            gameData.id, pendingCopies, spellCard.getName());
+                }
             }
         }
 
@@ -715,9 +739,11 @@ public class TriggerCollectionService {
                     ));
                 }
                 gameData.pendingNextRedInstantSorceryCopyCount.remove(castingPlayerId);
-                gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
-                log.info("Game {} - {} red spell-copy trigger(s) queued for {}",
-                        gameData.id, pendingRedCopies, spellCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
+                    log.info("Game {} - {} red spell-copy trigger(s) queued for {}",
+                            gameData.id, pendingRedCopies, spellCard.getName());
+                }
             }
         }
 
@@ -772,9 +798,11 @@ public class TriggerCollectionService {
                     if (unrestrictedCopies > 0) {
                         gameData.pendingNextInstantSorceryCopyThisTurnCount.remove(castingPlayerId);
                     }
-                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
-                    log.info("Game {} - {} delayed spell-copy trigger(s) queued for {}",
-                            gameData.id, totalCopies, spellCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
+                        log.info("Game {} - {} delayed spell-copy trigger(s) queued for {}",
+                                gameData.id, totalCopies, spellCard.getName());
+                    }
                 }
             }
         }
@@ -807,9 +835,11 @@ public class TriggerCollectionService {
                         copyEffects
                 ));
                 gameData.pendingNextSpellCopyThisTurnCount.remove(castingPlayerId);
-                gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
-                log.info("Game {} - {} all-spell copy trigger(s) queued for {}",
-                        gameData.id, pendingSpellCopies, spellCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied."));
+                    log.info("Game {} - {} all-spell copy trigger(s) queued for {}",
+                            gameData.id, pendingSpellCopies, spellCard.getName());
+                }
             }
         }
 
@@ -824,8 +854,10 @@ public class TriggerCollectionService {
                     "Draw a card",
                     new ArrayList<>(List.of(new DrawCardEffect(creatureCastDraws)))
             ));
-            log.info("Game {} - creature-spell-cast draw trigger queued for {} ({} cards)",
-                    gameData.id, castingPlayerId, creatureCastDraws);
+            if (!gameData.simulation) {
+                log.info("Game {} - creature-spell-cast draw trigger queued for {} ({} cards)",
+                        gameData.id, castingPlayerId, creatureCastDraws);
+            }
         }
 
         // "Until end of turn, whenever you cast an instant or sorcery spell, copy it"
@@ -851,9 +883,11 @@ public class TriggerCollectionService {
                         "Copy " + spellCard.getName(),
                         new ArrayList<>(List.of(copyEffect))
                 ));
-                gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (The Mirari Conjecture)."));
-                log.info("Game {} - {} spell-copy trigger queued for {}",
-                        gameData.id, spellCard.getName(), castingPlayerId);
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (The Mirari Conjecture)."));
+                    log.info("Game {} - {} spell-copy trigger queued for {}",
+                            gameData.id, spellCard.getName(), castingPlayerId);
+                }
             }
         }
 
@@ -879,9 +913,11 @@ public class TriggerCollectionService {
                         "Copy " + spellCard.getName() + " (Conspire)",
                         new ArrayList<>(List.of(copyEffect))
                 ));
-                gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (Conspire)."));
-                log.info("Game {} - {} conspire copy trigger queued for {}",
-                        gameData.id, spellCard.getName(), castingPlayerId);
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(spellCard, " is copied (Conspire)."));
+                    log.info("Game {} - {} conspire copy trigger queued for {}",
+                            gameData.id, spellCard.getName(), castingPlayerId);
+                }
             }
         }
 
@@ -913,8 +949,10 @@ public class TriggerCollectionService {
                         spellCard.getName() + "'s ability",
                         new ArrayList<>(List.of(copyEffect))
                 ));
-                log.info("Game {} - {} self-cast copy trigger queued for {}",
-                        gameData.id, spellCard.getName(), castingPlayerId);
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} self-cast copy trigger queued for {}",
+                            gameData.id, spellCard.getName(), castingPlayerId);
+                }
             } else if (effect instanceof CopyThisSpellForXValueEffect) {
                 StackEntry spellEntry = null;
                 for (StackEntry se : gameData.stack) {
@@ -934,8 +972,10 @@ public class TriggerCollectionService {
                         new ArrayList<>(List.of(new StormCopyEffect(
                                 new StackEntry(spellEntry), castingPlayerId, copies, false)))
                 ));
-                log.info("Game {} - {} self-cast trigger queued ({} copies) for {}",
-                        gameData.id, spellCard.getName(), copies, castingPlayerId);
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} self-cast trigger queued ({} copies) for {}",
+                            gameData.id, spellCard.getName(), copies, castingPlayerId);
+                }
             } else if (effect instanceof StormEffect storm) {
                 StackEntry spellEntry = null;
                 for (StackEntry se : gameData.stack) {
@@ -962,8 +1002,10 @@ public class TriggerCollectionService {
                         new ArrayList<>(List.of(new StormCopyEffect(
                                 snapshot, castingPlayerId, copies, storm.tokenCopy())))
                 ));
-                log.info("Game {} - {} Storm trigger queued ({} copies) for {}",
-                        gameData.id, spellCard.getName(), copies, castingPlayerId);
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} Storm trigger queued ({} copies) for {}",
+                            gameData.id, spellCard.getName(), copies, castingPlayerId);
+                }
             } else {
                 selfCastTriggeredEffects.add(effect);
             }
@@ -980,8 +1022,10 @@ public class TriggerCollectionService {
                         null,
                         null,
                         spellCard.getId()));
-                log.info("Game {} - {} self-cast may trigger queued for {}",
-                        gameData.id, spellCard.getName(), castingPlayerId);
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} self-cast may trigger queued for {}",
+                            gameData.id, spellCard.getName(), castingPlayerId);
+                }
             } else {
                 // Targeted ON_SELF_CAST (e.g. Abundant Maw: "target opponent loses 3 life") chooses
                 // targets as the ability goes on the stack — reuse SpellTargetTriggerAnyTarget.
@@ -996,8 +1040,10 @@ public class TriggerCollectionService {
                 if (needsGraveyardTarget && !needsPlayerTarget && !needsPermanentTarget) {
                     gameData.queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                             spellCard, castingPlayerId, new ArrayList<>(selfCastTriggeredEffects)));
-                    log.info("Game {} - {} self-cast graveyard-target trigger queued for {}",
-                            gameData.id, spellCard.getName(), castingPlayerId);
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} self-cast graveyard-target trigger queued for {}",
+                                gameData.id, spellCard.getName(), castingPlayerId);
+                    }
                 } else if (needsPlayerTarget || needsPermanentTarget) {
                     boolean multiTarget = spellCard.getSpellTargets().size() > 1
                             || etbTokenTargetService.needsSlotBySlotTargetSelection(spellCard);
@@ -1005,15 +1051,19 @@ public class TriggerCollectionService {
                         gameData.queueInteraction(new PermanentChoiceContext.ETBTokenMultiTargetTrigger(
                                 spellCard, castingPlayerId, new ArrayList<>(selfCastTriggeredEffects),
                                 null, new ArrayList<>(), 0, 0));
-                        log.info("Game {} - {} self-cast multi-target trigger queued for {}",
-                                gameData.id, spellCard.getName(), castingPlayerId);
+                        if (!gameData.simulation) {
+                            log.info("Game {} - {} self-cast multi-target trigger queued for {}",
+                                    gameData.id, spellCard.getName(), castingPlayerId);
+                        }
                     } else {
                         boolean playerTargetOnly = needsPlayerTarget && !needsPermanentTarget;
                         gameData.queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                                 spellCard, castingPlayerId, new ArrayList<>(selfCastTriggeredEffects),
                                 playerTargetOnly, spellCard.getTargetFilter()));
-                        log.info("Game {} - {} self-cast targeting trigger queued for {}",
-                                gameData.id, spellCard.getName(), castingPlayerId);
+                        if (!gameData.simulation) {
+                            log.info("Game {} - {} self-cast targeting trigger queued for {}",
+                                    gameData.id, spellCard.getName(), castingPlayerId);
+                        }
                     }
                 } else {
                     // Carry the spell's X onto the trigger so "reveal the top X cards" (Genesis Hydra)
@@ -1038,8 +1088,10 @@ public class TriggerCollectionService {
                         selfCastTrigger.setTriggeringCardId(spellCard.getId());
                     }
                     gameData.stack.add(selfCastTrigger);
-                    log.info("Game {} - {} self-cast trigger queued for {}",
-                            gameData.id, spellCard.getName(), castingPlayerId);
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} self-cast trigger queued for {}",
+                                gameData.id, spellCard.getName(), castingPlayerId);
+                    }
                 }
             }
         }
@@ -1066,9 +1118,11 @@ public class TriggerCollectionService {
                             spellCard.getName() + "'s ability",
                             new ArrayList<>(grantEffects)
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} grants cascade to first spell {} for {}",
-                            gameData.id, perm.getCard().getName(), spellCard.getName(), castingPlayerId);
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} grants cascade to first spell {} for {}",
+                                gameData.id, perm.getCard().getName(), spellCard.getName(), castingPlayerId);
+                    }
                 }
             }
         }
@@ -1114,10 +1168,10 @@ public class TriggerCollectionService {
         if (counteringPlayerId == null) return;
 
         var ctx = new TriggerContext.SpellCountered(counteringPlayerId);
-        gameData.forEachPermanent((playerId, perm) -> {
-            if (!playerId.equals(counteringPlayerId)) return;
-            dispatchSlot(gameData, perm, playerId, EffectSlot.ON_CONTROLLER_COUNTERS_SPELL, ctx);
-        });
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, counteringPlayerId,
+                EffectSlot.ON_CONTROLLER_COUNTERS_SPELL)) {
+            dispatchSlot(gameData, perm, counteringPlayerId, EffectSlot.ON_CONTROLLER_COUNTERS_SPELL, ctx);
+        }
     }
 
     /** Fires effects that care when a spell cast by the given player is countered. */
@@ -1125,10 +1179,10 @@ public class TriggerCollectionService {
         if (spellControllerId == null) return;
 
         var ctx = new TriggerContext.SpellCastCountered(spellControllerId);
-        gameData.forEachPermanent((playerId, perm) -> {
-            if (!playerId.equals(spellControllerId)) return;
-            dispatchSlot(gameData, perm, playerId, EffectSlot.ON_CONTROLLER_SPELL_COUNTERED, ctx);
-        });
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, spellControllerId,
+                EffectSlot.ON_CONTROLLER_SPELL_COUNTERED)) {
+            dispatchSlot(gameData, perm, spellControllerId, EffectSlot.ON_CONTROLLER_SPELL_COUNTERED, ctx);
+        }
     }
 
     // ── Discard triggers ───────────────────────────────────────────────
@@ -1276,9 +1330,11 @@ public class TriggerCollectionService {
                             new ArrayList<>(anyDiscardTriggers)
                     ));
                 }
-                gameLogService.append(gameData, GameLog.cardThen(discardedCard,
-                        " was discarded — its ability triggers!"));
-                log.info("Game {} - {} ON_SELF_DISCARDED trigger queued", gameData.id, discardedCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(discardedCard,
+                            " was discarded — its ability triggers!"));
+                    log.info("Game {} - {} ON_SELF_DISCARDED trigger queued", gameData.id, discardedCard.getName());
+                }
                 anyTriggered[0] = true;
             }
 
@@ -1304,8 +1360,10 @@ public class TriggerCollectionService {
                                 new ArrayList<>(selfTriggers)
                         ));
                     }
-                    gameLogService.append(gameData, GameLog.cardThen(discardedCard, " was discarded by an opponent's effect — its ability triggers!"));
-                    log.info("Game {} - {} self-discard trigger queued", gameData.id, discardedCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.cardThen(discardedCard, " was discarded by an opponent's effect — its ability triggers!"));
+                        log.info("Game {} - {} self-discard trigger queued", gameData.id, discardedCard.getName());
+                    }
                 }
             }
         }
@@ -1334,9 +1392,11 @@ public class TriggerCollectionService {
             entry.setTargetId(discardingPlayerId);
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
-            log.info("Game {} - {} temporary global discard trigger fires", gameData.id,
-                    watcher.sourceCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                log.info("Game {} - {} temporary global discard trigger fires", gameData.id,
+                        watcher.sourceCard().getName());
+            }
             triggered = true;
         }
         return triggered;
@@ -1353,12 +1413,8 @@ public class TriggerCollectionService {
 
     public void checkScryTriggers(GameData gameData, UUID scryingPlayerId, int bottomedCardCount) {
         var ctx = new TriggerContext.Scry(scryingPlayerId, bottomedCardCount);
-        List<Permanent> ownBattlefield = gameData.playerBattlefields.get(scryingPlayerId);
-        if (ownBattlefield == null) {
-            return;
-        }
-
-        for (Permanent perm : List.copyOf(ownBattlefield)) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, scryingPlayerId,
+                EffectSlot.ON_CONTROLLER_SCRIES)) {
             dispatchSlot(gameData, perm, scryingPlayerId, EffectSlot.ON_CONTROLLER_SCRIES, ctx);
         }
     }
@@ -1369,12 +1425,8 @@ public class TriggerCollectionService {
         }
 
         var ctx = new TriggerContext.Investigate(investigatingPlayerId);
-        List<Permanent> ownBattlefield = gameData.playerBattlefields.get(investigatingPlayerId);
-        if (ownBattlefield == null) {
-            return;
-        }
-
-        for (Permanent perm : List.copyOf(ownBattlefield)) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, investigatingPlayerId,
+                EffectSlot.ON_CONTROLLER_INVESTIGATES)) {
             dispatchSlot(gameData, perm, investigatingPlayerId, EffectSlot.ON_CONTROLLER_INVESTIGATES, ctx);
         }
     }
@@ -1382,19 +1434,13 @@ public class TriggerCollectionService {
     public void checkSurveilTriggers(GameData gameData, UUID surveilingPlayerId) {
         gameData.playersWhoSurveilledThisTurn.add(surveilingPlayerId);
         var ctx = new TriggerContext.Surveil(surveilingPlayerId);
-        List<Permanent> ownBattlefield = gameData.playerBattlefields.get(surveilingPlayerId);
-        if (ownBattlefield != null) {
-            for (Permanent perm : List.copyOf(ownBattlefield)) {
-                dispatchSlot(gameData, perm, surveilingPlayerId, EffectSlot.ON_CONTROLLER_SURVEILS, ctx);
-            }
-        }
-
-        List<Card> graveyard = gameData.playerGraveyards.get(surveilingPlayerId);
-        if (graveyard == null) {
-            return;
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, surveilingPlayerId,
+                EffectSlot.ON_CONTROLLER_SURVEILS)) {
+            dispatchSlot(gameData, perm, surveilingPlayerId, EffectSlot.ON_CONTROLLER_SURVEILS, ctx);
         }
 
-        for (Card card : List.copyOf(graveyard)) {
+        for (Card card : triggerListenerIndex.graveyardListeners(gameData, surveilingPlayerId,
+                EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS)) {
             for (CardEffect effect : card.getEffects(EffectSlot.GRAVEYARD_ON_CONTROLLER_SURVEILS)) {
                 gameData.enqueueTrigger(new StackEntry(
                         StackEntryType.TRIGGERED_ABILITY,
@@ -1403,9 +1449,11 @@ public class TriggerCollectionService {
                         card.getName() + "'s ability",
                         new ArrayList<>(List.of(effect))
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                log.info("Game {} - {} graveyard ability triggers on surveil",
-                        gameData.id, card.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                    log.info("Game {} - {} graveyard ability triggers on surveil",
+                            gameData.id, card.getName());
+                }
             }
         }
     }
@@ -1439,9 +1487,11 @@ public class TriggerCollectionService {
                 entry.setTriggeringPermanentControllerId(creatureControllerId);
                 entry.setNonTargeting(true);
                 gameData.enqueueTrigger(entry);
-                gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-                log.info("Game {} - {} triggers when a creature deals combat damage to an opponent",
-                        gameData.id, source.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+                    log.info("Game {} - {} triggers when a creature deals combat damage to an opponent",
+                            gameData.id, source.getCard().getName());
+                }
             }
         });
     }
@@ -1492,7 +1542,9 @@ public class TriggerCollectionService {
             UUID mayTargetId = may.wrapped().targetSpec().admits(TargetPredicate.Kind.PERMANENT)
                     ? null : damagedPlayerId;
             gameData.queueMayAbility(source.getCard(), controllerId, may, mayTargetId, source.getId(), mayEventValue);
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s damage trigger fires."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s damage trigger fires."));
+            }
             return;
         }
 
@@ -1524,7 +1576,9 @@ public class TriggerCollectionService {
         }
         se.setNonTargeting(true);
         gameData.stack.add(se);
-        gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s damage trigger goes on the stack."));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s damage trigger goes on the stack."));
+        }
     }
 
     // ── Damage-dealt-to-controller triggers ────────────────────────────
@@ -1588,8 +1642,10 @@ public class TriggerCollectionService {
                     sourceCreature.getId(), perm.getId());
             se.setNonTargeting(true);
             gameData.stack.add(se);
-            gameLogService.append(gameData, GameLog.cardThen(perm.getCard(),
-                    "'s combat damage trigger goes on the stack."));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(perm.getCard(),
+                        "'s combat damage trigger goes on the stack."));
+            }
         }
     }
 
@@ -1639,9 +1695,11 @@ public class TriggerCollectionService {
             entry.setDamageSourceCard(enchantedCreature.getCard());
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
-            log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALS_DAMAGE_TO_YOU trigger fires ({} damage)",
-                    gameData.id, aura.getCard().getName(), amount);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(aura.getCard()));
+                log.info("Game {} - {} ON_ENCHANTED_CREATURE_DEALS_DAMAGE_TO_YOU trigger fires ({} damage)",
+                        gameData.id, aura.getCard().getName(), amount);
+            }
         }
     }
 
@@ -1878,7 +1936,9 @@ public class TriggerCollectionService {
             trigger.setNonTargeting(true);
             trigger.setEventValue(totalDamage);
             gameData.stack.add(trigger);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watch.sourceCard()));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watch.sourceCard()));
+            }
         }
     }
 
@@ -2041,8 +2101,10 @@ public class TriggerCollectionService {
                 tappedPermanent.getId());
         entry.setTriggeringPermanentId(tappedPermanent.getId());
         gameData.enqueueTrigger(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(tappedPermanent.getCard()));
-        log.info("Game {} - {} triggers on being tapped for mana", gameData.id, tappedPermanent.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(tappedPermanent.getCard()));
+            log.info("Game {} - {} triggers on being tapped for mana", gameData.id, tappedPermanent.getCard().getName());
+        }
     }
 
     public void checkLandTapTriggers(GameData gameData, UUID tappingPlayerId, UUID tappedLandId) {
@@ -2098,10 +2160,12 @@ public class TriggerCollectionService {
                 continue;
             }
             pool.add(entry.getValue());
-            gameLogService.append(gameData, GameLog.builder()
-                    .text(gameData.playerIdToName.get(tappingPlayerId) + " adds 1 additional "
-                            + entry.getValue().getCode() + " mana.")
-                    .build());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.builder()
+                        .text(gameData.playerIdToName.get(tappingPlayerId) + " adds 1 additional "
+                                + entry.getValue().getCode() + " mana.")
+                        .build());
+            }
         }
     }
 
@@ -2137,9 +2201,11 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} permanent-returned-to-hand trigger pushed onto stack",
-                        gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} permanent-returned-to-hand trigger pushed onto stack",
+                            gameData.id, perm.getCard().getName());
+                }
             }
         }
     }
@@ -2558,9 +2624,11 @@ public class TriggerCollectionService {
                 counterEntry.setSourcePermanentSnapshot(new Permanent(source));
                 gameData.stack.add(counterEntry);
 
-                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-                log.info("Game {} - {} ally-permanent-or-player counter trigger queued",
-                        gameData.id, source.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                    log.info("Game {} - {} ally-permanent-or-player counter trigger queued",
+                            gameData.id, source.getCard().getName());
+                }
             }
 
             effects = effects.stream()
@@ -2579,9 +2647,11 @@ public class TriggerCollectionService {
             );
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} ally-permanent-or-player-becomes-target-of-opponent trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} ally-permanent-or-player-becomes-target-of-opponent trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -2615,9 +2685,11 @@ public class TriggerCollectionService {
             entry.setTriggeringPermanentControllerId(targetControllerId);
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} another-ally-permanent-becomes-target-of-opponent trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} another-ally-permanent-becomes-target-of-opponent trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -2647,7 +2719,9 @@ public class TriggerCollectionService {
             );
             entry.setSourcePermanentSnapshot(new Permanent(source));
             gameData.stack.add(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+            }
         }
     }
 
@@ -2669,9 +2743,11 @@ public class TriggerCollectionService {
                 );
                 trigger.setTriggeringCardId(targetEntry.getCard().getId());
                 gameData.enqueueTrigger(trigger);
-                gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
-                log.info("Game {} - {} triggers when targets are chosen", gameData.id,
-                        permanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
+                    log.info("Game {} - {} triggers when targets are chosen", gameData.id,
+                            permanent.getCard().getName());
+                }
             }
         });
     }
@@ -2710,8 +2786,10 @@ public class TriggerCollectionService {
             );
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} becomes-target-of-spell trigger queued", gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} becomes-target-of-spell trigger queued", gameData.id, source.getCard().getName());
+            }
         }
 
         if (!triggeringSpellEffects.isEmpty()) {
@@ -2726,8 +2804,10 @@ public class TriggerCollectionService {
             );
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} becomes-target-of-spell trigger queued against the targeting spell", gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} becomes-target-of-spell trigger queued against the targeting spell", gameData.id, source.getCard().getName());
+            }
         }
 
         if (!targetingEffects.isEmpty()) {
@@ -2735,8 +2815,10 @@ public class TriggerCollectionService {
                     targetedCreature.getCard(), controllerId, new ArrayList<>(targetingEffects)
             ));
 
-            gameLogService.append(gameData, GameLog.cardThen(targetedCreature.getCard(), "'s triggered ability triggers — choose a target for damage."));
-            log.info("Game {} - {} becomes-target-of-spell trigger queued", gameData.id, targetedCreature.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(targetedCreature.getCard(), "'s triggered ability triggers — choose a target for damage."));
+                log.info("Game {} - {} becomes-target-of-spell trigger queued", gameData.id, targetedCreature.getCard().getName());
+            }
         }
     }
 
@@ -2779,10 +2861,12 @@ public class TriggerCollectionService {
             );
             gameData.stack.add(counterEntry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                    "'s triggered ability triggers — counter that spell or ability."));
-            log.info("Game {} - {} becomes-target-of-spell-or-ability counter trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                        "'s triggered ability triggers — counter that spell or ability."));
+                log.info("Game {} - {} becomes-target-of-spell-or-ability counter trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
             return;
         }
 
@@ -2803,9 +2887,11 @@ public class TriggerCollectionService {
             );
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} becomes-target-of-spell-or-ability trigger queued against the triggering object",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} becomes-target-of-spell-or-ability trigger queued against the triggering object",
+                        gameData.id, source.getCard().getName());
+            }
             return;
         }
 
@@ -2820,8 +2906,10 @@ public class TriggerCollectionService {
         );
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-        log.info("Game {} - {} becomes-target-of-spell-or-ability trigger queued", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+            log.info("Game {} - {} becomes-target-of-spell-or-ability trigger queued", gameData.id, source.getCard().getName());
+        }
     }
 
     /**
@@ -2847,8 +2935,10 @@ public class TriggerCollectionService {
         );
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-        log.info("Game {} - {} becomes-target-of-Aura-spell trigger queued", gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+            log.info("Game {} - {} becomes-target-of-Aura-spell trigger queued", gameData.id, source.getCard().getName());
+        }
     }
 
     private void collectBecomesTargetOfOpponentCounterTriggers(GameData gameData, Permanent source, UUID controllerId, StackEntry triggeringEntry) {
@@ -2885,24 +2975,32 @@ public class TriggerCollectionService {
                                 ? (pays.manaCost() != null ? pays.manaCost() : "{" + pays.amount() + "}")
                                         + (pays.lifeCost() > 0 ? " and " + pays.lifeCost() + " life" : "")
                                 : "{" + counterEffect.ransomMagnitude() + "}";
-                        gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                                "'s triggered ability triggers — counter unless controller pays "
-                                + paymentText + "."));
-                        log.info("Game {} - {} becomes-target-of-opponent-spell counter trigger queued", gameData.id, source.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                                    "'s triggered ability triggers — counter unless controller pays "
+                                    + paymentText + "."));
+                            log.info("Game {} - {} becomes-target-of-opponent-spell counter trigger queued", gameData.id, source.getCard().getName());
+                        }
                     }
                     case DISCARD_CARD -> {
-                        gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers — counter unless controller discards a card."));
-                        log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-discard trigger queued", gameData.id, source.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers — counter unless controller discards a card."));
+                            log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-discard trigger queued", gameData.id, source.getCard().getName());
+                        }
                     }
                     case PAY_LIFE -> {
-                        gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                                "'s triggered ability triggers — counter unless controller pays life equal to its power."));
-                        log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-life trigger queued", gameData.id, source.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                                    "'s triggered ability triggers — counter unless controller pays life equal to its power."));
+                            log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-life trigger queued", gameData.id, source.getCard().getName());
+                        }
                     }
                     case SACRIFICE_PERMANENT -> {
-                        gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                                "'s triggered ability triggers - counter unless controller sacrifices a permanent."));
-                        log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-sacrifice trigger queued", gameData.id, source.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                                    "'s triggered ability triggers - counter unless controller sacrifices a permanent."));
+                            log.info("Game {} - {} becomes-target-of-opponent-spell counter-unless-sacrifice trigger queued", gameData.id, source.getCard().getName());
+                        }
                     }
                 }
             }
@@ -2936,10 +3034,12 @@ public class TriggerCollectionService {
                 entry.setSourcePermanentSnapshot(new Permanent(source));
                 gameData.stack.add(entry);
 
-                gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                        "'s triggered ability triggers — counter unless controller pays {1}."));
-                log.info("Game {} - {} controller-target counter trigger queued", gameData.id,
-                        source.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                            "'s triggered ability triggers — counter unless controller pays {1}."));
+                    log.info("Game {} - {} controller-target counter trigger queued", gameData.id,
+                            source.getCard().getName());
+                }
             }
         }
     }
@@ -2970,10 +3070,12 @@ public class TriggerCollectionService {
                             source.getId()
                     ));
                 }
-                gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                        "'s triggered ability triggers."));
-                log.info("Game {} - {} controller-becomes-target-of-spell trigger queued",
-                        gameData.id, source.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                            "'s triggered ability triggers."));
+                    log.info("Game {} - {} controller-becomes-target-of-spell trigger queued",
+                            gameData.id, source.getCard().getName());
+                }
             }
         }
     }
@@ -3006,9 +3108,11 @@ public class TriggerCollectionService {
         );
         gameData.stack.add(entry);
 
-        gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-        log.info("Game {} - {} becomes-target-of-opponent-spell-or-ability (non-counter) trigger queued",
-                gameData.id, source.getCard().getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+            log.info("Game {} - {} becomes-target-of-opponent-spell-or-ability (non-counter) trigger queued",
+                    gameData.id, source.getCard().getName());
+        }
     }
 
     /**
@@ -3050,8 +3154,10 @@ public class TriggerCollectionService {
                             triggeringEntry.getCard().getId(),
                             Zone.STACK);
                     gameData.stack.add(counterTrigger);
-                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                            "'s triggered ability triggers."));
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                                "'s triggered ability triggers."));
+                    }
                 } else {
                     nonCounterEffects.add(resolved);
                 }
@@ -3069,10 +3175,14 @@ public class TriggerCollectionService {
                 );
                 gameData.stack.add(entry);
 
-                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                }
+            }
+            if (!gameData.simulation) {
+                log.info("Game {} - {} ally-creature-becomes-target-of-opponent trigger queued",
+                        gameData.id, source.getCard().getName());
             }
-            log.info("Game {} - {} ally-creature-becomes-target-of-opponent trigger queued",
-                    gameData.id, source.getCard().getName());
         }
     }
 
@@ -3121,9 +3231,11 @@ public class TriggerCollectionService {
             entry.setNonTargeting(true);
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} ally-creature-becomes-target-of-instant-or-sorcery trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} ally-creature-becomes-target-of-instant-or-sorcery trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -3172,10 +3284,12 @@ public class TriggerCollectionService {
                         source.getCard().getTargetFilter()));
             }
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
-                    "'s triggered ability triggers — choose targets."));
-            log.info("Game {} - {} ally-creature-becomes-target-of-spell trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(),
+                        "'s triggered ability triggers — choose targets."));
+                log.info("Game {} - {} ally-creature-becomes-target-of-spell trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -3209,9 +3323,11 @@ public class TriggerCollectionService {
                 entry.setNonTargeting(true);
                 gameData.stack.add(entry);
 
-                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-                log.info("Game {} - {} any-creature-becomes-target trigger queued",
-                        gameData.id, source.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                    log.info("Game {} - {} any-creature-becomes-target trigger queued",
+                            gameData.id, source.getCard().getName());
+                }
             }
         }
     }
@@ -3250,9 +3366,11 @@ public class TriggerCollectionService {
             entry.setNonTargeting(true);
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} opponent-creature-becomes-target-of-your-spell trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} opponent-creature-becomes-target-of-your-spell trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -3319,8 +3437,10 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers (opponent creature dealt damage)", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers (opponent creature dealt damage)", gameData.id, perm.getCard().getName());
+                }
             }
         });
     }
@@ -3356,9 +3476,11 @@ public class TriggerCollectionService {
                                     new PlayerRelationPredicate(PlayerRelation.ANY),
                                     "Target must be other than the permanent dealt excess damage."),
                             excessDamage, perm.getId()));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers (opponent permanent dealt excess damage)",
-                            gameData.id, perm.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers (opponent permanent dealt excess damage)",
+                                gameData.id, perm.getCard().getName());
+                    }
                     continue;
                 }
                 StackEntry entry = new StackEntry(
@@ -3372,9 +3494,11 @@ public class TriggerCollectionService {
                 entry.setNonTargeting(true);
                 entry.setEventValue(excessDamage);
                 gameData.stack.add(entry);
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers (opponent permanent dealt excess damage)",
-                        gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers (opponent permanent dealt excess damage)",
+                            gameData.id, perm.getCard().getName());
+                }
             }
         });
     }
@@ -3514,15 +3638,21 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                }
                 if (reflect.lifeLoss()) {
-                    log.info("Game {} - {} causes {} life loss to {}", gameData.id,
-                            watcher.getCard().getName(), damage,
-                            gameData.playerIdToName.get(damagedCreatureControllerId));
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} causes {} life loss to {}", gameData.id,
+                                watcher.getCard().getName(), damage,
+                                gameData.playerIdToName.get(damagedCreatureControllerId));
+                    }
                 } else {
-                    log.info("Game {} - {} reflects {} damage to {}", gameData.id,
-                            watcher.getCard().getName(), damage,
-                            gameData.playerIdToName.get(damagedCreatureControllerId));
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} reflects {} damage to {}", gameData.id,
+                                watcher.getCard().getName(), damage,
+                                gameData.playerIdToName.get(damagedCreatureControllerId));
+                    }
                 }
             } else if (effect instanceof DamageDamagedCreatureControllerAndSelfEffect punisher) {
                 // "this creature" — fire only when the watcher itself dealt the damage.
@@ -3543,10 +3673,12 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} deals {} to {} and {} to its controller", gameData.id,
-                        watcher.getCard().getName(), punisher.amountToDamagedCreatureController(),
-                        gameData.playerIdToName.get(damagedCreatureControllerId), punisher.amountToSelf());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} deals {} to {} and {} to its controller", gameData.id,
+                            watcher.getCard().getName(), punisher.amountToDamagedCreatureController(),
+                            gameData.playerIdToName.get(damagedCreatureControllerId), punisher.amountToSelf());
+                }
             } else if (effect instanceof DamagedCreatureTriggerEffect damagedCreatureTrigger) {
                 Permanent triggerSource = damageSource;
                 if (damagedCreatureTrigger.equipmentScoped()) {
@@ -3576,9 +3708,11 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} will resolve its damaged-creature trigger", gameData.id,
-                        watcher.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} will resolve its damaged-creature trigger", gameData.id,
+                            watcher.getCard().getName());
+                }
             } else if (effect instanceof TapAndSkipUntapDamagedCreatureEffect) {
                 // "this creature" — fire only when the watcher itself dealt the damage.
                 if (!watcher.getId().equals(damageSource.getId())) continue;
@@ -3598,9 +3732,11 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} taps and locks the creature it damaged", gameData.id,
-                        watcher.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} taps and locks the creature it damaged", gameData.id,
+                            watcher.getCard().getName());
+                }
             } else if (effect instanceof EquipmentTapsAndLocksDamagedCreatureEffect) {
                 // "equipped creature" — the watcher is the Equipment, so it must be attached to
                 // the creature that dealt the damage. Last-known attachment is valid when that
@@ -3625,9 +3761,11 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} taps and locks the creature damaged by its equipped creature",
-                        gameData.id, watcher.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} taps and locks the creature damaged by its equipped creature",
+                            gameData.id, watcher.getCard().getName());
+                }
             } else if (effect instanceof DestroyDamagedCreatureAtEndOfCombatEffect delayedDestroy) {
                 if (delayedDestroy.combatDamageOnly() && !combatDamage) continue;
                 if (delayedDestroy.selfOnly() && !watcher.getId().equals(damageSource.getId())) continue;
@@ -3652,9 +3790,11 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} schedules the damaged creature for destruction at end of combat",
-                        gameData.id, watcher.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} schedules the damaged creature for destruction at end of combat",
+                            gameData.id, watcher.getCard().getName());
+                }
             } else if (effect instanceof EquipmentDamagesOtherDefendingCreaturesEffect) {
                 // "equipped creature" — the watcher is the Equipment, so it must be attached to
                 // the creature that dealt the damage. The ability triggered when the damage was
@@ -3679,10 +3819,12 @@ public class TriggerCollectionService {
                 trigger.setNonTargeting(true);
                 gameData.stack.add(trigger);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-                log.info("Game {} - {} deals {} damage to each other creature {} controls", gameData.id,
-                        watcher.getCard().getName(), damage,
-                        gameData.playerIdToName.get(damagedCreatureControllerId));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                    log.info("Game {} - {} deals {} damage to each other creature {} controls", gameData.id,
+                            watcher.getCard().getName(), damage,
+                            gameData.playerIdToName.get(damagedCreatureControllerId));
+                }
             }
         }
     }
@@ -3781,7 +3923,9 @@ public class TriggerCollectionService {
                 gameData.queueInteraction(new PermanentChoiceContext.AttackTriggerTarget(
                         watcher.sourceCard(), watcher.controllerId(),
                         new ArrayList<>(List.of(triggeredEffect)), null));
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                }
                 continue;
             }
             StackEntry entry = new StackEntry(StackEntryType.TRIGGERED_ABILITY, watcher.sourceCard(),
@@ -3790,7 +3934,9 @@ public class TriggerCollectionService {
             entry.setTargetId(attacker.getId());
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+            }
         }
     }
 
@@ -3810,9 +3956,11 @@ public class TriggerCollectionService {
             entry.setEventValue(eventValue);
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
-            log.info("Game {} - {} temporary global {} trigger fires",
-                    gameData.id, watcher.sourceCard().getName(), slot.name());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                log.info("Game {} - {} temporary global {} trigger fires",
+                        gameData.id, watcher.sourceCard().getName(), slot.name());
+            }
         }
     }
 
@@ -3859,9 +4007,11 @@ public class TriggerCollectionService {
                 if (resolved.targetSpec().admits(TargetPredicate.Kind.GRAVEYARD_CARD)) {
                     gameData.queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                             perm.getCard(), ownerId, new ArrayList<>(List.of(resolved))));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers on ally permanent tap (awaiting graveyard target)",
-                            gameData.id, perm.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers on ally permanent tap (awaiting graveyard target)",
+                                gameData.id, perm.getCard().getName());
+                    }
                     continue;
                 }
                 // Bake the tapped permanent's controller only when damage needs
@@ -3883,9 +4033,11 @@ public class TriggerCollectionService {
                     gameData.queueInteraction(new PermanentChoiceContext.EntersTriggerTarget(
                             perm.getCard(), ownerId, new ArrayList<>(List.of(resolved)), perm.getId(),
                             tappedPermanent.getId()));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers on ally permanent tap ({}, awaiting target)",
-                            gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers on ally permanent tap ({}, awaiting target)",
+                                gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                    }
                     if (oncePerTurn) {
                         gameData.oncePerTurnTriggersFiredThisTurn.add(perm.getId());
                     }
@@ -3906,9 +4058,11 @@ public class TriggerCollectionService {
                 if (oncePerTurn) {
                     gameData.oncePerTurnTriggersFiredThisTurn.add(perm.getId());
                 }
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on ally permanent tap ({})",
-                        gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on ally permanent tap ({})",
+                            gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                }
             }
         });
 
@@ -3937,9 +4091,11 @@ public class TriggerCollectionService {
                 if (resolved.targetSpec().admits(TargetPredicate.Kind.GRAVEYARD_CARD)) {
                     gameData.queueInteraction(new PermanentChoiceContext.SpellGraveyardTargetTrigger(
                             perm.getCard(), ownerId, new ArrayList<>(List.of(resolved))));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers on opponent permanent tap (awaiting graveyard target)",
-                            gameData.id, perm.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers on opponent permanent tap (awaiting graveyard target)",
+                                gameData.id, perm.getCard().getName());
+                    }
                     continue;
                 }
                 UUID bakedTargetId = bakeTriggeringPermanentControllerTarget(resolved, controllerId);
@@ -3957,9 +4113,11 @@ public class TriggerCollectionService {
                 if (oncePerTurn) {
                     gameData.oncePerTurnTriggersFiredThisTurn.add(perm.getId());
                 }
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on opponent permanent tap ({})",
-                        gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on opponent permanent tap ({})",
+                            gameData.id, perm.getCard().getName(), tappedPermanent.getCard().getName());
+                }
             }
         });
     }
@@ -3988,9 +4146,11 @@ public class TriggerCollectionService {
             );
             entry.setTriggeringPermanentId(vehicle.getId());
             gameData.pendingActivatedAbilityCostTriggers.add(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(crewingCreature.getCard()));
-            log.info("Game {} - {} triggers when it crews {}",
-                    gameData.id, crewingCreature.getCard().getName(), vehicle.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(crewingCreature.getCard()));
+                log.info("Game {} - {} triggers when it crews {}",
+                        gameData.id, crewingCreature.getCard().getName(), vehicle.getCard().getName());
+            }
         }
     }
 
@@ -4057,9 +4217,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on ally permanent untap ({})",
-                        gameData.id, perm.getCard().getName(), untappedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on ally permanent untap ({})",
+                            gameData.id, perm.getCard().getName(), untappedPermanent.getCard().getName());
+                }
             }
         });
 
@@ -4088,9 +4250,11 @@ public class TriggerCollectionService {
                 entry.setEventPlayerIds(List.of(untappedControllerId));
                 entry.setTriggeringPermanentId(untappedPermanent.getId());
                 gameData.enqueueTrigger(entry);
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on any permanent untap ({})",
-                        gameData.id, perm.getCard().getName(), untappedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on any permanent untap ({})",
+                            gameData.id, perm.getCard().getName(), untappedPermanent.getCard().getName());
+                }
             }
         });
     }
@@ -4116,8 +4280,10 @@ public class TriggerCollectionService {
                     null,
                     renownedCreature.getId()
             ));
-            gameLogService.append(gameData, GameLog.abilityTriggers(renownedCreature.getCard()));
-            log.info("Game {} - {} triggers on becoming renowned", gameData.id, renownedCreature.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(renownedCreature.getCard()));
+                log.info("Game {} - {} triggers on becoming renowned", gameData.id, renownedCreature.getCard().getName());
+            }
         }
 
         gameData.forEachPermanent((ownerId, perm) -> {
@@ -4142,9 +4308,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on ally creature becoming renowned ({})",
-                        gameData.id, perm.getCard().getName(), renownedCreature.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on ally creature becoming renowned ({})",
+                            gameData.id, perm.getCard().getName(), renownedCreature.getCard().getName());
+                }
             }
         });
     }
@@ -4201,9 +4369,11 @@ public class TriggerCollectionService {
                     && effect.targetSpec().admits(TargetPredicate.Kind.PERMANENT)) {
                 gameData.queueInteraction(new PermanentChoiceContext.PhasesInTriggerTarget(
                         permanent.getCard(), controllerId, new ArrayList<>(List.of(effect)), permanent.getId()));
-                gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
-                log.info("Game {} - {} triggers on phasing {} (awaiting target)",
-                        gameData.id, permanent.getCard().getName(), direction);
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
+                    log.info("Game {} - {} triggers on phasing {} (awaiting target)",
+                            gameData.id, permanent.getCard().getName(), direction);
+                }
                 continue;
             }
             gameData.enqueueTrigger(new StackEntry(
@@ -4215,8 +4385,10 @@ public class TriggerCollectionService {
                     null,
                     permanent.getId()
             ));
-            gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
-            log.info("Game {} - {} triggers on phasing {}", gameData.id, permanent.getCard().getName(), direction);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(permanent.getCard()));
+                log.info("Game {} - {} triggers on phasing {}", gameData.id, permanent.getCard().getName(), direction);
+            }
         }
     }
 
@@ -4240,9 +4412,11 @@ public class TriggerCollectionService {
                 if (resolved.targetSpec().declares(TargetPredicates.anyTarget())) {
                     gameData.queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                             perm.getCard(), ownerId, new ArrayList<>(List.of(resolved)), false, null, 0, perm.getId()));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} queues an any-target ability-activation trigger ({})",
-                            gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} queues an any-target ability-activation trigger ({})",
+                                gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                    }
                     continue;
                 }
                 gameData.enqueueTrigger(new StackEntry(
@@ -4254,9 +4428,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on ability activation ({})",
-                        gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on ability activation ({})",
+                            gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                }
             }
         });
     }
@@ -4279,8 +4455,10 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on exhaust ability activation", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on exhaust ability activation", gameData.id, perm.getCard().getName());
+                }
             }
         });
     }
@@ -4303,9 +4481,11 @@ public class TriggerCollectionService {
                         card.getName() + "'s ability",
                         new ArrayList<>(List.of(effect))
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                log.info("Game {} - {} triggers from the graveyard on exhaust ability activation",
-                        gameData.id, card.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                    log.info("Game {} - {} triggers from the graveyard on exhaust ability activation",
+                            gameData.id, card.getName());
+                }
             }
         }
     }
@@ -4359,9 +4539,11 @@ public class TriggerCollectionService {
             for (int copy = 1; copy < triggerCopies; copy++) {
                 gameData.pendingActivatedAbilityCostTriggers.add(new StackEntry(trigger));
             }
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
-            log.info("Game {} - {} triggers when its controller saddles or crews {}",
-                    gameData.id, watcher.getCard().getName(), saddledOrCrewedPermanent.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                log.info("Game {} - {} triggers when its controller saddles or crews {}",
+                        gameData.id, watcher.getCard().getName(), saddledOrCrewedPermanent.getCard().getName());
+            }
         }
     }
 
@@ -4403,9 +4585,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on eternalize/embalm activation",
-                        gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on eternalize/embalm activation",
+                            gameData.id, perm.getCard().getName());
+                }
             }
         });
     }
@@ -4437,9 +4621,11 @@ public class TriggerCollectionService {
                 // "That player" is the opponent who activated the ability — set by the event, not chosen.
                 trigger.setNonTargeting(true);
                 gameData.enqueueTrigger(trigger);
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on opponent non-mana ability activation ({})",
-                        gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on opponent non-mana ability activation ({})",
+                            gameData.id, perm.getCard().getName(), activatedPermanent.getCard().getName());
+                }
             }
         });
     }
@@ -4513,9 +4699,11 @@ public class TriggerCollectionService {
                     copyEffects
             ));
             gameData.pendingNextExhaustAbilityCopyThisTurnCount.remove(activatingPlayerId);
-            gameLogService.append(gameData, GameLog.cardThen(abilityEntry.getCard(), "'s exhaust ability is copied."));
-            log.info("Game {} - {} delayed exhaust-ability copy trigger(s) queued for {}",
-                    gameData.id, pendingExhaustCopies, abilityEntry.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(abilityEntry.getCard(), "'s exhaust ability is copied."));
+                log.info("Game {} - {} delayed exhaust-ability copy trigger(s) queued for {}",
+                        gameData.id, pendingExhaustCopies, abilityEntry.getCard().getName());
+            }
         }
 
         gameData.forEachPermanent((ownerId, perm) -> {
@@ -4529,9 +4717,11 @@ public class TriggerCollectionService {
                         gameData.queueInteraction(new PermanentChoiceContext.SpellTargetTriggerAnyTarget(
                                 perm.getCard(), ownerId, new ArrayList<>(List.of(resolved)), false, null, 0,
                                 perm.getId()));
-                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                        log.info("Game {} - {} queues an any-target non-mana ability trigger ({})",
-                                gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                            log.info("Game {} - {} queues an any-target non-mana ability trigger ({})",
+                                    gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                        }
                     } else {
                         gameData.enqueueTrigger(new StackEntry(
                                 StackEntryType.TRIGGERED_ABILITY,
@@ -4542,9 +4732,11 @@ public class TriggerCollectionService {
                                 null,
                                 perm.getId()
                         ));
-                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                        log.info("Game {} - {} triggers on non-mana ability activation ({})",
-                                gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                            log.info("Game {} - {} triggers on non-mana ability activation ({})",
+                                    gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                        }
                     }
                     continue;
                 }
@@ -4591,9 +4783,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on non-mana ability activation ({})",
-                        gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on non-mana ability activation ({})",
+                            gameData.id, perm.getCard().getName(), abilityEntry.getCard().getName());
+                }
             }
         });
     }
@@ -4698,10 +4892,12 @@ public class TriggerCollectionService {
         }
         int newSpeed = speed + 1;
         gameData.playerSpeeds.put(activePlayerId, newSpeed);
-        gameLogService.append(gameData, GameLog.text(
-                gameData.playerIdToName.get(activePlayerId) + " increases their speed to " + newSpeed + "."));
-        log.info("Game {} - {} increases speed to {}", gameData.id,
-                gameData.playerIdToName.get(activePlayerId), newSpeed);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.text(
+                    gameData.playerIdToName.get(activePlayerId) + " increases their speed to " + newSpeed + "."));
+            log.info("Game {} - {} increases speed to {}", gameData.id,
+                    gameData.playerIdToName.get(activePlayerId), newSpeed);
+        }
     }
 
     public void checkLifeGainTriggers(GameData gameData, UUID gainingPlayerId, int lifeGainedAmount) {
@@ -4748,10 +4944,8 @@ public class TriggerCollectionService {
         if (energyGainedAmount <= 0) return;
 
         var ctx = new TriggerContext.EnergyGain(gainingPlayerId, energyGainedAmount);
-        List<Permanent> battlefield = gameData.playerBattlefields.get(gainingPlayerId);
-        if (battlefield == null) return;
-
-        for (Permanent perm : List.copyOf(battlefield)) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, gainingPlayerId,
+                EffectSlot.ON_CONTROLLER_GETS_ENERGY)) {
             dispatchSlot(gameData, perm, gainingPlayerId, EffectSlot.ON_CONTROLLER_GETS_ENERGY, ctx);
         }
     }
@@ -4761,14 +4955,12 @@ public class TriggerCollectionService {
                                          int proliferateCount) {
         if (proliferateCount <= 0) return;
 
-        List<Permanent> battlefield = gameData.playerBattlefields.get(proliferatingPlayerId);
-        if (battlefield != null) {
-            TriggerContext.Proliferate ctx = new TriggerContext.Proliferate(proliferatingPlayerId);
-            for (Permanent perm : List.copyOf(battlefield)) {
-                for (int i = 0; i < proliferateCount; i++) {
-                    dispatchSlot(gameData, perm, proliferatingPlayerId,
-                            EffectSlot.ON_CONTROLLER_PROLIFERATES, ctx);
-                }
+        TriggerContext.Proliferate ctx = new TriggerContext.Proliferate(proliferatingPlayerId);
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, proliferatingPlayerId,
+                EffectSlot.ON_CONTROLLER_PROLIFERATES)) {
+            for (int i = 0; i < proliferateCount; i++) {
+                dispatchSlot(gameData, perm, proliferatingPlayerId,
+                        EffectSlot.ON_CONTROLLER_PROLIFERATES, ctx);
             }
         }
 
@@ -4788,9 +4980,11 @@ public class TriggerCollectionService {
                             card.getName() + "'s ability",
                             new ArrayList<>(List.of(effect))
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} graveyard trigger queued on proliferate",
-                            gameData.id, card.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} graveyard trigger queued on proliferate",
+                                gameData.id, card.getName());
+                    }
                 }
             }
         }
@@ -4812,9 +5006,11 @@ public class TriggerCollectionService {
                             card.getName() + "'s ability",
                             new ArrayList<>(List.of(effect))
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} triggers from the graveyard when an opponent gains life",
-                            gameData.id, card.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} triggers from the graveyard when an opponent gains life",
+                                gameData.id, card.getName());
+                    }
                 }
             }
         }
@@ -4841,9 +5037,11 @@ public class TriggerCollectionService {
                     (UUID) null);
             entry.setEventValue(lifeGainedAmount);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
-            log.info("Game {} - {} triggers (controller gained {} life), each opponent loses that much life",
-                    gameData.id, watcher.sourceCard().getName(), lifeGainedAmount);
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                log.info("Game {} - {} triggers (controller gained {} life), each opponent loses that much life",
+                        gameData.id, watcher.sourceCard().getName(), lifeGainedAmount);
+            }
         }
     }
 
@@ -4943,7 +5141,9 @@ public class TriggerCollectionService {
                         card.getName() + "'s ability",
                         new ArrayList<>(List.of(effect))
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                }
             }
         }
     }
@@ -5065,7 +5265,9 @@ public class TriggerCollectionService {
                         perm.getId()
                 ));
             }
-            log.info("Game {} - {} explore trigger queued", gameData.id, perm.getCard().getName());
+            if (!gameData.simulation) {
+                log.info("Game {} - {} explore trigger queued", gameData.id, perm.getCard().getName());
+            }
         }
     }
 
@@ -5106,9 +5308,11 @@ public class TriggerCollectionService {
                     sourcePermanentId
             ));
         }
-        gameLogService.append(gameData,
-                GameLog.cardThen(sourceCard, " exploits a creature."));
-        log.info("Game {} - {} exploit trigger queued", gameData.id, sourceCard.getName());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData,
+                    GameLog.cardThen(sourceCard, " exploits a creature."));
+            log.info("Game {} - {} exploit trigger queued", gameData.id, sourceCard.getName());
+        }
     }
 
     public void processNextExploitTriggerTarget(GameData gameData) {
@@ -5169,7 +5373,9 @@ public class TriggerCollectionService {
             clashLog.text("no card (empty library)");
         }
         clashLog.text(".");
-        gameLogService.append(gameData, clashLog.build());
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, clashLog.build());
+        }
 
         // 701.29c: win if your revealed card's mana value is higher than each other revealed card.
         boolean won = clashingCard != null
@@ -5178,8 +5384,10 @@ public class TriggerCollectionService {
         String outcome = won
                 ? gameData.playerIdToName.get(clashingPlayerId) + " won the clash."
                 : "No one won the clash.";
-        gameLogService.append(gameData, GameLog.text(outcome));
-        log.info("Game {} - {} clashes (won={})", gameData.id, clashingPlayerId, won);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.text(outcome));
+            log.info("Game {} - {} clashes (won={})", gameData.id, clashingPlayerId, won);
+        }
 
         fireClashTriggers(gameData, clashingPlayerId, won);
         return won;
@@ -5218,7 +5426,9 @@ public class TriggerCollectionService {
             if (needsTarget) {
                 gameData.queueInteraction(new PermanentChoiceContext.ClashTriggerTarget(
                         perm.getCard(), clashingPlayerId, resolvedEffects, perm.getId()));
-                log.info("Game {} - {} clash trigger queued", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} clash trigger queued", gameData.id, perm.getCard().getName());
+                }
             } else {
                 gameData.stack.add(new StackEntry(
                         StackEntryType.TRIGGERED_ABILITY,
@@ -5228,7 +5438,9 @@ public class TriggerCollectionService {
                         new ArrayList<>(resolvedEffects),
                         null,
                         perm.getId()));
-                log.info("Game {} - {} clash trigger pushed to stack", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    log.info("Game {} - {} clash trigger pushed to stack", gameData.id, perm.getCard().getName());
+                }
             }
         }
 
@@ -5446,8 +5658,10 @@ public class TriggerCollectionService {
             }
 
             if (anyEffectFired) {
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers (ally creature died)", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers (ally creature died)", gameData.id, perm.getCard().getName());
+                }
             }
         }
     }
@@ -5478,9 +5692,11 @@ public class TriggerCollectionService {
                     source.getId()
             ));
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} ally-creature-becomes-target trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} ally-creature-becomes-target trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -5512,9 +5728,11 @@ public class TriggerCollectionService {
                     source.getId()
             ));
 
-            gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
-            log.info("Game {} - {} ally-creature-spell-becomes-target trigger queued",
-                    gameData.id, source.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(source.getCard(), "'s triggered ability triggers."));
+                log.info("Game {} - {} ally-creature-spell-becomes-target trigger queued",
+                        gameData.id, source.getCard().getName());
+            }
         }
     }
 
@@ -5552,8 +5770,10 @@ public class TriggerCollectionService {
                             new ArrayList<>(List.of(resolved))
                     ));
                 }
-                gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                log.info("Game {} - {} graveyard creature-death trigger queued", gameData.id, card.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                    log.info("Game {} - {} graveyard creature-death trigger queued", gameData.id, card.getName());
+                }
             }
         }
     }
@@ -5623,8 +5843,10 @@ public class TriggerCollectionService {
             }
 
             if (anyEffectFired) {
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers (ally creature or planeswalker died)", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers (ally creature or planeswalker died)", gameData.id, perm.getCard().getName());
+                }
             }
         }
     }
@@ -5730,7 +5952,7 @@ public class TriggerCollectionService {
     public void checkAnyLandPutIntoGraveyardFromBattlefieldTriggers(GameData gameData, UUID graveyardOwnerId, UUID landControllerId) {
         var ctx = new TriggerContext.AnyLandGraveyard(graveyardOwnerId, landControllerId);
 
-        gameData.forEachPermanent((playerId, perm) ->
+        triggerListenerIndex.forEachListener(gameData, EffectSlot.ON_ANY_LAND_PUT_INTO_GRAVEYARD_FROM_BATTLEFIELD, (playerId, perm) ->
                 dispatchSlot(gameData, perm, playerId, EffectSlot.ON_ANY_LAND_PUT_INTO_GRAVEYARD_FROM_BATTLEFIELD, ctx));
     }
 
@@ -5755,10 +5977,8 @@ public class TriggerCollectionService {
         if (causeControllerId == null || causeControllerId.equals(graveyardOwnerId)) return;
 
         var ctx = new TriggerContext.LandPutIntoGraveyard(landCard, graveyardOwnerId, causeControllerId);
-        List<Permanent> battlefield = gameData.playerBattlefields.get(graveyardOwnerId);
-        if (battlefield == null) return;
-
-        for (Permanent perm : List.copyOf(battlefield)) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, graveyardOwnerId,
+                EffectSlot.ON_ALLY_LAND_PUT_INTO_GRAVEYARD_BY_OPPONENT)) {
             dispatchSlot(gameData, perm, graveyardOwnerId, EffectSlot.ON_ALLY_LAND_PUT_INTO_GRAVEYARD_BY_OPPONENT, ctx);
         }
     }
@@ -6039,9 +6259,11 @@ public class TriggerCollectionService {
                             new ArrayList<>(List.of(effect))
                     ));
                 }
-                gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                log.info("Game {} - {} graveyard trigger fires when a creature enters its owner's graveyard",
-                        gameData.id, card.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                    log.info("Game {} - {} graveyard trigger fires when a creature enters its owner's graveyard",
+                            gameData.id, card.getName());
+                }
             }
         }
     }
@@ -6094,11 +6316,9 @@ public class TriggerCollectionService {
     public void checkControllerForetellTriggers(GameData gameData, UUID foretellingPlayerId,
                                                 Card foretoldCard) {
         if (foretellingPlayerId == null || foretoldCard == null) return;
-        List<Permanent> battlefield = gameData.playerBattlefields.get(foretellingPlayerId);
-        if (battlefield == null) return;
-
         var ctx = new TriggerContext.Foretell(foretellingPlayerId, foretoldCard);
-        for (Permanent perm : List.copyOf(battlefield)) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, foretellingPlayerId,
+                EffectSlot.ON_CONTROLLER_FORETELLS)) {
             dispatchSlot(gameData, perm, foretellingPlayerId, EffectSlot.ON_CONTROLLER_FORETELLS, ctx);
         }
     }
@@ -6114,9 +6334,11 @@ public class TriggerCollectionService {
                     (UUID) null,
                     (UUID) null);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
-            log.info("Game {} - {} triggers because a creature died",
-                    gameData.id, watcher.sourceCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                log.info("Game {} - {} triggers because a creature died",
+                        gameData.id, watcher.sourceCard().getName());
+            }
         }
     }
 
@@ -6142,8 +6364,10 @@ public class TriggerCollectionService {
                 );
                 entry.setTriggeringCardId(dyingCard.getId());
                 gameData.stack.add(entry);
-                gameLogService.append(gameData, GameLog.text(desc + " triggers (a creature died)."));
-                log.info("Game {} - {} schedules a delayed return of {}", gameData.id, desc, dyingCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(desc + " triggers (a creature died)."));
+                    log.info("Game {} - {} schedules a delayed return of {}", gameData.id, desc, dyingCard.getName());
+                }
             }
         }
     }
@@ -6290,11 +6514,13 @@ public class TriggerCollectionService {
                     delayed.sourcePermanentId());
             se.setNonTargeting(true);
             gameData.enqueueTrigger(se);
-            gameLogService.append(gameData,
-                    GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
-            log.info("Game {} - {} delayed leave-trigger fires (watched {} left); sacrifice source {}",
-                    gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
-                    delayed.sourcePermanentId());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData,
+                        GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
+                log.info("Game {} - {} delayed leave-trigger fires (watched {} left); sacrifice source {}",
+                        gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
+                        delayed.sourcePermanentId());
+            }
         }
     }
 
@@ -6323,11 +6549,13 @@ public class TriggerCollectionService {
                     delayed.targetPermanentId());
             se.setNonTargeting(true);
             gameData.enqueueTrigger(se);
-            gameLogService.append(gameData,
-                    GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
-            log.info("Game {} - {} delayed leave-trigger fires (source {} left); sacrifice target {}",
-                    gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
-                    delayed.targetPermanentId());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData,
+                        GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
+                log.info("Game {} - {} delayed leave-trigger fires (source {} left); sacrifice target {}",
+                        gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
+                        delayed.targetPermanentId());
+            }
         }
     }
 
@@ -6355,11 +6583,13 @@ public class TriggerCollectionService {
                     List.of());
             se.setNonTargeting(true);
             gameData.enqueueTrigger(se);
-            gameLogService.append(gameData,
-                    GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
-            log.info("Game {} - {} delayed leave-trigger fires (source {} left); destroy target {}",
-                    gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
-                    delayed.targetPermanentId());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData,
+                        GameLog.text(delayed.sourceCard().getName() + "'s delayed trigger triggers."));
+                log.info("Game {} - {} delayed leave-trigger fires (source {} left); destroy target {}",
+                        gameData.id, delayed.sourceCard().getName(), leavingPermanent.getCard().getName(),
+                        delayed.targetPermanentId());
+            }
         }
     }
 
@@ -6395,9 +6625,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
-                log.info("Game {} - {} triggers on another creature leaving the battlefield ({})",
-                        gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
+                    log.info("Game {} - {} triggers on another creature leaving the battlefield ({})",
+                            gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                }
             }
         });
     }
@@ -6427,9 +6659,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
-                log.info("Game {} - {} triggers on another creature you control leaving the battlefield ({})",
-                        gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
+                    log.info("Game {} - {} triggers on another creature you control leaving the battlefield ({})",
+                            gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                }
             }
         }
     }
@@ -6466,9 +6700,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
-                log.info("Game {} - {} triggers on another artifact leaving the battlefield ({})",
-                        gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
+                    log.info("Game {} - {} triggers on another artifact leaving the battlefield ({})",
+                            gameData.id, perm.getCard().getName(), leavingPermanent.getCard().getName());
+                }
             }
         }
     }
@@ -6496,9 +6732,11 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
-                log.info("Game {} - {} triggers on another nontoken artifact entering {} from the battlefield ({})",
-                        gameData.id, perm.getCard().getName(), destination, leavingPermanent.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(perm.getCard().getName() + "'s ability triggers."));
+                    log.info("Game {} - {} triggers on another nontoken artifact entering {} from the battlefield ({})",
+                            gameData.id, perm.getCard().getName(), destination, leavingPermanent.getCard().getName());
+                }
             }
         }
     }
@@ -6515,12 +6753,10 @@ public class TriggerCollectionService {
     }
 
     public void checkControllerCardsLeaveGraveyardTriggers(GameData gameData, UUID graveyardOwnerId) {
-        List<Permanent> battlefield = gameData.playerBattlefields.get(graveyardOwnerId);
-        if (battlefield == null) return;
-
         var ctx = new TriggerContext.ControllerCardsLeaveGraveyard(graveyardOwnerId);
 
-        for (Permanent perm : battlefield) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, graveyardOwnerId,
+                EffectSlot.ON_CONTROLLER_CARDS_LEAVE_GRAVEYARD)) {
             dispatchSlot(gameData, perm, graveyardOwnerId, EffectSlot.ON_CONTROLLER_CARDS_LEAVE_GRAVEYARD, ctx);
         }
     }
@@ -6528,21 +6764,17 @@ public class TriggerCollectionService {
     public void checkControllerCardsExiledFromGraveyardTriggers(GameData gameData, UUID graveyardOwnerId,
                                                                  int count) {
         if (count <= 0) return;
-        List<Permanent> battlefield = gameData.playerBattlefields.get(graveyardOwnerId);
-        if (battlefield == null) return;
-
         var ctx = new TriggerContext.ControllerCardsExiledFromGraveyard(graveyardOwnerId, count);
-        for (Permanent perm : battlefield) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, graveyardOwnerId,
+                EffectSlot.ON_CONTROLLER_CARDS_EXILED_FROM_GRAVEYARD)) {
             dispatchSlot(gameData, perm, graveyardOwnerId, EffectSlot.ON_CONTROLLER_CARDS_EXILED_FROM_GRAVEYARD, ctx);
         }
     }
 
     public void checkControllerCreatureCardsLeaveGraveyardTriggers(GameData gameData, UUID graveyardOwnerId) {
-        List<Permanent> battlefield = gameData.playerBattlefields.get(graveyardOwnerId);
-        if (battlefield == null) return;
-
         var ctx = new TriggerContext.ControllerCardsLeaveGraveyard(graveyardOwnerId);
-        for (Permanent perm : battlefield) {
+        for (Permanent perm : triggerListenerIndex.battlefieldListeners(gameData, graveyardOwnerId,
+                EffectSlot.ON_CONTROLLER_CREATURE_CARDS_LEAVE_GRAVEYARD)) {
             dispatchSlot(gameData, perm, graveyardOwnerId, EffectSlot.ON_CONTROLLER_CREATURE_CARDS_LEAVE_GRAVEYARD, ctx);
         }
     }
@@ -6619,9 +6851,11 @@ public class TriggerCollectionService {
                             card.getName() + "'s ability",
                             new ArrayList<>(List.of(effect))
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} triggers ({} left an opponent's graveyard)",
-                            gameData.id, card.getName(), leavingCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} triggers ({} left an opponent's graveyard)",
+                                gameData.id, card.getName(), leavingCard.getName());
+                    }
                 }
             }
         }
@@ -6645,9 +6879,11 @@ public class TriggerCollectionService {
         String playerName = gameData.playerIdToName.get(controllerId);
         String logEntry = playerName + " gets " + poisonAmount + " poison counter"
                 + (poisonAmount > 1 ? "s" : "") + " (delayed trigger: creature died this turn).";
-        gameLogService.append(gameData, GameLog.text(logEntry));
-        log.info("Game {} - {} gets {} poison counter(s) (delayed trigger: creature died this turn)",
-                gameData.id, playerName, poisonAmount);
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.text(logEntry));
+            log.info("Game {} - {} gets {} poison counter(s) (delayed trigger: creature died this turn)",
+                    gameData.id, playerName, poisonAmount);
+        }
     }
 
     /**
@@ -6679,8 +6915,10 @@ public class TriggerCollectionService {
                     gameData.graveyardEntryVersion(graveyardCard.getId()));
             gameData.stack.add(entry);
 
-            gameLogService.append(gameData, GameLog.cardThen(graveyardCard, " will return to the battlefield (it died this turn)."));
-            log.info("Game {} - Delayed return trigger: {} will return to the battlefield", gameData.id, graveyardCard.getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(graveyardCard, " will return to the battlefield (it died this turn)."));
+                log.info("Game {} - Delayed return trigger: {} will return to the battlefield", gameData.id, graveyardCard.getName());
+            }
         }
     }
 
@@ -6720,8 +6958,10 @@ public class TriggerCollectionService {
             delayedEntry.setDyingPermanentManaValue(Math.max(0, dyingPermanentManaValue));
             gameData.stack.add(delayedEntry);
 
-            log.info("Game {} - Delayed death trigger: {} triggers (a creature it damaged died this turn)",
-                    gameData.id, registration.sourceCard().getName());
+            if (!gameData.simulation) {
+                log.info("Game {} - Delayed death trigger: {} triggers (a creature it damaged died this turn)",
+                        gameData.id, registration.sourceCard().getName());
+            }
         }
     }
 
@@ -6848,7 +7088,9 @@ public class TriggerCollectionService {
             entry.setTargetId(enteringPermanent.getId());
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+            }
         }
 
         // Graveyard-resident creature-enters triggers (GRAVEYARD_ON_ALLY_CREATURE_ENTERS_BATTLEFIELD,
@@ -6875,8 +7117,10 @@ public class TriggerCollectionService {
                                 new ArrayList<>(List.of(resolved))
                         ));
                     }
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} graveyard creature-enters trigger queued", gameData.id, card.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} graveyard creature-enters trigger queued", gameData.id, card.getName());
+                    }
                 }
             }
         }
@@ -6895,9 +7139,11 @@ public class TriggerCollectionService {
                     new ArrayList<>(List.of(watcher.effect())));
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
-            log.info("Game {} - {} temporary ally creature-enters trigger fires",
-                    gameData.id, watcher.sourceCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.sourceCard()));
+                log.info("Game {} - {} temporary ally creature-enters trigger fires",
+                        gameData.id, watcher.sourceCard().getName());
+            }
         }
 
         if (enteringPermanent != null) {
@@ -6910,11 +7156,13 @@ public class TriggerCollectionService {
                             sourceCard, controllerId,
                             List.of(new DealDamageToAnyTargetEffect(new SourcePower())),
                             enteringPermanent.getId()));
-                    gameLogService.append(gameData, GameLog.text(
-                            sourceCard.getName() + "'s emblem triggers for " + enteringCreature.getName()
-                                    + " entering."));
-                    log.info("Game {} - {}'s emblem triggers for {} entering",
-                            gameData.id, sourceCard.getName(), enteringCreature.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.text(
+                                sourceCard.getName() + "'s emblem triggers for " + enteringCreature.getName()
+                                        + " entering."));
+                        log.info("Game {} - {}'s emblem triggers for {} entering",
+                                gameData.id, sourceCard.getName(), enteringCreature.getName());
+                    }
                 }
             }
         }
@@ -6976,8 +7224,10 @@ public class TriggerCollectionService {
                 for (Card sourceCard : new ArrayList<>(sources)) {
                     gameData.queueMayAbility(sourceCard, controllerId,
                             new MayEffect(new DrawCardEffect(), "Draw a card?"));
-                    log.info("Game {} - {} triggers for creature entering (may draw)",
-                            gameData.id, sourceCard.getName());
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} triggers for creature entering (may draw)",
+                                gameData.id, sourceCard.getName());
+                    }
                 }
             }
 
@@ -6987,8 +7237,10 @@ public class TriggerCollectionService {
                 for (Card sourceCard : new ArrayList<>(persistentSources)) {
                     gameData.queueMayAbility(sourceCard, controllerId,
                             new MayEffect(new DrawCardEffect(), "Draw a card?"));
-                    log.info("Game {} - {} triggers for controlled creature entering (may draw)",
-                            gameData.id, sourceCard.getName());
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} triggers for controlled creature entering (may draw)",
+                                gameData.id, sourceCard.getName());
+                    }
                 }
             }
         }
@@ -7025,8 +7277,10 @@ public class TriggerCollectionService {
                 entry.setNonTargeting(true);
                 gameData.stack.add(entry);
 
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} enchanted-player-creature-enters trigger queued", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} enchanted-player-creature-enters trigger queued", gameData.id, perm.getCard().getName());
+                }
             }
         });
     }
@@ -7237,8 +7491,10 @@ public class TriggerCollectionService {
                         && conditional.condition() instanceof ControlsPermanentCount) {
                     if (!conditionEvaluationService.isMet(gameData, conditional.condition(),
                             ConditionContext.forPermanent(perm, controllerId))) {
-                        log.info("Game {} - {} ally-artifact trigger skipped ({} not met)",
-                                gameData.id, perm.getCard().getName(), conditional.condition().conditionName());
+                        if (!gameData.simulation) {
+                            log.info("Game {} - {} ally-artifact trigger skipped ({} not met)",
+                                    gameData.id, perm.getCard().getName(), conditional.condition().conditionName());
+                        }
                         continue;
                     }
                 }
@@ -7269,8 +7525,10 @@ public class TriggerCollectionService {
                                 new ArrayList<>(List.of(resolved))
                         ));
                     }
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} graveyard artifact trigger queued", gameData.id, card.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} graveyard artifact trigger queued", gameData.id, card.getName());
+                    }
                 }
             }
         }
@@ -7299,9 +7557,11 @@ public class TriggerCollectionService {
                         List.of(new UntapPermanentsEffect(TapUntapScope.ATTACKED_CREATURES)));
                 entry.setNonTargeting(true);
                 gameData.enqueueTrigger(entry);
-                gameLogService.append(gameData, GameLog.cardThen(sourceCard,
-                        "'s delayed ability triggers."));
-                log.info("Game {} - {} delayed combat trigger queued", gameData.id, sourceCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.cardThen(sourceCard,
+                            "'s delayed ability triggers."));
+                    log.info("Game {} - {} delayed combat trigger queued", gameData.id, sourceCard.getName());
+                }
             }
         }
     }
@@ -7324,11 +7584,13 @@ public class TriggerCollectionService {
                         controllerId,
                         List.of(new DealDamageToAnyTargetEffect(trigger.damage()))
                 ));
-                gameLogService.append(gameData, GameLog.text(
-                        description + " triggers for an artifact entering and deals "
-                                + trigger.damage() + " damage to any target."));
-                log.info("Game {} - {} triggers for {} entering (artifact-enter emblem)",
-                        gameData.id, description, enteringCard.getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.text(
+                            description + " triggers for an artifact entering and deals "
+                                    + trigger.damage() + " damage to any target."));
+                    log.info("Game {} - {} triggers for {} entering (artifact-enter emblem)",
+                            gameData.id, description, enteringCard.getName());
+                }
             }
         }
     }
@@ -7388,7 +7650,9 @@ public class TriggerCollectionService {
                     for (int i = 0; i < triggerCount; i++) {
                         gameData.queueInteraction(new PermanentChoiceContext.EntersTriggerTarget(
                                 perm.getCard(), controllerId, new ArrayList<>(List.of(effect)), perm.getId(), enteringPermanentId));
-                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        }
                     }
                     continue;
                 }
@@ -7402,9 +7666,11 @@ public class TriggerCollectionService {
                             null,
                             perm.getId()
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers for {} entering (ally equipment entered)",
-                            gameData.id, perm.getCard().getName(), enteringCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers for {} entering (ally equipment entered)",
+                                gameData.id, perm.getCard().getName(), enteringCard.getName());
+                    }
                 }
             }
         }
@@ -7434,9 +7700,11 @@ public class TriggerCollectionService {
                     null,
                     enchanted.getId()
             ));
-            gameLogService.append(gameData, GameLog.abilityTriggers(enchanted.getCard()));
-            log.info("Game {} - {} triggers on {} becoming attached to it",
-                    gameData.id, enchanted.getCard().getName(), auraCard.getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(enchanted.getCard()));
+                log.info("Game {} - {} triggers on {} becoming attached to it",
+                        gameData.id, enchanted.getCard().getName(), auraCard.getName());
+            }
         }
     }
 
@@ -7463,7 +7731,9 @@ public class TriggerCollectionService {
                         new ArrayList<>(List.of(effect)), enchanted.getId(), aura.getId());
                 trigger.setNonTargeting(true);
                 gameData.enqueueTrigger(trigger);
-                gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+                }
             }
         }
     }
@@ -7503,9 +7773,11 @@ public class TriggerCollectionService {
                 entry.setTriggeringPermanentId(equipped.getId());
                 gameData.enqueueTrigger(entry);
             }
-            gameLogService.append(gameData, GameLog.abilityTriggers(equipment.getCard()));
-            log.info("Game {} - {} triggers when attached to {}", gameData.id,
-                    equipment.getCard().getName(), equipped.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(equipment.getCard()));
+                log.info("Game {} - {} triggers when attached to {}", gameData.id,
+                        equipment.getCard().getName(), equipped.getCard().getName());
+            }
         }
 
         if (gameData.hasPendingInteraction(PermanentChoiceContext.ETBTokenTargetTrigger.class)
@@ -7543,9 +7815,11 @@ public class TriggerCollectionService {
                     for (int i = 0; i < triggerCount; i++) {
                         gameData.queueInteraction(new PermanentChoiceContext.EntersTriggerTarget(
                                 perm.getCard(), controllerId, new ArrayList<>(List.of(resolved)), perm.getId()));
-                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                        log.info("Game {} - {} triggers for {} entering (ally enchantment entered, awaiting target)",
-                                gameData.id, perm.getCard().getName(), enteringCard.getName());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                            log.info("Game {} - {} triggers for {} entering (ally enchantment entered, awaiting target)",
+                                    gameData.id, perm.getCard().getName(), enteringCard.getName());
+                        }
                     }
                     continue;
                 }
@@ -7564,9 +7838,11 @@ public class TriggerCollectionService {
                     // enchantment is an Aura, you may attach it to the token").
                     triggered.setTriggeringCardId(enteringCard.getId());
                     gameData.stack.add(triggered);
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers for {} entering (ally enchantment entered)",
-                            gameData.id, perm.getCard().getName(), enteringCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers for {} entering (ally enchantment entered)",
+                                gameData.id, perm.getCard().getName(), enteringCard.getName());
+                    }
                 }
             }
         }
@@ -7622,8 +7898,10 @@ public class TriggerCollectionService {
                                 ConditionContext.forPermanent(perm, landControllerId)
                                         .withTriggeringCard(enteringLand)
                                         .withTriggeringPermanentId(enteringPermanentId))) {
-                    log.info("Game {} - {} ally-land trigger skipped ({}) not met",
-                            gameData.id, perm.getCard().getName(), conditional.conditionName());
+                    if (!gameData.simulation) {
+                        log.info("Game {} - {} ally-land trigger skipped ({}) not met",
+                                gameData.id, perm.getCard().getName(), conditional.conditionName());
+                    }
                     continue;
                 }
                 resolvedEffects.add(resolved);
@@ -7657,10 +7935,12 @@ public class TriggerCollectionService {
                             perm.getId(),
                             enteringPermanentId
                     ));
-                    gameLogService.append(gameData, GameLog.cardThen(perm.getCard(),
-                            "'s landfall ability triggers — choose a target."));
-                    log.info("Game {} - {} landfall trigger queued for target selection",
-                            gameData.id, perm.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.cardThen(perm.getCard(),
+                                "'s landfall ability triggers — choose a target."));
+                        log.info("Game {} - {} landfall trigger queued for target selection",
+                                gameData.id, perm.getCard().getName());
+                    }
                 }
                 continue;
             }
@@ -7669,8 +7949,10 @@ public class TriggerCollectionService {
                 for (int i = 0; i < permanentTriggerCount; i++) {
                     gameData.queueInteraction(new PermanentChoiceContext.TriggeredModalTrigger(
                             perm.getCard(), landControllerId, chooseOneEffect, perm.getId()));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                    log.info("Game {} - {} triggers on ally land entering", gameData.id, perm.getCard().getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                        log.info("Game {} - {} triggers on ally land entering", gameData.id, perm.getCard().getName());
+                    }
                 }
                 continue;
             }
@@ -7685,8 +7967,10 @@ public class TriggerCollectionService {
                         null,
                         perm.getId()
                 ));
-                gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
-                log.info("Game {} - {} triggers on ally land entering", gameData.id, perm.getCard().getName());
+                if (!gameData.simulation) {
+                    gameLogService.append(gameData, GameLog.abilityTriggers(perm.getCard()));
+                    log.info("Game {} - {} triggers on ally land entering", gameData.id, perm.getCard().getName());
+                }
             }
         }
 
@@ -7714,8 +7998,10 @@ public class TriggerCollectionService {
                                 new ArrayList<>(List.of(resolved))
                         ));
                     }
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} graveyard landfall trigger queued", gameData.id, card.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} graveyard landfall trigger queued", gameData.id, card.getName());
+                    }
                 }
             }
         }
@@ -7743,9 +8029,11 @@ public class TriggerCollectionService {
                     new PutVoyageCounterOnExiledCardEffect(),
                     "Put a voyage counter on Cosima?",
                     new ReturnVoyagingCardFromExileEffect()));
-            gameLogService.append(gameData, GameLog.abilityTriggers(exiled.card()));
-            log.info("Game {} - {} exiled voyage landfall trigger queued", gameData.id,
-                    exiled.card().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(exiled.card()));
+                log.info("Game {} - {} exiled voyage landfall trigger queued", gameData.id,
+                        exiled.card().getName());
+            }
         }
     }
 
@@ -7762,8 +8050,10 @@ public class TriggerCollectionService {
                     for (int i = 0; i < triggerCount; i++) {
                         gameData.queueMayAbility(sourceCard, emblem.controllerId(),
                                 new MayEffect(new DrawCardEffect(1), "Draw a card?"));
-                        gameLogService.append(gameData, GameLog.text(description + " triggers."));
-                        log.info("Game {} - {} landfall draw trigger queued", gameData.id, description);
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData, GameLog.text(description + " triggers."));
+                            log.info("Game {} - {} landfall draw trigger queued", gameData.id, description);
+                        }
                     }
                 } else if (effect instanceof DealDamageToAnyTargetOnAllyLandEntersEffect damageTrigger
                         && enteringLand.getSubtypes().contains(damageTrigger.landSubtype())) {
@@ -7773,11 +8063,13 @@ public class TriggerCollectionService {
                                 emblem.controllerId(),
                                 new ArrayList<>(List.of(new DealDamageToAnyTargetEffect(damageTrigger.damage())))
                         ));
-                        gameLogService.append(gameData,
-                                GameLog.text(description + " triggers — choose a target for "
-                                        + damageTrigger.damage() + " damage."));
-                        log.info("Game {} - {} landfall damage trigger queued ({})",
-                                gameData.id, description, damageTrigger.damage());
+                        if (!gameData.simulation) {
+                            gameLogService.append(gameData,
+                                    GameLog.text(description + " triggers — choose a target for "
+                                            + damageTrigger.damage() + " damage."));
+                            log.info("Game {} - {} landfall damage trigger queued ({})",
+                                    gameData.id, description, damageTrigger.damage());
+                        }
                     }
                 }
             }
@@ -7863,10 +8155,12 @@ public class TriggerCollectionService {
                             perm.getCard().getName() + "'s ability",
                             new ArrayList<>(List.of(effect))
                     ));
-                    gameLogService.append(gameData, GameLog.cardTextCard(perm.getCard(), "'s ability triggers (",
-                            enteringPermanentCard, " entered from a graveyard)."));
-                    log.info("Game {} - {} triggers ({} entered from graveyard)",
-                            gameData.id, perm.getCard().getName(), enteringPermanentCard.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.cardTextCard(perm.getCard(), "'s ability triggers (",
+                                enteringPermanentCard, " entered from a graveyard)."));
+                        log.info("Game {} - {} triggers ({} entered from graveyard)",
+                                gameData.id, perm.getCard().getName(), enteringPermanentCard.getName());
+                    }
                 }
             }
         });
@@ -7924,9 +8218,11 @@ public class TriggerCollectionService {
                     ));
                 }
             }
-            gameLogService.append(gameData, GameLog.cardThen(enteringCard,
-                    "'s ability triggers (it entered from a graveyard)."));
-            log.info("Game {} - {} triggers (it entered from a graveyard)", gameData.id, enteringCard.getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.cardThen(enteringCard,
+                        "'s ability triggers (it entered from a graveyard)."));
+                log.info("Game {} - {} triggers (it entered from a graveyard)", gameData.id, enteringCard.getName());
+            }
         }
 
         if (gameData.hasPendingInteraction(PermanentChoiceContext.ETBTokenTargetTrigger.class)
@@ -7966,9 +8262,11 @@ public class TriggerCollectionService {
                             card.getName() + "'s ability",
                             new ArrayList<>(List.of(effect))
                     ));
-                    gameLogService.append(gameData, GameLog.abilityTriggers(card));
-                    log.info("Game {} - {} triggers ({} entered from its graveyard or was cast from it)",
-                            gameData.id, card.getName(), enteringCreature.getName());
+                    if (!gameData.simulation) {
+                        gameLogService.append(gameData, GameLog.abilityTriggers(card));
+                        log.info("Game {} - {} triggers ({} entered from its graveyard or was cast from it)",
+                                gameData.id, card.getName(), enteringCreature.getName());
+                    }
                 }
             }
         });
@@ -8044,9 +8342,11 @@ public class TriggerCollectionService {
             entry.setTriggeringPermanentToughnessAtTrigger(enteringToughness);
             entry.setNonTargeting(true);
             gameData.enqueueTrigger(entry);
-            gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
-            log.info("Game {} - {} triggers evolve for {} entering", gameData.id,
-                    source.getCard().getName(), enteringPermanent.getCard().getName());
+            if (!gameData.simulation) {
+                gameLogService.append(gameData, GameLog.abilityTriggers(source.getCard()));
+                log.info("Game {} - {} triggers evolve for {} entering", gameData.id,
+                        source.getCard().getName(), enteringPermanent.getCard().getName());
+            }
         }
     }
 
@@ -8072,9 +8372,11 @@ public class TriggerCollectionService {
             if (!conditional.testEnteringPermanent(enteringPermanent)) {
                 return null;
             }
-            log.info("Game {} - {} triggers for {} entering ({})",
-                    gameData.id, source.getCard().getName(),
-                    enteringCreature.getName(), conditional.triggerDescription(enteringCreature));
+            if (!gameData.simulation) {
+                log.info("Game {} - {} triggers for {} entering ({})",
+                        gameData.id, source.getCard().getName(),
+                        enteringCreature.getName(), conditional.triggerDescription(enteringCreature));
+            }
             return conditional.wrapped();
         }
         return effect;
@@ -8224,8 +8526,10 @@ public class TriggerCollectionService {
                     manaSpent,
                     perm.getId()
             ));
-            log.info("Game {} - {} increment trigger queued (mana spent {})",
-                    gameData.id, perm.getCard().getName(), manaSpent);
+            if (!gameData.simulation) {
+                log.info("Game {} - {} increment trigger queued (mana spent {})",
+                        gameData.id, perm.getCard().getName(), manaSpent);
+            }
         });
     }
 
@@ -8312,8 +8616,10 @@ public class TriggerCollectionService {
             gameData.enqueueTrigger(new StackEntry(StackEntryType.TRIGGERED_ABILITY, plottedCard,
                     plottingPlayerId, plottedCard.getName() + "'s ability", new ArrayList<>(effects)));
         }
-        gameLogService.append(gameData, GameLog.cardThen(plottedCard,
-                " became plotted — its ability triggers!"));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.cardThen(plottedCard,
+                    " became plotted — its ability triggers!"));
+        }
     }
 
     public void processNextPlotTrigger(GameData gameData) {
@@ -8396,7 +8702,9 @@ public class TriggerCollectionService {
         entry.setTriggeringPermanentId(dyingPermanent.getId());
         entry.setTriggeringPermanentPowerAtTrigger(dyingPower);
         gameData.stack.add(entry);
-        gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+        if (!gameData.simulation) {
+            gameLogService.append(gameData, GameLog.abilityTriggers(watcher.getCard()));
+        }
     }
 
     private int countCountersOnPermanent(Permanent permanent) {
@@ -0,0 +1,383 @@
+package com.github.laxika.magicalvibes.service.trigger;
+
+import com.github.laxika.magicalvibes.model.Card;
+import com.github.laxika.magicalvibes.model.EffectSlot;
+import com.github.laxika.magicalvibes.model.Emblem;
+import com.github.laxika.magicalvibes.model.ExiledCardEntry;
+import com.github.laxika.magicalvibes.model.GameData;
+import com.github.laxika.magicalvibes.model.Permanent;
+import com.github.laxika.magicalvibes.model.ZoneStamp;
+import com.github.laxika.magicalvibes.model.effect.CardEffect;
+import com.github.laxika.magicalvibes.model.effect.GrantTriggeredAbilityEffect;
+import com.github.laxika.magicalvibes.model.layer.FloatingContinuousEffect;
+import com.github.laxika.magicalvibes.service.battlefield.GameQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-game index from {@link EffectSlot} to the permanents and graveyard cards that can trigger
+ * from it, so a trigger check visits its listeners instead of every permanent on the board.
+ *
+ * <p>A permanent listens to a slot when its current card has effects printed in that slot
+ * (copy and transform swaps included — the index reads {@code permanent.getCard()}). Triggered
+ * abilities granted continuously ({@link GrantTriggeredAbilityEffect}, from a permanent's
+ * static abilities, an emblem, a floating effect or a static granted on the permanent itself)
+ * cannot be attributed to a target without running the layered assembly, so the index records
+ * only <em>which slots</em> some source could grant; for those slots every permanent is a
+ * listener, exactly as before the index existed.
+ *
+ * <p>The snapshot stored in {@code GameData.triggerListenerIndex} is kept in parts, one per
+ * battlefield and graveyard plus one for emblems, floating effects and exile, and each part is
+ * maintained by the writes to what it read rather than by the zone-move services: the zone lists
+ * count their inserts, removals and reorders, a permanent on a battlefield reports its card swaps
+ * and granted triggered effects into its list's count, and the three game-wide lists count their
+ * own writes ({@link ZoneStamp}, {@link GameData#grantSourceRevision()}). A read compares a
+ * handful of counts; a zone whose count moved is re-read alone, the other parts are reused.
+ *
+ * <p>Escape hatches: {@code -DdisableTriggerListenerIndex=true} makes every permanent a listener
+ * again; {@code -DverifyTriggerListenerIndex=true} rebuilds the index on every read and fails
+ * loudly when the cached snapshot disagrees. {@link #findInconsistency} is the fuzz-test check.
+ */
+@Component
+@RequiredArgsConstructor
+public class TriggerListenerIndex {
+
+    private static final boolean INDEX_DISABLED = Boolean.getBoolean("disableTriggerListenerIndex");
+    private static final boolean VERIFY = Boolean.getBoolean("verifyTriggerListenerIndex");
+
+    /** Nesting bound for the grant scan — wrapper effects are never deeper than a few levels. */
+    private static final int MAX_EFFECT_NESTING = 8;
+
+    private final GameQueryService gameQueryService;
+
+    /**
+     * What one battlefield or graveyard contributes: its listeners per slot and the slots its
+     * statics could grant. {@code opaque} is set when one of them could not be inspected.
+     */
+    record ZoneListeners<E>(ZoneStamp stamp, Map<EffectSlot, List<E>> bySlot,
+                            Set<EffectSlot> grantableSlots, boolean opaque) {
+    }
+
+    /** The slots emblems, floating effects and exiled cards could grant, as of {@code revision}. */
+    record GameWideGrants(long revision, Set<EffectSlot> grantableSlots, boolean opaque) {
+    }
+
+    /**
+     * One version of the index. {@code allSlotsGrantable} is set when a grant source could not be
+     * inspected; every slot then falls back to the full board.
+     */
+    record Snapshot(List<UUID> playerIds,
+                    Map<UUID, ZoneListeners<Permanent>> battlefields,
+                    Map<UUID, ZoneListeners<Card>> graveyards,
+                    GameWideGrants gameWideGrants,
+                    Set<EffectSlot> grantableSlots,
+                    boolean allSlotsGrantable) {
+
+        boolean grantable(EffectSlot slot) {
+            return allSlotsGrantable || grantableSlots.contains(slot);
+        }
+
+        /** Whether no zone this snapshot read has been written since. O(players). */
+        boolean isCurrent(GameData gameData) {
+            if (gameWideGrants.revision() != gameData.grantSourceRevision()
+                    || !playerIds.equals(gameData.orderedPlayerIds)) {
+                return false;
+            }
+            for (UUID playerId : playerIds) {
+                if (!battlefields.get(playerId).stamp().isCurrent(gameData, gameData.playerBattlefields.get(playerId))
+                        || !graveyards.get(playerId).stamp().isCurrent(gameData, gameData.playerGraveyards.get(playerId))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The permanents on {@code controllerId}'s battlefield that can trigger from {@code slot},
+     * in battlefield order. The list is a snapshot, safe to iterate while triggers are queued.
+     */
+    public List<Permanent> battlefieldListeners(GameData gameData, UUID controllerId, EffectSlot slot) {
+        List<Permanent> battlefield = gameData.playerBattlefields.get(controllerId);
+        if (battlefield == null || battlefield.isEmpty()) {
+            return List.of();
+        }
+        if (INDEX_DISABLED) {
+            return List.copyOf(battlefield);
+        }
+        Snapshot snapshot = snapshot(gameData);
+        if (snapshot.grantable(slot)) {
+            return List.copyOf(battlefield);
+        }
+        ZoneListeners<Permanent> listeners = snapshot.battlefields().get(controllerId);
+        return listeners == null ? List.of() : listeners.bySlot().getOrDefault(slot, List.of());
+    }
+
+    /**
+     * Every permanent that can trigger from {@code slot}, with its controller, in
+     * {@link GameData#forEachPermanent} order.
+     */
+    public void forEachListener(GameData gameData, EffectSlot slot, BiConsumer<UUID, Permanent> action) {
+        for (UUID playerId : List.copyOf(gameData.orderedPlayerIds)) {
+            for (Permanent permanent : battlefieldListeners(gameData, playerId, slot)) {
+                action.accept(playerId, permanent);
+            }
+        }
+    }
+
+    /** The cards in {@code ownerId}'s graveyard with effects printed in {@code slot}, in graveyard order. */
+    public List<Card> graveyardListeners(GameData gameData, UUID ownerId, EffectSlot slot) {
+        List<Card> graveyard = gameData.playerGraveyards.get(ownerId);
+        if (graveyard == null || graveyard.isEmpty()) {
+            return List.of();
+        }
+        if (INDEX_DISABLED) {
+            return List.copyOf(graveyard);
+        }
+        ZoneListeners<Card> listeners = snapshot(gameData).graveyards().get(ownerId);
+        return listeners == null ? List.of() : listeners.bySlot().getOrDefault(slot, List.of());
+    }
+
+    /**
+     * Consistency check for the fuzz tests: the stored snapshot must equal a fresh build, and
+     * every triggered ability the layered assembly actually grants must fall in a slot the
+     * snapshot treats as grantable. Returns a description of the first violation, or
+     * {@code null}.
+     */
+    public String findInconsistency(GameData gameData) {
+        if (INDEX_DISABLED) {
+            return null;
+        }
+        Snapshot cached = snapshot(gameData);
+        Snapshot fresh = refresh(gameData, null);
+        if (!sameListeners(cached, fresh)) {
+            return "invariant violated: trigger listener index is stale — cached " + describe(cached)
+                    + ", rebuilt " + describe(fresh);
+        }
+        if (fresh.allSlotsGrantable()) {
+            return null;
+        }
+        return gameQueryService.withQueryScope(gameData, () -> {
+            for (UUID playerId : gameData.orderedPlayerIds) {
+                for (Permanent permanent : gameData.playerBattlefields.getOrDefault(playerId, List.of())) {
+                    for (CardEffect granted : gameQueryService.computeStaticBonus(gameData, permanent).grantedEffects()) {
+                        if (granted instanceof GrantTriggeredAbilityEffect grant && !fresh.grantable(grant.slot())) {
+                            return "invariant violated: " + permanent.getCard().getName()
+                                    + " is granted a " + grant.slot() + " trigger the listener index does not see";
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    // --- Snapshot maintenance ---
+
+    private Snapshot snapshot(GameData gameData) {
+        Snapshot cached = gameData.triggerListenerIndex instanceof Snapshot stored ? stored : null;
+        Snapshot current = cached != null && cached.isCurrent(gameData) ? cached : refresh(gameData, cached);
+        if (VERIFY) {
+            Snapshot fresh = refresh(gameData, null);
+            if (!sameListeners(current, fresh)) {
+                throw new IllegalStateException("Trigger listener index diverged from a rebuild: cached "
+                        + describe(current) + ", rebuilt " + describe(fresh));
+            }
+        }
+        if (current != cached) {
+            gameData.triggerListenerIndex = current;
+        }
+        return current;
+    }
+
+    /** A snapshot of the game as it is now, reusing every part of {@code previous} that is still current. */
+    private static Snapshot refresh(GameData gameData, Snapshot previous) {
+        long grantRevision = gameData.grantSourceRevision();
+        GameWideGrants gameWideGrants = previous != null && previous.gameWideGrants().revision() == grantRevision
+                ? previous.gameWideGrants() : readGameWideGrants(gameData, grantRevision);
+        Set<EffectSlot> grantableSlots = EnumSet.copyOf(gameWideGrants.grantableSlots());
+        boolean opaque = gameWideGrants.opaque();
+
+        List<UUID> playerIds = List.copyOf(gameData.orderedPlayerIds);
+        Map<UUID, ZoneListeners<Permanent>> battlefields = new HashMap<>();
+        Map<UUID, ZoneListeners<Card>> graveyards = new HashMap<>();
+        for (UUID playerId : playerIds) {
+            List<Permanent> battlefield = gameData.playerBattlefields.get(playerId);
+            ZoneListeners<Permanent> battlefieldListeners = previous == null ? null : previous.battlefields().get(playerId);
+            if (battlefieldListeners == null || !battlefieldListeners.stamp().isCurrent(gameData, battlefield)) {
+                battlefieldListeners = readBattlefield(gameData, battlefield);
+            }
+            battlefields.put(playerId, battlefieldListeners);
+
+            List<Card> graveyard = gameData.playerGraveyards.get(playerId);
+            ZoneListeners<Card> graveyardListeners = previous == null ? null : previous.graveyards().get(playerId);
+            if (graveyardListeners == null || !graveyardListeners.stamp().isCurrent(gameData, graveyard)) {
+                graveyardListeners = readGraveyard(gameData, graveyard);
+            }
+            graveyards.put(playerId, graveyardListeners);
+
+            grantableSlots.addAll(battlefieldListeners.grantableSlots());
+            grantableSlots.addAll(graveyardListeners.grantableSlots());
+            opaque |= battlefieldListeners.opaque() || graveyardListeners.opaque();
+        }
+        return new Snapshot(playerIds, battlefields, graveyards, gameWideGrants, grantableSlots, opaque);
+    }
+
+    private static ZoneListeners<Permanent> readBattlefield(GameData gameData, List<Permanent> battlefield) {
+        ZoneStamp stamp = ZoneStamp.of(gameData, battlefield);
+        Map<EffectSlot, List<Permanent>> bySlot = new EnumMap<>(EffectSlot.class);
+        GrantScan grants = new GrantScan();
+        if (battlefield != null) {
+            for (Permanent permanent : List.copyOf(battlefield)) {
+                Card card = permanent.getCard();
+                for (EffectSlot slot : card.getEffectSlots()) {
+                    bySlot.computeIfAbsent(slot, ignored -> new ArrayList<>()).add(permanent);
+                }
+                grants.scan(card.getEffects(EffectSlot.STATIC));
+                grants.scan(permanent.getTemporaryTriggeredEffects(EffectSlot.STATIC));
+                grants.scan(permanent.getPersistentTriggeredEffects(EffectSlot.STATIC));
+            }
+        }
+        bySlot.replaceAll((slot, permanents) -> List.copyOf(permanents));
+        return new ZoneListeners<>(stamp, bySlot, grants.slots, grants.opaque);
+    }
+
+    private static ZoneListeners<Card> readGraveyard(GameData gameData, List<Card> graveyard) {
+        ZoneStamp stamp = ZoneStamp.of(gameData, graveyard);
+        Map<EffectSlot, List<Card>> bySlot = new EnumMap<>(EffectSlot.class);
+        GrantScan grants = new GrantScan();
+        if (graveyard != null) {
+            for (Card card : List.copyOf(graveyard)) {
+                for (EffectSlot slot : card.getEffectSlots()) {
+                    bySlot.computeIfAbsent(slot, ignored -> new ArrayList<>()).add(card);
+                }
+                // Statics that work from the graveyard are still statics.
+                grants.scan(card.getEffects(EffectSlot.STATIC));
+            }
+        }
+        bySlot.replaceAll((slot, cards) -> List.copyOf(cards));
+        return new ZoneListeners<>(stamp, bySlot, grants.slots, grants.opaque);
+    }
+
+    private static GameWideGrants readGameWideGrants(GameData gameData, long revision) {
+        GrantScan grants = new GrantScan();
+        synchronized (gameData.emblems) {
+            for (Emblem emblem : gameData.emblems) {
+                grants.scan(emblem.staticEffects());
+            }
+        }
+        synchronized (gameData.floatingEffects) {
+            for (FloatingContinuousEffect floating : gameData.floatingEffects) {
+                grants.scan(floating.effect(), 0);
+            }
+        }
+        // Exiled cards can lend their statics to a permanent (GainKeywordsOfCreatureCardsExiledWithSource).
+        synchronized (gameData.exiledCards) {
+            for (ExiledCardEntry entry : gameData.exiledCards) {
+                grants.scan(entry.card().getEffects(EffectSlot.STATIC));
+            }
+        }
+        return new GameWideGrants(revision, grants.slots, grants.opaque);
+    }
+
+    private static boolean sameListeners(Snapshot a, Snapshot b) {
+        if (a.allSlotsGrantable() != b.allSlotsGrantable()
+                || !a.grantableSlots().equals(b.grantableSlots())
+                || !a.playerIds().equals(b.playerIds())) {
+            return false;
+        }
+        for (UUID playerId : a.playerIds()) {
+            if (!a.battlefields().get(playerId).bySlot().equals(b.battlefields().get(playerId).bySlot())
+                    || !a.graveyards().get(playerId).bySlot().equals(b.graveyards().get(playerId).bySlot())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Snapshot snapshot) {
+        int battlefieldEntries = 0;
+        for (ZoneListeners<Permanent> battlefield : snapshot.battlefields().values()) {
+            for (List<Permanent> permanents : battlefield.bySlot().values()) {
+                battlefieldEntries += permanents.size();
+            }
+        }
+        return battlefieldEntries + " battlefield listener entries, grantable "
+                + (snapshot.allSlotsGrantable() ? "ALL" : snapshot.grantableSlots());
+    }
+
+    /**
+     * Collects the slots of every {@link GrantTriggeredAbilityEffect} reachable from a set of
+     * static effects, looking through wrappers ({@code ConditionalEffect}, {@code GrantEffectEffect},
+     * …) by their record components — effects are records, and a wrapper added later is seen
+     * without this class having to learn about it.
+     */
+    private static final class GrantScan {
+
+        private static final ClassValue<List<Method>> NESTED_EFFECT_ACCESSORS = new ClassValue<>() {
+            @Override
+            protected List<Method> computeValue(Class<?> type) {
+                if (!type.isRecord()) {
+                    return List.of();
+                }
+                List<Method> accessors = new ArrayList<>();
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (CardEffect.class.isAssignableFrom(component.getType())
+                            || Collection.class.isAssignableFrom(component.getType())) {
+                        accessors.add(component.getAccessor());
+                    }
+                }
+                return List.copyOf(accessors);
+            }
+        };
+
+        private final Set<EffectSlot> slots = EnumSet.noneOf(EffectSlot.class);
+        private boolean opaque;
+
+        void scan(List<CardEffect> effects) {
+            for (CardEffect effect : effects) {
+                scan(effect, 0);
+            }
+        }
+
+        void scan(Object value, int depth) {
+            if (opaque || depth > MAX_EFFECT_NESTING) {
+                return;
+            }
+            if (value instanceof Collection<?> collection) {
+                for (Object element : collection) {
+                    scan(element, depth + 1);
+                }
+                return;
+            }
+            if (!(value instanceof CardEffect)) {
+                return;
+            }
+            if (value instanceof GrantTriggeredAbilityEffect grant) {
+                slots.add(grant.slot());
+            }
+            for (Method accessor : NESTED_EFFECT_ACCESSORS.get(value.getClass())) {
+                try {
+                    scan(accessor.invoke(value), depth + 1);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // An effect we cannot look into might grant anything: give up on indexing grants.
+                    opaque = true;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -79,7 +79,7 @@ class GameLogServiceTest {
     }
 
     @Test
-    void simulationAppendsLocallyAndAllocatesFactsWithoutDispatchingThem() {
+    void simulationKeepsNoLogAndAssemblesNoFacts() {
         GameData gameData = gameData();
         gameData.simulation = true;
         List<GameEventBatch> received = new ArrayList<>();
@@ -89,10 +89,10 @@ class GameLogServiceTest {
 
         coordinator.mutate(gameData, () -> service.append(gameData, entry));
 
-        assertThat(gameData.gameLog).containsExactly(entry);
+        assertThat(gameData.gameLog).isEmpty();
         assertThat(gameData.domainActionSequence()).isEqualTo(1);
         assertThat(gameData.domainStateVersion()).isEqualTo(1);
-        assertThat(gameData.domainEventSequence()).isEqualTo(2);
+        assertThat(gameData.domainEventSequence()).isZero();
         assertThat(received).isEmpty();
     }
 
@@ -218,21 +218,59 @@ class GameMutationCoordinatorTest {
     }
 
     @Test
-    void simulationCommitsLocalOrderingButPerformsNoExternalDispatch() {
+    void simulationCommitsLocalOrderingButAssemblesNoBatch() {
         GameData gameData = gameData();
         gameData.simulation = true;
         AtomicInteger subscriberInvocations = new AtomicInteger();
         GameMutationCoordinator coordinator = coordinator(batch -> subscriberInvocations.incrementAndGet());
 
-        coordinator.mutate(gameData, () ->
-                coordinator.emit(gameData, new GameEventFact.DecisionRequested(
-                                UUID.randomUUID(), PLAYER_1, GameEventFact.DecisionKind.ATTACKER_DECLARATION),
-                        GameEventAudience.player(PLAYER_1)));
+        coordinator.mutate(gameData, () -> {
+            assertThat(coordinator.isInAction(gameData)).isTrue();
+            coordinator.mutate(gameData, () ->
+                    coordinator.emit(gameData, new GameEventFact.DecisionRequested(
+                                    UUID.randomUUID(), PLAYER_1, GameEventFact.DecisionKind.ATTACKER_DECLARATION),
+                            GameEventAudience.player(PLAYER_1)));
+        });
 
         assertThat(subscriberInvocations).hasValue(0);
+        assertThat(coordinator.isInAction(gameData)).isFalse();
         assertThat(gameData.domainActionSequence()).isEqualTo(1);
         assertThat(gameData.domainStateVersion()).isEqualTo(1);
-        assertThat(gameData.domainEventSequence()).isEqualTo(1);
+        // No envelopes are built for a simulation copy, so no event sequence is allocated
+        assertThat(gameData.domainEventSequence()).isZero();
+    }
+
+    @Test
+    void simulationScopeStillRejectsUnsafeEmissions() {
+        GameData gameData = gameData();
+        gameData.simulation = true;
+        GameMutationCoordinator coordinator = coordinator(batch -> {
+        });
+
+        assertThatThrownBy(() -> coordinator.emit(gameData,
+                new GameEventFact.StateInvalidated(GameEventFact.StateSection.BATTLEFIELD),
+                GameEventAudience.allPlayers()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("mutation scope");
+        assertThatThrownBy(() -> coordinator.mutate(gameData, () ->
+                coordinator.emit(gameData, privateReveal("Hidden"), GameEventAudience.allPlayers())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void eachGameOwnsItsOrderingState() {
+        GameData live = gameData();
+        GameData simulated = gameData();
+        simulated.simulation = true;
+        GameMutationCoordinator coordinator = coordinator(batch -> {
+        });
+
+        coordinator.mutate(live, () -> {
+        });
+        coordinator.mutate(simulated, () -> assertThat(coordinator.isInAction(live)).isFalse());
+
+        assertThat(live.mutationActionState).isNotNull();
+        assertThat(simulated.mutationActionState).isNotNull().isNotSameAs(live.mutationActionState);
     }
 
     @Test
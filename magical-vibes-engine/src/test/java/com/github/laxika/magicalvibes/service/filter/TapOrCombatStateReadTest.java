@@ -0,0 +1,77 @@
+package com.github.laxika.magicalvibes.service.filter;
+
+import com.github.laxika.magicalvibes.model.filter.PermanentBlockedBySourcePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentBlockingSourcePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentInCombatWithSourcePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsAttackingOpponentOfSourceControllerPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsAttackingPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsAttackingSourceControllerPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsBlockedPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsBlockingPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsCreaturePredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsTappedPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentIsUnblockedAttackingPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentNotPredicate;
+import com.github.laxika.magicalvibes.model.filter.PermanentPredicate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The layered board cache ignores tap and combat changes for boards that never read them, so a
+ * predicate wrongly reported as independent serves a stale board. Walks every
+ * {@link PermanentPredicate} subtype so a new one cannot slip through unclassified.
+ */
+class TapOrCombatStateReadTest {
+
+    private static final Set<Class<? extends PermanentPredicate>> KNOWN_DEPENDENT = Set.of(
+            PermanentIsTappedPredicate.class, PermanentIsAttackingPredicate.class,
+            PermanentIsAttackingOpponentOfSourceControllerPredicate.class,
+            PermanentIsAttackingSourceControllerPredicate.class, PermanentIsBlockingPredicate.class,
+            PermanentIsBlockedPredicate.class, PermanentIsUnblockedAttackingPredicate.class,
+            PermanentBlockedBySourcePredicate.class, PermanentBlockingSourcePredicate.class,
+            PermanentInCombatWithSourcePredicate.class);
+
+    private static final Pattern TAP_OR_COMBAT_NAME = Pattern.compile("Tapped|Attack|Block|Combat|Defending");
+
+    @Test
+    void everyTapOrCombatPredicateCountsAsARead() {
+        List<String> missed = new ArrayList<>();
+        for (Class<? extends PermanentPredicate> type : permittedSubtypes()) {
+            boolean dependentByName = TAP_OR_COMBAT_NAME.matcher(type.getSimpleName()).find();
+            if ((KNOWN_DEPENDENT.contains(type) || dependentByName)
+                    && !PredicateEvaluationService.readsTapOrCombatState(type)) {
+                missed.add(type.getSimpleName());
+            }
+        }
+
+        assertThat(missed).as("tap/combat predicates reported as independent").isEmpty();
+    }
+
+    @Test
+    void everyPermittedSubtypeIsClassified() {
+        List<Class<? extends PermanentPredicate>> subtypes = permittedSubtypes();
+
+        assertThat(subtypes).containsAll(KNOWN_DEPENDENT);
+        assertThat(subtypes.stream().filter(PredicateEvaluationService::readsTapOrCombatState))
+                .as("default-deny leaves some subtypes counted as reads")
+                .isNotEmpty();
+        assertThat(subtypes.stream().filter(type -> !PredicateEvaluationService.readsTapOrCombatState(type)))
+                .as("the characteristic leaves stay independent")
+                .contains(PermanentIsCreaturePredicate.class, PermanentNotPredicate.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Class<? extends PermanentPredicate>> permittedSubtypes() {
+        List<Class<? extends PermanentPredicate>> subtypes = new ArrayList<>();
+        for (Class<?> type : PermanentPredicate.class.getPermittedSubclasses()) {
+            subtypes.add((Class<? extends PermanentPredicate>) type);
+        }
+        return subtypes;
+    }
+}
@@ -1,5 +1,6 @@
 import { Injectable } from '@angular/core';
 import { Observable, Subject } from 'rxjs';
+import { applyGameStatePatch, GameStatePatchOperation } from '../utils/game-state-patch';
 
 export enum MessageType {
   LOGIN = 'LOGIN',
@@ -63,7 +64,9 @@ export enum MessageType {
   LOBBY_GAMES_RESPONSE = 'LOBBY_GAMES_RESPONSE',
   GAME_REMOVED = 'GAME_REMOVED',
   SAVE_DECK = 'SAVE_DECK',
-  SAVE_DECK_RESPONSE = 'SAVE_DECK_RESPONSE'
+  SAVE_DECK_RESPONSE = 'SAVE_DECK_RESPONSE',
+  GAME_STATE_PATCH = 'GAME_STATE_PATCH',
+  REQUEST_GAME_STATE = 'REQUEST_GAME_STATE'
 }
 
 export enum GameStatus {
@@ -435,6 +438,14 @@ export interface GameStateNotification {
   searchTaxCost: number;
   mindControlledPlayerId?: string | null;
   revealedLibraryTopCards: Card[][];
+  stateVersion?: number;
+}
+
+export interface GameStatePatchNotification {
+  type: MessageType;
+  baseVersion: number;
+  stateVersion: number;
+  operations: GameStatePatchOperation[];
 }
 
 export interface MulliganResolvedNotification {
@@ -680,6 +691,9 @@ export class WebsocketService {
   private messages = new Subject<WebSocketMessage>();
   private disconnected = new Subject<void>();
   private authenticated = false;
+  // Last full game state, kept so GAME_STATE_PATCH messages can be applied to it
+  private gameStateBaseline: GameStateNotification | null = null;
+  private gameStateRequested = false;
 
   currentUser: User | null = null;
   currentGame: Game | null = null;
@@ -708,7 +722,8 @@ export class WebsocketService {
         this.ws!.send(JSON.stringify({
           type: MessageType.LOGIN,
           username: username,
-          password: password
+          password: password,
+          gameStatePatches: true
         }));
       };
 
@@ -759,6 +774,20 @@ export class WebsocketService {
             this.pendingGameInputMessage = message;
           }
 
+          if (message.type === MessageType.GAME_STATE_PATCH) {
+            const patched = this.applyGameStatePatch(message as GameStatePatchNotification);
+            if (patched) {
+              this.messages.next(patched);
+            }
+            return;
+          }
+          if (message.type === MessageType.GAME_STATE) {
+            this.gameStateBaseline = structuredClone(message as GameStateNotification);
+            this.gameStateRequested = false;
+          } else if (message.type === MessageType.GAME_JOINED) {
+            this.gameStateBaseline = null;
+          }
+
           // After authenticated, forward everything to the messages stream
           this.messages.next(message);
         } catch (error) {
@@ -855,8 +884,28 @@ export class WebsocketService {
     return this.authenticated && this.ws !== null && this.ws.readyState === WebSocket.OPEN;
   }
 
+  /**
+   * Rebuilds the full game state from a patch. A patch against a version this client does not
+   * hold (a dropped or reordered message) is discarded and a full state is requested instead.
+   */
+  private applyGameStatePatch(patch: GameStatePatchNotification): GameStateNotification | null {
+    const baseline = this.gameStateBaseline;
+    if (!baseline || baseline.stateVersion !== patch.baseVersion) {
+      this.gameStateBaseline = null;
+      if (!this.gameStateRequested) {
+        this.gameStateRequested = true;
+        this.send({ type: MessageType.REQUEST_GAME_STATE });
+      }
+      return null;
+    }
+    applyGameStatePatch(baseline, patch.operations);
+    return structuredClone(baseline);
+  }
+
   private cleanup(): void {
     this.ws = null;
+    this.gameStateBaseline = null;
+    this.gameStateRequested = false;
     this.currentUser = null;
     this.currentGame = null;
     this.initialGames = [];
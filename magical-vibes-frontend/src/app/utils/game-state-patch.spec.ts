@@ -0,0 +1,45 @@
+import { describe, expect, it } from 'vitest';
+
+import { applyGameStatePatch } from './game-state-patch';
+
+describe('applyGameStatePatch', () => {
+  it('replaces, adds and removes nested values', () => {
+    const state = {
+      lifeTotals: [20, 20],
+      battlefields: [[{ id: 'a', tapped: false }, { id: 'b', tapped: false }], []],
+      searchTaxCost: 1,
+    };
+
+    applyGameStatePatch(state, [
+      { op: 'replace', path: '/lifeTotals/1', value: 17 },
+      { op: 'replace', path: '/battlefields/0/0/tapped', value: true },
+      { op: 'remove', path: '/battlefields/0/1' },
+      { op: 'add', path: '/battlefields/1/0', value: { id: 'c', tapped: false } },
+      { op: 'remove', path: '/searchTaxCost' },
+    ]);
+
+    expect(state).toEqual({
+      lifeTotals: [20, 17],
+      battlefields: [[{ id: 'a', tapped: true }], [{ id: 'c', tapped: false }]],
+    });
+  });
+
+  it('removes trailing array elements from the end downward', () => {
+    const state = { hand: ['a', 'b', 'c', 'd'] };
+
+    applyGameStatePatch(state, [
+      { op: 'remove', path: '/hand/3' },
+      { op: 'remove', path: '/hand/2' },
+    ]);
+
+    expect(state.hand).toEqual(['a', 'b']);
+  });
+
+  it('unescapes JSON pointer tokens', () => {
+    const state: { potentialPayableAbilityIndices: Record<string, number[]> } = { potentialPayableAbilityIndices: {} };
+
+    applyGameStatePatch(state, [{ op: 'add', path: '/potentialPayableAbilityIndices/a~1b~0c', value: [0] }]);
+
+    expect(state.potentialPayableAbilityIndices).toEqual({ 'a/b~c': [0] });
+  });
+});
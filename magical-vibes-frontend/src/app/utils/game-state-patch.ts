@@ -0,0 +1,40 @@
+/**
+ * One RFC 6902 operation as sent in a GAME_STATE_PATCH. The server only emits
+ * add, remove and replace.
+ */
+export interface GameStatePatchOperation {
+  op: 'add' | 'remove' | 'replace';
+  path: string;
+  value?: unknown;
+}
+
+/**
+ * Applies GAME_STATE_PATCH operations to a previously received game state, in place.
+ * e.g. [{op: 'replace', path: '/lifeTotals/1', value: 17}] sets the second life total to 17.
+ */
+export function applyGameStatePatch<T extends object>(state: T, operations: GameStatePatchOperation[]): T {
+  for (const operation of operations) {
+    const tokens = operation.path.split('/').slice(1)
+      .map(token => token.replaceAll('~1', '/').replaceAll('~0', '~'));
+    const key = tokens.pop()!;
+    let parent: any = state;
+    for (const token of tokens) {
+      parent = Array.isArray(parent) ? parent[Number(token)] : parent[token];
+    }
+    if (Array.isArray(parent)) {
+      const index = key === '-' ? parent.length : Number(key);
+      if (operation.op === 'add') {
+        parent.splice(index, 0, operation.value);
+      } else if (operation.op === 'remove') {
+        parent.splice(index, 1);
+      } else {
+        parent[index] = operation.value;
+      }
+    } else if (operation.op === 'remove') {
+      delete parent[key];
+    } else {
+      parent[key] = operation.value;
+    }
+  }
+  return state;
+}
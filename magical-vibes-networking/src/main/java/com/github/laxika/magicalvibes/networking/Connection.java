@@ -1,5 +1,9 @@
 package com.github.laxika.magicalvibes.networking;
 
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+
+import java.util.UUID;
+
 public interface Connection extends AutoCloseable {
 
     String getId();
@@ -7,4 +11,26 @@ public interface Connection extends AutoCloseable {
     boolean isOpen();
 
     void sendMessage(Object message);
+
+    /**
+     * Sends {@code message} as part of a fan-out: a connection that encodes its own frames looks
+     * the frame up in {@code encodings} first, so every recipient of the same message object
+     * shares one encoding.
+     */
+    default void sendMessage(Object message, MessageEncodingCache encodings) {
+        sendMessage(message);
+    }
+
+    /**
+     * Sends the state {@code gameId} reached at domain state version {@code stateVersion}.
+     * Connections that speak the delta protocol may send a {@code GAME_STATE_PATCH} against the
+     * last state they delivered instead; everything else sends the full message.
+     */
+    default void sendGameState(UUID gameId, long stateVersion, GameStateMessage message) {
+        sendMessage(message);
+    }
+
+    /** Opts this connection into {@code GAME_STATE_PATCH} delivery where supported. */
+    default void enableGameStatePatches() {
+    }
 }
@@ -0,0 +1,33 @@
+package com.github.laxika.magicalvibes.networking;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Wire frames encoded during one fan-out, keyed by message identity. A message sent to several
+ * connections through the same cache is encoded by the first connection and the resulting frame
+ * is handed to every other one as is, so a public message costs one serialization per fan-out
+ * instead of one per recipient.
+ *
+ * <p>Frames must be immutable once encoded — they are shared between connections and may be
+ * written long after the fan-out returned. Not thread-safe; a fan-out runs on one thread.
+ */
+public final class MessageEncodingCache {
+
+    private final Map<Object, Object> frames = new IdentityHashMap<>();
+
+    /**
+     * Returns the frame already encoded for {@code message}, or encodes it with {@code encoder}
+     * and keeps it. Callers of one cache must agree on the frame type for a message.
+     */
+    @SuppressWarnings("unchecked")
+    public <F> F frame(Object message, Function<Object, F> encoder) {
+        Object frame = frames.get(message);
+        if (frame == null) {
+            frame = encoder.apply(message);
+            frames.put(message, frame);
+        }
+        return (F) frame;
+    }
+}
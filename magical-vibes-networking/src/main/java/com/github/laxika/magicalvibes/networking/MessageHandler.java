@@ -92,6 +92,8 @@ public interface MessageHandler {
 
     void handleLeaveDraft(Connection connection) throws Exception;
 
+    void handleRequestGameState(Connection connection) throws Exception;
+
     void handleTimeout(Connection connection);
 
     void handleError(Connection connection, String message) throws Exception;
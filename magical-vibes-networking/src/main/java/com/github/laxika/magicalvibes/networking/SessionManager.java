@@ -1,6 +1,7 @@
 package com.github.laxika.magicalvibes.networking;
 
 import com.github.laxika.magicalvibes.model.Player;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
 
 import java.util.Collection;
 import java.util.UUID;
@@ -25,5 +26,15 @@ public interface SessionManager {
 
     void sendToPlayer(UUID playerId, Object message);
 
+    /** Sends one recipient's copy of a fan-out; see {@link Connection#sendMessage(Object, MessageEncodingCache)}. */
+    default void sendToPlayer(UUID playerId, Object message, MessageEncodingCache encodings) {
+        sendToPlayer(playerId, message);
+    }
+
     void sendToPlayers(Collection<UUID> playerIds, Object message);
+
+    /** Sends a versioned game state; see {@link Connection#sendGameState}. */
+    default void sendGameState(UUID playerId, UUID gameId, long stateVersion, GameStateMessage message) {
+        sendToPlayer(playerId, message);
+    }
 }
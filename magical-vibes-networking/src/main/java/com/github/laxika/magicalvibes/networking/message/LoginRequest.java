@@ -7,6 +7,8 @@ public class LoginRequest {
     private MessageType type;
     private String username;
     private String password;
+    /** The client applies {@code GAME_STATE_PATCH} deltas; older clients only get full states. */
+    private boolean gameStatePatches;
 
     public LoginRequest() {
     }
@@ -40,4 +42,12 @@ public class LoginRequest {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    public boolean isGameStatePatches() {
+        return gameStatePatches;
+    }
+
+    public void setGameStatePatches(boolean gameStatePatches) {
+        this.gameStatePatches = gameStatePatches;
+    }
 }
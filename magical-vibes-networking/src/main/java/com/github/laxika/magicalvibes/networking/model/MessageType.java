@@ -77,5 +77,7 @@ public enum MessageType {
     SAVE_DECK,
     SAVE_DECK_RESPONSE,
     INTERACTION_PROMPT,
-    INTERACTION_ANSWER
+    INTERACTION_ANSWER,
+    GAME_STATE_PATCH,
+    REQUEST_GAME_STATE
 }
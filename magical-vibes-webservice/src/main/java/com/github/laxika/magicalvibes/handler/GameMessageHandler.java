@@ -6,6 +6,7 @@ import com.github.laxika.magicalvibes.model.GameData;
 import com.github.laxika.magicalvibes.model.GameStatus;
 import com.github.laxika.magicalvibes.model.Player;
 import com.github.laxika.magicalvibes.networking.Connection;
+import com.github.laxika.magicalvibes.networking.MessageEncodingCache;
 import com.github.laxika.magicalvibes.networking.MessageHandler;
 import com.github.laxika.magicalvibes.networking.message.BottomCardsRequest;
 import com.github.laxika.magicalvibes.networking.message.CombatDamageAssignedRequest;
@@ -160,6 +161,9 @@ public class GameMessageHandler implements MessageHandler {
         log.info("Sent login response to connection {}: {}", connection.getId(), response.getType());
 
         if (response.getType() == MessageType.LOGIN_SUCCESS) {
+            if (request.isGameStatePatches()) {
+                connection.enableGameStatePatches();
+            }
             sessionManager.registerPlayer(connection, response.getUserId(), response.getUsername());
             if (response.getActiveGame() != null) {
                 GameData activeGame = gameRegistry.getGameForPlayer(response.getUserId());
@@ -887,6 +891,23 @@ public class GameMessageHandler implements MessageHandler {
         }
     }
 
+    @Override
+    public void handleRequestGameState(Connection connection) throws Exception {
+        Player player = sessionManager.getPlayer(connection.getId());
+        if (player == null) {
+            handleError(connection, "Not authenticated");
+            return;
+        }
+
+        GameData gameData = gameRegistry.getGameForPlayer(player.getId());
+        if (gameData == null) {
+            handleError(connection, "Not in a game");
+            return;
+        }
+
+        gameResyncProjectionService.sendCurrentGameState(gameData, player.getId());
+    }
+
     @Override
     public void handleLeaveGame(Connection connection) throws Exception {
         Player player = sessionManager.getPlayer(connection.getId());
@@ -985,6 +1006,7 @@ public class GameMessageHandler implements MessageHandler {
 
     private void broadcastToLobby(MessageType type, LobbyGame game) {
         LobbyGameMessage notification = new LobbyGameMessage(type, game);
+        MessageEncodingCache encodings = new MessageEncodingCache();
 
         int sentCount = 0;
 
@@ -992,7 +1014,7 @@ public class GameMessageHandler implements MessageHandler {
             try {
                 Connection playerConnection = sessionManager.getConnectionByUserId(player.getId());
                 if (playerConnection != null && playerConnection.isOpen()) {
-                    playerConnection.sendMessage(notification);
+                    playerConnection.sendMessage(notification, encodings);
                     sentCount++;
                 }
             } catch (Exception e) {
@@ -1,11 +1,11 @@
 package com.github.laxika.magicalvibes.webservice;
 
 import com.github.laxika.magicalvibes.cards.CardCatalog;
+import com.github.laxika.magicalvibes.cards.CardMetadata;
 import com.github.laxika.magicalvibes.cards.CardPrinting;
 import com.github.laxika.magicalvibes.cards.CardSet;
 import com.github.laxika.magicalvibes.entity.Deck;
 import com.github.laxika.magicalvibes.model.Card;
-import com.github.laxika.magicalvibes.model.CardSupertype;
 import com.github.laxika.magicalvibes.networking.message.DeckInfo;
 import com.github.laxika.magicalvibes.networking.message.SaveDeckRequest;
 import com.github.laxika.magicalvibes.networking.message.SaveDeckResponse;
@@ -67,14 +67,14 @@ public class DeckService implements CustomDeckSource {
         for (SaveDeckRequest.DeckEntryInfo entry : entries) {
             CardSet cardSet = requireSet(entry.setCode());
             CardPrinting printing = cardCatalog.findByCollectorNumber(cardSet, entry.collectorNumber());
-            Card card = printing.createCard();
+            CardMetadata metadata = cardCatalog.getMetadata(printing);
 
             // Basic lands are exempt from the 4-copy rule
-            if (card.getSupertypes().contains(CardSupertype.BASIC)) {
+            if (metadata.isBasic()) {
                 continue;
             }
 
-            countByName.merge(card.getName(), entry.count(), Integer::sum);
+            countByName.merge(metadata.name(), entry.count(), Integer::sum);
         }
 
         for (Map.Entry<String, Integer> e : countByName.entrySet()) {
@@ -11,12 +11,11 @@ import com.github.laxika.magicalvibes.service.cast.CastingPermissionService;
 import com.github.laxika.magicalvibes.service.combat.attack.CombatAttackService;
 import com.github.laxika.magicalvibes.service.combat.block.BlockLegalityService;
 import com.github.laxika.magicalvibes.cards.CardCatalog;
+import com.github.laxika.magicalvibes.cards.CardMetadata;
 import com.github.laxika.magicalvibes.cards.CardPrinting;
 import com.github.laxika.magicalvibes.cards.CardSet;
 import com.github.laxika.magicalvibes.model.AiDifficulty;
 import com.github.laxika.magicalvibes.model.Card;
-import com.github.laxika.magicalvibes.model.CardSupertype;
-import com.github.laxika.magicalvibes.model.CardType;
 import com.github.laxika.magicalvibes.model.DraftData;
 import com.github.laxika.magicalvibes.model.DraftStatus;
 import com.github.laxika.magicalvibes.model.GameData;
@@ -178,8 +177,7 @@ public class DraftService {
         List<CardPrinting> basicLands = new ArrayList<>();
 
         for (CardPrinting printing : cardCatalog.getPrintings(cardSet)) {
-            Card test = printing.createCard();
-            if (test.getSupertypes().contains(CardSupertype.BASIC)) {
+            if (cardCatalog.getMetadata(printing).isBasic()) {
                 basicLands.add(printing);
                 continue;
             }
@@ -531,10 +529,10 @@ public class DraftService {
     private Map<String, String> getBasicLandCollectorNumbers(CardSet cardSet) {
         Map<String, String> result = new HashMap<>();
         for (CardPrinting printing : cardCatalog.getPrintings(cardSet)) {
-            Card test = printing.createCard();
-            if (test.getSupertypes().contains(CardSupertype.BASIC) && test.hasType(CardType.LAND)) {
+            CardMetadata metadata = cardCatalog.getMetadata(printing);
+            if (metadata.isBasic() && metadata.isLand()) {
                 // Use the first collector number found for each basic land name
-                result.putIfAbsent(test.getName(), printing.collectorNumber());
+                result.putIfAbsent(metadata.name(), printing.collectorNumber());
             }
         }
         return result;
@@ -629,8 +627,7 @@ public class DraftService {
             case EASY -> new EasyAiDecisionEngine(gameData.id, aiPlayer, gameRegistry, gameService, gameQueryService, blockLegalityService, combatAttackService, actionAvailabilityService, castingCostService, castingPermissionService, targetValidationService, targetLegalityService);
         };
         String schedulerId = "ai-draft-" + gameData.id + "-" + aiPlayerId;
-        AiDecisionScheduler aiDecisionScheduler = new AiDecisionScheduler(
-                schedulerId, engine, aiDifficulty.getDecisionDelayMs());
+        AiDecisionScheduler aiDecisionScheduler = new AiDecisionScheduler(schedulerId, engine, aiDifficulty);
         aiDecisionEventSubscriber.register(gameData.id, aiPlayerId, aiDecisionScheduler);
     }
 
@@ -712,7 +709,7 @@ public class DraftService {
         gameData.playerDecks.put(playerId, deck);
         gameData.mulliganCounts.put(playerId, 0);
         gameData.playerBattlefields.put(playerId, gameData.newBattlefieldList());
-        gameData.playerGraveyards.put(playerId, new ArrayList<>());
+        gameData.playerGraveyards.put(playerId, gameData.newGraveyardList());
         gameData.playerManaPools.put(playerId, new ManaPool());
         gameData.playerLifeTotals.put(playerId, 20);
 
@@ -777,11 +774,7 @@ public class DraftService {
             log.info("Draft {} - Tournament finished! Winner: {}", draftData.id, winnerName);
 
             // Broadcast final result
-            for (UUID playerId : draftData.playerIds) {
-                if (!draftData.aiPlayerIds.contains(playerId)) {
-                    sessionManager.sendToPlayer(playerId, new DraftFinishedMessage(winnerName));
-                }
-            }
+            sessionManager.sendToPlayers(humanPlayerIds(draftData), new DraftFinishedMessage(winnerName));
 
             // Cleanup
             aiDraftEngines.keySet().removeAll(draftData.aiPlayerIds);
@@ -838,11 +831,7 @@ public class DraftService {
         String roundName = getRoundName(draftData.currentRound);
         TournamentUpdateMessage msg = new TournamentUpdateMessage(rounds, draftData.currentRound, roundName);
 
-        for (UUID playerId : draftData.playerIds) {
-            if (!draftData.aiPlayerIds.contains(playerId)) {
-                sessionManager.sendToPlayer(playerId, msg);
-            }
-        }
+        sessionManager.sendToPlayers(humanPlayerIds(draftData), msg);
     }
 
     public void sendDraftJoined(DraftData draftData, UUID playerId) {
@@ -958,5 +947,12 @@ public class DraftService {
             default -> "Round " + (roundIndex + 1);
         };
     }
+
+    /** Seated human players, the recipients of draft-wide broadcasts. */
+    private List<UUID> humanPlayerIds(DraftData draftData) {
+        return draftData.playerIds.stream()
+                .filter(playerId -> !draftData.aiPlayerIds.contains(playerId))
+                .toList();
+    }
 }
 
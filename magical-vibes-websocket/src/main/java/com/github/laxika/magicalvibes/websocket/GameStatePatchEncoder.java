@@ -0,0 +1,138 @@
+package com.github.laxika.magicalvibes.websocket;
+
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import com.github.laxika.magicalvibes.networking.model.MessageType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-connection encoder for the {@code GAME_STATE_PATCH} delta protocol.
+ *
+ * <p>It remembers the JSON tree of the last game state the connection delivered, keyed by game id
+ * and {@code GameData.domainStateVersion()}. A newer state of the same game goes out as an RFC 6902
+ * JSON Patch against that baseline:
+ * {@code {"type":"GAME_STATE_PATCH","baseVersion":b,"stateVersion":v,"operations":[...]}}.
+ * Anything else — no baseline yet (fresh or reconnected connection), another game, or a version
+ * that does not move forward — goes out as a full {@code GAME_STATE} carrying its
+ * {@code stateVersion}. A client that cannot apply a patch to the version it holds asks for a
+ * full state with {@code REQUEST_GAME_STATE}.
+ *
+ * <p>Not thread-safe; {@link WebSocketConnection} serializes encoding with queueing the frame.
+ */
+public final class GameStatePatchEncoder {
+
+    private static final String STATE_VERSION = "stateVersion";
+
+    private final ObjectMapper objectMapper;
+    private UUID baselineGameId;
+    private long baselineVersion;
+    private ObjectNode baseline;
+
+    public GameStatePatchEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Encodes {@code message} as a patch or a full versioned state and makes it the new baseline.
+     * Call {@link #reset()} if delivering the result fails.
+     */
+    public JsonNode encode(UUID gameId, long stateVersion, GameStateMessage message) {
+        ObjectNode state = objectMapper.valueToTree(message);
+        state.put(STATE_VERSION, stateVersion);
+        JsonNode wire;
+        if (baseline != null && gameId.equals(baselineGameId) && stateVersion > baselineVersion) {
+            ObjectNode patch = JsonNodeFactory.instance.objectNode();
+            patch.put("type", MessageType.GAME_STATE_PATCH.name());
+            patch.put("baseVersion", baselineVersion);
+            patch.put(STATE_VERSION, stateVersion);
+            patch.set("operations", diff(baseline, state));
+            wire = patch;
+        } else {
+            wire = state;
+        }
+        baselineGameId = gameId;
+        baselineVersion = stateVersion;
+        baseline = state;
+        return wire;
+    }
+
+    /** Forgets the baseline so the next state goes out in full. */
+    public void reset() {
+        baselineGameId = null;
+        baselineVersion = 0;
+        baseline = null;
+    }
+
+    /**
+     * RFC 6902 operations turning {@code from} into {@code to}. Objects are diffed field by field
+     * and arrays index by index; array elements that are objects with different {@code id}s are
+     * replaced whole, so a permanent leaving the middle of a battlefield does not turn every later
+     * permanent into a field-level rewrite of its neighbour.
+     */
+    public static ArrayNode diff(JsonNode from, JsonNode to) {
+        ArrayNode operations = JsonNodeFactory.instance.arrayNode();
+        diff("", from, to, operations);
+        return operations;
+    }
+
+    private static void diff(String path, JsonNode from, JsonNode to, ArrayNode operations) {
+        if (from.equals(to)) {
+            return;
+        }
+        if (from.isObject() && to.isObject() && sameIdentity(from, to)) {
+            for (Map.Entry<String, JsonNode> field : from.properties()) {
+                if (!to.has(field.getKey())) {
+                    operations.add(operation("remove", path + "/" + escape(field.getKey()), null));
+                }
+            }
+            for (Map.Entry<String, JsonNode> field : to.properties()) {
+                String fieldPath = path + "/" + escape(field.getKey());
+                JsonNode previous = from.get(field.getKey());
+                if (previous == null) {
+                    operations.add(operation("add", fieldPath, field.getValue()));
+                } else {
+                    diff(fieldPath, previous, field.getValue(), operations);
+                }
+            }
+        } else if (from.isArray() && to.isArray()) {
+            int common = Math.min(from.size(), to.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + "/" + i, from.get(i), to.get(i), operations);
+            }
+            for (int i = common; i < to.size(); i++) {
+                operations.add(operation("add", path + "/" + i, to.get(i)));
+            }
+            for (int i = from.size() - 1; i >= common; i--) {
+                operations.add(operation("remove", path + "/" + i, null));
+            }
+        } else {
+            operations.add(operation("replace", path, to));
+        }
+    }
+
+    private static boolean sameIdentity(JsonNode from, JsonNode to) {
+        JsonNode fromId = from.get("id");
+        JsonNode toId = to.get("id");
+        return fromId == null || toId == null || fromId.equals(toId);
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = JsonNodeFactory.instance.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+}
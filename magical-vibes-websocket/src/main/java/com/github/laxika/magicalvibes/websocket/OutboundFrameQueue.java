@@ -0,0 +1,142 @@
+package com.github.laxika.magicalvibes.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded outbound queue of one WebSocket session, drained by a single writer so the thread that
+ * dispatches an event batch (still holding the game's action lock) never blocks on a slow socket,
+ * and {@link WebSocketSession#sendMessage} never sees concurrent callers.
+ *
+ * <p>Game-state frames are coalescing: a state frame replaces the state frame still waiting at the
+ * tail of the queue, so a lagging client skips straight to the newest state. A state frame with
+ * anything queued behind it is never dropped — the prompt that follows it was sent against that
+ * state, and the client must see the two in order. Every other frame — decision prompts above
+ * all — is delivered in order and never dropped. A client that falls {@code capacity} frames
+ * behind anyway is disconnected with {@link CloseStatus#SESSION_NOT_RELIABLE}; it resyncs from a
+ * full state on reconnect.
+ */
+@Slf4j
+final class OutboundFrameQueue {
+
+    static final int DEFAULT_CAPACITY = 512;
+
+    private final WebSocketSession session;
+    private final Executor writer;
+    private final int capacity;
+    private final ArrayDeque<PendingFrame> frames = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    private int maxDepth;
+    private long framesSent;
+    private long framesCoalesced;
+    private long totalSendLatencyNanos;
+    private long maxSendLatencyNanos;
+
+    OutboundFrameQueue(WebSocketSession session, Executor writer, int capacity) {
+        this.session = session;
+        this.writer = writer;
+        this.capacity = capacity;
+    }
+
+    /** Whether the next state frame offered would replace one still waiting to be written. */
+    synchronized boolean hasCoalescibleState() {
+        PendingFrame last = frames.peekLast();
+        return last != null && last.state();
+    }
+
+    /**
+     * Queues {@code frame} and starts the writer if it is idle. A {@code state} frame first drops
+     * the state frame it supersedes, if one waits at the tail. Frames offered after an overflow are
+     * discarded.
+     */
+    void offer(TextMessage frame, boolean state) {
+        boolean overflow = false;
+        boolean startWriter = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (state) {
+                dropTrailingState();
+            }
+            if (frames.size() >= capacity) {
+                closed = true;
+                overflow = true;
+                frames.clear();
+            } else {
+                frames.add(new PendingFrame(frame, state, System.nanoTime()));
+                maxDepth = Math.max(maxDepth, frames.size());
+                startWriter = !draining;
+                draining |= startWriter;
+            }
+        }
+        if (overflow) {
+            log.warn("Outbound queue of session {} overflowed at {} frames, closing it", session.getId(), capacity);
+            closeUnreliable();
+        } else if (startWriter) {
+            writer.execute(this::drain);
+        }
+    }
+
+    synchronized OutboundQueueStats stats() {
+        return new OutboundQueueStats(session.getId(), frames.size(), maxDepth, framesSent, framesCoalesced,
+                framesSent == 0 ? 0 : totalSendLatencyNanos / framesSent / 1_000, maxSendLatencyNanos / 1_000);
+    }
+
+    private void dropTrailingState() {
+        PendingFrame last = frames.peekLast();
+        if (last != null && last.state()) {
+            frames.pollLast();
+            framesCoalesced++;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            PendingFrame next;
+            synchronized (this) {
+                next = frames.poll();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                session.sendMessage(next.frame());
+            } catch (Exception e) {
+                log.warn("Error writing to session {}, dropping its outbound queue", session.getId(), e);
+                synchronized (this) {
+                    closed = true;
+                    frames.clear();
+                    draining = false;
+                }
+                closeUnreliable();
+                return;
+            }
+            long latency = System.nanoTime() - next.enqueuedAtNanos();
+            synchronized (this) {
+                framesSent++;
+                totalSendLatencyNanos += latency;
+                maxSendLatencyNanos = Math.max(maxSendLatencyNanos, latency);
+            }
+        }
+    }
+
+    private void closeUnreliable() {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("Error closing session {}", session.getId(), e);
+        }
+    }
+
+    private record PendingFrame(TextMessage frame, boolean state, long enqueuedAtNanos) {
+    }
+}
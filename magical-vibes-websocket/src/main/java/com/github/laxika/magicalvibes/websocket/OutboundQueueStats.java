@@ -0,0 +1,22 @@
+package com.github.laxika.magicalvibes.websocket;
+
+/**
+ * Snapshot of one session's outbound queue. Send latency runs from enqueue to the frame being
+ * written to the socket, so it includes the time spent waiting behind earlier frames.
+ *
+ * @param queueDepth           frames waiting right now
+ * @param maxQueueDepth        deepest the queue has been
+ * @param framesSent           frames written to the socket
+ * @param framesCoalesced      game-state frames dropped because a newer state superseded them
+ * @param meanSendLatencyMicros mean enqueue-to-write latency
+ * @param maxSendLatencyMicros  worst enqueue-to-write latency
+ */
+public record OutboundQueueStats(
+        String connectionId,
+        int queueDepth,
+        int maxQueueDepth,
+        long framesSent,
+        long framesCoalesced,
+        long meanSendLatencyMicros,
+        long maxSendLatencyMicros) {
+}
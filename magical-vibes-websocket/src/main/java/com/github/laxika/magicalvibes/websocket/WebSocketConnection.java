@@ -1,17 +1,41 @@
 package com.github.laxika.magicalvibes.websocket;
 
 import com.github.laxika.magicalvibes.networking.Connection;
-import lombok.RequiredArgsConstructor;
+import com.github.laxika.magicalvibes.networking.MessageEncodingCache;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import com.github.laxika.magicalvibes.networking.message.JoinGameMessage;
 import lombok.SneakyThrows;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import tools.jackson.databind.ObjectMapper;
 
-@RequiredArgsConstructor
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * One client session. Sends encode on the caller's thread and hand the frame to the session's
+ * {@link OutboundFrameQueue}, whose writer runs on a virtual thread, so a slow socket never holds
+ * up the game that is sending. {@code WebSocketHandler} keeps a single instance per session.
+ */
 public class WebSocketConnection implements Connection {
 
     private final WebSocketSession session;
     private final ObjectMapper objectMapper;
+    private final OutboundFrameQueue outbound;
+    /** Present once the client opted into {@code GAME_STATE_PATCH} at login. */
+    private volatile GameStatePatchEncoder patchEncoder;
+
+    public WebSocketConnection(WebSocketSession session, ObjectMapper objectMapper) {
+        this(session, objectMapper,
+                writer -> Thread.ofVirtual().name("ws-writer-" + session.getId()).start(writer));
+    }
+
+    /** {@code writer} runs the queue's drain loop; tests pass {@code Runnable::run} to write inline. */
+    WebSocketConnection(WebSocketSession session, ObjectMapper objectMapper, Executor writer) {
+        this.session = session;
+        this.objectMapper = objectMapper;
+        this.outbound = new OutboundFrameQueue(session, writer, OutboundFrameQueue.DEFAULT_CAPACITY);
+    }
 
     @Override
     public String getId() {
@@ -24,9 +48,55 @@ public class WebSocketConnection implements Connection {
     }
 
     @Override
-    @SneakyThrows
     public void sendMessage(Object message) {
-        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        sendMessage(message, null);
+    }
+
+    @Override
+    public void sendMessage(Object message, MessageEncodingCache encodings) {
+        TextMessage frame = encodings != null ? encodings.frame(message, this::encode) : encode(message);
+        boolean state = message instanceof GameStateMessage;
+        GameStatePatchEncoder encoder = patchEncoder;
+        if (encoder != null && (state || message instanceof JoinGameMessage)) {
+            // An unversioned snapshot replaces whatever the client patched so far
+            synchronized (encoder) {
+                encoder.reset();
+                outbound.offer(frame, state);
+            }
+            return;
+        }
+        outbound.offer(frame, state);
+    }
+
+    @Override
+    public void sendGameState(UUID gameId, long stateVersion, GameStateMessage message) {
+        GameStatePatchEncoder encoder = patchEncoder;
+        if (encoder == null) {
+            outbound.offer(encode(message), true);
+            return;
+        }
+        synchronized (encoder) {
+            // A patch only applies on top of the frame before it; if that frame still waits at the
+            // tail of the queue it is about to be coalesced away, so the client needs a full state
+            if (outbound.hasCoalescibleState()) {
+                encoder.reset();
+            }
+            try {
+                outbound.offer(encode(encoder.encode(gameId, stateVersion, message)), true);
+            } catch (Exception e) {
+                encoder.reset();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void enableGameStatePatches() {
+        patchEncoder = new GameStatePatchEncoder(objectMapper);
+    }
+
+    public OutboundQueueStats outboundStats() {
+        return outbound.stats();
     }
 
     @Override
@@ -34,4 +104,9 @@ public class WebSocketConnection implements Connection {
     public void close() {
         session.close();
     }
+
+    /** Encodes once into UTF-8 bytes; the frame can be shared by every session of a fan-out. */
+    private TextMessage encode(Object message) {
+        return new TextMessage(objectMapper.writeValueAsBytes(message));
+    }
 }
@@ -52,13 +52,15 @@ public class WebSocketHandler extends TextWebSocketHandler {
     private final MessageHandler messageHandler;
     private final WebSocketSessionManager sessionManager;
     private final ConcurrentHashMap<String, ScheduledFuture<?>> timeoutTasks = new ConcurrentHashMap<>();
+    /** One connection per session, so every send to it goes through the same outbound queue. */
+    private final ConcurrentHashMap<String, WebSocketConnection> connections = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(10);
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.info("WebSocket connection established: {}", session.getId());
 
-        Connection connection = new WebSocketConnection(session, objectMapper);
+        Connection connection = connection(session);
 
         ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
             try {
@@ -84,7 +86,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
             timeoutTask.cancel(false);
         }
 
-        Connection connection = new WebSocketConnection(session, objectMapper);
+        Connection connection = connection(session);
 
         try {
             JsonNode jsonNode = objectMapper.readTree(message.getPayload());
@@ -121,6 +123,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 case SURRENDER -> messageHandler.handleSurrender(connection);
                 case LEAVE_GAME -> messageHandler.handleLeaveGame(connection);
                 case LEAVE_DRAFT -> messageHandler.handleLeaveDraft(connection);
+                case REQUEST_GAME_STATE -> messageHandler.handleRequestGameState(connection);
                 default -> messageHandler.handleError(connection, "Unknown message type: " + type);
             }
         } catch (Exception e) {
@@ -155,7 +158,15 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    private WebSocketConnection connection(WebSocketSession session) {
+        return connections.computeIfAbsent(session.getId(), id -> new WebSocketConnection(session, objectMapper));
+    }
+
     private void notifyConnectionClosed(WebSocketSession session) {
+        WebSocketConnection connection = connections.remove(session.getId());
+        if (connection != null) {
+            log.info("Outbound queue of session {}: {}", session.getId(), connection.outboundStats());
+        }
         Player player = sessionManager.getPlayer(session.getId());
         sessionManager.unregisterSession(session.getId());
         if (player != null) {
@@ -2,11 +2,14 @@ package com.github.laxika.magicalvibes.websocket;
 
 import com.github.laxika.magicalvibes.model.Player;
 import com.github.laxika.magicalvibes.networking.Connection;
+import com.github.laxika.magicalvibes.networking.MessageEncodingCache;
 import com.github.laxika.magicalvibes.networking.SessionManager;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -67,6 +70,14 @@ public class WebSocketSessionManager implements SessionManager {
                 .toList();
     }
 
+    /** Per-session outbound queue depth and send latency of every registered WebSocket connection. */
+    public List<OutboundQueueStats> getOutboundQueueStats() {
+        return connections.values().stream()
+                .filter(WebSocketConnection.class::isInstance)
+                .map(connection -> ((WebSocketConnection) connection).outboundStats())
+                .toList();
+    }
+
     @Override
     public void sendToPlayer(UUID playerId, Object message) {
         Connection connection = getConnectionByUserId(playerId);
@@ -79,17 +90,35 @@ public class WebSocketSessionManager implements SessionManager {
         }
     }
 
+    @Override
+    public void sendToPlayer(UUID playerId, Object message, MessageEncodingCache encodings) {
+        Connection connection = getConnectionByUserId(playerId);
+        if (connection != null && connection.isOpen()) {
+            try {
+                connection.sendMessage(message, encodings);
+            } catch (Exception e) {
+                log.error("Error sending message to player {}", playerId, e);
+            }
+        }
+    }
+
+    @Override
+    public void sendGameState(UUID playerId, UUID gameId, long stateVersion, GameStateMessage message) {
+        Connection connection = getConnectionByUserId(playerId);
+        if (connection != null && connection.isOpen()) {
+            try {
+                connection.sendGameState(gameId, stateVersion, message);
+            } catch (Exception e) {
+                log.error("Error sending game state to player {}", playerId, e);
+            }
+        }
+    }
+
     @Override
     public void sendToPlayers(Collection<UUID> playerIds, Object message) {
+        MessageEncodingCache encodings = new MessageEncodingCache();
         for (UUID playerId : playerIds) {
-            Connection connection = getConnectionByUserId(playerId);
-            if (connection != null && connection.isOpen()) {
-                try {
-                    connection.sendMessage(message);
-                } catch (Exception e) {
-                    log.error("Error sending message to player {}", playerId, e);
-                }
-            }
+            sendToPlayer(playerId, message, encodings);
         }
     }
 }
@@ -0,0 +1,111 @@
+package com.github.laxika.magicalvibes.websocket;
+
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.networking.Connection;
+import com.github.laxika.magicalvibes.networking.message.GameOverMessage;
+import com.github.laxika.magicalvibes.networking.message.LobbyGame;
+import com.github.laxika.magicalvibes.networking.message.LobbyGameMessage;
+import com.github.laxika.magicalvibes.networking.message.MulliganResolvedMessage;
+import com.github.laxika.magicalvibes.networking.model.MessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Allocation benchmark for fan-out delivery under a 200-table load: every round each table
+ * broadcasts its public messages (two mulligan results and a game over) to both seats, and one
+ * lobby update goes to every connected player. Compares encoding per recipient, as
+ * {@code sendMessage} did for every send before, against {@code sendToPlayers}, which encodes
+ * each message once and shares the frame.
+ *
+ * <p>Disabled by default; run with {@code -DprotocolBench=true}. Allocation is measured on the
+ * sending thread, with queue writers running inline; sessions discard frames, so only the
+ * encoding side is counted.
+ */
+@EnabledIfSystemProperty(named = "protocolBench", matches = "true")
+class FanOutAllocationBenchmarkTest {
+
+    private static final int TABLES = 200;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    @Test
+    void benchmarkSharedFramesAgainstPerRecipientEncoding() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        WebSocketSessionManager sessionManager = new WebSocketSessionManager();
+        List<List<UUID>> tables = new ArrayList<>();
+        List<UUID> everyone = new ArrayList<>();
+        for (int table = 0; table < TABLES; table++) {
+            List<UUID> seats = List.of(UUID.randomUUID(), UUID.randomUUID());
+            for (UUID playerId : seats) {
+                WebSocketConnection connection =
+                        new WebSocketConnection(session(playerId.toString()), objectMapper, Runnable::run);
+                sessionManager.registerPlayer(connection, playerId, "Player " + everyone.size());
+                everyone.add(playerId);
+            }
+            tables.add(seats);
+        }
+
+        runRounds(sessionManager, tables, everyone, false, WARMUP_ROUNDS);
+        runRounds(sessionManager, tables, everyone, true, WARMUP_ROUNDS);
+        long perRecipient = runRounds(sessionManager, tables, everyone, false, MEASURED_ROUNDS);
+        long shared = runRounds(sessionManager, tables, everyone, true, MEASURED_ROUNDS);
+
+        System.out.printf("%d tables, %d connections%n", TABLES, everyone.size());
+        System.out.printf("Per-recipient encoding: %,d bytes allocated/round%n", perRecipient / MEASURED_ROUNDS);
+        System.out.printf("Shared frames:          %,d bytes allocated/round (%.1f%% of per-recipient)%n",
+                shared / MEASURED_ROUNDS, 100.0 * shared / perRecipient);
+    }
+
+    /** Runs {@code rounds} broadcast rounds and returns the bytes the sending thread allocated. */
+    private long runRounds(WebSocketSessionManager sessionManager, List<List<UUID>> tables, List<UUID> everyone,
+                           boolean sharedFrames, int rounds) {
+        long before = allocatedBytes();
+        for (int round = 0; round < rounds; round++) {
+            for (List<UUID> seats : tables) {
+                broadcast(sessionManager, seats, new MulliganResolvedMessage("Player A", true, 0), sharedFrames);
+                broadcast(sessionManager, seats, new MulliganResolvedMessage("Player B", false, 1), sharedFrames);
+                broadcast(sessionManager, seats, new GameOverMessage(seats.getFirst(), "Player A"), sharedFrames);
+            }
+            broadcast(sessionManager, everyone, new LobbyGameMessage(MessageType.GAME_UPDATED,
+                    new LobbyGame(UUID.randomUUID(), "Table " + round, "Player A", 2, GameStatus.RUNNING, false)),
+                    sharedFrames);
+        }
+        return allocatedBytes() - before;
+    }
+
+    private void broadcast(WebSocketSessionManager sessionManager, List<UUID> recipients, Object message,
+                           boolean sharedFrames) {
+        if (sharedFrames) {
+            sessionManager.sendToPlayers(recipients, message);
+            return;
+        }
+        for (UUID playerId : recipients) {
+            Connection connection = sessionManager.getConnectionByUserId(playerId);
+            connection.sendMessage(message);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private static WebSocketSession session(String id) {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    default -> null;
+                });
+    }
+}
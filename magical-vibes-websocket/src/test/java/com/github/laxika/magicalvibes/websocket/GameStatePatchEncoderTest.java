@@ -0,0 +1,125 @@
+package com.github.laxika.magicalvibes.websocket;
+
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.TurnStep;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameStatePatchEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+
+    @Test
+    void firstStateGoesOutInFullWithItsVersion() {
+        GameStatePatchEncoder encoder = new GameStatePatchEncoder(objectMapper);
+
+        JsonNode wire = encoder.encode(gameId, 7, state(3, List.of(20, 20), List.of(0)));
+
+        assertThat(wire.get("type").asString()).isEqualTo("GAME_STATE");
+        assertThat(wire.get("stateVersion").asLong()).isEqualTo(7);
+        assertThat(wire.get("turnNumber").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void laterStateOfSameGameGoesOutAsPatchThatRebuildsIt() {
+        GameStatePatchEncoder encoder = new GameStatePatchEncoder(objectMapper);
+        JsonNode baseline = encoder.encode(gameId, 7, state(3, List.of(20, 20), List.of(0, 1)));
+        GameStateMessage next = state(4, List.of(20, 17), List.of(1));
+
+        JsonNode wire = encoder.encode(gameId, 9, next);
+
+        assertThat(wire.get("type").asString()).isEqualTo("GAME_STATE_PATCH");
+        assertThat(wire.get("baseVersion").asLong()).isEqualTo(7);
+        assertThat(wire.get("stateVersion").asLong()).isEqualTo(9);
+        ObjectNode expected = objectMapper.valueToTree(next);
+        expected.put("stateVersion", 9L);
+        assertThat(apply(baseline, (ArrayNode) wire.get("operations"))).isEqualTo(expected);
+        assertThat(wire.get("operations").size()).isLessThan(expected.size());
+    }
+
+    @Test
+    void anotherGameOrAResetFallsBackToAFullState() {
+        GameStatePatchEncoder encoder = new GameStatePatchEncoder(objectMapper);
+        encoder.encode(gameId, 7, state(3, List.of(20, 20), List.of()));
+
+        assertThat(encoder.encode(UUID.randomUUID(), 8, state(1, List.of(20, 20), List.of()))
+                .get("type").asString()).isEqualTo("GAME_STATE");
+
+        encoder.reset();
+        assertThat(encoder.encode(gameId, 9, state(3, List.of(20, 20), List.of()))
+                .get("type").asString()).isEqualTo("GAME_STATE");
+    }
+
+    @Test
+    void arrayElementWithDifferentIdIsReplacedWhole() {
+        JsonNode from = objectMapper.readTree("""
+                {"cards":[{"id":"a","tapped":false},{"id":"b","tapped":false},{"id":"c","tapped":true}]}""");
+        JsonNode to = objectMapper.readTree("""
+                {"cards":[{"id":"a","tapped":true},{"id":"c","tapped":true}]}""");
+
+        ArrayNode operations = GameStatePatchEncoder.diff(from, to);
+
+        assertThat(operations).hasSize(3);
+        assertThat(operations.get(0).get("path").asString()).isEqualTo("/cards/0/tapped");
+        assertThat(operations.get(1).get("op").asString()).isEqualTo("replace");
+        assertThat(operations.get(1).get("path").asString()).isEqualTo("/cards/1");
+        assertThat(operations.get(2).get("op").asString()).isEqualTo("remove");
+        assertThat(apply(from, operations)).isEqualTo(to);
+    }
+
+    private GameStateMessage state(int turnNumber, List<Integer> lifeTotals, List<Integer> playableIndices) {
+        return new GameStateMessage(
+                GameStatus.RUNNING, playerId, turnNumber, TurnStep.PRECOMBAT_MAIN, playerId,
+                List.of(List.of(), List.of()), List.of(), List.of(List.of(), List.of()),
+                List.of(40, 40), List.of(7, 7), lifeTotals, List.of(0, 0), List.of(0, 0),
+                List.of(), List.of(), 0, Map.of(), List.of(TurnStep.PRECOMBAT_MAIN),
+                playableIndices, List.of(), List.of(), List.of(), 0, null,
+                List.of(), List.of(), List.of(), playableIndices, 0, Map.of());
+    }
+
+    /** Minimal RFC 6902 add/remove/replace, mirroring the frontend's applier. */
+    private static JsonNode apply(JsonNode document, ArrayNode operations) {
+        JsonNode root = document.deepCopy();
+        for (JsonNode operation : operations) {
+            String[] tokens = operation.get("path").asString().substring(1).split("/", -1);
+            JsonNode parent = root;
+            for (int i = 0; i < tokens.length - 1; i++) {
+                parent = parent.isArray() ? parent.get(Integer.parseInt(tokens[i])) : parent.get(unescape(tokens[i]));
+            }
+            String last = unescape(tokens[tokens.length - 1]);
+            String op = operation.get("op").asString();
+            if (parent instanceof ArrayNode array) {
+                int index = Integer.parseInt(last);
+                switch (op) {
+                    case "add" -> array.insert(index, operation.get("value"));
+                    case "remove" -> array.remove(index);
+                    default -> array.set(index, operation.get("value"));
+                }
+            } else {
+                ObjectNode object = (ObjectNode) parent;
+                if ("remove".equals(op)) {
+                    object.remove(last);
+                } else {
+                    object.set(last, operation.get("value"));
+                }
+            }
+        }
+        return root;
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -1,35 +1,145 @@
 package com.github.laxika.magicalvibes.websocket;
 
+import com.github.laxika.magicalvibes.model.GameStatus;
+import com.github.laxika.magicalvibes.model.TurnStep;
 import com.github.laxika.magicalvibes.networking.message.ErrorMessage;
+import com.github.laxika.magicalvibes.networking.message.GameStateMessage;
+import com.github.laxika.magicalvibes.networking.message.InteractionPromptMessage;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class WebSocketConnectionTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+    private final List<TextMessage> sentFrames = new ArrayList<>();
+    private final AtomicReference<CloseStatus> closeStatus = new AtomicReference<>();
+    /** Writer tasks held back to simulate a client that is not reading. */
+    private final List<Runnable> pendingWriters = new ArrayList<>();
+
     @Test
     void serializesTypedMessageAtWebSocketBoundary() {
-        AtomicReference<TextMessage> sentMessage = new AtomicReference<>();
-        WebSocketSession session = (WebSocketSession) Proxy.newProxyInstance(
-                WebSocketSession.class.getClassLoader(),
-                new Class<?>[]{WebSocketSession.class},
-                (proxy, method, args) -> {
-                    if ("sendMessage".equals(method.getName())) {
-                        sentMessage.set((TextMessage) args[0]);
-                    }
-                    return null;
-                });
-        WebSocketConnection connection = new WebSocketConnection(session, new ObjectMapper());
+        WebSocketConnection connection = new WebSocketConnection(session(), objectMapper, Runnable::run);
 
         connection.sendMessage(new ErrorMessage("test"));
 
-        assertThat(sentMessage.get().getPayload())
+        assertThat(sentFrames.getFirst().getPayload())
                 .isEqualTo("{\"type\":\"ERROR\",\"message\":\"test\"}");
     }
+
+    @Test
+    void laggingClientGetsOnlyTheNewestStateButEveryPrompt() {
+        WebSocketConnection connection = new WebSocketConnection(session(), objectMapper, pendingWriters::add);
+
+        connection.sendGameState(gameId, 1, state(1));
+        connection.sendGameState(gameId, 2, state(2));
+        connection.sendMessage(InteractionPromptMessage.cardIndexPick(List.of(0), "Discard a card", false));
+        connection.sendGameState(gameId, 3, state(3));
+        drainWriters();
+
+        assertThat(sentFrames).hasSize(3);
+        assertThat(read(sentFrames.get(0)).get("turnNumber").asInt()).isEqualTo(2);
+        assertThat(read(sentFrames.get(1)).get("type").asString()).isEqualTo("INTERACTION_PROMPT");
+        assertThat(read(sentFrames.get(2)).get("turnNumber").asInt()).isEqualTo(3);
+        assertThat(connection.outboundStats().framesCoalesced()).isEqualTo(1);
+        assertThat(connection.outboundStats().queueDepth()).isZero();
+    }
+
+    @Test
+    void promptKeepsTheStateItWasSentAgainst() {
+        WebSocketConnection connection = new WebSocketConnection(session(), objectMapper, pendingWriters::add);
+
+        connection.sendGameState(gameId, 1, state(1));
+        connection.sendMessage(InteractionPromptMessage.cardIndexPick(List.of(0), "Discard a card", false));
+        connection.sendGameState(gameId, 2, state(2));
+        drainWriters();
+
+        assertThat(sentFrames).hasSize(3);
+        assertThat(read(sentFrames.get(0)).get("turnNumber").asInt()).isEqualTo(1);
+        assertThat(read(sentFrames.get(1)).get("type").asString()).isEqualTo("INTERACTION_PROMPT");
+        assertThat(read(sentFrames.get(2)).get("turnNumber").asInt()).isEqualTo(2);
+        assertThat(connection.outboundStats().framesCoalesced()).isZero();
+    }
+
+    @Test
+    void coalescedPatchIsReplacedByAFullState() {
+        WebSocketConnection connection = new WebSocketConnection(session(), objectMapper, pendingWriters::add);
+        connection.enableGameStatePatches();
+        connection.sendGameState(gameId, 1, state(1));
+        drainWriters();
+
+        connection.sendGameState(gameId, 2, state(2));
+        connection.sendGameState(gameId, 3, state(3));
+        drainWriters();
+
+        JsonNode last = read(sentFrames.getLast());
+        assertThat(sentFrames).hasSize(2);
+        assertThat(last.get("type").asString()).isEqualTo("GAME_STATE");
+        assertThat(last.get("stateVersion").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    void clientThatFallsTooFarBehindIsDisconnected() {
+        WebSocketConnection connection = new WebSocketConnection(session(), objectMapper, pendingWriters::add);
+
+        for (int i = 0; i <= OutboundFrameQueue.DEFAULT_CAPACITY; i++) {
+            connection.sendMessage(new ErrorMessage("message " + i));
+        }
+
+        assertThat(closeStatus.get()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(connection.outboundStats().queueDepth()).isZero();
+    }
+
+    private void drainWriters() {
+        List<Runnable> writers = new ArrayList<>(pendingWriters);
+        pendingWriters.clear();
+        writers.forEach(Runnable::run);
+    }
+
+    private JsonNode read(TextMessage frame) {
+        return objectMapper.readTree(frame.getPayload());
+    }
+
+    private GameStateMessage state(int turnNumber) {
+        return new GameStateMessage(
+                GameStatus.RUNNING, playerId, turnNumber, TurnStep.PRECOMBAT_MAIN, playerId,
+                List.of(List.of(), List.of()), List.of(), List.of(List.of(), List.of()),
+                List.of(40, 40), List.of(7, 7), List.of(20, 20), List.of(0, 0), List.of(0, 0),
+                List.of(), List.of(), 0, Map.of(), List.of(TurnStep.PRECOMBAT_MAIN),
+                List.of(), List.of(), List.of(), List.of(), 0, null,
+                List.of(), List.of(), List.of(), List.of(), 0, Map.of());
+    }
+
+    private WebSocketSession session() {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> "test";
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        sentFrames.add((TextMessage) args[0]);
+                        yield null;
+                    }
+                    case "close" -> {
+                        closeStatus.set(args != null && args.length == 1 ? (CloseStatus) args[0] : CloseStatus.NORMAL);
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
 }
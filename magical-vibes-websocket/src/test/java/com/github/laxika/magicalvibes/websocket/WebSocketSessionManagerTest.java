@@ -3,7 +3,13 @@ package com.github.laxika.magicalvibes.websocket;
 import com.github.laxika.magicalvibes.networking.Connection;
 import com.github.laxika.magicalvibes.networking.message.ErrorMessage;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
 
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +29,40 @@ class WebSocketSessionManagerTest {
         assertThat(connection.sentMessage).isSameAs(message);
     }
 
+    @Test
+    void encodesFanOutMessageOnceAndSharesTheFrame() {
+        WebSocketSessionManager sessionManager = new WebSocketSessionManager();
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<TextMessage> sentFrames = new ArrayList<>();
+        UUID firstPlayerId = UUID.randomUUID();
+        UUID secondPlayerId = UUID.randomUUID();
+        sessionManager.registerPlayer(new WebSocketConnection(session("a", sentFrames), objectMapper, Runnable::run),
+                firstPlayerId, "First");
+        sessionManager.registerPlayer(new WebSocketConnection(session("b", sentFrames), objectMapper, Runnable::run),
+                secondPlayerId, "Second");
+
+        sessionManager.sendToPlayers(List.of(firstPlayerId, secondPlayerId), new ErrorMessage("test"));
+
+        assertThat(sentFrames).hasSize(2);
+        assertThat(sentFrames.get(1)).isSameAs(sentFrames.get(0));
+        assertThat(sentFrames.get(0).getPayload()).isEqualTo("{\"type\":\"ERROR\",\"message\":\"test\"}");
+    }
+
+    private static WebSocketSession session(String id, List<TextMessage> sentFrames) {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        sentFrames.add((TextMessage) args[0]);
+                        yield null;
+                    }
+                    default -> null;
+                });
+    }
+
     private static class CapturingConnection implements Connection {
 
         private final String id;